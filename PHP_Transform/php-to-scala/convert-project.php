@@ -0,0 +1,159 @@
+<?
+/*
+ * PHP-to-Scala project conversion: converts a whole source tree.
+ * See http://code.google.com/p/php-to-scala-migration-helper/ for details.
+ *
+ * Copyright(C) 2010 Alex T. Ramos / Zigabyte Corporation.
+ * COPYING is permitted under the terms of the GNU General Public License, v3.
+ *
+ * usage: php convert-project.php [-j workers] <srcdir> <outdir>
+ *
+ * Every .php file under <srcdir> is converted to the matching .scala path under
+ * <outdir> by up to <workers> php-to-scala.php processes running in parallel.
+ * A content hash per file is kept in <outdir>/.php-to-scala.manifest, so re-runs
+ * only convert files that changed (or all of them, when the converter itself did).
+ * The outputs converted by this run are listed in <outdir>/changed.list, ready
+ * for a single "scalac @changed.list" invocation, which is printed at the end.
+ * That command keeps <outdir>/bin on the classpath, so the changed files link
+ * against the classes compiled from the unchanged ones on earlier runs.
+ */
+
+$converter = dirname(__FILE__) . '/php-to-scala.php';
+$php = getenv('PHP') ? getenv('PHP') : 'php';
+
+$workers = 4;
+$args = array_slice($argv, 1);
+if(count($args) && $args[0] == '-j') {
+	$workers = max(1, (int)$args[1]);
+	$args = array_slice($args, 2);
+}
+if(count($args) != 2) {
+	fwrite(STDERR, "usage: php convert-project.php [-j workers] <srcdir> <outdir>\n");
+	exit(1);
+}
+$srcdir = realpath($args[0]);
+$outdir = rtrim($args[1], '/');
+if(!is_dir($outdir)) {
+	mkdir($outdir, 0777, true);
+}
+$outdir = realpath($outdir);
+
+$manifest_file = "$outdir/.php-to-scala.manifest";
+$converter_hash = md5_file($converter);
+
+/* previous hashes, keyed by source path relative to $srcdir */
+$manifest = array();
+if(file_exists($manifest_file)) {
+	foreach(explode("\n", trim(file_get_contents($manifest_file))) as $line) {
+		if($line != '') {
+			list($hash, $rel) = explode(' ', $line, 2);
+			$manifest[$rel] = $hash;
+		}
+	}
+}
+
+function php_sources($dir, $prefix = '') {
+	$files = array();
+	foreach(scandir($dir) as $f) {
+		if($f == '.' || $f == '..') {
+			continue;
+		}
+		if(is_dir("$dir/$f")) {
+			$files = array_merge($files, php_sources("$dir/$f", "$prefix$f/"));
+		}
+		else if(preg_match('/\.php$/', $f)) {
+			$files []= "$prefix$f";
+		}
+	}
+	return $files;
+}
+
+function scala_path($outdir, $rel) {
+	return $outdir . '/' . preg_replace('/\.php$/', '.scala', $rel);
+}
+
+/* work list: sources whose content (or the converter) changed since the last run */
+$hashes = array();
+$pending = array();
+foreach(php_sources($srcdir) as $rel) {
+	$hashes[$rel] = md5($converter_hash . md5_file("$srcdir/$rel"));
+	if(!isset($manifest[$rel]) || $manifest[$rel] != $hashes[$rel] || !file_exists(scala_path($outdir, $rel))) {
+		$pending []= $rel;
+	}
+}
+
+/* sources removed since the last run take their output with them */
+foreach($manifest as $rel => $hash) {
+	if(!isset($hashes[$rel])) {
+		@unlink(scala_path($outdir, $rel));
+		unset($manifest[$rel]);
+	}
+}
+
+$running = array();
+$changed = array();
+$failed = 0;
+$start = microtime(true);
+
+while(count($pending) || count($running)) {
+	while(count($pending) && count($running) < $workers) {
+		$rel = array_shift($pending);
+		$out = scala_path($outdir, $rel);
+		if(!is_dir(dirname($out))) {
+			mkdir(dirname($out), 0777, true);
+		}
+		// run from $srcdir so the generated object name follows the relative path
+		$cmd = escapeshellarg($php) . ' ' . escapeshellarg($converter) . ' ' . escapeshellarg($rel);
+		$spec = array(0 => array('file', '/dev/null', 'r'),
+			1 => array('file', "$out.tmp", 'w'),
+			2 => array('file', "$out.err", 'w'));
+		$pipes = array();
+		$running[$rel] = proc_open($cmd, $spec, $pipes, $srcdir);
+	}
+
+	foreach($running as $rel => $proc) {
+		$status = proc_get_status($proc);
+		if($status['running']) {
+			continue;
+		}
+		proc_close($proc);
+		unset($running[$rel]);
+
+		$out = scala_path($outdir, $rel);
+		$err = trim(file_get_contents("$out.err"));
+		@unlink("$out.err");
+		if($status['exitcode'] == 0 && $err == '') {
+			rename("$out.tmp", $out);
+			$manifest[$rel] = $hashes[$rel];
+			$changed []= $out;
+			echo "converted: $rel\n";
+		}
+		else {
+			@unlink("$out.tmp");
+			unset($manifest[$rel]); // retried on the next run
+			$failed++;
+			echo "FAILED: $rel\n$err\n";
+		}
+	}
+	if(count($running)) {
+		usleep(10000);
+	}
+}
+
+$lines = array();
+foreach($manifest as $rel => $hash) {
+	$lines []= "$hash $rel";
+}
+file_put_contents($manifest_file, count($lines) ? implode("\n", $lines) . "\n" : '');
+file_put_contents("$outdir/changed.list", count($changed) ? implode("\n", $changed) . "\n" : '');
+
+printf("%d converted, %d failed, %d up to date in %.2f s\n",
+	count($changed), $failed, count($hashes) - count($changed) - $failed, microtime(true) - $start);
+if(count($changed)) {
+	if(!is_dir("$outdir/bin")) {
+		mkdir("$outdir/bin", 0777, true);
+	}
+	echo "compile with: scalac -d $outdir/bin -classpath $outdir/bin:\$LIBJARS @$outdir/changed.list\n";
+}
+exit($failed ? 1 : 0);
+?>
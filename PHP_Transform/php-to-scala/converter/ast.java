@@ -0,0 +1,187 @@
+package converter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.caucho.quercus.expr.*;
+import com.caucho.quercus.statement.*;
+
+/**
+ * Walks over the Quercus AST through the getters of the node classes. Only
+ * the node types the emitter translates are taken apart; any other node is
+ * reported as unsupported at its line, before a half-converted file is
+ * written.
+ */
+final class ast {
+
+	private ast() {
+	}
+
+	static int line(Expr e) {
+		return e.getLocation().getLineNumber();
+	}
+
+	static int line(Statement s) {
+		return s.getLocation().getLineNumber();
+	}
+
+	private static void add(List<Object> out, Object... nodes) {
+		for (Object node : nodes) {
+			if (node != null)
+				out.add(node);
+		}
+	}
+
+	/** The sub-expressions and sub-statements of a node, in source order. */
+	static List<Object> children(Object node) {
+		List<Object> out = new ArrayList<Object>();
+		if (node instanceof Expr)
+			expr((Expr) node, out);
+		else if (node instanceof Statement)
+			stmt((Statement) node, out);
+		return out;
+	}
+
+	private static void expr(Expr e, List<Object> out) {
+		if (e instanceof AbstractBinaryExpr)
+			add(out, ((AbstractBinaryExpr) e).getLeft(), ((AbstractBinaryExpr) e).getRight());
+		else if (e instanceof AbstractUnaryExpr)
+			add(out, ((AbstractUnaryExpr) e).getExpr());
+		else if (e instanceof BinaryAppendExpr)
+			add(out, ((BinaryAppendExpr) e).getValue(), ((BinaryAppendExpr) e).getNext());
+		else if (e instanceof ArrayGetExpr)
+			add(out, ((ArrayGetExpr) e).getExpr(), ((ArrayGetExpr) e).getIndex());
+		else if (e instanceof ArrayTailExpr)
+			add(out, ((ArrayTailExpr) e).getExpr());
+		else if (e instanceof ArrayIsSetExpr)
+			add(out, ((ArrayIsSetExpr) e).getExpr(), ((ArrayIsSetExpr) e).getIndex());
+		else if (e instanceof ArrayUnsetExpr)
+			add(out, ((ArrayUnsetExpr) e).getExpr(), ((ArrayUnsetExpr) e).getIndex());
+		else if (e instanceof ObjectFieldExpr)
+			add(out, ((ObjectFieldExpr) e).getObjExpr());
+		else if (e instanceof ObjectMethodExpr) {
+			add(out, ((ObjectMethodExpr) e).getObjExpr());
+			add(out, (Object[]) ((ObjectMethodExpr) e).getArgs());
+		}
+		else if (e instanceof ClassMethodExpr)
+			add(out, (Object[]) ((ClassMethodExpr) e).getArgs());
+		else if (e instanceof ObjectNewExpr)
+			add(out, (Object[]) ((ObjectNewExpr) e).getArgs());
+		else if (e instanceof CallExpr)
+			add(out, (Object[]) ((CallExpr) e).getArgs());
+		else if (e instanceof CallVarExpr) {
+			add(out, ((CallVarExpr) e).getName());
+			add(out, (Object[]) ((CallVarExpr) e).getArgs());
+		}
+		else if (e instanceof FunArrayExpr) {
+			Expr[] keys = ((FunArrayExpr) e).getKeys();
+			Expr[] values = ((FunArrayExpr) e).getValues();
+			for (int i = 0; i < values.length; i++)
+				add(out, keys[i], values[i]);
+		}
+		else if (e instanceof ConditionalExpr) {
+			ConditionalExpr c = (ConditionalExpr) e;
+			add(out, c.getTest(), c.getTrueExpr(), c.getFalseExpr());
+		}
+		else if (e instanceof ConditionalShortExpr)
+			add(out, ((ConditionalShortExpr) e).getTest(), ((ConditionalShortExpr) e).getFalseExpr());
+		else if (e instanceof FunExitExpr)
+			add(out, ((FunExitExpr) e).getValue());
+		else if (e instanceof FunDieExpr)
+			add(out, ((FunDieExpr) e).getValue());
+		else if (e instanceof DieExpr)
+			add(out, ((DieExpr) e).getValue());
+		else if (e instanceof BinaryAssignExpr)
+			add(out, ((BinaryAssignExpr) e).getVar(), ((BinaryAssignExpr) e).getValue());
+		else if (e instanceof BinaryAssignRefExpr)
+			add(out, ((BinaryAssignRefExpr) e).getVar(), ((BinaryAssignRefExpr) e).getValue());
+		else if (e instanceof BinaryAssignListExpr)
+			add(out, ((BinaryAssignListExpr) e).getListHead(), ((BinaryAssignListExpr) e).getValue());
+		else if (e instanceof ListHeadExpr)
+			add(out, (Object[]) ((ListHeadExpr) e).getVarList());
+		else if (e instanceof VarUnsetExpr)
+			add(out, ((VarUnsetExpr) e).getVar());
+		else if (e instanceof UnaryUnsetExpr)
+			add(out, ((UnaryUnsetExpr) e).getVar());
+		else if (e instanceof VarVarExpr)
+			add(out, ((VarVarExpr) e).getExpr());
+		else if (!isLeaf(e))
+			throw new unsupported(line(e), e.getClass().getSimpleName());
+	}
+
+	private static boolean isLeaf(Expr e) {
+		return e instanceof LiteralExpr || e instanceof LiteralLongExpr || e instanceof LiteralNullExpr
+			|| e instanceof LiteralStringExpr || e instanceof LiteralUnicodeExpr || e instanceof VarExpr
+			|| e instanceof ThisExpr || e instanceof ThisFieldExpr || e instanceof ConstExpr
+			|| e instanceof ClassConstExpr || e instanceof ClassFieldExpr || e instanceof ConstFileExpr
+			|| e instanceof ConstDirExpr || e instanceof ParamRequiredExpr;
+	}
+
+	private static void stmt(Statement s, List<Object> out) {
+		if (s instanceof BlockStatement)
+			add(out, (Object[]) ((BlockStatement) s).getStatements());
+		else if (s instanceof ExprStatement)
+			add(out, ((ExprStatement) s).getExpr());
+		else if (s instanceof EchoStatement)
+			add(out, ((EchoStatement) s).getExpr());
+		else if (s instanceof IfStatement) {
+			IfStatement i = (IfStatement) s;
+			add(out, i.getTest(), i.getTrueBlock(), i.getFalseBlock());
+		}
+		else if (s instanceof WhileStatement)
+			add(out, ((WhileStatement) s).getTest(), ((WhileStatement) s).getBlock());
+		else if (s instanceof DoStatement)
+			add(out, ((DoStatement) s).getBlock(), ((DoStatement) s).getTest());
+		else if (s instanceof ForStatement) {
+			ForStatement f = (ForStatement) s;
+			add(out, f.getInit(), f.getTest(), f.getIncr(), f.getBlock());
+		}
+		else if (s instanceof ForeachStatement) {
+			ForeachStatement f = (ForeachStatement) s;
+			add(out, f.getObjExpr(), f.getKey(), f.getValue(), f.getBlock());
+		}
+		else if (s instanceof SwitchStatement) {
+			SwitchStatement sw = (SwitchStatement) s;
+			add(out, sw.getValue());
+			for (int i = 0; i < sw.getBlocks().length; i++) {
+				add(out, (Object[]) sw.getCases()[i]);
+				add(out, sw.getBlocks()[i]);
+			}
+			add(out, sw.getDefaultBlock());
+		}
+		else if (s instanceof ReturnStatement)
+			add(out, ((ReturnStatement) s).getExpr());
+		else if (s instanceof ReturnRefStatement)
+			add(out, ((ReturnRefStatement) s).getExpr());
+		else if (s instanceof BreakStatement)
+			add(out, ((BreakStatement) s).getTarget());
+		else if (s instanceof ContinueStatement)
+			add(out, ((ContinueStatement) s).getTarget());
+		else if (s instanceof GlobalStatement)
+			add(out, ((GlobalStatement) s).getVar());
+		else if (s instanceof StaticStatement)
+			add(out, ((StaticStatement) s).getVar(), ((StaticStatement) s).getInitValue());
+		else if (s instanceof ThrowStatement)
+			add(out, ((ThrowStatement) s).getExpr());
+		else if (s instanceof TryStatement) {
+			add(out, ((TryStatement) s).getBlock());
+			for (TryStatement.Catch c : ((TryStatement) s).getCatchList())
+				add(out, c.getExpr(), c.getBlock());
+		}
+		else if (!(s instanceof TextStatement) && !(s instanceof NullStatement)
+				 && !(s instanceof FunctionDefStatement) && !(s instanceof ClassDefStatement))
+			throw new unsupported(line(s), s.getClass().getSimpleName());
+	}
+
+	/** The statements of a block, or the statement itself. */
+	static List<Statement> statements(Statement s) {
+		if (s instanceof BlockStatement)
+			return Arrays.asList(((BlockStatement) s).getStatements());
+		else if (s == null)
+			return Collections.emptyList();
+		else
+			return Collections.singletonList(s);
+	}
+}
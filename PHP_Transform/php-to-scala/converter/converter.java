@@ -0,0 +1,195 @@
+package converter;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.caucho.quercus.QuercusContext;
+import com.caucho.quercus.parser.QuercusParser;
+import com.caucho.quercus.program.QuercusProgram;
+import com.caucho.vfs.Vfs;
+
+/**
+ * PHP-to-Scala conversion on the JVM: parses with the Quercus parser and
+ * emits the same Scala dialect as php-to-scala.php, converting many files
+ * in one process on a thread pool.
+ *
+ * usage: converter [-j threads] [-o outdir] [-root dir] [-bench rounds] file.php...
+ *
+ * A single file without -o is written to stdout, like php-to-scala.php.
+ * Otherwise each file goes to &lt;outdir&gt;/&lt;path&gt;.scala, where the
+ * path is relative to the source root (-root, by default the current
+ * directory); a file outside the root is an error rather than a write
+ * outside the output directory. -bench converts all files the given number
+ * of times and reports the time of each round instead of writing anything.
+ */
+public class converter {
+
+	static final String TAG = "php-to-scala (JVM)";
+
+	private final QuercusContext quercus = new QuercusContext();
+
+	/** Scala source for one PHP file; the object name follows the path as given. */
+	String convert(String path) throws Exception {
+		QuercusProgram program = QuercusParser.parse(quercus, Vfs.lookup(path), "UTF-8");
+		String name = path.replaceAll("\\W", "_");
+		return new emitter().convert(program, TAG, name);
+	}
+
+	private static void usage() {
+		System.err.println("usage: converter [-j threads] [-o outdir] [-root dir] [-bench rounds] file.php...");
+		System.exit(1);
+	}
+
+	public static void main(String[] argv) throws Exception {
+		int threads = Runtime.getRuntime().availableProcessors();
+		String outdir = null;
+		String root = ".";
+		int rounds = 0;
+		final List<String> files = new ArrayList<String>();
+
+		for (int i = 0; i < argv.length; i++) {
+			if (argv[i].equals("-j") && i + 1 < argv.length)
+				threads = Math.max(1, Integer.parseInt(argv[++i]));
+			else if (argv[i].equals("-o") && i + 1 < argv.length)
+				outdir = argv[++i];
+			else if (argv[i].equals("-root") && i + 1 < argv.length)
+				root = argv[++i];
+			else if (argv[i].equals("-bench") && i + 1 < argv.length)
+				rounds = Integer.parseInt(argv[++i]);
+			else if (argv[i].startsWith("-"))
+				usage();
+			else
+				files.add(argv[i]);
+		}
+		if (files.isEmpty())
+			usage();
+
+		final converter conv = new converter();
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		try {
+			if (rounds > 0)
+				System.exit(bench(conv, pool, files, rounds));
+			System.exit(run(conv, pool, files, outdir, new File(root)));
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	private static List<Future<String>> submit(final converter conv, ExecutorService pool, List<String> files) {
+		List<Future<String>> results = new ArrayList<Future<String>>();
+		for (final String file : files) {
+			results.add(pool.submit(new Callable<String>() {
+				public String call() throws Exception {
+					return conv.convert(file);
+				}
+			}));
+		}
+		return results;
+	}
+
+	private static String error(Throwable e) {
+		if (e instanceof ExecutionException && e.getCause() != null)
+			e = e.getCause();
+		if (e instanceof unsupported)
+			return e.getMessage();
+
+		/* anything else is a converter bug, not a limitation */
+		StringWriter trace = new StringWriter();
+		e.printStackTrace(new PrintWriter(trace));
+		return trace.toString();
+	}
+
+	/**
+	 * The path of a file relative to the source root, or null when the file
+	 * is not inside the root.
+	 */
+	static String relative(File root, String file) throws IOException {
+		String base = root.getCanonicalPath();
+		String path = new File(file).getCanonicalPath();
+		if (!path.startsWith(base + File.separator))
+			return null;
+		return path.substring(base.length() + 1);
+	}
+
+	private static int run(converter conv, ExecutorService pool, List<String> files, String outdir, File root)
+		throws Exception {
+		List<Future<String>> results = submit(conv, pool, files);
+		int failed = 0;
+
+		for (int i = 0; i < files.size(); i++) {
+			String file = files.get(i);
+			String scala;
+			try {
+				scala = results.get(i).get();
+			} catch (ExecutionException e) {
+				System.err.println(file + ": " + error(e));
+				failed++;
+				continue;
+			}
+
+			if (outdir == null && files.size() == 1) {
+				PrintStream out = new PrintStream(System.out, false, "UTF-8");
+				out.print(scala);
+				out.flush();
+				continue;
+			}
+
+			String path = relative(root, file);
+			if (path == null) {
+				System.err.println(file + ": not inside the source root " + root);
+				failed++;
+				continue;
+			}
+			File target = new File(outdir == null ? "." : outdir, path.replaceAll("\\.php$", "") + ".scala");
+			if (target.getParentFile() != null)
+				target.getParentFile().mkdirs();
+			Writer w = new OutputStreamWriter(new FileOutputStream(target), "UTF-8");
+			try {
+				w.write(scala);
+			} finally {
+				w.close();
+			}
+			System.out.println("converted: " + file);
+		}
+		return failed > 0 ? 1 : 0;
+	}
+
+	private static int bench(converter conv, ExecutorService pool, List<String> files, int rounds)
+		throws Exception {
+		int failed = 0;
+		long total = 0;
+
+		for (int round = 1; round <= rounds; round++) {
+			long start = System.nanoTime();
+			List<Future<String>> results = submit(conv, pool, files);
+			for (int i = 0; i < results.size(); i++) {
+				try {
+					results.get(i).get();
+				} catch (ExecutionException e) {
+					if (round == 1) {
+						System.err.println(files.get(i) + ": " + error(e));
+						failed++;
+					}
+				}
+			}
+			long elapsed = System.nanoTime() - start;
+			total += elapsed;
+			System.out.printf("round %d: %d files in %.2f ms%n", round, files.size(), elapsed / 1e6);
+		}
+		System.out.printf("mean: %.2f ms per round%n", total / 1e6 / rounds);
+		return failed > 0 ? 1 : 0;
+	}
+}
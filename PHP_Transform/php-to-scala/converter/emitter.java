@@ -0,0 +1,1192 @@
+package converter;
+
+import java.lang.reflect.Method;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.caucho.quercus.env.BooleanValue;
+import com.caucho.quercus.env.DoubleValue;
+import com.caucho.quercus.env.LongValue;
+import com.caucho.quercus.env.NullValue;
+import com.caucho.quercus.env.StringValue;
+import com.caucho.quercus.env.Value;
+import com.caucho.quercus.expr.*;
+import com.caucho.quercus.function.AbstractFunction;
+import com.caucho.quercus.program.Arg;
+import com.caucho.quercus.program.ClassDef;
+import com.caucho.quercus.program.Function;
+import com.caucho.quercus.program.InterpretedClassDef;
+import com.caucho.quercus.program.QuercusProgram;
+import com.caucho.quercus.statement.*;
+
+/**
+ * Emits the Scala translation of one parsed PHP file, in the dialect of
+ * php-to-scala.php (php.ref values, ~> / ~& member access, array.list and
+ * array.map literals, native Int/Long/Double/String locals where inference
+ * allows). Working from the AST, every operator's operands are known, so
+ * parentheses are placed from the Scala precedence of the emitted operators
+ * rather than copied from the PHP token stream.
+ *
+ * An emitter is used for one file by one thread.
+ */
+final class emitter {
+
+	/* Scala operator precedence, by the first character of the operator */
+	private static final int ATOM = 100;
+	private static final int PREFIX = 90;
+	private static final int SPECIAL = 80;
+	private static final int LOWEST = 0;
+
+	private static final Set<String> KEYWORDS = new HashSet<String>(Arrays.asList(
+		"abstract", "case", "catch", "class", "def", "do", "else", "extends", "false", "final",
+		"finally", "for", "forSome", "if", "implicit", "import", "lazy", "match", "new", "null",
+		"object", "override", "package", "private", "protected", "return", "sealed", "super",
+		"this", "throw", "trait", "try", "true", "type", "val", "var", "while", "with", "yield"));
+
+	private static final Map<Class<?>, String> OPERATORS = new HashMap<Class<?>, String>();
+
+	/* primitive overloads of the builtins, by function name */
+	private static final Map<String, List<Class<?>[]>> DIRECT = directBindings();
+
+	static {
+		OPERATORS.put(BinaryAddExpr.class, "+");
+		OPERATORS.put(BinarySubExpr.class, "-");
+		OPERATORS.put(BinaryMulExpr.class, "*");
+		OPERATORS.put(BinaryDivExpr.class, "/");
+		OPERATORS.put(BinaryModExpr.class, "%");
+		OPERATORS.put(BinaryBitAndExpr.class, "&");
+		OPERATORS.put(BinaryBitOrExpr.class, "|");
+		OPERATORS.put(BinaryBitXorExpr.class, "^");
+		OPERATORS.put(BinaryLeftShiftExpr.class, "<<");
+		OPERATORS.put(BinaryRightShiftExpr.class, ">>");
+		OPERATORS.put(BinaryGtExpr.class, ">");
+		OPERATORS.put(BinaryLtExpr.class, "<");
+		OPERATORS.put(BinaryLeqExpr.class, "<=");
+		OPERATORS.put(BinaryEqExpr.class, "==");
+		OPERATORS.put(BinaryEqualsExpr.class, "==");
+		OPERATORS.put(BinaryAndExpr.class, "&&");
+		OPERATORS.put(BinaryOrExpr.class, "||");
+	}
+
+	/** An emitted Scala expression and the precedence of its outermost operator. */
+	private static final class code {
+		final String s;
+		final int prec;
+
+		code(String s, int prec) {
+			this.s = s;
+			this.prec = prec;
+		}
+	}
+
+	private final Map<String, String> ftypes = new HashMap<String, String>();
+	private final Map<String, BitSet> byref = new HashMap<String, BitSet>();
+	private final inference typer = new inference(ftypes, byref);
+	private final Set<String> shared = new HashSet<String>();
+
+	private final StringBuilder out = new StringBuilder();
+	private int indent;
+
+	private Map<String, String> scope = Collections.emptyMap();
+	private String className;
+	private String parentName;
+	private String returnType;
+	private boolean inConstructor;
+
+	/* {break label, continue label} of the enclosing loops and switches */
+	private final ArrayList<String[]> jumps = new ArrayList<String[]>();
+	private int labels;
+	private boolean usesBreaks;
+
+	/**
+	 * Translates a parsed file.
+	 *
+	 * @param tag the converter name for the generated-by line
+	 * @param objName name of the generated php.script object
+	 */
+	String convert(QuercusProgram program, String tag, String objName) {
+		List<Function> functions = program.getFunctionList();
+		Statement main = program.getStatement();
+
+		List<Function> all = new ArrayList<Function>(functions);
+		for (InterpretedClassDef cl : program.getClassList()) {
+			for (Map.Entry<String, AbstractFunction> m : cl.functionSet()) {
+				if (m.getValue() instanceof Function)
+					all.add((Function) m.getValue());
+			}
+		}
+		byref.putAll(inference.byref(all));
+		for (Function f : all) {
+			try {
+				globals(body(f), shared);
+			} catch (unsupported e) {
+				throw e.at(line(f));
+			}
+		}
+		scanFunctions(functions);
+
+		indent = 2;
+		scope = new inference(ftypes, byref).infer(main, shared);
+		declare(scope, Collections.<String>emptySet());
+
+		/* functions and classes are hoisted above the script, like PHP does */
+		List<Object> defs = new ArrayList<Object>(functions);
+		for (Statement s : statements(main)) {
+			if (s instanceof ClassDefStatement)
+				defs.add(((ClassDefStatement) s).getClassDef());
+		}
+		Collections.sort(defs, new Comparator<Object>() {
+			public int compare(Object a, Object b) {
+				return line(a) - line(b);
+			}
+		});
+		for (Object def : defs) {
+			if (def instanceof Function)
+				function((Function) def, false);
+			else
+				classDef((InterpretedClassDef) def);
+		}
+
+		for (Statement s : statements(main)) {
+			if (!(s instanceof ClassDefStatement))
+				stmt(s);
+		}
+
+		String date = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssZ").format(new Date());
+		date = date.substring(0, date.length() - 2) + ":" + date.substring(date.length() - 2);
+
+		StringBuilder sb = new StringBuilder();
+		sb.append("// generated by ").append(tag).append(" on ").append(date).append("\n\n");
+		sb.append("import php._;\n");
+		sb.append("import scala.Predef.{ any2ArrowAssoc => _ }\n");
+		if (usesBreaks)
+			sb.append("import scala.util.control.Breaks\n");
+		sb.append("\nobject ").append(objName).append(" extends php.script {\n");
+		sb.append("  override def include {\n");
+		sb.append(out);
+		sb.append("  }\n}\n");
+		return sb.toString();
+	}
+
+	//
+	// scopes
+	//
+
+	private static Statement body(Function f) {
+		return f.getStatement();
+	}
+
+	private static int line(Object def) {
+		if (def instanceof Function)
+			return ((Function) def).getLocation().getLineNumber();
+		else
+			return ((ClassDef) def).getLocation().getLineNumber();
+	}
+
+	private static List<Statement> statements(Statement s) {
+		return ast.statements(s);
+	}
+
+	private static void globals(Object node, Set<String> out) {
+		/* names imported with "global" */
+		if (node instanceof GlobalStatement) {
+			String name = inference.varName(((GlobalStatement) node).getVar());
+			if (name != null)
+				out.add(name);
+		}
+		else if (node != null && !(node instanceof FunctionDefStatement) && !(node instanceof ClassDefStatement)) {
+			for (Object child : ast.children(node))
+				globals(child, out);
+		}
+	}
+
+	private static void assigned(Object node, Set<String> out) {
+		/* names written by the code, as opposed to only read */
+		if (node instanceof BinaryAssignExpr)
+			out.add(inference.varName(((BinaryAssignExpr) node).getVar()));
+		else if (node instanceof BinaryAssignRefExpr)
+			out.add(inference.varName(((BinaryAssignRefExpr) node).getVar()));
+		else if (node instanceof UnaryPreIncrementExpr || node instanceof UnaryPostIncrementExpr)
+			out.add(inference.varName(((AbstractUnaryExpr) node).getExpr()));
+		else if (node instanceof ListHeadExpr) {
+			for (Expr v : ((ListHeadExpr) node).getVarList())
+				out.add(inference.varName(v));
+		}
+
+		if (node != null && !(node instanceof FunctionDefStatement) && !(node instanceof ClassDefStatement)) {
+			for (Object child : ast.children(node))
+				assigned(child, out);
+		}
+	}
+
+	private static List<String> params(Function f) {
+		List<String> names = new ArrayList<String>();
+		for (Arg a : f.getArgs())
+			names.add(a.getName().toString());
+		return names;
+	}
+
+	private void scanFunctions(List<Function> functions) {
+		/* return types of the global functions, iterated to a fixpoint */
+		for (Function f : functions)
+			ftypes.put(f.getName(), inference.REF);
+
+		int passes = functions.size() + 1;
+		boolean changed;
+		do {
+			changed = false;
+			for (Function f : functions) {
+				Set<String> fixed = new HashSet<String>(params(f));
+				globals(body(f), fixed);
+				String type;
+				try {
+					type = new inference(ftypes, byref).returnType(body(f), fixed);
+				} catch (unsupported e) {
+					throw e.at(line(f));
+				}
+				if (!type.equals(ftypes.get(f.getName()))) {
+					ftypes.put(f.getName(), type);
+					changed = true;
+				}
+			}
+		} while (changed && --passes > 0);
+	}
+
+	private static String defaultValue(String type) {
+		if (type.equals(inference.INT))
+			return "0";
+		else if (type.equals(inference.LONG))
+			return "0L";
+		else if (type.equals(inference.DOUBLE))
+			return "0.0";
+		else if (type.equals(inference.STRING))
+			return "\"\"";
+		else
+			return "undef";
+	}
+
+	private void declare(Map<String, String> types, Set<String> skip) {
+		for (Map.Entry<String, String> e : types.entrySet()) {
+			String name = e.getKey();
+			if (!skip.contains(name) && !name.equals("this") && !inference.isGlobal(name))
+				line("var " + id(name) + ": " + e.getValue() + " = " + defaultValue(e.getValue()) + ";");
+		}
+	}
+
+	private String type(String name) {
+		String type = scope.get(name);
+		return type == null ? inference.REF : type;
+	}
+
+	private String typeOf(Expr e) {
+		String type = typer.exprType(e, scope);
+		return type == null ? inference.REF : type;
+	}
+
+	//
+	// functions and classes
+	//
+
+	private void function(Function f, boolean method) {
+		try {
+			functionDef(f, method);
+		} catch (unsupported e) {
+			throw e.at(line(f));
+		}
+	}
+
+	private void functionDef(Function f, boolean method) {
+		Statement body = body(f);
+		boolean constructor = method && f == findConstructor(f);
+		String name = constructor ? "__construct" : f.getName();
+
+		Set<String> imported = new HashSet<String>();
+		globals(body, imported);
+		Set<String> written = new HashSet<String>();
+		assigned(body, written);
+
+		/* PHP parameters are assignable locals, Scala parameters are not */
+		List<String> params = params(f);
+		StringBuilder sig = new StringBuilder();
+		List<String> copies = new ArrayList<String>();
+		for (Arg a : f.getArgs()) {
+			String p = a.getName().toString();
+			if (sig.length() > 0)
+				sig.append(", ");
+			if (written.contains(p)) {
+				copies.add(p);
+				sig.append(id(p + "_arg"));
+			}
+			else
+				sig.append(id(p));
+			sig.append(": ref");
+			if (a.getDefault() != null && !(a.getDefault() instanceof ParamRequiredExpr))
+				sig.append(" = ").append(plain(a.getDefault()));
+		}
+
+		Set<String> fixed = new HashSet<String>(params);
+		fixed.addAll(imported);
+
+		Map<String, String> savedScope = scope;
+		String savedReturn = returnType;
+		boolean savedConstructor = inConstructor;
+
+		scope = new inference(ftypes, byref).infer(body, fixed);
+		returnType = method ? inference.REF : ftypes.get(f.getName());
+		if (returnType == null)
+			returnType = inference.REF;
+		inConstructor = constructor;
+
+		line("def " + id(name) + "(" + sig + "): " + returnType + " = {");
+		indent++;
+		Set<String> skip = new HashSet<String>(params);
+		skip.addAll(imported);
+		declare(scope, skip);
+		for (String p : copies)
+			line("var " + id(p) + ": ref = " + id(p + "_arg") + ";");
+
+		for (Statement s : statements(body))
+			stmt(s);
+
+		if (constructor)
+			line("this");
+		else if (!(inference.last(body) instanceof ReturnStatement))
+			line("undef");
+		indent--;
+		line("}");
+
+		scope = savedScope;
+		returnType = savedReturn;
+		inConstructor = savedConstructor;
+	}
+
+	private static AbstractFunction findConstructor(Function f) {
+		ClassDef cl = f.getDeclaringClass();
+		return cl instanceof InterpretedClassDef ? ((InterpretedClassDef) cl).findConstructor() : null;
+	}
+
+	private void classDef(InterpretedClassDef cl) {
+		try {
+			classBody(cl);
+		} catch (unsupported e) {
+			throw e.at(line(cl));
+		}
+	}
+
+	private void classBody(InterpretedClassDef cl) {
+		if (cl.isInterface())
+			throw new unsupported(cl.getLocation().getLineNumber(), "interface " + cl.getName());
+
+		String savedClass = className;
+		String savedParent = parentName;
+		className = cl.getName();
+		parentName = cl.getParentName();
+
+		String parent = parentName;
+		line((cl.isAbstract() ? "abstract " : "") + "class " + id(className)
+			 + " extends " + (parent == null ? "obj" : id(parent)) + " {");
+		indent++;
+
+		Map<String, String> savedScope = scope;
+		scope = Collections.emptyMap();
+
+		TreeMap<String, Expr> consts = new TreeMap<String, Expr>();
+		for (Map.Entry<String, Expr> c : cl.constantSet())
+			consts.put(c.getKey(), c.getValue());
+		for (Map.Entry<String, Expr> c : consts.entrySet())
+			line("val " + id(c.getKey()) + ": ref = " + plain(c.getValue()) + ";");
+		for (Map.Entry<String, ClassDef.StaticFieldEntry> f : cl.staticFieldSet())
+			line("var " + id(f.getKey()) + ": ref = " + initializer(f.getValue().getValue()) + ";");
+		for (Map.Entry<StringValue, ClassDef.FieldEntry> f : cl.fieldSet())
+			line("var " + id(f.getKey().toString()) + ": ref = " + initializer(f.getValue().getValue()) + ";");
+
+		List<AbstractFunction> methods = new ArrayList<AbstractFunction>();
+		for (Map.Entry<String, AbstractFunction> m : cl.functionSet())
+			methods.add(m.getValue());
+		Collections.sort(methods, new Comparator<AbstractFunction>() {
+			public int compare(AbstractFunction a, AbstractFunction b) {
+				return a.getLocation().getLineNumber() - b.getLocation().getLineNumber();
+			}
+		});
+
+		if (cl.findConstructor() == null && parent == null)
+			line("def __construct(): ref = this");
+		for (AbstractFunction m : methods) {
+			if (m instanceof Function && body((Function) m) != null)
+				function((Function) m, true);
+			else {
+				StringBuilder sig = new StringBuilder();
+				for (Arg a : m.getArgs())
+					sig.append(sig.length() > 0 ? ", " : "").append(id(a.getName().toString())).append(": ref");
+				line("def " + id(m.getName()) + "(" + sig + "): ref");
+			}
+		}
+
+		scope = savedScope;
+		indent--;
+		line("}");
+		if (!cl.isAbstract())
+			line("object " + id(className) + " extends " + id(className) + ";");
+		className = savedClass;
+		parentName = savedParent;
+	}
+
+	private String initializer(Expr e) {
+		return e == null || e instanceof LiteralNullExpr ? "undef" : plain(e);
+	}
+
+	//
+	// statements
+	//
+
+	private void line(String s) {
+		for (int i = 0; i < indent; i++)
+			out.append("  ");
+		out.append(s).append('\n');
+	}
+
+	private void block(Statement s) {
+		indent++;
+		for (Statement child : statements(s))
+			stmt(child);
+		indent--;
+	}
+
+	private void stmt(Statement s) {
+		try {
+			statement(s);
+		} catch (unsupported e) {
+			throw e.at(ast.line(s));
+		}
+	}
+
+	private void statement(Statement s) {
+		if (s instanceof BlockStatement) {
+			for (Statement child : statements(s))
+				stmt(child);
+		}
+		else if (s instanceof ExprStatement)
+			line(topExpr(((ExprStatement) s).getExpr()) + ";");
+		else if (s instanceof EchoStatement) {
+			/* the parser splits interpolated strings into one echo per part */
+			String value = plain(((EchoStatement) s).getExpr());
+			if (!value.equals("\"\""))
+				line("echo(" + value + ");");
+		}
+		else if (s instanceof TextStatement) {
+			String text = ((TextStatement) s).getValue();
+			if (text.length() > 0)
+				line("echo(" + literal(text) + ");");
+		}
+		else if (s instanceof IfStatement) {
+			IfStatement i = (IfStatement) s;
+			line("if (" + condition(i.getTest()) + ") {");
+			block(i.getTrueBlock());
+			Statement f = i.getFalseBlock();
+			while (f instanceof IfStatement) {
+				line("} else if (" + condition(((IfStatement) f).getTest()) + ") {");
+				block(((IfStatement) f).getTrueBlock());
+				f = ((IfStatement) f).getFalseBlock();
+			}
+			if (f != null) {
+				line("} else {");
+				block(f);
+			}
+			line("}");
+		}
+		else if (s instanceof WhileStatement) {
+			WhileStatement w = (WhileStatement) s;
+			loop("while (" + condition(w.getTest()) + ") {", "}", w.getBlock(), null);
+		}
+		else if (s instanceof DoStatement) {
+			DoStatement d = (DoStatement) s;
+			loop("do {", "} while (" + condition(d.getTest()) + ");", d.getBlock(), null);
+		}
+		else if (s instanceof ForStatement) {
+			ForStatement f = (ForStatement) s;
+			if (f.getInit() != null)
+				line(topExpr(f.getInit()) + ";");
+			Expr test = f.getTest();
+			loop("while (" + (test == null ? "true" : condition(test)) + ") {", "}", f.getBlock(), f.getIncr());
+		}
+		else if (s instanceof ForeachStatement) {
+			ForeachStatement f = (ForeachStatement) s;
+			Expr key = f.getKey();
+			Expr value = f.getValue();
+			if ((key != null && !(key instanceof VarExpr)) || !(value instanceof VarExpr))
+				throw unsupported(s, "foreach over a non-variable key or value");
+
+			String params = (key != null ? id(inference.varName(key)) + ": ref, " : "")
+				+ id(inference.varName(value)) + ": ref";
+			loop(operand(f.getObjExpr(), ATOM, false) + ".foreach { (" + params + ") =>", "}", f.getBlock(), null);
+		}
+		else if (s instanceof SwitchStatement)
+			switchStmt((SwitchStatement) s);
+		else if (s instanceof ReturnStatement || s instanceof ReturnRefStatement) {
+			Expr e = s instanceof ReturnStatement
+				? ((ReturnStatement) s).getExpr()
+				: ((ReturnRefStatement) s).getExpr();
+			if (inConstructor)
+				line("return this;");
+			else if (returnType == null)
+				line("return;");
+			else
+				line("return " + (e == null ? "undef" : plain(e)) + ";");
+		}
+		else if (s instanceof BreakStatement || s instanceof ContinueStatement) {
+			Expr target = s instanceof BreakStatement
+				? ((BreakStatement) s).getTarget()
+				: ((ContinueStatement) s).getTarget();
+			if (target != null && !(target instanceof LiteralLongExpr && ((LiteralLongExpr) target).getValue() == 1))
+				throw unsupported(s, "multi-level break/continue");
+			if (jumps.isEmpty())
+				throw unsupported(s, "break/continue outside of a loop");
+			String[] j = jumps.get(jumps.size() - 1);
+			line((s instanceof BreakStatement ? j[0] : j[1]) + ".break;");
+		}
+		else if (s instanceof FunctionDefStatement)
+			function(((FunctionDefStatement) s).getFunction(), false);
+		else if (s instanceof ClassDefStatement)
+			classDef(((ClassDefStatement) s).getClassDef());
+		else if (s instanceof ThrowStatement)
+			line("throw " + plain(((ThrowStatement) s).getExpr()) + ";");
+		else if (s instanceof TryStatement) {
+			/* each catch clause is a case binding the PHP variable */
+			line("try {");
+			block(((TryStatement) s).getBlock());
+			line("} catch {");
+			indent++;
+			for (TryStatement.Catch c : ((TryStatement) s).getCatchList()) {
+				if (!(c.getExpr() instanceof VarExpr))
+					throw unsupported(s, "catch into a non-variable");
+				line("case " + id(inference.varName(c.getExpr())) + ": " + className(c.getId()) + " => {");
+				block(c.getBlock());
+				line("}");
+			}
+			indent--;
+			line("}");
+		}
+		else if (s instanceof GlobalStatement || s instanceof NullStatement) {
+			// globals are in lexical scope already
+		}
+		else
+			throw unsupported(s, s.getClass().getSimpleName());
+	}
+
+	private static void jumps(Statement s, boolean[] found) {
+		/* break/continue statements targeting the loop or switch enclosing s */
+		if (s instanceof BreakStatement)
+			found[0] = true;
+		else if (s instanceof ContinueStatement)
+			found[1] = true;
+		else if (!(s instanceof WhileStatement) && !(s instanceof DoStatement) && !(s instanceof ForStatement)
+				 && !(s instanceof ForeachStatement) && !(s instanceof SwitchStatement)
+				 && !(s instanceof FunctionDefStatement) && !(s instanceof ClassDefStatement)) {
+			for (Object child : ast.children(s)) {
+				if (child instanceof Statement)
+					jumps((Statement) child, found);
+			}
+		}
+	}
+
+	private String label(String kind) {
+		usesBreaks = true;
+		String name = kind + (++labels);
+		line("val " + name + " = new Breaks;");
+		return name;
+	}
+
+	private void loop(String head, String tail, Statement body, Expr incr) {
+		/* break and continue become scala.util.control.Breaks around the loop and its body */
+		boolean[] found = new boolean[2];
+		jumps(body, found);
+		String[] j = { found[0] ? label("break") : null, found[1] ? label("continue") : null };
+
+		if (j[0] != null) {
+			line(j[0] + ".breakable {");
+			indent++;
+		}
+		line(head);
+		indent++;
+		if (j[1] != null) {
+			line(j[1] + ".breakable {");
+			indent++;
+		}
+
+		jumps.add(j);
+		for (Statement s : statements(body))
+			stmt(s);
+		jumps.remove(jumps.size() - 1);
+
+		if (j[1] != null) {
+			indent--;
+			line("}");
+		}
+		if (incr != null)
+			line(topExpr(incr) + ";");
+		indent--;
+		line(tail);
+		if (j[0] != null) {
+			indent--;
+			line("}");
+		}
+	}
+
+	private void switchStmt(SwitchStatement s) {
+		Expr[][] cases = s.getCases();
+		Statement[] blocks = s.getBlocks();
+		Statement defaultBlock = s.getDefaultBlock();
+
+		/*
+		 * The parser already appends the following cases to a case that falls
+		 * through, so each block runs up to its first break and becomes one
+		 * if/else branch.
+		 */
+		List<List<Statement>> bodies = new ArrayList<List<Statement>>();
+		boolean[] found = new boolean[2];
+		for (int i = 0; i <= blocks.length; i++) {
+			List<Statement> body = new ArrayList<Statement>();
+			for (Statement b : statements(i < blocks.length ? blocks[i] : defaultBlock)) {
+				if (b instanceof BreakStatement && ((BreakStatement) b).getTarget() == null)
+					break;
+				jumps(b, found);
+				body.add(b);
+			}
+			bodies.add(body);
+		}
+
+		String value = "switch" + (++labels);
+		line("val " + value + ": ref = " + plain(s.getValue()) + ";");
+
+		/* continue inside a switch acts like break, as in PHP */
+		String brk = found[0] || found[1] ? label("break") : null;
+		if (brk != null) {
+			line(brk + ".breakable {");
+			indent++;
+		}
+		jumps.add(new String[] { brk, brk });
+
+		for (int i = 0; i < blocks.length; i++) {
+			StringBuilder test = new StringBuilder();
+			for (Expr c : cases[i]) {
+				if (test.length() > 0)
+					test.append(" || ");
+				test.append(value).append(" == ").append(operand(c, inference.isNative(typeOf(c)) ? ATOM : 31, true));
+			}
+			line((i == 0 ? "if (" : "} else if (") + test + ") {");
+			indent++;
+			for (Statement b : bodies.get(i))
+				stmt(b);
+			indent--;
+		}
+		if (defaultBlock != null) {
+			if (blocks.length > 0) {
+				line("} else {");
+				indent++;
+			}
+			for (Statement b : bodies.get(blocks.length))
+				stmt(b);
+			if (blocks.length > 0)
+				indent--;
+		}
+		if (blocks.length > 0)
+			line("}");
+
+		jumps.remove(jumps.size() - 1);
+		if (brk != null) {
+			indent--;
+			line("}");
+		}
+	}
+
+	//
+	// expressions
+	//
+
+	private static unsupported unsupported(Statement s, String what) {
+		return new unsupported(ast.line(s), what);
+	}
+
+	private static unsupported unsupported(Expr e) {
+		return new unsupported(ast.line(e), e.getClass().getSimpleName());
+	}
+
+	static String id(String name) {
+		return KEYWORDS.contains(name) ? "`" + name + "`" : name;
+	}
+
+	static String symbol(String name) {
+		if (name.matches("[A-Za-z_][A-Za-z0-9_]*") && !KEYWORDS.contains(name))
+			return "'" + name;
+		else
+			return "Symbol(" + literal(name) + ")";
+	}
+
+	static String literal(String s) {
+		StringBuilder sb = new StringBuilder("\"");
+		for (int i = 0; i < s.length(); i++) {
+			char ch = s.charAt(i);
+			switch (ch) {
+			case '"': sb.append("\\\""); break;
+			case '\\': sb.append("\\\\"); break;
+			case '\n': sb.append("\\n"); break;
+			case '\r': sb.append("\\r"); break;
+			case '\t': sb.append("\\t"); break;
+			default:
+				if (ch < 0x20 || ch >= 0x7f)
+					sb.append(String.format("\\u%04x", (int) ch));
+				else
+					sb.append(ch);
+			}
+		}
+		return sb.append('"').toString();
+	}
+
+	private static code literal(Value v) {
+		if (v instanceof LongValue) {
+			long l = v.toLong();
+			String s = inference.literalType(l).equals(inference.LONG) ? l + "L" : String.valueOf(l);
+			return new code(s, l < 0 ? PREFIX : ATOM);
+		}
+		else if (v instanceof DoubleValue) {
+			double d = v.toDouble();
+			if (Double.isNaN(d))
+				return new code("Double.NaN", ATOM);
+			else if (Double.isInfinite(d))
+				return new code(d > 0 ? "Double.PositiveInfinity" : "Double.NegativeInfinity", ATOM);
+			return new code(String.valueOf(d), d < 0 ? PREFIX : ATOM);
+		}
+		else if (v instanceof BooleanValue)
+			return new code(v.toBoolean() ? "true" : "false", ATOM);
+		else if (v instanceof StringValue)
+			return new code(literal(v.toString()), ATOM);
+		else if (v == null || v instanceof NullValue)
+			return new code("undef", ATOM);
+		else
+			throw new unsupported(0, "literal " + v.getClass().getSimpleName());
+	}
+
+	private static int precedence(String op) {
+		switch (op.charAt(0)) {
+		case '|': return 10;
+		case '^': return 15;
+		case '&': return 20;
+		case '=': case '!': return 30;
+		case '<': case '>': return 40;
+		case ':': return 50;
+		case '+': case '-': return 60;
+		case '*': case '/': case '%': return 70;
+		default: return SPECIAL;
+		}
+	}
+
+	private String plain(Expr e) {
+		return expr(e).s;
+	}
+
+	private String operand(Expr e, int prec, boolean right) {
+		code c = expr(e);
+		return c.prec < prec || (right && c.prec == prec) ? "(" + c.s + ")" : c.s;
+	}
+
+	private code binary(Expr left, String op, Expr right) {
+		int prec = precedence(op);
+		return new code(operand(left, prec, false) + " " + op + " " + operand(right, prec, true), prec);
+	}
+
+	private String condition(Expr e) {
+		/* a native value has no implicit conversion to Boolean, a ref does */
+		String type = typeOf(e);
+		if (inference.isNative(type) || type.equals(inference.STRING))
+			return "(" + plain(e) + ": ref)";
+		return plain(e);
+	}
+
+	private String args(Expr[] args, boolean dynamic) {
+		StringBuilder sb = new StringBuilder("(");
+		for (Expr a : args) {
+			if (a instanceof UnaryRefExpr)
+				a = ((UnaryRefExpr) a).getExpr();
+			if (sb.length() > 1)
+				sb.append(", ");
+			/* reflective method calls take refs and Ints, anything else is ascribed */
+			String type = typeOf(a);
+			if (dynamic && !type.equals(inference.REF) && !type.equals(inference.INT))
+				sb.append("(").append(plain(a)).append(": ref)");
+			else
+				sb.append(plain(a));
+		}
+		return sb.append(")").toString();
+	}
+
+	private String className(String name) {
+		if (name.equals("self") || name.equals("static"))
+			return className == null ? name : id(className);
+		else if (name.equals("parent") || name.equals(parentName))
+			return "super"; // the parser has already resolved parent:: to the class name
+		return id(name);
+	}
+
+	private code expr(Expr e) {
+		if (e instanceof LiteralLongExpr)
+			return literal(LongValue.create(((LiteralLongExpr) e).getValue()));
+		else if (e instanceof LiteralExpr || e instanceof LiteralNullExpr || e instanceof LiteralStringExpr
+				 || e instanceof LiteralUnicodeExpr)
+			return literal(e.evalConstant());
+		else if (e instanceof ConstFileExpr)
+			return new code(literal(((ConstFileExpr) e).getValue()), ATOM);
+		else if (e instanceof ConstDirExpr)
+			return new code(literal(((ConstDirExpr) e).getValue()), ATOM);
+		else if (e instanceof ThisExpr)
+			return new code("this", ATOM);
+		else if (e instanceof VarExpr)
+			return new code(id(inference.varName(e)), ATOM);
+		else if (e instanceof ConstExpr)
+			return new code(id(((ConstExpr) e).getVar()), ATOM);
+		else if (e instanceof ArrayGetExpr) {
+			ArrayGetExpr a = (ArrayGetExpr) e;
+			return new code(operand(a.getExpr(), ATOM, false) + "(" + plain(a.getIndex()) + ")", ATOM);
+		}
+		else if (e instanceof ThisFieldExpr)
+			return new code("this." + id(((ThisFieldExpr) e).getName().toString()), ATOM);
+		else if (e instanceof ObjectFieldExpr) {
+			ObjectFieldExpr f = (ObjectFieldExpr) e;
+			return new code(operand(f.getObjExpr(), SPECIAL, false) + "~>" + symbol(f.getName().toString()), SPECIAL);
+		}
+		else if (e instanceof ThisMethodExpr) {
+			ThisMethodExpr m = (ThisMethodExpr) e;
+			return new code("this." + id(m.getName()) + args(m.getArgs(), false), ATOM);
+		}
+		else if (e instanceof ObjectMethodExpr) {
+			ObjectMethodExpr m = (ObjectMethodExpr) e;
+			return new code(operand(m.getObjExpr(), SPECIAL, false) + "~&" + symbol(m.getName())
+							+ "~>" + args(m.getArgs(), true), SPECIAL);
+		}
+		else if (e instanceof ClassMethodExpr) {
+			ClassMethodExpr m = (ClassMethodExpr) e;
+			return new code(className(m.getClassName()) + "." + id(m.getName()) + args(m.getArgs(), false), ATOM);
+		}
+		else if (e instanceof ClassConstExpr) {
+			ClassConstExpr c = (ClassConstExpr) e;
+			return new code(className(c.getClassName()) + "." + id(c.getName()), ATOM);
+		}
+		else if (e instanceof ClassFieldExpr) {
+			ClassFieldExpr f = (ClassFieldExpr) e;
+			return new code(className(f.getClassName()) + "." + id(f.getVarName().toString()), ATOM);
+		}
+		else if (e instanceof ObjectNewExpr) {
+			ObjectNewExpr n = (ObjectNewExpr) e;
+			return new code("(new " + className(n.getName()) + ").__construct" + args(n.getArgs(), false), ATOM);
+		}
+		else if (e instanceof CallExpr) {
+			String name = ((CallExpr) e).getName();
+			Expr[] args = ((CallExpr) e).getArgs();
+			String target = isDirect(name, args) ? "direct." : "";
+			return new code(target + id(name.equals("print") ? "echo" : name) + args(args, false), ATOM);
+		}
+		else if (e instanceof CallVarExpr) {
+			CallVarExpr c = (CallVarExpr) e;
+			return new code(operand(c.getName(), ATOM, false) + args(c.getArgs(), true), ATOM);
+		}
+		else if (e instanceof FunIncludeExpr || e instanceof FunIncludeOnceExpr) {
+			boolean once = e instanceof FunIncludeOnceExpr;
+			boolean require = once ? ((FunIncludeOnceExpr) e).isRequire() : ((FunIncludeExpr) e).isRequire();
+			return new code((require ? "require" : "include") + (once ? "_once" : "")
+							+ "(" + plain(((AbstractUnaryExpr) e).getExpr()) + ")", ATOM);
+		}
+		else if (e instanceof FunArrayExpr)
+			return arrayLiteral(((FunArrayExpr) e).getKeys(), ((FunArrayExpr) e).getValues());
+		else if (e instanceof FunIssetExpr)
+			return new code("isset(" + plain(((FunIssetExpr) e).getExpr()) + ")", ATOM);
+		else if (e instanceof ArrayIsSetExpr) {
+			ArrayIsSetExpr a = (ArrayIsSetExpr) e;
+			return new code("isset(" + operand(a.getExpr(), ATOM, false) + "(" + plain(a.getIndex()) + "))", ATOM);
+		}
+		else if (e instanceof BinaryAppendExpr) {
+			StringBuilder sb = new StringBuilder();
+			for (BinaryAppendExpr next = (BinaryAppendExpr) e; next != null; next = next.getNext()) {
+				if (sb.length() > 0)
+					sb.append(" +& ");
+				sb.append(operand(next.getValue(), precedence("+&"), next != e));
+			}
+			return new code(sb.toString(), precedence("+&"));
+		}
+		else if (e instanceof BinaryGeqExpr) {
+			/* ref has no >=; a >= b is b <= a */
+			return binary(((BinaryGeqExpr) e).getRight(), "<=", ((BinaryGeqExpr) e).getLeft());
+		}
+		else if (e instanceof BinaryNeqExpr) {
+			/* != is reference inequality on a ref */
+			BinaryNeqExpr b = (BinaryNeqExpr) e;
+			return new code("!(" + binary(b.getLeft(), "==", b.getRight()).s + ")", PREFIX);
+		}
+		else if (OPERATORS.containsKey(e.getClass())) {
+			AbstractBinaryExpr b = (AbstractBinaryExpr) e;
+			return binary(b.getLeft(), OPERATORS.get(e.getClass()), b.getRight());
+		}
+		else if (e instanceof UnaryNotExpr)
+			return new code("!" + operand(((UnaryNotExpr) e).getExpr(), PREFIX, false), PREFIX);
+		else if (e instanceof UnaryMinusExpr)
+			return new code("-" + operand(((UnaryMinusExpr) e).getExpr(), ATOM, false), PREFIX);
+		else if (e instanceof UnaryBitNotExpr)
+			return new code("~" + operand(((UnaryBitNotExpr) e).getExpr(), ATOM, false), PREFIX);
+		else if (e instanceof UnaryPlusExpr || e instanceof UnarySuppressErrorExpr || e instanceof UnaryCopyExpr)
+			return expr(((AbstractUnaryExpr) e).getExpr());
+		else if (e instanceof ToLongExpr)
+			return new code("intval(" + plain(((ToLongExpr) e).getExpr()) + ")", ATOM);
+		else if (e instanceof ToDoubleExpr)
+			return new code("floatval(" + plain(((ToDoubleExpr) e).getExpr()) + ")", ATOM);
+		else if (e instanceof ToStringExpr)
+			return new code("strval(" + plain(((ToStringExpr) e).getExpr()) + ")", ATOM);
+		else if (e instanceof ToBooleanExpr)
+			return new code("(" + condition(((ToBooleanExpr) e).getExpr()) + ": Boolean)", ATOM);
+		else if (e instanceof BinaryInstanceOfExpr) {
+			BinaryInstanceOfExpr i = (BinaryInstanceOfExpr) e;
+			return new code(operand(i.getExpr(), ATOM, false) + ".isInstanceOf[" + className(i.getRight()) + "]", ATOM);
+		}
+		else if (e instanceof ConditionalExpr) {
+			ConditionalExpr c = (ConditionalExpr) e;
+			Expr a = c.getTrueExpr();
+			Expr b = c.getFalseExpr();
+			String s = "if (" + condition(c.getTest()) + ") " + plain(a) + " else " + plain(b);
+			/* without an expected type the branches would only unify to Any */
+			if (!typeOf(a).equals(typeOf(b)))
+				s = "(" + s + "): ref";
+			return new code(s, LOWEST);
+		}
+		else if (e instanceof ConditionalShortExpr) {
+			ConditionalShortExpr c = (ConditionalShortExpr) e;
+			return new code("{ val short: ref = " + plain(c.getTest()) + "; (if (short) short else "
+							+ plain(c.getFalseExpr()) + "): ref }", ATOM);
+		}
+		else if (e instanceof FunExitExpr || e instanceof FunDieExpr || e instanceof DieExpr) {
+			/* exit(status) or exit(message) */
+			Expr v = e instanceof FunExitExpr ? ((FunExitExpr) e).getValue()
+				: e instanceof FunDieExpr ? ((FunDieExpr) e).getValue()
+				: ((DieExpr) e).getValue();
+			if (v == null)
+				return new code("exit(0)", ATOM);
+			else if (inference.isNative(typeOf(v)))
+				return new code("exit(" + plain(v) + ")", ATOM);
+			return new code("{ echo(" + plain(v) + "); exit(0) }", ATOM);
+		}
+		else if (e instanceof BinaryAssignExpr || e instanceof BinaryAssignRefExpr) {
+			/* an assignment used as a value */
+			Expr var = e instanceof BinaryAssignExpr
+				? ((BinaryAssignExpr) e).getVar()
+				: ((BinaryAssignRefExpr) e).getVar();
+			String assign = topExpr(e);
+			if (answersValue(var))
+				return new code(assign, LOWEST);
+			return new code("{ " + assign + "; " + plain(var) + " }", ATOM);
+		}
+		else if (e instanceof UnaryPreIncrementExpr || e instanceof UnaryPostIncrementExpr) {
+			Expr var = ((AbstractUnaryExpr) e).getExpr();
+			int incr = e instanceof UnaryPreIncrementExpr
+				? ((UnaryPreIncrementExpr) e).getIncr()
+				: ((UnaryPostIncrementExpr) e).getIncr();
+			String step = increment(var, incr);
+			String value = plain(var);
+			if (e instanceof UnaryPreIncrementExpr) {
+				if (answersValue(var))
+					return new code(step, LOWEST);
+				return new code("{ " + step + "; " + value + " }", ATOM);
+			}
+			else if (var instanceof VarExpr && inference.isNative(type(inference.varName(var))))
+				return new code("{ " + step + "; " + value + (incr > 0 ? " - 1" : " + 1") + " }", ATOM);
+			else
+				return new code("{ val old: ref = " + operand(var, ATOM, false) + ".value; " + step + "; old }", ATOM);
+		}
+		else
+			throw unsupported(e);
+	}
+
+	private static boolean answersValue(Expr var) {
+		/* update() and += answer the new value */
+		return var instanceof ArrayGetExpr || var instanceof ObjectFieldExpr || var instanceof ArrayTailExpr;
+	}
+
+	/** var = value, for every kind of PHP lvalue. */
+	private String assign(Expr var, String value) {
+		if (var instanceof VarExpr || var instanceof ArrayGetExpr || var instanceof ThisFieldExpr
+			|| var instanceof ClassFieldExpr)
+			return plain(var) + " = " + value;
+		else if (var instanceof ArrayTailExpr)
+			return operand(((ArrayTailExpr) var).getExpr(), ATOM, false) + " += " + value;
+		else if (var instanceof ObjectFieldExpr) {
+			ObjectFieldExpr f = (ObjectFieldExpr) var;
+			return operand(f.getObjExpr(), ATOM, false) + "(" + symbol(f.getName().toString()) + ") = " + value;
+		}
+		else
+			throw unsupported(var);
+	}
+
+	private String increment(Expr var, int incr) {
+		if (var instanceof VarExpr)
+			return plain(var) + (incr > 0 ? " += 1" : " -= 1");
+		return assign(var, operand(var, precedence("+"), false) + (incr > 0 ? " + 1" : " - 1"));
+	}
+
+	private static Map<String, List<Class<?>[]>> directBindings() {
+		Map<String, List<Class<?>[]>> map = new HashMap<String, List<Class<?>[]>>();
+		try {
+			for (Method m : Class.forName("phplib.direct").getMethods()) {
+				if (m.getDeclaringClass() == Object.class)
+					continue;
+				List<Class<?>[]> list = map.get(m.getName());
+				if (list == null)
+					map.put(m.getName(), list = new ArrayList<Class<?>[]>());
+				list.add(m.getParameterTypes());
+			}
+		} catch (ClassNotFoundException e) {
+			// converting without the runtime on the classpath: every call goes through phplib
+		}
+		return map;
+	}
+
+	private static boolean accepts(Class<?> param, String type) {
+		/* the Scala numeric widenings */
+		if (type.equals(inference.INT))
+			return param == int.class || param == long.class || param == float.class || param == double.class;
+		else if (type.equals(inference.LONG))
+			return param == long.class || param == float.class || param == double.class;
+		else if (type.equals(inference.DOUBLE))
+			return param == double.class;
+		else
+			return type.equals(inference.STRING) && param == String.class;
+	}
+
+	/**
+	 * Whether a builtin call can go to phplib.direct: every argument is a
+	 * native Scala value and some primitive overload takes them all.
+	 */
+	private boolean isDirect(String name, Expr[] args) {
+		List<Class<?>[]> bindings = DIRECT.get(name);
+		if (bindings == null || args.length == 0 || name.equals("print") || ftypes.containsKey(name)
+			|| scope.containsKey("direct"))
+			return false;
+
+		String[] types = new String[args.length];
+		for (int i = 0; i < args.length; i++) {
+			types[i] = typeOf(args[i]);
+			if (args[i] instanceof UnaryRefExpr || types[i].equals(inference.REF))
+				return false;
+		}
+
+		for (Class<?>[] params : bindings) {
+			boolean ok = params.length == types.length;
+			for (int i = 0; ok && i < params.length; i++)
+				ok = accepts(params[i], types[i]);
+			if (ok)
+				return true;
+		}
+		return false;
+	}
+
+	private code arrayLiteral(Expr[] keys, Expr[] values) {
+		boolean keyed = false;
+		for (Expr k : keys)
+			keyed |= k != null;
+
+		StringBuilder sb = new StringBuilder(keyed ? "array.map(" : "array.list(");
+		for (int i = 0; i < values.length; i++) {
+			if (i > 0)
+				sb.append(", ");
+			if (keyed) {
+				if (keys[i] == null)
+					throw new unsupported(ast.line(values[i]), "array() mixing keyed and unkeyed elements");
+				sb.append(operand(keys[i], precedence("->"), false)).append(" -> ");
+				sb.append(operand(values[i], precedence("->"), true));
+			}
+			else
+				sb.append(plain(values[i]));
+		}
+		return new code(sb.append(")").toString(), ATOM);
+	}
+
+	/**
+	 * An expression in statement position: assignments, increments and
+	 * print, which have no value-producing form in Scala.
+	 */
+	private String topExpr(Expr e) {
+		if (e instanceof BinaryAssignExpr || e instanceof BinaryAssignRefExpr) {
+			Expr var, value;
+			if (e instanceof BinaryAssignExpr) {
+				var = ((BinaryAssignExpr) e).getVar();
+				value = ((BinaryAssignExpr) e).getValue();
+			}
+			else {
+				var = ((BinaryAssignRefExpr) e).getVar();
+				value = ((BinaryAssignRefExpr) e).getValue();
+			}
+
+			if (var instanceof VarExpr) {
+				String compound = compound(inference.varName(var), value);
+				if (compound != null)
+					return compound;
+			}
+			return assign(var, plain(value));
+		}
+		else if (e instanceof UnaryPreIncrementExpr)
+			return increment(((UnaryPreIncrementExpr) e).getExpr(), ((UnaryPreIncrementExpr) e).getIncr());
+		else if (e instanceof UnaryPostIncrementExpr)
+			return increment(((UnaryPostIncrementExpr) e).getExpr(), ((UnaryPostIncrementExpr) e).getIncr());
+		else if (e instanceof BinaryAssignListExpr) {
+			/* list($a, $b) = $value */
+			ListHeadExpr head = ((BinaryAssignListExpr) e).getListHead();
+			Expr[] vars = head.getVarList();
+			Value[] keys = head.getKeyList();
+			String list = "list" + (++labels);
+			StringBuilder sb = new StringBuilder("val " + list + ": ref = " + plain(((BinaryAssignListExpr) e).getValue()));
+			for (int i = 0; i < vars.length; i++) {
+				if (vars[i] == null)
+					continue;
+				String key = keys != null && keys[i] != null ? literal(keys[i]).s : String.valueOf(i);
+				sb.append("; ").append(assign(vars[i], list + "(" + key + ")"));
+			}
+			return sb.toString();
+		}
+		else if (e instanceof VarUnsetExpr)
+			return assign(((VarUnsetExpr) e).getVar(), "undef");
+		else if (e instanceof UnaryUnsetExpr)
+			return assign(((UnaryUnsetExpr) e).getVar(), "undef");
+		else if (e instanceof BinaryCommaExpr)
+			return topExpr(((BinaryCommaExpr) e).getLeft()) + "; " + topExpr(((BinaryCommaExpr) e).getRight());
+		else
+			return plain(e);
+	}
+
+	private String compound(String name, Expr value) {
+		/* $x op= y arrives from the parser as $x = $x op y */
+		if (value instanceof BinaryAppendExpr && name.equals(inference.varName(((BinaryAppendExpr) value).getValue()))) {
+			BinaryAppendExpr rest = ((BinaryAppendExpr) value).getNext();
+			if (rest == null)
+				return null;
+			/* +=& is not a Scala assignment operator, so it binds like +& */
+			if (type(name).equals(inference.STRING))
+				return id(name) + " = " + id(name) + " +& " + plain(rest);
+			else if (rest.getNext() == null)
+				return id(name) + " +=& " + operand(rest.getValue(), precedence("+=&"), true);
+			return id(name) + " +=& (" + plain(rest) + ")";
+		}
+
+		String op = OPERATORS.get(value.getClass());
+		if (op == null || !(value instanceof AbstractBinaryExpr) || precedence(op) < 60
+			|| !name.equals(inference.varName(((AbstractBinaryExpr) value).getLeft())))
+			return null;
+		if (op.equals("/") && inference.isNative(type(name)))
+			return null; // PHP division is not integer division
+		return id(name) + " " + op + "= " + plain(((AbstractBinaryExpr) value).getRight());
+	}
+}
@@ -0,0 +1,620 @@
+package converter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.caucho.quercus.env.DoubleValue;
+import com.caucho.quercus.env.LongValue;
+import com.caucho.quercus.env.StringValue;
+import com.caucho.quercus.env.Value;
+import com.caucho.quercus.expr.*;
+import com.caucho.quercus.program.Arg;
+import com.caucho.quercus.program.Function;
+import com.caucho.quercus.statement.*;
+
+/**
+ * Static type inference over a function body (or the top-level script),
+ * following the rules of php-to-scala.php: a variable gets a native Scala
+ * type (Int, Long, Double or String) when its first occurrence is a
+ * statement-level assignment, every other occurrence is inside the block
+ * holding that assignment, and every assignment or increment keeps the
+ * type. Variables that are indexed, passed or assigned by reference, bound
+ * by list/foreach/global/static, or assigned anything that cannot be typed
+ * fall back to ref, as do variables used as a condition, compared with
+ * ==/!= against anything but a literal, or passed to a phplib builtin.
+ * Integer arithmetic is typed Long, and integer variables and return types
+ * are kept in a Long, as Quercus' 64-bit LongValue would give.
+ */
+final class inference {
+
+	static final String REF = "ref";
+	static final String INT = "Int";
+	static final String LONG = "Long";
+	static final String DOUBLE = "Double";
+	static final String STRING = "String";
+
+	private static final Set<String> UNTYPED = set(REF, null);
+	private static final Set<String> NUMERIC = set(REF, null, INT, LONG, DOUBLE);
+	private static final Set<String> STRINGY = set(REF, null, STRING);
+
+	/* stand-in right hand side for ++ and -- */
+	private static final Object INCREMENT = new Object();
+
+	/* by-reference argument positions of common phplib builtins */
+	private static final Map<String, BitSet> BYREF_BUILTINS = new HashMap<String, BitSet>();
+
+	static {
+		byref("preg_match", 2);
+		byref("preg_match_all", 2);
+		byref("preg_replace", 4);
+		byref("str_replace", 3);
+		byref("str_ireplace", 3);
+		byref("similar_text", 2);
+		byref("parse_str", 1);
+		byref("exec", 1, 2);
+		byref("settype", 0);
+		for (String name : new String[] { "sort", "rsort", "usort", "uasort", "uksort", "asort", "arsort",
+										  "ksort", "krsort", "natsort", "natcasesort", "shuffle", "array_push",
+										  "array_pop", "array_shift", "array_unshift", "array_splice",
+										  "array_walk", "end", "reset", "next", "prev", "each" })
+			byref(name, 0);
+	}
+
+	private final Map<String, String> ftypes;
+	private final Map<String, BitSet> byref;
+
+	private final Map<String, String> types = new LinkedHashMap<String, String>();
+	private final Set<String> dynamic = new HashSet<String>();
+	private final Map<String, List<Integer>> declared = new HashMap<String, List<Integer>>();
+	private final ArrayList<Integer> blocks = new ArrayList<Integer>();
+	private final ArrayList<Object[]> facts = new ArrayList<Object[]>();
+	private final ArrayList<Object[]> checks = new ArrayList<Object[]>();
+	private int blockId;
+	private int builtinArgs;
+	private boolean allDynamic;
+
+	/**
+	 * @param ftypes return types of the functions defined in the file; a
+	 *        call to any other function is a call to a phplib builtin
+	 * @param byref by-reference parameter positions, by lower-case function
+	 *        or method name, from {@link #byref(Collection)}
+	 */
+	inference(Map<String, String> ftypes, Map<String, BitSet> byref) {
+		this.ftypes = ftypes;
+		this.byref = byref;
+	}
+
+	private static void byref(String name, int... positions) {
+		BitSet set = new BitSet();
+		for (int i : positions)
+			set.set(i);
+		BYREF_BUILTINS.put(name, set);
+	}
+
+	/**
+	 * The by-reference parameter positions of the builtins and of the given
+	 * functions and methods. Methods are matched by name only, since the
+	 * class of the object is not known.
+	 */
+	static Map<String, BitSet> byref(Collection<Function> functions) {
+		Map<String, BitSet> map = new HashMap<String, BitSet>();
+		for (Map.Entry<String, BitSet> e : BYREF_BUILTINS.entrySet())
+			map.put(e.getKey(), (BitSet) e.getValue().clone());
+
+		for (Function f : functions) {
+			Arg[] args = f.getArgs();
+			for (int i = 0; i < args.length; i++) {
+				if (args[i].isReference()) {
+					String name = f.getName().toLowerCase();
+					if (!map.containsKey(name))
+						map.put(name, new BitSet());
+					map.get(name).set(i);
+				}
+			}
+		}
+		return map;
+	}
+
+	private static Set<String> set(String... names) {
+		return new HashSet<String>(Arrays.asList(names));
+	}
+
+	static boolean isGlobal(String name) {
+		return name.equals("argv") || name.equals("_GLOBALS") || name.equals("_SERVER")
+			|| name.equals("_SESSION") || name.equals("_GET");
+	}
+
+	static boolean isNative(String type) {
+		return INT.equals(type) || LONG.equals(type) || DOUBLE.equals(type);
+	}
+
+	static String varName(Expr e) {
+		return e instanceof VarExpr ? ((VarExpr) e).getName().toString() : null;
+	}
+
+	/** Integers are kept in a Long, so native arithmetic is 64-bit. */
+	static String nativeType(String type) {
+		return INT.equals(type) ? LONG : type;
+	}
+
+	/**
+	 * Infers the variables of one scope. The fixed names (parameters, and
+	 * globals shared with the script's functions) stay ref.
+	 */
+	Map<String, String> infer(Statement body, Collection<String> fixed) {
+		for (String name : fixed)
+			dynamic.add(name);
+
+		if (body != null)
+			stmt(body);
+
+		boolean violated;
+		do {
+			for (String name : types.keySet()) {
+				if (allDynamic || dynamic.contains(name))
+					types.put(name, REF);
+			}
+
+			boolean changed;
+			do {
+				changed = false;
+				for (Object[] f : facts) {
+					String name = (String) f[0];
+					String rhs = f[1] == INCREMENT
+						? arith(types.get(name), INT, false)
+						: exprType((Expr) f[1], types);
+					String type = join(types.get(name), rhs);
+					if (type != null && !type.equals(types.get(name))) {
+						types.put(name, type);
+						changed = true;
+					}
+				}
+			} while (changed);
+
+			violated = false;
+			for (Object[] c : checks) {
+				String name = (String) c[0];
+				if (!((Set<?>) c[1]).contains(types.get(name)) && !dynamic.contains(name)) {
+					dynamic.add(name);
+					violated = true;
+				}
+			}
+		} while (violated);
+
+		for (Map.Entry<String, String> e : types.entrySet())
+			e.setValue(e.getValue() == null ? REF : nativeType(e.getValue()));
+		return types;
+	}
+
+	//
+	// type algebra
+	//
+
+	static String join(String a, String b) {
+		if (a == null)
+			return b;
+		if (b == null || a.equals(b))
+			return a;
+		if ((a.equals(INT) && b.equals(LONG)) || (a.equals(LONG) && b.equals(INT)))
+			return LONG;
+		return REF;
+	}
+
+	/** Int + - * Int is Long, since the product or sum may not fit an Int. */
+	private static String arith(String a, String b, boolean isMod) {
+		if (a == null)
+			return b == null || isNative(b) ? b : REF;
+		if (b == null)
+			return isNative(a) ? a : REF;
+		if (!isNative(a) || !isNative(b))
+			return REF;
+
+		String result;
+		if (a.equals(DOUBLE) || b.equals(DOUBLE))
+			result = DOUBLE;
+		else if (a.equals(LONG) || b.equals(LONG))
+			result = LONG;
+		else
+			result = isMod ? INT : LONG;
+
+		return isMod && result.equals(DOUBLE) ? REF : result;
+	}
+
+	static String literalType(long v) {
+		return v > Integer.MAX_VALUE || v < Integer.MIN_VALUE ? LONG : INT;
+	}
+
+	static String literalType(Value v) {
+		if (v instanceof LongValue)
+			return literalType(v.toLong());
+		else if (v instanceof DoubleValue)
+			return DOUBLE;
+		else if (v instanceof StringValue)
+			return STRING;
+		else
+			return REF;
+	}
+
+	/** null while the operands are not inferred yet */
+	String exprType(Expr e, Map<String, String> types) {
+		if (e instanceof LiteralLongExpr)
+			return literalType(((LiteralLongExpr) e).getValue());
+		else if (e instanceof LiteralExpr)
+			return literalType(e.evalConstant());
+		else if (e instanceof LiteralStringExpr || e instanceof LiteralUnicodeExpr
+				 || e instanceof ConstFileExpr || e instanceof ConstDirExpr)
+			return STRING;
+		else if (e instanceof VarExpr) {
+			String name = varName(e);
+			return types.containsKey(name) ? types.get(name) : REF;
+		}
+		else if (e instanceof BinaryAddExpr || e instanceof BinarySubExpr || e instanceof BinaryMulExpr
+				 || e instanceof BinaryModExpr) {
+			AbstractBinaryExpr b = (AbstractBinaryExpr) e;
+			return arith(exprType(b.getLeft(), types), exprType(b.getRight(), types), e instanceof BinaryModExpr);
+		}
+		else if (e instanceof UnaryMinusExpr || e instanceof UnaryPlusExpr) {
+			String type = exprType(((AbstractUnaryExpr) e).getExpr(), types);
+			return type == null || isNative(type) ? type : REF;
+		}
+		else if (e instanceof BinaryAppendExpr)
+			return STRING;
+		else if (e instanceof CallExpr) {
+			String type = ftypes.get(((CallExpr) e).getName());
+			return type == null ? REF : type;
+		}
+		else
+			return REF;
+	}
+
+	//
+	// scope walk
+	//
+
+	private void use(String name, boolean assigned) {
+		if (name == null || name.equals("this") || isGlobal(name))
+			return;
+
+		if (!types.containsKey(name)) {
+			types.put(name, null);
+			declared.put(name, new ArrayList<Integer>(blocks));
+			if (!assigned)
+				dynamic.add(name); // may be read before it is assigned
+		}
+		else {
+			List<Integer> outer = declared.get(name);
+			if (outer.size() > blocks.size() || !blocks.subList(0, outer.size()).equals(outer))
+				dynamic.add(name); // used outside the block that assigns it
+		}
+
+		if (builtinArgs > 0)
+			checks.add(new Object[] { name, STRINGY });
+	}
+
+	private void bind(Expr e) {
+		/* variables bound by reference, list(), foreach, global and static stay dynamic */
+		if (e instanceof VarExpr) {
+			use(varName(e), true);
+			dynamic.add(varName(e));
+		}
+		else if (e instanceof ListHeadExpr) {
+			for (Expr v : ((ListHeadExpr) e).getVarList()) {
+				if (v != null)
+					bind(v);
+			}
+		}
+		else if (e != null)
+			expr(e);
+	}
+
+	private void condition(Expr e) {
+		if (e instanceof VarExpr)
+			checks.add(new Object[] { varName(e), UNTYPED });
+	}
+
+	private void equality(Expr var, Expr other) {
+		if (!(var instanceof VarExpr))
+			return;
+		if (other instanceof LiteralLongExpr
+			|| (other instanceof LiteralExpr && isNative(literalType(other.evalConstant()))))
+			checks.add(new Object[] { varName(var), NUMERIC });
+		else if (other instanceof LiteralStringExpr || other instanceof LiteralUnicodeExpr)
+			checks.add(new Object[] { varName(var), STRINGY });
+		else
+			checks.add(new Object[] { varName(var), UNTYPED });
+	}
+
+	private static boolean isCompound(String name, Expr value) {
+		/* $x op= y arrives as $x = $x op y */
+		if (value instanceof AbstractBinaryExpr)
+			return name.equals(varName(((AbstractBinaryExpr) value).getLeft()));
+		if (value instanceof BinaryAppendExpr)
+			return name.equals(varName(((BinaryAppendExpr) value).getValue()));
+		return false;
+	}
+
+	private void assign(Expr var, Expr value, boolean statement) {
+		String name = varName(var);
+		use(name, statement && !isCompound(name, value));
+		expr(value);
+		facts.add(new Object[] { name, value });
+	}
+
+	private void body(Statement s) {
+		blocks.add(++blockId);
+		stmt(s);
+		blocks.remove(blocks.size() - 1);
+	}
+
+	private void stmt(Statement s) {
+		try {
+			statement(s);
+		} catch (unsupported e) {
+			throw e.at(ast.line(s));
+		}
+	}
+
+	private void statement(Statement s) {
+		if (s instanceof BlockStatement) {
+			for (Statement child : ((BlockStatement) s).getStatements())
+				stmt(child);
+		}
+		else if (s instanceof ExprStatement)
+			topExpr(((ExprStatement) s).getExpr());
+		else if (s instanceof EchoStatement)
+			expr(((EchoStatement) s).getExpr());
+		else if (s instanceof IfStatement) {
+			IfStatement i = (IfStatement) s;
+			condition(i.getTest());
+			expr(i.getTest());
+			body(i.getTrueBlock());
+			if (i.getFalseBlock() != null)
+				body(i.getFalseBlock());
+		}
+		else if (s instanceof WhileStatement) {
+			Expr test = ((WhileStatement) s).getTest();
+			condition(test);
+			expr(test);
+			body(((WhileStatement) s).getBlock());
+		}
+		else if (s instanceof DoStatement) {
+			body(((DoStatement) s).getBlock());
+			Expr test = ((DoStatement) s).getTest();
+			condition(test);
+			expr(test);
+		}
+		else if (s instanceof ForStatement) {
+			ForStatement f = (ForStatement) s;
+			if (f.getInit() != null)
+				topExpr(f.getInit());
+			if (f.getTest() != null) {
+				condition(f.getTest());
+				expr(f.getTest());
+			}
+			if (f.getIncr() != null)
+				topExpr(f.getIncr());
+			body(f.getBlock());
+		}
+		else if (s instanceof ForeachStatement) {
+			ForeachStatement f = (ForeachStatement) s;
+			expr(f.getObjExpr());
+			bind(f.getKey());
+			bind(f.getValue());
+			body(f.getBlock());
+		}
+		else if (s instanceof SwitchStatement) {
+			SwitchStatement sw = (SwitchStatement) s;
+			expr(sw.getValue());
+			Expr[][] cases = sw.getCases();
+			Statement[] blocks = sw.getBlocks();
+			for (int i = 0; i < cases.length; i++) {
+				for (Expr c : cases[i])
+					expr(c);
+				body(blocks[i]);
+			}
+			if (sw.getDefaultBlock() != null)
+				body(sw.getDefaultBlock());
+		}
+		else if (s instanceof ReturnStatement)
+			expr(((ReturnStatement) s).getExpr());
+		else if (s instanceof GlobalStatement)
+			bind(((GlobalStatement) s).getVar());
+		else if (s instanceof StaticStatement)
+			bind(((StaticStatement) s).getVar());
+		else if (s instanceof ThrowStatement)
+			expr(((ThrowStatement) s).getExpr());
+		else if (s instanceof TryStatement) {
+			body(((TryStatement) s).getBlock());
+			for (TryStatement.Catch c : ((TryStatement) s).getCatchList()) {
+				bind(c.getExpr());
+				body(c.getBlock());
+			}
+		}
+	}
+
+	private void topExpr(Expr e) {
+		if (e instanceof BinaryAssignExpr && ((BinaryAssignExpr) e).getVar() instanceof VarExpr)
+			assign(((BinaryAssignExpr) e).getVar(), ((BinaryAssignExpr) e).getValue(), true);
+		else if (e instanceof BinaryCommaExpr) {
+			topExpr(((BinaryCommaExpr) e).getLeft());
+			topExpr(((BinaryCommaExpr) e).getRight());
+		}
+		else
+			expr(e);
+	}
+
+	private void args(String name, Expr[] args, boolean builtin) {
+		/* a variable passed to a by-reference parameter may be changed to any type */
+		BitSet positions = byref.get(name.toLowerCase());
+		if (builtin)
+			builtinArgs++;
+		for (int i = 0; i < args.length; i++) {
+			if (positions != null && positions.get(i) && args[i] instanceof VarExpr)
+				bind(args[i]);
+			else
+				expr(args[i]);
+		}
+		if (builtin)
+			builtinArgs--;
+	}
+
+	private void expr(Expr e) {
+		if (e == null)
+			return;
+
+		if (e instanceof VarExpr)
+			use(varName(e), false);
+		else if (e instanceof VarVarExpr) {
+			allDynamic = true;
+			expr(((VarVarExpr) e).getExpr());
+		}
+		else if (e instanceof BinaryAssignExpr) {
+			Expr var = ((BinaryAssignExpr) e).getVar();
+			if (var instanceof VarExpr)
+				assign(var, ((BinaryAssignExpr) e).getValue(), false);
+			else {
+				expr(var);
+				expr(((BinaryAssignExpr) e).getValue());
+			}
+		}
+		else if (e instanceof BinaryAssignRefExpr) {
+			bind(((BinaryAssignRefExpr) e).getVar());
+			bind(((BinaryAssignRefExpr) e).getValue());
+		}
+		else if (e instanceof BinaryAssignListExpr) {
+			bind(((BinaryAssignListExpr) e).getListHead());
+			expr(((BinaryAssignListExpr) e).getValue());
+		}
+		else if (e instanceof UnaryRefExpr)
+			bind(((UnaryRefExpr) e).getExpr());
+		else if (e instanceof UnaryPreIncrementExpr || e instanceof UnaryPostIncrementExpr) {
+			Expr var = ((AbstractUnaryExpr) e).getExpr();
+			if (var instanceof VarExpr) {
+				use(varName(var), false);
+				facts.add(new Object[] { varName(var), INCREMENT });
+			}
+			else
+				expr(var);
+		}
+		else if (e instanceof ArrayGetExpr || e instanceof ArrayTailExpr || e instanceof ArrayIsSetExpr
+				 || e instanceof ArrayUnsetExpr) {
+			/* the array is the first child, the index (if any) the second */
+			List<Object> children = ast.children(e);
+			bind((Expr) children.get(0));
+			if (children.size() > 1)
+				expr((Expr) children.get(1));
+		}
+		else if (e instanceof ObjectFieldExpr)
+			bind(((ObjectFieldExpr) e).getObjExpr());
+		else if (e instanceof ObjectMethodExpr) {
+			ObjectMethodExpr m = (ObjectMethodExpr) e;
+			bind(m.getObjExpr());
+			args(m.getName(), m.getArgs(), false);
+		}
+		else if (e instanceof ClassMethodExpr)
+			args(((ClassMethodExpr) e).getName(), ((ClassMethodExpr) e).getArgs(), false);
+		else if (e instanceof CallVarExpr) {
+			/* a variable holding a callback is called through ref */
+			bind(((CallVarExpr) e).getName());
+			for (Expr arg : ((CallVarExpr) e).getArgs())
+				expr(arg);
+		}
+		else if (e instanceof VarUnsetExpr)
+			bind(((VarUnsetExpr) e).getVar());
+		else if (e instanceof UnaryUnsetExpr)
+			bind(((UnaryUnsetExpr) e).getVar());
+		else if (e instanceof CallExpr) {
+			String name = ((CallExpr) e).getName();
+			if (name.equals("extract") || name.equals("compact") || name.equals("get_defined_vars")
+				|| name.equals("parse_str"))
+				allDynamic = true;
+
+			args(name, ((CallExpr) e).getArgs(), !ftypes.containsKey(name) && !name.equals("print"));
+		}
+		else if (e instanceof UnaryNotExpr) {
+			condition(((UnaryNotExpr) e).getExpr());
+			expr(((UnaryNotExpr) e).getExpr());
+		}
+		else if (e instanceof BinaryAndExpr || e instanceof BinaryOrExpr || e instanceof BinaryXorExpr) {
+			AbstractBinaryExpr b = (AbstractBinaryExpr) e;
+			condition(b.getLeft());
+			condition(b.getRight());
+			expr(b.getLeft());
+			expr(b.getRight());
+		}
+		else if (e instanceof BinaryEqExpr || e instanceof BinaryNeqExpr || e instanceof BinaryEqualsExpr) {
+			AbstractBinaryExpr b = (AbstractBinaryExpr) e;
+			equality(b.getLeft(), b.getRight());
+			equality(b.getRight(), b.getLeft());
+			expr(b.getLeft());
+			expr(b.getRight());
+		}
+		else if (e instanceof ConditionalExpr) {
+			condition(((ConditionalExpr) e).getTest());
+			children(e);
+		}
+		else if (e instanceof ConditionalShortExpr) {
+			condition(((ConditionalShortExpr) e).getTest());
+			children(e);
+		}
+		else
+			children(e);
+	}
+
+	private void children(Expr e) {
+		/* any other node: visit its sub-expressions in source order */
+		for (Object child : ast.children(e)) {
+			if (child instanceof Expr)
+				expr((Expr) child);
+		}
+	}
+
+	//
+	// function return types
+	//
+
+	private static void returns(Statement s, List<Expr> out) {
+		if (s instanceof ReturnStatement)
+			out.add(((ReturnStatement) s).getExpr());
+		else if (!(s instanceof FunctionDefStatement) && !(s instanceof ClassDefStatement)) {
+			for (Object child : ast.children(s)) {
+				if (child instanceof Statement)
+					returns((Statement) child, out);
+			}
+		}
+	}
+
+	static List<Expr> returns(Statement body) {
+		List<Expr> out = new ArrayList<Expr>();
+		returns(body, out);
+		return out;
+	}
+
+	static Statement last(Statement body) {
+		if (body instanceof BlockStatement) {
+			Statement[] list = ((BlockStatement) body).getStatements();
+			return list.length == 0 ? null : last(list[list.length - 1]);
+		}
+		return body;
+	}
+
+	/**
+	 * A native return type needs every return typed alike, and a return as
+	 * the last statement.
+	 */
+	String returnType(Statement body, Collection<String> fixed) {
+		Map<String, String> types = infer(body, fixed);
+		String result = null;
+		for (Expr e : returns(body))
+			result = join(result, e == null ? REF : exprType(e, types));
+		return result == null || !(last(body) instanceof ReturnStatement) ? REF : nativeType(result);
+	}
+}
@@ -0,0 +1,23 @@
+package converter;
+
+/**
+ * A construct the converter has no Scala translation for. The line is the
+ * source line of the node, or of the enclosing statement when the parser
+ * gave the node no location of its own.
+ */
+final class unsupported extends RuntimeException {
+
+	final int line;
+	final String what;
+
+	unsupported(int line, String what) {
+		super("line " + line + ": cannot convert " + what);
+		this.line = line;
+		this.what = what;
+	}
+
+	/** A node without a line reports the line of the statement around it. */
+	unsupported at(int line) {
+		return this.line > 0 || line <= 0 ? this : new unsupported(line, what);
+	}
+}
@@ -0,0 +1,407 @@
+package mklib;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.caucho.quercus.annotation.Hide;
+import com.caucho.quercus.annotation.Name;
+import com.caucho.quercus.annotation.Optional;
+import com.caucho.quercus.env.Env;
+import com.caucho.quercus.env.StringValue;
+import com.caucho.quercus.env.Value;
+import com.caucho.quercus.module.AbstractQuercusModule;
+
+/**
+ * Generates the phplib bindings from the Quercus modules on the classpath,
+ * replacing the regex scrape of the module sources.
+ *
+ * usage: java mklib.mklib outdir
+ *
+ * Modules are found the way Quercus finds them, through
+ * META-INF/services/com.caucho.quercus.QuercusModule, and every public static
+ * function they export becomes a method of two generated classes:
+ *
+ * phplib.java has one binding per module function with its exact Java
+ * signature (Env supplied from the script), plus shorter overloads for
+ * trailing @Optional parameters whose default can be written in Java.
+ *
+ * direct.java has the same functions with Value and StringValue parameters
+ * replaced by long/double/String, so calls whose arguments are already
+ * native Scala values skip the ref layer. Return types are the module's own,
+ * so functions returning int/long/double/boolean/String return primitives.
+ * It extends the hand-written phplib.intrinsics and leaves out the
+ * signatures implemented there.
+ */
+public class mklib {
+
+	private static final String SERVICES = "META-INF/services/com.caucho.quercus.QuercusModule";
+
+	private static final Set<String> KEYWORDS = new HashSet<String>(Arrays.asList(
+		"abstract", "assert", "boolean", "break", "byte", "case", "catch", "char", "class", "const",
+		"continue", "default", "do", "double", "else", "enum", "extends", "final", "finally", "float",
+		"for", "goto", "if", "implements", "import", "instanceof", "int", "interface", "long", "native",
+		"new", "package", "private", "protected", "public", "return", "short", "static", "strictfp",
+		"super", "switch", "synchronized", "this", "throw", "throws", "transient", "try", "void",
+		"volatile", "while", "true", "false", "null"));
+
+	/* replacements for a Value parameter in direct.java */
+	private static final Class<?>[] VALUE_KINDS = { long.class, double.class, String.class };
+	private static final Class<?>[] STRING_KINDS = { String.class };
+
+	/* more Value parameters than this would make too many direct overloads */
+	private static final int MAX_DIRECT = 3;
+
+	private final PrintWriter out;
+	private final Set<String> seen = new HashSet<String>();
+
+	/* name/arity pairs implemented by phplib.intrinsics */
+	private final Set<String> intrinsic = new HashSet<String>();
+	private final boolean direct;
+
+	private mklib(PrintWriter out, boolean direct) {
+		this.out = out;
+		this.direct = direct;
+	}
+
+	public static void main(String[] argv) throws Exception {
+		if (argv.length != 1) {
+			System.err.println("usage: java mklib.mklib outdir");
+			System.exit(1);
+		}
+
+		List<Class<?>> modules = modules();
+		String date = new Date().toString();
+
+		PrintWriter lib = open(new File(argv[0], "phplib.java"));
+		header(lib, date, "phplib", null);
+		mklib exact = new mklib(lib, false);
+		for (Class<?> module : modules)
+			exact.module(module);
+		lib.println("}");
+		lib.close();
+
+		PrintWriter dir = open(new File(argv[0], "direct.java"));
+		header(dir, date, "direct", "intrinsics");
+		mklib fast = new mklib(dir, true);
+		try {
+			for (Method m : Class.forName("phplib.intrinsics").getDeclaredMethods())
+				fast.intrinsic.add(m.getName() + "/" + m.getParameterTypes().length);
+		} catch (ClassNotFoundException e) {
+			System.err.println("mklib: phplib.intrinsics is not compiled, generating without it");
+		}
+		for (Class<?> module : modules)
+			fast.module(module);
+		dir.println("}");
+		dir.close();
+	}
+
+	private static PrintWriter open(File file) throws Exception {
+		return new PrintWriter(new OutputStreamWriter(new FileOutputStream(file), "UTF-8"));
+	}
+
+	private static void header(PrintWriter out, String date, String name, String parent) {
+		out.println("// generated by mklib.mklib on " + date);
+		out.println("package phplib;");
+		out.println();
+		out.println("import com.caucho.quercus.env.*;");
+		out.println();
+		if (parent == null) {
+			out.println("public class " + name + " {");
+			out.println();
+			out.println("  private final Env quercus_context;");
+			out.println();
+			out.println("  public " + name + "(Env env) {");
+			out.println("    this.quercus_context = env;");
+			out.println("  }");
+		}
+		else {
+			out.println("public class " + name + " extends " + parent + " {");
+			out.println();
+			out.println("  public " + name + "(Env env) {");
+			out.println("    super(env);");
+			out.println("  }");
+		}
+	}
+
+	/** The module classes Quercus would load, sorted by name so the output is stable. */
+	private static List<Class<?>> modules() throws Exception {
+		ClassLoader loader = mklib.class.getClassLoader();
+		TreeSet<String> names = new TreeSet<String>();
+
+		Enumeration<URL> e = loader.getResources(SERVICES);
+		while (e.hasMoreElements()) {
+			BufferedReader in = new BufferedReader(new InputStreamReader(e.nextElement().openStream(), "UTF-8"));
+			try {
+				String line;
+				while ((line = in.readLine()) != null) {
+					int p = line.indexOf('#');
+					if (p >= 0)
+						line = line.substring(0, p);
+					if (line.trim().length() > 0)
+						names.add(line.trim());
+				}
+			} finally {
+				in.close();
+			}
+		}
+
+		List<Class<?>> modules = new ArrayList<Class<?>>();
+		for (String name : names) {
+			try {
+				Class<?> cl = Class.forName(name, false, loader);
+				if (AbstractQuercusModule.class.isAssignableFrom(cl))
+					modules.add(cl);
+			} catch (Throwable t) {
+				// a module whose optional dependencies are missing, as in QuercusContext
+				System.err.println("mklib: skipping " + name + ": " + t);
+			}
+		}
+		return modules;
+	}
+
+	/** The functions of one module, selected as in com.caucho.quercus.module.ModuleInfo. */
+	private void module(Class<?> module) {
+		List<Method> methods = new ArrayList<Method>();
+		for (Method m : module.getMethods()) {
+			if (m.getDeclaringClass().equals(Object.class)
+				|| m.getDeclaringClass().isAssignableFrom(AbstractQuercusModule.class)
+				|| !Modifier.isStatic(m.getModifiers())
+				|| m.getAnnotation(Hide.class) != null
+				|| hasCheckedException(m)
+				|| m.getName().equals("getLoadedExtensions"))
+				continue;
+			methods.add(m);
+		}
+
+		/* getMethods() has no defined order */
+		Collections.sort(methods, new Comparator<Method>() {
+			public int compare(Method a, Method b) {
+				int cmp = a.getName().compareTo(b.getName());
+				if (cmp == 0)
+					cmp = Arrays.toString(a.getParameterTypes()).compareTo(Arrays.toString(b.getParameterTypes()));
+				return cmp;
+			}
+		});
+
+		for (Method m : methods) {
+			try {
+				function(m);
+			} catch (NoClassDefFoundError e) {
+				System.err.println("mklib: skipping " + module.getName() + "." + m.getName() + ": " + e);
+			}
+		}
+	}
+
+	private static boolean hasCheckedException(Method m) {
+		for (Class<?> ex : m.getExceptionTypes()) {
+			if (!RuntimeException.class.isAssignableFrom(ex) && !Error.class.isAssignableFrom(ex))
+				return true;
+		}
+		return false;
+	}
+
+	private static String functionName(Method m) {
+		Name name = m.getAnnotation(Name.class);
+		String s = name != null ? name.value() : m.getName();
+		return s.matches("[A-Za-z_][A-Za-z0-9_]*") && !KEYWORDS.contains(s) ? s : null;
+	}
+
+	private static String typeName(Class<?> type) {
+		if (type.isArray())
+			return typeName(type.getComponentType()) + "[]";
+		String name = type.getName().replace('$', '.');
+		return name.startsWith("java.lang.") && name.indexOf('.', 10) < 0 ? name.substring(10) : name;
+	}
+
+	private static String signature(String name, Class<?>[] params) {
+		StringBuilder sb = new StringBuilder(name).append('(');
+		for (Class<?> p : params) {
+			if (p != Env.class)
+				sb.append(typeName(p)).append(',');
+		}
+		return sb.append(')').toString();
+	}
+
+	private static Optional optional(Annotation[] anns) {
+		for (Annotation a : anns) {
+			if (a instanceof Optional)
+				return (Optional) a;
+		}
+		return null;
+	}
+
+	/**
+	 * Java source for the value Quercus passes for an omitted @Optional
+	 * argument, or null where the marshalled default has no literal form.
+	 */
+	private static String defaultValue(Class<?> type, Optional opt) {
+		String v = opt.value();
+
+		if (v.equals(Optional.NOT_SET)) {
+			if (type == Value.class)
+				return "DefaultValue.DEFAULT";
+			else if (type == int.class || type == long.class || type == short.class || type == byte.class)
+				return "0";
+			else if (type == double.class)
+				return "0.0";
+			else if (type == float.class)
+				return "0.0f";
+			else if (type == boolean.class)
+				return "false";
+			return null;
+		}
+		else if (v.equals("")) {
+			if (type == Value.class || type == StringValue.class)
+				return "StringValue.EMPTY";
+			else if (type == String.class)
+				return "\"\"";
+			return null;
+		}
+		else if (v.matches("-?[0-9]+")) {
+			if (type == int.class || type == short.class || type == byte.class)
+				return v;
+			else if (type == long.class)
+				return v + "L";
+			else if (type == double.class)
+				return v + ".0";
+			else if (type == float.class)
+				return v + ".0f";
+			else if (type == Value.class)
+				return "LongValue.create(" + v + "L)";
+			return null;
+		}
+		else if (v.equalsIgnoreCase("true") || v.equalsIgnoreCase("false")) {
+			boolean b = v.equalsIgnoreCase("true");
+			if (type == boolean.class)
+				return String.valueOf(b);
+			else if (type == Value.class)
+				return b ? "BooleanValue.TRUE" : "BooleanValue.FALSE";
+			return null;
+		}
+		return null;
+	}
+
+	/** An argument of the Scala-facing type, converted to the module's parameter type. */
+	private static String convert(Class<?> kind, Class<?> type, String arg) {
+		if (kind == type)
+			return arg;
+		else if (kind == long.class)
+			return "LongValue.create(" + arg + ")";
+		else if (kind == double.class)
+			return "DoubleValue.create(" + arg + ")";
+		else
+			return "quercus_context.createString(" + arg + ")";
+	}
+
+	private void function(Method m) {
+		String name = functionName(m);
+		if (name == null)
+			return;
+
+		Class<?>[] types = m.getParameterTypes();
+		Annotation[][] anns = m.getParameterAnnotations();
+
+		if (!direct) {
+			binding(m, name, types, types, anns);
+			return;
+		}
+
+		/* every combination of replacements for the Value/StringValue parameters */
+		List<Integer> values = new ArrayList<Integer>();
+		for (int i = 0; i < types.length; i++) {
+			if (types[i] == Value.class || types[i] == StringValue.class)
+				values.add(i);
+		}
+		if (values.isEmpty() || values.size() > MAX_DIRECT || m.isVarArgs())
+			return;
+
+		int combinations = 1;
+		for (int i : values)
+			combinations *= types[i] == Value.class ? VALUE_KINDS.length : STRING_KINDS.length;
+
+		for (int c = 0; c < combinations; c++) {
+			Class<?>[] kinds = types.clone();
+			int rest = c;
+			for (int i : values) {
+				Class<?>[] choice = types[i] == Value.class ? VALUE_KINDS : STRING_KINDS;
+				kinds[i] = choice[rest % choice.length];
+				rest /= choice.length;
+			}
+			binding(m, name, types, kinds, anns);
+		}
+	}
+
+	/**
+	 * Writes the binding for one parameter list, then one overload per
+	 * trailing @Optional parameter that can be left out.
+	 */
+	private void binding(Method m, String name, Class<?>[] types, Class<?>[] kinds, Annotation[][] anns) {
+		String target = typeName(m.getDeclaringClass()) + "." + m.getName();
+		String ret = typeName(m.getReturnType());
+
+		for (int n = types.length; n >= 0; n--) {
+			StringBuilder params = new StringBuilder();
+			StringBuilder args = new StringBuilder();
+			int arity = 0;
+			boolean ok = true;
+
+			for (int i = 0; i < types.length && ok; i++) {
+				if (args.length() > 0)
+					args.append(", ");
+
+				if (types[i] == Env.class)
+					args.append("quercus_context");
+				else if (i < n) {
+					String type = typeName(kinds[i]);
+					if (m.isVarArgs() && i == types.length - 1)
+						type = typeName(kinds[i].getComponentType()) + "...";
+					if (params.length() > 0)
+						params.append(", ");
+					params.append(type).append(" a").append(i);
+					arity++;
+					args.append(convert(kinds[i], types[i], "a" + i));
+				}
+				else {
+					Optional opt = optional(anns[i]);
+					String def = opt == null ? null : defaultValue(types[i], opt);
+					ok = def != null;
+					args.append(def);
+				}
+			}
+			if (!ok)
+				break;
+
+			/* the first module function with a signature keeps it */
+			String sig = signature(name, Arrays.copyOf(kinds, n));
+			if (!intrinsic.contains(name + "/" + arity) && seen.add(sig)) {
+				out.println();
+				out.println("  /* " + typeName(m.getDeclaringClass()) + " : " + m.getName() + " */");
+				out.println("  final public " + ret + " " + name + "(" + params + ") {");
+				out.println("    " + (ret.equals("void") ? "" : "return ") + target + "(" + args + ");");
+				out.println("  }");
+			}
+
+			/* only a trailing @Optional parameter can be dropped next */
+			if (n == 0 || types[n - 1] == Env.class || optional(anns[n - 1]) == null)
+				break;
+		}
+	}
+}
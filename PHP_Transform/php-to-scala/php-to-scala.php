@@ -9,14 +9,112 @@
  * $Id: php-to-scala.php,v 1.14 2010-04-27 17:52:20 alex Exp $
  */
 
-$file = $argv[1];
-$code = trim(file_get_contents($file));
+if(realpath($argv[0]) == __FILE__) {
+	$file = $argv[1];
+	$code = trim(file_get_contents($file));
 
-$conv = new PhpToScala();
-echo $conv->convert($argv[0], $code, $file);
+	$conv = new PhpToScala();
+	try {
+		echo $conv->convert($argv[0], $code, $file);
+	}
+	catch(Exception $e) {
+		fwrite(STDERR, "$file: " . $e->getMessage() . "\n");
+		exit(1);
+	}
+}
+
+/**
+ * Forward cursor over a range of the token_get_all() result.
+ * Consuming a token only advances an index, and sub-ranges (blocks, expressions,
+ * lookahead) are views sharing the same token array, so the converter never pays
+ * the O(n) copy of array_shift/array_slice/array_splice per token.
+ */
+class TokenCursor implements ArrayAccess, Countable, IteratorAggregate {
+
+	var $tokens;
+	var $pos;
+	var $end;
+
+	function __construct($tokens, $pos = 0, $end = null) {
+		$this->tokens = $tokens;
+		$this->pos = $pos;
+		$this->end = $end === null ? count($tokens) : $end;
+	}
+
+	function shift() {
+		return $this->pos < $this->end ? $this->tokens[$this->pos++] : null;
+	}
+
+	function slice($offset) {
+		return new TokenCursor($this->tokens, min($this->pos + $offset, $this->end), $this->end);
+	}
+
+	function range($from, $to) { /* view over absolute positions [$from, $to) */
+		return new TokenCursor($this->tokens, $from, $to);
+	}
+
+	function count() {
+		return $this->end - $this->pos;
+	}
+
+	function offsetExists($i) {
+		return $this->pos + $i < $this->end;
+	}
+
+	function offsetGet($i) {
+		return $this->pos + $i < $this->end ? $this->tokens[$this->pos + $i] : null;
+	}
+
+	function offsetSet($i, $t) {
+		throw new Exception('token cursors are read-only');
+	}
+
+	function offsetUnset($i) {
+		throw new Exception('token cursors are read-only');
+	}
+
+	function getIterator() {
+		return new TokenIterator($this->tokens, $this->pos, $this->end);
+	}
+}
+
+class TokenIterator implements Iterator {
+
+	var $tokens;
+	var $start;
+	var $pos;
+	var $end;
+
+	function __construct($tokens, $start, $end) {
+		$this->tokens = $tokens;
+		$this->start = $this->pos = $start;
+		$this->end = $end;
+	}
+
+	function rewind() { $this->pos = $this->start; }
+	function valid() { return $this->pos < $this->end; }
+	function key() { return $this->pos - $this->start; }
+	function current() { return $this->tokens[$this->pos]; }
+	function next() { $this->pos++; }
+}
 
 class PhpToScala {
 
+	var $scopes = array();  // inferred variable types, innermost scope last
+	var $ftypes = array();  // inferred return types of global functions
+	var $byref = array();   // by-reference parameter positions of declared functions and methods
+	var $byref_builtins = array(  // by-reference argument positions of common phplib builtins
+		'preg_match' => array(2), 'preg_match_all' => array(2), 'preg_replace' => array(4),
+		'str_replace' => array(3), 'str_ireplace' => array(3), 'similar_text' => array(2),
+		'parse_str' => array(1), 'exec' => array(1, 2), 'settype' => array(0),
+		'sort' => array(0), 'rsort' => array(0), 'usort' => array(0), 'uasort' => array(0),
+		'uksort' => array(0), 'asort' => array(0), 'arsort' => array(0), 'ksort' => array(0),
+		'krsort' => array(0), 'natsort' => array(0), 'natcasesort' => array(0), 'shuffle' => array(0),
+		'array_push' => array(0), 'array_pop' => array(0), 'array_shift' => array(0),
+		'array_unshift' => array(0), 'array_splice' => array(0), 'array_walk' => array(0),
+		'end' => array(0), 'reset' => array(0), 'next' => array(0), 'prev' => array(0), 'each' => array(0));
+	var $in_class = 0;
+
 	function is_global($var) {
 	   return in_array($var, array('argv', '_GLOBALS', '_SERVER', '_SESSION', '_GET'));
 	}
@@ -30,7 +128,11 @@ class PhpToScala {
 		}
 	}
 
-	function contains(array $T, $ttype) {
+	function cursor($T) { /* private cursor for functions that consume a token list passed by value */
+		return $T instanceof TokenCursor ? $T->slice(0) : new TokenCursor($T);
+	}
+
+	function contains($T, $ttype) {
 		foreach($T as $t) {
 			if($this->match($t, $ttype)) {
 				return true;
@@ -41,16 +143,16 @@ class PhpToScala {
 
 	function skip(&$T, $ttype) {
 		while($this->match($T[0], $ttype)) {
-			array_shift($T);
+			$T->shift();
 		}
 	}
 
 	function skip_thru(&$T, $ttype) {
         while(!$this->match($T[0], $ttype)) {
         	if(!count($T)) throw new Exception();
-            array_shift($T);
+            $T->shift();
         }
-        array_shift($T);
+        $T->shift();
     }
 
 	function display($token) {
@@ -67,15 +169,16 @@ class PhpToScala {
 
 	function expect(&$T, $ttype) {
 		$this->skip($T, T_WHITESPACE);
-		$t = array_shift($T);
+		$t = $T->shift();
 		if(!$this->match($t, $ttype)) {
 			throw new Exception('Expected: ' . ($this->display($ttype)) . " got: " . ($this->display($t)));
 		}
 	}
 
 	function peek($T, $ttype) {
+        $T = $this->cursor($T);
         $this->skip($T, T_WHITESPACE);
-        $t = array_shift($T);
+        $t = $T->shift();
         return $this->match($t, $ttype);
     }
 
@@ -83,7 +186,7 @@ class PhpToScala {
 		$out = '';
 		while($T[0] !== ')' && $T[0] !== ';') {
 			if($T[0] === '(') {
-				array_shift($T);
+				$T->shift();
 				$out .= '(' . $this->parse_expr_tail($T) . ')';
 			}
 			else {
@@ -91,7 +194,7 @@ class PhpToScala {
 			}
 		}
 		if($T[0] != ';') {
-			array_shift($T);
+			$T->shift();
 		}
 		return $out;
 	}
@@ -100,60 +203,58 @@ class PhpToScala {
 		$out = '';
 		while(count($T) && $T[0] !== '}') {
 			if($T[0] === '{') {
-				array_shift($T);
+				$T->shift();
 				$out .= "{ " . $this->parse_block_tail($T) . " }";
 			}
 			else {
 				$out .= $this->parse($T);
 			}
 		}
-		array_shift($T);
+		$T->shift();
 		return $out;
 	}
 
-    function fetch_expr(&$T) {
-        $out = array();
-        while(count($T) && $T[0] !== ')' && $T[0] !== ';') {
-            if($T[0] === '(') {
-                array_shift($T);
-                $out []= '(';
-                array_splice($out, count($out), 0, $this->fetch_expr($T));
-                $out []= ')';
+    function fetch_expr(&$T) { /* view of the tokens up to the closing ')' or ';', which is consumed */
+        $start = $T->pos;
+        $depth = 0;
+        while(count($T) && ($depth || ($T[0] !== ')' && $T[0] !== ';'))) {
+            $t = $T->shift();
+            if($t === '(') {
+                $depth++;
             }
-            else {
-                $out []= array_shift($T);
+            else if($t === ')') {
+                $depth--;
             }
         }
-        array_shift($T);
+        $out = $T->range($start, $T->pos);
+        $T->shift();
         return $out;
     }
 
-	function fetch_block(&$T) {
-		$out = array();
-		while(count($T) && $T[0] != '}') {
-			$t = array_shift($T);
-			if($t == '{') {
-				$out[] = '{';
-				array_splice($out, count($out), 0, $this->fetch_block($T));
-				$out[] = '}';
+	function fetch_block(&$T) { /* view of the tokens up to the closing '}', which is consumed */
+		$start = $T->pos;
+		$depth = 0;
+		while(count($T) && ($depth || $T[0] !== '}')) {
+			$t = $T->shift();
+			if($t === '{' || $this->match($t, T_CURLY_OPEN) || $this->match($t, T_DOLLAR_OPEN_CURLY_BRACES)) {
+				$depth++;
 			}
-			else {
-				$out[] = $t;
+			else if($t === '}') {
+				$depth--;
 			}
 		}
-		array_shift($T);
+		$out = $T->range($start, $T->pos);
+		$T->shift();
 		return $out;
 	}
 
     function fetch_stmt(&$T) {
         $this->skip($T, T_WHITESPACE);
         if($T[0] === '{') {
-        	$out = array();
-        	array_shift($T);
-            $out []= "{";
-            array_splice($out, count($out), 0, $this->fetch_block($T));
-            $out []= "}";
-            return $out;
+        	$start = $T->pos;
+        	$T->shift();
+        	$this->fetch_block($T);
+            return $T->range($start, $T->pos);
         }
         else {
             return $this->fetch_expr($T);
@@ -163,7 +264,7 @@ class PhpToScala {
 	function parse_stmt(&$T) {
 		$this->skip($T, T_WHITESPACE);
 		if($T[0] === '{') {
-			array_shift($T);
+			$T->shift();
 			return "{ " . $this->parse_block_tail($T) . " }";
 		}
 		else {
@@ -182,44 +283,504 @@ class PhpToScala {
 		return "\n$init_expr;\nwhile($cond_expr) {\n $body_stmt;\n$term_expr\n}\n";
 	}
 
-	function scan_vars($T) { /* type inference and variable declaration */
+	/*
+	 * Static type inference.
+	 * A variable is given a native Scala type (Long, Double or String) when its first
+	 * occurrence is a statement-level assignment, every other occurrence is inside the block
+	 * holding that assignment, and every assignment, compound assignment or increment keeps
+	 * the type. Integers are typed Long, as arithmetic on Quercus' LongValue is 64-bit.
+	 * Variables that are indexed, passed by reference (at the call or to a by-reference
+	 * parameter), bound by list/foreach/global/static, or assigned anything the pass cannot
+	 * type fall back to ref, as do variables used where a native value would not convert
+	 * like a ref: as a condition, in ==/!= against anything but a literal, or (for numbers)
+	 * as an argument to a phplib builtin.
+	 */
+
+	function significant($T) {
+		$out = array();
+		foreach($T as $t) {
+			if(!$this->match($t, T_WHITESPACE) && !$this->match($t, T_COMMENT) && !$this->match($t, T_DOC_COMMENT)) {
+				$out []= $t;
+			}
+		}
+		return $out;
+	}
+
+	function close_paren($S, $i) { /* index of the bracket closing the one at $S[$i] */
+		$depth = 0;
+		for($n = count($S); $i < $n; $i++) {
+			if($S[$i] === '(' || $S[$i] === '[') {
+				$depth++;
+			}
+			else if($S[$i] === ')' || $S[$i] === ']') {
+				if(--$depth == 0) return $i;
+			}
+		}
+		return $n;
+	}
+
+	function expr_end($S, $i) { /* index of the token ending the expression that starts at $S[$i] */
+		$depth = 0;
+		for($n = count($S); $i < $n; $i++) {
+			$t = $S[$i];
+			if($t === '(' || $t === '[' || $t === '{') {
+				$depth++;
+			}
+			else if($t === ')' || $t === ']' || $t === '}') {
+				if($depth-- == 0) return $i;
+			}
+			else if($depth == 0 && ($t === ';' || $t === ',')) {
+				return $i;
+			}
+		}
+		return $n;
+	}
+
+	function is_logical($t) {
+		return $this->match($t, T_BOOLEAN_AND) || $this->match($t, T_BOOLEAN_OR)
+			|| $this->match($t, T_LOGICAL_AND) || $this->match($t, T_LOGICAL_OR) || $this->match($t, T_LOGICAL_XOR);
+	}
+
+	function is_equality($t) {
+		return $this->match($t, T_IS_EQUAL) || $this->match($t, T_IS_NOT_EQUAL)
+			|| $this->match($t, T_IS_IDENTICAL) || $this->match($t, T_IS_NOT_IDENTICAL);
+	}
+
+	function join_types($a, $b) {
+		if($a === null) return $b;
+		if($b === null || $a == $b) return $a;
+		if(($a == 'Int' && $b == 'Long') || ($a == 'Long' && $b == 'Int')) return 'Long';
+		return 'ref';
+	}
+
+	function literal_type($t) {
+		$v = $t[VALUE];
+		if($this->match($t, T_DNUMBER) || preg_match('/^[\d.]+e|\./i', $v)) {
+			return 'Double';
+		}
+		if(preg_match('/^0x/i', $v)) {
+			$v = hexdec($v);
+		}
+		else if(preg_match('/^0[0-7]/', $v)) {
+			$v = octdec($v);
+		}
+		return (float)$v > 2147483647 ? 'Long' : 'Int';
+	}
+
+	function default_value($type) {
+		switch($type) {
+			case 'Int': return '0';
+			case 'Long': return '0L';
+			case 'Double': return '0.0';
+			case 'String': return '""';
+			default: return 'undef';
+		}
+	}
+
+	function var_type($name) {
+		$scope = end($this->scopes);
+		return isset($scope[$name]) ? $scope[$name] : 'ref';
+	}
+
+	function expr_type($S, $types) { /* null while the operands are not inferred yet */
+		$operands = array();
+		$ops = array();
+		$operand = true;
+
+		for($i = 0, $n = count($S); $i < $n; $i++) {
+			$t = $S[$i];
+			if(!$operand) {
+				if(in_array($t, array('+', '-', '*', '%', '.'), true)) {
+					$ops[$t] = true;
+					$operand = true;
+					continue;
+				}
+				return 'ref';
+			}
+			if($t === '-' || $t === '+') { // unary sign
+				continue;
+			}
+			if($t === '(') {
+				$close = $this->close_paren($S, $i);
+				$type = $this->expr_type(array_slice($S, $i + 1, $close - $i - 1), $types);
+				$i = $close;
+			}
+			else if($this->match($t, T_LNUMBER) || $this->match($t, T_DNUMBER)) {
+				$type = $this->literal_type($t);
+			}
+			else if($this->match($t, T_CONSTANT_ENCAPSED_STRING)) {
+				$type = 'String';
+			}
+			else if($this->match($t, T_VARIABLE)) {
+				$name = substr($t[VALUE], 1);
+				$type = array_key_exists($name, $types) ? $types[$name] : 'ref';
+			}
+			else if($this->match($t, T_STRING) && isset($S[$i + 1]) && $S[$i + 1] === '(') {
+				$type = isset($this->ftypes[$t[VALUE]]) ? $this->ftypes[$t[VALUE]] : 'ref';
+				$i = $this->close_paren($S, $i + 1);
+			}
+			else {
+				return 'ref';
+			}
+			$operands []= $type;
+			$operand = false;
+		}
+
+		if($operand) {
+			return 'ref'; // empty expression or dangling operator
+		}
+		if(isset($ops['.'])) {
+			// string concatenation (+&) accepts any operand, but is not mixed with arithmetic
+			return count($ops) == 1 ? 'String' : 'ref';
+		}
+
+		$result = null;
+		foreach($operands as $type) {
+			if($type === null) {
+				continue;
+			}
+			if($type == 'ref' || ($type == 'String' && count($ops))) {
+				return 'ref';
+			}
+			if($result === null) {
+				$result = $type;
+			}
+			else if($result != $type) {
+				$result = ($result == 'Double' || $type == 'Double') ? 'Double' : 'Long';
+			}
+		}
+		if($result == 'Double' && isset($ops['%'])) {
+			return 'ref';
+		}
+		if($result == 'Int' && (isset($ops['+']) || isset($ops['-']) || isset($ops['*']))) {
+			return 'Long'; // Int arithmetic may not fit an Int
+		}
+		return $result;
+	}
+
+	function native_type($type) { /* integers are kept in a Long, so native arithmetic is 64-bit */
+		return $type == 'Int' ? 'Long' : $type;
+	}
+
+	function infer_types($T, $params = array()) {
+		$S = $this->significant($T);
+		$types = array();
+		$dynamic = array();
+		$facts = array();
+		$blocks = array();  // ids of the enclosing { } blocks
+		$declared = array(); // blocks enclosing the first assignment of each variable
+		$block_id = 0;
+		$calls = array();    // for each open '(', whether it starts the arguments of a builtin
+		$args = array();     // for each open '(', the function or method called and the argument index
+		$checks = array();   // (variable, types it may have) for uses that a ref would convert
+		$numeric = array('ref', null, 'Int', 'Long', 'Double');
+		$string = array('ref', null, 'String');
+		$untyped = array('ref', null);
+
+		foreach($params as $p) {
+			$dynamic[$p] = true;
+		}
+
+		for($i = 0, $n = count($S); $i < $n; $i++) {
+			$t = $S[$i];
+
+			if($t === '{' || $this->match($t, T_CURLY_OPEN) || $this->match($t, T_DOLLAR_OPEN_CURLY_BRACES)) {
+				$blocks []= ++$block_id;
+				continue;
+			}
+			if($t === '}') {
+				array_pop($blocks);
+				continue;
+			}
+			if($t === '(') {
+				$f = $i > 0 ? $S[$i - 1] : null;
+				$g = $i > 1 ? $S[$i - 2] : null;
+				$calls []= $this->match($f, T_STRING) && !isset($this->ftypes[$f[VALUE]])
+					&& !$this->match($g, T_OBJECT_OPERATOR) && !$this->match($g, T_DOUBLE_COLON)
+					&& !$this->match($g, T_FUNCTION) && !$this->match($g, T_NEW);
+				$call = $this->match($f, T_STRING) && !$this->match($g, T_FUNCTION) && !$this->match($g, T_NEW);
+				$args []= array($call ? strtolower($f[VALUE]) : null, 0);
+				continue;
+			}
+			if($t === ')') {
+				array_pop($calls);
+				array_pop($args);
+				continue;
+			}
+			if($t === ',' && count($args)) {
+				$args[count($args) - 1][1]++;
+				continue;
+			}
+
+			if($this->match($t, T_LIST) || $this->match($t, T_UNSET) || $this->match($t, T_AS)
+				|| $this->match($t, T_GLOBAL) || $this->match($t, T_STATIC)) {
+				// variables bound by list(), unset(), foreach, global and static stay dynamic
+				if($this->match($t, T_AS)) {
+					$end = $this->expr_end($S, $i + 1);
+				}
+				else if($this->match($t, T_GLOBAL) || $this->match($t, T_STATIC)) {
+					for($end = $i + 1; $end < $n && $S[$end] !== ';'; $end++);
+				}
+				else {
+					$end = $this->close_paren($S, $i + 1);
+				}
+				for($j = $i + 1; $j < $end && $j < $n; $j++) {
+					if($this->match($S[$j], T_VARIABLE)) {
+						$dynamic[substr($S[$j][VALUE], 1)] = true;
+					}
+				}
+				continue;
+			}
+
+			if(!$this->match($t, T_VARIABLE)) {
+				continue;
+			}
+
+			$name = substr($t[VALUE], 1);
+			if($name == 'this' || $this->is_global($name)) {
+				continue;
+			}
+
+			$prev = $i > 0 ? $S[$i - 1] : null;
+			$next = $i + 1 < $n ? $S[$i + 1] : null;
+
+			if(!array_key_exists($name, $types)) {
+				$types[$name] = null;
+				$declared[$name] = $blocks;
+				$stmt = $prev === null || $prev === ';' || $prev === '{' || $prev === '}' || $this->match($prev, T_OPEN_TAG)
+					|| ($prev === '(' && $i > 1 && $this->match($S[$i - 2], T_FOR));
+				if($next !== '=' || !$stmt) {
+					$dynamic[$name] = true; // may be read before it is assigned
+				}
+			}
+			else if(array_slice($blocks, 0, count($declared[$name])) != $declared[$name]) {
+				$dynamic[$name] = true; // used outside the block that assigns it
+			}
+
+			if($prev === '&' || $next === '[' || $next === '{' || $this->match($next, T_OBJECT_OPERATOR)) {
+				$dynamic[$name] = true;
+				continue;
+			}
+
+			if(count($args) && ($prev === '(' || $prev === ',') && ($next === ',' || $next === ')')) {
+				list($callee, $index) = end($args);
+				if(isset($this->byref[$callee][$index])) {
+					$dynamic[$name] = true; // the callee may assign it
+					continue;
+				}
+			}
+
+			if($prev === '!' || $next === '?' || $this->is_logical($prev) || $this->is_logical($next)
+				|| ($prev === '(' && $next === ')' && $i > 1
+					&& ($this->match($S[$i - 2], T_IF) || $this->match($S[$i - 2], T_ELSEIF) || $this->match($S[$i - 2], T_WHILE)))) {
+				$checks []= array($name, $untyped); // condition
+			}
+			if($this->is_equality($prev) || $this->is_equality($next)) {
+				$j = $this->is_equality($next) ? $i + 2 : $i - 2;
+				$other = isset($S[$j]) ? $S[$j] : null;
+				if($this->match($other, T_LNUMBER) || $this->match($other, T_DNUMBER)) {
+					$checks []= array($name, $numeric);
+				}
+				else if($this->match($other, T_CONSTANT_ENCAPSED_STRING)) {
+					$checks []= array($name, $string);
+				}
+				else {
+					$checks []= array($name, $untyped);
+				}
+			}
+			if(in_array(true, $calls, true)) {
+				$checks []= array($name, $string); // builtin argument
+			}
+
+			if($this->match($prev, T_INC) || $this->match($prev, T_DEC)
+				|| $this->match($next, T_INC) || $this->match($next, T_DEC)) {
+				$facts []= array($name, array($t, '+', array(T_LNUMBER, '1')));
+				continue;
+			}
+
+			$ops = array(T_PLUS_EQUAL => '+', T_MINUS_EQUAL => '-', T_MUL_EQUAL => '*', T_CONCAT_EQUAL => '.');
+			$end = $this->expr_end($S, $i + 2);
+			$rhs = array_slice($S, $i + 2, $end - $i - 2);
+
+			if($next === '=') {
+				$facts []= array($name, $rhs);
+			}
+			else if(is_array($next) && isset($ops[$next[TTYPE]])) {
+				$facts []= array($name, array_merge(array($t, $ops[$next[TTYPE]], '('), $rhs, array(')')));
+			}
+			else if(is_array($next) && in_array($next[TTYPE], array(T_DIV_EQUAL, T_MOD_EQUAL, T_AND_EQUAL,
+				T_OR_EQUAL, T_XOR_EQUAL, T_SL_EQUAL, T_SR_EQUAL))) {
+				$dynamic[$name] = true;
+			}
+		}
+
+		do {
+			foreach($dynamic as $name => $d) {
+				$types[$name] = 'ref';
+			}
+
+			do {
+				$changed = false;
+				foreach($facts as $f) {
+					list($name, $rhs) = $f;
+					$type = $this->join_types($types[$name], $this->expr_type($rhs, $types));
+					if($type !== $types[$name]) {
+						$types[$name] = $type;
+						$changed = true;
+					}
+				}
+			} while($changed);
+
+			$violated = false;
+			foreach($checks as $c) {
+				list($name, $allowed) = $c;
+				if(!in_array(isset($types[$name]) ? $types[$name] : null, $allowed, true)) {
+					$dynamic[$name] = true;
+					$violated = true;
+				}
+			}
+		} while($violated);
+
+		foreach($types as $name => $type) {
+			$types[$name] = $type === null ? 'ref' : $this->native_type($type);
+		}
+		return $types;
+	}
+
+	function return_type($body, $params) {
+		/* a native return type needs every return typed alike, and a return as the last statement */
+		$types = $this->infer_types($body, $params);
+		$S = $this->significant($body);
+		$result = null;
+		$depth = 0;
+		$last = false;
+
+		for($i = 0, $n = count($S); $i < $n; $i++) {
+			if($S[$i] === '{') $depth++;
+			if($S[$i] === '}') $depth--;
+			if($this->match($S[$i], T_RETURN)) {
+				$end = $this->expr_end($S, $i + 1);
+				$result = $this->join_types($result, $this->expr_type(array_slice($S, $i + 1, $end - $i - 1), $types));
+				$last = $depth == 0 && $end == $n - 1;
+			}
+		}
+		return ($result === null || !$last) ? 'ref' : $this->native_type($result);
+	}
+
+	function scan_byref($T) { /* by-reference parameter positions of every declared function and method */
+		$S = $this->significant($T);
+		$byref = array();
+		foreach($this->byref_builtins as $name => $positions) {
+			$byref[$name] = array_fill_keys($positions, true);
+		}
+
+		for($i = 0, $n = count($S); $i < $n; $i++) {
+			if(!$this->match($S[$i], T_FUNCTION)) {
+				continue;
+			}
+			$j = $i + 1;
+			if(isset($S[$j]) && $S[$j] === '&') {
+				$j++; // returns by reference
+			}
+			if(!isset($S[$j + 1]) || !$this->match($S[$j], T_STRING) || $S[$j + 1] !== '(') {
+				continue;
+			}
+			$name = strtolower($S[$j][VALUE]);
+			$close = $this->close_paren($S, $j + 1);
+			$index = 0;
+			$depth = 0;
+			for($k = $j + 2; $k < $close; $k++) {
+				if($S[$k] === '(') $depth++;
+				if($S[$k] === ')') $depth--;
+				if($depth == 0 && $S[$k] === ',') {
+					$index++;
+				}
+				else if($S[$k] === '&' && $this->match($S[$k + 1], T_VARIABLE)) {
+					$byref[$name][$index] = true;
+				}
+			}
+		}
+		return $byref;
+	}
+
+	function scan_functions($T) { /* return types of the global functions */
+		$this->byref = $this->scan_byref($T);
+		$T = $this->cursor($T);
+		$functions = array();
+		while(count($T)) {
+			$t = $T->shift();
+			if($this->match($t, T_CLASS)) {
+				$this->skip_thru($T, '{');
+				$this->fetch_block($T);
+			}
+			else if($this->match($t, T_FUNCTION)) {
+				$name = null;
+				$params = array();
+				while(count($T) && $T[0] !== '{') {
+					$u = $T->shift();
+					if($name === null && $this->match($u, T_STRING)) {
+						$name = $u[VALUE];
+					}
+					else if($this->match($u, T_VARIABLE)) {
+						$params []= substr($u[VALUE], 1);
+					}
+				}
+				$T->shift();
+				$functions[$name] = array($params, $this->fetch_block($T));
+			}
+		}
+
+		$this->ftypes = array();
+		$passes = count($functions) + 1;
+		do {
+			$changed = false;
+			foreach($functions as $name => $f) {
+				$type = $this->return_type($f[1], $f[0]);
+				if(!isset($this->ftypes[$name]) || $this->ftypes[$name] != $type) {
+					$this->ftypes[$name] = $type;
+					$changed = true;
+				}
+			}
+		} while($changed && --$passes);
+		return $this->ftypes;
+	}
+
+	function scan_vars($T, $params = array()) { /* type inference and variable declaration */
+		$T = $this->cursor($T);
+		$types = $this->infer_types($T, $params);
+		$this->scopes []= $types;
+
         $out = '';
         $vars = array();
 
         while(count($T)) {
         	if($this->match($T[0], T_VARIABLE)) {
 
-                $name = $this->parse($T);
+                $t = $T->shift();
+                $name = substr($t[VALUE], 1);
                 $this->skip($T, T_WHITESPACE);
-                $t = array_shift($T);
+                $t = $T->shift();
 
                 if($t != '=' && $t != '[') {
         			continue;
         		}
 
-        		$type = 'ref';
-        		$default = 'undef';
-
-        		$this->skip($T, T_WHITESPACE);
+        		$type = $this->var_type($name);
 
-        		$u = array_shift($T);
-        		if($this->match($u, T_LNUMBER)) {
-        			$type = 'integer';
-        			$default = '0';
-        		}
-        		if(!isset($vars[$name]) && !$this->is_global($name)) {
-        			$out .= "\nvar $name: $type = $default;";
+        		if($name != 'this' && !isset($vars[$name]) && !$this->is_global($name)) {
+        			$out .= "\nvar $name: $type = " . $this->default_value($type) . ";";
         			$vars[$name] = 1;
         		}
         	}
         	else {
-        		array_shift($T);
+        		$T->shift();
         	}
         }
         return $out;
 	}
 
 	function scan_globals($T) {
+        $T = $this->cursor($T);
         $out = '';
         $vars = array();
         $global = array();
@@ -228,12 +789,12 @@ class PhpToScala {
             if($this->match($T[0], T_CLASS) || $this->match($T[0], T_FUNCTION)) {
             	// skip over non-global scope
             	do {
-            		$t = array_shift($T);
+            		$t = $T->shift();
             	} while($t != '{' && count($T));
-            	$this->parse_block_tail($T);
+            	$this->fetch_block($T);
             }
             else {
-            	$global []= array_shift($T);
+            	$global []= $T->shift();
             }
         }
         return $this->scan_vars($global);
@@ -252,15 +813,33 @@ class PhpToScala {
 	}
 
 	function parse_function(&$T) {
+		$name = null;
+		$params = array();
+		foreach($T as $t) {
+			if($t === '{') {
+				break;
+			}
+			if($name === null && $this->match($t, T_STRING)) {
+				$name = $t[VALUE];
+			}
+			else if($this->match($t, T_VARIABLE)) {
+				$params []= substr($t[VALUE], 1);
+			}
+		}
+
 		$out = "def" . $this->parse_f_args($T);
 		$this->expect($T, '{');
 		$body = $this->fetch_block($T);
 
 		if($this->contains($body, T_RETURN)) {
-			$out .= ': ref = ';
+			// methods are invoked reflectively through method_ref, which expects a ref back
+			$type = (!$this->in_class && isset($this->ftypes[$name])) ? $this->ftypes[$name] : 'ref';
+			$out .= ": $type = ";
 		}
-		$vars = $this->scan_vars($body);
-		return $out . '{' . $vars . "\n" . $this->parse_all($body) . '}';
+		$vars = $this->scan_vars($body, $params);
+		$out .= '{' . $vars . "\n" . $this->parse_all($body) . '}';
+		array_pop($this->scopes);
+		return $out;
 	}
 
 	function parse_vars(&$T) {
@@ -270,15 +849,15 @@ class PhpToScala {
 				$out .= "var " . $this->parse($T) . " = undef;\n";
 			}
 			else {
-				array_shift($T);
+				$T->shift();
 			}
 		}
-		array_shift($T);
+		$T->shift();
 		return $out;
 	}
 
 	function parse_echo(&$T) {
-		$t = array_shift($T);
+		$t = $T->shift();
 		return 'echo(' . $this->parse_expr_tail($T) . ')';
 	}
 
@@ -312,6 +891,8 @@ class PhpToScala {
         $out .= ' extends obj ' . $this->parse($T);
         $body = $this->fetch_block($T);
 
+        $this->in_class++;
+        $this->scopes []= array();
         while(count($body)) {
         	if($this->match($body[0], T_FUNCTION) && $body[2][VALUE] == $classname) {
                 $out .= $this->parse_constructor($body);
@@ -320,17 +901,19 @@ class PhpToScala {
         		$out .= $this->parse($body);
         	}
         }
+        array_pop($this->scopes);
+        $this->in_class--;
         return $out . "\n}\nobject $classname extends $classname;";
 	}
 
 	function parse(&$T) {
 
-		$t = array_shift($T);
+		$t = $T->shift();
 
 		if(!is_array($t)) {
 			switch($t) {
 				case '[':
-					if($T[0] == ']' && $this->peek(array_slice($T,1), '=')) {
+					if($T[0] == ']' && $this->peek($T->slice(1), '=')) {
 						$this->expect($T, ']');
 						$this->expect($T, '=');
 						return " += ";
@@ -366,10 +949,10 @@ class PhpToScala {
 				return $this->parse_function($T);
 
 			case T_OBJECT_OPERATOR: #   ->  classes and objects
-				if($this->peek(array_slice($T,1), '=')) {  // assignment
+				if($this->peek($T->slice(1), '=')) {  // assignment
                     return "('" . $this->parse($T) . ")";
                 }
-                else if($this->peek(array_slice($T,1), '(')) {  // method call
+                else if($this->peek($T->slice(1), '(')) {  // method call
                 	return "~&'" . $this->parse($T) . "~>";
                 }
                 else {
@@ -384,14 +967,25 @@ class PhpToScala {
 			case T_VARIABLE: #  $foo    variables
 				if($t[VALUE] == '$this') {
 					if($T[0][TTYPE] == T_OBJECT_OPERATOR) {
-						array_shift($T);
+						$T->shift();
 						return "this."; // use static binding (".") instead of dynamic "~>"
 					}
 					else {
 						return 'this';
 					}
 				} else {
-					return substr($t[VALUE], 1); // strip the $
+					$name = substr($t[VALUE], 1); // strip the $
+					$type = $this->var_type($name);
+					if(($type == 'Int' || $type == 'Long' || $type == 'Double')
+						&& ($this->match($T[0], T_INC) || $this->match($T[0], T_DEC))) {
+						$t = $T->shift();
+						return $this->match($t, T_INC) ? "$name += 1" : "$name -= 1";
+					}
+					if($type == 'String' && $this->peek($T, T_CONCAT_EQUAL)) {
+						$this->expect($T, T_CONCAT_EQUAL);
+						return "$name = $name +& (" . $this->parse_expr_tail($T) . ")";
+					}
+					return $name;
 				}
 
 			case T_VAR: #   var     classes and objects
@@ -419,6 +1013,9 @@ class PhpToScala {
 					return "++";
 				}
 
+            case T_LNUMBER: #   123, 012, 0x1ac, etc    integers
+            	return $this->literal_type($t) == 'Long' ? $t[VALUE] . 'L' : $t[VALUE];
+
             case T_CONSTANT_ENCAPSED_STRING: #  "foo" or 'bar'  string syntax
             	return '"' . substr($t[VALUE], 1, -1) . '"';
 
@@ -464,12 +1061,12 @@ class PhpToScala {
 			case T_WHILE: #     while   while, do..while
 				$this->expect($T, '(');
 				$cond = $this->fetch_expr($T, ')');
-				if($this->contains($T, '=')) {
+				if($this->contains($cond, '=')) {
 					// assignment in loop condition
 					$var = "";
 					foreach($cond as $t) {
 						if($t[TTYPE] == T_VARIABLE) {
-							$U = array($t);
+							$U = $this->cursor(array($t));
 							$var = $this->parse($U);
 							break;
 						}
@@ -545,7 +1142,6 @@ class PhpToScala {
 			case T_IS_SMALLER_OR_EQUAL: #   <=  comparison operators
 			case T_LINE: #  __LINE__    magic constants
 			case T_LIST: #  list()  list()
-			case T_LNUMBER: #   123, 012, 0x1ac, etc    integers
 			case T_LOGICAL_AND: #   and     logical operators
 			case T_LOGICAL_OR: #    or  logical operators
 			case T_LOGICAL_XOR: #   xor     logical operators
@@ -592,6 +1188,7 @@ class PhpToScala {
 	}
 
 	public function parse_all($T) {
+		$T = $this->cursor($T);
 		$out = '';
 
 		while(count($T)) {
@@ -615,15 +1212,19 @@ object $objName extends php.script {
   override def include {
 EOF;
 
-		$T = token_get_all($code);
+		$T = new TokenCursor(token_get_all($code));
+		$this->scopes = array();
+		$this->scan_functions($T);
         echo $this->scan_globals($T);
 		echo $this->parse_all($T);
 		echo "  }\n}";
 	}
 
 	function __construct() {
-		define(TTYPE, 0);
-		define(VALUE, 1);
+		if(!defined('TTYPE')) {
+			define('TTYPE', 0);
+			define('VALUE', 1);
+		}
 	}
 
 	function dump($tokens) { // debugging function
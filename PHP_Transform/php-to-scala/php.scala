@@ -54,9 +54,9 @@ abstract class ref {
   def +=(o: ref): ref = wrong_type
   def +(o: ref) = value.add(o.value)
   def *(o: ref) = value.mul(o.value)
-  def +(i: Int) = value.toInt + i
-  def *(i: Int) = value.toInt * i
-  def /(i: Int) = value.toInt / i
+  def +(i: Int): Long = toLong + i
+  def *(i: Int): Long = toLong * i
+  def /(i: Int): Long = toLong / i
   def >(o: ref) = value.gt(o.value)
   def <(o: ref) = value.lt(o.value)
   def <=(o: ref) = value.leq(o.value)
@@ -65,6 +65,7 @@ abstract class ref {
   // explicit conversions
   def toBoolean = this.value.toBoolean
   def toInt = this.value.toInt;
+  def toLong = this.value.toLong;
   def toDouble = this.value.toDouble;
   override def toString = value.toString
 }
@@ -77,7 +78,7 @@ private[php] class quercus_ref(var v: Value) extends ref {
 private[php] object quercus_ref {
 	def apply(a: Any): quercus_ref = {
 		a match {
-			case i: Integer => new quercus_ref(new LongValue(i.asInstanceOf[Long]));
+			case i: Integer => new quercus_ref(LongValue.create(i.longValue));
 			case d: Double => new quercus_ref(new DoubleValue(d));
 			case s: String => new quercus_ref(new ConstStringValue(s));
 			case qr: quercus_ref => qr;
@@ -92,18 +93,99 @@ class vnull extends ref {
   override def value = new ConstStringValue("");
 }
 
-class integer(var i: Int) extends ref {
-  override def value = new LongValue(i)
-  override def -=(x: ref): ref = { this.i = this.i - x.toInt; this }
-  override def +=(x: ref): ref = { this.i = this.i + x.toInt; this }
+/**
+ * numeric tier: integer and double keep their value unboxed and only materialize
+ * a Quercus Value when one is requested (e.g. when crossing into phplib).
+ * Arithmetic and comparisons between two numeric refs stay on primitives;
+ * integer holds a Long, as Quercus' 64-bit LongValue does.
+ */
+class integer(var i: Long) extends ref {
+  override def value = LongValue.create(i)
+  override def -=(x: ref): ref = { this.i = this.i - x.toLong; this }
+  override def +=(x: ref): ref = { this.i = this.i + x.toLong; this }
   override def ++(): ref = { this.i = this.i + 1; this } /* due to Scala quirk, cannot write this.i++ here */
+
+  def +(o: integer): Long = i + o.i
+  def -(o: integer): Long = i - o.i
+  def *(o: integer): Long = i * o.i
+  def +(o: double): Double = i + o.d
+  def -(o: double): Double = i - o.d
+  def *(o: double): Double = i * o.d
+
+  override def >(o: ref) = o match {
+    case n: integer => i > n.i
+    case n: double => i > n.d
+    case _ => super.>(o)
+  }
+  override def <(o: ref) = o match {
+    case n: integer => i < n.i
+    case n: double => i < n.d
+    case _ => super.<(o)
+  }
+  override def <=(o: ref) = o match {
+    case n: integer => i <= n.i
+    case n: double => i <= n.d
+    case _ => super.<=(o)
+  }
+  override def ==(o: ref): Boolean = o match {
+    case n: integer => i == n.i
+    case n: double => i == n.d
+    case _ => super.==(o)
+  }
+
+  override def toBoolean: Boolean = i != 0
+  override def toInt = i.toInt
+  override def toLong = i
+  override def toDouble: Double = i
+  override def toString = String.valueOf(i)
+}
+
+class double(var d: Double) extends ref {
+  override def value = new DoubleValue(d)
+  override def -=(x: ref): ref = { this.d = this.d - x.toDouble; this }
+  override def +=(x: ref): ref = { this.d = this.d + x.toDouble; this }
+  override def ++(): ref = { this.d = this.d + 1; this }
+
+  def +(o: integer): Double = d + o.i
+  def -(o: integer): Double = d - o.i
+  def *(o: integer): Double = d * o.i
+  def +(o: double): Double = d + o.d
+  def -(o: double): Double = d - o.d
+  def *(o: double): Double = d * o.d
+
+  override def >(o: ref) = o match {
+    case n: integer => d > n.i
+    case n: double => d > n.d
+    case _ => super.>(o)
+  }
+  override def <(o: ref) = o match {
+    case n: integer => d < n.i
+    case n: double => d < n.d
+    case _ => super.<(o)
+  }
+  override def <=(o: ref) = o match {
+    case n: integer => d <= n.i
+    case n: double => d <= n.d
+    case _ => super.<=(o)
+  }
+  override def ==(o: ref): Boolean = o match {
+    case n: integer => d == n.i
+    case n: double => d == n.d
+    case _ => super.==(o)
+  }
+
+  override def toBoolean: Boolean = d != 0.0
+  override def toInt = d.toInt
+  override def toLong = d.toLong
+  override def toDouble = d
+  override def toString = value.toString
 }
 
 class string(s: String) extends ref {
-  private var str = new StringBuffer(s)
+  private var str = new java.lang.StringBuilder(s)
   override def value = new ConstStringValue(str.toString)
-  override def -=(x: ref): ref = { this.str = new StringBuffer(this.toInt - x.toInt); this }
-  override def +=(x: ref): ref = { this.str = new StringBuffer(this.toInt + x.toInt); this }
+  override def -=(x: ref): ref = { this.str = new java.lang.StringBuilder((this.toLong - x.toLong).toString); this }
+  override def +=(x: ref): ref = { this.str = new java.lang.StringBuilder((this.toLong + x.toLong).toString); this }
   override def +=&(x: ref): ref = { str.append(x.toString); this }
   override def toString = str.toString
 }
@@ -158,7 +240,7 @@ class method_ref(o: AnyRef, m: java.lang.reflect.Method) {
   private def objectize(a: AnyRef): ref = {
     a match {
       case php: ref => return php;
-      case i: Integer => return new integer(i.intValue);
+      case i: Integer => return new integer(i.longValue);
       case other: AnyRef => throw new Exception("unhandled: " + other.getClass);
     }
   }
@@ -180,37 +262,79 @@ class method_ref(o: AnyRef, m: java.lang.reflect.Method) {
 }
 
 
+/**
+ * per-class member lookup table used by the dynamic object operators.
+ * Methods and fields are resolved once per class, walking the superclass chain up to obj
+ * (subclass members shadow inherited ones), so dynamic member access becomes a hash probe.
+ */
+private[php] class dispatch_table(cls: Class[_]) {
+  private val methods = new java.util.HashMap[Symbol, java.lang.reflect.Method]
+  private val fields = new java.util.HashMap[Symbol, java.lang.reflect.Field]
+
+  {
+    var c: Class[_] = cls
+    while (c != null && c != classOf[obj]) {
+      for (m <- c.getDeclaredMethods() if !m.isBridge) {
+        val sym = Symbol(m.getName)
+        if (!methods.containsKey(sym)) {
+          m.setAccessible(true)
+          methods.put(sym, m)
+        }
+      }
+      for (f <- c.getDeclaredFields()) {
+        val sym = Symbol(f.getName)
+        if (!fields.containsKey(sym)) {
+          f.setAccessible(true)
+          fields.put(sym, f)
+        }
+      }
+      c = c.getSuperclass
+    }
+  }
+
+  def method(sym: Symbol): java.lang.reflect.Method = {
+    val m = methods.get(sym)
+    if (m == null) throw new Exception("object class " + cls + " no method " + sym.name)
+    m
+  }
+
+  def field(sym: Symbol): java.lang.reflect.Field = {
+    val f = fields.get(sym)
+    if (f == null) throw new Exception("object class " + cls + " no field " + sym.name)
+    f
+  }
+}
+
+private[php] object dispatch_table {
+  private val tables = new java.util.concurrent.ConcurrentHashMap[Class[_], dispatch_table]
+
+  def apply(cls: Class[_]): dispatch_table = {
+    val t = tables.get(cls)
+    if (t != null) return t
+    tables.putIfAbsent(cls, new dispatch_table(cls))
+    tables.get(cls)
+  }
+}
+
 class obj extends ref {
   override def value = throw new Exception("objects do not have a value")
 
-  override def ~&(sym: Symbol): method_ref = {
-    val s = sym.toString.substring(1)
+  private def dispatch = dispatch_table(this.getClass)
 
-    var m = for{i <- this.getClass.getDeclaredMethods() if i.getName == s
-    } yield i;
-    if (m.length > 0) return new method_ref(this, m(0));
-    throw new Exception("object class " + this.getClass + " no method " + s)
-  }
+  override def ~&(sym: Symbol): method_ref = new method_ref(this, dispatch.method(sym))
 
   override def ~>(sym: Symbol): ref = {
-    val s = sym.toString.substring(1)
-    val f = this.getClass.getDeclaredField(s);
-    f.setAccessible(true);
-    val v = f.get(this);
-    //println("Value of " + s + " = " + v);
+    val v = dispatch.field(sym).get(this);
+    //println("Value of " + sym + " = " + v);
     v match {
       case o: ref => return o;
       case u => throw new Exception("unknown result" + u);
     }
-    return new string(v.toString);
   }
 
   override def update(sym: Symbol, new_val: ref): ref = {
-    val s = sym.toString.substring(1)
-    val f = this.getClass.getDeclaredField(s);
-    f.setAccessible(true);
-    f.set(this, new_val);
-    //println("Value of " + s + " set to " + new_val);
+    dispatch.field(sym).set(this, new_val);
+    //println("Value of " + sym + " set to " + new_val);
     return new_val;
   }
 
@@ -228,6 +352,9 @@ abstract class script extends phplib(quercus_context.env) {
 
   var argv = array.list(this.toString);
 
+  /* builtins taking native Int/Long/Double/String arguments (see mklib/mklib.java) */
+  val direct = new direct(quercus_context.env)
+
   def main(args: Array[String]) {
     args.foreach { argv += _ }
     this.include;
@@ -235,11 +362,13 @@ abstract class script extends phplib(quercus_context.env) {
 
   implicit def stringToPhp(s: String): ref = new string(s)
   implicit def stringToQuercus(s: String): StringValue = new ConstStringValue(s)
-  implicit def intToQuercus(i: Int): LongValue = new LongValue(i)
+  implicit def intToQuercus(i: Int): LongValue = LongValue.create(i)
   implicit def quercusToInt(v: Value): Int = v.value.toInt
   implicit def intToPhp(i: Int): integer = new integer(i)
+  implicit def longToPhp(l: Long): integer = new integer(l)
+  implicit def doubleToPhp(d: Double): double = new double(d)
   implicit def phpToInt(a: ref): Int = a.toInt
-  implicit def phpToPhpInt(a: ref): integer = a.toInt
+  implicit def phpToPhpInt(a: ref): integer = new integer(a.toLong)
   implicit def booleanToPhp(b: Boolean): ref = new refbool(b)
   implicit def phpToBoolean(a: ref): Boolean = a.toBoolean
   implicit def quercusToPhp(v: Value): ref = new quercus_ref(v)
@@ -0,0 +1,8406 @@
+// generated by mklib.mklib on Sun Oct 18 08:38:07 UTC 2026
+package phplib;
+
+import com.caucho.quercus.env.*;
+
+public class direct extends intrinsics {
+
+  public direct(Env env) {
+    super(env);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_fill */
+  final public com.caucho.quercus.env.Value array_fill(long a1, long a2, long a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_fill(quercus_context, a1, a2, LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_fill */
+  final public com.caucho.quercus.env.Value array_fill(long a1, long a2, double a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_fill(quercus_context, a1, a2, DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_fill */
+  final public com.caucho.quercus.env.Value array_fill(long a1, long a2, String a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_fill(quercus_context, a1, a2, quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_fill_keys */
+  final public com.caucho.quercus.env.ArrayValue array_fill_keys(com.caucho.quercus.env.ArrayValue a1, long a2) {
+    return com.caucho.quercus.lib.ArrayModule.array_fill_keys(quercus_context, a1, LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_fill_keys */
+  final public com.caucho.quercus.env.ArrayValue array_fill_keys(com.caucho.quercus.env.ArrayValue a1, double a2) {
+    return com.caucho.quercus.lib.ArrayModule.array_fill_keys(quercus_context, a1, DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_fill_keys */
+  final public com.caucho.quercus.env.ArrayValue array_fill_keys(com.caucho.quercus.env.ArrayValue a1, String a2) {
+    return com.caucho.quercus.lib.ArrayModule.array_fill_keys(quercus_context, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_filter */
+  final public com.caucho.quercus.env.Value array_filter(com.caucho.quercus.env.ArrayValue a1, long a2) {
+    return com.caucho.quercus.lib.ArrayModule.array_filter(quercus_context, a1, LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_filter */
+  final public com.caucho.quercus.env.Value array_filter(com.caucho.quercus.env.ArrayValue a1) {
+    return com.caucho.quercus.lib.ArrayModule.array_filter(quercus_context, a1, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_filter */
+  final public com.caucho.quercus.env.Value array_filter(com.caucho.quercus.env.ArrayValue a1, double a2) {
+    return com.caucho.quercus.lib.ArrayModule.array_filter(quercus_context, a1, DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_filter */
+  final public com.caucho.quercus.env.Value array_filter(com.caucho.quercus.env.ArrayValue a1, String a2) {
+    return com.caucho.quercus.lib.ArrayModule.array_filter(quercus_context, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_key_exists */
+  final public boolean array_key_exists(long a1, long a2) {
+    return com.caucho.quercus.lib.ArrayModule.array_key_exists(quercus_context, LongValue.create(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_key_exists */
+  final public boolean array_key_exists(double a1, long a2) {
+    return com.caucho.quercus.lib.ArrayModule.array_key_exists(quercus_context, DoubleValue.create(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_key_exists */
+  final public boolean array_key_exists(String a1, long a2) {
+    return com.caucho.quercus.lib.ArrayModule.array_key_exists(quercus_context, quercus_context.createString(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_key_exists */
+  final public boolean array_key_exists(long a1, double a2) {
+    return com.caucho.quercus.lib.ArrayModule.array_key_exists(quercus_context, LongValue.create(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_key_exists */
+  final public boolean array_key_exists(double a1, double a2) {
+    return com.caucho.quercus.lib.ArrayModule.array_key_exists(quercus_context, DoubleValue.create(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_key_exists */
+  final public boolean array_key_exists(String a1, double a2) {
+    return com.caucho.quercus.lib.ArrayModule.array_key_exists(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_key_exists */
+  final public boolean array_key_exists(long a1, String a2) {
+    return com.caucho.quercus.lib.ArrayModule.array_key_exists(quercus_context, LongValue.create(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_key_exists */
+  final public boolean array_key_exists(double a1, String a2) {
+    return com.caucho.quercus.lib.ArrayModule.array_key_exists(quercus_context, DoubleValue.create(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_key_exists */
+  final public boolean array_key_exists(String a1, String a2) {
+    return com.caucho.quercus.lib.ArrayModule.array_key_exists(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_keys */
+  final public com.caucho.quercus.env.Value array_keys(com.caucho.quercus.env.ArrayValue a1, long a2, boolean a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_keys(quercus_context, a1, LongValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_keys */
+  final public com.caucho.quercus.env.Value array_keys(com.caucho.quercus.env.ArrayValue a1, long a2) {
+    return com.caucho.quercus.lib.ArrayModule.array_keys(quercus_context, a1, LongValue.create(a2), false);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_keys */
+  final public com.caucho.quercus.env.Value array_keys(com.caucho.quercus.env.ArrayValue a1) {
+    return com.caucho.quercus.lib.ArrayModule.array_keys(quercus_context, a1, DefaultValue.DEFAULT, false);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_keys */
+  final public com.caucho.quercus.env.Value array_keys(com.caucho.quercus.env.ArrayValue a1, double a2, boolean a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_keys(quercus_context, a1, DoubleValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_keys */
+  final public com.caucho.quercus.env.Value array_keys(com.caucho.quercus.env.ArrayValue a1, double a2) {
+    return com.caucho.quercus.lib.ArrayModule.array_keys(quercus_context, a1, DoubleValue.create(a2), false);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_keys */
+  final public com.caucho.quercus.env.Value array_keys(com.caucho.quercus.env.ArrayValue a1, String a2, boolean a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_keys(quercus_context, a1, quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_keys */
+  final public com.caucho.quercus.env.Value array_keys(com.caucho.quercus.env.ArrayValue a1, String a2) {
+    return com.caucho.quercus.lib.ArrayModule.array_keys(quercus_context, a1, quercus_context.createString(a2), false);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_pad */
+  final public com.caucho.quercus.env.Value array_pad(com.caucho.quercus.env.ArrayValue a1, long a2, long a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_pad(quercus_context, a1, a2, LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_pad */
+  final public com.caucho.quercus.env.Value array_pad(com.caucho.quercus.env.ArrayValue a1, long a2, double a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_pad(quercus_context, a1, a2, DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_pad */
+  final public com.caucho.quercus.env.Value array_pad(com.caucho.quercus.env.ArrayValue a1, long a2, String a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_pad(quercus_context, a1, a2, quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_pop */
+  final public com.caucho.quercus.env.Value array_pop(long a1) {
+    return com.caucho.quercus.lib.ArrayModule.array_pop(quercus_context, LongValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_pop */
+  final public com.caucho.quercus.env.Value array_pop(double a1) {
+    return com.caucho.quercus.lib.ArrayModule.array_pop(quercus_context, DoubleValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_pop */
+  final public com.caucho.quercus.env.Value array_pop(String a1) {
+    return com.caucho.quercus.lib.ArrayModule.array_pop(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_push */
+  final public int array_push(long a1, com.caucho.quercus.env.Value[] a2) {
+    return com.caucho.quercus.lib.ArrayModule.array_push(quercus_context, LongValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_push */
+  final public int array_push(double a1, com.caucho.quercus.env.Value[] a2) {
+    return com.caucho.quercus.lib.ArrayModule.array_push(quercus_context, DoubleValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_push */
+  final public int array_push(String a1, com.caucho.quercus.env.Value[] a2) {
+    return com.caucho.quercus.lib.ArrayModule.array_push(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_reduce */
+  final public com.caucho.quercus.env.Value array_reduce(com.caucho.quercus.env.ArrayValue a1, com.caucho.quercus.env.Callable a2, long a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_reduce(quercus_context, a1, a2, LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_reduce */
+  final public com.caucho.quercus.env.Value array_reduce(com.caucho.quercus.env.ArrayValue a1, com.caucho.quercus.env.Callable a2, double a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_reduce(quercus_context, a1, a2, DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_reduce */
+  final public com.caucho.quercus.env.Value array_reduce(com.caucho.quercus.env.ArrayValue a1, com.caucho.quercus.env.Callable a2, String a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_reduce(quercus_context, a1, a2, quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_search */
+  final public com.caucho.quercus.env.Value array_search(long a1, com.caucho.quercus.env.ArrayValue a2, boolean a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_search(quercus_context, LongValue.create(a1), a2, a3);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_search */
+  final public com.caucho.quercus.env.Value array_search(long a1, com.caucho.quercus.env.ArrayValue a2) {
+    return com.caucho.quercus.lib.ArrayModule.array_search(quercus_context, LongValue.create(a1), a2, false);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_search */
+  final public com.caucho.quercus.env.Value array_search(double a1, com.caucho.quercus.env.ArrayValue a2, boolean a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_search(quercus_context, DoubleValue.create(a1), a2, a3);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_search */
+  final public com.caucho.quercus.env.Value array_search(double a1, com.caucho.quercus.env.ArrayValue a2) {
+    return com.caucho.quercus.lib.ArrayModule.array_search(quercus_context, DoubleValue.create(a1), a2, false);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_search */
+  final public com.caucho.quercus.env.Value array_search(String a1, com.caucho.quercus.env.ArrayValue a2, boolean a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_search(quercus_context, quercus_context.createString(a1), a2, a3);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_search */
+  final public com.caucho.quercus.env.Value array_search(String a1, com.caucho.quercus.env.ArrayValue a2) {
+    return com.caucho.quercus.lib.ArrayModule.array_search(quercus_context, quercus_context.createString(a1), a2, false);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_shift */
+  final public com.caucho.quercus.env.Value array_shift(long a1) {
+    return com.caucho.quercus.lib.ArrayModule.array_shift(quercus_context, LongValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_shift */
+  final public com.caucho.quercus.env.Value array_shift(double a1) {
+    return com.caucho.quercus.lib.ArrayModule.array_shift(quercus_context, DoubleValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_shift */
+  final public com.caucho.quercus.env.Value array_shift(String a1) {
+    return com.caucho.quercus.lib.ArrayModule.array_shift(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_slice */
+  final public com.caucho.quercus.env.Value array_slice(com.caucho.quercus.env.ArrayValue a1, int a2, long a3, boolean a4) {
+    return com.caucho.quercus.lib.ArrayModule.array_slice(quercus_context, a1, a2, LongValue.create(a3), a4);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_slice */
+  final public com.caucho.quercus.env.Value array_slice(com.caucho.quercus.env.ArrayValue a1, int a2, long a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_slice(quercus_context, a1, a2, LongValue.create(a3), false);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_slice */
+  final public com.caucho.quercus.env.Value array_slice(com.caucho.quercus.env.ArrayValue a1, int a2) {
+    return com.caucho.quercus.lib.ArrayModule.array_slice(quercus_context, a1, a2, DefaultValue.DEFAULT, false);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_slice */
+  final public com.caucho.quercus.env.Value array_slice(com.caucho.quercus.env.ArrayValue a1, int a2, double a3, boolean a4) {
+    return com.caucho.quercus.lib.ArrayModule.array_slice(quercus_context, a1, a2, DoubleValue.create(a3), a4);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_slice */
+  final public com.caucho.quercus.env.Value array_slice(com.caucho.quercus.env.ArrayValue a1, int a2, double a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_slice(quercus_context, a1, a2, DoubleValue.create(a3), false);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_slice */
+  final public com.caucho.quercus.env.Value array_slice(com.caucho.quercus.env.ArrayValue a1, int a2, String a3, boolean a4) {
+    return com.caucho.quercus.lib.ArrayModule.array_slice(quercus_context, a1, a2, quercus_context.createString(a3), a4);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_slice */
+  final public com.caucho.quercus.env.Value array_slice(com.caucho.quercus.env.ArrayValue a1, int a2, String a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_slice(quercus_context, a1, a2, quercus_context.createString(a3), false);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_splice */
+  final public com.caucho.quercus.env.Value array_splice(long a1, int a2, long a3, long a4) {
+    return com.caucho.quercus.lib.ArrayModule.array_splice(quercus_context, LongValue.create(a1), a2, LongValue.create(a3), LongValue.create(a4));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_splice */
+  final public com.caucho.quercus.env.Value array_splice(long a1, int a2, long a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_splice(quercus_context, LongValue.create(a1), a2, LongValue.create(a3), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_splice */
+  final public com.caucho.quercus.env.Value array_splice(double a1, int a2, long a3, long a4) {
+    return com.caucho.quercus.lib.ArrayModule.array_splice(quercus_context, DoubleValue.create(a1), a2, LongValue.create(a3), LongValue.create(a4));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_splice */
+  final public com.caucho.quercus.env.Value array_splice(double a1, int a2, long a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_splice(quercus_context, DoubleValue.create(a1), a2, LongValue.create(a3), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_splice */
+  final public com.caucho.quercus.env.Value array_splice(String a1, int a2, long a3, long a4) {
+    return com.caucho.quercus.lib.ArrayModule.array_splice(quercus_context, quercus_context.createString(a1), a2, LongValue.create(a3), LongValue.create(a4));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_splice */
+  final public com.caucho.quercus.env.Value array_splice(String a1, int a2, long a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_splice(quercus_context, quercus_context.createString(a1), a2, LongValue.create(a3), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_splice */
+  final public com.caucho.quercus.env.Value array_splice(long a1, int a2, double a3, long a4) {
+    return com.caucho.quercus.lib.ArrayModule.array_splice(quercus_context, LongValue.create(a1), a2, DoubleValue.create(a3), LongValue.create(a4));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_splice */
+  final public com.caucho.quercus.env.Value array_splice(long a1, int a2, double a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_splice(quercus_context, LongValue.create(a1), a2, DoubleValue.create(a3), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_splice */
+  final public com.caucho.quercus.env.Value array_splice(double a1, int a2, double a3, long a4) {
+    return com.caucho.quercus.lib.ArrayModule.array_splice(quercus_context, DoubleValue.create(a1), a2, DoubleValue.create(a3), LongValue.create(a4));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_splice */
+  final public com.caucho.quercus.env.Value array_splice(double a1, int a2, double a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_splice(quercus_context, DoubleValue.create(a1), a2, DoubleValue.create(a3), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_splice */
+  final public com.caucho.quercus.env.Value array_splice(String a1, int a2, double a3, long a4) {
+    return com.caucho.quercus.lib.ArrayModule.array_splice(quercus_context, quercus_context.createString(a1), a2, DoubleValue.create(a3), LongValue.create(a4));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_splice */
+  final public com.caucho.quercus.env.Value array_splice(String a1, int a2, double a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_splice(quercus_context, quercus_context.createString(a1), a2, DoubleValue.create(a3), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_splice */
+  final public com.caucho.quercus.env.Value array_splice(long a1, int a2, String a3, long a4) {
+    return com.caucho.quercus.lib.ArrayModule.array_splice(quercus_context, LongValue.create(a1), a2, quercus_context.createString(a3), LongValue.create(a4));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_splice */
+  final public com.caucho.quercus.env.Value array_splice(long a1, int a2, String a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_splice(quercus_context, LongValue.create(a1), a2, quercus_context.createString(a3), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_splice */
+  final public com.caucho.quercus.env.Value array_splice(double a1, int a2, String a3, long a4) {
+    return com.caucho.quercus.lib.ArrayModule.array_splice(quercus_context, DoubleValue.create(a1), a2, quercus_context.createString(a3), LongValue.create(a4));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_splice */
+  final public com.caucho.quercus.env.Value array_splice(double a1, int a2, String a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_splice(quercus_context, DoubleValue.create(a1), a2, quercus_context.createString(a3), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_splice */
+  final public com.caucho.quercus.env.Value array_splice(String a1, int a2, String a3, long a4) {
+    return com.caucho.quercus.lib.ArrayModule.array_splice(quercus_context, quercus_context.createString(a1), a2, quercus_context.createString(a3), LongValue.create(a4));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_splice */
+  final public com.caucho.quercus.env.Value array_splice(String a1, int a2, String a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_splice(quercus_context, quercus_context.createString(a1), a2, quercus_context.createString(a3), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_splice */
+  final public com.caucho.quercus.env.Value array_splice(long a1, int a2, long a3, double a4) {
+    return com.caucho.quercus.lib.ArrayModule.array_splice(quercus_context, LongValue.create(a1), a2, LongValue.create(a3), DoubleValue.create(a4));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_splice */
+  final public com.caucho.quercus.env.Value array_splice(double a1, int a2, long a3, double a4) {
+    return com.caucho.quercus.lib.ArrayModule.array_splice(quercus_context, DoubleValue.create(a1), a2, LongValue.create(a3), DoubleValue.create(a4));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_splice */
+  final public com.caucho.quercus.env.Value array_splice(String a1, int a2, long a3, double a4) {
+    return com.caucho.quercus.lib.ArrayModule.array_splice(quercus_context, quercus_context.createString(a1), a2, LongValue.create(a3), DoubleValue.create(a4));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_splice */
+  final public com.caucho.quercus.env.Value array_splice(long a1, int a2, double a3, double a4) {
+    return com.caucho.quercus.lib.ArrayModule.array_splice(quercus_context, LongValue.create(a1), a2, DoubleValue.create(a3), DoubleValue.create(a4));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_splice */
+  final public com.caucho.quercus.env.Value array_splice(double a1, int a2, double a3, double a4) {
+    return com.caucho.quercus.lib.ArrayModule.array_splice(quercus_context, DoubleValue.create(a1), a2, DoubleValue.create(a3), DoubleValue.create(a4));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_splice */
+  final public com.caucho.quercus.env.Value array_splice(String a1, int a2, double a3, double a4) {
+    return com.caucho.quercus.lib.ArrayModule.array_splice(quercus_context, quercus_context.createString(a1), a2, DoubleValue.create(a3), DoubleValue.create(a4));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_splice */
+  final public com.caucho.quercus.env.Value array_splice(long a1, int a2, String a3, double a4) {
+    return com.caucho.quercus.lib.ArrayModule.array_splice(quercus_context, LongValue.create(a1), a2, quercus_context.createString(a3), DoubleValue.create(a4));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_splice */
+  final public com.caucho.quercus.env.Value array_splice(double a1, int a2, String a3, double a4) {
+    return com.caucho.quercus.lib.ArrayModule.array_splice(quercus_context, DoubleValue.create(a1), a2, quercus_context.createString(a3), DoubleValue.create(a4));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_splice */
+  final public com.caucho.quercus.env.Value array_splice(String a1, int a2, String a3, double a4) {
+    return com.caucho.quercus.lib.ArrayModule.array_splice(quercus_context, quercus_context.createString(a1), a2, quercus_context.createString(a3), DoubleValue.create(a4));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_splice */
+  final public com.caucho.quercus.env.Value array_splice(long a1, int a2, long a3, String a4) {
+    return com.caucho.quercus.lib.ArrayModule.array_splice(quercus_context, LongValue.create(a1), a2, LongValue.create(a3), quercus_context.createString(a4));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_splice */
+  final public com.caucho.quercus.env.Value array_splice(double a1, int a2, long a3, String a4) {
+    return com.caucho.quercus.lib.ArrayModule.array_splice(quercus_context, DoubleValue.create(a1), a2, LongValue.create(a3), quercus_context.createString(a4));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_splice */
+  final public com.caucho.quercus.env.Value array_splice(String a1, int a2, long a3, String a4) {
+    return com.caucho.quercus.lib.ArrayModule.array_splice(quercus_context, quercus_context.createString(a1), a2, LongValue.create(a3), quercus_context.createString(a4));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_splice */
+  final public com.caucho.quercus.env.Value array_splice(long a1, int a2, double a3, String a4) {
+    return com.caucho.quercus.lib.ArrayModule.array_splice(quercus_context, LongValue.create(a1), a2, DoubleValue.create(a3), quercus_context.createString(a4));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_splice */
+  final public com.caucho.quercus.env.Value array_splice(double a1, int a2, double a3, String a4) {
+    return com.caucho.quercus.lib.ArrayModule.array_splice(quercus_context, DoubleValue.create(a1), a2, DoubleValue.create(a3), quercus_context.createString(a4));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_splice */
+  final public com.caucho.quercus.env.Value array_splice(String a1, int a2, double a3, String a4) {
+    return com.caucho.quercus.lib.ArrayModule.array_splice(quercus_context, quercus_context.createString(a1), a2, DoubleValue.create(a3), quercus_context.createString(a4));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_splice */
+  final public com.caucho.quercus.env.Value array_splice(long a1, int a2, String a3, String a4) {
+    return com.caucho.quercus.lib.ArrayModule.array_splice(quercus_context, LongValue.create(a1), a2, quercus_context.createString(a3), quercus_context.createString(a4));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_splice */
+  final public com.caucho.quercus.env.Value array_splice(double a1, int a2, String a3, String a4) {
+    return com.caucho.quercus.lib.ArrayModule.array_splice(quercus_context, DoubleValue.create(a1), a2, quercus_context.createString(a3), quercus_context.createString(a4));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_splice */
+  final public com.caucho.quercus.env.Value array_splice(String a1, int a2, String a3, String a4) {
+    return com.caucho.quercus.lib.ArrayModule.array_splice(quercus_context, quercus_context.createString(a1), a2, quercus_context.createString(a3), quercus_context.createString(a4));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_unshift */
+  final public com.caucho.quercus.env.Value array_unshift(long a1, com.caucho.quercus.env.Value[] a2) {
+    return com.caucho.quercus.lib.ArrayModule.array_unshift(quercus_context, LongValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_unshift */
+  final public com.caucho.quercus.env.Value array_unshift(double a1, com.caucho.quercus.env.Value[] a2) {
+    return com.caucho.quercus.lib.ArrayModule.array_unshift(quercus_context, DoubleValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_unshift */
+  final public com.caucho.quercus.env.Value array_unshift(String a1, com.caucho.quercus.env.Value[] a2) {
+    return com.caucho.quercus.lib.ArrayModule.array_unshift(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_walk */
+  final public boolean array_walk(long a1, com.caucho.quercus.env.Callable a2, long a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_walk(quercus_context, LongValue.create(a1), a2, LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_walk */
+  final public boolean array_walk(double a1, com.caucho.quercus.env.Callable a2, long a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_walk(quercus_context, DoubleValue.create(a1), a2, LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_walk */
+  final public boolean array_walk(String a1, com.caucho.quercus.env.Callable a2, long a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_walk(quercus_context, quercus_context.createString(a1), a2, LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_walk */
+  final public boolean array_walk(long a1, com.caucho.quercus.env.Callable a2, double a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_walk(quercus_context, LongValue.create(a1), a2, DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_walk */
+  final public boolean array_walk(double a1, com.caucho.quercus.env.Callable a2, double a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_walk(quercus_context, DoubleValue.create(a1), a2, DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_walk */
+  final public boolean array_walk(String a1, com.caucho.quercus.env.Callable a2, double a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_walk(quercus_context, quercus_context.createString(a1), a2, DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_walk */
+  final public boolean array_walk(long a1, com.caucho.quercus.env.Callable a2, String a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_walk(quercus_context, LongValue.create(a1), a2, quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_walk */
+  final public boolean array_walk(double a1, com.caucho.quercus.env.Callable a2, String a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_walk(quercus_context, DoubleValue.create(a1), a2, quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_walk */
+  final public boolean array_walk(String a1, com.caucho.quercus.env.Callable a2, String a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_walk(quercus_context, quercus_context.createString(a1), a2, quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_walk_recursive */
+  final public boolean array_walk_recursive(long a1, com.caucho.quercus.env.Callable a2, long a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_walk_recursive(quercus_context, LongValue.create(a1), a2, LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_walk_recursive */
+  final public boolean array_walk_recursive(double a1, com.caucho.quercus.env.Callable a2, long a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_walk_recursive(quercus_context, DoubleValue.create(a1), a2, LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_walk_recursive */
+  final public boolean array_walk_recursive(String a1, com.caucho.quercus.env.Callable a2, long a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_walk_recursive(quercus_context, quercus_context.createString(a1), a2, LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_walk_recursive */
+  final public boolean array_walk_recursive(long a1, com.caucho.quercus.env.Callable a2, double a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_walk_recursive(quercus_context, LongValue.create(a1), a2, DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_walk_recursive */
+  final public boolean array_walk_recursive(double a1, com.caucho.quercus.env.Callable a2, double a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_walk_recursive(quercus_context, DoubleValue.create(a1), a2, DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_walk_recursive */
+  final public boolean array_walk_recursive(String a1, com.caucho.quercus.env.Callable a2, double a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_walk_recursive(quercus_context, quercus_context.createString(a1), a2, DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_walk_recursive */
+  final public boolean array_walk_recursive(long a1, com.caucho.quercus.env.Callable a2, String a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_walk_recursive(quercus_context, LongValue.create(a1), a2, quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_walk_recursive */
+  final public boolean array_walk_recursive(double a1, com.caucho.quercus.env.Callable a2, String a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_walk_recursive(quercus_context, DoubleValue.create(a1), a2, quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : array_walk_recursive */
+  final public boolean array_walk_recursive(String a1, com.caucho.quercus.env.Callable a2, String a3) {
+    return com.caucho.quercus.lib.ArrayModule.array_walk_recursive(quercus_context, quercus_context.createString(a1), a2, quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : arsort */
+  final public boolean arsort(long a1, long a2) {
+    return com.caucho.quercus.lib.ArrayModule.arsort(quercus_context, LongValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : arsort */
+  final public boolean arsort(long a1) {
+    return com.caucho.quercus.lib.ArrayModule.arsort(quercus_context, LongValue.create(a1), 0);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : arsort */
+  final public boolean arsort(double a1, long a2) {
+    return com.caucho.quercus.lib.ArrayModule.arsort(quercus_context, DoubleValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : arsort */
+  final public boolean arsort(double a1) {
+    return com.caucho.quercus.lib.ArrayModule.arsort(quercus_context, DoubleValue.create(a1), 0);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : arsort */
+  final public boolean arsort(String a1, long a2) {
+    return com.caucho.quercus.lib.ArrayModule.arsort(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : arsort */
+  final public boolean arsort(String a1) {
+    return com.caucho.quercus.lib.ArrayModule.arsort(quercus_context, quercus_context.createString(a1), 0);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : asort */
+  final public boolean asort(long a1, long a2) {
+    return com.caucho.quercus.lib.ArrayModule.asort(quercus_context, LongValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : asort */
+  final public boolean asort(long a1) {
+    return com.caucho.quercus.lib.ArrayModule.asort(quercus_context, LongValue.create(a1), 0);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : asort */
+  final public boolean asort(double a1, long a2) {
+    return com.caucho.quercus.lib.ArrayModule.asort(quercus_context, DoubleValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : asort */
+  final public boolean asort(double a1) {
+    return com.caucho.quercus.lib.ArrayModule.asort(quercus_context, DoubleValue.create(a1), 0);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : asort */
+  final public boolean asort(String a1, long a2) {
+    return com.caucho.quercus.lib.ArrayModule.asort(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : asort */
+  final public boolean asort(String a1) {
+    return com.caucho.quercus.lib.ArrayModule.asort(quercus_context, quercus_context.createString(a1), 0);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : count */
+  final public long count(long a1, int a2) {
+    return com.caucho.quercus.lib.ArrayModule.count(quercus_context, LongValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : count */
+  final public long count(long a1) {
+    return com.caucho.quercus.lib.ArrayModule.count(quercus_context, LongValue.create(a1), 0);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : count */
+  final public long count(double a1, int a2) {
+    return com.caucho.quercus.lib.ArrayModule.count(quercus_context, DoubleValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : count */
+  final public long count(double a1) {
+    return com.caucho.quercus.lib.ArrayModule.count(quercus_context, DoubleValue.create(a1), 0);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : count */
+  final public long count(String a1, int a2) {
+    return com.caucho.quercus.lib.ArrayModule.count(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : count */
+  final public long count(String a1) {
+    return com.caucho.quercus.lib.ArrayModule.count(quercus_context, quercus_context.createString(a1), 0);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : current */
+  final public com.caucho.quercus.env.Value current(long a0) {
+    return com.caucho.quercus.lib.ArrayModule.current(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : current */
+  final public com.caucho.quercus.env.Value current(double a0) {
+    return com.caucho.quercus.lib.ArrayModule.current(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : current */
+  final public com.caucho.quercus.env.Value current(String a0) {
+    return com.caucho.quercus.lib.ArrayModule.current(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : each */
+  final public com.caucho.quercus.env.Value each(long a1) {
+    return com.caucho.quercus.lib.ArrayModule.each(quercus_context, LongValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : each */
+  final public com.caucho.quercus.env.Value each(double a1) {
+    return com.caucho.quercus.lib.ArrayModule.each(quercus_context, DoubleValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : each */
+  final public com.caucho.quercus.env.Value each(String a1) {
+    return com.caucho.quercus.lib.ArrayModule.each(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : end */
+  final public com.caucho.quercus.env.Value end(long a0) {
+    return com.caucho.quercus.lib.ArrayModule.end(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : end */
+  final public com.caucho.quercus.env.Value end(double a0) {
+    return com.caucho.quercus.lib.ArrayModule.end(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : end */
+  final public com.caucho.quercus.env.Value end(String a0) {
+    return com.caucho.quercus.lib.ArrayModule.end(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : extract */
+  final public com.caucho.quercus.env.Value extract(com.caucho.quercus.env.ArrayValue a1, long a2, long a3) {
+    return com.caucho.quercus.lib.ArrayModule.extract(quercus_context, a1, a2, LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : extract */
+  final public com.caucho.quercus.env.Value extract(com.caucho.quercus.env.ArrayValue a1, long a2, double a3) {
+    return com.caucho.quercus.lib.ArrayModule.extract(quercus_context, a1, a2, DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : extract */
+  final public com.caucho.quercus.env.Value extract(com.caucho.quercus.env.ArrayValue a1, long a2, String a3) {
+    return com.caucho.quercus.lib.ArrayModule.extract(quercus_context, a1, a2, quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : in_array */
+  final public boolean in_array(long a0, com.caucho.quercus.env.ArrayValue a1, boolean a2) {
+    return com.caucho.quercus.lib.ArrayModule.in_array(LongValue.create(a0), a1, a2);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : in_array */
+  final public boolean in_array(long a0, com.caucho.quercus.env.ArrayValue a1) {
+    return com.caucho.quercus.lib.ArrayModule.in_array(LongValue.create(a0), a1, false);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : in_array */
+  final public boolean in_array(double a0, com.caucho.quercus.env.ArrayValue a1, boolean a2) {
+    return com.caucho.quercus.lib.ArrayModule.in_array(DoubleValue.create(a0), a1, a2);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : in_array */
+  final public boolean in_array(double a0, com.caucho.quercus.env.ArrayValue a1) {
+    return com.caucho.quercus.lib.ArrayModule.in_array(DoubleValue.create(a0), a1, false);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : in_array */
+  final public boolean in_array(String a0, com.caucho.quercus.env.ArrayValue a1, boolean a2) {
+    return com.caucho.quercus.lib.ArrayModule.in_array(quercus_context.createString(a0), a1, a2);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : in_array */
+  final public boolean in_array(String a0, com.caucho.quercus.env.ArrayValue a1) {
+    return com.caucho.quercus.lib.ArrayModule.in_array(quercus_context.createString(a0), a1, false);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : key */
+  final public com.caucho.quercus.env.Value key(long a0) {
+    return com.caucho.quercus.lib.ArrayModule.key(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : key */
+  final public com.caucho.quercus.env.Value key(double a0) {
+    return com.caucho.quercus.lib.ArrayModule.key(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : key */
+  final public com.caucho.quercus.env.Value key(String a0) {
+    return com.caucho.quercus.lib.ArrayModule.key(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : key_exists */
+  final public boolean key_exists(long a1, long a2) {
+    return com.caucho.quercus.lib.ArrayModule.key_exists(quercus_context, LongValue.create(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : key_exists */
+  final public boolean key_exists(double a1, long a2) {
+    return com.caucho.quercus.lib.ArrayModule.key_exists(quercus_context, DoubleValue.create(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : key_exists */
+  final public boolean key_exists(String a1, long a2) {
+    return com.caucho.quercus.lib.ArrayModule.key_exists(quercus_context, quercus_context.createString(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : key_exists */
+  final public boolean key_exists(long a1, double a2) {
+    return com.caucho.quercus.lib.ArrayModule.key_exists(quercus_context, LongValue.create(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : key_exists */
+  final public boolean key_exists(double a1, double a2) {
+    return com.caucho.quercus.lib.ArrayModule.key_exists(quercus_context, DoubleValue.create(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : key_exists */
+  final public boolean key_exists(String a1, double a2) {
+    return com.caucho.quercus.lib.ArrayModule.key_exists(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : key_exists */
+  final public boolean key_exists(long a1, String a2) {
+    return com.caucho.quercus.lib.ArrayModule.key_exists(quercus_context, LongValue.create(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : key_exists */
+  final public boolean key_exists(double a1, String a2) {
+    return com.caucho.quercus.lib.ArrayModule.key_exists(quercus_context, DoubleValue.create(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : key_exists */
+  final public boolean key_exists(String a1, String a2) {
+    return com.caucho.quercus.lib.ArrayModule.key_exists(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : krsort */
+  final public boolean krsort(long a1, long a2) {
+    return com.caucho.quercus.lib.ArrayModule.krsort(quercus_context, LongValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : krsort */
+  final public boolean krsort(long a1) {
+    return com.caucho.quercus.lib.ArrayModule.krsort(quercus_context, LongValue.create(a1), 0);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : krsort */
+  final public boolean krsort(double a1, long a2) {
+    return com.caucho.quercus.lib.ArrayModule.krsort(quercus_context, DoubleValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : krsort */
+  final public boolean krsort(double a1) {
+    return com.caucho.quercus.lib.ArrayModule.krsort(quercus_context, DoubleValue.create(a1), 0);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : krsort */
+  final public boolean krsort(String a1, long a2) {
+    return com.caucho.quercus.lib.ArrayModule.krsort(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : krsort */
+  final public boolean krsort(String a1) {
+    return com.caucho.quercus.lib.ArrayModule.krsort(quercus_context, quercus_context.createString(a1), 0);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : ksort */
+  final public boolean ksort(long a1, long a2) {
+    return com.caucho.quercus.lib.ArrayModule.ksort(quercus_context, LongValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : ksort */
+  final public boolean ksort(long a1) {
+    return com.caucho.quercus.lib.ArrayModule.ksort(quercus_context, LongValue.create(a1), 0);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : ksort */
+  final public boolean ksort(double a1, long a2) {
+    return com.caucho.quercus.lib.ArrayModule.ksort(quercus_context, DoubleValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : ksort */
+  final public boolean ksort(double a1) {
+    return com.caucho.quercus.lib.ArrayModule.ksort(quercus_context, DoubleValue.create(a1), 0);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : ksort */
+  final public boolean ksort(String a1, long a2) {
+    return com.caucho.quercus.lib.ArrayModule.ksort(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : ksort */
+  final public boolean ksort(String a1) {
+    return com.caucho.quercus.lib.ArrayModule.ksort(quercus_context, quercus_context.createString(a1), 0);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : natcasesort */
+  final public com.caucho.quercus.env.Value natcasesort(long a1) {
+    return com.caucho.quercus.lib.ArrayModule.natcasesort(quercus_context, LongValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : natcasesort */
+  final public com.caucho.quercus.env.Value natcasesort(double a1) {
+    return com.caucho.quercus.lib.ArrayModule.natcasesort(quercus_context, DoubleValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : natcasesort */
+  final public com.caucho.quercus.env.Value natcasesort(String a1) {
+    return com.caucho.quercus.lib.ArrayModule.natcasesort(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : natsort */
+  final public com.caucho.quercus.env.Value natsort(long a1) {
+    return com.caucho.quercus.lib.ArrayModule.natsort(quercus_context, LongValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : natsort */
+  final public com.caucho.quercus.env.Value natsort(double a1) {
+    return com.caucho.quercus.lib.ArrayModule.natsort(quercus_context, DoubleValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : natsort */
+  final public com.caucho.quercus.env.Value natsort(String a1) {
+    return com.caucho.quercus.lib.ArrayModule.natsort(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : next */
+  final public com.caucho.quercus.env.Value next(long a0) {
+    return com.caucho.quercus.lib.ArrayModule.next(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : next */
+  final public com.caucho.quercus.env.Value next(double a0) {
+    return com.caucho.quercus.lib.ArrayModule.next(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : next */
+  final public com.caucho.quercus.env.Value next(String a0) {
+    return com.caucho.quercus.lib.ArrayModule.next(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : pos */
+  final public com.caucho.quercus.env.Value pos(long a0) {
+    return com.caucho.quercus.lib.ArrayModule.pos(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : pos */
+  final public com.caucho.quercus.env.Value pos(double a0) {
+    return com.caucho.quercus.lib.ArrayModule.pos(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : pos */
+  final public com.caucho.quercus.env.Value pos(String a0) {
+    return com.caucho.quercus.lib.ArrayModule.pos(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : prev */
+  final public com.caucho.quercus.env.Value prev(long a0) {
+    return com.caucho.quercus.lib.ArrayModule.prev(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : prev */
+  final public com.caucho.quercus.env.Value prev(double a0) {
+    return com.caucho.quercus.lib.ArrayModule.prev(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : prev */
+  final public com.caucho.quercus.env.Value prev(String a0) {
+    return com.caucho.quercus.lib.ArrayModule.prev(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : range */
+  final public com.caucho.quercus.env.Value range(long a1, long a2, long a3) {
+    return com.caucho.quercus.lib.ArrayModule.range(quercus_context, LongValue.create(a1), LongValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : range */
+  final public com.caucho.quercus.env.Value range(long a1, long a2) {
+    return com.caucho.quercus.lib.ArrayModule.range(quercus_context, LongValue.create(a1), LongValue.create(a2), 1L);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : range */
+  final public com.caucho.quercus.env.Value range(double a1, long a2, long a3) {
+    return com.caucho.quercus.lib.ArrayModule.range(quercus_context, DoubleValue.create(a1), LongValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : range */
+  final public com.caucho.quercus.env.Value range(double a1, long a2) {
+    return com.caucho.quercus.lib.ArrayModule.range(quercus_context, DoubleValue.create(a1), LongValue.create(a2), 1L);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : range */
+  final public com.caucho.quercus.env.Value range(String a1, long a2, long a3) {
+    return com.caucho.quercus.lib.ArrayModule.range(quercus_context, quercus_context.createString(a1), LongValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : range */
+  final public com.caucho.quercus.env.Value range(String a1, long a2) {
+    return com.caucho.quercus.lib.ArrayModule.range(quercus_context, quercus_context.createString(a1), LongValue.create(a2), 1L);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : range */
+  final public com.caucho.quercus.env.Value range(long a1, double a2, long a3) {
+    return com.caucho.quercus.lib.ArrayModule.range(quercus_context, LongValue.create(a1), DoubleValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : range */
+  final public com.caucho.quercus.env.Value range(long a1, double a2) {
+    return com.caucho.quercus.lib.ArrayModule.range(quercus_context, LongValue.create(a1), DoubleValue.create(a2), 1L);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : range */
+  final public com.caucho.quercus.env.Value range(double a1, double a2, long a3) {
+    return com.caucho.quercus.lib.ArrayModule.range(quercus_context, DoubleValue.create(a1), DoubleValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : range */
+  final public com.caucho.quercus.env.Value range(double a1, double a2) {
+    return com.caucho.quercus.lib.ArrayModule.range(quercus_context, DoubleValue.create(a1), DoubleValue.create(a2), 1L);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : range */
+  final public com.caucho.quercus.env.Value range(String a1, double a2, long a3) {
+    return com.caucho.quercus.lib.ArrayModule.range(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : range */
+  final public com.caucho.quercus.env.Value range(String a1, double a2) {
+    return com.caucho.quercus.lib.ArrayModule.range(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2), 1L);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : range */
+  final public com.caucho.quercus.env.Value range(long a1, String a2, long a3) {
+    return com.caucho.quercus.lib.ArrayModule.range(quercus_context, LongValue.create(a1), quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : range */
+  final public com.caucho.quercus.env.Value range(long a1, String a2) {
+    return com.caucho.quercus.lib.ArrayModule.range(quercus_context, LongValue.create(a1), quercus_context.createString(a2), 1L);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : range */
+  final public com.caucho.quercus.env.Value range(double a1, String a2, long a3) {
+    return com.caucho.quercus.lib.ArrayModule.range(quercus_context, DoubleValue.create(a1), quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : range */
+  final public com.caucho.quercus.env.Value range(double a1, String a2) {
+    return com.caucho.quercus.lib.ArrayModule.range(quercus_context, DoubleValue.create(a1), quercus_context.createString(a2), 1L);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : range */
+  final public com.caucho.quercus.env.Value range(String a1, String a2, long a3) {
+    return com.caucho.quercus.lib.ArrayModule.range(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : range */
+  final public com.caucho.quercus.env.Value range(String a1, String a2) {
+    return com.caucho.quercus.lib.ArrayModule.range(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), 1L);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : reset */
+  final public com.caucho.quercus.env.Value reset(long a0) {
+    return com.caucho.quercus.lib.ArrayModule.reset(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : reset */
+  final public com.caucho.quercus.env.Value reset(double a0) {
+    return com.caucho.quercus.lib.ArrayModule.reset(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : reset */
+  final public com.caucho.quercus.env.Value reset(String a0) {
+    return com.caucho.quercus.lib.ArrayModule.reset(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : rsort */
+  final public boolean rsort(long a1, long a2) {
+    return com.caucho.quercus.lib.ArrayModule.rsort(quercus_context, LongValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : rsort */
+  final public boolean rsort(long a1) {
+    return com.caucho.quercus.lib.ArrayModule.rsort(quercus_context, LongValue.create(a1), 0);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : rsort */
+  final public boolean rsort(double a1, long a2) {
+    return com.caucho.quercus.lib.ArrayModule.rsort(quercus_context, DoubleValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : rsort */
+  final public boolean rsort(double a1) {
+    return com.caucho.quercus.lib.ArrayModule.rsort(quercus_context, DoubleValue.create(a1), 0);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : rsort */
+  final public boolean rsort(String a1, long a2) {
+    return com.caucho.quercus.lib.ArrayModule.rsort(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : rsort */
+  final public boolean rsort(String a1) {
+    return com.caucho.quercus.lib.ArrayModule.rsort(quercus_context, quercus_context.createString(a1), 0);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : shuffle */
+  final public com.caucho.quercus.env.Value shuffle(long a1) {
+    return com.caucho.quercus.lib.ArrayModule.shuffle(quercus_context, LongValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : shuffle */
+  final public com.caucho.quercus.env.Value shuffle(double a1) {
+    return com.caucho.quercus.lib.ArrayModule.shuffle(quercus_context, DoubleValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : shuffle */
+  final public com.caucho.quercus.env.Value shuffle(String a1) {
+    return com.caucho.quercus.lib.ArrayModule.shuffle(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : sizeof */
+  final public long sizeof(long a1, int a2) {
+    return com.caucho.quercus.lib.ArrayModule.sizeof(quercus_context, LongValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : sizeof */
+  final public long sizeof(long a1) {
+    return com.caucho.quercus.lib.ArrayModule.sizeof(quercus_context, LongValue.create(a1), 0);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : sizeof */
+  final public long sizeof(double a1, int a2) {
+    return com.caucho.quercus.lib.ArrayModule.sizeof(quercus_context, DoubleValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : sizeof */
+  final public long sizeof(double a1) {
+    return com.caucho.quercus.lib.ArrayModule.sizeof(quercus_context, DoubleValue.create(a1), 0);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : sizeof */
+  final public long sizeof(String a1, int a2) {
+    return com.caucho.quercus.lib.ArrayModule.sizeof(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : sizeof */
+  final public long sizeof(String a1) {
+    return com.caucho.quercus.lib.ArrayModule.sizeof(quercus_context, quercus_context.createString(a1), 0);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : sort */
+  final public boolean sort(long a1, long a2) {
+    return com.caucho.quercus.lib.ArrayModule.sort(quercus_context, LongValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : sort */
+  final public boolean sort(long a1) {
+    return com.caucho.quercus.lib.ArrayModule.sort(quercus_context, LongValue.create(a1), 0);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : sort */
+  final public boolean sort(double a1, long a2) {
+    return com.caucho.quercus.lib.ArrayModule.sort(quercus_context, DoubleValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : sort */
+  final public boolean sort(double a1) {
+    return com.caucho.quercus.lib.ArrayModule.sort(quercus_context, DoubleValue.create(a1), 0);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : sort */
+  final public boolean sort(String a1, long a2) {
+    return com.caucho.quercus.lib.ArrayModule.sort(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : sort */
+  final public boolean sort(String a1) {
+    return com.caucho.quercus.lib.ArrayModule.sort(quercus_context, quercus_context.createString(a1), 0);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : spliceImpl */
+  final public com.caucho.quercus.env.Value spliceImpl(long a1, com.caucho.quercus.env.ArrayValue a2, int a3, int a4, com.caucho.quercus.env.ArrayValue a5) {
+    return com.caucho.quercus.lib.ArrayModule.spliceImpl(quercus_context, LongValue.create(a1), a2, a3, a4, a5);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : spliceImpl */
+  final public com.caucho.quercus.env.Value spliceImpl(double a1, com.caucho.quercus.env.ArrayValue a2, int a3, int a4, com.caucho.quercus.env.ArrayValue a5) {
+    return com.caucho.quercus.lib.ArrayModule.spliceImpl(quercus_context, DoubleValue.create(a1), a2, a3, a4, a5);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : spliceImpl */
+  final public com.caucho.quercus.env.Value spliceImpl(String a1, com.caucho.quercus.env.ArrayValue a2, int a3, int a4, com.caucho.quercus.env.ArrayValue a5) {
+    return com.caucho.quercus.lib.ArrayModule.spliceImpl(quercus_context, quercus_context.createString(a1), a2, a3, a4, a5);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : uasort */
+  final public boolean uasort(long a1, com.caucho.quercus.env.Callable a2, long a3) {
+    return com.caucho.quercus.lib.ArrayModule.uasort(quercus_context, LongValue.create(a1), a2, a3);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : uasort */
+  final public boolean uasort(long a1, com.caucho.quercus.env.Callable a2) {
+    return com.caucho.quercus.lib.ArrayModule.uasort(quercus_context, LongValue.create(a1), a2, 0);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : uasort */
+  final public boolean uasort(double a1, com.caucho.quercus.env.Callable a2, long a3) {
+    return com.caucho.quercus.lib.ArrayModule.uasort(quercus_context, DoubleValue.create(a1), a2, a3);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : uasort */
+  final public boolean uasort(double a1, com.caucho.quercus.env.Callable a2) {
+    return com.caucho.quercus.lib.ArrayModule.uasort(quercus_context, DoubleValue.create(a1), a2, 0);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : uasort */
+  final public boolean uasort(String a1, com.caucho.quercus.env.Callable a2, long a3) {
+    return com.caucho.quercus.lib.ArrayModule.uasort(quercus_context, quercus_context.createString(a1), a2, a3);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : uasort */
+  final public boolean uasort(String a1, com.caucho.quercus.env.Callable a2) {
+    return com.caucho.quercus.lib.ArrayModule.uasort(quercus_context, quercus_context.createString(a1), a2, 0);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : uksort */
+  final public boolean uksort(long a1, com.caucho.quercus.env.Callable a2, long a3) {
+    return com.caucho.quercus.lib.ArrayModule.uksort(quercus_context, LongValue.create(a1), a2, a3);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : uksort */
+  final public boolean uksort(long a1, com.caucho.quercus.env.Callable a2) {
+    return com.caucho.quercus.lib.ArrayModule.uksort(quercus_context, LongValue.create(a1), a2, 0);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : uksort */
+  final public boolean uksort(double a1, com.caucho.quercus.env.Callable a2, long a3) {
+    return com.caucho.quercus.lib.ArrayModule.uksort(quercus_context, DoubleValue.create(a1), a2, a3);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : uksort */
+  final public boolean uksort(double a1, com.caucho.quercus.env.Callable a2) {
+    return com.caucho.quercus.lib.ArrayModule.uksort(quercus_context, DoubleValue.create(a1), a2, 0);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : uksort */
+  final public boolean uksort(String a1, com.caucho.quercus.env.Callable a2, long a3) {
+    return com.caucho.quercus.lib.ArrayModule.uksort(quercus_context, quercus_context.createString(a1), a2, a3);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : uksort */
+  final public boolean uksort(String a1, com.caucho.quercus.env.Callable a2) {
+    return com.caucho.quercus.lib.ArrayModule.uksort(quercus_context, quercus_context.createString(a1), a2, 0);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : usort */
+  final public boolean usort(long a1, com.caucho.quercus.env.Callable a2, long a3) {
+    return com.caucho.quercus.lib.ArrayModule.usort(quercus_context, LongValue.create(a1), a2, a3);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : usort */
+  final public boolean usort(long a1, com.caucho.quercus.env.Callable a2) {
+    return com.caucho.quercus.lib.ArrayModule.usort(quercus_context, LongValue.create(a1), a2, 0);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : usort */
+  final public boolean usort(double a1, com.caucho.quercus.env.Callable a2, long a3) {
+    return com.caucho.quercus.lib.ArrayModule.usort(quercus_context, DoubleValue.create(a1), a2, a3);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : usort */
+  final public boolean usort(double a1, com.caucho.quercus.env.Callable a2) {
+    return com.caucho.quercus.lib.ArrayModule.usort(quercus_context, DoubleValue.create(a1), a2, 0);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : usort */
+  final public boolean usort(String a1, com.caucho.quercus.env.Callable a2, long a3) {
+    return com.caucho.quercus.lib.ArrayModule.usort(quercus_context, quercus_context.createString(a1), a2, a3);
+  }
+
+  /* com.caucho.quercus.lib.ArrayModule : usort */
+  final public boolean usort(String a1, com.caucho.quercus.env.Callable a2) {
+    return com.caucho.quercus.lib.ArrayModule.usort(quercus_context, quercus_context.createString(a1), a2, 0);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcadd */
+  final public String bcadd(long a1, long a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcadd(quercus_context, LongValue.create(a1), LongValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcadd */
+  final public String bcadd(long a1, long a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcadd(quercus_context, LongValue.create(a1), LongValue.create(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcadd */
+  final public String bcadd(double a1, long a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcadd(quercus_context, DoubleValue.create(a1), LongValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcadd */
+  final public String bcadd(double a1, long a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcadd(quercus_context, DoubleValue.create(a1), LongValue.create(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcadd */
+  final public String bcadd(String a1, long a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcadd(quercus_context, quercus_context.createString(a1), LongValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcadd */
+  final public String bcadd(String a1, long a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcadd(quercus_context, quercus_context.createString(a1), LongValue.create(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcadd */
+  final public String bcadd(long a1, double a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcadd(quercus_context, LongValue.create(a1), DoubleValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcadd */
+  final public String bcadd(long a1, double a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcadd(quercus_context, LongValue.create(a1), DoubleValue.create(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcadd */
+  final public String bcadd(double a1, double a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcadd(quercus_context, DoubleValue.create(a1), DoubleValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcadd */
+  final public String bcadd(double a1, double a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcadd(quercus_context, DoubleValue.create(a1), DoubleValue.create(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcadd */
+  final public String bcadd(String a1, double a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcadd(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcadd */
+  final public String bcadd(String a1, double a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcadd(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcadd */
+  final public String bcadd(long a1, String a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcadd(quercus_context, LongValue.create(a1), quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcadd */
+  final public String bcadd(long a1, String a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcadd(quercus_context, LongValue.create(a1), quercus_context.createString(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcadd */
+  final public String bcadd(double a1, String a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcadd(quercus_context, DoubleValue.create(a1), quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcadd */
+  final public String bcadd(double a1, String a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcadd(quercus_context, DoubleValue.create(a1), quercus_context.createString(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcadd */
+  final public String bcadd(String a1, String a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcadd(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcadd */
+  final public String bcadd(String a1, String a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcadd(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bccomp */
+  final public int bccomp(long a1, long a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bccomp(quercus_context, LongValue.create(a1), LongValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bccomp */
+  final public int bccomp(long a1, long a2) {
+    return com.caucho.quercus.lib.BcmathModule.bccomp(quercus_context, LongValue.create(a1), LongValue.create(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bccomp */
+  final public int bccomp(double a1, long a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bccomp(quercus_context, DoubleValue.create(a1), LongValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bccomp */
+  final public int bccomp(double a1, long a2) {
+    return com.caucho.quercus.lib.BcmathModule.bccomp(quercus_context, DoubleValue.create(a1), LongValue.create(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bccomp */
+  final public int bccomp(String a1, long a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bccomp(quercus_context, quercus_context.createString(a1), LongValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bccomp */
+  final public int bccomp(String a1, long a2) {
+    return com.caucho.quercus.lib.BcmathModule.bccomp(quercus_context, quercus_context.createString(a1), LongValue.create(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bccomp */
+  final public int bccomp(long a1, double a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bccomp(quercus_context, LongValue.create(a1), DoubleValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bccomp */
+  final public int bccomp(long a1, double a2) {
+    return com.caucho.quercus.lib.BcmathModule.bccomp(quercus_context, LongValue.create(a1), DoubleValue.create(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bccomp */
+  final public int bccomp(double a1, double a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bccomp(quercus_context, DoubleValue.create(a1), DoubleValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bccomp */
+  final public int bccomp(double a1, double a2) {
+    return com.caucho.quercus.lib.BcmathModule.bccomp(quercus_context, DoubleValue.create(a1), DoubleValue.create(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bccomp */
+  final public int bccomp(String a1, double a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bccomp(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bccomp */
+  final public int bccomp(String a1, double a2) {
+    return com.caucho.quercus.lib.BcmathModule.bccomp(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bccomp */
+  final public int bccomp(long a1, String a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bccomp(quercus_context, LongValue.create(a1), quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bccomp */
+  final public int bccomp(long a1, String a2) {
+    return com.caucho.quercus.lib.BcmathModule.bccomp(quercus_context, LongValue.create(a1), quercus_context.createString(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bccomp */
+  final public int bccomp(double a1, String a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bccomp(quercus_context, DoubleValue.create(a1), quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bccomp */
+  final public int bccomp(double a1, String a2) {
+    return com.caucho.quercus.lib.BcmathModule.bccomp(quercus_context, DoubleValue.create(a1), quercus_context.createString(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bccomp */
+  final public int bccomp(String a1, String a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bccomp(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bccomp */
+  final public int bccomp(String a1, String a2) {
+    return com.caucho.quercus.lib.BcmathModule.bccomp(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcdiv */
+  final public String bcdiv(long a1, long a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcdiv(quercus_context, LongValue.create(a1), LongValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcdiv */
+  final public String bcdiv(long a1, long a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcdiv(quercus_context, LongValue.create(a1), LongValue.create(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcdiv */
+  final public String bcdiv(double a1, long a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcdiv(quercus_context, DoubleValue.create(a1), LongValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcdiv */
+  final public String bcdiv(double a1, long a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcdiv(quercus_context, DoubleValue.create(a1), LongValue.create(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcdiv */
+  final public String bcdiv(String a1, long a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcdiv(quercus_context, quercus_context.createString(a1), LongValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcdiv */
+  final public String bcdiv(String a1, long a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcdiv(quercus_context, quercus_context.createString(a1), LongValue.create(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcdiv */
+  final public String bcdiv(long a1, double a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcdiv(quercus_context, LongValue.create(a1), DoubleValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcdiv */
+  final public String bcdiv(long a1, double a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcdiv(quercus_context, LongValue.create(a1), DoubleValue.create(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcdiv */
+  final public String bcdiv(double a1, double a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcdiv(quercus_context, DoubleValue.create(a1), DoubleValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcdiv */
+  final public String bcdiv(double a1, double a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcdiv(quercus_context, DoubleValue.create(a1), DoubleValue.create(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcdiv */
+  final public String bcdiv(String a1, double a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcdiv(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcdiv */
+  final public String bcdiv(String a1, double a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcdiv(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcdiv */
+  final public String bcdiv(long a1, String a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcdiv(quercus_context, LongValue.create(a1), quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcdiv */
+  final public String bcdiv(long a1, String a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcdiv(quercus_context, LongValue.create(a1), quercus_context.createString(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcdiv */
+  final public String bcdiv(double a1, String a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcdiv(quercus_context, DoubleValue.create(a1), quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcdiv */
+  final public String bcdiv(double a1, String a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcdiv(quercus_context, DoubleValue.create(a1), quercus_context.createString(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcdiv */
+  final public String bcdiv(String a1, String a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcdiv(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcdiv */
+  final public String bcdiv(String a1, String a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcdiv(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcmod */
+  final public String bcmod(long a1, long a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcmod(quercus_context, LongValue.create(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcmod */
+  final public String bcmod(double a1, long a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcmod(quercus_context, DoubleValue.create(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcmod */
+  final public String bcmod(String a1, long a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcmod(quercus_context, quercus_context.createString(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcmod */
+  final public String bcmod(long a1, double a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcmod(quercus_context, LongValue.create(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcmod */
+  final public String bcmod(double a1, double a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcmod(quercus_context, DoubleValue.create(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcmod */
+  final public String bcmod(String a1, double a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcmod(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcmod */
+  final public String bcmod(long a1, String a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcmod(quercus_context, LongValue.create(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcmod */
+  final public String bcmod(double a1, String a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcmod(quercus_context, DoubleValue.create(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcmod */
+  final public String bcmod(String a1, String a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcmod(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcmul */
+  final public String bcmul(long a1, long a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcmul(quercus_context, LongValue.create(a1), LongValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcmul */
+  final public String bcmul(long a1, long a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcmul(quercus_context, LongValue.create(a1), LongValue.create(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcmul */
+  final public String bcmul(double a1, long a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcmul(quercus_context, DoubleValue.create(a1), LongValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcmul */
+  final public String bcmul(double a1, long a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcmul(quercus_context, DoubleValue.create(a1), LongValue.create(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcmul */
+  final public String bcmul(String a1, long a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcmul(quercus_context, quercus_context.createString(a1), LongValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcmul */
+  final public String bcmul(String a1, long a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcmul(quercus_context, quercus_context.createString(a1), LongValue.create(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcmul */
+  final public String bcmul(long a1, double a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcmul(quercus_context, LongValue.create(a1), DoubleValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcmul */
+  final public String bcmul(long a1, double a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcmul(quercus_context, LongValue.create(a1), DoubleValue.create(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcmul */
+  final public String bcmul(double a1, double a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcmul(quercus_context, DoubleValue.create(a1), DoubleValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcmul */
+  final public String bcmul(double a1, double a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcmul(quercus_context, DoubleValue.create(a1), DoubleValue.create(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcmul */
+  final public String bcmul(String a1, double a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcmul(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcmul */
+  final public String bcmul(String a1, double a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcmul(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcmul */
+  final public String bcmul(long a1, String a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcmul(quercus_context, LongValue.create(a1), quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcmul */
+  final public String bcmul(long a1, String a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcmul(quercus_context, LongValue.create(a1), quercus_context.createString(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcmul */
+  final public String bcmul(double a1, String a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcmul(quercus_context, DoubleValue.create(a1), quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcmul */
+  final public String bcmul(double a1, String a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcmul(quercus_context, DoubleValue.create(a1), quercus_context.createString(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcmul */
+  final public String bcmul(String a1, String a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcmul(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcmul */
+  final public String bcmul(String a1, String a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcmul(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcpow */
+  final public String bcpow(long a1, long a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcpow(quercus_context, LongValue.create(a1), LongValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcpow */
+  final public String bcpow(long a1, long a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcpow(quercus_context, LongValue.create(a1), LongValue.create(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcpow */
+  final public String bcpow(double a1, long a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcpow(quercus_context, DoubleValue.create(a1), LongValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcpow */
+  final public String bcpow(double a1, long a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcpow(quercus_context, DoubleValue.create(a1), LongValue.create(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcpow */
+  final public String bcpow(String a1, long a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcpow(quercus_context, quercus_context.createString(a1), LongValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcpow */
+  final public String bcpow(String a1, long a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcpow(quercus_context, quercus_context.createString(a1), LongValue.create(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcpow */
+  final public String bcpow(long a1, double a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcpow(quercus_context, LongValue.create(a1), DoubleValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcpow */
+  final public String bcpow(long a1, double a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcpow(quercus_context, LongValue.create(a1), DoubleValue.create(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcpow */
+  final public String bcpow(double a1, double a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcpow(quercus_context, DoubleValue.create(a1), DoubleValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcpow */
+  final public String bcpow(double a1, double a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcpow(quercus_context, DoubleValue.create(a1), DoubleValue.create(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcpow */
+  final public String bcpow(String a1, double a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcpow(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcpow */
+  final public String bcpow(String a1, double a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcpow(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcpow */
+  final public String bcpow(long a1, String a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcpow(quercus_context, LongValue.create(a1), quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcpow */
+  final public String bcpow(long a1, String a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcpow(quercus_context, LongValue.create(a1), quercus_context.createString(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcpow */
+  final public String bcpow(double a1, String a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcpow(quercus_context, DoubleValue.create(a1), quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcpow */
+  final public String bcpow(double a1, String a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcpow(quercus_context, DoubleValue.create(a1), quercus_context.createString(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcpow */
+  final public String bcpow(String a1, String a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcpow(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcpow */
+  final public String bcpow(String a1, String a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcpow(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcsqrt */
+  final public String bcsqrt(long a1, int a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcsqrt(quercus_context, LongValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcsqrt */
+  final public String bcsqrt(long a1) {
+    return com.caucho.quercus.lib.BcmathModule.bcsqrt(quercus_context, LongValue.create(a1), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcsqrt */
+  final public String bcsqrt(double a1, int a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcsqrt(quercus_context, DoubleValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcsqrt */
+  final public String bcsqrt(double a1) {
+    return com.caucho.quercus.lib.BcmathModule.bcsqrt(quercus_context, DoubleValue.create(a1), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcsqrt */
+  final public String bcsqrt(String a1, int a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcsqrt(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcsqrt */
+  final public String bcsqrt(String a1) {
+    return com.caucho.quercus.lib.BcmathModule.bcsqrt(quercus_context, quercus_context.createString(a1), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcsub */
+  final public String bcsub(long a1, long a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcsub(quercus_context, LongValue.create(a1), LongValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcsub */
+  final public String bcsub(long a1, long a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcsub(quercus_context, LongValue.create(a1), LongValue.create(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcsub */
+  final public String bcsub(double a1, long a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcsub(quercus_context, DoubleValue.create(a1), LongValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcsub */
+  final public String bcsub(double a1, long a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcsub(quercus_context, DoubleValue.create(a1), LongValue.create(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcsub */
+  final public String bcsub(String a1, long a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcsub(quercus_context, quercus_context.createString(a1), LongValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcsub */
+  final public String bcsub(String a1, long a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcsub(quercus_context, quercus_context.createString(a1), LongValue.create(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcsub */
+  final public String bcsub(long a1, double a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcsub(quercus_context, LongValue.create(a1), DoubleValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcsub */
+  final public String bcsub(long a1, double a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcsub(quercus_context, LongValue.create(a1), DoubleValue.create(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcsub */
+  final public String bcsub(double a1, double a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcsub(quercus_context, DoubleValue.create(a1), DoubleValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcsub */
+  final public String bcsub(double a1, double a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcsub(quercus_context, DoubleValue.create(a1), DoubleValue.create(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcsub */
+  final public String bcsub(String a1, double a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcsub(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcsub */
+  final public String bcsub(String a1, double a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcsub(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcsub */
+  final public String bcsub(long a1, String a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcsub(quercus_context, LongValue.create(a1), quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcsub */
+  final public String bcsub(long a1, String a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcsub(quercus_context, LongValue.create(a1), quercus_context.createString(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcsub */
+  final public String bcsub(double a1, String a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcsub(quercus_context, DoubleValue.create(a1), quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcsub */
+  final public String bcsub(double a1, String a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcsub(quercus_context, DoubleValue.create(a1), quercus_context.createString(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcsub */
+  final public String bcsub(String a1, String a2, int a3) {
+    return com.caucho.quercus.lib.BcmathModule.bcsub(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.BcmathModule : bcsub */
+  final public String bcsub(String a1, String a2) {
+    return com.caucho.quercus.lib.BcmathModule.bcsub(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.ClassesModule : call_user_method */
+  final public com.caucho.quercus.env.Value call_user_method(String a1, long a2, com.caucho.quercus.env.Value[] a3) {
+    return com.caucho.quercus.lib.ClassesModule.call_user_method(quercus_context, quercus_context.createString(a1), LongValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.ClassesModule : call_user_method */
+  final public com.caucho.quercus.env.Value call_user_method(String a1, double a2, com.caucho.quercus.env.Value[] a3) {
+    return com.caucho.quercus.lib.ClassesModule.call_user_method(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.ClassesModule : call_user_method */
+  final public com.caucho.quercus.env.Value call_user_method(String a1, String a2, com.caucho.quercus.env.Value[] a3) {
+    return com.caucho.quercus.lib.ClassesModule.call_user_method(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.ClassesModule : call_user_method_array */
+  final public com.caucho.quercus.env.Value call_user_method_array(String a1, long a2, com.caucho.quercus.env.ArrayValue a3) {
+    return com.caucho.quercus.lib.ClassesModule.call_user_method_array(quercus_context, quercus_context.createString(a1), LongValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.ClassesModule : call_user_method_array */
+  final public com.caucho.quercus.env.Value call_user_method_array(String a1, double a2, com.caucho.quercus.env.ArrayValue a3) {
+    return com.caucho.quercus.lib.ClassesModule.call_user_method_array(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.ClassesModule : call_user_method_array */
+  final public com.caucho.quercus.env.Value call_user_method_array(String a1, String a2, com.caucho.quercus.env.ArrayValue a3) {
+    return com.caucho.quercus.lib.ClassesModule.call_user_method_array(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.ClassesModule : get_class_methods */
+  final public com.caucho.quercus.env.Value get_class_methods(long a1) {
+    return com.caucho.quercus.lib.ClassesModule.get_class_methods(quercus_context, LongValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.ClassesModule : get_class_methods */
+  final public com.caucho.quercus.env.Value get_class_methods(double a1) {
+    return com.caucho.quercus.lib.ClassesModule.get_class_methods(quercus_context, DoubleValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.ClassesModule : get_class_methods */
+  final public com.caucho.quercus.env.Value get_class_methods(String a1) {
+    return com.caucho.quercus.lib.ClassesModule.get_class_methods(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.ClassesModule : get_class_vars */
+  final public com.caucho.quercus.env.Value get_class_vars(long a1) {
+    return com.caucho.quercus.lib.ClassesModule.get_class_vars(quercus_context, LongValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.ClassesModule : get_class_vars */
+  final public com.caucho.quercus.env.Value get_class_vars(double a1) {
+    return com.caucho.quercus.lib.ClassesModule.get_class_vars(quercus_context, DoubleValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.ClassesModule : get_class_vars */
+  final public com.caucho.quercus.env.Value get_class_vars(String a1) {
+    return com.caucho.quercus.lib.ClassesModule.get_class_vars(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.ClassesModule : get_object_vars */
+  final public com.caucho.quercus.env.Value get_object_vars(long a1) {
+    return com.caucho.quercus.lib.ClassesModule.get_object_vars(quercus_context, LongValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.ClassesModule : get_object_vars */
+  final public com.caucho.quercus.env.Value get_object_vars(double a1) {
+    return com.caucho.quercus.lib.ClassesModule.get_object_vars(quercus_context, DoubleValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.ClassesModule : get_object_vars */
+  final public com.caucho.quercus.env.Value get_object_vars(String a1) {
+    return com.caucho.quercus.lib.ClassesModule.get_object_vars(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.ClassesModule : is_a */
+  final public boolean is_a(long a0, String a1) {
+    return com.caucho.quercus.lib.ClassesModule.is_a(LongValue.create(a0), a1);
+  }
+
+  /* com.caucho.quercus.lib.ClassesModule : is_a */
+  final public boolean is_a(double a0, String a1) {
+    return com.caucho.quercus.lib.ClassesModule.is_a(DoubleValue.create(a0), a1);
+  }
+
+  /* com.caucho.quercus.lib.ClassesModule : is_a */
+  final public boolean is_a(String a0, String a1) {
+    return com.caucho.quercus.lib.ClassesModule.is_a(quercus_context.createString(a0), a1);
+  }
+
+  /* com.caucho.quercus.lib.ClassesModule : is_object */
+  final public boolean is_object(long a0) {
+    return com.caucho.quercus.lib.ClassesModule.is_object(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.ClassesModule : is_object */
+  final public boolean is_object(double a0) {
+    return com.caucho.quercus.lib.ClassesModule.is_object(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.ClassesModule : is_object */
+  final public boolean is_object(String a0) {
+    return com.caucho.quercus.lib.ClassesModule.is_object(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.ClassesModule : is_subclass_of */
+  final public boolean is_subclass_of(long a1, String a2) {
+    return com.caucho.quercus.lib.ClassesModule.is_subclass_of(quercus_context, LongValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.ClassesModule : is_subclass_of */
+  final public boolean is_subclass_of(double a1, String a2) {
+    return com.caucho.quercus.lib.ClassesModule.is_subclass_of(quercus_context, DoubleValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.ClassesModule : is_subclass_of */
+  final public boolean is_subclass_of(String a1, String a2) {
+    return com.caucho.quercus.lib.ClassesModule.is_subclass_of(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.ClassesModule : method_exists */
+  final public boolean method_exists(long a1, String a2) {
+    return com.caucho.quercus.lib.ClassesModule.method_exists(quercus_context, LongValue.create(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.ClassesModule : method_exists */
+  final public boolean method_exists(double a1, String a2) {
+    return com.caucho.quercus.lib.ClassesModule.method_exists(quercus_context, DoubleValue.create(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.ClassesModule : method_exists */
+  final public boolean method_exists(String a1, String a2) {
+    return com.caucho.quercus.lib.ClassesModule.method_exists(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.ClassesModule : property_exists */
+  final public com.caucho.quercus.env.Value property_exists(long a1, String a2) {
+    return com.caucho.quercus.lib.ClassesModule.property_exists(quercus_context, LongValue.create(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.ClassesModule : property_exists */
+  final public com.caucho.quercus.env.Value property_exists(double a1, String a2) {
+    return com.caucho.quercus.lib.ClassesModule.property_exists(quercus_context, DoubleValue.create(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.ClassesModule : property_exists */
+  final public com.caucho.quercus.env.Value property_exists(String a1, String a2) {
+    return com.caucho.quercus.lib.ClassesModule.property_exists(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.CtypeModule : ctype_alnum */
+  final public boolean ctype_alnum(long a0) {
+    return com.caucho.quercus.lib.CtypeModule.ctype_alnum(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.CtypeModule : ctype_alnum */
+  final public boolean ctype_alnum(double a0) {
+    return com.caucho.quercus.lib.CtypeModule.ctype_alnum(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.CtypeModule : ctype_alnum */
+  final public boolean ctype_alnum(String a0) {
+    return com.caucho.quercus.lib.CtypeModule.ctype_alnum(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.CtypeModule : ctype_alpha */
+  final public boolean ctype_alpha(long a0) {
+    return com.caucho.quercus.lib.CtypeModule.ctype_alpha(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.CtypeModule : ctype_alpha */
+  final public boolean ctype_alpha(double a0) {
+    return com.caucho.quercus.lib.CtypeModule.ctype_alpha(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.CtypeModule : ctype_alpha */
+  final public boolean ctype_alpha(String a0) {
+    return com.caucho.quercus.lib.CtypeModule.ctype_alpha(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.CtypeModule : ctype_cntrl */
+  final public boolean ctype_cntrl(long a0) {
+    return com.caucho.quercus.lib.CtypeModule.ctype_cntrl(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.CtypeModule : ctype_cntrl */
+  final public boolean ctype_cntrl(double a0) {
+    return com.caucho.quercus.lib.CtypeModule.ctype_cntrl(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.CtypeModule : ctype_cntrl */
+  final public boolean ctype_cntrl(String a0) {
+    return com.caucho.quercus.lib.CtypeModule.ctype_cntrl(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.CtypeModule : ctype_digit */
+  final public boolean ctype_digit(long a0) {
+    return com.caucho.quercus.lib.CtypeModule.ctype_digit(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.CtypeModule : ctype_digit */
+  final public boolean ctype_digit(double a0) {
+    return com.caucho.quercus.lib.CtypeModule.ctype_digit(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.CtypeModule : ctype_digit */
+  final public boolean ctype_digit(String a0) {
+    return com.caucho.quercus.lib.CtypeModule.ctype_digit(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.CtypeModule : ctype_graph */
+  final public boolean ctype_graph(long a0) {
+    return com.caucho.quercus.lib.CtypeModule.ctype_graph(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.CtypeModule : ctype_graph */
+  final public boolean ctype_graph(double a0) {
+    return com.caucho.quercus.lib.CtypeModule.ctype_graph(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.CtypeModule : ctype_graph */
+  final public boolean ctype_graph(String a0) {
+    return com.caucho.quercus.lib.CtypeModule.ctype_graph(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.CtypeModule : ctype_lower */
+  final public boolean ctype_lower(long a0) {
+    return com.caucho.quercus.lib.CtypeModule.ctype_lower(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.CtypeModule : ctype_lower */
+  final public boolean ctype_lower(double a0) {
+    return com.caucho.quercus.lib.CtypeModule.ctype_lower(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.CtypeModule : ctype_lower */
+  final public boolean ctype_lower(String a0) {
+    return com.caucho.quercus.lib.CtypeModule.ctype_lower(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.CtypeModule : ctype_print */
+  final public boolean ctype_print(long a0) {
+    return com.caucho.quercus.lib.CtypeModule.ctype_print(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.CtypeModule : ctype_print */
+  final public boolean ctype_print(double a0) {
+    return com.caucho.quercus.lib.CtypeModule.ctype_print(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.CtypeModule : ctype_print */
+  final public boolean ctype_print(String a0) {
+    return com.caucho.quercus.lib.CtypeModule.ctype_print(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.CtypeModule : ctype_punct */
+  final public boolean ctype_punct(long a0) {
+    return com.caucho.quercus.lib.CtypeModule.ctype_punct(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.CtypeModule : ctype_punct */
+  final public boolean ctype_punct(double a0) {
+    return com.caucho.quercus.lib.CtypeModule.ctype_punct(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.CtypeModule : ctype_punct */
+  final public boolean ctype_punct(String a0) {
+    return com.caucho.quercus.lib.CtypeModule.ctype_punct(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.CtypeModule : ctype_space */
+  final public boolean ctype_space(long a0) {
+    return com.caucho.quercus.lib.CtypeModule.ctype_space(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.CtypeModule : ctype_space */
+  final public boolean ctype_space(double a0) {
+    return com.caucho.quercus.lib.CtypeModule.ctype_space(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.CtypeModule : ctype_space */
+  final public boolean ctype_space(String a0) {
+    return com.caucho.quercus.lib.CtypeModule.ctype_space(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.CtypeModule : ctype_upper */
+  final public boolean ctype_upper(long a0) {
+    return com.caucho.quercus.lib.CtypeModule.ctype_upper(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.CtypeModule : ctype_upper */
+  final public boolean ctype_upper(double a0) {
+    return com.caucho.quercus.lib.CtypeModule.ctype_upper(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.CtypeModule : ctype_upper */
+  final public boolean ctype_upper(String a0) {
+    return com.caucho.quercus.lib.CtypeModule.ctype_upper(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.CtypeModule : ctype_xdigit */
+  final public boolean ctype_xdigit(long a0) {
+    return com.caucho.quercus.lib.CtypeModule.ctype_xdigit(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.CtypeModule : ctype_xdigit */
+  final public boolean ctype_xdigit(double a0) {
+    return com.caucho.quercus.lib.CtypeModule.ctype_xdigit(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.CtypeModule : ctype_xdigit */
+  final public boolean ctype_xdigit(String a0) {
+    return com.caucho.quercus.lib.CtypeModule.ctype_xdigit(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.ErrorModule : error_log */
+  final public boolean error_log(String a1, int a2, String a3, String a4) {
+    return com.caucho.quercus.lib.ErrorModule.error_log(quercus_context, quercus_context.createString(a1), a2, quercus_context.createString(a3), quercus_context.createString(a4));
+  }
+
+  /* com.caucho.quercus.lib.ErrorModule : error_reporting */
+  final public long error_reporting(long a1) {
+    return com.caucho.quercus.lib.ErrorModule.error_reporting(quercus_context, LongValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.ErrorModule : error_reporting */
+  final public long error_reporting() {
+    return com.caucho.quercus.lib.ErrorModule.error_reporting(quercus_context, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.ErrorModule : error_reporting */
+  final public long error_reporting(double a1) {
+    return com.caucho.quercus.lib.ErrorModule.error_reporting(quercus_context, DoubleValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.ErrorModule : error_reporting */
+  final public long error_reporting(String a1) {
+    return com.caucho.quercus.lib.ErrorModule.error_reporting(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.FunctionModule : call_user_func_array */
+  final public com.caucho.quercus.env.Value call_user_func_array(com.caucho.quercus.env.Callable a1, long a2) {
+    return com.caucho.quercus.lib.FunctionModule.call_user_func_array(quercus_context, a1, LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.FunctionModule : call_user_func_array */
+  final public com.caucho.quercus.env.Value call_user_func_array(com.caucho.quercus.env.Callable a1, double a2) {
+    return com.caucho.quercus.lib.FunctionModule.call_user_func_array(quercus_context, a1, DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.FunctionModule : call_user_func_array */
+  final public com.caucho.quercus.env.Value call_user_func_array(com.caucho.quercus.env.Callable a1, String a2) {
+    return com.caucho.quercus.lib.FunctionModule.call_user_func_array(quercus_context, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.HtmlModule : html_entity_decode */
+  final public com.caucho.quercus.env.StringValue html_entity_decode(String a1, int a2, String a3) {
+    return com.caucho.quercus.lib.HtmlModule.html_entity_decode(quercus_context, quercus_context.createString(a1), a2, a3);
+  }
+
+  /* com.caucho.quercus.lib.HtmlModule : htmlentities */
+  final public com.caucho.quercus.env.Value htmlentities(String a1, int a2, String a3) {
+    return com.caucho.quercus.lib.HtmlModule.htmlentities(quercus_context, quercus_context.createString(a1), a2, a3);
+  }
+
+  /* com.caucho.quercus.lib.HtmlModule : htmlspecialchars */
+  final public com.caucho.quercus.env.Value htmlspecialchars(String a1, int a2, String a3) {
+    return com.caucho.quercus.lib.HtmlModule.htmlspecialchars(quercus_context, quercus_context.createString(a1), a2, a3);
+  }
+
+  /* com.caucho.quercus.lib.HtmlModule : htmlspecialchars_decode */
+  final public com.caucho.quercus.env.StringValue htmlspecialchars_decode(String a1, int a2) {
+    return com.caucho.quercus.lib.HtmlModule.htmlspecialchars_decode(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.HtmlModule : nl2br */
+  final public com.caucho.quercus.env.Value nl2br(String a1) {
+    return com.caucho.quercus.lib.HtmlModule.nl2br(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.HttpModule : header */
+  final public com.caucho.quercus.env.Value header(String a1, boolean a2, long a3) {
+    return com.caucho.quercus.lib.HttpModule.header(quercus_context, quercus_context.createString(a1), a2, a3);
+  }
+
+  /* com.caucho.quercus.lib.HttpModule : header */
+  final public com.caucho.quercus.env.Value header(String a1, boolean a2) {
+    return com.caucho.quercus.lib.HttpModule.header(quercus_context, quercus_context.createString(a1), a2, 0);
+  }
+
+  /* com.caucho.quercus.lib.HttpModule : header */
+  final public com.caucho.quercus.env.Value header(String a1) {
+    return com.caucho.quercus.lib.HttpModule.header(quercus_context, quercus_context.createString(a1), true, 0);
+  }
+
+  /* com.caucho.quercus.lib.HttpModule : headers_sent */
+  final public boolean headers_sent(long a1, long a2) {
+    return com.caucho.quercus.lib.HttpModule.headers_sent(quercus_context, LongValue.create(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.HttpModule : headers_sent */
+  final public boolean headers_sent(long a1) {
+    return com.caucho.quercus.lib.HttpModule.headers_sent(quercus_context, LongValue.create(a1), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.HttpModule : headers_sent */
+  final public boolean headers_sent() {
+    return com.caucho.quercus.lib.HttpModule.headers_sent(quercus_context, DefaultValue.DEFAULT, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.HttpModule : headers_sent */
+  final public boolean headers_sent(double a1, long a2) {
+    return com.caucho.quercus.lib.HttpModule.headers_sent(quercus_context, DoubleValue.create(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.HttpModule : headers_sent */
+  final public boolean headers_sent(double a1) {
+    return com.caucho.quercus.lib.HttpModule.headers_sent(quercus_context, DoubleValue.create(a1), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.HttpModule : headers_sent */
+  final public boolean headers_sent(String a1, long a2) {
+    return com.caucho.quercus.lib.HttpModule.headers_sent(quercus_context, quercus_context.createString(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.HttpModule : headers_sent */
+  final public boolean headers_sent(String a1) {
+    return com.caucho.quercus.lib.HttpModule.headers_sent(quercus_context, quercus_context.createString(a1), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.HttpModule : headers_sent */
+  final public boolean headers_sent(long a1, double a2) {
+    return com.caucho.quercus.lib.HttpModule.headers_sent(quercus_context, LongValue.create(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.HttpModule : headers_sent */
+  final public boolean headers_sent(double a1, double a2) {
+    return com.caucho.quercus.lib.HttpModule.headers_sent(quercus_context, DoubleValue.create(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.HttpModule : headers_sent */
+  final public boolean headers_sent(String a1, double a2) {
+    return com.caucho.quercus.lib.HttpModule.headers_sent(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.HttpModule : headers_sent */
+  final public boolean headers_sent(long a1, String a2) {
+    return com.caucho.quercus.lib.HttpModule.headers_sent(quercus_context, LongValue.create(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.HttpModule : headers_sent */
+  final public boolean headers_sent(double a1, String a2) {
+    return com.caucho.quercus.lib.HttpModule.headers_sent(quercus_context, DoubleValue.create(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.HttpModule : headers_sent */
+  final public boolean headers_sent(String a1, String a2) {
+    return com.caucho.quercus.lib.HttpModule.headers_sent(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.ImageModule : imageftbbox */
+  final public com.caucho.quercus.env.Value imageftbbox(double a1, double a2, String a3, String a4, com.caucho.quercus.env.ArrayValue a5) {
+    return com.caucho.quercus.lib.ImageModule.imageftbbox(quercus_context, a1, a2, quercus_context.createString(a3), a4, a5);
+  }
+
+  /* com.caucho.quercus.lib.ImageModule : imagefttext */
+  final public com.caucho.quercus.env.Value imagefttext(com.caucho.quercus.lib.ImageModule.QuercusImage a1, double a2, double a3, int a4, int a5, int a6, String a7, String a8, com.caucho.quercus.env.ArrayValue a9) {
+    return com.caucho.quercus.lib.ImageModule.imagefttext(quercus_context, a1, a2, a3, a4, a5, a6, quercus_context.createString(a7), a8, a9);
+  }
+
+  /* com.caucho.quercus.lib.ImageModule : imagepscopyfont */
+  final public int imagepscopyfont(long a0) {
+    return com.caucho.quercus.lib.ImageModule.imagepscopyfont(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.ImageModule : imagepscopyfont */
+  final public int imagepscopyfont(double a0) {
+    return com.caucho.quercus.lib.ImageModule.imagepscopyfont(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.ImageModule : imagepscopyfont */
+  final public int imagepscopyfont(String a0) {
+    return com.caucho.quercus.lib.ImageModule.imagepscopyfont(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.ImageModule : imagepsencodefont */
+  final public boolean imagepsencodefont(long a0, com.caucho.vfs.Path a1) {
+    return com.caucho.quercus.lib.ImageModule.imagepsencodefont(LongValue.create(a0), a1);
+  }
+
+  /* com.caucho.quercus.lib.ImageModule : imagepsencodefont */
+  final public boolean imagepsencodefont(double a0, com.caucho.vfs.Path a1) {
+    return com.caucho.quercus.lib.ImageModule.imagepsencodefont(DoubleValue.create(a0), a1);
+  }
+
+  /* com.caucho.quercus.lib.ImageModule : imagepsencodefont */
+  final public boolean imagepsencodefont(String a0, com.caucho.vfs.Path a1) {
+    return com.caucho.quercus.lib.ImageModule.imagepsencodefont(quercus_context.createString(a0), a1);
+  }
+
+  /* com.caucho.quercus.lib.ImageModule : imagepsfreefont */
+  final public boolean imagepsfreefont(long a0) {
+    return com.caucho.quercus.lib.ImageModule.imagepsfreefont(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.ImageModule : imagepsfreefont */
+  final public boolean imagepsfreefont(double a0) {
+    return com.caucho.quercus.lib.ImageModule.imagepsfreefont(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.ImageModule : imagepsfreefont */
+  final public boolean imagepsfreefont(String a0) {
+    return com.caucho.quercus.lib.ImageModule.imagepsfreefont(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.ImageModule : imagepsslantfont */
+  final public boolean imagepsslantfont(long a0, float a1) {
+    return com.caucho.quercus.lib.ImageModule.imagepsslantfont(LongValue.create(a0), a1);
+  }
+
+  /* com.caucho.quercus.lib.ImageModule : imagepsslantfont */
+  final public boolean imagepsslantfont(double a0, float a1) {
+    return com.caucho.quercus.lib.ImageModule.imagepsslantfont(DoubleValue.create(a0), a1);
+  }
+
+  /* com.caucho.quercus.lib.ImageModule : imagepsslantfont */
+  final public boolean imagepsslantfont(String a0, float a1) {
+    return com.caucho.quercus.lib.ImageModule.imagepsslantfont(quercus_context.createString(a0), a1);
+  }
+
+  /* com.caucho.quercus.lib.ImageModule : imagepstext */
+  final public com.caucho.quercus.env.ArrayValue imagepstext(com.caucho.quercus.lib.ImageModule.QuercusImage a0, String a1, long a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9, float a10, int a11) {
+    return com.caucho.quercus.lib.ImageModule.imagepstext(a0, a1, LongValue.create(a2), a3, a4, a5, a6, a7, a8, a9, a10, a11);
+  }
+
+  /* com.caucho.quercus.lib.ImageModule : imagepstext */
+  final public com.caucho.quercus.env.ArrayValue imagepstext(com.caucho.quercus.lib.ImageModule.QuercusImage a0, String a1, long a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9, float a10) {
+    return com.caucho.quercus.lib.ImageModule.imagepstext(a0, a1, LongValue.create(a2), a3, a4, a5, a6, a7, a8, a9, a10, 0);
+  }
+
+  /* com.caucho.quercus.lib.ImageModule : imagepstext */
+  final public com.caucho.quercus.env.ArrayValue imagepstext(com.caucho.quercus.lib.ImageModule.QuercusImage a0, String a1, long a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9) {
+    return com.caucho.quercus.lib.ImageModule.imagepstext(a0, a1, LongValue.create(a2), a3, a4, a5, a6, a7, a8, a9, 0.0f, 0);
+  }
+
+  /* com.caucho.quercus.lib.ImageModule : imagepstext */
+  final public com.caucho.quercus.env.ArrayValue imagepstext(com.caucho.quercus.lib.ImageModule.QuercusImage a0, String a1, long a2, int a3, int a4, int a5, int a6, int a7, int a8) {
+    return com.caucho.quercus.lib.ImageModule.imagepstext(a0, a1, LongValue.create(a2), a3, a4, a5, a6, a7, a8, 0, 0.0f, 0);
+  }
+
+  /* com.caucho.quercus.lib.ImageModule : imagepstext */
+  final public com.caucho.quercus.env.ArrayValue imagepstext(com.caucho.quercus.lib.ImageModule.QuercusImage a0, String a1, long a2, int a3, int a4, int a5, int a6, int a7) {
+    return com.caucho.quercus.lib.ImageModule.imagepstext(a0, a1, LongValue.create(a2), a3, a4, a5, a6, a7, 0, 0, 0.0f, 0);
+  }
+
+  /* com.caucho.quercus.lib.ImageModule : imagepstext */
+  final public com.caucho.quercus.env.ArrayValue imagepstext(com.caucho.quercus.lib.ImageModule.QuercusImage a0, String a1, double a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9, float a10, int a11) {
+    return com.caucho.quercus.lib.ImageModule.imagepstext(a0, a1, DoubleValue.create(a2), a3, a4, a5, a6, a7, a8, a9, a10, a11);
+  }
+
+  /* com.caucho.quercus.lib.ImageModule : imagepstext */
+  final public com.caucho.quercus.env.ArrayValue imagepstext(com.caucho.quercus.lib.ImageModule.QuercusImage a0, String a1, double a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9, float a10) {
+    return com.caucho.quercus.lib.ImageModule.imagepstext(a0, a1, DoubleValue.create(a2), a3, a4, a5, a6, a7, a8, a9, a10, 0);
+  }
+
+  /* com.caucho.quercus.lib.ImageModule : imagepstext */
+  final public com.caucho.quercus.env.ArrayValue imagepstext(com.caucho.quercus.lib.ImageModule.QuercusImage a0, String a1, double a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9) {
+    return com.caucho.quercus.lib.ImageModule.imagepstext(a0, a1, DoubleValue.create(a2), a3, a4, a5, a6, a7, a8, a9, 0.0f, 0);
+  }
+
+  /* com.caucho.quercus.lib.ImageModule : imagepstext */
+  final public com.caucho.quercus.env.ArrayValue imagepstext(com.caucho.quercus.lib.ImageModule.QuercusImage a0, String a1, double a2, int a3, int a4, int a5, int a6, int a7, int a8) {
+    return com.caucho.quercus.lib.ImageModule.imagepstext(a0, a1, DoubleValue.create(a2), a3, a4, a5, a6, a7, a8, 0, 0.0f, 0);
+  }
+
+  /* com.caucho.quercus.lib.ImageModule : imagepstext */
+  final public com.caucho.quercus.env.ArrayValue imagepstext(com.caucho.quercus.lib.ImageModule.QuercusImage a0, String a1, double a2, int a3, int a4, int a5, int a6, int a7) {
+    return com.caucho.quercus.lib.ImageModule.imagepstext(a0, a1, DoubleValue.create(a2), a3, a4, a5, a6, a7, 0, 0, 0.0f, 0);
+  }
+
+  /* com.caucho.quercus.lib.ImageModule : imagepstext */
+  final public com.caucho.quercus.env.ArrayValue imagepstext(com.caucho.quercus.lib.ImageModule.QuercusImage a0, String a1, String a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9, float a10, int a11) {
+    return com.caucho.quercus.lib.ImageModule.imagepstext(a0, a1, quercus_context.createString(a2), a3, a4, a5, a6, a7, a8, a9, a10, a11);
+  }
+
+  /* com.caucho.quercus.lib.ImageModule : imagepstext */
+  final public com.caucho.quercus.env.ArrayValue imagepstext(com.caucho.quercus.lib.ImageModule.QuercusImage a0, String a1, String a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9, float a10) {
+    return com.caucho.quercus.lib.ImageModule.imagepstext(a0, a1, quercus_context.createString(a2), a3, a4, a5, a6, a7, a8, a9, a10, 0);
+  }
+
+  /* com.caucho.quercus.lib.ImageModule : imagepstext */
+  final public com.caucho.quercus.env.ArrayValue imagepstext(com.caucho.quercus.lib.ImageModule.QuercusImage a0, String a1, String a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9) {
+    return com.caucho.quercus.lib.ImageModule.imagepstext(a0, a1, quercus_context.createString(a2), a3, a4, a5, a6, a7, a8, a9, 0.0f, 0);
+  }
+
+  /* com.caucho.quercus.lib.ImageModule : imagepstext */
+  final public com.caucho.quercus.env.ArrayValue imagepstext(com.caucho.quercus.lib.ImageModule.QuercusImage a0, String a1, String a2, int a3, int a4, int a5, int a6, int a7, int a8) {
+    return com.caucho.quercus.lib.ImageModule.imagepstext(a0, a1, quercus_context.createString(a2), a3, a4, a5, a6, a7, a8, 0, 0.0f, 0);
+  }
+
+  /* com.caucho.quercus.lib.ImageModule : imagepstext */
+  final public com.caucho.quercus.env.ArrayValue imagepstext(com.caucho.quercus.lib.ImageModule.QuercusImage a0, String a1, String a2, int a3, int a4, int a5, int a6, int a7) {
+    return com.caucho.quercus.lib.ImageModule.imagepstext(a0, a1, quercus_context.createString(a2), a3, a4, a5, a6, a7, 0, 0, 0.0f, 0);
+  }
+
+  /* com.caucho.quercus.lib.ImageModule : imagettfbbox */
+  final public com.caucho.quercus.env.Value imagettfbbox(double a1, double a2, String a3, String a4) {
+    return com.caucho.quercus.lib.ImageModule.imagettfbbox(quercus_context, a1, a2, quercus_context.createString(a3), a4);
+  }
+
+  /* com.caucho.quercus.lib.ImageModule : imagettftext */
+  final public com.caucho.quercus.env.Value imagettftext(com.caucho.quercus.lib.ImageModule.QuercusImage a1, double a2, double a3, int a4, int a5, int a6, String a7, String a8) {
+    return com.caucho.quercus.lib.ImageModule.imagettftext(quercus_context, a1, a2, a3, a4, a5, a6, quercus_context.createString(a7), a8);
+  }
+
+  /* com.caucho.quercus.lib.JavaModule : get_java_class_name */
+  final public String get_java_class_name(long a1) {
+    return com.caucho.quercus.lib.JavaModule.get_java_class_name(quercus_context, LongValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.JavaModule : get_java_class_name */
+  final public String get_java_class_name(double a1) {
+    return com.caucho.quercus.lib.JavaModule.get_java_class_name(quercus_context, DoubleValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.JavaModule : get_java_class_name */
+  final public String get_java_class_name(String a1) {
+    return com.caucho.quercus.lib.JavaModule.get_java_class_name(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.MathModule : abs */
+  final public com.caucho.quercus.env.Value abs(long a0) {
+    return com.caucho.quercus.lib.MathModule.abs(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.MathModule : abs */
+  final public com.caucho.quercus.env.Value abs(double a0) {
+    return com.caucho.quercus.lib.MathModule.abs(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.MathModule : abs */
+  final public com.caucho.quercus.env.Value abs(String a0) {
+    return com.caucho.quercus.lib.MathModule.abs(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.MathModule : asin */
+  final public com.caucho.quercus.env.Value asin(long a0) {
+    return com.caucho.quercus.lib.MathModule.asin(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.MathModule : asin */
+  final public com.caucho.quercus.env.Value asin(double a0) {
+    return com.caucho.quercus.lib.MathModule.asin(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.MathModule : asin */
+  final public com.caucho.quercus.env.Value asin(String a0) {
+    return com.caucho.quercus.lib.MathModule.asin(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.MathModule : base_convert */
+  final public com.caucho.quercus.env.Value base_convert(String a1, int a2, int a3) {
+    return com.caucho.quercus.lib.MathModule.base_convert(quercus_context, quercus_context.createString(a1), a2, a3);
+  }
+
+  /* com.caucho.quercus.lib.MathModule : bindec */
+  final public com.caucho.quercus.env.Value bindec(String a1) {
+    return com.caucho.quercus.lib.MathModule.bindec(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.MathModule : exp */
+  final public com.caucho.quercus.env.Value exp(long a0) {
+    return com.caucho.quercus.lib.MathModule.exp(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.MathModule : exp */
+  final public com.caucho.quercus.env.Value exp(double a0) {
+    return com.caucho.quercus.lib.MathModule.exp(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.MathModule : exp */
+  final public com.caucho.quercus.env.Value exp(String a0) {
+    return com.caucho.quercus.lib.MathModule.exp(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.MathModule : expm1 */
+  final public com.caucho.quercus.env.Value expm1(long a0) {
+    return com.caucho.quercus.lib.MathModule.expm1(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.MathModule : expm1 */
+  final public com.caucho.quercus.env.Value expm1(double a0) {
+    return com.caucho.quercus.lib.MathModule.expm1(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.MathModule : expm1 */
+  final public com.caucho.quercus.env.Value expm1(String a0) {
+    return com.caucho.quercus.lib.MathModule.expm1(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.MathModule : hexdec */
+  final public com.caucho.quercus.env.Value hexdec(String a1) {
+    return com.caucho.quercus.lib.MathModule.hexdec(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.MathModule : is_finite */
+  final public boolean is_finite(long a0) {
+    return com.caucho.quercus.lib.MathModule.is_finite(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.MathModule : is_finite */
+  final public boolean is_finite(double a0) {
+    return com.caucho.quercus.lib.MathModule.is_finite(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.MathModule : is_finite */
+  final public boolean is_finite(String a0) {
+    return com.caucho.quercus.lib.MathModule.is_finite(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.MathModule : is_infinite */
+  final public com.caucho.quercus.env.Value is_infinite(long a0) {
+    return com.caucho.quercus.lib.MathModule.is_infinite(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.MathModule : is_infinite */
+  final public com.caucho.quercus.env.Value is_infinite(double a0) {
+    return com.caucho.quercus.lib.MathModule.is_infinite(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.MathModule : is_infinite */
+  final public com.caucho.quercus.env.Value is_infinite(String a0) {
+    return com.caucho.quercus.lib.MathModule.is_infinite(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.MathModule : is_nan */
+  final public com.caucho.quercus.env.Value is_nan(long a0) {
+    return com.caucho.quercus.lib.MathModule.is_nan(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.MathModule : is_nan */
+  final public com.caucho.quercus.env.Value is_nan(double a0) {
+    return com.caucho.quercus.lib.MathModule.is_nan(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.MathModule : is_nan */
+  final public com.caucho.quercus.env.Value is_nan(String a0) {
+    return com.caucho.quercus.lib.MathModule.is_nan(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.MathModule : octdec */
+  final public com.caucho.quercus.env.Value octdec(String a1) {
+    return com.caucho.quercus.lib.MathModule.octdec(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.MathModule : sinh */
+  final public com.caucho.quercus.env.Value sinh(long a0) {
+    return com.caucho.quercus.lib.MathModule.sinh(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.MathModule : sinh */
+  final public com.caucho.quercus.env.Value sinh(double a0) {
+    return com.caucho.quercus.lib.MathModule.sinh(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.MathModule : sinh */
+  final public com.caucho.quercus.env.Value sinh(String a0) {
+    return com.caucho.quercus.lib.MathModule.sinh(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.MiscModule : escapeshellarg */
+  final public com.caucho.quercus.env.StringValue escapeshellarg(String a1) {
+    return com.caucho.quercus.lib.MiscModule.escapeshellarg(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.MiscModule : exec */
+  final public String exec(String a1, long a2, long a3) {
+    return com.caucho.quercus.lib.MiscModule.exec(quercus_context, a1, LongValue.create(a2), LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.MiscModule : exec */
+  final public String exec(String a1, long a2) {
+    return com.caucho.quercus.lib.MiscModule.exec(quercus_context, a1, LongValue.create(a2), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.MiscModule : exec */
+  final public String exec(String a1) {
+    return com.caucho.quercus.lib.MiscModule.exec(quercus_context, a1, DefaultValue.DEFAULT, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.MiscModule : exec */
+  final public String exec(String a1, double a2, long a3) {
+    return com.caucho.quercus.lib.MiscModule.exec(quercus_context, a1, DoubleValue.create(a2), LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.MiscModule : exec */
+  final public String exec(String a1, double a2) {
+    return com.caucho.quercus.lib.MiscModule.exec(quercus_context, a1, DoubleValue.create(a2), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.MiscModule : exec */
+  final public String exec(String a1, String a2, long a3) {
+    return com.caucho.quercus.lib.MiscModule.exec(quercus_context, a1, quercus_context.createString(a2), LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.MiscModule : exec */
+  final public String exec(String a1, String a2) {
+    return com.caucho.quercus.lib.MiscModule.exec(quercus_context, a1, quercus_context.createString(a2), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.MiscModule : exec */
+  final public String exec(String a1, long a2, double a3) {
+    return com.caucho.quercus.lib.MiscModule.exec(quercus_context, a1, LongValue.create(a2), DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.MiscModule : exec */
+  final public String exec(String a1, double a2, double a3) {
+    return com.caucho.quercus.lib.MiscModule.exec(quercus_context, a1, DoubleValue.create(a2), DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.MiscModule : exec */
+  final public String exec(String a1, String a2, double a3) {
+    return com.caucho.quercus.lib.MiscModule.exec(quercus_context, a1, quercus_context.createString(a2), DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.MiscModule : exec */
+  final public String exec(String a1, long a2, String a3) {
+    return com.caucho.quercus.lib.MiscModule.exec(quercus_context, a1, LongValue.create(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.MiscModule : exec */
+  final public String exec(String a1, double a2, String a3) {
+    return com.caucho.quercus.lib.MiscModule.exec(quercus_context, a1, DoubleValue.create(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.MiscModule : exec */
+  final public String exec(String a1, String a2, String a3) {
+    return com.caucho.quercus.lib.MiscModule.exec(quercus_context, a1, quercus_context.createString(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.MiscModule : passthru */
+  final public void passthru(String a1, long a2) {
+    com.caucho.quercus.lib.MiscModule.passthru(quercus_context, a1, LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.MiscModule : passthru */
+  final public void passthru(String a1) {
+    com.caucho.quercus.lib.MiscModule.passthru(quercus_context, a1, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.MiscModule : passthru */
+  final public void passthru(String a1, double a2) {
+    com.caucho.quercus.lib.MiscModule.passthru(quercus_context, a1, DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.MiscModule : passthru */
+  final public void passthru(String a1, String a2) {
+    com.caucho.quercus.lib.MiscModule.passthru(quercus_context, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.MiscModule : proc_open */
+  final public com.caucho.quercus.lib.ProcOpenResource proc_open(String a1, com.caucho.quercus.env.ArrayValue a2, long a3, com.caucho.vfs.Path a4, com.caucho.quercus.env.ArrayValue a5, com.caucho.quercus.env.ArrayValue a6) {
+    return com.caucho.quercus.lib.MiscModule.proc_open(quercus_context, a1, a2, LongValue.create(a3), a4, a5, a6);
+  }
+
+  /* com.caucho.quercus.lib.MiscModule : proc_open */
+  final public com.caucho.quercus.lib.ProcOpenResource proc_open(String a1, com.caucho.quercus.env.ArrayValue a2, double a3, com.caucho.vfs.Path a4, com.caucho.quercus.env.ArrayValue a5, com.caucho.quercus.env.ArrayValue a6) {
+    return com.caucho.quercus.lib.MiscModule.proc_open(quercus_context, a1, a2, DoubleValue.create(a3), a4, a5, a6);
+  }
+
+  /* com.caucho.quercus.lib.MiscModule : proc_open */
+  final public com.caucho.quercus.lib.ProcOpenResource proc_open(String a1, com.caucho.quercus.env.ArrayValue a2, String a3, com.caucho.vfs.Path a4, com.caucho.quercus.env.ArrayValue a5, com.caucho.quercus.env.ArrayValue a6) {
+    return com.caucho.quercus.lib.MiscModule.proc_open(quercus_context, a1, a2, quercus_context.createString(a3), a4, a5, a6);
+  }
+
+  /* com.caucho.quercus.lib.MiscModule : system */
+  final public String system(String a1, long a2) {
+    return com.caucho.quercus.lib.MiscModule.system(quercus_context, a1, LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.MiscModule : system */
+  final public String system(String a1) {
+    return com.caucho.quercus.lib.MiscModule.system(quercus_context, a1, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.MiscModule : system */
+  final public String system(String a1, double a2) {
+    return com.caucho.quercus.lib.MiscModule.system(quercus_context, a1, DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.MiscModule : system */
+  final public String system(String a1, String a2) {
+    return com.caucho.quercus.lib.MiscModule.system(quercus_context, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : dns_get_mx */
+  final public boolean dns_get_mx(String a1, long a2, long a3) {
+    return com.caucho.quercus.lib.NetworkModule.dns_get_mx(quercus_context, a1, LongValue.create(a2), LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : dns_get_mx */
+  final public boolean dns_get_mx(String a1, long a2) {
+    return com.caucho.quercus.lib.NetworkModule.dns_get_mx(quercus_context, a1, LongValue.create(a2), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : dns_get_mx */
+  final public boolean dns_get_mx(String a1, double a2, long a3) {
+    return com.caucho.quercus.lib.NetworkModule.dns_get_mx(quercus_context, a1, DoubleValue.create(a2), LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : dns_get_mx */
+  final public boolean dns_get_mx(String a1, double a2) {
+    return com.caucho.quercus.lib.NetworkModule.dns_get_mx(quercus_context, a1, DoubleValue.create(a2), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : dns_get_mx */
+  final public boolean dns_get_mx(String a1, String a2, long a3) {
+    return com.caucho.quercus.lib.NetworkModule.dns_get_mx(quercus_context, a1, quercus_context.createString(a2), LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : dns_get_mx */
+  final public boolean dns_get_mx(String a1, String a2) {
+    return com.caucho.quercus.lib.NetworkModule.dns_get_mx(quercus_context, a1, quercus_context.createString(a2), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : dns_get_mx */
+  final public boolean dns_get_mx(String a1, long a2, double a3) {
+    return com.caucho.quercus.lib.NetworkModule.dns_get_mx(quercus_context, a1, LongValue.create(a2), DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : dns_get_mx */
+  final public boolean dns_get_mx(String a1, double a2, double a3) {
+    return com.caucho.quercus.lib.NetworkModule.dns_get_mx(quercus_context, a1, DoubleValue.create(a2), DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : dns_get_mx */
+  final public boolean dns_get_mx(String a1, String a2, double a3) {
+    return com.caucho.quercus.lib.NetworkModule.dns_get_mx(quercus_context, a1, quercus_context.createString(a2), DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : dns_get_mx */
+  final public boolean dns_get_mx(String a1, long a2, String a3) {
+    return com.caucho.quercus.lib.NetworkModule.dns_get_mx(quercus_context, a1, LongValue.create(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : dns_get_mx */
+  final public boolean dns_get_mx(String a1, double a2, String a3) {
+    return com.caucho.quercus.lib.NetworkModule.dns_get_mx(quercus_context, a1, DoubleValue.create(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : dns_get_mx */
+  final public boolean dns_get_mx(String a1, String a2, String a3) {
+    return com.caucho.quercus.lib.NetworkModule.dns_get_mx(quercus_context, a1, quercus_context.createString(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : fsockopen */
+  final public com.caucho.quercus.lib.file.SocketInputOutput fsockopen(String a1, int a2, long a3, long a4, double a5) {
+    return com.caucho.quercus.lib.NetworkModule.fsockopen(quercus_context, a1, a2, LongValue.create(a3), LongValue.create(a4), a5);
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : fsockopen */
+  final public com.caucho.quercus.lib.file.SocketInputOutput fsockopen(String a1, int a2, long a3, long a4) {
+    return com.caucho.quercus.lib.NetworkModule.fsockopen(quercus_context, a1, a2, LongValue.create(a3), LongValue.create(a4), 0.0);
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : fsockopen */
+  final public com.caucho.quercus.lib.file.SocketInputOutput fsockopen(String a1, int a2, long a3) {
+    return com.caucho.quercus.lib.NetworkModule.fsockopen(quercus_context, a1, a2, LongValue.create(a3), DefaultValue.DEFAULT, 0.0);
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : fsockopen */
+  final public com.caucho.quercus.lib.file.SocketInputOutput fsockopen(String a1, int a2) {
+    return com.caucho.quercus.lib.NetworkModule.fsockopen(quercus_context, a1, a2, DefaultValue.DEFAULT, DefaultValue.DEFAULT, 0.0);
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : fsockopen */
+  final public com.caucho.quercus.lib.file.SocketInputOutput fsockopen(String a1) {
+    return com.caucho.quercus.lib.NetworkModule.fsockopen(quercus_context, a1, 0, DefaultValue.DEFAULT, DefaultValue.DEFAULT, 0.0);
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : fsockopen */
+  final public com.caucho.quercus.lib.file.SocketInputOutput fsockopen(String a1, int a2, double a3, long a4, double a5) {
+    return com.caucho.quercus.lib.NetworkModule.fsockopen(quercus_context, a1, a2, DoubleValue.create(a3), LongValue.create(a4), a5);
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : fsockopen */
+  final public com.caucho.quercus.lib.file.SocketInputOutput fsockopen(String a1, int a2, double a3, long a4) {
+    return com.caucho.quercus.lib.NetworkModule.fsockopen(quercus_context, a1, a2, DoubleValue.create(a3), LongValue.create(a4), 0.0);
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : fsockopen */
+  final public com.caucho.quercus.lib.file.SocketInputOutput fsockopen(String a1, int a2, double a3) {
+    return com.caucho.quercus.lib.NetworkModule.fsockopen(quercus_context, a1, a2, DoubleValue.create(a3), DefaultValue.DEFAULT, 0.0);
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : fsockopen */
+  final public com.caucho.quercus.lib.file.SocketInputOutput fsockopen(String a1, int a2, String a3, long a4, double a5) {
+    return com.caucho.quercus.lib.NetworkModule.fsockopen(quercus_context, a1, a2, quercus_context.createString(a3), LongValue.create(a4), a5);
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : fsockopen */
+  final public com.caucho.quercus.lib.file.SocketInputOutput fsockopen(String a1, int a2, String a3, long a4) {
+    return com.caucho.quercus.lib.NetworkModule.fsockopen(quercus_context, a1, a2, quercus_context.createString(a3), LongValue.create(a4), 0.0);
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : fsockopen */
+  final public com.caucho.quercus.lib.file.SocketInputOutput fsockopen(String a1, int a2, String a3) {
+    return com.caucho.quercus.lib.NetworkModule.fsockopen(quercus_context, a1, a2, quercus_context.createString(a3), DefaultValue.DEFAULT, 0.0);
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : fsockopen */
+  final public com.caucho.quercus.lib.file.SocketInputOutput fsockopen(String a1, int a2, long a3, double a4, double a5) {
+    return com.caucho.quercus.lib.NetworkModule.fsockopen(quercus_context, a1, a2, LongValue.create(a3), DoubleValue.create(a4), a5);
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : fsockopen */
+  final public com.caucho.quercus.lib.file.SocketInputOutput fsockopen(String a1, int a2, long a3, double a4) {
+    return com.caucho.quercus.lib.NetworkModule.fsockopen(quercus_context, a1, a2, LongValue.create(a3), DoubleValue.create(a4), 0.0);
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : fsockopen */
+  final public com.caucho.quercus.lib.file.SocketInputOutput fsockopen(String a1, int a2, double a3, double a4, double a5) {
+    return com.caucho.quercus.lib.NetworkModule.fsockopen(quercus_context, a1, a2, DoubleValue.create(a3), DoubleValue.create(a4), a5);
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : fsockopen */
+  final public com.caucho.quercus.lib.file.SocketInputOutput fsockopen(String a1, int a2, double a3, double a4) {
+    return com.caucho.quercus.lib.NetworkModule.fsockopen(quercus_context, a1, a2, DoubleValue.create(a3), DoubleValue.create(a4), 0.0);
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : fsockopen */
+  final public com.caucho.quercus.lib.file.SocketInputOutput fsockopen(String a1, int a2, String a3, double a4, double a5) {
+    return com.caucho.quercus.lib.NetworkModule.fsockopen(quercus_context, a1, a2, quercus_context.createString(a3), DoubleValue.create(a4), a5);
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : fsockopen */
+  final public com.caucho.quercus.lib.file.SocketInputOutput fsockopen(String a1, int a2, String a3, double a4) {
+    return com.caucho.quercus.lib.NetworkModule.fsockopen(quercus_context, a1, a2, quercus_context.createString(a3), DoubleValue.create(a4), 0.0);
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : fsockopen */
+  final public com.caucho.quercus.lib.file.SocketInputOutput fsockopen(String a1, int a2, long a3, String a4, double a5) {
+    return com.caucho.quercus.lib.NetworkModule.fsockopen(quercus_context, a1, a2, LongValue.create(a3), quercus_context.createString(a4), a5);
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : fsockopen */
+  final public com.caucho.quercus.lib.file.SocketInputOutput fsockopen(String a1, int a2, long a3, String a4) {
+    return com.caucho.quercus.lib.NetworkModule.fsockopen(quercus_context, a1, a2, LongValue.create(a3), quercus_context.createString(a4), 0.0);
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : fsockopen */
+  final public com.caucho.quercus.lib.file.SocketInputOutput fsockopen(String a1, int a2, double a3, String a4, double a5) {
+    return com.caucho.quercus.lib.NetworkModule.fsockopen(quercus_context, a1, a2, DoubleValue.create(a3), quercus_context.createString(a4), a5);
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : fsockopen */
+  final public com.caucho.quercus.lib.file.SocketInputOutput fsockopen(String a1, int a2, double a3, String a4) {
+    return com.caucho.quercus.lib.NetworkModule.fsockopen(quercus_context, a1, a2, DoubleValue.create(a3), quercus_context.createString(a4), 0.0);
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : fsockopen */
+  final public com.caucho.quercus.lib.file.SocketInputOutput fsockopen(String a1, int a2, String a3, String a4, double a5) {
+    return com.caucho.quercus.lib.NetworkModule.fsockopen(quercus_context, a1, a2, quercus_context.createString(a3), quercus_context.createString(a4), a5);
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : fsockopen */
+  final public com.caucho.quercus.lib.file.SocketInputOutput fsockopen(String a1, int a2, String a3, String a4) {
+    return com.caucho.quercus.lib.NetworkModule.fsockopen(quercus_context, a1, a2, quercus_context.createString(a3), quercus_context.createString(a4), 0.0);
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : getmxrr */
+  final public boolean getmxrr(String a1, long a2, long a3) {
+    return com.caucho.quercus.lib.NetworkModule.getmxrr(quercus_context, a1, LongValue.create(a2), LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : getmxrr */
+  final public boolean getmxrr(String a1, long a2) {
+    return com.caucho.quercus.lib.NetworkModule.getmxrr(quercus_context, a1, LongValue.create(a2), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : getmxrr */
+  final public boolean getmxrr(String a1, double a2, long a3) {
+    return com.caucho.quercus.lib.NetworkModule.getmxrr(quercus_context, a1, DoubleValue.create(a2), LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : getmxrr */
+  final public boolean getmxrr(String a1, double a2) {
+    return com.caucho.quercus.lib.NetworkModule.getmxrr(quercus_context, a1, DoubleValue.create(a2), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : getmxrr */
+  final public boolean getmxrr(String a1, String a2, long a3) {
+    return com.caucho.quercus.lib.NetworkModule.getmxrr(quercus_context, a1, quercus_context.createString(a2), LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : getmxrr */
+  final public boolean getmxrr(String a1, String a2) {
+    return com.caucho.quercus.lib.NetworkModule.getmxrr(quercus_context, a1, quercus_context.createString(a2), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : getmxrr */
+  final public boolean getmxrr(String a1, long a2, double a3) {
+    return com.caucho.quercus.lib.NetworkModule.getmxrr(quercus_context, a1, LongValue.create(a2), DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : getmxrr */
+  final public boolean getmxrr(String a1, double a2, double a3) {
+    return com.caucho.quercus.lib.NetworkModule.getmxrr(quercus_context, a1, DoubleValue.create(a2), DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : getmxrr */
+  final public boolean getmxrr(String a1, String a2, double a3) {
+    return com.caucho.quercus.lib.NetworkModule.getmxrr(quercus_context, a1, quercus_context.createString(a2), DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : getmxrr */
+  final public boolean getmxrr(String a1, long a2, String a3) {
+    return com.caucho.quercus.lib.NetworkModule.getmxrr(quercus_context, a1, LongValue.create(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : getmxrr */
+  final public boolean getmxrr(String a1, double a2, String a3) {
+    return com.caucho.quercus.lib.NetworkModule.getmxrr(quercus_context, a1, DoubleValue.create(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.NetworkModule : getmxrr */
+  final public boolean getmxrr(String a1, String a2, String a3) {
+    return com.caucho.quercus.lib.NetworkModule.getmxrr(quercus_context, a1, quercus_context.createString(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.OptionsModule : assert_options */
+  final public com.caucho.quercus.env.Value assert_options(int a1, long a2) {
+    return com.caucho.quercus.lib.OptionsModule.assert_options(quercus_context, a1, LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.OptionsModule : assert_options */
+  final public com.caucho.quercus.env.Value assert_options(int a1, double a2) {
+    return com.caucho.quercus.lib.OptionsModule.assert_options(quercus_context, a1, DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.OptionsModule : assert_options */
+  final public com.caucho.quercus.env.Value assert_options(int a1, String a2) {
+    return com.caucho.quercus.lib.OptionsModule.assert_options(quercus_context, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.OptionsModule : getenv */
+  final public com.caucho.quercus.env.Value getenv(String a1) {
+    return com.caucho.quercus.lib.OptionsModule.getenv(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.OptionsModule : ini_alter */
+  final public com.caucho.quercus.env.Value ini_alter(String a1, String a2) {
+    return com.caucho.quercus.lib.OptionsModule.ini_alter(quercus_context, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.OptionsModule : ini_set */
+  final public com.caucho.quercus.env.StringValue ini_set(String a1, String a2) {
+    return com.caucho.quercus.lib.OptionsModule.ini_set(quercus_context, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.OptionsModule : phpversion */
+  final public com.caucho.quercus.env.StringValue phpversion(String a1) {
+    return com.caucho.quercus.lib.OptionsModule.phpversion(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.OptionsModule : putenv */
+  final public boolean putenv(String a1) {
+    return com.caucho.quercus.lib.OptionsModule.putenv(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.OptionsModule : set_magic_quotes_runtime */
+  final public com.caucho.quercus.env.Value set_magic_quotes_runtime(long a1) {
+    return com.caucho.quercus.lib.OptionsModule.set_magic_quotes_runtime(quercus_context, LongValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.OptionsModule : set_magic_quotes_runtime */
+  final public com.caucho.quercus.env.Value set_magic_quotes_runtime(double a1) {
+    return com.caucho.quercus.lib.OptionsModule.set_magic_quotes_runtime(quercus_context, DoubleValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.OptionsModule : set_magic_quotes_runtime */
+  final public com.caucho.quercus.env.Value set_magic_quotes_runtime(String a1) {
+    return com.caucho.quercus.lib.OptionsModule.set_magic_quotes_runtime(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.OptionsModule : version_compare */
+  final public com.caucho.quercus.env.Value version_compare(String a1, String a2, String a3) {
+    return com.caucho.quercus.lib.OptionsModule.version_compare(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.OutputModule : ob_gzhandler */
+  final public com.caucho.quercus.env.Value ob_gzhandler(String a1, int a2) {
+    return com.caucho.quercus.lib.OutputModule.ob_gzhandler(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.TokenModule : highlight_file */
+  final public com.caucho.quercus.env.Value highlight_file(String a1, boolean a2) {
+    return com.caucho.quercus.lib.TokenModule.highlight_file(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.TokenModule : highlight_file */
+  final public com.caucho.quercus.env.Value highlight_file(String a1) {
+    return com.caucho.quercus.lib.TokenModule.highlight_file(quercus_context, quercus_context.createString(a1), false);
+  }
+
+  /* com.caucho.quercus.lib.TokenModule : highlight_string */
+  final public com.caucho.quercus.env.Value highlight_string(String a1, boolean a2) {
+    return com.caucho.quercus.lib.TokenModule.highlight_string(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.TokenModule : highlight_string */
+  final public com.caucho.quercus.env.Value highlight_string(String a1) {
+    return com.caucho.quercus.lib.TokenModule.highlight_string(quercus_context, quercus_context.createString(a1), false);
+  }
+
+  /* com.caucho.quercus.lib.TokenModule : token_get_all */
+  final public com.caucho.quercus.env.ArrayValue token_get_all(String a1) {
+    return com.caucho.quercus.lib.TokenModule.token_get_all(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.UrlModule : base64_decode */
+  final public com.caucho.quercus.env.Value base64_decode(String a1, boolean a2) {
+    return com.caucho.quercus.lib.UrlModule.base64_decode(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.UrlModule : base64_decode */
+  final public com.caucho.quercus.env.Value base64_decode(String a1) {
+    return com.caucho.quercus.lib.UrlModule.base64_decode(quercus_context, quercus_context.createString(a1), false);
+  }
+
+  /* com.caucho.quercus.lib.UrlModule : base64_encode */
+  final public String base64_encode(String a0) {
+    return com.caucho.quercus.lib.UrlModule.base64_encode(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.UrlModule : get_headers */
+  final public com.caucho.quercus.env.Value get_headers(String a1, long a2) {
+    return com.caucho.quercus.lib.UrlModule.get_headers(quercus_context, a1, LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.UrlModule : get_headers */
+  final public com.caucho.quercus.env.Value get_headers(String a1) {
+    return com.caucho.quercus.lib.UrlModule.get_headers(quercus_context, a1, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.UrlModule : get_headers */
+  final public com.caucho.quercus.env.Value get_headers(String a1, double a2) {
+    return com.caucho.quercus.lib.UrlModule.get_headers(quercus_context, a1, DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.UrlModule : get_headers */
+  final public com.caucho.quercus.env.Value get_headers(String a1, String a2) {
+    return com.caucho.quercus.lib.UrlModule.get_headers(quercus_context, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.UrlModule : get_meta_tags */
+  final public com.caucho.quercus.env.Value get_meta_tags(String a1, boolean a2) {
+    return com.caucho.quercus.lib.UrlModule.get_meta_tags(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.UrlModule : get_meta_tags */
+  final public com.caucho.quercus.env.Value get_meta_tags(String a1) {
+    return com.caucho.quercus.lib.UrlModule.get_meta_tags(quercus_context, quercus_context.createString(a1), false);
+  }
+
+  /* com.caucho.quercus.lib.UrlModule : http_build_query */
+  final public com.caucho.quercus.env.Value http_build_query(long a1, String a2, String a3) {
+    return com.caucho.quercus.lib.UrlModule.http_build_query(quercus_context, LongValue.create(a1), quercus_context.createString(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.UrlModule : http_build_query */
+  final public com.caucho.quercus.env.Value http_build_query(double a1, String a2, String a3) {
+    return com.caucho.quercus.lib.UrlModule.http_build_query(quercus_context, DoubleValue.create(a1), quercus_context.createString(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.UrlModule : http_build_query */
+  final public com.caucho.quercus.env.Value http_build_query(String a1, String a2, String a3) {
+    return com.caucho.quercus.lib.UrlModule.http_build_query(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.UrlModule : parse_url */
+  final public com.caucho.quercus.env.Value parse_url(String a1, int a2) {
+    return com.caucho.quercus.lib.UrlModule.parse_url(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.UrlModule : parse_url */
+  final public com.caucho.quercus.env.Value parse_url(String a1) {
+    return com.caucho.quercus.lib.UrlModule.parse_url(quercus_context, quercus_context.createString(a1), -1);
+  }
+
+  /* com.caucho.quercus.lib.UrlModule : urlencode */
+  final public com.caucho.quercus.env.StringValue urlencode(String a0) {
+    return com.caucho.quercus.lib.UrlModule.urlencode(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : debug_zval_dump */
+  final public com.caucho.quercus.env.Value debug_zval_dump(long a1) {
+    return com.caucho.quercus.lib.VariableModule.debug_zval_dump(quercus_context, LongValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : debug_zval_dump */
+  final public com.caucho.quercus.env.Value debug_zval_dump(double a1) {
+    return com.caucho.quercus.lib.VariableModule.debug_zval_dump(quercus_context, DoubleValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : debug_zval_dump */
+  final public com.caucho.quercus.env.Value debug_zval_dump(String a1) {
+    return com.caucho.quercus.lib.VariableModule.debug_zval_dump(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : define */
+  final public com.caucho.quercus.env.Value define(String a1, long a2, boolean a3) {
+    return com.caucho.quercus.lib.VariableModule.define(quercus_context, quercus_context.createString(a1), LongValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : define */
+  final public com.caucho.quercus.env.Value define(String a1, long a2) {
+    return com.caucho.quercus.lib.VariableModule.define(quercus_context, quercus_context.createString(a1), LongValue.create(a2), false);
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : define */
+  final public com.caucho.quercus.env.Value define(String a1, double a2, boolean a3) {
+    return com.caucho.quercus.lib.VariableModule.define(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : define */
+  final public com.caucho.quercus.env.Value define(String a1, double a2) {
+    return com.caucho.quercus.lib.VariableModule.define(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2), false);
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : define */
+  final public com.caucho.quercus.env.Value define(String a1, String a2, boolean a3) {
+    return com.caucho.quercus.lib.VariableModule.define(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : define */
+  final public com.caucho.quercus.env.Value define(String a1, String a2) {
+    return com.caucho.quercus.lib.VariableModule.define(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), false);
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : doubleval */
+  final public com.caucho.quercus.env.Value doubleval(long a0) {
+    return com.caucho.quercus.lib.VariableModule.doubleval(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : doubleval */
+  final public com.caucho.quercus.env.Value doubleval(double a0) {
+    return com.caucho.quercus.lib.VariableModule.doubleval(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : doubleval */
+  final public com.caucho.quercus.env.Value doubleval(String a0) {
+    return com.caucho.quercus.lib.VariableModule.doubleval(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : empty */
+  final public boolean empty(long a0) {
+    return com.caucho.quercus.lib.VariableModule.empty(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : empty */
+  final public boolean empty(double a0) {
+    return com.caucho.quercus.lib.VariableModule.empty(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : empty */
+  final public boolean empty(String a0) {
+    return com.caucho.quercus.lib.VariableModule.empty(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : floatval */
+  final public com.caucho.quercus.env.Value floatval(long a0) {
+    return com.caucho.quercus.lib.VariableModule.floatval(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : floatval */
+  final public com.caucho.quercus.env.Value floatval(double a0) {
+    return com.caucho.quercus.lib.VariableModule.floatval(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : floatval */
+  final public com.caucho.quercus.env.Value floatval(String a0) {
+    return com.caucho.quercus.lib.VariableModule.floatval(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : get_resource_type */
+  final public String get_resource_type(long a1) {
+    return com.caucho.quercus.lib.VariableModule.get_resource_type(quercus_context, LongValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : get_resource_type */
+  final public String get_resource_type(double a1) {
+    return com.caucho.quercus.lib.VariableModule.get_resource_type(quercus_context, DoubleValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : get_resource_type */
+  final public String get_resource_type(String a1) {
+    return com.caucho.quercus.lib.VariableModule.get_resource_type(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : gettype */
+  final public String gettype(long a0) {
+    return com.caucho.quercus.lib.VariableModule.gettype(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : gettype */
+  final public String gettype(double a0) {
+    return com.caucho.quercus.lib.VariableModule.gettype(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : gettype */
+  final public String gettype(String a0) {
+    return com.caucho.quercus.lib.VariableModule.gettype(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : intval */
+  final public long intval(long a0, int a1) {
+    return com.caucho.quercus.lib.VariableModule.intval(LongValue.create(a0), a1);
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : intval */
+  final public long intval(double a0, int a1) {
+    return com.caucho.quercus.lib.VariableModule.intval(DoubleValue.create(a0), a1);
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : intval */
+  final public long intval(String a0, int a1) {
+    return com.caucho.quercus.lib.VariableModule.intval(quercus_context.createString(a0), a1);
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : intval */
+  final public com.caucho.quercus.env.Value intval(long a0) {
+    return com.caucho.quercus.lib.VariableModule.intval(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : intval */
+  final public com.caucho.quercus.env.Value intval(double a0) {
+    return com.caucho.quercus.lib.VariableModule.intval(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : intval */
+  final public com.caucho.quercus.env.Value intval(String a0) {
+    return com.caucho.quercus.lib.VariableModule.intval(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_array */
+  final public boolean is_array(long a0) {
+    return com.caucho.quercus.lib.VariableModule.is_array(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_array */
+  final public boolean is_array(double a0) {
+    return com.caucho.quercus.lib.VariableModule.is_array(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_array */
+  final public boolean is_array(String a0) {
+    return com.caucho.quercus.lib.VariableModule.is_array(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_bool */
+  final public com.caucho.quercus.env.Value is_bool(long a0) {
+    return com.caucho.quercus.lib.VariableModule.is_bool(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_bool */
+  final public com.caucho.quercus.env.Value is_bool(double a0) {
+    return com.caucho.quercus.lib.VariableModule.is_bool(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_bool */
+  final public com.caucho.quercus.env.Value is_bool(String a0) {
+    return com.caucho.quercus.lib.VariableModule.is_bool(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_callable */
+  final public boolean is_callable(long a1, boolean a2, long a3) {
+    return com.caucho.quercus.lib.VariableModule.is_callable(quercus_context, LongValue.create(a1), a2, LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_callable */
+  final public boolean is_callable(long a1, boolean a2) {
+    return com.caucho.quercus.lib.VariableModule.is_callable(quercus_context, LongValue.create(a1), a2, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_callable */
+  final public boolean is_callable(long a1) {
+    return com.caucho.quercus.lib.VariableModule.is_callable(quercus_context, LongValue.create(a1), false, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_callable */
+  final public boolean is_callable(double a1, boolean a2, long a3) {
+    return com.caucho.quercus.lib.VariableModule.is_callable(quercus_context, DoubleValue.create(a1), a2, LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_callable */
+  final public boolean is_callable(double a1, boolean a2) {
+    return com.caucho.quercus.lib.VariableModule.is_callable(quercus_context, DoubleValue.create(a1), a2, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_callable */
+  final public boolean is_callable(double a1) {
+    return com.caucho.quercus.lib.VariableModule.is_callable(quercus_context, DoubleValue.create(a1), false, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_callable */
+  final public boolean is_callable(String a1, boolean a2, long a3) {
+    return com.caucho.quercus.lib.VariableModule.is_callable(quercus_context, quercus_context.createString(a1), a2, LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_callable */
+  final public boolean is_callable(String a1, boolean a2) {
+    return com.caucho.quercus.lib.VariableModule.is_callable(quercus_context, quercus_context.createString(a1), a2, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_callable */
+  final public boolean is_callable(String a1) {
+    return com.caucho.quercus.lib.VariableModule.is_callable(quercus_context, quercus_context.createString(a1), false, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_callable */
+  final public boolean is_callable(long a1, boolean a2, double a3) {
+    return com.caucho.quercus.lib.VariableModule.is_callable(quercus_context, LongValue.create(a1), a2, DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_callable */
+  final public boolean is_callable(double a1, boolean a2, double a3) {
+    return com.caucho.quercus.lib.VariableModule.is_callable(quercus_context, DoubleValue.create(a1), a2, DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_callable */
+  final public boolean is_callable(String a1, boolean a2, double a3) {
+    return com.caucho.quercus.lib.VariableModule.is_callable(quercus_context, quercus_context.createString(a1), a2, DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_callable */
+  final public boolean is_callable(long a1, boolean a2, String a3) {
+    return com.caucho.quercus.lib.VariableModule.is_callable(quercus_context, LongValue.create(a1), a2, quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_callable */
+  final public boolean is_callable(double a1, boolean a2, String a3) {
+    return com.caucho.quercus.lib.VariableModule.is_callable(quercus_context, DoubleValue.create(a1), a2, quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_callable */
+  final public boolean is_callable(String a1, boolean a2, String a3) {
+    return com.caucho.quercus.lib.VariableModule.is_callable(quercus_context, quercus_context.createString(a1), a2, quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_double */
+  final public boolean is_double(long a0) {
+    return com.caucho.quercus.lib.VariableModule.is_double(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_double */
+  final public boolean is_double(double a0) {
+    return com.caucho.quercus.lib.VariableModule.is_double(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_double */
+  final public boolean is_double(String a0) {
+    return com.caucho.quercus.lib.VariableModule.is_double(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_float */
+  final public boolean is_float(long a0) {
+    return com.caucho.quercus.lib.VariableModule.is_float(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_float */
+  final public boolean is_float(double a0) {
+    return com.caucho.quercus.lib.VariableModule.is_float(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_float */
+  final public boolean is_float(String a0) {
+    return com.caucho.quercus.lib.VariableModule.is_float(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_int */
+  final public com.caucho.quercus.env.Value is_int(long a0) {
+    return com.caucho.quercus.lib.VariableModule.is_int(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_int */
+  final public com.caucho.quercus.env.Value is_int(double a0) {
+    return com.caucho.quercus.lib.VariableModule.is_int(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_int */
+  final public com.caucho.quercus.env.Value is_int(String a0) {
+    return com.caucho.quercus.lib.VariableModule.is_int(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_integer */
+  final public com.caucho.quercus.env.Value is_integer(long a0) {
+    return com.caucho.quercus.lib.VariableModule.is_integer(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_integer */
+  final public com.caucho.quercus.env.Value is_integer(double a0) {
+    return com.caucho.quercus.lib.VariableModule.is_integer(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_integer */
+  final public com.caucho.quercus.env.Value is_integer(String a0) {
+    return com.caucho.quercus.lib.VariableModule.is_integer(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_long */
+  final public com.caucho.quercus.env.Value is_long(long a0) {
+    return com.caucho.quercus.lib.VariableModule.is_long(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_long */
+  final public com.caucho.quercus.env.Value is_long(double a0) {
+    return com.caucho.quercus.lib.VariableModule.is_long(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_long */
+  final public com.caucho.quercus.env.Value is_long(String a0) {
+    return com.caucho.quercus.lib.VariableModule.is_long(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_null */
+  final public boolean is_null(long a0) {
+    return com.caucho.quercus.lib.VariableModule.is_null(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_null */
+  final public boolean is_null(double a0) {
+    return com.caucho.quercus.lib.VariableModule.is_null(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_null */
+  final public boolean is_null(String a0) {
+    return com.caucho.quercus.lib.VariableModule.is_null(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_numeric */
+  final public boolean is_numeric(long a1) {
+    return com.caucho.quercus.lib.VariableModule.is_numeric(quercus_context, LongValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_numeric */
+  final public boolean is_numeric(double a1) {
+    return com.caucho.quercus.lib.VariableModule.is_numeric(quercus_context, DoubleValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_numeric */
+  final public boolean is_numeric(String a1) {
+    return com.caucho.quercus.lib.VariableModule.is_numeric(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_real */
+  final public boolean is_real(long a0) {
+    return com.caucho.quercus.lib.VariableModule.is_real(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_real */
+  final public boolean is_real(double a0) {
+    return com.caucho.quercus.lib.VariableModule.is_real(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_real */
+  final public boolean is_real(String a0) {
+    return com.caucho.quercus.lib.VariableModule.is_real(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_scalar */
+  final public boolean is_scalar(long a0) {
+    return com.caucho.quercus.lib.VariableModule.is_scalar(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_scalar */
+  final public boolean is_scalar(double a0) {
+    return com.caucho.quercus.lib.VariableModule.is_scalar(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : is_scalar */
+  final public boolean is_scalar(String a0) {
+    return com.caucho.quercus.lib.VariableModule.is_scalar(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : print_r */
+  final public com.caucho.quercus.env.Value print_r(long a1, boolean a2) {
+    return com.caucho.quercus.lib.VariableModule.print_r(quercus_context, LongValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : print_r */
+  final public com.caucho.quercus.env.Value print_r(long a1) {
+    return com.caucho.quercus.lib.VariableModule.print_r(quercus_context, LongValue.create(a1), false);
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : print_r */
+  final public com.caucho.quercus.env.Value print_r(double a1, boolean a2) {
+    return com.caucho.quercus.lib.VariableModule.print_r(quercus_context, DoubleValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : print_r */
+  final public com.caucho.quercus.env.Value print_r(double a1) {
+    return com.caucho.quercus.lib.VariableModule.print_r(quercus_context, DoubleValue.create(a1), false);
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : print_r */
+  final public com.caucho.quercus.env.Value print_r(String a1, boolean a2) {
+    return com.caucho.quercus.lib.VariableModule.print_r(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : print_r */
+  final public com.caucho.quercus.env.Value print_r(String a1) {
+    return com.caucho.quercus.lib.VariableModule.print_r(quercus_context, quercus_context.createString(a1), false);
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : serialize */
+  final public String serialize(long a1) {
+    return com.caucho.quercus.lib.VariableModule.serialize(quercus_context, LongValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : serialize */
+  final public String serialize(double a1) {
+    return com.caucho.quercus.lib.VariableModule.serialize(quercus_context, DoubleValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : serialize */
+  final public String serialize(String a1) {
+    return com.caucho.quercus.lib.VariableModule.serialize(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : settype */
+  final public boolean settype(long a1, String a2) {
+    return com.caucho.quercus.lib.VariableModule.settype(quercus_context, LongValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : settype */
+  final public boolean settype(double a1, String a2) {
+    return com.caucho.quercus.lib.VariableModule.settype(quercus_context, DoubleValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : settype */
+  final public boolean settype(String a1, String a2) {
+    return com.caucho.quercus.lib.VariableModule.settype(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : strval */
+  final public com.caucho.quercus.env.Value strval(long a1) {
+    return com.caucho.quercus.lib.VariableModule.strval(quercus_context, LongValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : strval */
+  final public com.caucho.quercus.env.Value strval(double a1) {
+    return com.caucho.quercus.lib.VariableModule.strval(quercus_context, DoubleValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : strval */
+  final public com.caucho.quercus.env.Value strval(String a1) {
+    return com.caucho.quercus.lib.VariableModule.strval(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : unserialize */
+  final public com.caucho.quercus.env.Value unserialize(String a1) {
+    return com.caucho.quercus.lib.VariableModule.unserialize(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : var_dump */
+  final public com.caucho.quercus.env.Value var_dump(long a1, com.caucho.quercus.env.Value[] a2) {
+    return com.caucho.quercus.lib.VariableModule.var_dump(quercus_context, LongValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : var_dump */
+  final public com.caucho.quercus.env.Value var_dump(double a1, com.caucho.quercus.env.Value[] a2) {
+    return com.caucho.quercus.lib.VariableModule.var_dump(quercus_context, DoubleValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : var_dump */
+  final public com.caucho.quercus.env.Value var_dump(String a1, com.caucho.quercus.env.Value[] a2) {
+    return com.caucho.quercus.lib.VariableModule.var_dump(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : var_export */
+  final public com.caucho.quercus.env.Value var_export(long a1, boolean a2) {
+    return com.caucho.quercus.lib.VariableModule.var_export(quercus_context, LongValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : var_export */
+  final public com.caucho.quercus.env.Value var_export(long a1) {
+    return com.caucho.quercus.lib.VariableModule.var_export(quercus_context, LongValue.create(a1), false);
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : var_export */
+  final public com.caucho.quercus.env.Value var_export(double a1, boolean a2) {
+    return com.caucho.quercus.lib.VariableModule.var_export(quercus_context, DoubleValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : var_export */
+  final public com.caucho.quercus.env.Value var_export(double a1) {
+    return com.caucho.quercus.lib.VariableModule.var_export(quercus_context, DoubleValue.create(a1), false);
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : var_export */
+  final public com.caucho.quercus.env.Value var_export(String a1, boolean a2) {
+    return com.caucho.quercus.lib.VariableModule.var_export(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.VariableModule : var_export */
+  final public com.caucho.quercus.env.Value var_export(String a1) {
+    return com.caucho.quercus.lib.VariableModule.var_export(quercus_context, quercus_context.createString(a1), false);
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_getinfo */
+  final public com.caucho.quercus.env.Value curl_getinfo(com.caucho.quercus.lib.curl.CurlResource a1, long a2) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_getinfo(quercus_context, a1, LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_getinfo */
+  final public com.caucho.quercus.env.Value curl_getinfo(com.caucho.quercus.lib.curl.CurlResource a1) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_getinfo(quercus_context, a1, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_getinfo */
+  final public com.caucho.quercus.env.Value curl_getinfo(com.caucho.quercus.lib.curl.CurlResource a1, double a2) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_getinfo(quercus_context, a1, DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_getinfo */
+  final public com.caucho.quercus.env.Value curl_getinfo(com.caucho.quercus.lib.curl.CurlResource a1, String a2) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_getinfo(quercus_context, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_add_handle */
+  final public com.caucho.quercus.env.LongValue curl_multi_add_handle(long a1, long a2) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_add_handle(quercus_context, LongValue.create(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_add_handle */
+  final public com.caucho.quercus.env.LongValue curl_multi_add_handle(double a1, long a2) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_add_handle(quercus_context, DoubleValue.create(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_add_handle */
+  final public com.caucho.quercus.env.LongValue curl_multi_add_handle(String a1, long a2) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_add_handle(quercus_context, quercus_context.createString(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_add_handle */
+  final public com.caucho.quercus.env.LongValue curl_multi_add_handle(long a1, double a2) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_add_handle(quercus_context, LongValue.create(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_add_handle */
+  final public com.caucho.quercus.env.LongValue curl_multi_add_handle(double a1, double a2) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_add_handle(quercus_context, DoubleValue.create(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_add_handle */
+  final public com.caucho.quercus.env.LongValue curl_multi_add_handle(String a1, double a2) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_add_handle(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_add_handle */
+  final public com.caucho.quercus.env.LongValue curl_multi_add_handle(long a1, String a2) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_add_handle(quercus_context, LongValue.create(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_add_handle */
+  final public com.caucho.quercus.env.LongValue curl_multi_add_handle(double a1, String a2) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_add_handle(quercus_context, DoubleValue.create(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_add_handle */
+  final public com.caucho.quercus.env.LongValue curl_multi_add_handle(String a1, String a2) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_add_handle(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_close */
+  final public com.caucho.quercus.env.LongValue curl_multi_close(long a1) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_close(quercus_context, LongValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_close */
+  final public com.caucho.quercus.env.LongValue curl_multi_close(double a1) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_close(quercus_context, DoubleValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_close */
+  final public com.caucho.quercus.env.LongValue curl_multi_close(String a1) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_close(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_exec */
+  final public com.caucho.quercus.env.LongValue curl_multi_exec(long a1, long a2) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_exec(quercus_context, LongValue.create(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_exec */
+  final public com.caucho.quercus.env.LongValue curl_multi_exec(double a1, long a2) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_exec(quercus_context, DoubleValue.create(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_exec */
+  final public com.caucho.quercus.env.LongValue curl_multi_exec(String a1, long a2) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_exec(quercus_context, quercus_context.createString(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_exec */
+  final public com.caucho.quercus.env.LongValue curl_multi_exec(long a1, double a2) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_exec(quercus_context, LongValue.create(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_exec */
+  final public com.caucho.quercus.env.LongValue curl_multi_exec(double a1, double a2) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_exec(quercus_context, DoubleValue.create(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_exec */
+  final public com.caucho.quercus.env.LongValue curl_multi_exec(String a1, double a2) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_exec(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_exec */
+  final public com.caucho.quercus.env.LongValue curl_multi_exec(long a1, String a2) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_exec(quercus_context, LongValue.create(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_exec */
+  final public com.caucho.quercus.env.LongValue curl_multi_exec(double a1, String a2) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_exec(quercus_context, DoubleValue.create(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_exec */
+  final public com.caucho.quercus.env.LongValue curl_multi_exec(String a1, String a2) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_exec(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_getcontent */
+  final public com.caucho.quercus.env.StringValue curl_multi_getcontent(long a1) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_getcontent(quercus_context, LongValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_getcontent */
+  final public com.caucho.quercus.env.StringValue curl_multi_getcontent(double a1) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_getcontent(quercus_context, DoubleValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_getcontent */
+  final public com.caucho.quercus.env.StringValue curl_multi_getcontent(String a1) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_getcontent(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_info_read */
+  final public com.caucho.quercus.env.ArrayValue curl_multi_info_read(long a1) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_info_read(quercus_context, LongValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_info_read */
+  final public com.caucho.quercus.env.ArrayValue curl_multi_info_read(double a1) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_info_read(quercus_context, DoubleValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_info_read */
+  final public com.caucho.quercus.env.ArrayValue curl_multi_info_read(String a1) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_info_read(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_remove_handle */
+  final public com.caucho.quercus.env.LongValue curl_multi_remove_handle(long a1, long a2) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_remove_handle(quercus_context, LongValue.create(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_remove_handle */
+  final public com.caucho.quercus.env.LongValue curl_multi_remove_handle(double a1, long a2) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_remove_handle(quercus_context, DoubleValue.create(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_remove_handle */
+  final public com.caucho.quercus.env.LongValue curl_multi_remove_handle(String a1, long a2) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_remove_handle(quercus_context, quercus_context.createString(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_remove_handle */
+  final public com.caucho.quercus.env.LongValue curl_multi_remove_handle(long a1, double a2) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_remove_handle(quercus_context, LongValue.create(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_remove_handle */
+  final public com.caucho.quercus.env.LongValue curl_multi_remove_handle(double a1, double a2) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_remove_handle(quercus_context, DoubleValue.create(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_remove_handle */
+  final public com.caucho.quercus.env.LongValue curl_multi_remove_handle(String a1, double a2) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_remove_handle(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_remove_handle */
+  final public com.caucho.quercus.env.LongValue curl_multi_remove_handle(long a1, String a2) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_remove_handle(quercus_context, LongValue.create(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_remove_handle */
+  final public com.caucho.quercus.env.LongValue curl_multi_remove_handle(double a1, String a2) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_remove_handle(quercus_context, DoubleValue.create(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_remove_handle */
+  final public com.caucho.quercus.env.LongValue curl_multi_remove_handle(String a1, String a2) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_remove_handle(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_select */
+  final public com.caucho.quercus.env.LongValue curl_multi_select(long a1, long a2) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_select(quercus_context, LongValue.create(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_select */
+  final public com.caucho.quercus.env.LongValue curl_multi_select(long a1) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_select(quercus_context, LongValue.create(a1), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_select */
+  final public com.caucho.quercus.env.LongValue curl_multi_select(double a1, long a2) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_select(quercus_context, DoubleValue.create(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_select */
+  final public com.caucho.quercus.env.LongValue curl_multi_select(double a1) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_select(quercus_context, DoubleValue.create(a1), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_select */
+  final public com.caucho.quercus.env.LongValue curl_multi_select(String a1, long a2) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_select(quercus_context, quercus_context.createString(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_select */
+  final public com.caucho.quercus.env.LongValue curl_multi_select(String a1) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_select(quercus_context, quercus_context.createString(a1), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_select */
+  final public com.caucho.quercus.env.LongValue curl_multi_select(long a1, double a2) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_select(quercus_context, LongValue.create(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_select */
+  final public com.caucho.quercus.env.LongValue curl_multi_select(double a1, double a2) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_select(quercus_context, DoubleValue.create(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_select */
+  final public com.caucho.quercus.env.LongValue curl_multi_select(String a1, double a2) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_select(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_select */
+  final public com.caucho.quercus.env.LongValue curl_multi_select(long a1, String a2) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_select(quercus_context, LongValue.create(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_select */
+  final public com.caucho.quercus.env.LongValue curl_multi_select(double a1, String a2) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_select(quercus_context, DoubleValue.create(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_multi_select */
+  final public com.caucho.quercus.env.LongValue curl_multi_select(String a1, String a2) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_multi_select(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_setopt */
+  final public com.caucho.quercus.env.BooleanValue curl_setopt(com.caucho.quercus.lib.curl.CurlResource a1, int a2, long a3) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_setopt(quercus_context, a1, a2, LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_setopt */
+  final public com.caucho.quercus.env.BooleanValue curl_setopt(com.caucho.quercus.lib.curl.CurlResource a1, int a2, double a3) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_setopt(quercus_context, a1, a2, DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_setopt */
+  final public com.caucho.quercus.env.BooleanValue curl_setopt(com.caucho.quercus.lib.curl.CurlResource a1, int a2, String a3) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_setopt(quercus_context, a1, a2, quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_version */
+  final public com.caucho.quercus.env.ArrayValue curl_version(long a1) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_version(quercus_context, LongValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_version */
+  final public com.caucho.quercus.env.ArrayValue curl_version() {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_version(quercus_context, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_version */
+  final public com.caucho.quercus.env.ArrayValue curl_version(double a1) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_version(quercus_context, DoubleValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.curl.CurlModule : curl_version */
+  final public com.caucho.quercus.env.ArrayValue curl_version(String a1) {
+    return com.caucho.quercus.lib.curl.CurlModule.curl_version(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.date.DateModule : timezone_name_from_abbr */
+  final public com.caucho.quercus.env.Value timezone_name_from_abbr(String a0, int a1, boolean a2) {
+    return com.caucho.quercus.lib.date.DateModule.timezone_name_from_abbr(quercus_context.createString(a0), a1, a2);
+  }
+
+  /* com.caucho.quercus.lib.date.DateModule : timezone_name_from_abbr */
+  final public com.caucho.quercus.env.Value timezone_name_from_abbr(String a0, int a1) {
+    return com.caucho.quercus.lib.date.DateModule.timezone_name_from_abbr(quercus_context.createString(a0), a1, false);
+  }
+
+  /* com.caucho.quercus.lib.date.DateModule : timezone_name_from_abbr */
+  final public com.caucho.quercus.env.Value timezone_name_from_abbr(String a0) {
+    return com.caucho.quercus.lib.date.DateModule.timezone_name_from_abbr(quercus_context.createString(a0), -1, false);
+  }
+
+  /* com.caucho.quercus.lib.db.MysqlModule : mysql_change_user */
+  final public boolean mysql_change_user(String a1, String a2, String a3, com.caucho.quercus.lib.db.Mysqli a4) {
+    return com.caucho.quercus.lib.db.MysqlModule.mysql_change_user(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), quercus_context.createString(a3), a4);
+  }
+
+  /* com.caucho.quercus.lib.db.MysqlModule : mysql_connect */
+  final public com.caucho.quercus.env.Value mysql_connect(String a1, String a2, String a3, boolean a4, int a5) {
+    return com.caucho.quercus.lib.db.MysqlModule.mysql_connect(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), quercus_context.createString(a3), a4, a5);
+  }
+
+  /* com.caucho.quercus.lib.db.MysqlModule : mysql_connect */
+  final public com.caucho.quercus.env.Value mysql_connect(String a1, String a2, String a3, boolean a4) {
+    return com.caucho.quercus.lib.db.MysqlModule.mysql_connect(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), quercus_context.createString(a3), a4, 0);
+  }
+
+  /* com.caucho.quercus.lib.db.MysqlModule : mysql_connect */
+  final public com.caucho.quercus.env.Value mysql_connect(String a1, String a2, String a3) {
+    return com.caucho.quercus.lib.db.MysqlModule.mysql_connect(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), quercus_context.createString(a3), false, 0);
+  }
+
+  /* com.caucho.quercus.lib.db.MysqlModule : mysql_create_db */
+  final public boolean mysql_create_db(String a1, com.caucho.quercus.lib.db.Mysqli a2) {
+    return com.caucho.quercus.lib.db.MysqlModule.mysql_create_db(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.db.MysqlModule : mysql_db_name */
+  final public com.caucho.quercus.env.Value mysql_db_name(com.caucho.quercus.lib.db.MysqliResult a1, int a2, long a3) {
+    return com.caucho.quercus.lib.db.MysqlModule.mysql_db_name(quercus_context, a1, a2, LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.MysqlModule : mysql_db_name */
+  final public com.caucho.quercus.env.Value mysql_db_name(com.caucho.quercus.lib.db.MysqliResult a1, int a2) {
+    return com.caucho.quercus.lib.db.MysqlModule.mysql_db_name(quercus_context, a1, a2, LongValue.create(0L));
+  }
+
+  /* com.caucho.quercus.lib.db.MysqlModule : mysql_db_name */
+  final public com.caucho.quercus.env.Value mysql_db_name(com.caucho.quercus.lib.db.MysqliResult a1, int a2, double a3) {
+    return com.caucho.quercus.lib.db.MysqlModule.mysql_db_name(quercus_context, a1, a2, DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.MysqlModule : mysql_db_name */
+  final public com.caucho.quercus.env.Value mysql_db_name(com.caucho.quercus.lib.db.MysqliResult a1, int a2, String a3) {
+    return com.caucho.quercus.lib.db.MysqlModule.mysql_db_name(quercus_context, a1, a2, quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.MysqlModule : mysql_db_query */
+  final public com.caucho.quercus.env.Value mysql_db_query(String a1, String a2, com.caucho.quercus.lib.db.Mysqli a3) {
+    return com.caucho.quercus.lib.db.MysqlModule.mysql_db_query(quercus_context, a1, quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.db.MysqlModule : mysql_drop_db */
+  final public boolean mysql_drop_db(String a1, com.caucho.quercus.lib.db.Mysqli a2) {
+    return com.caucho.quercus.lib.db.MysqlModule.mysql_drop_db(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.db.MysqlModule : mysql_dropdb */
+  final public boolean mysql_dropdb(String a1, com.caucho.quercus.lib.db.Mysqli a2) {
+    return com.caucho.quercus.lib.db.MysqlModule.mysql_dropdb(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.db.MysqlModule : mysql_escape_string */
+  final public com.caucho.quercus.env.StringValue mysql_escape_string(long a1) {
+    return com.caucho.quercus.lib.db.MysqlModule.mysql_escape_string(quercus_context, LongValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.db.MysqlModule : mysql_escape_string */
+  final public com.caucho.quercus.env.StringValue mysql_escape_string(double a1) {
+    return com.caucho.quercus.lib.db.MysqlModule.mysql_escape_string(quercus_context, DoubleValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.db.MysqlModule : mysql_escape_string */
+  final public com.caucho.quercus.env.StringValue mysql_escape_string(String a1) {
+    return com.caucho.quercus.lib.db.MysqlModule.mysql_escape_string(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.db.MysqlModule : mysql_field_type */
+  final public com.caucho.quercus.env.Value mysql_field_type(com.caucho.quercus.lib.db.MysqliResult a1, long a2) {
+    return com.caucho.quercus.lib.db.MysqlModule.mysql_field_type(quercus_context, a1, LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.MysqlModule : mysql_field_type */
+  final public com.caucho.quercus.env.Value mysql_field_type(com.caucho.quercus.lib.db.MysqliResult a1, double a2) {
+    return com.caucho.quercus.lib.db.MysqlModule.mysql_field_type(quercus_context, a1, DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.MysqlModule : mysql_field_type */
+  final public com.caucho.quercus.env.Value mysql_field_type(com.caucho.quercus.lib.db.MysqliResult a1, String a2) {
+    return com.caucho.quercus.lib.db.MysqlModule.mysql_field_type(quercus_context, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.MysqlModule : mysql_fieldtype */
+  final public com.caucho.quercus.env.Value mysql_fieldtype(com.caucho.quercus.lib.db.MysqliResult a1, long a2) {
+    return com.caucho.quercus.lib.db.MysqlModule.mysql_fieldtype(quercus_context, a1, LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.MysqlModule : mysql_fieldtype */
+  final public com.caucho.quercus.env.Value mysql_fieldtype(com.caucho.quercus.lib.db.MysqliResult a1, double a2) {
+    return com.caucho.quercus.lib.db.MysqlModule.mysql_fieldtype(quercus_context, a1, DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.MysqlModule : mysql_fieldtype */
+  final public com.caucho.quercus.env.Value mysql_fieldtype(com.caucho.quercus.lib.db.MysqliResult a1, String a2) {
+    return com.caucho.quercus.lib.db.MysqlModule.mysql_fieldtype(quercus_context, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.MysqlModule : mysql_list_fields */
+  final public com.caucho.quercus.env.Value mysql_list_fields(String a1, String a2, com.caucho.quercus.lib.db.Mysqli a3) {
+    return com.caucho.quercus.lib.db.MysqlModule.mysql_list_fields(quercus_context, a1, quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.db.MysqlModule : mysql_list_tables */
+  final public Object mysql_list_tables(String a1, com.caucho.quercus.lib.db.Mysqli a2) {
+    return com.caucho.quercus.lib.db.MysqlModule.mysql_list_tables(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.db.MysqlModule : mysql_listfields */
+  final public com.caucho.quercus.env.Value mysql_listfields(String a1, String a2, com.caucho.quercus.lib.db.Mysqli a3) {
+    return com.caucho.quercus.lib.db.MysqlModule.mysql_listfields(quercus_context, a1, quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.db.MysqlModule : mysql_pconnect */
+  final public com.caucho.quercus.env.Value mysql_pconnect(String a1, String a2, String a3, boolean a4, int a5) {
+    return com.caucho.quercus.lib.db.MysqlModule.mysql_pconnect(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), quercus_context.createString(a3), a4, a5);
+  }
+
+  /* com.caucho.quercus.lib.db.MysqlModule : mysql_pconnect */
+  final public com.caucho.quercus.env.Value mysql_pconnect(String a1, String a2, String a3, boolean a4) {
+    return com.caucho.quercus.lib.db.MysqlModule.mysql_pconnect(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), quercus_context.createString(a3), a4, 0);
+  }
+
+  /* com.caucho.quercus.lib.db.MysqlModule : mysql_pconnect */
+  final public com.caucho.quercus.env.Value mysql_pconnect(String a1, String a2, String a3) {
+    return com.caucho.quercus.lib.db.MysqlModule.mysql_pconnect(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), quercus_context.createString(a3), false, 0);
+  }
+
+  /* com.caucho.quercus.lib.db.MysqlModule : mysql_query */
+  final public com.caucho.quercus.env.Value mysql_query(String a1, com.caucho.quercus.lib.db.Mysqli a2) {
+    return com.caucho.quercus.lib.db.MysqlModule.mysql_query(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.db.MysqlModule : mysql_real_escape_string */
+  final public com.caucho.quercus.env.StringValue mysql_real_escape_string(long a1, com.caucho.quercus.lib.db.Mysqli a2) {
+    return com.caucho.quercus.lib.db.MysqlModule.mysql_real_escape_string(quercus_context, LongValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.db.MysqlModule : mysql_real_escape_string */
+  final public com.caucho.quercus.env.StringValue mysql_real_escape_string(double a1, com.caucho.quercus.lib.db.Mysqli a2) {
+    return com.caucho.quercus.lib.db.MysqlModule.mysql_real_escape_string(quercus_context, DoubleValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.db.MysqlModule : mysql_real_escape_string */
+  final public com.caucho.quercus.env.StringValue mysql_real_escape_string(String a1, com.caucho.quercus.lib.db.Mysqli a2) {
+    return com.caucho.quercus.lib.db.MysqlModule.mysql_real_escape_string(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.db.MysqlModule : mysql_result */
+  final public com.caucho.quercus.env.Value mysql_result(com.caucho.quercus.lib.db.MysqliResult a1, int a2, long a3) {
+    return com.caucho.quercus.lib.db.MysqlModule.mysql_result(quercus_context, a1, a2, LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.MysqlModule : mysql_result */
+  final public com.caucho.quercus.env.Value mysql_result(com.caucho.quercus.lib.db.MysqliResult a1, int a2) {
+    return com.caucho.quercus.lib.db.MysqlModule.mysql_result(quercus_context, a1, a2, LongValue.create(0L));
+  }
+
+  /* com.caucho.quercus.lib.db.MysqlModule : mysql_result */
+  final public com.caucho.quercus.env.Value mysql_result(com.caucho.quercus.lib.db.MysqliResult a1, int a2, double a3) {
+    return com.caucho.quercus.lib.db.MysqlModule.mysql_result(quercus_context, a1, a2, DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.MysqlModule : mysql_result */
+  final public com.caucho.quercus.env.Value mysql_result(com.caucho.quercus.lib.db.MysqliResult a1, int a2, String a3) {
+    return com.caucho.quercus.lib.db.MysqlModule.mysql_result(quercus_context, a1, a2, quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.MysqlModule : mysql_unbuffered_query */
+  final public Object mysql_unbuffered_query(String a1, com.caucho.quercus.lib.db.Mysqli a2) {
+    return com.caucho.quercus.lib.db.MysqlModule.mysql_unbuffered_query(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.db.MysqliModule : mysqli_bind_param */
+  final public boolean mysqli_bind_param(com.caucho.quercus.lib.db.MysqliStatement a1, String a2, com.caucho.quercus.env.Value[] a3) {
+    return com.caucho.quercus.lib.db.MysqliModule.mysqli_bind_param(quercus_context, a1, quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.db.MysqliModule : mysqli_escape_string */
+  final public com.caucho.quercus.env.Value mysqli_escape_string(com.caucho.quercus.lib.db.Mysqli a1, String a2) {
+    return com.caucho.quercus.lib.db.MysqliModule.mysqli_escape_string(quercus_context, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.MysqliModule : mysqli_multi_query */
+  final public boolean mysqli_multi_query(com.caucho.quercus.lib.db.Mysqli a1, String a2) {
+    return com.caucho.quercus.lib.db.MysqliModule.mysqli_multi_query(quercus_context, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.MysqliModule : mysqli_options */
+  final public boolean mysqli_options(com.caucho.quercus.lib.db.Mysqli a0, int a1, long a2) {
+    return com.caucho.quercus.lib.db.MysqliModule.mysqli_options(a0, a1, LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.MysqliModule : mysqli_options */
+  final public boolean mysqli_options(com.caucho.quercus.lib.db.Mysqli a0, int a1, double a2) {
+    return com.caucho.quercus.lib.db.MysqliModule.mysqli_options(a0, a1, DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.MysqliModule : mysqli_options */
+  final public boolean mysqli_options(com.caucho.quercus.lib.db.Mysqli a0, int a1, String a2) {
+    return com.caucho.quercus.lib.db.MysqliModule.mysqli_options(a0, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.MysqliModule : mysqli_prepare */
+  final public com.caucho.quercus.lib.db.MysqliStatement mysqli_prepare(com.caucho.quercus.lib.db.Mysqli a1, String a2) {
+    return com.caucho.quercus.lib.db.MysqliModule.mysqli_prepare(quercus_context, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.MysqliModule : mysqli_query */
+  final public com.caucho.quercus.env.Value mysqli_query(com.caucho.quercus.lib.db.Mysqli a1, String a2, int a3) {
+    return com.caucho.quercus.lib.db.MysqliModule.mysqli_query(quercus_context, a1, quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.db.MysqliModule : mysqli_real_escape_string */
+  final public com.caucho.quercus.env.Value mysqli_real_escape_string(com.caucho.quercus.lib.db.Mysqli a1, String a2) {
+    return com.caucho.quercus.lib.db.MysqliModule.mysqli_real_escape_string(quercus_context, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.MysqliModule : mysqli_real_query */
+  final public boolean mysqli_real_query(com.caucho.quercus.lib.db.Mysqli a1, String a2) {
+    return com.caucho.quercus.lib.db.MysqliModule.mysqli_real_query(quercus_context, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.MysqliModule : mysqli_set_opt */
+  final public boolean mysqli_set_opt(com.caucho.quercus.lib.db.Mysqli a0, int a1, long a2) {
+    return com.caucho.quercus.lib.db.MysqliModule.mysqli_set_opt(a0, a1, LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.MysqliModule : mysqli_set_opt */
+  final public boolean mysqli_set_opt(com.caucho.quercus.lib.db.Mysqli a0, int a1, double a2) {
+    return com.caucho.quercus.lib.db.MysqliModule.mysqli_set_opt(a0, a1, DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.MysqliModule : mysqli_set_opt */
+  final public boolean mysqli_set_opt(com.caucho.quercus.lib.db.Mysqli a0, int a1, String a2) {
+    return com.caucho.quercus.lib.db.MysqliModule.mysqli_set_opt(a0, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.MysqliModule : mysqli_stmt_bind_param */
+  final public boolean mysqli_stmt_bind_param(com.caucho.quercus.lib.db.MysqliStatement a1, String a2, com.caucho.quercus.env.Value[] a3) {
+    return com.caucho.quercus.lib.db.MysqliModule.mysqli_stmt_bind_param(quercus_context, a1, quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.db.MysqliModule : mysqli_stmt_prepare */
+  final public boolean mysqli_stmt_prepare(com.caucho.quercus.lib.db.MysqliStatement a1, String a2) {
+    return com.caucho.quercus.lib.db.MysqliModule.mysqli_stmt_prepare(quercus_context, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : oci_bind_by_name */
+  final public boolean oci_bind_by_name(com.caucho.quercus.lib.db.OracleStatement a1, String a2, long a3, int a4, int a5) {
+    return com.caucho.quercus.lib.db.OracleModule.oci_bind_by_name(quercus_context, a1, a2, LongValue.create(a3), a4, a5);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : oci_bind_by_name */
+  final public boolean oci_bind_by_name(com.caucho.quercus.lib.db.OracleStatement a1, String a2, long a3, int a4) {
+    return com.caucho.quercus.lib.db.OracleModule.oci_bind_by_name(quercus_context, a1, a2, LongValue.create(a3), a4, 0);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : oci_bind_by_name */
+  final public boolean oci_bind_by_name(com.caucho.quercus.lib.db.OracleStatement a1, String a2, long a3) {
+    return com.caucho.quercus.lib.db.OracleModule.oci_bind_by_name(quercus_context, a1, a2, LongValue.create(a3), 0, 0);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : oci_bind_by_name */
+  final public boolean oci_bind_by_name(com.caucho.quercus.lib.db.OracleStatement a1, String a2, double a3, int a4, int a5) {
+    return com.caucho.quercus.lib.db.OracleModule.oci_bind_by_name(quercus_context, a1, a2, DoubleValue.create(a3), a4, a5);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : oci_bind_by_name */
+  final public boolean oci_bind_by_name(com.caucho.quercus.lib.db.OracleStatement a1, String a2, double a3, int a4) {
+    return com.caucho.quercus.lib.db.OracleModule.oci_bind_by_name(quercus_context, a1, a2, DoubleValue.create(a3), a4, 0);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : oci_bind_by_name */
+  final public boolean oci_bind_by_name(com.caucho.quercus.lib.db.OracleStatement a1, String a2, double a3) {
+    return com.caucho.quercus.lib.db.OracleModule.oci_bind_by_name(quercus_context, a1, a2, DoubleValue.create(a3), 0, 0);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : oci_bind_by_name */
+  final public boolean oci_bind_by_name(com.caucho.quercus.lib.db.OracleStatement a1, String a2, String a3, int a4, int a5) {
+    return com.caucho.quercus.lib.db.OracleModule.oci_bind_by_name(quercus_context, a1, a2, quercus_context.createString(a3), a4, a5);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : oci_bind_by_name */
+  final public boolean oci_bind_by_name(com.caucho.quercus.lib.db.OracleStatement a1, String a2, String a3, int a4) {
+    return com.caucho.quercus.lib.db.OracleModule.oci_bind_by_name(quercus_context, a1, a2, quercus_context.createString(a3), a4, 0);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : oci_bind_by_name */
+  final public boolean oci_bind_by_name(com.caucho.quercus.lib.db.OracleStatement a1, String a2, String a3) {
+    return com.caucho.quercus.lib.db.OracleModule.oci_bind_by_name(quercus_context, a1, a2, quercus_context.createString(a3), 0, 0);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : oci_define_by_name */
+  final public boolean oci_define_by_name(com.caucho.quercus.lib.db.OracleStatement a1, String a2, long a3, int a4) {
+    return com.caucho.quercus.lib.db.OracleModule.oci_define_by_name(quercus_context, a1, a2, LongValue.create(a3), a4);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : oci_define_by_name */
+  final public boolean oci_define_by_name(com.caucho.quercus.lib.db.OracleStatement a1, String a2, long a3) {
+    return com.caucho.quercus.lib.db.OracleModule.oci_define_by_name(quercus_context, a1, a2, LongValue.create(a3), 0);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : oci_define_by_name */
+  final public boolean oci_define_by_name(com.caucho.quercus.lib.db.OracleStatement a1, String a2, double a3, int a4) {
+    return com.caucho.quercus.lib.db.OracleModule.oci_define_by_name(quercus_context, a1, a2, DoubleValue.create(a3), a4);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : oci_define_by_name */
+  final public boolean oci_define_by_name(com.caucho.quercus.lib.db.OracleStatement a1, String a2, double a3) {
+    return com.caucho.quercus.lib.db.OracleModule.oci_define_by_name(quercus_context, a1, a2, DoubleValue.create(a3), 0);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : oci_define_by_name */
+  final public boolean oci_define_by_name(com.caucho.quercus.lib.db.OracleStatement a1, String a2, String a3, int a4) {
+    return com.caucho.quercus.lib.db.OracleModule.oci_define_by_name(quercus_context, a1, a2, quercus_context.createString(a3), a4);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : oci_define_by_name */
+  final public boolean oci_define_by_name(com.caucho.quercus.lib.db.OracleStatement a1, String a2, String a3) {
+    return com.caucho.quercus.lib.db.OracleModule.oci_define_by_name(quercus_context, a1, a2, quercus_context.createString(a3), 0);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : oci_error */
+  final public String oci_error(long a1) {
+    return com.caucho.quercus.lib.db.OracleModule.oci_error(quercus_context, LongValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : oci_error */
+  final public String oci_error() {
+    return com.caucho.quercus.lib.db.OracleModule.oci_error(quercus_context, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : oci_error */
+  final public String oci_error(double a1) {
+    return com.caucho.quercus.lib.db.OracleModule.oci_error(quercus_context, DoubleValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : oci_error */
+  final public String oci_error(String a1) {
+    return com.caucho.quercus.lib.db.OracleModule.oci_error(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : oci_fetch_all */
+  final public com.caucho.quercus.env.ArrayValue oci_fetch_all(com.caucho.quercus.lib.db.OracleStatement a1, long a2, int a3, int a4, int a5) {
+    return com.caucho.quercus.lib.db.OracleModule.oci_fetch_all(quercus_context, a1, LongValue.create(a2), a3, a4, a5);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : oci_fetch_all */
+  final public com.caucho.quercus.env.ArrayValue oci_fetch_all(com.caucho.quercus.lib.db.OracleStatement a1, long a2, int a3, int a4) {
+    return com.caucho.quercus.lib.db.OracleModule.oci_fetch_all(quercus_context, a1, LongValue.create(a2), a3, a4, 0);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : oci_fetch_all */
+  final public com.caucho.quercus.env.ArrayValue oci_fetch_all(com.caucho.quercus.lib.db.OracleStatement a1, long a2, int a3) {
+    return com.caucho.quercus.lib.db.OracleModule.oci_fetch_all(quercus_context, a1, LongValue.create(a2), a3, 0, 0);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : oci_fetch_all */
+  final public com.caucho.quercus.env.ArrayValue oci_fetch_all(com.caucho.quercus.lib.db.OracleStatement a1, long a2) {
+    return com.caucho.quercus.lib.db.OracleModule.oci_fetch_all(quercus_context, a1, LongValue.create(a2), 0, 0, 0);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : oci_fetch_all */
+  final public com.caucho.quercus.env.ArrayValue oci_fetch_all(com.caucho.quercus.lib.db.OracleStatement a1, double a2, int a3, int a4, int a5) {
+    return com.caucho.quercus.lib.db.OracleModule.oci_fetch_all(quercus_context, a1, DoubleValue.create(a2), a3, a4, a5);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : oci_fetch_all */
+  final public com.caucho.quercus.env.ArrayValue oci_fetch_all(com.caucho.quercus.lib.db.OracleStatement a1, double a2, int a3, int a4) {
+    return com.caucho.quercus.lib.db.OracleModule.oci_fetch_all(quercus_context, a1, DoubleValue.create(a2), a3, a4, 0);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : oci_fetch_all */
+  final public com.caucho.quercus.env.ArrayValue oci_fetch_all(com.caucho.quercus.lib.db.OracleStatement a1, double a2, int a3) {
+    return com.caucho.quercus.lib.db.OracleModule.oci_fetch_all(quercus_context, a1, DoubleValue.create(a2), a3, 0, 0);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : oci_fetch_all */
+  final public com.caucho.quercus.env.ArrayValue oci_fetch_all(com.caucho.quercus.lib.db.OracleStatement a1, double a2) {
+    return com.caucho.quercus.lib.db.OracleModule.oci_fetch_all(quercus_context, a1, DoubleValue.create(a2), 0, 0, 0);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : oci_fetch_all */
+  final public com.caucho.quercus.env.ArrayValue oci_fetch_all(com.caucho.quercus.lib.db.OracleStatement a1, String a2, int a3, int a4, int a5) {
+    return com.caucho.quercus.lib.db.OracleModule.oci_fetch_all(quercus_context, a1, quercus_context.createString(a2), a3, a4, a5);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : oci_fetch_all */
+  final public com.caucho.quercus.env.ArrayValue oci_fetch_all(com.caucho.quercus.lib.db.OracleStatement a1, String a2, int a3, int a4) {
+    return com.caucho.quercus.lib.db.OracleModule.oci_fetch_all(quercus_context, a1, quercus_context.createString(a2), a3, a4, 0);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : oci_fetch_all */
+  final public com.caucho.quercus.env.ArrayValue oci_fetch_all(com.caucho.quercus.lib.db.OracleStatement a1, String a2, int a3) {
+    return com.caucho.quercus.lib.db.OracleModule.oci_fetch_all(quercus_context, a1, quercus_context.createString(a2), a3, 0, 0);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : oci_fetch_all */
+  final public com.caucho.quercus.env.ArrayValue oci_fetch_all(com.caucho.quercus.lib.db.OracleStatement a1, String a2) {
+    return com.caucho.quercus.lib.db.OracleModule.oci_fetch_all(quercus_context, a1, quercus_context.createString(a2), 0, 0, 0);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : oci_field_is_null */
+  final public boolean oci_field_is_null(com.caucho.quercus.lib.db.OracleStatement a1, long a2) {
+    return com.caucho.quercus.lib.db.OracleModule.oci_field_is_null(quercus_context, a1, LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : oci_field_is_null */
+  final public boolean oci_field_is_null(com.caucho.quercus.lib.db.OracleStatement a1, double a2) {
+    return com.caucho.quercus.lib.db.OracleModule.oci_field_is_null(quercus_context, a1, DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : oci_field_is_null */
+  final public boolean oci_field_is_null(com.caucho.quercus.lib.db.OracleStatement a1, String a2) {
+    return com.caucho.quercus.lib.db.OracleModule.oci_field_is_null(quercus_context, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : oci_field_size */
+  final public com.caucho.quercus.env.Value oci_field_size(com.caucho.quercus.lib.db.OracleStatement a1, long a2) {
+    return com.caucho.quercus.lib.db.OracleModule.oci_field_size(quercus_context, a1, LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : oci_field_size */
+  final public com.caucho.quercus.env.Value oci_field_size(com.caucho.quercus.lib.db.OracleStatement a1) {
+    return com.caucho.quercus.lib.db.OracleModule.oci_field_size(quercus_context, a1, LongValue.create(-1L));
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : oci_field_size */
+  final public com.caucho.quercus.env.Value oci_field_size(com.caucho.quercus.lib.db.OracleStatement a1, double a2) {
+    return com.caucho.quercus.lib.db.OracleModule.oci_field_size(quercus_context, a1, DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : oci_field_size */
+  final public com.caucho.quercus.env.Value oci_field_size(com.caucho.quercus.lib.db.OracleStatement a1, String a2) {
+    return com.caucho.quercus.lib.db.OracleModule.oci_field_size(quercus_context, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : oci_result */
+  final public com.caucho.quercus.env.Value oci_result(com.caucho.quercus.lib.db.OracleStatement a1, long a2) {
+    return com.caucho.quercus.lib.db.OracleModule.oci_result(quercus_context, a1, LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : oci_result */
+  final public com.caucho.quercus.env.Value oci_result(com.caucho.quercus.lib.db.OracleStatement a1, double a2) {
+    return com.caucho.quercus.lib.db.OracleModule.oci_result(quercus_context, a1, DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : oci_result */
+  final public com.caucho.quercus.env.Value oci_result(com.caucho.quercus.lib.db.OracleStatement a1, String a2) {
+    return com.caucho.quercus.lib.db.OracleModule.oci_result(quercus_context, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocibindbyname */
+  final public boolean ocibindbyname(com.caucho.quercus.lib.db.OracleStatement a1, String a2, long a3, int a4, int a5) {
+    return com.caucho.quercus.lib.db.OracleModule.ocibindbyname(quercus_context, a1, a2, LongValue.create(a3), a4, a5);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocibindbyname */
+  final public boolean ocibindbyname(com.caucho.quercus.lib.db.OracleStatement a1, String a2, long a3, int a4) {
+    return com.caucho.quercus.lib.db.OracleModule.ocibindbyname(quercus_context, a1, a2, LongValue.create(a3), a4, 0);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocibindbyname */
+  final public boolean ocibindbyname(com.caucho.quercus.lib.db.OracleStatement a1, String a2, long a3) {
+    return com.caucho.quercus.lib.db.OracleModule.ocibindbyname(quercus_context, a1, a2, LongValue.create(a3), 0, 0);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocibindbyname */
+  final public boolean ocibindbyname(com.caucho.quercus.lib.db.OracleStatement a1, String a2, double a3, int a4, int a5) {
+    return com.caucho.quercus.lib.db.OracleModule.ocibindbyname(quercus_context, a1, a2, DoubleValue.create(a3), a4, a5);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocibindbyname */
+  final public boolean ocibindbyname(com.caucho.quercus.lib.db.OracleStatement a1, String a2, double a3, int a4) {
+    return com.caucho.quercus.lib.db.OracleModule.ocibindbyname(quercus_context, a1, a2, DoubleValue.create(a3), a4, 0);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocibindbyname */
+  final public boolean ocibindbyname(com.caucho.quercus.lib.db.OracleStatement a1, String a2, double a3) {
+    return com.caucho.quercus.lib.db.OracleModule.ocibindbyname(quercus_context, a1, a2, DoubleValue.create(a3), 0, 0);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocibindbyname */
+  final public boolean ocibindbyname(com.caucho.quercus.lib.db.OracleStatement a1, String a2, String a3, int a4, int a5) {
+    return com.caucho.quercus.lib.db.OracleModule.ocibindbyname(quercus_context, a1, a2, quercus_context.createString(a3), a4, a5);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocibindbyname */
+  final public boolean ocibindbyname(com.caucho.quercus.lib.db.OracleStatement a1, String a2, String a3, int a4) {
+    return com.caucho.quercus.lib.db.OracleModule.ocibindbyname(quercus_context, a1, a2, quercus_context.createString(a3), a4, 0);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocibindbyname */
+  final public boolean ocibindbyname(com.caucho.quercus.lib.db.OracleStatement a1, String a2, String a3) {
+    return com.caucho.quercus.lib.db.OracleModule.ocibindbyname(quercus_context, a1, a2, quercus_context.createString(a3), 0, 0);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocicolumnisnull */
+  final public boolean ocicolumnisnull(com.caucho.quercus.lib.db.OracleStatement a1, long a2) {
+    return com.caucho.quercus.lib.db.OracleModule.ocicolumnisnull(quercus_context, a1, LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocicolumnisnull */
+  final public boolean ocicolumnisnull(com.caucho.quercus.lib.db.OracleStatement a1, double a2) {
+    return com.caucho.quercus.lib.db.OracleModule.ocicolumnisnull(quercus_context, a1, DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocicolumnisnull */
+  final public boolean ocicolumnisnull(com.caucho.quercus.lib.db.OracleStatement a1, String a2) {
+    return com.caucho.quercus.lib.db.OracleModule.ocicolumnisnull(quercus_context, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocicolumnsize */
+  final public com.caucho.quercus.env.Value ocicolumnsize(com.caucho.quercus.lib.db.OracleStatement a1, long a2) {
+    return com.caucho.quercus.lib.db.OracleModule.ocicolumnsize(quercus_context, a1, LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocicolumnsize */
+  final public com.caucho.quercus.env.Value ocicolumnsize(com.caucho.quercus.lib.db.OracleStatement a1) {
+    return com.caucho.quercus.lib.db.OracleModule.ocicolumnsize(quercus_context, a1, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocicolumnsize */
+  final public com.caucho.quercus.env.Value ocicolumnsize(com.caucho.quercus.lib.db.OracleStatement a1, double a2) {
+    return com.caucho.quercus.lib.db.OracleModule.ocicolumnsize(quercus_context, a1, DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocicolumnsize */
+  final public com.caucho.quercus.env.Value ocicolumnsize(com.caucho.quercus.lib.db.OracleStatement a1, String a2) {
+    return com.caucho.quercus.lib.db.OracleModule.ocicolumnsize(quercus_context, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocidefinebyname */
+  final public boolean ocidefinebyname(com.caucho.quercus.lib.db.OracleStatement a1, String a2, long a3, int a4) {
+    return com.caucho.quercus.lib.db.OracleModule.ocidefinebyname(quercus_context, a1, a2, LongValue.create(a3), a4);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocidefinebyname */
+  final public boolean ocidefinebyname(com.caucho.quercus.lib.db.OracleStatement a1, String a2, long a3) {
+    return com.caucho.quercus.lib.db.OracleModule.ocidefinebyname(quercus_context, a1, a2, LongValue.create(a3), 0);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocidefinebyname */
+  final public boolean ocidefinebyname(com.caucho.quercus.lib.db.OracleStatement a1, String a2, double a3, int a4) {
+    return com.caucho.quercus.lib.db.OracleModule.ocidefinebyname(quercus_context, a1, a2, DoubleValue.create(a3), a4);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocidefinebyname */
+  final public boolean ocidefinebyname(com.caucho.quercus.lib.db.OracleStatement a1, String a2, double a3) {
+    return com.caucho.quercus.lib.db.OracleModule.ocidefinebyname(quercus_context, a1, a2, DoubleValue.create(a3), 0);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocidefinebyname */
+  final public boolean ocidefinebyname(com.caucho.quercus.lib.db.OracleStatement a1, String a2, String a3, int a4) {
+    return com.caucho.quercus.lib.db.OracleModule.ocidefinebyname(quercus_context, a1, a2, quercus_context.createString(a3), a4);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocidefinebyname */
+  final public boolean ocidefinebyname(com.caucho.quercus.lib.db.OracleStatement a1, String a2, String a3) {
+    return com.caucho.quercus.lib.db.OracleModule.ocidefinebyname(quercus_context, a1, a2, quercus_context.createString(a3), 0);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocierror */
+  final public String ocierror(long a1) {
+    return com.caucho.quercus.lib.db.OracleModule.ocierror(quercus_context, LongValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocierror */
+  final public String ocierror() {
+    return com.caucho.quercus.lib.db.OracleModule.ocierror(quercus_context, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocierror */
+  final public String ocierror(double a1) {
+    return com.caucho.quercus.lib.db.OracleModule.ocierror(quercus_context, DoubleValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocierror */
+  final public String ocierror(String a1) {
+    return com.caucho.quercus.lib.db.OracleModule.ocierror(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocifetchinto */
+  final public com.caucho.quercus.env.Value ocifetchinto(com.caucho.quercus.lib.db.OracleStatement a1, long a2, int a3) {
+    return com.caucho.quercus.lib.db.OracleModule.ocifetchinto(quercus_context, a1, LongValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocifetchinto */
+  final public com.caucho.quercus.env.Value ocifetchinto(com.caucho.quercus.lib.db.OracleStatement a1, long a2) {
+    return com.caucho.quercus.lib.db.OracleModule.ocifetchinto(quercus_context, a1, LongValue.create(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocifetchinto */
+  final public com.caucho.quercus.env.Value ocifetchinto(com.caucho.quercus.lib.db.OracleStatement a1, double a2, int a3) {
+    return com.caucho.quercus.lib.db.OracleModule.ocifetchinto(quercus_context, a1, DoubleValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocifetchinto */
+  final public com.caucho.quercus.env.Value ocifetchinto(com.caucho.quercus.lib.db.OracleStatement a1, double a2) {
+    return com.caucho.quercus.lib.db.OracleModule.ocifetchinto(quercus_context, a1, DoubleValue.create(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocifetchinto */
+  final public com.caucho.quercus.env.Value ocifetchinto(com.caucho.quercus.lib.db.OracleStatement a1, String a2, int a3) {
+    return com.caucho.quercus.lib.db.OracleModule.ocifetchinto(quercus_context, a1, quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocifetchinto */
+  final public com.caucho.quercus.env.Value ocifetchinto(com.caucho.quercus.lib.db.OracleStatement a1, String a2) {
+    return com.caucho.quercus.lib.db.OracleModule.ocifetchinto(quercus_context, a1, quercus_context.createString(a2), -1);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocifetchstatement */
+  final public com.caucho.quercus.env.Value ocifetchstatement(com.caucho.quercus.lib.db.OracleStatement a1, long a2, int a3, int a4, int a5) {
+    return com.caucho.quercus.lib.db.OracleModule.ocifetchstatement(quercus_context, a1, LongValue.create(a2), a3, a4, a5);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocifetchstatement */
+  final public com.caucho.quercus.env.Value ocifetchstatement(com.caucho.quercus.lib.db.OracleStatement a1, long a2, int a3, int a4) {
+    return com.caucho.quercus.lib.db.OracleModule.ocifetchstatement(quercus_context, a1, LongValue.create(a2), a3, a4, 0);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocifetchstatement */
+  final public com.caucho.quercus.env.Value ocifetchstatement(com.caucho.quercus.lib.db.OracleStatement a1, long a2, int a3) {
+    return com.caucho.quercus.lib.db.OracleModule.ocifetchstatement(quercus_context, a1, LongValue.create(a2), a3, 0, 0);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocifetchstatement */
+  final public com.caucho.quercus.env.Value ocifetchstatement(com.caucho.quercus.lib.db.OracleStatement a1, long a2) {
+    return com.caucho.quercus.lib.db.OracleModule.ocifetchstatement(quercus_context, a1, LongValue.create(a2), 0, 0, 0);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocifetchstatement */
+  final public com.caucho.quercus.env.Value ocifetchstatement(com.caucho.quercus.lib.db.OracleStatement a1, double a2, int a3, int a4, int a5) {
+    return com.caucho.quercus.lib.db.OracleModule.ocifetchstatement(quercus_context, a1, DoubleValue.create(a2), a3, a4, a5);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocifetchstatement */
+  final public com.caucho.quercus.env.Value ocifetchstatement(com.caucho.quercus.lib.db.OracleStatement a1, double a2, int a3, int a4) {
+    return com.caucho.quercus.lib.db.OracleModule.ocifetchstatement(quercus_context, a1, DoubleValue.create(a2), a3, a4, 0);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocifetchstatement */
+  final public com.caucho.quercus.env.Value ocifetchstatement(com.caucho.quercus.lib.db.OracleStatement a1, double a2, int a3) {
+    return com.caucho.quercus.lib.db.OracleModule.ocifetchstatement(quercus_context, a1, DoubleValue.create(a2), a3, 0, 0);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocifetchstatement */
+  final public com.caucho.quercus.env.Value ocifetchstatement(com.caucho.quercus.lib.db.OracleStatement a1, double a2) {
+    return com.caucho.quercus.lib.db.OracleModule.ocifetchstatement(quercus_context, a1, DoubleValue.create(a2), 0, 0, 0);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocifetchstatement */
+  final public com.caucho.quercus.env.Value ocifetchstatement(com.caucho.quercus.lib.db.OracleStatement a1, String a2, int a3, int a4, int a5) {
+    return com.caucho.quercus.lib.db.OracleModule.ocifetchstatement(quercus_context, a1, quercus_context.createString(a2), a3, a4, a5);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocifetchstatement */
+  final public com.caucho.quercus.env.Value ocifetchstatement(com.caucho.quercus.lib.db.OracleStatement a1, String a2, int a3, int a4) {
+    return com.caucho.quercus.lib.db.OracleModule.ocifetchstatement(quercus_context, a1, quercus_context.createString(a2), a3, a4, 0);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocifetchstatement */
+  final public com.caucho.quercus.env.Value ocifetchstatement(com.caucho.quercus.lib.db.OracleStatement a1, String a2, int a3) {
+    return com.caucho.quercus.lib.db.OracleModule.ocifetchstatement(quercus_context, a1, quercus_context.createString(a2), a3, 0, 0);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ocifetchstatement */
+  final public com.caucho.quercus.env.Value ocifetchstatement(com.caucho.quercus.lib.db.OracleStatement a1, String a2) {
+    return com.caucho.quercus.lib.db.OracleModule.ocifetchstatement(quercus_context, a1, quercus_context.createString(a2), 0, 0, 0);
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ociresult */
+  final public com.caucho.quercus.env.Value ociresult(com.caucho.quercus.lib.db.OracleStatement a1, long a2) {
+    return com.caucho.quercus.lib.db.OracleModule.ociresult(quercus_context, a1, LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ociresult */
+  final public com.caucho.quercus.env.Value ociresult(com.caucho.quercus.lib.db.OracleStatement a1, double a2) {
+    return com.caucho.quercus.lib.db.OracleModule.ociresult(quercus_context, a1, DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.OracleModule : ociresult */
+  final public com.caucho.quercus.env.Value ociresult(com.caucho.quercus.lib.db.OracleStatement a1, String a2) {
+    return com.caucho.quercus.lib.db.OracleModule.ociresult(quercus_context, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_escape_bytea */
+  final public com.caucho.quercus.env.StringValue pg_escape_bytea(String a1) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_escape_bytea(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_escape_bytea */
+  final public com.caucho.quercus.env.StringValue pg_escape_bytea(com.caucho.quercus.lib.db.Postgres a1, String a2) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_escape_bytea(quercus_context, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_escape_string */
+  final public com.caucho.quercus.env.StringValue pg_escape_string(String a1) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_escape_string(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fetch_array */
+  final public com.caucho.quercus.env.ArrayValue pg_fetch_array(com.caucho.quercus.lib.db.PostgresResult a1, long a2, int a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fetch_array(quercus_context, a1, LongValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fetch_array */
+  final public com.caucho.quercus.env.ArrayValue pg_fetch_array(com.caucho.quercus.lib.db.PostgresResult a1, double a2, int a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fetch_array(quercus_context, a1, DoubleValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fetch_array */
+  final public com.caucho.quercus.env.ArrayValue pg_fetch_array(com.caucho.quercus.lib.db.PostgresResult a1, String a2, int a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fetch_array(quercus_context, a1, quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fetch_assoc */
+  final public com.caucho.quercus.env.ArrayValue pg_fetch_assoc(com.caucho.quercus.lib.db.PostgresResult a1, long a2) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fetch_assoc(quercus_context, a1, LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fetch_assoc */
+  final public com.caucho.quercus.env.ArrayValue pg_fetch_assoc(com.caucho.quercus.lib.db.PostgresResult a1) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fetch_assoc(quercus_context, a1, LongValue.create(-1L));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fetch_assoc */
+  final public com.caucho.quercus.env.ArrayValue pg_fetch_assoc(com.caucho.quercus.lib.db.PostgresResult a1, double a2) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fetch_assoc(quercus_context, a1, DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fetch_assoc */
+  final public com.caucho.quercus.env.ArrayValue pg_fetch_assoc(com.caucho.quercus.lib.db.PostgresResult a1, String a2) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fetch_assoc(quercus_context, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fetch_object */
+  final public com.caucho.quercus.env.Value pg_fetch_object(com.caucho.quercus.lib.db.PostgresResult a1, long a2, int a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fetch_object(quercus_context, a1, LongValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fetch_object */
+  final public com.caucho.quercus.env.Value pg_fetch_object(com.caucho.quercus.lib.db.PostgresResult a1, long a2) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fetch_object(quercus_context, a1, LongValue.create(a2), 0);
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fetch_object */
+  final public com.caucho.quercus.env.Value pg_fetch_object(com.caucho.quercus.lib.db.PostgresResult a1) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fetch_object(quercus_context, a1, LongValue.create(-1L), 0);
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fetch_object */
+  final public com.caucho.quercus.env.Value pg_fetch_object(com.caucho.quercus.lib.db.PostgresResult a1, double a2, int a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fetch_object(quercus_context, a1, DoubleValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fetch_object */
+  final public com.caucho.quercus.env.Value pg_fetch_object(com.caucho.quercus.lib.db.PostgresResult a1, double a2) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fetch_object(quercus_context, a1, DoubleValue.create(a2), 0);
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fetch_object */
+  final public com.caucho.quercus.env.Value pg_fetch_object(com.caucho.quercus.lib.db.PostgresResult a1, String a2, int a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fetch_object(quercus_context, a1, quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fetch_object */
+  final public com.caucho.quercus.env.Value pg_fetch_object(com.caucho.quercus.lib.db.PostgresResult a1, String a2) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fetch_object(quercus_context, a1, quercus_context.createString(a2), 0);
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fetch_result */
+  final public com.caucho.quercus.env.Value pg_fetch_result(com.caucho.quercus.lib.db.PostgresResult a1, long a2, long a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fetch_result(quercus_context, a1, LongValue.create(a2), LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fetch_result */
+  final public com.caucho.quercus.env.Value pg_fetch_result(com.caucho.quercus.lib.db.PostgresResult a1, long a2) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fetch_result(quercus_context, a1, LongValue.create(a2), LongValue.create(-1L));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fetch_result */
+  final public com.caucho.quercus.env.Value pg_fetch_result(com.caucho.quercus.lib.db.PostgresResult a1, double a2, long a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fetch_result(quercus_context, a1, DoubleValue.create(a2), LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fetch_result */
+  final public com.caucho.quercus.env.Value pg_fetch_result(com.caucho.quercus.lib.db.PostgresResult a1, double a2) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fetch_result(quercus_context, a1, DoubleValue.create(a2), LongValue.create(-1L));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fetch_result */
+  final public com.caucho.quercus.env.Value pg_fetch_result(com.caucho.quercus.lib.db.PostgresResult a1, String a2, long a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fetch_result(quercus_context, a1, quercus_context.createString(a2), LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fetch_result */
+  final public com.caucho.quercus.env.Value pg_fetch_result(com.caucho.quercus.lib.db.PostgresResult a1, String a2) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fetch_result(quercus_context, a1, quercus_context.createString(a2), LongValue.create(-1L));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fetch_result */
+  final public com.caucho.quercus.env.Value pg_fetch_result(com.caucho.quercus.lib.db.PostgresResult a1, long a2, double a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fetch_result(quercus_context, a1, LongValue.create(a2), DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fetch_result */
+  final public com.caucho.quercus.env.Value pg_fetch_result(com.caucho.quercus.lib.db.PostgresResult a1, double a2, double a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fetch_result(quercus_context, a1, DoubleValue.create(a2), DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fetch_result */
+  final public com.caucho.quercus.env.Value pg_fetch_result(com.caucho.quercus.lib.db.PostgresResult a1, String a2, double a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fetch_result(quercus_context, a1, quercus_context.createString(a2), DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fetch_result */
+  final public com.caucho.quercus.env.Value pg_fetch_result(com.caucho.quercus.lib.db.PostgresResult a1, long a2, String a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fetch_result(quercus_context, a1, LongValue.create(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fetch_result */
+  final public com.caucho.quercus.env.Value pg_fetch_result(com.caucho.quercus.lib.db.PostgresResult a1, double a2, String a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fetch_result(quercus_context, a1, DoubleValue.create(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fetch_result */
+  final public com.caucho.quercus.env.Value pg_fetch_result(com.caucho.quercus.lib.db.PostgresResult a1, String a2, String a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fetch_result(quercus_context, a1, quercus_context.createString(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fetch_row */
+  final public com.caucho.quercus.env.ArrayValue pg_fetch_row(com.caucho.quercus.lib.db.PostgresResult a1, long a2) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fetch_row(quercus_context, a1, LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fetch_row */
+  final public com.caucho.quercus.env.ArrayValue pg_fetch_row(com.caucho.quercus.lib.db.PostgresResult a1) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fetch_row(quercus_context, a1, LongValue.create(-1L));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fetch_row */
+  final public com.caucho.quercus.env.ArrayValue pg_fetch_row(com.caucho.quercus.lib.db.PostgresResult a1, double a2) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fetch_row(quercus_context, a1, DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fetch_row */
+  final public com.caucho.quercus.env.ArrayValue pg_fetch_row(com.caucho.quercus.lib.db.PostgresResult a1, String a2) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fetch_row(quercus_context, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_field_is_null */
+  final public com.caucho.quercus.env.LongValue pg_field_is_null(com.caucho.quercus.lib.db.PostgresResult a1, long a2, long a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_field_is_null(quercus_context, a1, LongValue.create(a2), LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_field_is_null */
+  final public com.caucho.quercus.env.LongValue pg_field_is_null(com.caucho.quercus.lib.db.PostgresResult a1, long a2) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_field_is_null(quercus_context, a1, LongValue.create(a2), LongValue.create(-1L));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_field_is_null */
+  final public com.caucho.quercus.env.LongValue pg_field_is_null(com.caucho.quercus.lib.db.PostgresResult a1, double a2, long a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_field_is_null(quercus_context, a1, DoubleValue.create(a2), LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_field_is_null */
+  final public com.caucho.quercus.env.LongValue pg_field_is_null(com.caucho.quercus.lib.db.PostgresResult a1, double a2) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_field_is_null(quercus_context, a1, DoubleValue.create(a2), LongValue.create(-1L));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_field_is_null */
+  final public com.caucho.quercus.env.LongValue pg_field_is_null(com.caucho.quercus.lib.db.PostgresResult a1, String a2, long a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_field_is_null(quercus_context, a1, quercus_context.createString(a2), LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_field_is_null */
+  final public com.caucho.quercus.env.LongValue pg_field_is_null(com.caucho.quercus.lib.db.PostgresResult a1, String a2) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_field_is_null(quercus_context, a1, quercus_context.createString(a2), LongValue.create(-1L));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_field_is_null */
+  final public com.caucho.quercus.env.LongValue pg_field_is_null(com.caucho.quercus.lib.db.PostgresResult a1, long a2, double a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_field_is_null(quercus_context, a1, LongValue.create(a2), DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_field_is_null */
+  final public com.caucho.quercus.env.LongValue pg_field_is_null(com.caucho.quercus.lib.db.PostgresResult a1, double a2, double a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_field_is_null(quercus_context, a1, DoubleValue.create(a2), DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_field_is_null */
+  final public com.caucho.quercus.env.LongValue pg_field_is_null(com.caucho.quercus.lib.db.PostgresResult a1, String a2, double a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_field_is_null(quercus_context, a1, quercus_context.createString(a2), DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_field_is_null */
+  final public com.caucho.quercus.env.LongValue pg_field_is_null(com.caucho.quercus.lib.db.PostgresResult a1, long a2, String a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_field_is_null(quercus_context, a1, LongValue.create(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_field_is_null */
+  final public com.caucho.quercus.env.LongValue pg_field_is_null(com.caucho.quercus.lib.db.PostgresResult a1, double a2, String a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_field_is_null(quercus_context, a1, DoubleValue.create(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_field_is_null */
+  final public com.caucho.quercus.env.LongValue pg_field_is_null(com.caucho.quercus.lib.db.PostgresResult a1, String a2, String a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_field_is_null(quercus_context, a1, quercus_context.createString(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_field_prtlen */
+  final public int pg_field_prtlen(com.caucho.quercus.lib.db.PostgresResult a1, long a2, long a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_field_prtlen(quercus_context, a1, LongValue.create(a2), LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_field_prtlen */
+  final public int pg_field_prtlen(com.caucho.quercus.lib.db.PostgresResult a1, long a2) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_field_prtlen(quercus_context, a1, LongValue.create(a2), LongValue.create(-1L));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_field_prtlen */
+  final public int pg_field_prtlen(com.caucho.quercus.lib.db.PostgresResult a1, double a2, long a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_field_prtlen(quercus_context, a1, DoubleValue.create(a2), LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_field_prtlen */
+  final public int pg_field_prtlen(com.caucho.quercus.lib.db.PostgresResult a1, double a2) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_field_prtlen(quercus_context, a1, DoubleValue.create(a2), LongValue.create(-1L));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_field_prtlen */
+  final public int pg_field_prtlen(com.caucho.quercus.lib.db.PostgresResult a1, String a2, long a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_field_prtlen(quercus_context, a1, quercus_context.createString(a2), LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_field_prtlen */
+  final public int pg_field_prtlen(com.caucho.quercus.lib.db.PostgresResult a1, String a2) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_field_prtlen(quercus_context, a1, quercus_context.createString(a2), LongValue.create(-1L));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_field_prtlen */
+  final public int pg_field_prtlen(com.caucho.quercus.lib.db.PostgresResult a1, long a2, double a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_field_prtlen(quercus_context, a1, LongValue.create(a2), DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_field_prtlen */
+  final public int pg_field_prtlen(com.caucho.quercus.lib.db.PostgresResult a1, double a2, double a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_field_prtlen(quercus_context, a1, DoubleValue.create(a2), DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_field_prtlen */
+  final public int pg_field_prtlen(com.caucho.quercus.lib.db.PostgresResult a1, String a2, double a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_field_prtlen(quercus_context, a1, quercus_context.createString(a2), DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_field_prtlen */
+  final public int pg_field_prtlen(com.caucho.quercus.lib.db.PostgresResult a1, long a2, String a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_field_prtlen(quercus_context, a1, LongValue.create(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_field_prtlen */
+  final public int pg_field_prtlen(com.caucho.quercus.lib.db.PostgresResult a1, double a2, String a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_field_prtlen(quercus_context, a1, DoubleValue.create(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_field_prtlen */
+  final public int pg_field_prtlen(com.caucho.quercus.lib.db.PostgresResult a1, String a2, String a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_field_prtlen(quercus_context, a1, quercus_context.createString(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fieldisnull */
+  final public com.caucho.quercus.env.LongValue pg_fieldisnull(com.caucho.quercus.lib.db.PostgresResult a1, long a2, long a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fieldisnull(quercus_context, a1, LongValue.create(a2), LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fieldisnull */
+  final public com.caucho.quercus.env.LongValue pg_fieldisnull(com.caucho.quercus.lib.db.PostgresResult a1, long a2) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fieldisnull(quercus_context, a1, LongValue.create(a2), LongValue.create(-1L));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fieldisnull */
+  final public com.caucho.quercus.env.LongValue pg_fieldisnull(com.caucho.quercus.lib.db.PostgresResult a1, double a2, long a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fieldisnull(quercus_context, a1, DoubleValue.create(a2), LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fieldisnull */
+  final public com.caucho.quercus.env.LongValue pg_fieldisnull(com.caucho.quercus.lib.db.PostgresResult a1, double a2) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fieldisnull(quercus_context, a1, DoubleValue.create(a2), LongValue.create(-1L));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fieldisnull */
+  final public com.caucho.quercus.env.LongValue pg_fieldisnull(com.caucho.quercus.lib.db.PostgresResult a1, String a2, long a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fieldisnull(quercus_context, a1, quercus_context.createString(a2), LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fieldisnull */
+  final public com.caucho.quercus.env.LongValue pg_fieldisnull(com.caucho.quercus.lib.db.PostgresResult a1, String a2) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fieldisnull(quercus_context, a1, quercus_context.createString(a2), LongValue.create(-1L));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fieldisnull */
+  final public com.caucho.quercus.env.LongValue pg_fieldisnull(com.caucho.quercus.lib.db.PostgresResult a1, long a2, double a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fieldisnull(quercus_context, a1, LongValue.create(a2), DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fieldisnull */
+  final public com.caucho.quercus.env.LongValue pg_fieldisnull(com.caucho.quercus.lib.db.PostgresResult a1, double a2, double a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fieldisnull(quercus_context, a1, DoubleValue.create(a2), DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fieldisnull */
+  final public com.caucho.quercus.env.LongValue pg_fieldisnull(com.caucho.quercus.lib.db.PostgresResult a1, String a2, double a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fieldisnull(quercus_context, a1, quercus_context.createString(a2), DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fieldisnull */
+  final public com.caucho.quercus.env.LongValue pg_fieldisnull(com.caucho.quercus.lib.db.PostgresResult a1, long a2, String a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fieldisnull(quercus_context, a1, LongValue.create(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fieldisnull */
+  final public com.caucho.quercus.env.LongValue pg_fieldisnull(com.caucho.quercus.lib.db.PostgresResult a1, double a2, String a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fieldisnull(quercus_context, a1, DoubleValue.create(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fieldisnull */
+  final public com.caucho.quercus.env.LongValue pg_fieldisnull(com.caucho.quercus.lib.db.PostgresResult a1, String a2, String a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fieldisnull(quercus_context, a1, quercus_context.createString(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fieldprtlen */
+  final public int pg_fieldprtlen(com.caucho.quercus.lib.db.PostgresResult a1, long a2, long a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fieldprtlen(quercus_context, a1, LongValue.create(a2), LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fieldprtlen */
+  final public int pg_fieldprtlen(com.caucho.quercus.lib.db.PostgresResult a1, long a2) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fieldprtlen(quercus_context, a1, LongValue.create(a2), LongValue.create(-1L));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fieldprtlen */
+  final public int pg_fieldprtlen(com.caucho.quercus.lib.db.PostgresResult a1, double a2, long a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fieldprtlen(quercus_context, a1, DoubleValue.create(a2), LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fieldprtlen */
+  final public int pg_fieldprtlen(com.caucho.quercus.lib.db.PostgresResult a1, double a2) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fieldprtlen(quercus_context, a1, DoubleValue.create(a2), LongValue.create(-1L));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fieldprtlen */
+  final public int pg_fieldprtlen(com.caucho.quercus.lib.db.PostgresResult a1, String a2, long a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fieldprtlen(quercus_context, a1, quercus_context.createString(a2), LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fieldprtlen */
+  final public int pg_fieldprtlen(com.caucho.quercus.lib.db.PostgresResult a1, String a2) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fieldprtlen(quercus_context, a1, quercus_context.createString(a2), LongValue.create(-1L));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fieldprtlen */
+  final public int pg_fieldprtlen(com.caucho.quercus.lib.db.PostgresResult a1, long a2, double a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fieldprtlen(quercus_context, a1, LongValue.create(a2), DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fieldprtlen */
+  final public int pg_fieldprtlen(com.caucho.quercus.lib.db.PostgresResult a1, double a2, double a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fieldprtlen(quercus_context, a1, DoubleValue.create(a2), DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fieldprtlen */
+  final public int pg_fieldprtlen(com.caucho.quercus.lib.db.PostgresResult a1, String a2, double a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fieldprtlen(quercus_context, a1, quercus_context.createString(a2), DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fieldprtlen */
+  final public int pg_fieldprtlen(com.caucho.quercus.lib.db.PostgresResult a1, long a2, String a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fieldprtlen(quercus_context, a1, LongValue.create(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fieldprtlen */
+  final public int pg_fieldprtlen(com.caucho.quercus.lib.db.PostgresResult a1, double a2, String a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fieldprtlen(quercus_context, a1, DoubleValue.create(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_fieldprtlen */
+  final public int pg_fieldprtlen(com.caucho.quercus.lib.db.PostgresResult a1, String a2, String a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_fieldprtlen(quercus_context, a1, quercus_context.createString(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_parameter_status */
+  final public com.caucho.quercus.env.Value pg_parameter_status(String a1) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_parameter_status(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_parameter_status */
+  final public com.caucho.quercus.env.Value pg_parameter_status(com.caucho.quercus.lib.db.Postgres a1, String a2) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_parameter_status(quercus_context, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_result */
+  final public com.caucho.quercus.env.Value pg_result(com.caucho.quercus.lib.db.PostgresResult a1, long a2, long a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_result(quercus_context, a1, LongValue.create(a2), LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_result */
+  final public com.caucho.quercus.env.Value pg_result(com.caucho.quercus.lib.db.PostgresResult a1, long a2) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_result(quercus_context, a1, LongValue.create(a2), LongValue.create(-1L));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_result */
+  final public com.caucho.quercus.env.Value pg_result(com.caucho.quercus.lib.db.PostgresResult a1, double a2, long a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_result(quercus_context, a1, DoubleValue.create(a2), LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_result */
+  final public com.caucho.quercus.env.Value pg_result(com.caucho.quercus.lib.db.PostgresResult a1, double a2) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_result(quercus_context, a1, DoubleValue.create(a2), LongValue.create(-1L));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_result */
+  final public com.caucho.quercus.env.Value pg_result(com.caucho.quercus.lib.db.PostgresResult a1, String a2, long a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_result(quercus_context, a1, quercus_context.createString(a2), LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_result */
+  final public com.caucho.quercus.env.Value pg_result(com.caucho.quercus.lib.db.PostgresResult a1, String a2) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_result(quercus_context, a1, quercus_context.createString(a2), LongValue.create(-1L));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_result */
+  final public com.caucho.quercus.env.Value pg_result(com.caucho.quercus.lib.db.PostgresResult a1, long a2, double a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_result(quercus_context, a1, LongValue.create(a2), DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_result */
+  final public com.caucho.quercus.env.Value pg_result(com.caucho.quercus.lib.db.PostgresResult a1, double a2, double a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_result(quercus_context, a1, DoubleValue.create(a2), DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_result */
+  final public com.caucho.quercus.env.Value pg_result(com.caucho.quercus.lib.db.PostgresResult a1, String a2, double a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_result(quercus_context, a1, quercus_context.createString(a2), DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_result */
+  final public com.caucho.quercus.env.Value pg_result(com.caucho.quercus.lib.db.PostgresResult a1, long a2, String a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_result(quercus_context, a1, LongValue.create(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_result */
+  final public com.caucho.quercus.env.Value pg_result(com.caucho.quercus.lib.db.PostgresResult a1, double a2, String a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_result(quercus_context, a1, DoubleValue.create(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.db.PostgresModule : pg_result */
+  final public com.caucho.quercus.env.Value pg_result(com.caucho.quercus.lib.db.PostgresResult a1, String a2, String a3) {
+    return com.caucho.quercus.lib.db.PostgresModule.pg_result(quercus_context, a1, quercus_context.createString(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : basename */
+  final public com.caucho.quercus.env.Value basename(String a0, String a1) {
+    return com.caucho.quercus.lib.file.FileModule.basename(quercus_context.createString(a0), quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : chgrp */
+  final public boolean chgrp(com.caucho.vfs.Path a1, long a2) {
+    return com.caucho.quercus.lib.file.FileModule.chgrp(quercus_context, a1, LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : chgrp */
+  final public boolean chgrp(com.caucho.vfs.Path a1, double a2) {
+    return com.caucho.quercus.lib.file.FileModule.chgrp(quercus_context, a1, DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : chgrp */
+  final public boolean chgrp(com.caucho.vfs.Path a1, String a2) {
+    return com.caucho.quercus.lib.file.FileModule.chgrp(quercus_context, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : chown */
+  final public boolean chown(com.caucho.vfs.Path a1, long a2) {
+    return com.caucho.quercus.lib.file.FileModule.chown(quercus_context, a1, LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : chown */
+  final public boolean chown(com.caucho.vfs.Path a1, double a2) {
+    return com.caucho.quercus.lib.file.FileModule.chown(quercus_context, a1, DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : chown */
+  final public boolean chown(com.caucho.vfs.Path a1, String a2) {
+    return com.caucho.quercus.lib.file.FileModule.chown(quercus_context, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : fgetss */
+  final public com.caucho.quercus.env.Value fgetss(com.caucho.quercus.lib.file.BinaryInput a1, int a2, long a3) {
+    return com.caucho.quercus.lib.file.FileModule.fgetss(quercus_context, a1, a2, LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : fgetss */
+  final public com.caucho.quercus.env.Value fgetss(com.caucho.quercus.lib.file.BinaryInput a1, int a2) {
+    return com.caucho.quercus.lib.file.FileModule.fgetss(quercus_context, a1, a2, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : fgetss */
+  final public com.caucho.quercus.env.Value fgetss(com.caucho.quercus.lib.file.BinaryInput a1, int a2, double a3) {
+    return com.caucho.quercus.lib.file.FileModule.fgetss(quercus_context, a1, a2, DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : fgetss */
+  final public com.caucho.quercus.env.Value fgetss(com.caucho.quercus.lib.file.BinaryInput a1, int a2, String a3) {
+    return com.caucho.quercus.lib.file.FileModule.fgetss(quercus_context, a1, a2, quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : file */
+  final public com.caucho.quercus.env.Value file(String a1, boolean a2, long a3) {
+    return com.caucho.quercus.lib.file.FileModule.file(quercus_context, quercus_context.createString(a1), a2, LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : file */
+  final public com.caucho.quercus.env.Value file(String a1, boolean a2) {
+    return com.caucho.quercus.lib.file.FileModule.file(quercus_context, quercus_context.createString(a1), a2, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : file */
+  final public com.caucho.quercus.env.Value file(String a1) {
+    return com.caucho.quercus.lib.file.FileModule.file(quercus_context, quercus_context.createString(a1), false, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : file */
+  final public com.caucho.quercus.env.Value file(String a1, boolean a2, double a3) {
+    return com.caucho.quercus.lib.file.FileModule.file(quercus_context, quercus_context.createString(a1), a2, DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : file */
+  final public com.caucho.quercus.env.Value file(String a1, boolean a2, String a3) {
+    return com.caucho.quercus.lib.file.FileModule.file(quercus_context, quercus_context.createString(a1), a2, quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : file_get_contents */
+  final public com.caucho.quercus.env.StringValue file_get_contents(String a1, boolean a2, long a3, long a4, long a5) {
+    return com.caucho.quercus.lib.file.FileModule.file_get_contents(quercus_context, quercus_context.createString(a1), a2, LongValue.create(a3), a4, a5);
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : file_get_contents */
+  final public com.caucho.quercus.env.StringValue file_get_contents(String a1, boolean a2, long a3, long a4) {
+    return com.caucho.quercus.lib.file.FileModule.file_get_contents(quercus_context, quercus_context.createString(a1), a2, LongValue.create(a3), a4, 4294967296L);
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : file_get_contents */
+  final public com.caucho.quercus.env.StringValue file_get_contents(String a1, boolean a2, long a3) {
+    return com.caucho.quercus.lib.file.FileModule.file_get_contents(quercus_context, quercus_context.createString(a1), a2, LongValue.create(a3), 0, 4294967296L);
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : file_get_contents */
+  final public com.caucho.quercus.env.StringValue file_get_contents(String a1, boolean a2) {
+    return com.caucho.quercus.lib.file.FileModule.file_get_contents(quercus_context, quercus_context.createString(a1), a2, DefaultValue.DEFAULT, 0, 4294967296L);
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : file_get_contents */
+  final public com.caucho.quercus.env.StringValue file_get_contents(String a1) {
+    return com.caucho.quercus.lib.file.FileModule.file_get_contents(quercus_context, quercus_context.createString(a1), false, DefaultValue.DEFAULT, 0, 4294967296L);
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : file_get_contents */
+  final public com.caucho.quercus.env.StringValue file_get_contents(String a1, boolean a2, double a3, long a4, long a5) {
+    return com.caucho.quercus.lib.file.FileModule.file_get_contents(quercus_context, quercus_context.createString(a1), a2, DoubleValue.create(a3), a4, a5);
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : file_get_contents */
+  final public com.caucho.quercus.env.StringValue file_get_contents(String a1, boolean a2, double a3, long a4) {
+    return com.caucho.quercus.lib.file.FileModule.file_get_contents(quercus_context, quercus_context.createString(a1), a2, DoubleValue.create(a3), a4, 4294967296L);
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : file_get_contents */
+  final public com.caucho.quercus.env.StringValue file_get_contents(String a1, boolean a2, double a3) {
+    return com.caucho.quercus.lib.file.FileModule.file_get_contents(quercus_context, quercus_context.createString(a1), a2, DoubleValue.create(a3), 0, 4294967296L);
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : file_get_contents */
+  final public com.caucho.quercus.env.StringValue file_get_contents(String a1, boolean a2, String a3, long a4, long a5) {
+    return com.caucho.quercus.lib.file.FileModule.file_get_contents(quercus_context, quercus_context.createString(a1), a2, quercus_context.createString(a3), a4, a5);
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : file_get_contents */
+  final public com.caucho.quercus.env.StringValue file_get_contents(String a1, boolean a2, String a3, long a4) {
+    return com.caucho.quercus.lib.file.FileModule.file_get_contents(quercus_context, quercus_context.createString(a1), a2, quercus_context.createString(a3), a4, 4294967296L);
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : file_get_contents */
+  final public com.caucho.quercus.env.StringValue file_get_contents(String a1, boolean a2, String a3) {
+    return com.caucho.quercus.lib.file.FileModule.file_get_contents(quercus_context, quercus_context.createString(a1), a2, quercus_context.createString(a3), 0, 4294967296L);
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : file_put_contents */
+  final public com.caucho.quercus.env.Value file_put_contents(String a1, long a2, int a3, long a4) {
+    return com.caucho.quercus.lib.file.FileModule.file_put_contents(quercus_context, quercus_context.createString(a1), LongValue.create(a2), a3, LongValue.create(a4));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : file_put_contents */
+  final public com.caucho.quercus.env.Value file_put_contents(String a1, long a2, int a3) {
+    return com.caucho.quercus.lib.file.FileModule.file_put_contents(quercus_context, quercus_context.createString(a1), LongValue.create(a2), a3, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : file_put_contents */
+  final public com.caucho.quercus.env.Value file_put_contents(String a1, long a2) {
+    return com.caucho.quercus.lib.file.FileModule.file_put_contents(quercus_context, quercus_context.createString(a1), LongValue.create(a2), 0, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : file_put_contents */
+  final public com.caucho.quercus.env.Value file_put_contents(String a1, double a2, int a3, long a4) {
+    return com.caucho.quercus.lib.file.FileModule.file_put_contents(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2), a3, LongValue.create(a4));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : file_put_contents */
+  final public com.caucho.quercus.env.Value file_put_contents(String a1, double a2, int a3) {
+    return com.caucho.quercus.lib.file.FileModule.file_put_contents(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2), a3, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : file_put_contents */
+  final public com.caucho.quercus.env.Value file_put_contents(String a1, double a2) {
+    return com.caucho.quercus.lib.file.FileModule.file_put_contents(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2), 0, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : file_put_contents */
+  final public com.caucho.quercus.env.Value file_put_contents(String a1, String a2, int a3, long a4) {
+    return com.caucho.quercus.lib.file.FileModule.file_put_contents(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), a3, LongValue.create(a4));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : file_put_contents */
+  final public com.caucho.quercus.env.Value file_put_contents(String a1, String a2, int a3) {
+    return com.caucho.quercus.lib.file.FileModule.file_put_contents(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), a3, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : file_put_contents */
+  final public com.caucho.quercus.env.Value file_put_contents(String a1, String a2) {
+    return com.caucho.quercus.lib.file.FileModule.file_put_contents(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), 0, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : file_put_contents */
+  final public com.caucho.quercus.env.Value file_put_contents(String a1, long a2, int a3, double a4) {
+    return com.caucho.quercus.lib.file.FileModule.file_put_contents(quercus_context, quercus_context.createString(a1), LongValue.create(a2), a3, DoubleValue.create(a4));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : file_put_contents */
+  final public com.caucho.quercus.env.Value file_put_contents(String a1, double a2, int a3, double a4) {
+    return com.caucho.quercus.lib.file.FileModule.file_put_contents(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2), a3, DoubleValue.create(a4));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : file_put_contents */
+  final public com.caucho.quercus.env.Value file_put_contents(String a1, String a2, int a3, double a4) {
+    return com.caucho.quercus.lib.file.FileModule.file_put_contents(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), a3, DoubleValue.create(a4));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : file_put_contents */
+  final public com.caucho.quercus.env.Value file_put_contents(String a1, long a2, int a3, String a4) {
+    return com.caucho.quercus.lib.file.FileModule.file_put_contents(quercus_context, quercus_context.createString(a1), LongValue.create(a2), a3, quercus_context.createString(a4));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : file_put_contents */
+  final public com.caucho.quercus.env.Value file_put_contents(String a1, double a2, int a3, String a4) {
+    return com.caucho.quercus.lib.file.FileModule.file_put_contents(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2), a3, quercus_context.createString(a4));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : file_put_contents */
+  final public com.caucho.quercus.env.Value file_put_contents(String a1, String a2, int a3, String a4) {
+    return com.caucho.quercus.lib.file.FileModule.file_put_contents(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), a3, quercus_context.createString(a4));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : flock */
+  final public boolean flock(com.caucho.vfs.LockableStream a1, int a2, long a3) {
+    return com.caucho.quercus.lib.file.FileModule.flock(quercus_context, a1, a2, LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : flock */
+  final public boolean flock(com.caucho.vfs.LockableStream a1, int a2) {
+    return com.caucho.quercus.lib.file.FileModule.flock(quercus_context, a1, a2, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : flock */
+  final public boolean flock(com.caucho.vfs.LockableStream a1, int a2, double a3) {
+    return com.caucho.quercus.lib.file.FileModule.flock(quercus_context, a1, a2, DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : flock */
+  final public boolean flock(com.caucho.vfs.LockableStream a1, int a2, String a3) {
+    return com.caucho.quercus.lib.file.FileModule.flock(quercus_context, a1, a2, quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : fopen */
+  final public com.caucho.quercus.lib.file.BinaryStream fopen(String a1, String a2, boolean a3, long a4) {
+    return com.caucho.quercus.lib.file.FileModule.fopen(quercus_context, quercus_context.createString(a1), a2, a3, LongValue.create(a4));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : fopen */
+  final public com.caucho.quercus.lib.file.BinaryStream fopen(String a1, String a2, boolean a3) {
+    return com.caucho.quercus.lib.file.FileModule.fopen(quercus_context, quercus_context.createString(a1), a2, a3, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : fopen */
+  final public com.caucho.quercus.lib.file.BinaryStream fopen(String a1, String a2) {
+    return com.caucho.quercus.lib.file.FileModule.fopen(quercus_context, quercus_context.createString(a1), a2, false, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : fopen */
+  final public com.caucho.quercus.lib.file.BinaryStream fopen(String a1, String a2, boolean a3, double a4) {
+    return com.caucho.quercus.lib.file.FileModule.fopen(quercus_context, quercus_context.createString(a1), a2, a3, DoubleValue.create(a4));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : fopen */
+  final public com.caucho.quercus.lib.file.BinaryStream fopen(String a1, String a2, boolean a3, String a4) {
+    return com.caucho.quercus.lib.file.FileModule.fopen(quercus_context, quercus_context.createString(a1), a2, a3, quercus_context.createString(a4));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : fscanf */
+  final public com.caucho.quercus.env.Value fscanf(com.caucho.quercus.lib.file.BinaryInput a1, String a2, com.caucho.quercus.env.Value[] a3) {
+    return com.caucho.quercus.lib.file.FileModule.fscanf(quercus_context, a1, quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : lstat */
+  final public com.caucho.quercus.env.Value lstat(String a1) {
+    return com.caucho.quercus.lib.file.FileModule.lstat(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : mkdir */
+  final public boolean mkdir(String a1, int a2, boolean a3, long a4) {
+    return com.caucho.quercus.lib.file.FileModule.mkdir(quercus_context, quercus_context.createString(a1), a2, a3, LongValue.create(a4));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : mkdir */
+  final public boolean mkdir(String a1, int a2, boolean a3) {
+    return com.caucho.quercus.lib.file.FileModule.mkdir(quercus_context, quercus_context.createString(a1), a2, a3, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : mkdir */
+  final public boolean mkdir(String a1, int a2) {
+    return com.caucho.quercus.lib.file.FileModule.mkdir(quercus_context, quercus_context.createString(a1), a2, false, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : mkdir */
+  final public boolean mkdir(String a1) {
+    return com.caucho.quercus.lib.file.FileModule.mkdir(quercus_context, quercus_context.createString(a1), 0, false, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : mkdir */
+  final public boolean mkdir(String a1, int a2, boolean a3, double a4) {
+    return com.caucho.quercus.lib.file.FileModule.mkdir(quercus_context, quercus_context.createString(a1), a2, a3, DoubleValue.create(a4));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : mkdir */
+  final public boolean mkdir(String a1, int a2, boolean a3, String a4) {
+    return com.caucho.quercus.lib.file.FileModule.mkdir(quercus_context, quercus_context.createString(a1), a2, a3, quercus_context.createString(a4));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : opendir */
+  final public com.caucho.quercus.env.Value opendir(String a1, long a2) {
+    return com.caucho.quercus.lib.file.FileModule.opendir(quercus_context, quercus_context.createString(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : opendir */
+  final public com.caucho.quercus.env.Value opendir(String a1) {
+    return com.caucho.quercus.lib.file.FileModule.opendir(quercus_context, quercus_context.createString(a1), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : opendir */
+  final public com.caucho.quercus.env.Value opendir(String a1, double a2) {
+    return com.caucho.quercus.lib.file.FileModule.opendir(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : opendir */
+  final public com.caucho.quercus.env.Value opendir(String a1, String a2) {
+    return com.caucho.quercus.lib.file.FileModule.opendir(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : pathinfo */
+  final public com.caucho.quercus.env.Value pathinfo(String a1, long a2) {
+    return com.caucho.quercus.lib.file.FileModule.pathinfo(quercus_context, a1, LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : pathinfo */
+  final public com.caucho.quercus.env.Value pathinfo(String a1) {
+    return com.caucho.quercus.lib.file.FileModule.pathinfo(quercus_context, a1, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : pathinfo */
+  final public com.caucho.quercus.env.Value pathinfo(String a1, double a2) {
+    return com.caucho.quercus.lib.file.FileModule.pathinfo(quercus_context, a1, DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : pathinfo */
+  final public com.caucho.quercus.env.Value pathinfo(String a1, String a2) {
+    return com.caucho.quercus.lib.file.FileModule.pathinfo(quercus_context, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : popen */
+  final public com.caucho.quercus.lib.file.BinaryStream popen(String a1, String a2) {
+    return com.caucho.quercus.lib.file.FileModule.popen(quercus_context, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : rename */
+  final public boolean rename(String a1, String a2) {
+    return com.caucho.quercus.lib.file.FileModule.rename(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : rmdir */
+  final public boolean rmdir(String a1, long a2) {
+    return com.caucho.quercus.lib.file.FileModule.rmdir(quercus_context, quercus_context.createString(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : rmdir */
+  final public boolean rmdir(String a1) {
+    return com.caucho.quercus.lib.file.FileModule.rmdir(quercus_context, quercus_context.createString(a1), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : rmdir */
+  final public boolean rmdir(String a1, double a2) {
+    return com.caucho.quercus.lib.file.FileModule.rmdir(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : rmdir */
+  final public boolean rmdir(String a1, String a2) {
+    return com.caucho.quercus.lib.file.FileModule.rmdir(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : scandir */
+  final public com.caucho.quercus.env.Value scandir(String a1, int a2, long a3) {
+    return com.caucho.quercus.lib.file.FileModule.scandir(quercus_context, quercus_context.createString(a1), a2, LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : scandir */
+  final public com.caucho.quercus.env.Value scandir(String a1, int a2) {
+    return com.caucho.quercus.lib.file.FileModule.scandir(quercus_context, quercus_context.createString(a1), a2, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : scandir */
+  final public com.caucho.quercus.env.Value scandir(String a1) {
+    return com.caucho.quercus.lib.file.FileModule.scandir(quercus_context, quercus_context.createString(a1), 1, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : scandir */
+  final public com.caucho.quercus.env.Value scandir(String a1, int a2, double a3) {
+    return com.caucho.quercus.lib.file.FileModule.scandir(quercus_context, quercus_context.createString(a1), a2, DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : scandir */
+  final public com.caucho.quercus.env.Value scandir(String a1, int a2, String a3) {
+    return com.caucho.quercus.lib.file.FileModule.scandir(quercus_context, quercus_context.createString(a1), a2, quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : stat */
+  final public com.caucho.quercus.env.Value stat(String a1) {
+    return com.caucho.quercus.lib.file.FileModule.stat(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : unlink */
+  final public boolean unlink(String a1, long a2) {
+    return com.caucho.quercus.lib.file.FileModule.unlink(quercus_context, quercus_context.createString(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : unlink */
+  final public boolean unlink(String a1) {
+    return com.caucho.quercus.lib.file.FileModule.unlink(quercus_context, quercus_context.createString(a1), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : unlink */
+  final public boolean unlink(String a1, double a2) {
+    return com.caucho.quercus.lib.file.FileModule.unlink(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.file.FileModule : unlink */
+  final public boolean unlink(String a1, String a2) {
+    return com.caucho.quercus.lib.file.FileModule.unlink(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.file.SocketModule : socket_bind */
+  final public boolean socket_bind(com.caucho.quercus.lib.file.SocketInputOutput a1, String a2, int a3) {
+    return com.caucho.quercus.lib.file.SocketModule.socket_bind(quercus_context, a1, quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.file.SocketModule : socket_bind */
+  final public boolean socket_bind(com.caucho.quercus.lib.file.SocketInputOutput a1, String a2) {
+    return com.caucho.quercus.lib.file.SocketModule.socket_bind(quercus_context, a1, quercus_context.createString(a2), 0);
+  }
+
+  /* com.caucho.quercus.lib.file.SocketModule : socket_connect */
+  final public boolean socket_connect(com.caucho.quercus.lib.file.SocketInputOutput a1, String a2, int a3) {
+    return com.caucho.quercus.lib.file.SocketModule.socket_connect(quercus_context, a1, quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.file.SocketModule : socket_connect */
+  final public boolean socket_connect(com.caucho.quercus.lib.file.SocketInputOutput a1, String a2) {
+    return com.caucho.quercus.lib.file.SocketModule.socket_connect(quercus_context, a1, quercus_context.createString(a2), 0);
+  }
+
+  /* com.caucho.quercus.lib.file.SocketModule : socket_set_timeout */
+  final public boolean socket_set_timeout(long a1, int a2, int a3) {
+    return com.caucho.quercus.lib.file.SocketModule.socket_set_timeout(quercus_context, LongValue.create(a1), a2, a3);
+  }
+
+  /* com.caucho.quercus.lib.file.SocketModule : socket_set_timeout */
+  final public boolean socket_set_timeout(long a1, int a2) {
+    return com.caucho.quercus.lib.file.SocketModule.socket_set_timeout(quercus_context, LongValue.create(a1), a2, -1);
+  }
+
+  /* com.caucho.quercus.lib.file.SocketModule : socket_set_timeout */
+  final public boolean socket_set_timeout(double a1, int a2, int a3) {
+    return com.caucho.quercus.lib.file.SocketModule.socket_set_timeout(quercus_context, DoubleValue.create(a1), a2, a3);
+  }
+
+  /* com.caucho.quercus.lib.file.SocketModule : socket_set_timeout */
+  final public boolean socket_set_timeout(double a1, int a2) {
+    return com.caucho.quercus.lib.file.SocketModule.socket_set_timeout(quercus_context, DoubleValue.create(a1), a2, -1);
+  }
+
+  /* com.caucho.quercus.lib.file.SocketModule : socket_set_timeout */
+  final public boolean socket_set_timeout(String a1, int a2, int a3) {
+    return com.caucho.quercus.lib.file.SocketModule.socket_set_timeout(quercus_context, quercus_context.createString(a1), a2, a3);
+  }
+
+  /* com.caucho.quercus.lib.file.SocketModule : socket_set_timeout */
+  final public boolean socket_set_timeout(String a1, int a2) {
+    return com.caucho.quercus.lib.file.SocketModule.socket_set_timeout(quercus_context, quercus_context.createString(a1), a2, -1);
+  }
+
+  /* com.caucho.quercus.lib.file.StreamModule : stream_context_get_options */
+  final public com.caucho.quercus.env.Value stream_context_get_options(long a1) {
+    return com.caucho.quercus.lib.file.StreamModule.stream_context_get_options(quercus_context, LongValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.file.StreamModule : stream_context_get_options */
+  final public com.caucho.quercus.env.Value stream_context_get_options(double a1) {
+    return com.caucho.quercus.lib.file.StreamModule.stream_context_get_options(quercus_context, DoubleValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.file.StreamModule : stream_context_get_options */
+  final public com.caucho.quercus.env.Value stream_context_get_options(String a1) {
+    return com.caucho.quercus.lib.file.StreamModule.stream_context_get_options(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.file.StreamModule : stream_context_set_params */
+  final public boolean stream_context_set_params(long a1, com.caucho.quercus.env.ArrayValue a2) {
+    return com.caucho.quercus.lib.file.StreamModule.stream_context_set_params(quercus_context, LongValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.file.StreamModule : stream_context_set_params */
+  final public boolean stream_context_set_params(double a1, com.caucho.quercus.env.ArrayValue a2) {
+    return com.caucho.quercus.lib.file.StreamModule.stream_context_set_params(quercus_context, DoubleValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.file.StreamModule : stream_context_set_params */
+  final public boolean stream_context_set_params(String a1, com.caucho.quercus.env.ArrayValue a2) {
+    return com.caucho.quercus.lib.file.StreamModule.stream_context_set_params(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.file.StreamModule : stream_register_wrapper */
+  final public boolean stream_register_wrapper(String a1, String a2) {
+    return com.caucho.quercus.lib.file.StreamModule.stream_register_wrapper(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.file.StreamModule : stream_set_blocking */
+  final public boolean stream_set_blocking(long a1, int a2) {
+    return com.caucho.quercus.lib.file.StreamModule.stream_set_blocking(quercus_context, LongValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.file.StreamModule : stream_set_blocking */
+  final public boolean stream_set_blocking(double a1, int a2) {
+    return com.caucho.quercus.lib.file.StreamModule.stream_set_blocking(quercus_context, DoubleValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.file.StreamModule : stream_set_blocking */
+  final public boolean stream_set_blocking(String a1, int a2) {
+    return com.caucho.quercus.lib.file.StreamModule.stream_set_blocking(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.file.StreamModule : stream_set_timeout */
+  final public boolean stream_set_timeout(long a1, int a2, int a3) {
+    return com.caucho.quercus.lib.file.StreamModule.stream_set_timeout(quercus_context, LongValue.create(a1), a2, a3);
+  }
+
+  /* com.caucho.quercus.lib.file.StreamModule : stream_set_timeout */
+  final public boolean stream_set_timeout(long a1, int a2) {
+    return com.caucho.quercus.lib.file.StreamModule.stream_set_timeout(quercus_context, LongValue.create(a1), a2, -1);
+  }
+
+  /* com.caucho.quercus.lib.file.StreamModule : stream_set_timeout */
+  final public boolean stream_set_timeout(double a1, int a2, int a3) {
+    return com.caucho.quercus.lib.file.StreamModule.stream_set_timeout(quercus_context, DoubleValue.create(a1), a2, a3);
+  }
+
+  /* com.caucho.quercus.lib.file.StreamModule : stream_set_timeout */
+  final public boolean stream_set_timeout(double a1, int a2) {
+    return com.caucho.quercus.lib.file.StreamModule.stream_set_timeout(quercus_context, DoubleValue.create(a1), a2, -1);
+  }
+
+  /* com.caucho.quercus.lib.file.StreamModule : stream_set_timeout */
+  final public boolean stream_set_timeout(String a1, int a2, int a3) {
+    return com.caucho.quercus.lib.file.StreamModule.stream_set_timeout(quercus_context, quercus_context.createString(a1), a2, a3);
+  }
+
+  /* com.caucho.quercus.lib.file.StreamModule : stream_set_timeout */
+  final public boolean stream_set_timeout(String a1, int a2) {
+    return com.caucho.quercus.lib.file.StreamModule.stream_set_timeout(quercus_context, quercus_context.createString(a1), a2, -1);
+  }
+
+  /* com.caucho.quercus.lib.file.StreamModule : stream_socket_client */
+  final public com.caucho.quercus.lib.file.SocketInputOutput stream_socket_client(String a1, long a2, long a3, double a4, int a5, com.caucho.quercus.resources.StreamContextResource a6) {
+    return com.caucho.quercus.lib.file.StreamModule.stream_socket_client(quercus_context, a1, LongValue.create(a2), LongValue.create(a3), a4, a5, a6);
+  }
+
+  /* com.caucho.quercus.lib.file.StreamModule : stream_socket_client */
+  final public com.caucho.quercus.lib.file.SocketInputOutput stream_socket_client(String a1, double a2, long a3, double a4, int a5, com.caucho.quercus.resources.StreamContextResource a6) {
+    return com.caucho.quercus.lib.file.StreamModule.stream_socket_client(quercus_context, a1, DoubleValue.create(a2), LongValue.create(a3), a4, a5, a6);
+  }
+
+  /* com.caucho.quercus.lib.file.StreamModule : stream_socket_client */
+  final public com.caucho.quercus.lib.file.SocketInputOutput stream_socket_client(String a1, String a2, long a3, double a4, int a5, com.caucho.quercus.resources.StreamContextResource a6) {
+    return com.caucho.quercus.lib.file.StreamModule.stream_socket_client(quercus_context, a1, quercus_context.createString(a2), LongValue.create(a3), a4, a5, a6);
+  }
+
+  /* com.caucho.quercus.lib.file.StreamModule : stream_socket_client */
+  final public com.caucho.quercus.lib.file.SocketInputOutput stream_socket_client(String a1, long a2, double a3, double a4, int a5, com.caucho.quercus.resources.StreamContextResource a6) {
+    return com.caucho.quercus.lib.file.StreamModule.stream_socket_client(quercus_context, a1, LongValue.create(a2), DoubleValue.create(a3), a4, a5, a6);
+  }
+
+  /* com.caucho.quercus.lib.file.StreamModule : stream_socket_client */
+  final public com.caucho.quercus.lib.file.SocketInputOutput stream_socket_client(String a1, double a2, double a3, double a4, int a5, com.caucho.quercus.resources.StreamContextResource a6) {
+    return com.caucho.quercus.lib.file.StreamModule.stream_socket_client(quercus_context, a1, DoubleValue.create(a2), DoubleValue.create(a3), a4, a5, a6);
+  }
+
+  /* com.caucho.quercus.lib.file.StreamModule : stream_socket_client */
+  final public com.caucho.quercus.lib.file.SocketInputOutput stream_socket_client(String a1, String a2, double a3, double a4, int a5, com.caucho.quercus.resources.StreamContextResource a6) {
+    return com.caucho.quercus.lib.file.StreamModule.stream_socket_client(quercus_context, a1, quercus_context.createString(a2), DoubleValue.create(a3), a4, a5, a6);
+  }
+
+  /* com.caucho.quercus.lib.file.StreamModule : stream_socket_client */
+  final public com.caucho.quercus.lib.file.SocketInputOutput stream_socket_client(String a1, long a2, String a3, double a4, int a5, com.caucho.quercus.resources.StreamContextResource a6) {
+    return com.caucho.quercus.lib.file.StreamModule.stream_socket_client(quercus_context, a1, LongValue.create(a2), quercus_context.createString(a3), a4, a5, a6);
+  }
+
+  /* com.caucho.quercus.lib.file.StreamModule : stream_socket_client */
+  final public com.caucho.quercus.lib.file.SocketInputOutput stream_socket_client(String a1, double a2, String a3, double a4, int a5, com.caucho.quercus.resources.StreamContextResource a6) {
+    return com.caucho.quercus.lib.file.StreamModule.stream_socket_client(quercus_context, a1, DoubleValue.create(a2), quercus_context.createString(a3), a4, a5, a6);
+  }
+
+  /* com.caucho.quercus.lib.file.StreamModule : stream_socket_client */
+  final public com.caucho.quercus.lib.file.SocketInputOutput stream_socket_client(String a1, String a2, String a3, double a4, int a5, com.caucho.quercus.resources.StreamContextResource a6) {
+    return com.caucho.quercus.lib.file.StreamModule.stream_socket_client(quercus_context, a1, quercus_context.createString(a2), quercus_context.createString(a3), a4, a5, a6);
+  }
+
+  /* com.caucho.quercus.lib.file.StreamModule : stream_wrapper_register */
+  final public boolean stream_wrapper_register(String a1, String a2) {
+    return com.caucho.quercus.lib.file.StreamModule.stream_wrapper_register(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.file.StreamModule : stream_wrapper_register */
+  final public void stream_wrapper_register(String a0, com.caucho.quercus.lib.file.ProtocolWrapper a1) {
+    com.caucho.quercus.lib.file.StreamModule.stream_wrapper_register(quercus_context.createString(a0), a1);
+  }
+
+  /* com.caucho.quercus.lib.file.StreamModule : stream_wrapper_restore */
+  final public boolean stream_wrapper_restore(String a1) {
+    return com.caucho.quercus.lib.file.StreamModule.stream_wrapper_restore(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.file.StreamModule : stream_wrapper_unregister */
+  final public boolean stream_wrapper_unregister(String a1) {
+    return com.caucho.quercus.lib.file.StreamModule.stream_wrapper_unregister(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_convert_case */
+  final public com.caucho.quercus.env.StringValue mb_convert_case(String a1, int a2, String a3) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_convert_case(quercus_context, quercus_context.createString(a1), a2, a3);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_convert_case */
+  final public com.caucho.quercus.env.StringValue mb_convert_case(String a1, int a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_convert_case(quercus_context, quercus_context.createString(a1), a2, "");
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_convert_encoding */
+  final public com.caucho.quercus.env.Value mb_convert_encoding(String a1, String a2, long a3) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_convert_encoding(quercus_context, quercus_context.createString(a1), a2, LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_convert_encoding */
+  final public com.caucho.quercus.env.Value mb_convert_encoding(String a1, String a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_convert_encoding(quercus_context, quercus_context.createString(a1), a2, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_convert_encoding */
+  final public com.caucho.quercus.env.Value mb_convert_encoding(String a1, String a2, double a3) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_convert_encoding(quercus_context, quercus_context.createString(a1), a2, DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_convert_encoding */
+  final public com.caucho.quercus.env.Value mb_convert_encoding(String a1, String a2, String a3) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_convert_encoding(quercus_context, quercus_context.createString(a1), a2, quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_convert_kana */
+  final public com.caucho.quercus.env.StringValue mb_convert_kana(String a1, String a2, String a3) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_convert_kana(quercus_context, quercus_context.createString(a1), a2, a3);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_convert_kana */
+  final public com.caucho.quercus.env.StringValue mb_convert_kana(String a1, String a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_convert_kana(quercus_context, quercus_context.createString(a1), a2, "");
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_convert_kana */
+  final public com.caucho.quercus.env.StringValue mb_convert_kana(String a1) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_convert_kana(quercus_context, quercus_context.createString(a1), "", "");
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_convert_variables */
+  final public com.caucho.quercus.env.StringValue mb_convert_variables(String a1, String a2, long a3) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_convert_variables(quercus_context, a1, a2, LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_convert_variables */
+  final public com.caucho.quercus.env.StringValue mb_convert_variables(String a1, String a2, double a3) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_convert_variables(quercus_context, a1, a2, DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_convert_variables */
+  final public com.caucho.quercus.env.StringValue mb_convert_variables(String a1, String a2, String a3) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_convert_variables(quercus_context, a1, a2, quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_decode_mimeheader */
+  final public com.caucho.quercus.env.Value mb_decode_mimeheader(String a1) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_decode_mimeheader(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_decode_numericentity */
+  final public com.caucho.quercus.env.StringValue mb_decode_numericentity(String a1, com.caucho.quercus.env.ArrayValue a2, String a3) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_decode_numericentity(quercus_context, quercus_context.createString(a1), a2, a3);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_detect_encoding */
+  final public com.caucho.quercus.env.Value mb_detect_encoding(String a1, long a2, boolean a3) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_detect_encoding(quercus_context, quercus_context.createString(a1), LongValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_detect_encoding */
+  final public com.caucho.quercus.env.Value mb_detect_encoding(String a1, long a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_detect_encoding(quercus_context, quercus_context.createString(a1), LongValue.create(a2), false);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_detect_encoding */
+  final public com.caucho.quercus.env.Value mb_detect_encoding(String a1) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_detect_encoding(quercus_context, quercus_context.createString(a1), DefaultValue.DEFAULT, false);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_detect_encoding */
+  final public com.caucho.quercus.env.Value mb_detect_encoding(String a1, double a2, boolean a3) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_detect_encoding(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_detect_encoding */
+  final public com.caucho.quercus.env.Value mb_detect_encoding(String a1, double a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_detect_encoding(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2), false);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_detect_encoding */
+  final public com.caucho.quercus.env.Value mb_detect_encoding(String a1, String a2, boolean a3) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_detect_encoding(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_detect_encoding */
+  final public com.caucho.quercus.env.Value mb_detect_encoding(String a1, String a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_detect_encoding(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), false);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_detect_order */
+  final public com.caucho.quercus.env.Value mb_detect_order(long a1) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_detect_order(quercus_context, LongValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_detect_order */
+  final public com.caucho.quercus.env.Value mb_detect_order() {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_detect_order(quercus_context, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_detect_order */
+  final public com.caucho.quercus.env.Value mb_detect_order(double a1) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_detect_order(quercus_context, DoubleValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_detect_order */
+  final public com.caucho.quercus.env.Value mb_detect_order(String a1) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_detect_order(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_encode_mimeheader */
+  final public com.caucho.quercus.env.StringValue mb_encode_mimeheader(String a1, String a2, String a3, String a4) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_encode_mimeheader(quercus_context, quercus_context.createString(a1), a2, a3, a4);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_encode_mimeheader */
+  final public com.caucho.quercus.env.StringValue mb_encode_mimeheader(String a1, String a2, String a3) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_encode_mimeheader(quercus_context, quercus_context.createString(a1), a2, a3, "");
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_encode_numericentity */
+  final public com.caucho.quercus.env.StringValue mb_encode_numericentity(String a1, com.caucho.quercus.env.ArrayValue a2, String a3) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_encode_numericentity(quercus_context, quercus_context.createString(a1), a2, a3);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg */
+  final public com.caucho.quercus.env.Value mb_ereg(com.caucho.quercus.lib.regexp.UnicodeEreg a1, String a2, com.caucho.quercus.env.ArrayValue a3) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg(quercus_context, a1, quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_match */
+  final public com.caucho.quercus.env.BooleanValue mb_ereg_match(com.caucho.quercus.lib.regexp.UnicodeEreg a1, String a2, String a3) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_match(quercus_context, a1, quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_replace */
+  final public com.caucho.quercus.env.Value mb_ereg_replace(long a1, String a2, String a3, String a4) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_replace(quercus_context, LongValue.create(a1), quercus_context.createString(a2), quercus_context.createString(a3), a4);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_replace */
+  final public com.caucho.quercus.env.Value mb_ereg_replace(double a1, String a2, String a3, String a4) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_replace(quercus_context, DoubleValue.create(a1), quercus_context.createString(a2), quercus_context.createString(a3), a4);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_replace */
+  final public com.caucho.quercus.env.Value mb_ereg_replace(String a1, String a2, String a3, String a4) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_replace(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), quercus_context.createString(a3), a4);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search */
+  final public com.caucho.quercus.env.BooleanValue mb_ereg_search(long a1, long a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search(quercus_context, LongValue.create(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search */
+  final public com.caucho.quercus.env.BooleanValue mb_ereg_search(long a1) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search(quercus_context, LongValue.create(a1), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search */
+  final public com.caucho.quercus.env.BooleanValue mb_ereg_search() {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search(quercus_context, DefaultValue.DEFAULT, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search */
+  final public com.caucho.quercus.env.BooleanValue mb_ereg_search(double a1, long a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search(quercus_context, DoubleValue.create(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search */
+  final public com.caucho.quercus.env.BooleanValue mb_ereg_search(double a1) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search(quercus_context, DoubleValue.create(a1), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search */
+  final public com.caucho.quercus.env.BooleanValue mb_ereg_search(String a1, long a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search(quercus_context, quercus_context.createString(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search */
+  final public com.caucho.quercus.env.BooleanValue mb_ereg_search(String a1) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search(quercus_context, quercus_context.createString(a1), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search */
+  final public com.caucho.quercus.env.BooleanValue mb_ereg_search(long a1, double a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search(quercus_context, LongValue.create(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search */
+  final public com.caucho.quercus.env.BooleanValue mb_ereg_search(double a1, double a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search(quercus_context, DoubleValue.create(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search */
+  final public com.caucho.quercus.env.BooleanValue mb_ereg_search(String a1, double a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search */
+  final public com.caucho.quercus.env.BooleanValue mb_ereg_search(long a1, String a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search(quercus_context, LongValue.create(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search */
+  final public com.caucho.quercus.env.BooleanValue mb_ereg_search(double a1, String a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search(quercus_context, DoubleValue.create(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search */
+  final public com.caucho.quercus.env.BooleanValue mb_ereg_search(String a1, String a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search_init */
+  final public com.caucho.quercus.env.BooleanValue mb_ereg_search_init(String a1, long a2, long a3) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search_init(quercus_context, quercus_context.createString(a1), LongValue.create(a2), LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search_init */
+  final public com.caucho.quercus.env.BooleanValue mb_ereg_search_init(String a1, long a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search_init(quercus_context, quercus_context.createString(a1), LongValue.create(a2), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search_init */
+  final public com.caucho.quercus.env.BooleanValue mb_ereg_search_init(String a1) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search_init(quercus_context, quercus_context.createString(a1), DefaultValue.DEFAULT, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search_init */
+  final public com.caucho.quercus.env.BooleanValue mb_ereg_search_init(String a1, double a2, long a3) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search_init(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2), LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search_init */
+  final public com.caucho.quercus.env.BooleanValue mb_ereg_search_init(String a1, double a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search_init(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search_init */
+  final public com.caucho.quercus.env.BooleanValue mb_ereg_search_init(String a1, String a2, long a3) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search_init(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search_init */
+  final public com.caucho.quercus.env.BooleanValue mb_ereg_search_init(String a1, String a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search_init(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search_init */
+  final public com.caucho.quercus.env.BooleanValue mb_ereg_search_init(String a1, long a2, double a3) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search_init(quercus_context, quercus_context.createString(a1), LongValue.create(a2), DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search_init */
+  final public com.caucho.quercus.env.BooleanValue mb_ereg_search_init(String a1, double a2, double a3) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search_init(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2), DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search_init */
+  final public com.caucho.quercus.env.BooleanValue mb_ereg_search_init(String a1, String a2, double a3) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search_init(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search_init */
+  final public com.caucho.quercus.env.BooleanValue mb_ereg_search_init(String a1, long a2, String a3) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search_init(quercus_context, quercus_context.createString(a1), LongValue.create(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search_init */
+  final public com.caucho.quercus.env.BooleanValue mb_ereg_search_init(String a1, double a2, String a3) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search_init(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search_init */
+  final public com.caucho.quercus.env.BooleanValue mb_ereg_search_init(String a1, String a2, String a3) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search_init(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search_pos */
+  final public com.caucho.quercus.env.Value mb_ereg_search_pos(long a1, long a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search_pos(quercus_context, LongValue.create(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search_pos */
+  final public com.caucho.quercus.env.Value mb_ereg_search_pos(long a1) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search_pos(quercus_context, LongValue.create(a1), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search_pos */
+  final public com.caucho.quercus.env.Value mb_ereg_search_pos() {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search_pos(quercus_context, DefaultValue.DEFAULT, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search_pos */
+  final public com.caucho.quercus.env.Value mb_ereg_search_pos(double a1, long a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search_pos(quercus_context, DoubleValue.create(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search_pos */
+  final public com.caucho.quercus.env.Value mb_ereg_search_pos(double a1) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search_pos(quercus_context, DoubleValue.create(a1), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search_pos */
+  final public com.caucho.quercus.env.Value mb_ereg_search_pos(String a1, long a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search_pos(quercus_context, quercus_context.createString(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search_pos */
+  final public com.caucho.quercus.env.Value mb_ereg_search_pos(String a1) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search_pos(quercus_context, quercus_context.createString(a1), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search_pos */
+  final public com.caucho.quercus.env.Value mb_ereg_search_pos(long a1, double a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search_pos(quercus_context, LongValue.create(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search_pos */
+  final public com.caucho.quercus.env.Value mb_ereg_search_pos(double a1, double a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search_pos(quercus_context, DoubleValue.create(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search_pos */
+  final public com.caucho.quercus.env.Value mb_ereg_search_pos(String a1, double a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search_pos(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search_pos */
+  final public com.caucho.quercus.env.Value mb_ereg_search_pos(long a1, String a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search_pos(quercus_context, LongValue.create(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search_pos */
+  final public com.caucho.quercus.env.Value mb_ereg_search_pos(double a1, String a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search_pos(quercus_context, DoubleValue.create(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search_pos */
+  final public com.caucho.quercus.env.Value mb_ereg_search_pos(String a1, String a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search_pos(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search_regs */
+  final public com.caucho.quercus.env.Value mb_ereg_search_regs(long a1, long a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search_regs(quercus_context, LongValue.create(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search_regs */
+  final public com.caucho.quercus.env.Value mb_ereg_search_regs(long a1) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search_regs(quercus_context, LongValue.create(a1), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search_regs */
+  final public com.caucho.quercus.env.Value mb_ereg_search_regs() {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search_regs(quercus_context, DefaultValue.DEFAULT, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search_regs */
+  final public com.caucho.quercus.env.Value mb_ereg_search_regs(double a1, long a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search_regs(quercus_context, DoubleValue.create(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search_regs */
+  final public com.caucho.quercus.env.Value mb_ereg_search_regs(double a1) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search_regs(quercus_context, DoubleValue.create(a1), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search_regs */
+  final public com.caucho.quercus.env.Value mb_ereg_search_regs(String a1, long a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search_regs(quercus_context, quercus_context.createString(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search_regs */
+  final public com.caucho.quercus.env.Value mb_ereg_search_regs(String a1) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search_regs(quercus_context, quercus_context.createString(a1), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search_regs */
+  final public com.caucho.quercus.env.Value mb_ereg_search_regs(long a1, double a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search_regs(quercus_context, LongValue.create(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search_regs */
+  final public com.caucho.quercus.env.Value mb_ereg_search_regs(double a1, double a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search_regs(quercus_context, DoubleValue.create(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search_regs */
+  final public com.caucho.quercus.env.Value mb_ereg_search_regs(String a1, double a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search_regs(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search_regs */
+  final public com.caucho.quercus.env.Value mb_ereg_search_regs(long a1, String a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search_regs(quercus_context, LongValue.create(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search_regs */
+  final public com.caucho.quercus.env.Value mb_ereg_search_regs(double a1, String a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search_regs(quercus_context, DoubleValue.create(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_ereg_search_regs */
+  final public com.caucho.quercus.env.Value mb_ereg_search_regs(String a1, String a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_ereg_search_regs(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_eregi */
+  final public com.caucho.quercus.env.Value mb_eregi(com.caucho.quercus.lib.regexp.UnicodeEregi a1, String a2, com.caucho.quercus.env.ArrayValue a3) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_eregi(quercus_context, a1, quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_eregi_replace */
+  final public com.caucho.quercus.env.Value mb_eregi_replace(long a1, String a2, String a3, String a4) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_eregi_replace(quercus_context, LongValue.create(a1), quercus_context.createString(a2), quercus_context.createString(a3), a4);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_eregi_replace */
+  final public com.caucho.quercus.env.Value mb_eregi_replace(double a1, String a2, String a3, String a4) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_eregi_replace(quercus_context, DoubleValue.create(a1), quercus_context.createString(a2), quercus_context.createString(a3), a4);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_eregi_replace */
+  final public com.caucho.quercus.env.Value mb_eregi_replace(String a1, String a2, String a3, String a4) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_eregi_replace(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), quercus_context.createString(a3), a4);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_output_handler */
+  final public com.caucho.quercus.env.StringValue mb_output_handler(String a1, int a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_output_handler(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_parse_str */
+  final public com.caucho.quercus.env.BooleanValue mb_parse_str(String a1, long a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_parse_str(quercus_context, quercus_context.createString(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_parse_str */
+  final public com.caucho.quercus.env.BooleanValue mb_parse_str(String a1) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_parse_str(quercus_context, quercus_context.createString(a1), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_parse_str */
+  final public com.caucho.quercus.env.BooleanValue mb_parse_str(String a1, double a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_parse_str(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_parse_str */
+  final public com.caucho.quercus.env.BooleanValue mb_parse_str(String a1, String a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_parse_str(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_preferred_mime_name */
+  final public com.caucho.quercus.env.StringValue mb_preferred_mime_name(String a1) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_preferred_mime_name(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_split */
+  final public com.caucho.quercus.env.Value mb_split(com.caucho.quercus.lib.regexp.UnicodeEreg a1, String a2, long a3) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_split(quercus_context, a1, quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_split */
+  final public com.caucho.quercus.env.Value mb_split(com.caucho.quercus.lib.regexp.UnicodeEreg a1, String a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_split(quercus_context, a1, quercus_context.createString(a2), -1L);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_strcut */
+  final public com.caucho.quercus.env.StringValue mb_strcut(String a1, int a2, int a3, String a4) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_strcut(quercus_context, quercus_context.createString(a1), a2, a3, a4);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_strimwidth */
+  final public com.caucho.quercus.env.StringValue mb_strimwidth(String a1, int a2, int a3, String a4, String a5) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_strimwidth(quercus_context, quercus_context.createString(a1), a2, a3, quercus_context.createString(a4), a5);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_strimwidth */
+  final public com.caucho.quercus.env.StringValue mb_strimwidth(String a1, int a2, int a3, String a4) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_strimwidth(quercus_context, quercus_context.createString(a1), a2, a3, quercus_context.createString(a4), "");
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_strlen */
+  final public com.caucho.quercus.env.LongValue mb_strlen(String a1, String a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_strlen(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_strlen */
+  final public com.caucho.quercus.env.LongValue mb_strlen(String a1) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_strlen(quercus_context, quercus_context.createString(a1), "");
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_strpos */
+  final public com.caucho.quercus.env.Value mb_strpos(String a1, String a2, int a3, String a4) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_strpos(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), a3, a4);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_strpos */
+  final public com.caucho.quercus.env.Value mb_strpos(String a1, String a2, int a3) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_strpos(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), a3, "");
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_strpos */
+  final public com.caucho.quercus.env.Value mb_strpos(String a1, String a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_strpos(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), 0, "");
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_strrpos */
+  final public com.caucho.quercus.env.Value mb_strrpos(String a1, String a2, long a3, String a4) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_strrpos(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), LongValue.create(a3), a4);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_strrpos */
+  final public com.caucho.quercus.env.Value mb_strrpos(String a1, String a2, long a3) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_strrpos(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), LongValue.create(a3), "");
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_strrpos */
+  final public com.caucho.quercus.env.Value mb_strrpos(String a1, String a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_strrpos(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), DefaultValue.DEFAULT, "");
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_strrpos */
+  final public com.caucho.quercus.env.Value mb_strrpos(String a1, String a2, double a3, String a4) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_strrpos(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), DoubleValue.create(a3), a4);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_strrpos */
+  final public com.caucho.quercus.env.Value mb_strrpos(String a1, String a2, double a3) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_strrpos(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), DoubleValue.create(a3), "");
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_strrpos */
+  final public com.caucho.quercus.env.Value mb_strrpos(String a1, String a2, String a3, String a4) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_strrpos(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), quercus_context.createString(a3), a4);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_strrpos */
+  final public com.caucho.quercus.env.Value mb_strrpos(String a1, String a2, String a3) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_strrpos(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), quercus_context.createString(a3), "");
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_strtolower */
+  final public com.caucho.quercus.env.StringValue mb_strtolower(String a1, String a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_strtolower(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_strtolower */
+  final public com.caucho.quercus.env.StringValue mb_strtolower(String a1) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_strtolower(quercus_context, quercus_context.createString(a1), "");
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_strtoupper */
+  final public com.caucho.quercus.env.StringValue mb_strtoupper(String a1, String a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_strtoupper(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_strtoupper */
+  final public com.caucho.quercus.env.StringValue mb_strtoupper(String a1) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_strtoupper(quercus_context, quercus_context.createString(a1), "");
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_strwidth */
+  final public com.caucho.quercus.env.LongValue mb_strwidth(String a1, String a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_strwidth(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_strwidth */
+  final public com.caucho.quercus.env.LongValue mb_strwidth(String a1) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_strwidth(quercus_context, quercus_context.createString(a1), "");
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_substitute_character */
+  final public com.caucho.quercus.env.Value mb_substitute_character(long a0) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_substitute_character(LongValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_substitute_character */
+  final public com.caucho.quercus.env.Value mb_substitute_character(double a0) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_substitute_character(DoubleValue.create(a0));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_substitute_character */
+  final public com.caucho.quercus.env.Value mb_substitute_character(String a0) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_substitute_character(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_substr */
+  final public com.caucho.quercus.env.StringValue mb_substr(String a1, int a2, long a3, String a4) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_substr(quercus_context, quercus_context.createString(a1), a2, LongValue.create(a3), a4);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_substr */
+  final public com.caucho.quercus.env.StringValue mb_substr(String a1, int a2, double a3, String a4) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_substr(quercus_context, quercus_context.createString(a1), a2, DoubleValue.create(a3), a4);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_substr */
+  final public com.caucho.quercus.env.StringValue mb_substr(String a1, int a2, String a3, String a4) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_substr(quercus_context, quercus_context.createString(a1), a2, quercus_context.createString(a3), a4);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_substr_count */
+  final public com.caucho.quercus.env.LongValue mb_substr_count(String a1, String a2, String a3) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_substr_count(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.i18n.MbstringModule : mb_substr_count */
+  final public com.caucho.quercus.env.LongValue mb_substr_count(String a1, String a2) {
+    return com.caucho.quercus.lib.i18n.MbstringModule.mb_substr_count(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), "");
+  }
+
+  /* com.caucho.quercus.lib.i18n.UnicodeModule : iconv */
+  final public com.caucho.quercus.env.Value iconv(String a1, String a2, String a3) {
+    return com.caucho.quercus.lib.i18n.UnicodeModule.iconv(quercus_context, a1, a2, quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.i18n.UnicodeModule : iconv_mime_decode */
+  final public com.caucho.quercus.env.Value iconv_mime_decode(String a1, int a2, String a3) {
+    return com.caucho.quercus.lib.i18n.UnicodeModule.iconv_mime_decode(quercus_context, quercus_context.createString(a1), a2, a3);
+  }
+
+  /* com.caucho.quercus.lib.i18n.UnicodeModule : iconv_mime_decode */
+  final public com.caucho.quercus.env.Value iconv_mime_decode(String a1, int a2) {
+    return com.caucho.quercus.lib.i18n.UnicodeModule.iconv_mime_decode(quercus_context, quercus_context.createString(a1), a2, "");
+  }
+
+  /* com.caucho.quercus.lib.i18n.UnicodeModule : iconv_mime_decode */
+  final public com.caucho.quercus.env.Value iconv_mime_decode(String a1) {
+    return com.caucho.quercus.lib.i18n.UnicodeModule.iconv_mime_decode(quercus_context, quercus_context.createString(a1), 1, "");
+  }
+
+  /* com.caucho.quercus.lib.i18n.UnicodeModule : iconv_mime_decode_headers */
+  final public com.caucho.quercus.env.Value iconv_mime_decode_headers(String a1, int a2, String a3) {
+    return com.caucho.quercus.lib.i18n.UnicodeModule.iconv_mime_decode_headers(quercus_context, quercus_context.createString(a1), a2, a3);
+  }
+
+  /* com.caucho.quercus.lib.i18n.UnicodeModule : iconv_mime_encode */
+  final public com.caucho.quercus.env.Value iconv_mime_encode(String a1, String a2, com.caucho.quercus.env.ArrayValue a3) {
+    return com.caucho.quercus.lib.i18n.UnicodeModule.iconv_mime_encode(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.i18n.UnicodeModule : iconv_set_encoding */
+  final public com.caucho.quercus.env.BooleanValue iconv_set_encoding(String a1, String a2) {
+    return com.caucho.quercus.lib.i18n.UnicodeModule.iconv_set_encoding(quercus_context, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.i18n.UnicodeModule : iconv_strlen */
+  final public com.caucho.quercus.env.Value iconv_strlen(String a1, String a2) {
+    return com.caucho.quercus.lib.i18n.UnicodeModule.iconv_strlen(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.i18n.UnicodeModule : iconv_strlen */
+  final public com.caucho.quercus.env.Value iconv_strlen(String a1) {
+    return com.caucho.quercus.lib.i18n.UnicodeModule.iconv_strlen(quercus_context, quercus_context.createString(a1), "");
+  }
+
+  /* com.caucho.quercus.lib.i18n.UnicodeModule : iconv_strpos */
+  final public com.caucho.quercus.env.Value iconv_strpos(String a1, String a2, int a3, String a4) {
+    return com.caucho.quercus.lib.i18n.UnicodeModule.iconv_strpos(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), a3, a4);
+  }
+
+  /* com.caucho.quercus.lib.i18n.UnicodeModule : iconv_strpos */
+  final public com.caucho.quercus.env.Value iconv_strpos(String a1, String a2, int a3) {
+    return com.caucho.quercus.lib.i18n.UnicodeModule.iconv_strpos(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), a3, "");
+  }
+
+  /* com.caucho.quercus.lib.i18n.UnicodeModule : iconv_strpos */
+  final public com.caucho.quercus.env.Value iconv_strpos(String a1, String a2) {
+    return com.caucho.quercus.lib.i18n.UnicodeModule.iconv_strpos(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), 0, "");
+  }
+
+  /* com.caucho.quercus.lib.i18n.UnicodeModule : iconv_strrpos */
+  final public com.caucho.quercus.env.Value iconv_strrpos(String a1, String a2, String a3) {
+    return com.caucho.quercus.lib.i18n.UnicodeModule.iconv_strrpos(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.i18n.UnicodeModule : iconv_strrpos */
+  final public com.caucho.quercus.env.Value iconv_strrpos(String a1, String a2) {
+    return com.caucho.quercus.lib.i18n.UnicodeModule.iconv_strrpos(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), "");
+  }
+
+  /* com.caucho.quercus.lib.i18n.UnicodeModule : iconv_substr */
+  final public com.caucho.quercus.env.Value iconv_substr(String a1, int a2, int a3, String a4) {
+    return com.caucho.quercus.lib.i18n.UnicodeModule.iconv_substr(quercus_context, quercus_context.createString(a1), a2, a3, a4);
+  }
+
+  /* com.caucho.quercus.lib.i18n.UnicodeModule : iconv_substr */
+  final public com.caucho.quercus.env.Value iconv_substr(String a1, int a2, int a3) {
+    return com.caucho.quercus.lib.i18n.UnicodeModule.iconv_substr(quercus_context, quercus_context.createString(a1), a2, a3, "");
+  }
+
+  /* com.caucho.quercus.lib.i18n.UnicodeModule : ob_iconv_handler */
+  final public com.caucho.quercus.env.StringValue ob_iconv_handler(String a0, int a1) {
+    return com.caucho.quercus.lib.i18n.UnicodeModule.ob_iconv_handler(quercus_context.createString(a0), a1);
+  }
+
+  /* com.caucho.quercus.lib.mail.MailModule : mail */
+  final public boolean mail(String a1, String a2, String a3, String a4, String a5) {
+    return com.caucho.quercus.lib.mail.MailModule.mail(quercus_context, a1, a2, quercus_context.createString(a3), a4, a5);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : compileRegexp */
+  final public com.caucho.quercus.lib.regexp.Regexp compileRegexp(String a0) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.compileRegexp(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : createEreg */
+  final public com.caucho.quercus.lib.regexp.Ereg createEreg(long a1) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.createEreg(quercus_context, LongValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : createEreg */
+  final public com.caucho.quercus.lib.regexp.Ereg createEreg(double a1) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.createEreg(quercus_context, DoubleValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : createEreg */
+  final public com.caucho.quercus.lib.regexp.Ereg createEreg(String a1) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.createEreg(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : createEregi */
+  final public com.caucho.quercus.lib.regexp.Eregi createEregi(long a1) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.createEregi(quercus_context, LongValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : createEregi */
+  final public com.caucho.quercus.lib.regexp.Eregi createEregi(double a1) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.createEregi(quercus_context, DoubleValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : createEregi */
+  final public com.caucho.quercus.lib.regexp.Eregi createEregi(String a1) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.createEregi(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : createRegexp */
+  final public com.caucho.quercus.lib.regexp.Regexp createRegexp(String a1) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.createRegexp(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : createRegexpArray */
+  final public com.caucho.quercus.lib.regexp.Regexp[] createRegexpArray(long a1) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.createRegexpArray(quercus_context, LongValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : createRegexpArray */
+  final public com.caucho.quercus.lib.regexp.Regexp[] createRegexpArray(double a1) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.createRegexpArray(quercus_context, DoubleValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : createRegexpArray */
+  final public com.caucho.quercus.lib.regexp.Regexp[] createRegexpArray(String a1) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.createRegexpArray(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : createUnicodeEreg */
+  final public com.caucho.quercus.lib.regexp.UnicodeEreg createUnicodeEreg(String a1, String a2) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.createUnicodeEreg(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : createUnicodeEreg */
+  final public com.caucho.quercus.lib.regexp.UnicodeEreg createUnicodeEreg(String a1) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.createUnicodeEreg(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : createUnicodeEregi */
+  final public com.caucho.quercus.lib.regexp.UnicodeEregi createUnicodeEregi(String a1, String a2) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.createUnicodeEregi(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : createUnicodeEregi */
+  final public com.caucho.quercus.lib.regexp.UnicodeEregi createUnicodeEregi(String a1) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.createUnicodeEregi(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : ereg */
+  final public com.caucho.quercus.env.Value ereg(com.caucho.quercus.lib.regexp.Ereg a1, String a2, long a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.ereg(quercus_context, a1, quercus_context.createString(a2), LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : ereg */
+  final public com.caucho.quercus.env.Value ereg(com.caucho.quercus.lib.regexp.Ereg a1, String a2) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.ereg(quercus_context, a1, quercus_context.createString(a2), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : ereg */
+  final public com.caucho.quercus.env.Value ereg(com.caucho.quercus.lib.regexp.Ereg a1, String a2, double a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.ereg(quercus_context, a1, quercus_context.createString(a2), DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : ereg */
+  final public com.caucho.quercus.env.Value ereg(com.caucho.quercus.lib.regexp.Ereg a1, String a2, String a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.ereg(quercus_context, a1, quercus_context.createString(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : eregImpl */
+  final public com.caucho.quercus.env.Value eregImpl(com.caucho.quercus.lib.regexp.Ereg a1, String a2, long a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.eregImpl(quercus_context, a1, quercus_context.createString(a2), LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : eregImpl */
+  final public com.caucho.quercus.env.Value eregImpl(com.caucho.quercus.lib.regexp.Ereg a1, String a2, double a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.eregImpl(quercus_context, a1, quercus_context.createString(a2), DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : eregImpl */
+  final public com.caucho.quercus.env.Value eregImpl(com.caucho.quercus.lib.regexp.Ereg a1, String a2, String a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.eregImpl(quercus_context, a1, quercus_context.createString(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : eregReplaceImpl */
+  final public com.caucho.quercus.env.Value eregReplaceImpl(com.caucho.quercus.lib.regexp.Ereg a1, long a2, String a3, boolean a4) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.eregReplaceImpl(quercus_context, a1, LongValue.create(a2), quercus_context.createString(a3), a4);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : eregReplaceImpl */
+  final public com.caucho.quercus.env.Value eregReplaceImpl(com.caucho.quercus.lib.regexp.Ereg a1, double a2, String a3, boolean a4) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.eregReplaceImpl(quercus_context, a1, DoubleValue.create(a2), quercus_context.createString(a3), a4);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : eregReplaceImpl */
+  final public com.caucho.quercus.env.Value eregReplaceImpl(com.caucho.quercus.lib.regexp.Ereg a1, String a2, String a3, boolean a4) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.eregReplaceImpl(quercus_context, a1, quercus_context.createString(a2), quercus_context.createString(a3), a4);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : ereg_replace */
+  final public com.caucho.quercus.env.Value ereg_replace(long a1, long a2, String a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.ereg_replace(quercus_context, LongValue.create(a1), LongValue.create(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : ereg_replace */
+  final public com.caucho.quercus.env.Value ereg_replace(double a1, long a2, String a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.ereg_replace(quercus_context, DoubleValue.create(a1), LongValue.create(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : ereg_replace */
+  final public com.caucho.quercus.env.Value ereg_replace(String a1, long a2, String a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.ereg_replace(quercus_context, quercus_context.createString(a1), LongValue.create(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : ereg_replace */
+  final public com.caucho.quercus.env.Value ereg_replace(long a1, double a2, String a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.ereg_replace(quercus_context, LongValue.create(a1), DoubleValue.create(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : ereg_replace */
+  final public com.caucho.quercus.env.Value ereg_replace(double a1, double a2, String a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.ereg_replace(quercus_context, DoubleValue.create(a1), DoubleValue.create(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : ereg_replace */
+  final public com.caucho.quercus.env.Value ereg_replace(String a1, double a2, String a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.ereg_replace(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : ereg_replace */
+  final public com.caucho.quercus.env.Value ereg_replace(long a1, String a2, String a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.ereg_replace(quercus_context, LongValue.create(a1), quercus_context.createString(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : ereg_replace */
+  final public com.caucho.quercus.env.Value ereg_replace(double a1, String a2, String a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.ereg_replace(quercus_context, DoubleValue.create(a1), quercus_context.createString(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : ereg_replace */
+  final public com.caucho.quercus.env.Value ereg_replace(String a1, String a2, String a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.ereg_replace(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : eregi */
+  final public com.caucho.quercus.env.Value eregi(com.caucho.quercus.lib.regexp.Eregi a1, String a2, long a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.eregi(quercus_context, a1, quercus_context.createString(a2), LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : eregi */
+  final public com.caucho.quercus.env.Value eregi(com.caucho.quercus.lib.regexp.Eregi a1, String a2) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.eregi(quercus_context, a1, quercus_context.createString(a2), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : eregi */
+  final public com.caucho.quercus.env.Value eregi(com.caucho.quercus.lib.regexp.Eregi a1, String a2, double a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.eregi(quercus_context, a1, quercus_context.createString(a2), DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : eregi */
+  final public com.caucho.quercus.env.Value eregi(com.caucho.quercus.lib.regexp.Eregi a1, String a2, String a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.eregi(quercus_context, a1, quercus_context.createString(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : eregi_replace */
+  final public com.caucho.quercus.env.Value eregi_replace(long a1, long a2, String a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.eregi_replace(quercus_context, LongValue.create(a1), LongValue.create(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : eregi_replace */
+  final public com.caucho.quercus.env.Value eregi_replace(double a1, long a2, String a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.eregi_replace(quercus_context, DoubleValue.create(a1), LongValue.create(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : eregi_replace */
+  final public com.caucho.quercus.env.Value eregi_replace(String a1, long a2, String a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.eregi_replace(quercus_context, quercus_context.createString(a1), LongValue.create(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : eregi_replace */
+  final public com.caucho.quercus.env.Value eregi_replace(long a1, double a2, String a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.eregi_replace(quercus_context, LongValue.create(a1), DoubleValue.create(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : eregi_replace */
+  final public com.caucho.quercus.env.Value eregi_replace(double a1, double a2, String a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.eregi_replace(quercus_context, DoubleValue.create(a1), DoubleValue.create(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : eregi_replace */
+  final public com.caucho.quercus.env.Value eregi_replace(String a1, double a2, String a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.eregi_replace(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : eregi_replace */
+  final public com.caucho.quercus.env.Value eregi_replace(long a1, String a2, String a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.eregi_replace(quercus_context, LongValue.create(a1), quercus_context.createString(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : eregi_replace */
+  final public com.caucho.quercus.env.Value eregi_replace(double a1, String a2, String a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.eregi_replace(quercus_context, DoubleValue.create(a1), quercus_context.createString(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : eregi_replace */
+  final public com.caucho.quercus.env.Value eregi_replace(String a1, String a2, String a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.eregi_replace(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : pregMatchAllPatternOrder */
+  final public com.caucho.quercus.env.LongValue pregMatchAllPatternOrder(com.caucho.quercus.lib.regexp.RegexpState a1, String a2, com.caucho.quercus.env.ArrayValue a3, int a4, int a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.pregMatchAllPatternOrder(quercus_context, a1, quercus_context.createString(a2), a3, a4, a5);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_match */
+  final public com.caucho.quercus.env.Value preg_match(com.caucho.quercus.lib.regexp.Regexp a1, String a2, long a3, int a4, int a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_match(quercus_context, a1, quercus_context.createString(a2), LongValue.create(a3), a4, a5);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_match */
+  final public com.caucho.quercus.env.Value preg_match(com.caucho.quercus.lib.regexp.Regexp a1, String a2, long a3, int a4) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_match(quercus_context, a1, quercus_context.createString(a2), LongValue.create(a3), a4, 0);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_match */
+  final public com.caucho.quercus.env.Value preg_match(com.caucho.quercus.lib.regexp.Regexp a1, String a2, long a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_match(quercus_context, a1, quercus_context.createString(a2), LongValue.create(a3), 0, 0);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_match */
+  final public com.caucho.quercus.env.Value preg_match(com.caucho.quercus.lib.regexp.Regexp a1, String a2) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_match(quercus_context, a1, quercus_context.createString(a2), DefaultValue.DEFAULT, 0, 0);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_match */
+  final public com.caucho.quercus.env.Value preg_match(com.caucho.quercus.lib.regexp.Regexp a1, String a2, double a3, int a4, int a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_match(quercus_context, a1, quercus_context.createString(a2), DoubleValue.create(a3), a4, a5);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_match */
+  final public com.caucho.quercus.env.Value preg_match(com.caucho.quercus.lib.regexp.Regexp a1, String a2, double a3, int a4) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_match(quercus_context, a1, quercus_context.createString(a2), DoubleValue.create(a3), a4, 0);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_match */
+  final public com.caucho.quercus.env.Value preg_match(com.caucho.quercus.lib.regexp.Regexp a1, String a2, double a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_match(quercus_context, a1, quercus_context.createString(a2), DoubleValue.create(a3), 0, 0);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_match */
+  final public com.caucho.quercus.env.Value preg_match(com.caucho.quercus.lib.regexp.Regexp a1, String a2, String a3, int a4, int a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_match(quercus_context, a1, quercus_context.createString(a2), quercus_context.createString(a3), a4, a5);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_match */
+  final public com.caucho.quercus.env.Value preg_match(com.caucho.quercus.lib.regexp.Regexp a1, String a2, String a3, int a4) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_match(quercus_context, a1, quercus_context.createString(a2), quercus_context.createString(a3), a4, 0);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_match */
+  final public com.caucho.quercus.env.Value preg_match(com.caucho.quercus.lib.regexp.Regexp a1, String a2, String a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_match(quercus_context, a1, quercus_context.createString(a2), quercus_context.createString(a3), 0, 0);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_match_all */
+  final public com.caucho.quercus.env.Value preg_match_all(com.caucho.quercus.lib.regexp.Regexp a1, String a2, long a3, int a4, int a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_match_all(quercus_context, a1, quercus_context.createString(a2), LongValue.create(a3), a4, a5);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_match_all */
+  final public com.caucho.quercus.env.Value preg_match_all(com.caucho.quercus.lib.regexp.Regexp a1, String a2, long a3, int a4) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_match_all(quercus_context, a1, quercus_context.createString(a2), LongValue.create(a3), a4, 0);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_match_all */
+  final public com.caucho.quercus.env.Value preg_match_all(com.caucho.quercus.lib.regexp.Regexp a1, String a2, double a3, int a4, int a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_match_all(quercus_context, a1, quercus_context.createString(a2), DoubleValue.create(a3), a4, a5);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_match_all */
+  final public com.caucho.quercus.env.Value preg_match_all(com.caucho.quercus.lib.regexp.Regexp a1, String a2, double a3, int a4) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_match_all(quercus_context, a1, quercus_context.createString(a2), DoubleValue.create(a3), a4, 0);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_match_all */
+  final public com.caucho.quercus.env.Value preg_match_all(com.caucho.quercus.lib.regexp.Regexp a1, String a2, String a3, int a4, int a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_match_all(quercus_context, a1, quercus_context.createString(a2), quercus_context.createString(a3), a4, a5);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_match_all */
+  final public com.caucho.quercus.env.Value preg_match_all(com.caucho.quercus.lib.regexp.Regexp a1, String a2, String a3, int a4) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_match_all(quercus_context, a1, quercus_context.createString(a2), quercus_context.createString(a3), a4, 0);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_quote */
+  final public com.caucho.quercus.env.StringValue preg_quote(String a0, String a1) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_quote(quercus_context.createString(a0), quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, long a2, long a3, long a4, long a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, LongValue.create(a2), LongValue.create(a3), a4, LongValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, long a2, long a3, long a4) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, LongValue.create(a2), LongValue.create(a3), a4, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, long a2, long a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, LongValue.create(a2), LongValue.create(a3), -1L, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, double a2, long a3, long a4, long a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, DoubleValue.create(a2), LongValue.create(a3), a4, LongValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, double a2, long a3, long a4) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, DoubleValue.create(a2), LongValue.create(a3), a4, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, double a2, long a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, DoubleValue.create(a2), LongValue.create(a3), -1L, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, String a2, long a3, long a4, long a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, quercus_context.createString(a2), LongValue.create(a3), a4, LongValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, String a2, long a3, long a4) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, quercus_context.createString(a2), LongValue.create(a3), a4, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, String a2, long a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, quercus_context.createString(a2), LongValue.create(a3), -1L, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, long a2, double a3, long a4, long a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, LongValue.create(a2), DoubleValue.create(a3), a4, LongValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, long a2, double a3, long a4) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, LongValue.create(a2), DoubleValue.create(a3), a4, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, long a2, double a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, LongValue.create(a2), DoubleValue.create(a3), -1L, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, double a2, double a3, long a4, long a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, DoubleValue.create(a2), DoubleValue.create(a3), a4, LongValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, double a2, double a3, long a4) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, DoubleValue.create(a2), DoubleValue.create(a3), a4, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, double a2, double a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, DoubleValue.create(a2), DoubleValue.create(a3), -1L, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, String a2, double a3, long a4, long a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, quercus_context.createString(a2), DoubleValue.create(a3), a4, LongValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, String a2, double a3, long a4) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, quercus_context.createString(a2), DoubleValue.create(a3), a4, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, String a2, double a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, quercus_context.createString(a2), DoubleValue.create(a3), -1L, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, long a2, String a3, long a4, long a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, LongValue.create(a2), quercus_context.createString(a3), a4, LongValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, long a2, String a3, long a4) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, LongValue.create(a2), quercus_context.createString(a3), a4, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, long a2, String a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, LongValue.create(a2), quercus_context.createString(a3), -1L, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, double a2, String a3, long a4, long a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, DoubleValue.create(a2), quercus_context.createString(a3), a4, LongValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, double a2, String a3, long a4) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, DoubleValue.create(a2), quercus_context.createString(a3), a4, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, double a2, String a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, DoubleValue.create(a2), quercus_context.createString(a3), -1L, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, String a2, String a3, long a4, long a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, quercus_context.createString(a2), quercus_context.createString(a3), a4, LongValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, String a2, String a3, long a4) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, quercus_context.createString(a2), quercus_context.createString(a3), a4, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, String a2, String a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, quercus_context.createString(a2), quercus_context.createString(a3), -1L, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, long a2, long a3, long a4, double a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, LongValue.create(a2), LongValue.create(a3), a4, DoubleValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, double a2, long a3, long a4, double a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, DoubleValue.create(a2), LongValue.create(a3), a4, DoubleValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, String a2, long a3, long a4, double a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, quercus_context.createString(a2), LongValue.create(a3), a4, DoubleValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, long a2, double a3, long a4, double a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, LongValue.create(a2), DoubleValue.create(a3), a4, DoubleValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, double a2, double a3, long a4, double a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, DoubleValue.create(a2), DoubleValue.create(a3), a4, DoubleValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, String a2, double a3, long a4, double a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, quercus_context.createString(a2), DoubleValue.create(a3), a4, DoubleValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, long a2, String a3, long a4, double a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, LongValue.create(a2), quercus_context.createString(a3), a4, DoubleValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, double a2, String a3, long a4, double a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, DoubleValue.create(a2), quercus_context.createString(a3), a4, DoubleValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, String a2, String a3, long a4, double a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, quercus_context.createString(a2), quercus_context.createString(a3), a4, DoubleValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, long a2, long a3, long a4, String a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, LongValue.create(a2), LongValue.create(a3), a4, quercus_context.createString(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, double a2, long a3, long a4, String a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, DoubleValue.create(a2), LongValue.create(a3), a4, quercus_context.createString(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, String a2, long a3, long a4, String a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, quercus_context.createString(a2), LongValue.create(a3), a4, quercus_context.createString(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, long a2, double a3, long a4, String a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, LongValue.create(a2), DoubleValue.create(a3), a4, quercus_context.createString(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, double a2, double a3, long a4, String a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, DoubleValue.create(a2), DoubleValue.create(a3), a4, quercus_context.createString(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, String a2, double a3, long a4, String a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, quercus_context.createString(a2), DoubleValue.create(a3), a4, quercus_context.createString(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, long a2, String a3, long a4, String a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, LongValue.create(a2), quercus_context.createString(a3), a4, quercus_context.createString(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, double a2, String a3, long a4, String a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, DoubleValue.create(a2), quercus_context.createString(a3), a4, quercus_context.createString(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace */
+  final public com.caucho.quercus.env.Value preg_replace(com.caucho.quercus.lib.regexp.Regexp a1, String a2, String a3, long a4, String a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace(quercus_context, a1, quercus_context.createString(a2), quercus_context.createString(a3), a4, quercus_context.createString(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(long a1, com.caucho.quercus.env.Callable a2, long a3, long a4, long a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, LongValue.create(a1), a2, LongValue.create(a3), a4, LongValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(long a1, com.caucho.quercus.env.Callable a2, long a3, long a4) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, LongValue.create(a1), a2, LongValue.create(a3), a4, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(long a1, com.caucho.quercus.env.Callable a2, long a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, LongValue.create(a1), a2, LongValue.create(a3), -1L, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(double a1, com.caucho.quercus.env.Callable a2, long a3, long a4, long a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, DoubleValue.create(a1), a2, LongValue.create(a3), a4, LongValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(double a1, com.caucho.quercus.env.Callable a2, long a3, long a4) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, DoubleValue.create(a1), a2, LongValue.create(a3), a4, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(double a1, com.caucho.quercus.env.Callable a2, long a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, DoubleValue.create(a1), a2, LongValue.create(a3), -1L, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(String a1, com.caucho.quercus.env.Callable a2, long a3, long a4, long a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, quercus_context.createString(a1), a2, LongValue.create(a3), a4, LongValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(String a1, com.caucho.quercus.env.Callable a2, long a3, long a4) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, quercus_context.createString(a1), a2, LongValue.create(a3), a4, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(String a1, com.caucho.quercus.env.Callable a2, long a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, quercus_context.createString(a1), a2, LongValue.create(a3), -1L, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(long a1, com.caucho.quercus.env.Callable a2, double a3, long a4, long a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, LongValue.create(a1), a2, DoubleValue.create(a3), a4, LongValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(long a1, com.caucho.quercus.env.Callable a2, double a3, long a4) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, LongValue.create(a1), a2, DoubleValue.create(a3), a4, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(long a1, com.caucho.quercus.env.Callable a2, double a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, LongValue.create(a1), a2, DoubleValue.create(a3), -1L, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(double a1, com.caucho.quercus.env.Callable a2, double a3, long a4, long a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, DoubleValue.create(a1), a2, DoubleValue.create(a3), a4, LongValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(double a1, com.caucho.quercus.env.Callable a2, double a3, long a4) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, DoubleValue.create(a1), a2, DoubleValue.create(a3), a4, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(double a1, com.caucho.quercus.env.Callable a2, double a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, DoubleValue.create(a1), a2, DoubleValue.create(a3), -1L, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(String a1, com.caucho.quercus.env.Callable a2, double a3, long a4, long a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, quercus_context.createString(a1), a2, DoubleValue.create(a3), a4, LongValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(String a1, com.caucho.quercus.env.Callable a2, double a3, long a4) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, quercus_context.createString(a1), a2, DoubleValue.create(a3), a4, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(String a1, com.caucho.quercus.env.Callable a2, double a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, quercus_context.createString(a1), a2, DoubleValue.create(a3), -1L, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(long a1, com.caucho.quercus.env.Callable a2, String a3, long a4, long a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, LongValue.create(a1), a2, quercus_context.createString(a3), a4, LongValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(long a1, com.caucho.quercus.env.Callable a2, String a3, long a4) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, LongValue.create(a1), a2, quercus_context.createString(a3), a4, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(long a1, com.caucho.quercus.env.Callable a2, String a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, LongValue.create(a1), a2, quercus_context.createString(a3), -1L, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(double a1, com.caucho.quercus.env.Callable a2, String a3, long a4, long a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, DoubleValue.create(a1), a2, quercus_context.createString(a3), a4, LongValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(double a1, com.caucho.quercus.env.Callable a2, String a3, long a4) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, DoubleValue.create(a1), a2, quercus_context.createString(a3), a4, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(double a1, com.caucho.quercus.env.Callable a2, String a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, DoubleValue.create(a1), a2, quercus_context.createString(a3), -1L, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(String a1, com.caucho.quercus.env.Callable a2, String a3, long a4, long a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, quercus_context.createString(a1), a2, quercus_context.createString(a3), a4, LongValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(String a1, com.caucho.quercus.env.Callable a2, String a3, long a4) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, quercus_context.createString(a1), a2, quercus_context.createString(a3), a4, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(String a1, com.caucho.quercus.env.Callable a2, String a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, quercus_context.createString(a1), a2, quercus_context.createString(a3), -1L, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(long a1, com.caucho.quercus.env.Callable a2, long a3, long a4, double a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, LongValue.create(a1), a2, LongValue.create(a3), a4, DoubleValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(double a1, com.caucho.quercus.env.Callable a2, long a3, long a4, double a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, DoubleValue.create(a1), a2, LongValue.create(a3), a4, DoubleValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(String a1, com.caucho.quercus.env.Callable a2, long a3, long a4, double a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, quercus_context.createString(a1), a2, LongValue.create(a3), a4, DoubleValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(long a1, com.caucho.quercus.env.Callable a2, double a3, long a4, double a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, LongValue.create(a1), a2, DoubleValue.create(a3), a4, DoubleValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(double a1, com.caucho.quercus.env.Callable a2, double a3, long a4, double a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, DoubleValue.create(a1), a2, DoubleValue.create(a3), a4, DoubleValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(String a1, com.caucho.quercus.env.Callable a2, double a3, long a4, double a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, quercus_context.createString(a1), a2, DoubleValue.create(a3), a4, DoubleValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(long a1, com.caucho.quercus.env.Callable a2, String a3, long a4, double a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, LongValue.create(a1), a2, quercus_context.createString(a3), a4, DoubleValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(double a1, com.caucho.quercus.env.Callable a2, String a3, long a4, double a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, DoubleValue.create(a1), a2, quercus_context.createString(a3), a4, DoubleValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(String a1, com.caucho.quercus.env.Callable a2, String a3, long a4, double a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, quercus_context.createString(a1), a2, quercus_context.createString(a3), a4, DoubleValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(long a1, com.caucho.quercus.env.Callable a2, long a3, long a4, String a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, LongValue.create(a1), a2, LongValue.create(a3), a4, quercus_context.createString(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(double a1, com.caucho.quercus.env.Callable a2, long a3, long a4, String a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, DoubleValue.create(a1), a2, LongValue.create(a3), a4, quercus_context.createString(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(String a1, com.caucho.quercus.env.Callable a2, long a3, long a4, String a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, quercus_context.createString(a1), a2, LongValue.create(a3), a4, quercus_context.createString(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(long a1, com.caucho.quercus.env.Callable a2, double a3, long a4, String a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, LongValue.create(a1), a2, DoubleValue.create(a3), a4, quercus_context.createString(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(double a1, com.caucho.quercus.env.Callable a2, double a3, long a4, String a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, DoubleValue.create(a1), a2, DoubleValue.create(a3), a4, quercus_context.createString(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(String a1, com.caucho.quercus.env.Callable a2, double a3, long a4, String a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, quercus_context.createString(a1), a2, DoubleValue.create(a3), a4, quercus_context.createString(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(long a1, com.caucho.quercus.env.Callable a2, String a3, long a4, String a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, LongValue.create(a1), a2, quercus_context.createString(a3), a4, quercus_context.createString(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(double a1, com.caucho.quercus.env.Callable a2, String a3, long a4, String a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, DoubleValue.create(a1), a2, quercus_context.createString(a3), a4, quercus_context.createString(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(String a1, com.caucho.quercus.env.Callable a2, String a3, long a4, String a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, quercus_context.createString(a1), a2, quercus_context.createString(a3), a4, quercus_context.createString(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(com.caucho.quercus.lib.regexp.Regexp a1, com.caucho.quercus.env.Callable a2, long a3, long a4, long a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, a1, a2, LongValue.create(a3), a4, LongValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(com.caucho.quercus.lib.regexp.Regexp a1, com.caucho.quercus.env.Callable a2, long a3, long a4) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, a1, a2, LongValue.create(a3), a4, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(com.caucho.quercus.lib.regexp.Regexp a1, com.caucho.quercus.env.Callable a2, long a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, a1, a2, LongValue.create(a3), -1L, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(com.caucho.quercus.lib.regexp.Regexp a1, com.caucho.quercus.env.Callable a2, double a3, long a4, long a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, a1, a2, DoubleValue.create(a3), a4, LongValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(com.caucho.quercus.lib.regexp.Regexp a1, com.caucho.quercus.env.Callable a2, double a3, long a4) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, a1, a2, DoubleValue.create(a3), a4, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(com.caucho.quercus.lib.regexp.Regexp a1, com.caucho.quercus.env.Callable a2, double a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, a1, a2, DoubleValue.create(a3), -1L, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(com.caucho.quercus.lib.regexp.Regexp a1, com.caucho.quercus.env.Callable a2, String a3, long a4, long a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, a1, a2, quercus_context.createString(a3), a4, LongValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(com.caucho.quercus.lib.regexp.Regexp a1, com.caucho.quercus.env.Callable a2, String a3, long a4) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, a1, a2, quercus_context.createString(a3), a4, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(com.caucho.quercus.lib.regexp.Regexp a1, com.caucho.quercus.env.Callable a2, String a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, a1, a2, quercus_context.createString(a3), -1L, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(com.caucho.quercus.lib.regexp.Regexp a1, com.caucho.quercus.env.Callable a2, long a3, long a4, double a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, a1, a2, LongValue.create(a3), a4, DoubleValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(com.caucho.quercus.lib.regexp.Regexp a1, com.caucho.quercus.env.Callable a2, double a3, long a4, double a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, a1, a2, DoubleValue.create(a3), a4, DoubleValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(com.caucho.quercus.lib.regexp.Regexp a1, com.caucho.quercus.env.Callable a2, String a3, long a4, double a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, a1, a2, quercus_context.createString(a3), a4, DoubleValue.create(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(com.caucho.quercus.lib.regexp.Regexp a1, com.caucho.quercus.env.Callable a2, long a3, long a4, String a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, a1, a2, LongValue.create(a3), a4, quercus_context.createString(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(com.caucho.quercus.lib.regexp.Regexp a1, com.caucho.quercus.env.Callable a2, double a3, long a4, String a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, a1, a2, DoubleValue.create(a3), a4, quercus_context.createString(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_replace_callback */
+  final public com.caucho.quercus.env.Value preg_replace_callback(com.caucho.quercus.lib.regexp.Regexp a1, com.caucho.quercus.env.Callable a2, String a3, long a4, String a5) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_replace_callback(quercus_context, a1, a2, quercus_context.createString(a3), a4, quercus_context.createString(a5));
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_split */
+  final public com.caucho.quercus.env.Value preg_split(com.caucho.quercus.lib.regexp.Regexp a1, String a2, long a3, int a4) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_split(quercus_context, a1, quercus_context.createString(a2), a3, a4);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_split */
+  final public com.caucho.quercus.env.Value preg_split(com.caucho.quercus.lib.regexp.Regexp a1, String a2, long a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_split(quercus_context, a1, quercus_context.createString(a2), a3, 0);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : preg_split */
+  final public com.caucho.quercus.env.Value preg_split(com.caucho.quercus.lib.regexp.Regexp a1, String a2) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.preg_split(quercus_context, a1, quercus_context.createString(a2), -1L, 0);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : split */
+  final public com.caucho.quercus.env.Value split(com.caucho.quercus.lib.regexp.Ereg a1, String a2, long a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.split(quercus_context, a1, quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : split */
+  final public com.caucho.quercus.env.Value split(com.caucho.quercus.lib.regexp.Ereg a1, String a2) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.split(quercus_context, a1, quercus_context.createString(a2), -1L);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : spliti */
+  final public com.caucho.quercus.env.Value spliti(com.caucho.quercus.lib.regexp.Eregi a1, String a2, long a3) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.spliti(quercus_context, a1, quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : spliti */
+  final public com.caucho.quercus.env.Value spliti(com.caucho.quercus.lib.regexp.Eregi a1, String a2) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.spliti(quercus_context, a1, quercus_context.createString(a2), -1L);
+  }
+
+  /* com.caucho.quercus.lib.regexp.RegexpModule : sql_regcase */
+  final public com.caucho.quercus.env.StringValue sql_regcase(String a0) {
+    return com.caucho.quercus.lib.regexp.RegexpModule.sql_regcase(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.session.SessionModule : session_decode */
+  final public boolean session_decode(String a1) {
+    return com.caucho.quercus.lib.session.SessionModule.session_decode(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.session.SessionModule : session_is_registered */
+  final public boolean session_is_registered(String a1) {
+    return com.caucho.quercus.lib.session.SessionModule.session_is_registered(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.spl.SplModule : class_implements */
+  final public com.caucho.quercus.env.Value class_implements(long a1, boolean a2) {
+    return com.caucho.quercus.lib.spl.SplModule.class_implements(quercus_context, LongValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.spl.SplModule : class_implements */
+  final public com.caucho.quercus.env.Value class_implements(long a1) {
+    return com.caucho.quercus.lib.spl.SplModule.class_implements(quercus_context, LongValue.create(a1), false);
+  }
+
+  /* com.caucho.quercus.lib.spl.SplModule : class_implements */
+  final public com.caucho.quercus.env.Value class_implements(double a1, boolean a2) {
+    return com.caucho.quercus.lib.spl.SplModule.class_implements(quercus_context, DoubleValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.spl.SplModule : class_implements */
+  final public com.caucho.quercus.env.Value class_implements(double a1) {
+    return com.caucho.quercus.lib.spl.SplModule.class_implements(quercus_context, DoubleValue.create(a1), false);
+  }
+
+  /* com.caucho.quercus.lib.spl.SplModule : class_implements */
+  final public com.caucho.quercus.env.Value class_implements(String a1, boolean a2) {
+    return com.caucho.quercus.lib.spl.SplModule.class_implements(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.spl.SplModule : class_implements */
+  final public com.caucho.quercus.env.Value class_implements(String a1) {
+    return com.caucho.quercus.lib.spl.SplModule.class_implements(quercus_context, quercus_context.createString(a1), false);
+  }
+
+  /* com.caucho.quercus.lib.spl.SplModule : class_parents */
+  final public com.caucho.quercus.env.Value class_parents(long a1, boolean a2) {
+    return com.caucho.quercus.lib.spl.SplModule.class_parents(quercus_context, LongValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.spl.SplModule : class_parents */
+  final public com.caucho.quercus.env.Value class_parents(long a1) {
+    return com.caucho.quercus.lib.spl.SplModule.class_parents(quercus_context, LongValue.create(a1), false);
+  }
+
+  /* com.caucho.quercus.lib.spl.SplModule : class_parents */
+  final public com.caucho.quercus.env.Value class_parents(double a1, boolean a2) {
+    return com.caucho.quercus.lib.spl.SplModule.class_parents(quercus_context, DoubleValue.create(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.spl.SplModule : class_parents */
+  final public com.caucho.quercus.env.Value class_parents(double a1) {
+    return com.caucho.quercus.lib.spl.SplModule.class_parents(quercus_context, DoubleValue.create(a1), false);
+  }
+
+  /* com.caucho.quercus.lib.spl.SplModule : class_parents */
+  final public com.caucho.quercus.env.Value class_parents(String a1, boolean a2) {
+    return com.caucho.quercus.lib.spl.SplModule.class_parents(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.spl.SplModule : class_parents */
+  final public com.caucho.quercus.env.Value class_parents(String a1) {
+    return com.caucho.quercus.lib.spl.SplModule.class_parents(quercus_context, quercus_context.createString(a1), false);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : addcslashes */
+  final public com.caucho.quercus.env.StringValue addcslashes(String a1, String a2) {
+    return com.caucho.quercus.lib.string.StringModule.addcslashes(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : addslashes */
+  final public com.caucho.quercus.env.StringValue addslashes(String a0) {
+    return com.caucho.quercus.lib.string.StringModule.addslashes(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : chop */
+  final public com.caucho.quercus.env.StringValue chop(String a1, String a2) {
+    return com.caucho.quercus.lib.string.StringModule.chop(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : convert_uudecode */
+  final public com.caucho.quercus.env.Value convert_uudecode(String a1) {
+    return com.caucho.quercus.lib.string.StringModule.convert_uudecode(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : convert_uuencode */
+  final public com.caucho.quercus.env.Value convert_uuencode(String a0) {
+    return com.caucho.quercus.lib.string.StringModule.convert_uuencode(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : count_chars */
+  final public com.caucho.quercus.env.Value count_chars(String a0, int a1) {
+    return com.caucho.quercus.lib.string.StringModule.count_chars(quercus_context.createString(a0), a1);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : count_chars */
+  final public com.caucho.quercus.env.Value count_chars(String a0) {
+    return com.caucho.quercus.lib.string.StringModule.count_chars(quercus_context.createString(a0), 0);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : crc32 */
+  final public long crc32(String a0) {
+    return com.caucho.quercus.lib.string.StringModule.crc32(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : explode */
+  final public com.caucho.quercus.env.Value explode(String a1, String a2, long a3) {
+    return com.caucho.quercus.lib.string.StringModule.explode(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : fprintf */
+  final public com.caucho.quercus.env.Value fprintf(com.caucho.quercus.lib.file.BinaryOutput a1, String a2, com.caucho.quercus.env.Value[] a3) {
+    return com.caucho.quercus.lib.string.StringModule.fprintf(quercus_context, a1, quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : implode */
+  final public com.caucho.quercus.env.Value implode(long a1, long a2) {
+    return com.caucho.quercus.lib.string.StringModule.implode(quercus_context, LongValue.create(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : implode */
+  final public com.caucho.quercus.env.Value implode(long a1) {
+    return com.caucho.quercus.lib.string.StringModule.implode(quercus_context, LongValue.create(a1), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : implode */
+  final public com.caucho.quercus.env.Value implode(double a1, long a2) {
+    return com.caucho.quercus.lib.string.StringModule.implode(quercus_context, DoubleValue.create(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : implode */
+  final public com.caucho.quercus.env.Value implode(double a1) {
+    return com.caucho.quercus.lib.string.StringModule.implode(quercus_context, DoubleValue.create(a1), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : implode */
+  final public com.caucho.quercus.env.Value implode(String a1, long a2) {
+    return com.caucho.quercus.lib.string.StringModule.implode(quercus_context, quercus_context.createString(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : implode */
+  final public com.caucho.quercus.env.Value implode(String a1) {
+    return com.caucho.quercus.lib.string.StringModule.implode(quercus_context, quercus_context.createString(a1), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : implode */
+  final public com.caucho.quercus.env.Value implode(long a1, double a2) {
+    return com.caucho.quercus.lib.string.StringModule.implode(quercus_context, LongValue.create(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : implode */
+  final public com.caucho.quercus.env.Value implode(double a1, double a2) {
+    return com.caucho.quercus.lib.string.StringModule.implode(quercus_context, DoubleValue.create(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : implode */
+  final public com.caucho.quercus.env.Value implode(String a1, double a2) {
+    return com.caucho.quercus.lib.string.StringModule.implode(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : implode */
+  final public com.caucho.quercus.env.Value implode(long a1, String a2) {
+    return com.caucho.quercus.lib.string.StringModule.implode(quercus_context, LongValue.create(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : implode */
+  final public com.caucho.quercus.env.Value implode(double a1, String a2) {
+    return com.caucho.quercus.lib.string.StringModule.implode(quercus_context, DoubleValue.create(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : implode */
+  final public com.caucho.quercus.env.Value implode(String a1, String a2) {
+    return com.caucho.quercus.lib.string.StringModule.implode(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : join */
+  final public com.caucho.quercus.env.Value join(long a1, long a2) {
+    return com.caucho.quercus.lib.string.StringModule.join(quercus_context, LongValue.create(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : join */
+  final public com.caucho.quercus.env.Value join(double a1, long a2) {
+    return com.caucho.quercus.lib.string.StringModule.join(quercus_context, DoubleValue.create(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : join */
+  final public com.caucho.quercus.env.Value join(String a1, long a2) {
+    return com.caucho.quercus.lib.string.StringModule.join(quercus_context, quercus_context.createString(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : join */
+  final public com.caucho.quercus.env.Value join(long a1, double a2) {
+    return com.caucho.quercus.lib.string.StringModule.join(quercus_context, LongValue.create(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : join */
+  final public com.caucho.quercus.env.Value join(double a1, double a2) {
+    return com.caucho.quercus.lib.string.StringModule.join(quercus_context, DoubleValue.create(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : join */
+  final public com.caucho.quercus.env.Value join(String a1, double a2) {
+    return com.caucho.quercus.lib.string.StringModule.join(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : join */
+  final public com.caucho.quercus.env.Value join(long a1, String a2) {
+    return com.caucho.quercus.lib.string.StringModule.join(quercus_context, LongValue.create(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : join */
+  final public com.caucho.quercus.env.Value join(double a1, String a2) {
+    return com.caucho.quercus.lib.string.StringModule.join(quercus_context, DoubleValue.create(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : join */
+  final public com.caucho.quercus.env.Value join(String a1, String a2) {
+    return com.caucho.quercus.lib.string.StringModule.join(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : ltrim */
+  final public com.caucho.quercus.env.StringValue ltrim(String a1, String a2) {
+    return com.caucho.quercus.lib.string.StringModule.ltrim(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : number_format */
+  final public String number_format(double a1, int a2, long a3, long a4) {
+    return com.caucho.quercus.lib.string.StringModule.number_format(quercus_context, a1, a2, LongValue.create(a3), LongValue.create(a4));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : number_format */
+  final public String number_format(double a1, int a2, long a3) {
+    return com.caucho.quercus.lib.string.StringModule.number_format(quercus_context, a1, a2, LongValue.create(a3), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : number_format */
+  final public String number_format(double a1, int a2) {
+    return com.caucho.quercus.lib.string.StringModule.number_format(quercus_context, a1, a2, DefaultValue.DEFAULT, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : number_format */
+  final public String number_format(double a1) {
+    return com.caucho.quercus.lib.string.StringModule.number_format(quercus_context, a1, 0, DefaultValue.DEFAULT, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : number_format */
+  final public String number_format(double a1, int a2, double a3, long a4) {
+    return com.caucho.quercus.lib.string.StringModule.number_format(quercus_context, a1, a2, DoubleValue.create(a3), LongValue.create(a4));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : number_format */
+  final public String number_format(double a1, int a2, double a3) {
+    return com.caucho.quercus.lib.string.StringModule.number_format(quercus_context, a1, a2, DoubleValue.create(a3), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : number_format */
+  final public String number_format(double a1, int a2, String a3, long a4) {
+    return com.caucho.quercus.lib.string.StringModule.number_format(quercus_context, a1, a2, quercus_context.createString(a3), LongValue.create(a4));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : number_format */
+  final public String number_format(double a1, int a2, String a3) {
+    return com.caucho.quercus.lib.string.StringModule.number_format(quercus_context, a1, a2, quercus_context.createString(a3), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : number_format */
+  final public String number_format(double a1, int a2, long a3, double a4) {
+    return com.caucho.quercus.lib.string.StringModule.number_format(quercus_context, a1, a2, LongValue.create(a3), DoubleValue.create(a4));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : number_format */
+  final public String number_format(double a1, int a2, double a3, double a4) {
+    return com.caucho.quercus.lib.string.StringModule.number_format(quercus_context, a1, a2, DoubleValue.create(a3), DoubleValue.create(a4));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : number_format */
+  final public String number_format(double a1, int a2, String a3, double a4) {
+    return com.caucho.quercus.lib.string.StringModule.number_format(quercus_context, a1, a2, quercus_context.createString(a3), DoubleValue.create(a4));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : number_format */
+  final public String number_format(double a1, int a2, long a3, String a4) {
+    return com.caucho.quercus.lib.string.StringModule.number_format(quercus_context, a1, a2, LongValue.create(a3), quercus_context.createString(a4));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : number_format */
+  final public String number_format(double a1, int a2, double a3, String a4) {
+    return com.caucho.quercus.lib.string.StringModule.number_format(quercus_context, a1, a2, DoubleValue.create(a3), quercus_context.createString(a4));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : number_format */
+  final public String number_format(double a1, int a2, String a3, String a4) {
+    return com.caucho.quercus.lib.string.StringModule.number_format(quercus_context, a1, a2, quercus_context.createString(a3), quercus_context.createString(a4));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : parse_str */
+  final public com.caucho.quercus.env.Value parse_str(String a1, long a2) {
+    return com.caucho.quercus.lib.string.StringModule.parse_str(quercus_context, quercus_context.createString(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : parse_str */
+  final public com.caucho.quercus.env.Value parse_str(String a1) {
+    return com.caucho.quercus.lib.string.StringModule.parse_str(quercus_context, quercus_context.createString(a1), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : parse_str */
+  final public com.caucho.quercus.env.Value parse_str(String a1, double a2) {
+    return com.caucho.quercus.lib.string.StringModule.parse_str(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : parse_str */
+  final public com.caucho.quercus.env.Value parse_str(String a1, String a2) {
+    return com.caucho.quercus.lib.string.StringModule.parse_str(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : print */
+  final public long print(long a1) {
+    return com.caucho.quercus.lib.string.StringModule.print(quercus_context, LongValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : print */
+  final public long print(double a1) {
+    return com.caucho.quercus.lib.string.StringModule.print(quercus_context, DoubleValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : print */
+  final public long print(String a1) {
+    return com.caucho.quercus.lib.string.StringModule.print(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : printf */
+  final public int printf(String a1, com.caucho.quercus.env.Value[] a2) {
+    return com.caucho.quercus.lib.string.StringModule.printf(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : quotemeta */
+  final public com.caucho.quercus.env.Value quotemeta(String a0) {
+    return com.caucho.quercus.lib.string.StringModule.quotemeta(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : rtrim */
+  final public com.caucho.quercus.env.StringValue rtrim(String a1, String a2) {
+    return com.caucho.quercus.lib.string.StringModule.rtrim(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : setlocale */
+  final public com.caucho.quercus.env.Value setlocale(int a1, long a2, com.caucho.quercus.env.Value[] a3) {
+    return com.caucho.quercus.lib.string.StringModule.setlocale(quercus_context, a1, LongValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : setlocale */
+  final public com.caucho.quercus.env.Value setlocale(int a1, double a2, com.caucho.quercus.env.Value[] a3) {
+    return com.caucho.quercus.lib.string.StringModule.setlocale(quercus_context, a1, DoubleValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : setlocale */
+  final public com.caucho.quercus.env.Value setlocale(int a1, String a2, com.caucho.quercus.env.Value[] a3) {
+    return com.caucho.quercus.lib.string.StringModule.setlocale(quercus_context, a1, quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : soundex */
+  final public com.caucho.quercus.env.Value soundex(String a0) {
+    return com.caucho.quercus.lib.string.StringModule.soundex(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : sprintf */
+  final public com.caucho.quercus.env.Value sprintf(String a1, com.caucho.quercus.env.Value[] a2) {
+    return com.caucho.quercus.lib.string.StringModule.sprintf(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : sscanf */
+  final public com.caucho.quercus.env.Value sscanf(String a1, String a2, com.caucho.quercus.env.Value[] a3) {
+    return com.caucho.quercus.lib.string.StringModule.sscanf(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : sscanfOld */
+  final public com.caucho.quercus.env.Value sscanfOld(String a1, String a2, com.caucho.quercus.env.Value[] a3) {
+    return com.caucho.quercus.lib.string.StringModule.sscanfOld(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : str_pad */
+  final public com.caucho.quercus.env.StringValue str_pad(String a0, int a1, String a2, int a3) {
+    return com.caucho.quercus.lib.string.StringModule.str_pad(quercus_context.createString(a0), a1, a2, a3);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : str_rot13 */
+  final public com.caucho.quercus.env.Value str_rot13(String a0) {
+    return com.caucho.quercus.lib.string.StringModule.str_rot13(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : str_split */
+  final public com.caucho.quercus.env.Value str_split(String a0, int a1) {
+    return com.caucho.quercus.lib.string.StringModule.str_split(quercus_context.createString(a0), a1);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : str_split */
+  final public com.caucho.quercus.env.Value str_split(String a0) {
+    return com.caucho.quercus.lib.string.StringModule.str_split(quercus_context.createString(a0), 1);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : str_word_count */
+  final public com.caucho.quercus.env.Value str_word_count(String a0, int a1, String a2) {
+    return com.caucho.quercus.lib.string.StringModule.str_word_count(quercus_context.createString(a0), a1, a2);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strcasecmp */
+  final public int strcasecmp(String a0, String a1) {
+    return com.caucho.quercus.lib.string.StringModule.strcasecmp(quercus_context.createString(a0), quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strchr */
+  final public com.caucho.quercus.env.Value strchr(String a1, long a2) {
+    return com.caucho.quercus.lib.string.StringModule.strchr(quercus_context, quercus_context.createString(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strchr */
+  final public com.caucho.quercus.env.Value strchr(String a1, double a2) {
+    return com.caucho.quercus.lib.string.StringModule.strchr(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strchr */
+  final public com.caucho.quercus.env.Value strchr(String a1, String a2) {
+    return com.caucho.quercus.lib.string.StringModule.strchr(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strcmp */
+  final public int strcmp(String a0, String a1) {
+    return com.caucho.quercus.lib.string.StringModule.strcmp(quercus_context.createString(a0), quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strcspn */
+  final public com.caucho.quercus.env.Value strcspn(String a0, String a1, int a2, int a3) {
+    return com.caucho.quercus.lib.string.StringModule.strcspn(quercus_context.createString(a0), quercus_context.createString(a1), a2, a3);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strcspn */
+  final public com.caucho.quercus.env.Value strcspn(String a0, String a1, int a2) {
+    return com.caucho.quercus.lib.string.StringModule.strcspn(quercus_context.createString(a0), quercus_context.createString(a1), a2, -2147483648);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strcspn */
+  final public com.caucho.quercus.env.Value strcspn(String a0, String a1) {
+    return com.caucho.quercus.lib.string.StringModule.strcspn(quercus_context.createString(a0), quercus_context.createString(a1), 0, -2147483648);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strip_tags */
+  final public com.caucho.quercus.env.StringValue strip_tags(String a0, long a1) {
+    return com.caucho.quercus.lib.string.StringModule.strip_tags(quercus_context.createString(a0), LongValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strip_tags */
+  final public com.caucho.quercus.env.StringValue strip_tags(String a0) {
+    return com.caucho.quercus.lib.string.StringModule.strip_tags(quercus_context.createString(a0), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strip_tags */
+  final public com.caucho.quercus.env.StringValue strip_tags(String a0, double a1) {
+    return com.caucho.quercus.lib.string.StringModule.strip_tags(quercus_context.createString(a0), DoubleValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strip_tags */
+  final public com.caucho.quercus.env.StringValue strip_tags(String a0, String a1) {
+    return com.caucho.quercus.lib.string.StringModule.strip_tags(quercus_context.createString(a0), quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : stripos */
+  final public com.caucho.quercus.env.Value stripos(String a1, long a2, int a3) {
+    return com.caucho.quercus.lib.string.StringModule.stripos(quercus_context, quercus_context.createString(a1), LongValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : stripos */
+  final public com.caucho.quercus.env.Value stripos(String a1, long a2) {
+    return com.caucho.quercus.lib.string.StringModule.stripos(quercus_context, quercus_context.createString(a1), LongValue.create(a2), 0);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : stripos */
+  final public com.caucho.quercus.env.Value stripos(String a1, double a2, int a3) {
+    return com.caucho.quercus.lib.string.StringModule.stripos(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : stripos */
+  final public com.caucho.quercus.env.Value stripos(String a1, double a2) {
+    return com.caucho.quercus.lib.string.StringModule.stripos(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2), 0);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : stripos */
+  final public com.caucho.quercus.env.Value stripos(String a1, String a2, int a3) {
+    return com.caucho.quercus.lib.string.StringModule.stripos(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : stripos */
+  final public com.caucho.quercus.env.Value stripos(String a1, String a2) {
+    return com.caucho.quercus.lib.string.StringModule.stripos(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), 0);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : stripslashes */
+  final public com.caucho.quercus.env.StringValue stripslashes(String a0) {
+    return com.caucho.quercus.lib.string.StringModule.stripslashes(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : stristr */
+  final public com.caucho.quercus.env.Value stristr(String a0, long a1) {
+    return com.caucho.quercus.lib.string.StringModule.stristr(quercus_context.createString(a0), LongValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : stristr */
+  final public com.caucho.quercus.env.Value stristr(String a0, double a1) {
+    return com.caucho.quercus.lib.string.StringModule.stristr(quercus_context.createString(a0), DoubleValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : stristr */
+  final public com.caucho.quercus.env.Value stristr(String a0, String a1) {
+    return com.caucho.quercus.lib.string.StringModule.stristr(quercus_context.createString(a0), quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strnatcasecmp */
+  final public int strnatcasecmp(String a0, String a1) {
+    return com.caucho.quercus.lib.string.StringModule.strnatcasecmp(quercus_context.createString(a0), quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strnatcmp */
+  final public int strnatcmp(String a0, String a1) {
+    return com.caucho.quercus.lib.string.StringModule.strnatcmp(quercus_context.createString(a0), quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strncasecmp */
+  final public com.caucho.quercus.env.Value strncasecmp(String a1, String a2, int a3) {
+    return com.caucho.quercus.lib.string.StringModule.strncasecmp(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strncmp */
+  final public com.caucho.quercus.env.Value strncmp(String a1, String a2, int a3) {
+    return com.caucho.quercus.lib.string.StringModule.strncmp(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strpbrk */
+  final public com.caucho.quercus.env.Value strpbrk(String a0, String a1) {
+    return com.caucho.quercus.lib.string.StringModule.strpbrk(quercus_context.createString(a0), quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strpos */
+  final public com.caucho.quercus.env.Value strpos(String a1, long a2, int a3) {
+    return com.caucho.quercus.lib.string.StringModule.strpos(quercus_context, quercus_context.createString(a1), LongValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strpos */
+  final public com.caucho.quercus.env.Value strpos(String a1, long a2) {
+    return com.caucho.quercus.lib.string.StringModule.strpos(quercus_context, quercus_context.createString(a1), LongValue.create(a2), 0);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strpos */
+  final public com.caucho.quercus.env.Value strpos(String a1, double a2, int a3) {
+    return com.caucho.quercus.lib.string.StringModule.strpos(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strpos */
+  final public com.caucho.quercus.env.Value strpos(String a1, double a2) {
+    return com.caucho.quercus.lib.string.StringModule.strpos(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2), 0);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strpos */
+  final public com.caucho.quercus.env.Value strpos(String a1, String a2, int a3) {
+    return com.caucho.quercus.lib.string.StringModule.strpos(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), a3);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strpos */
+  final public com.caucho.quercus.env.Value strpos(String a1, String a2) {
+    return com.caucho.quercus.lib.string.StringModule.strpos(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), 0);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strrchr */
+  final public com.caucho.quercus.env.Value strrchr(String a0, long a1) {
+    return com.caucho.quercus.lib.string.StringModule.strrchr(quercus_context.createString(a0), LongValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strrchr */
+  final public com.caucho.quercus.env.Value strrchr(String a0, double a1) {
+    return com.caucho.quercus.lib.string.StringModule.strrchr(quercus_context.createString(a0), DoubleValue.create(a1));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strrchr */
+  final public com.caucho.quercus.env.Value strrchr(String a0, String a1) {
+    return com.caucho.quercus.lib.string.StringModule.strrchr(quercus_context.createString(a0), quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strrev */
+  final public com.caucho.quercus.env.Value strrev(String a0) {
+    return com.caucho.quercus.lib.string.StringModule.strrev(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strripos */
+  final public com.caucho.quercus.env.Value strripos(String a1, long a2, long a3) {
+    return com.caucho.quercus.lib.string.StringModule.strripos(quercus_context, a1, LongValue.create(a2), LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strripos */
+  final public com.caucho.quercus.env.Value strripos(String a1, long a2) {
+    return com.caucho.quercus.lib.string.StringModule.strripos(quercus_context, a1, LongValue.create(a2), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strripos */
+  final public com.caucho.quercus.env.Value strripos(String a1, double a2, long a3) {
+    return com.caucho.quercus.lib.string.StringModule.strripos(quercus_context, a1, DoubleValue.create(a2), LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strripos */
+  final public com.caucho.quercus.env.Value strripos(String a1, double a2) {
+    return com.caucho.quercus.lib.string.StringModule.strripos(quercus_context, a1, DoubleValue.create(a2), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strripos */
+  final public com.caucho.quercus.env.Value strripos(String a1, String a2, long a3) {
+    return com.caucho.quercus.lib.string.StringModule.strripos(quercus_context, a1, quercus_context.createString(a2), LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strripos */
+  final public com.caucho.quercus.env.Value strripos(String a1, String a2) {
+    return com.caucho.quercus.lib.string.StringModule.strripos(quercus_context, a1, quercus_context.createString(a2), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strripos */
+  final public com.caucho.quercus.env.Value strripos(String a1, long a2, double a3) {
+    return com.caucho.quercus.lib.string.StringModule.strripos(quercus_context, a1, LongValue.create(a2), DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strripos */
+  final public com.caucho.quercus.env.Value strripos(String a1, double a2, double a3) {
+    return com.caucho.quercus.lib.string.StringModule.strripos(quercus_context, a1, DoubleValue.create(a2), DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strripos */
+  final public com.caucho.quercus.env.Value strripos(String a1, String a2, double a3) {
+    return com.caucho.quercus.lib.string.StringModule.strripos(quercus_context, a1, quercus_context.createString(a2), DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strripos */
+  final public com.caucho.quercus.env.Value strripos(String a1, long a2, String a3) {
+    return com.caucho.quercus.lib.string.StringModule.strripos(quercus_context, a1, LongValue.create(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strripos */
+  final public com.caucho.quercus.env.Value strripos(String a1, double a2, String a3) {
+    return com.caucho.quercus.lib.string.StringModule.strripos(quercus_context, a1, DoubleValue.create(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strripos */
+  final public com.caucho.quercus.env.Value strripos(String a1, String a2, String a3) {
+    return com.caucho.quercus.lib.string.StringModule.strripos(quercus_context, a1, quercus_context.createString(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strrpos */
+  final public com.caucho.quercus.env.Value strrpos(String a1, long a2, long a3) {
+    return com.caucho.quercus.lib.string.StringModule.strrpos(quercus_context, quercus_context.createString(a1), LongValue.create(a2), LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strrpos */
+  final public com.caucho.quercus.env.Value strrpos(String a1, long a2) {
+    return com.caucho.quercus.lib.string.StringModule.strrpos(quercus_context, quercus_context.createString(a1), LongValue.create(a2), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strrpos */
+  final public com.caucho.quercus.env.Value strrpos(String a1, double a2, long a3) {
+    return com.caucho.quercus.lib.string.StringModule.strrpos(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2), LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strrpos */
+  final public com.caucho.quercus.env.Value strrpos(String a1, double a2) {
+    return com.caucho.quercus.lib.string.StringModule.strrpos(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strrpos */
+  final public com.caucho.quercus.env.Value strrpos(String a1, String a2, long a3) {
+    return com.caucho.quercus.lib.string.StringModule.strrpos(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strrpos */
+  final public com.caucho.quercus.env.Value strrpos(String a1, String a2) {
+    return com.caucho.quercus.lib.string.StringModule.strrpos(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strrpos */
+  final public com.caucho.quercus.env.Value strrpos(String a1, long a2, double a3) {
+    return com.caucho.quercus.lib.string.StringModule.strrpos(quercus_context, quercus_context.createString(a1), LongValue.create(a2), DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strrpos */
+  final public com.caucho.quercus.env.Value strrpos(String a1, double a2, double a3) {
+    return com.caucho.quercus.lib.string.StringModule.strrpos(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2), DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strrpos */
+  final public com.caucho.quercus.env.Value strrpos(String a1, String a2, double a3) {
+    return com.caucho.quercus.lib.string.StringModule.strrpos(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strrpos */
+  final public com.caucho.quercus.env.Value strrpos(String a1, long a2, String a3) {
+    return com.caucho.quercus.lib.string.StringModule.strrpos(quercus_context, quercus_context.createString(a1), LongValue.create(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strrpos */
+  final public com.caucho.quercus.env.Value strrpos(String a1, double a2, String a3) {
+    return com.caucho.quercus.lib.string.StringModule.strrpos(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strrpos */
+  final public com.caucho.quercus.env.Value strrpos(String a1, String a2, String a3) {
+    return com.caucho.quercus.lib.string.StringModule.strrpos(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strspn */
+  final public com.caucho.quercus.env.Value strspn(String a0, String a1, int a2, int a3) {
+    return com.caucho.quercus.lib.string.StringModule.strspn(quercus_context.createString(a0), quercus_context.createString(a1), a2, a3);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strspn */
+  final public com.caucho.quercus.env.Value strspn(String a0, String a1, int a2) {
+    return com.caucho.quercus.lib.string.StringModule.strspn(quercus_context.createString(a0), quercus_context.createString(a1), a2, -2147483648);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strspn */
+  final public com.caucho.quercus.env.Value strspn(String a0, String a1) {
+    return com.caucho.quercus.lib.string.StringModule.strspn(quercus_context.createString(a0), quercus_context.createString(a1), 0, -2147483648);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strstr */
+  final public com.caucho.quercus.env.Value strstr(String a1, long a2) {
+    return com.caucho.quercus.lib.string.StringModule.strstr(quercus_context, quercus_context.createString(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strstr */
+  final public com.caucho.quercus.env.Value strstr(String a1, double a2) {
+    return com.caucho.quercus.lib.string.StringModule.strstr(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strstr */
+  final public com.caucho.quercus.env.Value strstr(String a1, String a2) {
+    return com.caucho.quercus.lib.string.StringModule.strstr(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strtok */
+  final public com.caucho.quercus.env.Value strtok(String a1, long a2) {
+    return com.caucho.quercus.lib.string.StringModule.strtok(quercus_context, quercus_context.createString(a1), LongValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strtok */
+  final public com.caucho.quercus.env.Value strtok(String a1) {
+    return com.caucho.quercus.lib.string.StringModule.strtok(quercus_context, quercus_context.createString(a1), DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strtok */
+  final public com.caucho.quercus.env.Value strtok(String a1, double a2) {
+    return com.caucho.quercus.lib.string.StringModule.strtok(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strtok */
+  final public com.caucho.quercus.env.Value strtok(String a1, String a2) {
+    return com.caucho.quercus.lib.string.StringModule.strtok(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strtolower */
+  final public com.caucho.quercus.env.StringValue strtolower(String a0) {
+    return com.caucho.quercus.lib.string.StringModule.strtolower(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strtoupper */
+  final public com.caucho.quercus.env.StringValue strtoupper(String a0) {
+    return com.caucho.quercus.lib.string.StringModule.strtoupper(quercus_context.createString(a0));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strtr */
+  final public com.caucho.quercus.env.StringValue strtr(String a1, long a2, String a3) {
+    return com.caucho.quercus.lib.string.StringModule.strtr(quercus_context, quercus_context.createString(a1), LongValue.create(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strtr */
+  final public com.caucho.quercus.env.StringValue strtr(String a1, double a2, String a3) {
+    return com.caucho.quercus.lib.string.StringModule.strtr(quercus_context, quercus_context.createString(a1), DoubleValue.create(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : strtr */
+  final public com.caucho.quercus.env.StringValue strtr(String a1, String a2, String a3) {
+    return com.caucho.quercus.lib.string.StringModule.strtr(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : substr_compare */
+  final public com.caucho.quercus.env.Value substr_compare(String a1, String a2, int a3, long a4, boolean a5) {
+    return com.caucho.quercus.lib.string.StringModule.substr_compare(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), a3, LongValue.create(a4), a5);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : substr_compare */
+  final public com.caucho.quercus.env.Value substr_compare(String a1, String a2, int a3, long a4) {
+    return com.caucho.quercus.lib.string.StringModule.substr_compare(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), a3, LongValue.create(a4), false);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : substr_compare */
+  final public com.caucho.quercus.env.Value substr_compare(String a1, String a2, int a3) {
+    return com.caucho.quercus.lib.string.StringModule.substr_compare(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), a3, DefaultValue.DEFAULT, false);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : substr_compare */
+  final public com.caucho.quercus.env.Value substr_compare(String a1, String a2, int a3, double a4, boolean a5) {
+    return com.caucho.quercus.lib.string.StringModule.substr_compare(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), a3, DoubleValue.create(a4), a5);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : substr_compare */
+  final public com.caucho.quercus.env.Value substr_compare(String a1, String a2, int a3, double a4) {
+    return com.caucho.quercus.lib.string.StringModule.substr_compare(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), a3, DoubleValue.create(a4), false);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : substr_compare */
+  final public com.caucho.quercus.env.Value substr_compare(String a1, String a2, int a3, String a4, boolean a5) {
+    return com.caucho.quercus.lib.string.StringModule.substr_compare(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), a3, quercus_context.createString(a4), a5);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : substr_compare */
+  final public com.caucho.quercus.env.Value substr_compare(String a1, String a2, int a3, String a4) {
+    return com.caucho.quercus.lib.string.StringModule.substr_compare(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), a3, quercus_context.createString(a4), false);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : substr_count */
+  final public com.caucho.quercus.env.Value substr_count(String a1, String a2, int a3, int a4) {
+    return com.caucho.quercus.lib.string.StringModule.substr_count(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), a3, a4);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : substr_count */
+  final public com.caucho.quercus.env.Value substr_count(String a1, String a2, int a3) {
+    return com.caucho.quercus.lib.string.StringModule.substr_count(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), a3, -1);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : substr_count */
+  final public com.caucho.quercus.env.Value substr_count(String a1, String a2) {
+    return com.caucho.quercus.lib.string.StringModule.substr_count(quercus_context, quercus_context.createString(a1), quercus_context.createString(a2), 0, -1);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : trim */
+  final public com.caucho.quercus.env.Value trim(String a1, String a2) {
+    return com.caucho.quercus.lib.string.StringModule.trim(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : ucfirst */
+  final public com.caucho.quercus.env.StringValue ucfirst(String a1) {
+    return com.caucho.quercus.lib.string.StringModule.ucfirst(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : vprintf */
+  final public int vprintf(String a1, com.caucho.quercus.env.ArrayValue a2) {
+    return com.caucho.quercus.lib.string.StringModule.vprintf(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.string.StringModule : vsprintf */
+  final public com.caucho.quercus.env.Value vsprintf(String a1, com.caucho.quercus.env.ArrayValue a2) {
+    return com.caucho.quercus.lib.string.StringModule.vsprintf(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.xml.XMLWriterModule : xmlwriter_set_indent_string */
+  final public boolean xmlwriter_set_indent_string(com.caucho.quercus.lib.xml.XMLWriter a0, String a1) {
+    return com.caucho.quercus.lib.xml.XMLWriterModule.xmlwriter_set_indent_string(a0, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.xml.XMLWriterModule : xmlwriter_start_attribute */
+  final public boolean xmlwriter_start_attribute(com.caucho.quercus.lib.xml.XMLWriter a1, String a2) {
+    return com.caucho.quercus.lib.xml.XMLWriterModule.xmlwriter_start_attribute(quercus_context, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.xml.XMLWriterModule : xmlwriter_start_attribute_ns */
+  final public boolean xmlwriter_start_attribute_ns(com.caucho.quercus.lib.xml.XMLWriter a1, String a2, String a3, String a4) {
+    return com.caucho.quercus.lib.xml.XMLWriterModule.xmlwriter_start_attribute_ns(quercus_context, a1, quercus_context.createString(a2), quercus_context.createString(a3), quercus_context.createString(a4));
+  }
+
+  /* com.caucho.quercus.lib.xml.XMLWriterModule : xmlwriter_start_document */
+  final public boolean xmlwriter_start_document(com.caucho.quercus.lib.xml.XMLWriter a1, String a2, String a3, String a4) {
+    return com.caucho.quercus.lib.xml.XMLWriterModule.xmlwriter_start_document(quercus_context, a1, quercus_context.createString(a2), quercus_context.createString(a3), quercus_context.createString(a4));
+  }
+
+  /* com.caucho.quercus.lib.xml.XMLWriterModule : xmlwriter_start_dtd */
+  final public boolean xmlwriter_start_dtd(com.caucho.quercus.lib.xml.XMLWriter a0, String a1, String a2, String a3) {
+    return com.caucho.quercus.lib.xml.XMLWriterModule.xmlwriter_start_dtd(a0, quercus_context.createString(a1), quercus_context.createString(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.xml.XMLWriterModule : xmlwriter_start_dtd_attlist */
+  final public boolean xmlwriter_start_dtd_attlist(com.caucho.quercus.lib.xml.XMLWriter a0, String a1) {
+    return com.caucho.quercus.lib.xml.XMLWriterModule.xmlwriter_start_dtd_attlist(a0, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.xml.XMLWriterModule : xmlwriter_start_dtd_element */
+  final public boolean xmlwriter_start_dtd_element(com.caucho.quercus.lib.xml.XMLWriter a0, String a1) {
+    return com.caucho.quercus.lib.xml.XMLWriterModule.xmlwriter_start_dtd_element(a0, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.xml.XMLWriterModule : xmlwriter_start_dtd_entity */
+  final public boolean xmlwriter_start_dtd_entity(com.caucho.quercus.lib.xml.XMLWriter a0, String a1) {
+    return com.caucho.quercus.lib.xml.XMLWriterModule.xmlwriter_start_dtd_entity(a0, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.xml.XMLWriterModule : xmlwriter_start_element */
+  final public boolean xmlwriter_start_element(com.caucho.quercus.lib.xml.XMLWriter a1, String a2) {
+    return com.caucho.quercus.lib.xml.XMLWriterModule.xmlwriter_start_element(quercus_context, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.xml.XMLWriterModule : xmlwriter_start_element_ns */
+  final public boolean xmlwriter_start_element_ns(com.caucho.quercus.lib.xml.XMLWriter a1, String a2, String a3, String a4) {
+    return com.caucho.quercus.lib.xml.XMLWriterModule.xmlwriter_start_element_ns(quercus_context, a1, quercus_context.createString(a2), quercus_context.createString(a3), quercus_context.createString(a4));
+  }
+
+  /* com.caucho.quercus.lib.xml.XMLWriterModule : xmlwriter_start_pi */
+  final public boolean xmlwriter_start_pi(com.caucho.quercus.lib.xml.XMLWriter a1, String a2) {
+    return com.caucho.quercus.lib.xml.XMLWriterModule.xmlwriter_start_pi(quercus_context, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.xml.XMLWriterModule : xmlwriter_text */
+  final public boolean xmlwriter_text(com.caucho.quercus.lib.xml.XMLWriter a1, String a2) {
+    return com.caucho.quercus.lib.xml.XMLWriterModule.xmlwriter_text(quercus_context, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.xml.XMLWriterModule : xmlwriter_write_attribute */
+  final public boolean xmlwriter_write_attribute(com.caucho.quercus.lib.xml.XMLWriter a1, String a2, String a3) {
+    return com.caucho.quercus.lib.xml.XMLWriterModule.xmlwriter_write_attribute(quercus_context, a1, quercus_context.createString(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.xml.XMLWriterModule : xmlwriter_write_cdata */
+  final public boolean xmlwriter_write_cdata(com.caucho.quercus.lib.xml.XMLWriter a1, String a2) {
+    return com.caucho.quercus.lib.xml.XMLWriterModule.xmlwriter_write_cdata(quercus_context, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.xml.XMLWriterModule : xmlwriter_write_comment */
+  final public boolean xmlwriter_write_comment(com.caucho.quercus.lib.xml.XMLWriter a1, String a2) {
+    return com.caucho.quercus.lib.xml.XMLWriterModule.xmlwriter_write_comment(quercus_context, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.xml.XMLWriterModule : xmlwriter_write_dtd_attlist */
+  final public boolean xmlwriter_write_dtd_attlist(com.caucho.quercus.lib.xml.XMLWriter a1, String a2, String a3) {
+    return com.caucho.quercus.lib.xml.XMLWriterModule.xmlwriter_write_dtd_attlist(quercus_context, a1, quercus_context.createString(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.xml.XMLWriterModule : xmlwriter_write_dtd_element */
+  final public boolean xmlwriter_write_dtd_element(com.caucho.quercus.lib.xml.XMLWriter a1, String a2, String a3) {
+    return com.caucho.quercus.lib.xml.XMLWriterModule.xmlwriter_write_dtd_element(quercus_context, a1, quercus_context.createString(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.xml.XMLWriterModule : xmlwriter_write_dtd_entity */
+  final public boolean xmlwriter_write_dtd_entity(com.caucho.quercus.lib.xml.XMLWriter a1, String a2, String a3) {
+    return com.caucho.quercus.lib.xml.XMLWriterModule.xmlwriter_write_dtd_entity(quercus_context, a1, quercus_context.createString(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.xml.XMLWriterModule : xmlwriter_write_element */
+  final public boolean xmlwriter_write_element(com.caucho.quercus.lib.xml.XMLWriter a1, String a2, String a3) {
+    return com.caucho.quercus.lib.xml.XMLWriterModule.xmlwriter_write_element(quercus_context, a1, quercus_context.createString(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.xml.XMLWriterModule : xmlwriter_write_pi */
+  final public boolean xmlwriter_write_pi(com.caucho.quercus.lib.xml.XMLWriter a1, String a2, String a3) {
+    return com.caucho.quercus.lib.xml.XMLWriterModule.xmlwriter_write_pi(quercus_context, a1, quercus_context.createString(a2), quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.xml.XMLWriterModule : xmlwriter_write_raw */
+  final public boolean xmlwriter_write_raw(com.caucho.quercus.lib.xml.XMLWriter a1, String a2) {
+    return com.caucho.quercus.lib.xml.XMLWriterModule.xmlwriter_write_raw(quercus_context, a1, quercus_context.createString(a2));
+  }
+
+  /* com.caucho.quercus.lib.xml.XmlModule : utf8_decode */
+  final public com.caucho.quercus.env.Value utf8_decode(String a1) {
+    return com.caucho.quercus.lib.xml.XmlModule.utf8_decode(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.xml.XmlModule : utf8_encode */
+  final public com.caucho.quercus.env.Value utf8_encode(String a1) {
+    return com.caucho.quercus.lib.xml.XmlModule.utf8_encode(quercus_context, quercus_context.createString(a1));
+  }
+
+  /* com.caucho.quercus.lib.zlib.ZlibModule : gzfile */
+  final public com.caucho.quercus.env.ArrayValue gzfile(String a1, boolean a2) {
+    return com.caucho.quercus.lib.zlib.ZlibModule.gzfile(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.zlib.ZlibModule : gzfile */
+  final public com.caucho.quercus.env.ArrayValue gzfile(String a1) {
+    return com.caucho.quercus.lib.zlib.ZlibModule.gzfile(quercus_context, quercus_context.createString(a1), false);
+  }
+
+  /* com.caucho.quercus.lib.zlib.ZlibModule : gzgetss */
+  final public com.caucho.quercus.env.Value gzgetss(com.caucho.quercus.lib.file.BinaryInput a1, int a2, long a3) {
+    return com.caucho.quercus.lib.zlib.ZlibModule.gzgetss(quercus_context, a1, a2, LongValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.zlib.ZlibModule : gzgetss */
+  final public com.caucho.quercus.env.Value gzgetss(com.caucho.quercus.lib.file.BinaryInput a1, int a2) {
+    return com.caucho.quercus.lib.zlib.ZlibModule.gzgetss(quercus_context, a1, a2, DefaultValue.DEFAULT);
+  }
+
+  /* com.caucho.quercus.lib.zlib.ZlibModule : gzgetss */
+  final public com.caucho.quercus.env.Value gzgetss(com.caucho.quercus.lib.file.BinaryInput a1, int a2, double a3) {
+    return com.caucho.quercus.lib.zlib.ZlibModule.gzgetss(quercus_context, a1, a2, DoubleValue.create(a3));
+  }
+
+  /* com.caucho.quercus.lib.zlib.ZlibModule : gzgetss */
+  final public com.caucho.quercus.env.Value gzgetss(com.caucho.quercus.lib.file.BinaryInput a1, int a2, String a3) {
+    return com.caucho.quercus.lib.zlib.ZlibModule.gzgetss(quercus_context, a1, a2, quercus_context.createString(a3));
+  }
+
+  /* com.caucho.quercus.lib.zlib.ZlibModule : gzopen */
+  final public com.caucho.quercus.lib.file.BinaryStream gzopen(String a1, String a2, boolean a3) {
+    return com.caucho.quercus.lib.zlib.ZlibModule.gzopen(quercus_context, quercus_context.createString(a1), a2, a3);
+  }
+
+  /* com.caucho.quercus.lib.zlib.ZlibModule : gzopen */
+  final public com.caucho.quercus.lib.file.BinaryStream gzopen(String a1, String a2) {
+    return com.caucho.quercus.lib.zlib.ZlibModule.gzopen(quercus_context, quercus_context.createString(a1), a2, false);
+  }
+
+  /* com.caucho.quercus.lib.zlib.ZlibModule : readgzfile */
+  final public com.caucho.quercus.env.Value readgzfile(String a1, boolean a2) {
+    return com.caucho.quercus.lib.zlib.ZlibModule.readgzfile(quercus_context, quercus_context.createString(a1), a2);
+  }
+
+  /* com.caucho.quercus.lib.zlib.ZlibModule : readgzfile */
+  final public com.caucho.quercus.env.Value readgzfile(String a1) {
+    return com.caucho.quercus.lib.zlib.ZlibModule.readgzfile(quercus_context, quercus_context.createString(a1), false);
+  }
+}
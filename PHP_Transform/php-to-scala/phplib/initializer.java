@@ -18,7 +18,13 @@ import com.caucho.vfs.WriteStream;
 
 public class initializer {
 
-	private final QuercusContext quercus = new QuercusContext();
+	/*
+	 * Converted scripts call the module functions directly, so modules are
+	 * only introspected on first use. -Dphp.lazy_modules=false restores
+	 * eager loading.
+	 */
+	private final QuercusContext quercus
+		= new QuercusContext(!"false".equals(System.getProperty("php.lazy_modules")));
 	private WriteStream out;
 
 	public Env initialize(OutputStream os) {
@@ -0,0 +1,92 @@
+package phplib;
+
+import com.caucho.quercus.env.BooleanValue;
+import com.caucho.quercus.env.ConstStringValue;
+import com.caucho.quercus.env.Env;
+import com.caucho.quercus.env.Value;
+
+/**
+ * Hand-written primitive versions of the hottest builtins, for arguments the
+ * converter has typed as Int/Long/Double/String. They follow the Quercus
+ * module code they replace but never build a Value for their arguments.
+ * The generated direct class extends this one and skips these signatures.
+ */
+public class intrinsics {
+
+	protected final Env quercus_context;
+
+	public intrinsics(Env env) {
+		this.quercus_context = env;
+	}
+
+	/* StringModule.strlen */
+	final public int strlen(String s) {
+		return s.length();
+	}
+
+	/* MathModule.floor */
+	final public double floor(double x) {
+		return Math.floor(x);
+	}
+
+	/* MathModule.ceil */
+	final public double ceil(double x) {
+		return Math.ceil(x);
+	}
+
+	/* StringModule.str_repeat */
+	final public String str_repeat(String s, int count) {
+		if (count <= 0 || s.length() == 0)
+			return "";
+
+		StringBuilder sb = new StringBuilder(count * s.length());
+		for (int i = 0; i < count; i++)
+			sb.append(s);
+		return sb.toString();
+	}
+
+	/* StringModule.substr: a string, or FALSE when the range is empty */
+	final public Value substr(String s, int start) {
+		int strLen = s.length();
+		if (start < 0)
+			start = strLen + start;
+
+		if (start < 0 || start >= strLen)
+			return BooleanValue.FALSE;
+		return new ConstStringValue(s.substring(start));
+	}
+
+	final public Value substr(String s, int start, int len) {
+		int strLen = s.length();
+		if (start < 0)
+			start = strLen + start;
+
+		if (start < 0 || start >= strLen)
+			return BooleanValue.FALSE;
+		else if (len == 0)
+			return ConstStringValue.EMPTY;
+
+		int end;
+		if (len < 0)
+			end = strLen + len;
+		else
+			end = (strLen < len) ? strLen : start + len;
+
+		if (end <= start)
+			return BooleanValue.FALSE;
+		else if (strLen <= end)
+			return new ConstStringValue(s.substring(start));
+		else
+			return new ConstStringValue(s.substring(start, end));
+	}
+
+	/* StringModule.ord */
+	final public long ord(String s) {
+		return s.length() == 0 ? 0 : s.charAt(0);
+	}
+
+	/* StringModule.chr */
+	final public String chr(long code) {
+		return String.valueOf((char) (code & 0xff));
+	}
+}
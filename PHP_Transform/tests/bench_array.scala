@@ -0,0 +1,58 @@
+/*
+ * Array benchmark: packed vs. hashed ArrayValueImpl for append, index read and foreach.
+ * See http://code.google.com/p/php-to-scala-migration-helper/ for details.
+ *
+ * usage: bench_array.sh [elements] [rounds]
+ */
+
+import com.caucho.quercus.env._;
+
+object bench_array {
+
+  val HASHED = new ConstStringValue("hashed")
+
+  /* an array starts packed; a string key switches it to the hashed form for good */
+  def create(hashed: Boolean): ArrayValueImpl = {
+    val a = new ArrayValueImpl
+    if (hashed) {
+      a.put(HASHED, LongValue.ONE)
+      a.remove(HASHED)
+    }
+    a
+  }
+
+  def time(label: String, n: Int)(body: => Unit) {
+    val start = System.nanoTime
+    body
+    val ns = System.nanoTime - start
+    Predef.printf("%-20s %8d ms %8d ns/op\n", label, ns / 1000000, ns / n)
+  }
+
+  def main(args: Array[String]) {
+    val n = if (args.length > 0) args(0).toInt else 1000000
+    val rounds = if (args.length > 1) args(1).toInt else 3
+    var sum = 0L
+
+    for (round <- 1 to rounds) {
+      Predef.println("round " + round)
+      for (hashed <- List(false, true)) {
+        val kind = if (hashed) "hashed" else "packed"
+        val a = create(hashed)
+
+        time(kind + " append", n) {
+          var i = 0
+          while (i < n) { a.put(LongValue.create(i)); i += 1 }
+        }
+        time(kind + " index read", n) {
+          var i = 0
+          while (i < n) { sum += a.get(LongValue.create(i)).toLong; i += 1 }
+        }
+        time(kind + " foreach", n) {
+          val it = a.copy.getValueIterator(null)
+          while (it.hasNext) sum += it.next.toLong
+        }
+      }
+    }
+    if (sum == 42) Predef.println()
+  }
+}
@@ -0,0 +1,5 @@
+#!/bin/sh
+LIBJARS=../lib/php-scala.jar:../lib/quercus.jar:../lib/javaee-16.jar
+[ -d bin ] || mkdir bin
+scalac -d bin -classpath $LIBJARS bench_array.scala
+java -server -classpath bin:/usr/share/scala/lib/scala-library.jar:$LIBJARS bench_array $*
@@ -0,0 +1,71 @@
+/*
+ * Cache contention benchmark: LruCache vs. ConcurrentLruCache shared by many
+ * request threads, as in Quercus's page, eval, string and session caches.
+ * See http://code.google.com/p/php-to-scala-migration-helper/ for details.
+ *
+ * usage: bench_cache.sh [threads] [ops per thread] [rounds]
+ */
+
+import com.caucho.util.{LruCache, ConcurrentLruCache}
+
+object bench_cache {
+
+  val CAPACITY = 4096
+  val KEYS = 2048
+
+  trait Cache {
+    def get(key: String): String
+    def put(key: String, value: String): Unit
+  }
+
+  def lru(): Cache = new Cache {
+    val cache = new LruCache[String, String](CAPACITY)
+    def get(key: String): String = cache.get(key)
+    def put(key: String, value: String) { cache.put(key, value) }
+  }
+
+  def concurrent(): Cache = new Cache {
+    val cache = new ConcurrentLruCache[String, String](CAPACITY)
+    def get(key: String): String = cache.get(key)
+    def put(key: String, value: String) { cache.put(key, value) }
+  }
+
+  /* every thread mostly reads, with one put in 16, like compiled pages being looked up */
+  def time(label: String, cache: Cache, threads: Int, n: Int, keys: Array[String]) {
+    val workers = for (t <- 0 until threads) yield new Thread {
+      override def run() {
+        var seed = t * 7919 + 1
+        var i = 0
+        while (i < n) {
+          seed = seed * 1103515245 + 12345
+          val key = keys((seed >>> 8) % keys.length)
+          if ((i & 15) == 0)
+            cache.put(key, key)
+          else
+            cache.get(key)
+          i += 1
+        }
+      }
+    }
+    val start = System.nanoTime
+    workers.foreach(_.start)
+    workers.foreach(_.join)
+    val ns = System.nanoTime - start
+    Predef.printf("%-12s %3d threads %8d ms %8d ns/op\n", label, threads, ns / 1000000, ns / (threads.toLong * n))
+  }
+
+  def main(args: Array[String]) {
+    val threads = if (args.length > 0) args(0).toInt else 64
+    val n = if (args.length > 1) args(1).toInt else 200000
+    val rounds = if (args.length > 2) args(2).toInt else 3
+    val keys = (for (i <- 0 until KEYS) yield "/var/www/page" + i + ".php").toArray
+
+    for (round <- 1 to rounds) {
+      Predef.println("round " + round)
+      for (t <- List(1, threads)) {
+        time("LruCache", lru(), t, n, keys)
+        time("Concurrent", concurrent(), t, n, keys)
+      }
+    }
+  }
+}
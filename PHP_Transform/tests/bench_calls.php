@@ -0,0 +1,58 @@
+<?
+/*
+ * Interpreter call benchmark: user function calls and local variable
+ * access, for timing Quercus's per-call local environments.
+ * See http://code.google.com/p/php-to-scala-migration-helper/ for details.
+ *
+ * usage: java -classpath ../lib/quercus.jar:../lib/javaee-16.jar \
+ *          com.caucho.quercus.CliQuercus bench_calls.php [rounds]
+ */
+
+function fib($n) {
+	if($n < 2) {
+		return $n;
+	}
+	return fib($n - 1) + fib($n - 2);
+}
+
+function locals($a, $b) {
+	$sum = 0;
+	for($i = 0; $i < 20; $i++) {
+		$t = $a * $i + $b;
+		$sum += $t;
+	}
+	return $sum;
+}
+
+function swap(&$x, &$y) {
+	$t = $x;
+	$x = $y;
+	$y = $t;
+}
+
+function run($label, $f) {
+	$start = microtime(true);
+	$result = $f();
+	printf("%-10s %8.1f ms  (%s)\n", $label, (microtime(true) - $start) * 1000, $result);
+}
+
+$rounds = isset($argv[1]) ? (int) $argv[1] : 5;
+for($round = 1; $round <= $rounds; $round++) {
+	echo "round $round\n";
+	run('fib(25)', function () { return fib(25); });
+	run('locals', function () {
+		$s = 0;
+		for($i = 0; $i < 100000; $i++) {
+			$s += locals($i, 3);
+		}
+		return $s;
+	});
+	run('swap', function () {
+		$a = 1;
+		$b = 2;
+		for($i = 0; $i < 500000; $i++) {
+			swap($a, $b);
+		}
+		return "$a$b";
+	});
+}
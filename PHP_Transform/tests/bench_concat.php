@@ -0,0 +1,42 @@
+<?
+/*
+ * String building benchmark: a multi-MB HTML page built with thousands of
+ * .= appends, then written out, for timing Quercus's large string builder.
+ * See http://code.google.com/p/php-to-scala-migration-helper/ for details.
+ *
+ * usage: java -classpath ../lib/quercus.jar:../lib/javaee-16.jar \
+ *          com.caucho.quercus.CliQuercus bench_concat.php [rounds] > /dev/null
+ */
+
+function page($rows) {
+	$html = "<html><body><table>\n";
+	for($i = 0; $i < $rows; $i++) {
+		$html .= "<tr><td>" . $i . "</td><td class=\"name\">row number " . $i . "</td>";
+		$html .= "<td>" . ($i * 3) . "</td></tr>\n";
+	}
+	$html .= "</table></body></html>\n";
+	return $html;
+}
+
+function copies($rows) {
+	$html = page($rows);
+	$a = $html;
+	$b = $html;
+	$a .= "<!-- a -->";
+	$b .= "<!-- b -->";
+	return substr($a, -10) . substr($b, -10);
+}
+
+function run($label, $f) {
+	$start = microtime(true);
+	$result = $f();
+	fprintf(STDERR, "%-10s %8.1f ms  (%s)\n", $label, (microtime(true) - $start) * 1000, $result);
+}
+
+$rounds = isset($argv[1]) ? (int) $argv[1] : 5;
+for($round = 1; $round <= $rounds; $round++) {
+	fprintf(STDERR, "round $round\n");
+	run('build', function () { return strlen(page(100000)); });
+	run('echo', function () { $html = page(100000); echo $html; return strlen($html); });
+	run('copies', function () { return copies(20000); });
+}
@@ -0,0 +1,58 @@
+<?
+/*
+ * Converter throughput harness: converts every .php file under a directory
+ * in-process and reports tokens/sec per file and overall.
+ * See http://code.google.com/p/php-to-scala-migration-helper/ for details.
+ *
+ * usage: php bench_convert.php [dir]
+ */
+
+require_once dirname(__FILE__) . '/../php-to-scala/php-to-scala.php';
+
+function php_files($dir) {
+	$files = array();
+	foreach(scandir($dir) as $f) {
+		if($f == '.' || $f == '..') {
+			continue;
+		}
+		$path = "$dir/$f";
+		if(is_dir($path)) {
+			$files = array_merge($files, php_files($path));
+		}
+		else if(preg_match('/\.php$/', $f)) {
+			$files []= $path;
+		}
+	}
+	return $files;
+}
+
+$dir = isset($argv[1]) ? rtrim($argv[1], '/') : '.';
+$conv = new PhpToScala();
+$total_tokens = 0;
+$total_time = 0.0;
+
+foreach(php_files($dir) as $file) {
+	$code = trim(file_get_contents($file));
+	$tokens = count(token_get_all($code));
+
+	$start = microtime(true);
+	ob_start();
+	try {
+		$conv->convert('bench_convert.php', $code, $file);
+		$status = '';
+	}
+	catch(Exception $e) {
+		$status = ' FAILED: ' . $e->getMessage();
+	}
+	$bytes = strlen(ob_get_clean());
+	$elapsed = microtime(true) - $start;
+
+	$total_tokens += $tokens;
+	$total_time += $elapsed;
+	printf("%-40s %8d tokens %8d bytes %9.3f s %10.0f tokens/sec%s\n",
+		$file, $tokens, $bytes, $elapsed, $tokens / max($elapsed, 1e-6), $status);
+}
+
+printf("%-40s %8d tokens %15s %9.3f s %10.0f tokens/sec\n",
+	'TOTAL', $total_tokens, '', $total_time, $total_tokens / max($total_time, 1e-6));
+?>
@@ -0,0 +1,58 @@
+/*
+ * Dynamic member dispatch benchmark: php.obj dispatch tables vs. per-call reflection scans.
+ * See http://code.google.com/p/php-to-scala-migration-helper/ for details.
+ *
+ * usage: bench_dispatch.sh [iterations]
+ */
+
+import php._;
+import scala.Predef.{ any2ArrowAssoc => _ }
+
+class BenchPoint extends obj {
+  var x: ref = new vnull;
+
+  def __construct(x: ref): ref = {
+    this.x = x;
+    this;
+  }
+
+  def GetX(): ref = {
+    return this.x;
+  }
+}
+
+object bench_dispatch extends php.script {
+
+  /* the lookups obj performed on every call before dispatch tables were added */
+  def reflect_call(o: AnyRef, s: String): ref = {
+    var m = for{i <- o.getClass.getDeclaredMethods() if i.getName == s} yield i;
+    m(0).invoke(o) match { case r: ref => r }
+  }
+
+  def reflect_get(o: AnyRef, s: String): ref = {
+    val f = o.getClass.getDeclaredField(s);
+    f.setAccessible(true);
+    f.get(o) match { case r: ref => r }
+  }
+
+  def time(label: String, n: Int)(body: => Unit) {
+    val start = System.nanoTime
+    var k = 0
+    while (k < n) { body; k += 1 }
+    val ns = System.nanoTime - start
+    Predef.printf("%-24s %8d ms %8d ns/op\n", label, ns / 1000000, ns / n)
+  }
+
+  override def include {
+    val n = if (argv(1).value.isset) argv(1).toInt else 1000000;
+    val p: ref = new BenchPoint __construct(1);
+
+    for (round <- 1 to 2) {
+      Predef.println("round " + round);
+      time("reflection ~& call", n) { reflect_call(p, "GetX") }
+      time("dispatch table ~& call", n) { p~&'GetX~>() }
+      time("reflection ~> field", n) { reflect_get(p, "x") }
+      time("dispatch table ~> field", n) { p~>'x }
+    }
+  }
+}
@@ -0,0 +1,72 @@
+<?
+/*
+ * Output benchmark: echoing rendered blocks into output buffers, as a
+ * template engine does, for timing Quercus's output path.
+ * See http://code.google.com/p/php-to-scala-migration-helper/ for details.
+ *
+ * usage: java -classpath ../lib/quercus.jar:../lib/javaee-16.jar \
+ *          com.caucho.quercus.CliQuercus bench_echo.php [rounds] > /dev/null
+ */
+
+function block($i) {
+	$html = "<div class=\"block\">\n";
+	for($j = 0; $j < 40; $j++) {
+		$html .= "<p>block " . $i . " line " . $j . "</p>\n";
+	}
+	return $html . "</div>\n";
+}
+
+function run($label, $f) {
+	$start = microtime(true);
+	$result = $f();
+	fprintf(STDERR, "%-10s %8.1f ms  (%s)\n", $label, (microtime(true) - $start) * 1000, $result);
+}
+
+$blocks = array();
+for($i = 0; $i < 200; $i++) {
+	$blocks[] = block($i);
+}
+
+$rounds = isset($argv[1]) ? (int) $argv[1] : 5;
+for($round = 1; $round <= $rounds; $round++) {
+	fprintf(STDERR, "round $round\n");
+	run('echo', function () use ($blocks) {
+		for($k = 0; $k < 50; $k++) {
+			foreach($blocks as $b) {
+				echo $b;
+			}
+		}
+		return 50 * count($blocks);
+	});
+	run('ob_flush', function () use ($blocks) {
+		ob_start();
+		for($k = 0; $k < 50; $k++) {
+			foreach($blocks as $b) {
+				echo $b;
+			}
+		}
+		ob_end_flush();
+		return 50 * count($blocks);
+	});
+	run('ob_nested', function () use ($blocks) {
+		ob_start();
+		for($k = 0; $k < 50; $k++) {
+			ob_start();
+			foreach($blocks as $b) {
+				echo $b;
+			}
+			ob_end_flush();
+		}
+		ob_end_flush();
+		return 50 * count($blocks);
+	});
+	run('ob_get', function () use ($blocks) {
+		ob_start();
+		for($k = 0; $k < 50; $k++) {
+			foreach($blocks as $b) {
+				echo $b;
+			}
+		}
+		return strlen(ob_get_clean());
+	});
+}
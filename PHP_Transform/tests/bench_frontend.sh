@@ -0,0 +1,12 @@
+#!/bin/sh
+# php-to-scala.php against the JVM converter (converter.converter) on test_*.php
+# usage: sh bench_frontend.sh [rounds] [threads]
+LIBJARS=../lib/php-scala.jar:../lib/quercus.jar:../lib/javaee-16.jar
+ROUNDS=${1:-10}
+THREADS=${2:-4}
+
+echo ==================== php-to-scala.php, one process per file
+time sh -c 'for i in test_*.php; do php ../php-to-scala/php-to-scala.php $i > /dev/null; done'
+
+echo ==================== converter, in-process, $ROUNDS rounds on $THREADS threads
+java -server -classpath $LIBJARS converter.converter -j $THREADS -bench $ROUNDS test_*.php
@@ -0,0 +1,25 @@
+#!/bin/sh
+# cold start of php-to-scala.php with and without Quercus's on-disk parse cache
+# each run prints the time Quercus took to parse the script or to load it
+# from the cache, then the total time of all runs
+# usage: bench_parse_cache.sh [runs]
+LIBJARS=../lib/quercus.jar:../lib/javaee-16.jar
+RUNS=${1:-5}
+WORK=bin/parse-cache-work
+rm -rf $WORK
+mkdir -p $WORK
+# the page manager logs the parse and load times at FINE
+LOGGING=$WORK/logging.properties
+cat > $LOGGING <<EOF
+handlers=java.util.logging.ConsoleHandler
+java.util.logging.ConsoleHandler.level=FINE
+com.caucho.quercus.page.PageManager.level=FINE
+EOF
+JAVA="java -Djava.util.logging.config.file=$LOGGING -classpath $LIBJARS"
+# fill the cache
+$JAVA com.caucho.quercus.CliQuercus --parse-cache $WORK ../php-to-scala/php-to-scala.php > /dev/null 2>&1
+for flags in "" "--parse-cache $WORK"
+do
+  echo ==================== ${flags:-no parse cache}, $RUNS runs
+  time sh -c "i=0; while [ \$i -lt $RUNS ]; do $JAVA com.caucho.quercus.CliQuercus $flags ../php-to-scala/php-to-scala.php 2>&1 > /dev/null | grep -o '\(parsed\|loaded from the parse cache\) in [0-9]*ms'; i=\`expr \$i + 1\`; done"
+done
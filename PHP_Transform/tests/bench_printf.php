@@ -0,0 +1,47 @@
+<?
+/*
+ * printf benchmark: the same literal formats applied in a tight loop, for
+ * timing Quercus's printf format cache and its %d/%s/%.2f segments.
+ * See http://code.google.com/p/php-to-scala-migration-helper/ for details.
+ *
+ * usage: java -classpath ../lib/quercus.jar:../lib/javaee-16.jar \
+ *          com.caucho.quercus.CliQuercus bench_printf.php [rounds] > /dev/null
+ */
+
+function rows($n) {
+	$len = 0;
+	for($i = 0; $i < $n; $i++) {
+		$len += strlen(sprintf("<tr><td>%d</td><td>%s</td><td>%.2f</td></tr>\n", $i, "item", $i / 7));
+	}
+	return $len;
+}
+
+function padded($n) {
+	$len = 0;
+	for($i = 0; $i < $n; $i++) {
+		$len += strlen(sprintf("%05d|%-8s|%8s", $i, "left", "right"));
+	}
+	return $len;
+}
+
+function listed($n) {
+	$len = 0;
+	for($i = 0; $i < $n; $i++) {
+		$len += strlen(vsprintf("%s=%d (%.1f%%)", array("key", $i, $i / 3)));
+	}
+	return $len;
+}
+
+function run($label, $f) {
+	$start = microtime(true);
+	$result = $f();
+	fprintf(STDERR, "%-10s %8.1f ms  (%s)\n", $label, (microtime(true) - $start) * 1000, $result);
+}
+
+$rounds = isset($argv[1]) ? (int) $argv[1] : 5;
+for($round = 1; $round <= $rounds; $round++) {
+	fprintf(STDERR, "round $round\n");
+	run('rows', function () { return rows(200000); });
+	run('padded', function () { return padded(200000); });
+	run('vsprintf', function () { return listed(200000); });
+}
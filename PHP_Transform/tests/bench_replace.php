@@ -0,0 +1,82 @@
+<?
+/*
+ * Multi-pattern replace benchmark: strtr() and str_replace() with a hundred
+ * search strings over an HTML-ish page, like a sanitizer, for timing
+ * Quercus's compiled replace matcher.
+ * See http://code.google.com/p/php-to-scala-migration-helper/ for details.
+ *
+ * usage: java -classpath ../lib/quercus.jar:../lib/javaee-16.jar \
+ *          com.caucho.quercus.CliQuercus bench_replace.php [rounds] > /dev/null
+ */
+
+function page($rows) {
+	$html = "";
+	for($i = 0; $i < $rows; $i++) {
+		$html .= "<tr><td onclick=\"go($i)\">row $i &amp; more</td><td>javascript:alert('$i')</td></tr>\n";
+	}
+	return $html;
+}
+
+function patterns($n) {
+	$map = array("<" => "&lt;", ">" => "&gt;", "\"" => "&quot;", "'" => "&#39;");
+	for($i = 0; $i < $n; $i++) {
+		$map["word$i;"] = "[w$i]";
+	}
+	$map["onclick"] = "data-click";
+	$map["javascript:"] = "";
+	return $map;
+}
+
+// the one-pass matchers must give PHP's results, non-ASCII search
+// strings included
+function check($label, $got, $expected) {
+	if ($got !== $expected) {
+		fprintf(STDERR, "FAIL %s: got %s, expected %s\n", $label, $got, $expected);
+		exit(1);
+	}
+}
+
+function checkResults() {
+	$text = "<p class='x'>Café word7; onclick</p>";
+	$map = array("<" => "&lt;", ">" => "&gt;", "'" => "&#39;", "é" => "&eacute;",
+		"word7;" => "[w7]", "onclick" => "data-click");
+	$expected = "&lt;p class=&#39;x&#39;&gt;Caf&eacute; [w7] data-click&lt;/p&gt;";
+
+	check('strtr', strtr($text, $map), $expected);
+	check('str_replace', str_replace(array_keys($map), array_values($map), $text), $expected);
+	check('str_ireplace', str_ireplace(array_keys($map), array_values($map),
+		"<p class='x'>Café WORD7; OnClick</p>"), $expected);
+}
+
+function run($label, $f) {
+	$start = microtime(true);
+	$result = $f();
+	fprintf(STDERR, "%-12s %8.1f ms  (%s)\n", $label, (microtime(true) - $start) * 1000, $result);
+}
+
+$html = page(5000);
+$map = patterns(100);
+$search = array_keys($map);
+$replace = array_values($map);
+
+checkResults();
+
+$rounds = isset($argv[1]) ? (int) $argv[1] : 5;
+for($round = 1; $round <= $rounds; $round++) {
+	fprintf(STDERR, "round $round\n");
+	run('strtr', function () use ($html, $map) {
+		$len = 0;
+		for($i = 0; $i < 20; $i++) $len += strlen(strtr($html, $map));
+		return $len;
+	});
+	run('str_replace', function () use ($html, $search, $replace) {
+		$len = 0;
+		for($i = 0; $i < 20; $i++) $len += strlen(str_replace($search, $replace, $html));
+		return $len;
+	});
+	run('str_ireplace', function () use ($html, $search, $replace) {
+		$len = 0;
+		for($i = 0; $i < 20; $i++) $len += strlen(str_ireplace($search, $replace, $html));
+		return $len;
+	});
+}
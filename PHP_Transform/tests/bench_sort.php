@@ -0,0 +1,44 @@
+<?
+/*
+ * Array sort benchmark: sort/asort/ksort of integer and string arrays,
+ * like sorting rows fetched with mysql_fetch_assoc.
+ * See http://code.google.com/p/php-to-scala-migration-helper/ for details.
+ *
+ * usage: java -classpath ../lib/quercus.jar:../lib/javaee-16.jar \
+ *          com.caucho.quercus.CliQuercus bench_sort.php [size] [rounds]
+ */
+
+$seed = 1;
+
+function rnd($max) {
+	global $seed;
+	$seed = ($seed * 1103515245 + 12345) % 2147483648;
+	return $seed % ($max + 1);
+}
+
+function run($label, $f, $data) {
+	$start = microtime(true);
+	$f($data);
+	printf("%-12s %8.1f ms  (%s)\n", $label, (microtime(true) - $start) * 1000, current($data));
+}
+
+$size = isset($argv[1]) ? (int) $argv[1] : 100000;
+$rounds = isset($argv[2]) ? (int) $argv[2] : 5;
+
+$ints = array();
+$strs = array();
+$rows = array();
+for($i = 0; $i < $size; $i++) {
+	$ints[] = rnd($size);
+	$strs[] = 'name' . rnd($size);
+	$rows['id' . $i] = rnd(1000);
+}
+
+for($round = 1; $round <= $rounds; $round++) {
+	echo "round $round\n";
+	run('sort int', function (&$a) { sort($a); }, $ints);
+	run('sort string', function (&$a) { sort($a, SORT_STRING); }, $strs);
+	run('asort', function (&$a) { asort($a); }, $rows);
+	run('arsort num', function (&$a) { arsort($a, SORT_NUMERIC); }, $rows);
+	run('ksort', function (&$a) { ksort($a); }, $rows);
+}
@@ -0,0 +1,33 @@
+/*
+ * Startup benchmark: time to the first statement of the converted test_0.
+ * See http://code.google.com/p/php-to-scala-migration-helper/ for details.
+ *
+ * usage: bench_startup.sh [runs]
+ */
+
+import java.io.{OutputStream, PrintStream}
+import java.lang.management.ManagementFactory
+
+object bench_startup {
+
+  def main(args: Array[String]) {
+    val jvmStart = ManagementFactory.getRuntimeMXBean.getStartTime
+    val mainStart = System.nanoTime
+    var first = 0L
+    var firstWall = 0L
+
+    /* swallows the script output, noting when the first statement writes */
+    val sink = new PrintStream(new OutputStream {
+      def write(b: Int) {
+        if (first == 0) { first = System.nanoTime; firstWall = System.currentTimeMillis }
+      }
+    })
+
+    Console.withOut(sink) { test_0_php.main(Array()) }
+
+    val fromMain = (first - mainStart) / 1000000
+    val fromJvm = firstWall - jvmStart
+    Predef.printf("lazy_modules=%-5s %6d ms from JVM start %6d ms from main\n",
+                  System.getProperty("php.lazy_modules", "true"), fromJvm, fromMain)
+  }
+}
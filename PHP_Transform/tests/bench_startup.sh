@@ -0,0 +1,16 @@
+#!/bin/sh
+# time-to-first-statement of the converted test_0, lazy vs. eager module loading
+# usage: bench_startup.sh [runs]
+LIBJARS=../lib/php-scala.jar:../lib/quercus.jar:../lib/javaee-16.jar
+RUNS=${1:-5}
+[ -d bin ] || mkdir bin
+scalac -d bin -classpath $LIBJARS test_0.scala bench_startup.scala
+for lazy in true false
+do
+  i=0
+  while [ $i -lt $RUNS ]
+  do
+    java -Dphp.lazy_modules=$lazy -classpath bin:/usr/share/scala/lib/scala-library.jar:$LIBJARS bench_startup
+    i=`expr $i + 1`
+  done
+done
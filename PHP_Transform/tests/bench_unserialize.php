@@ -0,0 +1,47 @@
+<?
+/*
+ * Unserialize benchmark: the same session-sized blob unserialized over and
+ * over, read-only and with a write, for timing Quercus's unserialize cache.
+ * See http://code.google.com/p/php-to-scala-migration-helper/ for details.
+ *
+ * usage: java -classpath ../lib/quercus.jar:../lib/javaee-16.jar \
+ *          com.caucho.quercus.CliQuercus bench_unserialize.php [rounds]
+ */
+
+function blob($n) {
+	$a = array();
+	for($i = 0; $i < $n; $i++) {
+		$a["user$i"] = array('id' => $i, 'name' => "name $i", 'score' => $i * 1.5,
+			'tags' => array('a', 'b', 'c'), 'active' => ($i % 2 == 0));
+	}
+	return serialize($a);
+}
+
+function run($label, $f) {
+	$start = microtime(true);
+	$result = $f();
+	printf("%-10s %8.1f ms  (%s)\n", $label, (microtime(true) - $start) * 1000, $result);
+}
+
+$blob = blob(500);
+$rounds = isset($argv[1]) ? (int) $argv[1] : 5;
+for($round = 1; $round <= $rounds; $round++) {
+	echo "round $round\n";
+	run('read', function () use ($blob) {
+		$s = 0;
+		for($i = 0; $i < 2000; $i++) {
+			$a = unserialize($blob);
+			$s += $a['user7']['id'];
+		}
+		return $s;
+	});
+	run('write', function () use ($blob) {
+		$s = 0;
+		for($i = 0; $i < 2000; $i++) {
+			$a = unserialize($blob);
+			$a['user7']['id'] = $i;
+			$s += count($a);
+		}
+		return $s;
+	});
+}
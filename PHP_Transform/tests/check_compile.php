@@ -0,0 +1,150 @@
+<?
+/*
+ * Compiler regression checks: the constructs the Java code generator
+ * compiles (locals, assignments, increments, loops with break/continue,
+ * returns) next to the ones it leaves interpreted (references, globals,
+ * statics, variable variables, undefined locals).  check_compile.sh runs
+ * it interpreted and with --compile and diffs the two outputs.
+ *
+ * usage: java -classpath ../lib/quercus.jar:../lib/javaee-16.jar \
+ *          com.caucho.quercus.CliQuercus [--compile] check_compile.php
+ */
+
+$g = 10;
+
+function locals($n) {
+	$sum = 0;
+	$t = 'x';
+	for($i = 0; $i < $n; $i++) {
+		$t = $i * 2;
+		$sum += $t;
+	}
+	$j = 5;
+	$k = $j++;
+	$m = ++$j;
+	$j--;
+	--$j;
+	return "$sum $t $i $j $k $m";
+}
+
+function loops() {
+	$out = '';
+	for($i = 0; $i < 4; $i++) {
+		$j = 0;
+		while(true) {
+			$j++;
+			if($j == 2)
+				continue;
+			if($j > 3)
+				break;
+			if($i == 2)
+				continue 2;
+			if($i == 3)
+				break 2;
+			$out .= "$i$j ";
+		}
+	}
+	return $out . "end $i $j";
+}
+
+function copies() {
+	$a = array(1, 2);
+	$b = $a;
+	$b[] = 3;
+	$s = 'ab';
+	$t = $s;
+	$t .= 'c';
+	return count($a) . count($b) . " $s $t";
+}
+
+function refs() {
+	$a = 1;
+	$r =& $a;
+	$r = 2;
+	$b = 3;
+	swap($a, $b);
+	return "$a $b $r";
+}
+
+function swap(&$x, &$y) {
+	$t = $x;
+	$x = $y;
+	$y = $t;
+}
+
+function globals() {
+	global $g;
+	$g++;
+	$h = $g * 2;
+	return "$g $h";
+}
+
+function counter() {
+	static $count = 0;
+	$count = $count + 1;
+	return $count;
+}
+
+function varvars() {
+	$name = 'v';
+	$$name = 7;
+	$v++;
+	return $v;
+}
+
+function undefined() {
+	$x = @$missing;
+	return var_export($x, true);
+}
+
+function unsets() {
+	$a = 1;
+	unset($a);
+	$b = isset($a) ? 'set' : 'unset';
+	$a = 2;
+	return "$b $a";
+}
+
+function fib($n) {
+	if($n < 2)
+		return $n;
+	return fib($n - 1) + fib($n - 2);
+}
+
+function args($a, $b = 'd') {
+	$a = $a . $b;
+	return $a . func_num_args();
+}
+
+class Point {
+	var $x;
+
+	function __construct($x) {
+		$this->x = $x;
+	}
+
+	function scaled($f) {
+		$r = $this->x * $f;
+		$f = 0;
+		return $r + $f;
+	}
+}
+
+echo locals(10), "\n";
+echo loops(), "\n";
+echo copies(), "\n";
+echo refs(), "\n";
+echo globals(), ' ', globals(), "\n";
+echo counter(), counter(), counter(), "\n";
+echo varvars(), "\n";
+echo undefined(), "\n";
+echo unsets(), "\n";
+echo fib(15), "\n";
+echo args('a'), ' ', args('b', 'c'), "\n";
+$p = new Point(3);
+echo $p->scaled(4), "\n";
+
+$total = 0;
+for($i = 0; $i < 2000; $i++)
+	$total += strlen(locals($i % 7));
+echo "$total $i\n";
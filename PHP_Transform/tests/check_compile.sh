@@ -0,0 +1,30 @@
+#!/bin/sh
+# runs each script interpreted and compiled to Java (--compile, with a
+# low function compile threshold), and diffs the two outputs
+# usage: check_compile.sh
+LIBJARS=../lib/quercus.jar:../lib/javaee-16.jar
+OUT=bin/compile-out
+rm -rf $OUT
+mkdir -p $OUT
+# CliQuercus only sets $_SERVER['argv'], so a driver sets $argv for the script
+DRIVER=$OUT/driver.php
+echo '<? $argv = array_slice($_SERVER["argv"], 1); require $argv[0];' > $DRIVER
+status=0
+for i in test_*.php check_*.php
+do
+  name=`basename $i .php`
+  args=
+  case $i in
+    test_*) args=50 ;;
+  esac
+  java -classpath $LIBJARS com.caucho.quercus.CliQuercus -d register_argc_argv=1 $DRIVER `pwd`/$i $args > $OUT/$name.interp 2>&1
+  java -classpath $LIBJARS com.caucho.quercus.CliQuercus -d register_argc_argv=1 --compile --compile-threshold 10 $DRIVER `pwd`/$i $args > $OUT/$name.compiled 2>&1
+  if diff $OUT/$name.interp $OUT/$name.compiled > $OUT/$name.diff
+  then
+    echo "ok   $i"
+  else
+    echo "FAIL $i (see $OUT/$name.diff)"
+    status=1
+  fi
+done
+exit $status
@@ -0,0 +1,149 @@
+/*
+ * Database check driver: runs a PHP script with an in-process com.caucho.db
+ * database as Quercus's default data source, so the mysql, mysqli and PDO
+ * modules connect to it whatever host they name.  Scripts reach the helpers
+ * below through java_class("check_db").
+ *
+ * usage: check_db.sh
+ */
+
+import java.lang.reflect.{InvocationHandler, InvocationTargetException, Method, Proxy}
+import java.sql.{Connection, Statement}
+
+import com.caucho.db.jdbc.DataSourceImpl
+import com.caucho.quercus.{Quercus, QuercusContext}
+import com.caucho.quercus.env.{ArrayValue, ArrayValueImpl, Env}
+import com.caucho.quercus.lib.db.{JdbcResultResource, Mysqli}
+import com.caucho.vfs.{Path, Vfs}
+
+object check_db {
+
+  /* args: database directory, script, script args */
+  def main(args: Array[String]) {
+    val database = open(args(0))
+
+    val quercus = new CheckQuercus
+    quercus.setDatabase(database)
+    quercus.init()
+    quercus.run(args.drop(1))
+
+    database.close()
+  }
+
+  def open(dir: String): DataSourceImpl = {
+    val database = new CheckDataSource(Vfs.lookup(dir))
+    database.setCreateDatabase(true)
+    database.init()
+    database
+  }
+
+  /* true if the two arrays are packed rows sharing one ArrayShape for their keys */
+  def sameShape(a: ArrayValue, b: ArrayValue): Boolean = {
+    val field = classOf[ArrayValueImpl].getDeclaredField("_packedShape")
+    field.setAccessible(true)
+
+    val shape = field.get(a)
+
+    shape != null && (shape eq field.get(b))
+  }
+
+  /* the prepared statement cache's size, hits and misses, e.g. "64 3 2" */
+  def statementCache(env: Env): String =
+    statementCache(env.getQuercus)
+
+  /* the same for a new QuercusContext */
+  def newContextStatementCache(): String =
+    statementCache(new QuercusContext)
+
+  private def statementCache(quercus: QuercusContext): String =
+    quercus.getPreparedStatementCacheSize + " " +
+      quercus.getPreparedStatementCacheHitCount + " " +
+      quercus.getPreparedStatementCacheMissCount
+
+  def setStatementCacheSize(env: Env, size: Int) {
+    env.getQuercus.setPreparedStatementCacheSize(size)
+  }
+}
+
+/*
+ * mysqli's query() with no result mode, from the lazy context converted
+ * scripts run in, where init() has not loaded the module constants: the
+ * MYSQLI_STORE_RESULT default must still give a buffered result.
+ * Prints "ok", or FAIL and the reason.
+ */
+object check_db_lazy {
+
+  /* args: database directory */
+  def main(args: Array[String]) {
+    val database = check_db.open(args(0))
+
+    val quercus = new QuercusContext(true)
+    quercus.setDatabase(database)
+
+    val env = new Env(quercus)
+    env.start()
+
+    val conn = new Mysqli(env, env.createString("localhost"), env.createString("test"),
+                          env.createString(""), "test", 3306, env.createString(""))
+    val mysqli = env.wrapJava(conn)
+
+    mysqli.callMethod(env, env.createString("query"), env.createString("CREATE TABLE lazy_rows (id INTEGER)"))
+    val result = mysqli.callMethod(env, env.createString("query"), env.createString("SELECT id FROM lazy_rows"))
+
+    result.toJavaObject match {
+      case rs: JdbcResultResource if ! rs.isUnbuffered => println("ok")
+      case rs: JdbcResultResource => println("FAIL query() without a result mode is unbuffered")
+      case _ => println("FAIL query() returned " + result)
+    }
+
+    database.close()
+  }
+}
+
+/* the command-line Quercus, whose argument parsing is protected */
+class CheckQuercus extends Quercus {
+
+  def run(args: Array[String]) {
+    if (parseArgs(args))
+      execute()
+  }
+}
+
+/*
+ * The database, skipping the SET NAMES the mysql and mysqli modules send on
+ * connect, which com.caucho.db does not parse
+ */
+class CheckDataSource(path: Path) extends DataSourceImpl(path) {
+
+  override def getConnection(): Connection =
+    skipSet(super.getConnection(), classOf[Connection])
+
+  override def getConnection(user: String, password: String): Connection =
+    skipSet(super.getConnection(user, password), classOf[Connection])
+
+  /* wraps a connection, and the statements it creates */
+  private def skipSet[T <: AnyRef](target: T, api: Class[T]): T = {
+    val handler = new InvocationHandler {
+      def invoke(proxy: AnyRef, method: Method, args: Array[AnyRef]): AnyRef = {
+        if (method.getName == "executeUpdate" && args(0).toString.startsWith("SET "))
+          return Int.box(0)
+
+        val result =
+          try {
+            method.invoke(target, (if (args == null) Array[AnyRef]() else args): _*)
+          } catch {
+            case e: InvocationTargetException => throw e.getCause
+          }
+
+        result match {
+          case stmt: Statement if method.getName == "createStatement" =>
+            skipSet(stmt, classOf[Statement])
+          case _ =>
+            result
+        }
+      }
+    }
+
+    api.cast(Proxy.newProxyInstance(api.getClassLoader, Array[Class[_]](api), handler))
+  }
+}
@@ -0,0 +1,32 @@
+#!/bin/sh
+# runs the database checks (db_*.php, then check_db_lazy) through
+# check_db.scala, each against a fresh in-process com.caucho.db database
+# usage: check_db.sh
+LIBJARS=../lib/quercus.jar:../lib/javaee-16.jar
+WORK=bin/db-check
+rm -rf $WORK
+mkdir -p $WORK
+scalac -d bin -classpath $LIBJARS check_db.scala
+JAVA="java -classpath bin:/usr/share/scala/lib/scala-library.jar:$LIBJARS"
+status=0
+for i in db_*.php
+do
+  name=`basename $i .php`
+  $JAVA check_db $WORK/$name $i > $WORK/$name.out 2>&1
+  if [ "`tail -1 $WORK/$name.out`" = ok ]
+  then
+    echo "ok   $i"
+  else
+    echo "FAIL $i (see $WORK/$name.out)"
+    status=1
+  fi
+done
+$JAVA check_db_lazy $WORK/lazy > $WORK/lazy.out 2>&1
+if [ "`tail -1 $WORK/lazy.out`" = ok ]
+then
+  echo "ok   check_db_lazy"
+else
+  echo "FAIL check_db_lazy (see $WORK/lazy.out)"
+  status=1
+fi
+exit $status
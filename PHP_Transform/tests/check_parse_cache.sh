@@ -0,0 +1,32 @@
+#!/bin/sh
+# runs each script cold (filling Quercus's on-disk parse cache) and then
+# warm from the cache, and diffs the two outputs
+# usage: check_parse_cache.sh
+LIBJARS=../lib/quercus.jar:../lib/javaee-16.jar
+WORK=bin/parse-cache-check
+OUT=bin/parse-cache-out
+rm -rf $WORK $OUT
+mkdir -p $OUT
+# CliQuercus only sets $_SERVER['argv'], so a driver sets $argv for the script
+DRIVER=$OUT/driver.php
+echo '<? $argv = array_slice($_SERVER["argv"], 1); require $argv[0];' > $DRIVER
+status=0
+for i in test_*.php check_*.php ../php-to-scala/php-to-scala.php
+do
+  name=`basename $i .php`
+  args=
+  case $i in
+    test_*) args=50 ;;
+    */php-to-scala.php) args=`pwd`/test_2.php ;;
+  esac
+  java -classpath $LIBJARS com.caucho.quercus.CliQuercus -d register_argc_argv=1 --parse-cache $WORK $DRIVER `pwd`/$i $args 2>&1 | grep -v "^// generated by" > $OUT/$name.cold
+  java -classpath $LIBJARS com.caucho.quercus.CliQuercus -d register_argc_argv=1 --parse-cache $WORK $DRIVER `pwd`/$i $args 2>&1 | grep -v "^// generated by" > $OUT/$name.warm
+  if diff $OUT/$name.cold $OUT/$name.warm > $OUT/$name.diff
+  then
+    echo "ok   $i"
+  else
+    echo "FAIL $i (see $OUT/$name.diff)"
+    status=1
+  fi
+done
+exit $status
@@ -0,0 +1,71 @@
+<?
+/*
+ * Sort regression checks: key lookups, appends and unsets after every
+ * sort function, on small arrays (unhashed) and larger ones (hashed).
+ * Prints one line per failing case and "ok" when all pass.
+ *
+ * usage: java -classpath ../lib/quercus.jar:../lib/javaee-16.jar \
+ *          com.caucho.quercus.CliQuercus check_sort.php
+ */
+
+$failures = 0;
+
+function check($label, $got, $expected) {
+	global $failures;
+	if ($got !== $expected) {
+		echo "FAIL $label: got $got, expected $expected\n";
+		$failures++;
+	}
+}
+
+function cmp($x, $y) {
+	return $x == $y ? 0 : ($x < $y ? -1 : 1);
+}
+
+$a = array('b' => 2, 'a' => 1); asort($a);
+check('asort isset', json_encode(isset($a['b']) && isset($a['a'])), 'true');
+
+$a = array('a' => 1, 'b' => 2); arsort($a);
+check('arsort lookup', json_encode(array($a['a'], $a['b'])), '[1,2]');
+
+$a = array('b' => 1, 'a' => 2, 'c' => 3); ksort($a);
+check('ksort lookup', json_encode(array($a['a'], $a['b'], $a['c'])), '[2,1,3]');
+
+$a = array(5, 6, 7); krsort($a); $a[1] = 'x';
+check('krsort assign', json_encode($a) . ' ' . count($a), '{"2":7,"1":"x","0":5} 3');
+
+$a = array(5, 6, 7); krsort($a); unset($a[1]);
+check('krsort unset', json_encode($a) . ' ' . count($a), '{"2":7,"0":5} 2');
+
+$a = array('x' => 3, 'y' => 1, 'z' => 2); uasort($a, 'cmp'); $a['x'] = 0;
+check('uasort assign', json_encode($a), '{"y":1,"z":2,"x":0}');
+
+$a = array('b' => 1, 'c' => 2, 'a' => 3); uksort($a, 'cmp'); unset($a['c']);
+check('uksort unset', json_encode($a) . ' ' . count($a), '{"a":3,"b":1} 2');
+
+$a = array(3 => 'c', 1 => 'a', 2 => 'b'); ksort($a); $a[] = 'd';
+check('ksort append', json_encode($a), '{"1":"a","2":"b","3":"c","4":"d"}');
+
+$a = array(1, 2, 3); next($a); next($a); ksort($a);
+check('ksort pointer', current($a) . key($a), '10');
+
+$a = array(1, 2, 3); next($a); next($a); ksort($a, SORT_NUMERIC);
+check('ksort numeric pointer', current($a) . key($a), '10');
+
+$a = array(3, 1, 2); next($a); sort($a);
+check('sort pointer', current($a) . key($a), '10');
+
+for ($n = 1; $n <= 6; $n++) {
+	$a = array();
+	for ($i = 0; $i < $n; $i++)
+		$a['k' . $i] = $n - $i;
+	asort($a);
+	$found = 0;
+	for ($i = 0; $i < $n; $i++)
+		$found += isset($a['k' . $i]) ? 1 : 0;
+	unset($a['k0']);
+	$a['k0'] = 0;
+	check("asort $n", $found . ' ' . count($a) . ' ' . key(array_slice($a, -1, 1, true)), "$n $n k0");
+}
+
+echo $failures ? "$failures failed\n" : "ok\n";
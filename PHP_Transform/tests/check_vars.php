@@ -0,0 +1,37 @@
+<?
+/*
+ * Local variable checks: get_defined_vars, compact, extract and variable
+ * variables inside functions, whose names are interned when the script
+ * is parsed.  check_parse_cache.sh runs it again loaded from the cache.
+ *
+ * usage: java -classpath ../lib/quercus.jar:../lib/javaee-16.jar \
+ *          com.caucho.quercus.CliQuercus check_vars.php
+ */
+
+function defined_vars($x) {
+	$a = 1;
+	$b = "two";
+	$c = array($a, $b);
+	$vars = get_defined_vars();
+	// Quercus also lists the environment-dependent $_SERVER and $argv
+	unset($vars['_SERVER'], $vars['argv']);
+	return json_encode($vars);
+}
+
+function compact_extract() {
+	$name = "n";
+	$count = 3;
+	extract(array('extra' => 4, 'count' => 5));
+	return json_encode(compact('name', 'count', 'extra'));
+}
+
+function variable_variables() {
+	$key = "value";
+	$value = 10;
+	$$key += 5;
+	return $value . " " . ${'key'};
+}
+
+echo defined_vars(0), "\n";
+echo compact_extract(), "\n";
+echo variable_variables(), "\n";
@@ -0,0 +1,94 @@
+<?
+/*
+ * PDO fetch checks: FETCH_ASSOC, FETCH_BOTH and FETCH_NUM rows hold the
+ * right keys and values, the rows of one result share their keys, and
+ * changing a row leaves the next rows alone.  Needs the database of
+ * check_db.scala.  Prints one line per failing case and "ok" when all pass.
+ *
+ * usage: check_db.sh
+ */
+
+$failures = 0;
+
+function check($label, $got, $expected) {
+	global $failures;
+	if ($got !== $expected) {
+		echo "FAIL $label: got $got, expected $expected\n";
+		$failures++;
+	}
+}
+
+function rows($pdo, $mode, $sql = "SELECT id, name FROM fetch_rows ORDER BY id") {
+	$s = $pdo->query($sql);
+	$rows = array();
+	while ($row = $s->fetch($mode))
+		$rows[] = $row;
+	return $rows;
+}
+
+$check = java_class("check_db");
+
+$pdo = new PDO("mysql:host=localhost;dbname=test", "test", "");
+@$pdo->exec("DROP TABLE fetch_rows");
+$pdo->exec("CREATE TABLE fetch_rows (id INTEGER, name VARCHAR(32))");
+for ($i = 0; $i < 5; $i++)
+	$pdo->exec("INSERT INTO fetch_rows VALUES ($i, 'row$i')");
+
+$rows = rows($pdo, PDO::FETCH_ASSOC);
+check('assoc rows', count($rows), 5);
+check('assoc keys', json_encode(array_keys($rows[3])), '["id","name"]');
+check('assoc values', $rows[3]['id'] . ' ' . $rows[3]['name'], '3 row3');
+check('assoc shared shape', $check->sameShape($rows[0], $rows[4]), true);
+
+$rows = rows($pdo, PDO::FETCH_BOTH);
+check('both keys', json_encode(array_keys($rows[2])), '["id",0,"name",1]');
+check('both values', implode(' ', $rows[2]), '2 2 row2 row2');
+check('both lookups', $rows[2][0] . $rows[2]['id'] . $rows[2][1] . $rows[2]['name'], '22row2row2');
+check('both shared shape', $check->sameShape($rows[0], $rows[4]), true);
+
+$rows = rows($pdo, PDO::FETCH_NUM);
+check('num keys', json_encode(array_keys($rows[1])), '[0,1]');
+check('num values', $rows[1][0] . ' ' . $rows[1][1], '1 row1');
+$rows[1][] = 'appended';
+check('num append', json_encode($rows[1]), '["1","row1","appended"]');
+
+// the default mode is FETCH_BOTH, and foreach goes through it
+$s = $pdo->query("SELECT id, name FROM fetch_rows ORDER BY id");
+$ids = '';
+foreach ($s as $row)
+	$ids .= $row['id'] . $row[0];
+check('foreach both', $ids, '0011223344');
+
+$rows = $pdo->query("SELECT id, name FROM fetch_rows ORDER BY id")->fetchAll(PDO::FETCH_ASSOC);
+check('fetchAll assoc', count($rows) . ' ' . $rows[4]['name'], '5 row4');
+check('fetchAll shared shape', $check->sameShape($rows[0], $rows[4]), true);
+
+// a changed row has its own keys, and the rows after it keep the shared ones
+$s = $pdo->query("SELECT id, name FROM fetch_rows ORDER BY id");
+$first = $s->fetch(PDO::FETCH_ASSOC);
+$first['extra'] = 'x';
+unset($first['id']);
+$first['name'] .= '!';
+$second = $s->fetch(PDO::FETCH_ASSOC);
+$third = $s->fetch(PDO::FETCH_ASSOC);
+check('changed row', json_encode($first), '{"name":"row0!","extra":"x"}');
+check('next row', json_encode($second), '{"id":"1","name":"row1"}');
+check('next rows shared shape', $check->sameShape($second, $third), true);
+
+$copy = $third;
+$copy['name'] = 'copy';
+check('copied row', $third['name'] . ' ' . $copy['name'], 'row2 copy');
+
+// repeated column names take the last value, as before
+$rows = rows($pdo, PDO::FETCH_ASSOC, "SELECT id, name, id FROM fetch_rows ORDER BY id");
+check('repeated names', json_encode($rows[1]), '{"id":"1","name":"row1"}');
+
+// a second result of the statement gets keys for its own columns
+$s = $pdo->prepare("SELECT name FROM fetch_rows WHERE id = ?");
+$s->execute(array(1));
+$a = $s->fetch(PDO::FETCH_ASSOC);
+$s->execute(array(2));
+$b = $s->fetch(PDO::FETCH_NUM);
+check('re-execute', json_encode($a) . json_encode($b), '{"name":"row1"}["row2"]');
+
+echo $failures ? "$failures failed\n" : "ok\n";
@@ -0,0 +1,106 @@
+<?
+/*
+ * Prepared statement cache checks: a prepare of the same query reuses the
+ * statement once its last result is closed, a statement with an open
+ * result is not shared, a statement whose cached copy was taken prepares
+ * again on execute, and the cache size belongs to the QuercusContext.
+ * Needs the database of check_db.scala.  Prints one line per failing case
+ * and "ok" when all pass.
+ *
+ * usage: check_db.sh
+ */
+
+$failures = 0;
+
+function check($label, $got, $expected) {
+	global $failures;
+	if ($got !== $expected) {
+		echo "FAIL $label: got $got, expected $expected\n";
+		$failures++;
+	}
+}
+
+$check = java_class("check_db");
+$last = array(0, 0);
+
+// cache hits and misses since the last call
+function counts() {
+	global $check, $last;
+	list($size, $hits, $misses) = explode(' ', $check->statementCache());
+	$counts = ($hits - $last[0]) . ' ' . ($misses - $last[1]);
+	$last = array($hits, $misses);
+	return $counts;
+}
+
+function ids($s) {
+	$ids = '';
+	while ($row = $s->fetch(PDO::FETCH_NUM))
+		$ids .= $row[0];
+	return $ids;
+}
+
+$pdo = new PDO("mysql:host=localhost;dbname=test", "test", "");
+@$pdo->exec("DROP TABLE cache_rows");
+$pdo->exec("CREATE TABLE cache_rows (id INTEGER, name VARCHAR(32))");
+for ($i = 0; $i < 5; $i++)
+	$pdo->exec("INSERT INTO cache_rows VALUES ($i, 'row$i')");
+
+$query = "SELECT id FROM cache_rows WHERE id >= ? ORDER BY id";
+counts();
+
+$a = $pdo->prepare($query);
+check('first prepare', counts(), '0 1');
+$a->execute(array(3));
+check('first rows', ids($a), '34');
+$a->closeCursor();
+
+$b = $pdo->prepare($query);
+check('prepare after closeCursor', counts(), '1 0');
+$b->execute(array(1));
+check('reused rows', ids($b), '1234');
+
+// a result read to the end still holds the statement: closing it later
+// must not close the rows of another owner
+$c = $pdo->prepare($query);
+check('prepare while a result is open', counts(), '0 1');
+$c->execute(array(2));
+$first = $c->fetch(PDO::FETCH_NUM);
+$b->closeCursor();
+check('rows after the other cursor closes', $first[0] . ids($c), '234');
+$c->closeCursor();
+
+// $b holds the cached statement now, so $a prepares again on execute
+$b->execute(array(0));
+$first = $b->fetch(PDO::FETCH_NUM);
+$a->execute(array(4));
+check('execute after the statement was taken', counts(), '0 1');
+check('re-prepared rows', ids($a), '4');
+check('rows of the new owner', $first[0] . ids($b), '01234');
+$a->closeCursor();
+$b->closeCursor();
+
+$m = new mysqli("localhost", "test", "", "test");
+$s = $m->prepare($query);
+$s->close();
+$s = $m->prepare($query);
+check('mysqli prepare after close', counts(), '1 1');
+$s->close();
+
+// the size is the context's, and connections opened before a change keep theirs
+$check->setStatementCacheSize(1);
+$small = new PDO("mysql:host=localhost;dbname=test", "test", "");
+$small->prepare("SELECT id FROM cache_rows WHERE id = ?");
+$small->prepare("SELECT name FROM cache_rows WHERE id = ?");
+$small->prepare("SELECT id FROM cache_rows WHERE id = ?");
+check('size 1', counts(), '0 3');
+
+$pdo->prepare("SELECT id FROM cache_rows WHERE id = ?");
+$pdo->prepare("SELECT name FROM cache_rows WHERE id = ?");
+$pdo->prepare("SELECT id FROM cache_rows WHERE id = ?");
+check('size 64 connection', counts(), '1 2');
+
+list($size) = explode(' ', $check->statementCache());
+check('context size', $size, '1');
+check('new context', $check->newContextStatementCache(), '64 0 0');
+
+echo $failures ? "$failures failed\n" : "ok\n";
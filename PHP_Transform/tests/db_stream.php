@@ -0,0 +1,100 @@
+<?
+/*
+ * Unbuffered query checks: mysql_unbuffered_query(), MYSQLI_USE_RESULT and
+ * PDO without MYSQL_ATTR_USE_BUFFERED_QUERY return every row of a result
+ * many times larger than the fetch size, count the rows fetched so far and
+ * refuse to seek, while queries without a result mode stay buffered.
+ * Needs the database of check_db.scala, whose fetch size used to cut the
+ * result short.  Prints one line per failing case and "ok" when all pass.
+ *
+ * usage: check_db.sh
+ */
+
+$failures = 0;
+
+function check($label, $got, $expected) {
+	global $failures;
+	if ($got !== $expected) {
+		echo "FAIL $label: got $got, expected $expected\n";
+		$failures++;
+	}
+}
+
+$warnings = '';
+
+function warning($level, $message) {
+	global $warnings;
+	$warnings .= "$message\n";
+	return true;
+}
+
+$rows = 250;
+$fetchSize = 10;
+$expected = $rows . ' ' . ($rows * ($rows - 1) / 2);
+
+$link = mysql_connect("localhost", "test", "");
+@mysql_query("DROP TABLE stream_rows");
+mysql_query("CREATE TABLE stream_rows (id INTEGER, name VARCHAR(32))");
+for ($i = 0; $i < $rows; $i++)
+	mysql_query("INSERT INTO stream_rows VALUES ($i, 'row$i')");
+
+ini_set("mysql.unbuffered_fetch_size", $fetchSize);
+
+$r = mysql_unbuffered_query("SELECT id, name FROM stream_rows");
+$n = 0;
+$sum = 0;
+while ($row = mysql_fetch_row($r)) {
+	$n++;
+	$sum += $row[0];
+	if ($n == $fetchSize + 5)
+		check('mysql num_rows while fetching', mysql_num_rows($r), $fetchSize + 5);
+}
+check('mysql rows', "$n $sum", $expected);
+check('mysql seek', @mysql_data_seek($r, 0), false);
+
+$mysqli = new mysqli("localhost", "test", "", "test");
+
+$r = $mysqli->query("SELECT id, name FROM stream_rows", MYSQLI_USE_RESULT);
+$n = 0;
+$sum = 0;
+while ($row = $r->fetch_row()) {
+	$n++;
+	$sum += $row[0];
+	if ($n == $fetchSize + 5)
+		check('mysqli num_rows while fetching', mysqli_num_rows($r), $fetchSize + 5);
+}
+check('mysqli rows', "$n $sum", $expected);
+check('mysqli seek', @$r->data_seek(0), false);
+
+$r = mysqli_query($mysqli, "SELECT id FROM stream_rows", MYSQLI_USE_RESULT);
+$n = 0;
+while (mysqli_fetch_row($r))
+	$n++;
+check('mysqli_query rows', $n, $rows);
+
+// without a result mode the query is buffered, so a seek is not refused
+// for an unbuffered result
+set_error_handler('warning');
+$mysqli->query("SELECT id FROM stream_rows")->data_seek(1);
+mysqli_data_seek(mysqli_query($mysqli, "SELECT id FROM stream_rows"), 1);
+restore_error_handler();
+check('mysqli default buffered', strpos($warnings, 'unbuffered result'), false);
+
+$pdo = new PDO("mysql:host=localhost;dbname=test", "test", "");
+$pdo->setAttribute(PDO::MYSQL_ATTR_USE_BUFFERED_QUERY, false);
+$pdo->setAttribute(PDO::ATTR_PREFETCH, $fetchSize);
+
+$s = $pdo->query("SELECT id, name FROM stream_rows");
+$n = 0;
+$sum = 0;
+while ($row = $s->fetch(PDO::FETCH_NUM)) {
+	$n++;
+	$sum += $row[0];
+}
+check('pdo rows', "$n $sum", $expected);
+
+$s = $pdo->prepare("SELECT id FROM stream_rows WHERE id >= ?");
+$s->execute(array(100));
+check('pdo prepared rows', count($s->fetchAll()), $rows - 100);
+
+echo $failures ? "$failures failed\n" : "ok\n";
@@ -0,0 +1,12 @@
+#!/bin/sh
+# hot spot profile of a PHP script run under Quercus, to pick what to convert first
+# usage: sh profile.sh script.php [sample-ms]
+# without sample-ms every call is timed; with it the call stack is sampled
+LIBJARS=../lib/quercus.jar:../lib/javaee-16.jar
+if [ -n "$2" ]
+then
+  FLAGS="--profile-sample $2"
+else
+  FLAGS=--profile
+fi
+java -server -classpath $LIBJARS com.caucho.quercus.CliQuercus $FLAGS $1 > /dev/null
@@ -0,0 +1,532 @@
+/*
+ * Copyright (c) 1998-2010 Caucho Technology -- all rights reserved
+ *
+ * This file is part of Resin(R) Open Source
+ *
+ * Each copy or derived work must preserve the copyright notice and this
+ * notice unmodified.
+ *
+ * Resin Open Source is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Resin Open Source is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE, or any warranty
+ * of NON-INFRINGEMENT.  See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Resin Open Source; if not, write to the
+ *
+ *   Free Software Foundation, Inc.
+ *   59 Temple Place, Suite 330
+ *   Boston, MA 02111-1307  USA
+ *
+ */
+
+package com.caucho.util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fixed length cache with the same API as LruCache, for lookups shared
+ * by many threads.  If cache items implement CacheListener, they will be
+ * informed when they're removed from the cache.
+ *
+ * <p>Reads don't lock: a hit only marks the item as referenced.  Items
+ * are also kept in segmented CLOCK rings, and a put locks only its
+ * segment, evicting the first unreferenced item after the hand.  The
+ * replacement is an approximate LRU.
+ *
+ * <p>Null keys and values are not allowed.
+ */
+public final class ConcurrentLruCache<K,V> {
+  // segments have at least this many slots
+  private static final int MIN_SEGMENT_SIZE = 32;
+  private static final int MAX_SEGMENTS = 16;
+
+  private final int _capacity;
+
+  private final ConcurrentHashMap<K,Item<K,V>> _map;
+
+  private final Segment<K,V> []_segments;
+  private final int _segmentMask;
+
+  private boolean _isEnableListeners = true;
+
+  private final boolean _isEnableStatistics;
+  private final AtomicLong _hitCount = new AtomicLong();
+  private final AtomicLong _missCount = new AtomicLong();
+
+  /**
+   * Create the cache with a specific capacity.
+   *
+   * @param initialCapacity minimum capacity of the cache
+   */
+  public ConcurrentLruCache(int initialCapacity)
+  {
+    this(initialCapacity, false);
+  }
+
+  /**
+   * Create the cache with a specific capacity.
+   *
+   * @param initialCapacity minimum capacity of the cache
+   */
+  public ConcurrentLruCache(int initialCapacity, boolean isStatistics)
+  {
+    _capacity = Math.max(initialCapacity, 1);
+
+    int segmentCount = 1;
+
+    while (segmentCount < MAX_SEGMENTS
+           && 2 * segmentCount * MIN_SEGMENT_SIZE <= _capacity) {
+      segmentCount *= 2;
+    }
+
+    int segmentSize = (_capacity + segmentCount - 1) / segmentCount;
+
+    // generic arrays can't be created, but only Segment<K,V> goes in
+    @SuppressWarnings("unchecked")
+    Segment<K,V> []segments = new Segment[segmentCount];
+
+    for (int i = 0; i < segmentCount; i++)
+      segments[i] = new Segment<K,V>(segmentSize);
+
+    _segments = segments;
+    _segmentMask = segmentCount - 1;
+
+    _map = new ConcurrentHashMap<K,Item<K,V>>(2 * _capacity, 0.75f,
+                                              segmentCount);
+
+    _isEnableStatistics = isStatistics;
+  }
+
+  /**
+   * Disable the listeners
+   */
+  public void setEnableListeners(boolean isEnable)
+  {
+    _isEnableListeners = isEnable;
+  }
+
+  /**
+   * Returns the current number of entries in the cache.
+   */
+  public int size()
+  {
+    return _map.size();
+  }
+
+  /**
+   * Returns the capacity.
+   */
+  public int getCapacity()
+  {
+    return _capacity;
+  }
+
+  /**
+   * Clears the cache
+   */
+  public void clear()
+  {
+    ArrayList<V> removed = new ArrayList<V>();
+
+    for (Segment<K,V> segment : _segments) {
+      synchronized (segment) {
+        segment.clear();
+      }
+    }
+
+    for (Item<K,V> item : _map.values()) {
+      if (_map.remove(item._key, item))
+        removed.add(item._value);
+    }
+
+    for (int i = 0; i < removed.size(); i++)
+      removeEvent(removed.get(i));
+  }
+
+  /**
+   * Get an item from the cache and make it most recently used.
+   *
+   * @param key key to lookup the item
+   * @return the matching object in the cache
+   */
+  public V get(K key)
+  {
+    Item<K,V> item = _map.get(key);
+
+    if (item != null) {
+      // only write when the bit changes, to keep hits from sharing a line
+      if (! item._isReferenced)
+        item._isReferenced = true;
+
+      if (_isEnableStatistics)
+        _hitCount.incrementAndGet();
+
+      return item._value;
+    }
+
+    if (_isEnableStatistics)
+      _missCount.incrementAndGet();
+
+    return null;
+  }
+
+  /**
+   * Puts a new item in the cache.  If the cache is full, remove an
+   * unreferenced item.
+   *
+   * @param key key to store data
+   * @param value value to be stored
+   *
+   * @return old value stored under the key
+   */
+  public V put(K key, V value)
+  {
+    Item<K,V> item = new Item<K,V>(key, value);
+
+    Item<K,V> oldItem = _map.put(key, item);
+
+    Segment<K,V> segment = getSegment(key);
+
+    Item<K,V> evicted;
+
+    synchronized (segment) {
+      if (oldItem != null && segment.replace(oldItem, item))
+        evicted = null;
+      else
+        evicted = segment.insert(item);
+    }
+
+    if (evicted != null)
+      evict(evicted);
+
+    if (oldItem == null)
+      return null;
+
+    if (oldItem._value != value)
+      removeEvent(oldItem._value);
+
+    return oldItem._value;
+  }
+
+  /**
+   * Puts a new item in the cache if there's no item for the key.
+   *
+   * @param key the key
+   * @param value the new value
+   *
+   * @return the value in the cache after the put
+   */
+  public V putIfNew(K key, V value)
+  {
+    Item<K,V> item = new Item<K,V>(key, value);
+
+    Item<K,V> oldItem = _map.putIfAbsent(key, item);
+
+    if (oldItem != null) {
+      oldItem._isReferenced = true;
+
+      return oldItem._value;
+    }
+
+    Segment<K,V> segment = getSegment(key);
+
+    Item<K,V> evicted;
+
+    synchronized (segment) {
+      evicted = segment.insert(item);
+    }
+
+    if (evicted != null)
+      evict(evicted);
+
+    return value;
+  }
+
+  /**
+   * Removes an item from the cache
+   *
+   * @param key the key to remove
+   *
+   * @return the value removed
+   */
+  public V remove(K key)
+  {
+    Item<K,V> item = _map.remove(key);
+
+    if (item == null)
+      return null;
+
+    Segment<K,V> segment = getSegment(key);
+
+    synchronized (segment) {
+      segment.remove(item);
+    }
+
+    removeEvent(item._value);
+
+    return item._value;
+  }
+
+  /**
+   * Returns the keys stored in the cache
+   */
+  public Iterator<K> keys()
+  {
+    return _map.keySet().iterator();
+  }
+
+  /**
+   * Returns keys stored in the cache.  The old iterator isn't reused.
+   */
+  public Iterator<K> keys(Iterator<K> oldIter)
+  {
+    return keys();
+  }
+
+  /**
+   * Returns the values in the cache
+   */
+  public Iterator<V> values()
+  {
+    return new ValueIterator<K,V>(_map.values().iterator());
+  }
+
+  public Iterator<V> values(Iterator<V> oldIter)
+  {
+    return values();
+  }
+
+  /**
+   * Returns the entries
+   */
+  public Iterator<LruCache.Entry<K,V>> iterator()
+  {
+    return new EntryIterator<K,V>(_map.values().iterator());
+  }
+
+  /**
+   * Returns the hit count.
+   */
+  public long getHitCount()
+  {
+    return _hitCount.get();
+  }
+
+  /**
+   * Returns the miss count.
+   */
+  public long getMissCount()
+  {
+    return _missCount.get();
+  }
+
+  private Segment<K,V> getSegment(Object key)
+  {
+    int hash = key.hashCode();
+
+    hash ^= hash >>> 16;
+
+    return _segments[hash & _segmentMask];
+  }
+
+  /**
+   * Removes an item the clock chose, unless it was replaced or removed
+   * in the meantime.
+   */
+  private void evict(Item<K,V> item)
+  {
+    if (! _map.remove(item._key, item))
+      return;
+
+    V value = item._value;
+
+    if (_isEnableListeners && value instanceof LruListener)
+      ((LruListener) value).lruEvent();
+
+    removeEvent(value);
+  }
+
+  private void removeEvent(V value)
+  {
+    if (! _isEnableListeners)
+      return;
+
+    if (value instanceof SyncCacheListener)
+      ((SyncCacheListener) value).syncRemoveEvent();
+
+    if (value instanceof CacheListener)
+      ((CacheListener) value).removeEvent();
+  }
+
+  /**
+   * A cache item
+   */
+  static final class Item<K,V> implements LruCache.Entry<K,V> {
+    final K _key;
+    final V _value;
+
+    volatile boolean _isReferenced;
+
+    // slot in the segment's ring, guarded by the segment
+    int _slot = -1;
+
+    Item(K key, V value)
+    {
+      _key = key;
+      _value = value;
+    }
+
+    public K getKey()
+    {
+      return _key;
+    }
+
+    public V getValue()
+    {
+      return _value;
+    }
+  }
+
+  /**
+   * One CLOCK ring.  All methods are called while synchronized on the
+   * segment.
+   */
+  static final class Segment<K,V> {
+    private final Item<K,V> []_ring;
+    private int _hand;
+
+    Segment(int size)
+    {
+      // as for the segments, only Item<K,V> goes in
+      @SuppressWarnings("unchecked")
+      Item<K,V> []ring = new Item[size];
+
+      _ring = ring;
+    }
+
+    /**
+     * Puts the item in its old item's slot, returning false if the old
+     * item was already evicted.
+     */
+    boolean replace(Item<K,V> oldItem, Item<K,V> item)
+    {
+      int slot = oldItem._slot;
+
+      if (slot < 0 || _ring[slot] != oldItem)
+        return false;
+
+      _ring[slot] = item;
+      item._slot = slot;
+      oldItem._slot = -1;
+
+      return true;
+    }
+
+    /**
+     * Adds the item, returning the unreferenced item it replaced.
+     */
+    Item<K,V> insert(Item<K,V> item)
+    {
+      Item<K,V> []ring = _ring;
+
+      while (true) {
+        Item<K,V> oldItem = ring[_hand];
+
+        if (oldItem != null && oldItem._isReferenced)
+          oldItem._isReferenced = false;
+        else {
+          if (oldItem != null)
+            oldItem._slot = -1;
+
+          ring[_hand] = item;
+          item._slot = _hand;
+
+          _hand = (_hand + 1) % ring.length;
+
+          return oldItem;
+        }
+
+        _hand = (_hand + 1) % ring.length;
+      }
+    }
+
+    void remove(Item<K,V> item)
+    {
+      int slot = item._slot;
+
+      if (slot >= 0 && _ring[slot] == item) {
+        _ring[slot] = null;
+        item._slot = -1;
+      }
+    }
+
+    void clear()
+    {
+      for (int i = 0; i < _ring.length; i++) {
+        if (_ring[i] != null) {
+          _ring[i]._slot = -1;
+          _ring[i] = null;
+        }
+      }
+    }
+  }
+
+  static final class ValueIterator<K,V> implements Iterator<V> {
+    private final Iterator<Item<K,V>> _iter;
+
+    ValueIterator(Iterator<Item<K,V>> iter)
+    {
+      _iter = iter;
+    }
+
+    public boolean hasNext()
+    {
+      return _iter.hasNext();
+    }
+
+    public V next()
+    {
+      return _iter.next()._value;
+    }
+
+    public void remove()
+    {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  static final class EntryIterator<K,V>
+    implements Iterator<LruCache.Entry<K,V>> {
+    private final Iterator<Item<K,V>> _iter;
+
+    EntryIterator(Iterator<Item<K,V>> iter)
+    {
+      _iter = iter;
+    }
+
+    public boolean hasNext()
+    {
+      return _iter.hasNext();
+    }
+
+    public LruCache.Entry<K,V> next()
+    {
+      return _iter.next();
+    }
+
+    public void remove()
+    {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
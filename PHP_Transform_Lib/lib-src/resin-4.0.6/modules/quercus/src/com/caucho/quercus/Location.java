@@ -31,7 +31,7 @@ package com.caucho.quercus;
 /**
  * Records the source file location of a statement or expression.
  */
-public class Location {
+public class Location implements java.io.Serializable {
   public static final Location UNKNOWN = new Location();
 
   private final String _fileName;
@@ -93,6 +93,18 @@ public class Location {
     return _fileName == null || _lineNumber <= 0; 
   }
 
+  /**
+   * Keeps UNKNOWN a singleton for a deserialized program.
+   */
+  private Object readResolve()
+  {
+    if (_fileName == null && _lineNumber == 0
+        && _className == null && _functionName == null)
+      return UNKNOWN;
+    else
+      return this;
+  }
+
   public String toString()
   {
     return "Location[" + _fileName + ":" + _lineNumber + "]";
@@ -38,6 +38,7 @@ import com.caucho.quercus.page.QuercusPage;
 import com.caucho.vfs.Path;
 import com.caucho.vfs.StdoutStream;
 import com.caucho.vfs.StringPath;
+import com.caucho.vfs.Vfs;
 import com.caucho.vfs.WriteStream;
 
 public class Quercus
@@ -83,6 +84,11 @@ public class Quercus
     System.out.println("usage: com.caucho.quercus.Quercus [flags] <file> [php-args]");
     System.out.println(" -f            : Explicitly set the script filename.");
     System.out.println(" -d name=value : Sets a php ini value.");
+    System.out.println(" --compile     : Compiles the script and hot functions to Java.");
+    System.out.println(" --compile-threshold n : Calls before a function is compiled.");
+    System.out.println(" --parse-cache dir : Saves parsed scripts in dir for later runs.");
+    System.out.println(" --profile     : Prints a hot spot profile to stderr.");
+    System.out.println(" --profile-sample ms : Profiles by sampling every ms milliseconds.");
   }
 
   /**
@@ -107,6 +113,7 @@ public class Quercus
   protected boolean parseArgs(String []args)
   {
     ArrayList<String> phpArgList = new ArrayList<String>();
+    boolean isWorkDir = false;
 
     int i = 0;
     for (; i < args.length; i++) {
@@ -136,6 +143,26 @@ public class Quercus
       else if ("-n".equals(args[i])) {
         // no php-pip
       }
+      else if ("--compile".equals(args[i])) {
+        setCompile(true);
+      }
+      else if ("--compile-threshold".equals(args[i])) {
+        setFunctionCompileThreshold(Integer.parseInt(args[++i]));
+      }
+      else if ("--parse-cache".equals(args[i])) {
+        setWorkDir(getPwd().lookup(args[++i]));
+        setParseCache(true);
+        isWorkDir = true;
+      }
+      else if ("--profile".equals(args[i])) {
+        setProfileProbability(1.0);
+        setProfileReportPath(Vfs.lookup("stderr:"));
+      }
+      else if ("--profile-sample".equals(args[i])) {
+        setProfileProbability(1.0);
+        setProfileSampleInterval(Long.parseLong(args[++i]));
+        setProfileReportPath(Vfs.lookup("stderr:"));
+      }
       else if ("--".equals(args[i])) {
         break;
       }
@@ -155,6 +182,11 @@ public class Quercus
       phpArgList.add(args[i]);
     }
 
+    // the compiler's scratch directories go in the temp directory rather
+    // than in a WEB-INF/work under the current directory
+    if (isCompile() && ! isWorkDir)
+      setWorkDir(Vfs.lookupNative(System.getProperty("java.io.tmpdir")));
+
     _args = phpArgList.toArray(new String[phpArgList.size()]);
 
     if (_fileName == null && _args.length > 0)
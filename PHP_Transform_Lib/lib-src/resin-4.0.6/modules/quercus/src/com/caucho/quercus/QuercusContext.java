@@ -37,15 +37,20 @@ import com.caucho.quercus.annotation.ClassImplementation;
 import com.caucho.quercus.env.*;
 import com.caucho.quercus.expr.ExprFactory;
 import com.caucho.quercus.function.AbstractFunction;
+import com.caucho.quercus.lib.VariableModule;
 import com.caucho.quercus.lib.db.JavaSqlDriverWrapper;
 import com.caucho.quercus.lib.file.FileModule;
 import com.caucho.quercus.lib.regexp.RegexpModule;
 import com.caucho.quercus.lib.session.QuercusSessionManager;
+import com.caucho.quercus.lib.string.StringModule;
 import com.caucho.quercus.module.*;
 import com.caucho.quercus.page.InterpretedPage;
 import com.caucho.quercus.page.PageManager;
 import com.caucho.quercus.page.QuercusPage;
 import com.caucho.quercus.parser.QuercusParser;
+import com.caucho.quercus.profile.ProfileReport;
+import com.caucho.quercus.profile.ProfileSampler;
+import com.caucho.quercus.profile.ProfileStore;
 import com.caucho.quercus.program.*;
 import com.caucho.util.*;
 import com.caucho.vfs.*;
@@ -58,6 +63,8 @@ import java.io.IOException;
 import java.sql.Connection;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -79,13 +86,24 @@ public class QuercusContext implements AlarmListener
 
   private final ClassLoader _loader;
 
+  private double _profileProbability;
+  private long _profileSampleInterval;
+  private ProfileSampler _profileSampler;
+  private Path _profileReportPath;
+
+  private volatile int _preparedStatementCacheSize = 64;
+  private final AtomicLong _preparedStatementCacheHitCount = new AtomicLong();
+  private final AtomicLong _preparedStatementCacheMissCount
+    = new AtomicLong();
+
   private ModuleContext _moduleContext;
+  private boolean _isLazyModules;
 
-  private static LruCache<String, UnicodeBuilderValue> _unicodeMap
-    = new LruCache<String, UnicodeBuilderValue>(8 * 1024);
+  private static ConcurrentLruCache<String, UnicodeBuilderValue> _unicodeMap
+    = new ConcurrentLruCache<String, UnicodeBuilderValue>(8 * 1024);
 
-  private static LruCache<String, StringValue> _stringMap
-    = new LruCache<String, StringValue>(8 * 1024);
+  private static ConcurrentLruCache<String, StringValue> _stringMap
+    = new ConcurrentLruCache<String, StringValue>(8 * 1024);
 
   private HashMap<String, ModuleInfo> _modules
     = new HashMap<String, ModuleInfo>();
@@ -142,8 +160,8 @@ public class QuercusContext implements AlarmListener
 
   private AbstractFunction []_functionMap = new AbstractFunction[256];
 
-  private LruCache<String, QuercusProgram> _evalCache
-    = new LruCache<String, QuercusProgram>(4096);
+  private ConcurrentLruCache<String, QuercusProgram> _evalCache
+    = new ConcurrentLruCache<String, QuercusProgram>(4096);
 
   private int _includeCacheMax = 8192;
   private long _includeCacheTimeout = 10000L;
@@ -200,6 +218,20 @@ public class QuercusContext implements AlarmListener
    */
   public QuercusContext()
   {
+    this(false);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param isLazyModules if true, modules and Java class services are
+   * introspected on first use instead of at startup.  init() still loads
+   * every module, since the interpreter needs the full function table.
+   */
+  public QuercusContext(boolean isLazyModules)
+  {
+    _isLazyModules = isLazyModules;
+
     _loader = Thread.currentThread().getContextClassLoader();
 
     _moduleContext = getLocalContext();
@@ -296,9 +328,12 @@ public class QuercusContext implements AlarmListener
     return "apache";
   }
 
+  /**
+   * Returns true if requests are profiled.
+   */
   public boolean isProfile()
   {
-    return false;
+    return _profileProbability > 0;
   }
 
   public int getProfileIndex(String name)
@@ -306,8 +341,85 @@ public class QuercusContext implements AlarmListener
     return -1;
   }
 
+  /**
+   * Sets the fraction of requests to profile, 1.0 for every request.
+   */
   public void setProfileProbability(double probability)
   {
+    _profileProbability = probability;
+  }
+
+  public double getProfileProbability()
+  {
+    return _profileProbability;
+  }
+
+  /**
+   * Sets the sampling interval.  With an interval, a timer thread samples
+   * the profiled requests' call stacks instead of timing every call.
+   */
+  public void setProfileSampleInterval(long intervalMillis)
+  {
+    _profileSampleInterval = intervalMillis;
+  }
+
+  public long getProfileSampleInterval()
+  {
+    return _profileSampleInterval;
+  }
+
+  /**
+   * Returns the sampler, or null if calls are timed.
+   */
+  public synchronized ProfileSampler getProfileSampler()
+  {
+    if (_profileSampleInterval <= 0)
+      return null;
+
+    if (_profileSampler == null)
+      _profileSampler = new ProfileSampler(_profileSampleInterval);
+
+    return _profileSampler;
+  }
+
+  /**
+   * Sets the path where each profile's hot spot report is appended.
+   */
+  public void setProfileReportPath(Path path)
+  {
+    _profileReportPath = path;
+  }
+
+  public Path getProfileReportPath()
+  {
+    return _profileReportPath;
+  }
+
+  /**
+   * Saves a completed request profile.
+   */
+  public void addProfileReport(ProfileReport report)
+  {
+    ProfileStore.addReport(report);
+
+    Path path = _profileReportPath;
+
+    if (path == null)
+      return;
+
+    try {
+      synchronized (path) {
+        WriteStream out = path.openAppend();
+
+        try {
+          report.printHotSpotReport(out);
+        } finally {
+          out.close();
+        }
+      }
+    } catch (IOException e) {
+      log.log(Level.FINE, e.toString(), e);
+    }
   }
 
   protected PageManager createPageManager()
@@ -333,6 +445,7 @@ public class QuercusContext implements AlarmListener
     synchronized (this) {
       if (_moduleContext == null) {
         _moduleContext = createModuleContext(null, loader);
+        _moduleContext.setLazy(_isLazyModules);
         _moduleContext.init();
       }
     }
@@ -367,6 +480,14 @@ public class QuercusContext implements AlarmListener
     return _pageManager.isCompile();
   }
 
+  /**
+   * Returns the page manager.
+   */
+  public PageManager getPageManager()
+  {
+    return _pageManager;
+  }
+
   /**
    * Returns true if this is the Professional version.
    */
@@ -433,6 +554,30 @@ public class QuercusContext implements AlarmListener
     _pageManager.setLazyCompile(isCompile);
   }
 
+  /**
+   * Sets the number of requests before a page is compiled lazily.
+   */
+  public void setCompileThreshold(int threshold)
+  {
+    _pageManager.setCompileThreshold(threshold);
+  }
+
+  /**
+   * Sets the number of calls before a function is compiled.
+   */
+  public void setFunctionCompileThreshold(int threshold)
+  {
+    _pageManager.setFunctionCompileThreshold(threshold);
+  }
+
+  /**
+   * Set true if parsed pages should be saved in the work directory.
+   */
+  public void setParseCache(boolean isParseCache)
+  {
+    _pageManager.setParseCache(isParseCache);
+  }
+
   /*
    * true if interpreted pages should be used if pages fail to compile.
    */
@@ -656,6 +801,22 @@ public class QuercusContext implements AlarmListener
     return RegexpModule.getRegexpCacheSize();
   }
 
+  /*
+   * Returns the number of compiled regexps found in the regexp cache.
+   */
+  public long getRegexpCacheHitCount()
+  {
+    return RegexpModule.getRegexpCacheHitCount();
+  }
+
+  /*
+   * Returns the number of regexps compiled on a regexp cache miss.
+   */
+  public long getRegexpCacheMissCount()
+  {
+    return RegexpModule.getRegexpCacheMissCount();
+  }
+
   /*
    * Sets the capacity of the regexp cache.
    */
@@ -664,6 +825,130 @@ public class QuercusContext implements AlarmListener
     RegexpModule.setRegexpCacheSize(size);
   }
 
+  /*
+   * Gets the max number of parsed printf formats in the printf cache.
+   */
+  public int getPrintfCacheSize()
+  {
+    return StringModule.getPrintfCacheSize();
+  }
+
+  /*
+   * Returns the number of printf formats found in the printf cache.
+   */
+  public long getPrintfCacheHitCount()
+  {
+    return StringModule.getPrintfCacheHitCount();
+  }
+
+  /*
+   * Returns the number of printf formats parsed on a printf cache miss.
+   */
+  public long getPrintfCacheMissCount()
+  {
+    return StringModule.getPrintfCacheMissCount();
+  }
+
+  /*
+   * Sets the capacity of the printf cache.
+   */
+  public void setPrintfCacheSize(int size)
+  {
+    StringModule.setPrintfCacheSize(size);
+  }
+
+  /*
+   * Gets the max size of the unserialize cache.
+   */
+  public int getUnserializeCacheSize()
+  {
+    return VariableModule.getUnserializeCacheSize();
+  }
+
+  /*
+   * Returns the number of unserialize() calls answered from the cache.
+   */
+  public long getUnserializeCacheHitCount()
+  {
+    return VariableModule.getUnserializeCacheHitCount();
+  }
+
+  /*
+   * Returns the number of unserialize() calls that parsed their string.
+   */
+  public long getUnserializeCacheMissCount()
+  {
+    return VariableModule.getUnserializeCacheMissCount();
+  }
+
+  /*
+   * Returns the total length of the serialized strings in the cache.
+   */
+  public long getUnserializeCacheBytes()
+  {
+    return VariableModule.getUnserializeCacheBytes();
+  }
+
+  /*
+   * Sets the capacity of the unserialize cache.
+   */
+  public void setUnserializeCacheSize(int size)
+  {
+    VariableModule.setUnserializeCacheSize(size);
+  }
+
+  /*
+   * Gets the max number of prepared statements cached per connection.
+   */
+  public int getPreparedStatementCacheSize()
+  {
+    return _preparedStatementCacheSize;
+  }
+
+  /*
+   * Returns the number of prepares that reused a cached statement.
+   */
+  public long getPreparedStatementCacheHitCount()
+  {
+    return _preparedStatementCacheHitCount.get();
+  }
+
+  /*
+   * Returns the number of prepares that created a new statement.
+   */
+  public long getPreparedStatementCacheMissCount()
+  {
+    return _preparedStatementCacheMissCount.get();
+  }
+
+  /*
+   * Counts a prepare that reused a cached statement.
+   */
+  public void addPreparedStatementCacheHit()
+  {
+    _preparedStatementCacheHitCount.incrementAndGet();
+  }
+
+  /*
+   * Counts a prepare that created a new statement.
+   */
+  public void addPreparedStatementCacheMiss()
+  {
+    _preparedStatementCacheMissCount.incrementAndGet();
+  }
+
+  /*
+   * Sets the max number of prepared statements cached per connection,
+   * where 0 disables the cache.  The cache lasts for one request's use of
+   * a connection; reuse across requests is up to the DataSource's pool.
+   * Connections opened before the change keep their size.
+   */
+  public void setPreparedStatementCacheSize(int size)
+  {
+    if (size >= 0)
+      _preparedStatementCacheSize = size;
+  }
+
   /*
    * Set to true if compiled pages need to be backed by php source files.
    */
@@ -2022,6 +2307,11 @@ public class QuercusContext implements AlarmListener
     
     _sessionManager.close();
     _pageManager.close();
+
+    synchronized (this) {
+      if (_profileSampler != null)
+        _profileSampler.close();
+    }
   }
 
   public static Value exnConstructor(Env env, Value obj, String msg)
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 1998-2010 Caucho Technology -- all rights reserved
+ *
+ * This file is part of Resin(R) Open Source
+ *
+ * Each copy or derived work must preserve the copyright notice and this
+ * notice unmodified.
+ *
+ * Resin Open Source is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Resin Open Source is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE, or any warranty
+ * of NON-INFRINGEMENT.  See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Resin Open Source; if not, write to the
+ *
+ *   Free Software Foundation, Inc.
+ *   59 Temple Place, Suite 330
+ *   Boston, MA 02111-1307  USA
+ *
+ */
+
+package com.caucho.quercus.env;
+
+/**
+ * The keys of a packed array, shared by arrays with the same keys in the
+ * same order, e.g. the rows of a database result.
+ */
+public final class ArrayShape
+{
+  private final Value []_keys;
+
+  // hash slot to key index + 1, 0 for an empty slot
+  private final int []_hash;
+  private final int _hashMask;
+
+  private final long _nextAvailableIndex;
+
+  private ArrayShape(Value []keys, int []hash, long nextAvailableIndex)
+  {
+    _keys = keys;
+    _hash = hash;
+    _hashMask = hash.length - 1;
+    _nextAvailableIndex = nextAvailableIndex;
+  }
+
+  /**
+   * Returns the shape for the keys, or null if a key repeats.
+   */
+  public static ArrayShape create(Value []keys)
+  {
+    int capacity = 8;
+
+    while (capacity < 2 * keys.length)
+      capacity *= 2;
+
+    int []hash = new int[capacity];
+    int hashMask = capacity - 1;
+
+    Value []shapeKeys = new Value[keys.length];
+    long nextAvailableIndex = 0;
+
+    for (int i = 0; i < keys.length; i++) {
+      Value key = keys[i].toKey();
+
+      if (getIndex(shapeKeys, hash, hashMask, key) >= 0)
+        return null;
+
+      int slot = key.hashCode() & hashMask;
+
+      while (hash[slot] != 0)
+        slot = (slot + 1) & hashMask;
+
+      hash[slot] = i + 1;
+      shapeKeys[i] = key;
+
+      nextAvailableIndex = key.nextIndex(nextAvailableIndex);
+    }
+
+    return new ArrayShape(shapeKeys, hash, nextAvailableIndex);
+  }
+
+  /**
+   * Returns the number of keys.
+   */
+  public int getSize()
+  {
+    return _keys.length;
+  }
+
+  /**
+   * Returns the key at an index.
+   */
+  public Value getKey(int index)
+  {
+    return _keys[index];
+  }
+
+  /**
+   * Returns the index of a key, or -1 if the key is not in the shape.
+   */
+  public int getIndex(Value key)
+  {
+    return getIndex(_keys, _hash, _hashMask, key);
+  }
+
+  /**
+   * Returns the next index for an append, as in ArrayValue.
+   */
+  public long getNextAvailableIndex()
+  {
+    return _nextAvailableIndex;
+  }
+
+  private static int getIndex(Value []keys, int []hash, int hashMask,
+                              Value key)
+  {
+    for (int slot = key.hashCode() & hashMask;
+         hash[slot] != 0;
+         slot = (slot + 1) & hashMask) {
+      Value shapeKey = keys[hash[slot] - 1];
+
+      if (key == shapeKey || key.equals(shapeKey))
+        return hash[slot] - 1;
+    }
+
+    return -1;
+  }
+}
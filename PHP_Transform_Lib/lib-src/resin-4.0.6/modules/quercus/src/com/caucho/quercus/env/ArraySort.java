@@ -0,0 +1,454 @@
+/*
+ * Copyright (c) 1998-2010 Caucho Technology -- all rights reserved
+ *
+ * This file is part of Resin(R) Open Source
+ *
+ * Each copy or derived work must preserve the copyright notice and this
+ * notice unmodified.
+ *
+ * Resin Open Source is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Resin Open Source is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE, or any warranty
+ * of NON-INFRINGEMENT.  See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Resin Open Source; if not, write to the
+ *
+ *   Free Software Foundation, Inc.
+ *   59 Temple Place, Suite 330
+ *   Boston, MA 02111-1307  USA
+ *
+ */
+
+package com.caucho.quercus.env;
+
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Stable sort of an array's elements on precomputed primitive keys,
+ * returning the sorted permutation of the element indexes.  Replaces
+ * the Comparator sort for the SORT_REGULAR, SORT_NUMERIC and SORT_STRING
+ * comparators when every key has the same primitive type.
+ */
+abstract class ArraySort
+{
+  static final int SORT_REGULAR = 0;
+  static final int SORT_NUMERIC = 1;
+  static final int SORT_STRING = 2;
+
+  // integers compare as doubles, which are exact up to 2^53
+  private static final long DOUBLE_EXACT_MAX = 1L << 53;
+
+  private static final int INSERTION_SORT_MAX = 16;
+
+  // arrays at least this large are sorted in parallel
+  private static final int PARALLEL_MIN = 64 * 1024;
+
+  private static final int THREADS
+    = Runtime.getRuntime().availableProcessors();
+
+  private static ExecutorService _executor;
+
+  protected final int _order;
+
+  protected ArraySort(int order)
+  {
+    _order = order;
+  }
+
+  /**
+   * Returns a sort for the values, or null if the comparator needs the
+   * general Comparator sort.
+   *
+   * @param values the compared side of each element
+   */
+  static ArraySort create(ArrayValue.SortComparator cmp,
+                          Value []values,
+                          int size)
+  {
+    int order = cmp.getOrder();
+
+    switch (cmp.getSortType()) {
+    case SORT_REGULAR:
+      if (isAllExactLong(values, size))
+        return new LongSort(values, size, order);
+      else if (isAllLong(values, size))
+        return DoubleSort.create(values, size, order);
+      else if (isAllPlainString(values, size))
+        return new StringSort(values, size, order);
+      else
+        return null;
+
+    case SORT_NUMERIC:
+      return DoubleSort.create(values, size, order);
+
+    case SORT_STRING:
+      if (isAllString(values, size))
+        return new StringSort(values, size, order);
+      else
+        return null;
+
+    default:
+      return null;
+    }
+  }
+
+  private static boolean isAllLong(Value []values, int size)
+  {
+    for (int i = 0; i < size; i++) {
+      if (! (values[i].toValue() instanceof LongValue))
+        return false;
+    }
+
+    return true;
+  }
+
+  private static boolean isAllExactLong(Value []values, int size)
+  {
+    for (int i = 0; i < size; i++) {
+      Value value = values[i].toValue();
+
+      if (! (value instanceof LongValue))
+        return false;
+
+      long v = value.toLong();
+
+      if (v < -DOUBLE_EXACT_MAX || DOUBLE_EXACT_MAX < v)
+        return false;
+    }
+
+    return true;
+  }
+
+  private static boolean isAllString(Value []values, int size)
+  {
+    for (int i = 0; i < size; i++) {
+      if (! (values[i].toValue() instanceof StringValue))
+        return false;
+    }
+
+    return true;
+  }
+
+  /**
+   * True if the strings compare as strings under StringValue.eq and cmp,
+   * i.e. none of them is numeric.
+   */
+  private static boolean isAllPlainString(Value []values, int size)
+  {
+    for (int i = 0; i < size; i++) {
+      Value value = values[i].toValue();
+
+      if (! (value instanceof StringValue)
+          || value.isNumberConvertible()
+          || value.isNumeric())
+        return false;
+    }
+
+    return true;
+  }
+
+  /**
+   * Compares the elements with the given indexes.
+   */
+  abstract protected int compare(int a, int b);
+
+  /**
+   * Returns the sorted permutation of 0 .. size - 1.
+   */
+  int []sort(int size)
+  {
+    int []index = new int[size];
+
+    for (int i = 0; i < size; i++)
+      index[i] = i;
+
+    int []tmp = new int[size];
+
+    if (size < PARALLEL_MIN || THREADS < 2)
+      mergeSort(index, tmp, 0, size);
+    else
+      parallelSort(index, tmp, size);
+
+    return index;
+  }
+
+  /**
+   * Sorts index[start, end), using tmp as the merge buffer.
+   */
+  private void mergeSort(int []index, int []tmp, int start, int end)
+  {
+    if (end - start <= INSERTION_SORT_MAX) {
+      insertionSort(index, start, end);
+      return;
+    }
+
+    int mid = (start + end) >>> 1;
+
+    mergeSort(index, tmp, start, mid);
+    mergeSort(index, tmp, mid, end);
+
+    merge(index, tmp, start, mid, end);
+  }
+
+  private void insertionSort(int []index, int start, int end)
+  {
+    for (int i = start + 1; i < end; i++) {
+      int value = index[i];
+      int j = i - 1;
+
+      for (; start <= j && compare(index[j], value) > 0; j--)
+        index[j + 1] = index[j];
+
+      index[j + 1] = value;
+    }
+  }
+
+  /**
+   * Merges the sorted runs index[start, mid) and index[mid, end).
+   */
+  private void merge(int []index, int []tmp, int start, int mid, int end)
+  {
+    // already in order, e.g. a sorted array
+    if (compare(index[mid - 1], index[mid]) <= 0)
+      return;
+
+    System.arraycopy(index, start, tmp, start, end - start);
+
+    int i = start;
+    int j = mid;
+    int k = start;
+
+    while (i < mid && j < end) {
+      if (compare(tmp[j], tmp[i]) < 0)
+        index[k++] = tmp[j++];
+      else
+        index[k++] = tmp[i++];
+    }
+
+    while (i < mid)
+      index[k++] = tmp[i++];
+
+    while (j < end)
+      index[k++] = tmp[j++];
+  }
+
+  /**
+   * Sorts one run per thread, then merges pairs of runs in parallel.
+   */
+  private void parallelSort(final int []index, final int []tmp, int size)
+  {
+    int runs = 1;
+
+    while (runs < THREADS && size / (2 * runs) >= PARALLEL_MIN / 2)
+      runs *= 2;
+
+    final int []bounds = new int[runs + 1];
+
+    for (int i = 0; i <= runs; i++)
+      bounds[i] = (int) ((long) size * i / runs);
+
+    ArrayList<Future<?>> futureList = new ArrayList<Future<?>>();
+
+    for (int i = 1; i < runs; i++) {
+      final int start = bounds[i];
+      final int end = bounds[i + 1];
+
+      futureList.add(getExecutor().submit(new Runnable() {
+          public void run()
+          {
+            mergeSort(index, tmp, start, end);
+          }
+        }));
+    }
+
+    mergeSort(index, tmp, bounds[0], bounds[1]);
+    waitFor(futureList);
+
+    for (int width = 1; width < runs; width *= 2) {
+      futureList.clear();
+
+      for (int i = 2 * width; i < runs; i += 2 * width) {
+        final int start = bounds[i];
+        final int mid = bounds[i + width];
+        final int end = bounds[Math.min(i + 2 * width, runs)];
+
+        futureList.add(getExecutor().submit(new Runnable() {
+            public void run()
+            {
+              merge(index, tmp, start, mid, end);
+            }
+          }));
+      }
+
+      merge(index, tmp, bounds[0], bounds[width],
+            bounds[Math.min(2 * width, runs)]);
+      waitFor(futureList);
+    }
+  }
+
+  private static void waitFor(ArrayList<Future<?>> futureList)
+  {
+    try {
+      for (Future<?> future : futureList)
+        future.get();
+    } catch (RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static synchronized ExecutorService getExecutor()
+  {
+    if (_executor == null) {
+      _executor = Executors.newFixedThreadPool(THREADS, new ThreadFactory() {
+          public Thread newThread(Runnable task)
+          {
+            Thread thread = new Thread(task, "quercus-array-sort");
+            thread.setDaemon(true);
+
+            return thread;
+          }
+        });
+    }
+
+    return _executor;
+  }
+
+  /**
+   * SORT_REGULAR of integers.
+   */
+  static final class LongSort extends ArraySort
+  {
+    private final long []_keys;
+
+    LongSort(Value []values, int size, int order)
+    {
+      super(order);
+
+      _keys = new long[size];
+
+      for (int i = 0; i < size; i++)
+        _keys[i] = values[i].toLong();
+    }
+
+    protected int compare(int a, int b)
+    {
+      long aKey = _keys[a];
+      long bKey = _keys[b];
+
+      if (aKey == bKey)
+        return 0;
+      else if (aKey < bKey)
+        return -_order;
+      else
+        return _order;
+    }
+  }
+
+  /**
+   * SORT_NUMERIC, which compares toDouble() of any scalar.
+   */
+  static final class DoubleSort extends ArraySort
+  {
+    private final double []_keys;
+
+    private DoubleSort(double []keys, int order)
+    {
+      super(order);
+
+      _keys = keys;
+    }
+
+    static DoubleSort create(Value []values, int size, int order)
+    {
+      double []keys = new double[size];
+
+      for (int i = 0; i < size; i++) {
+        Value value = values[i].toValue();
+
+        if (! (value instanceof LongValue
+               || value instanceof DoubleValue
+               || value instanceof StringValue))
+          return null;
+
+        double key = value.toDouble();
+
+        // NaN is not ordered, unlike the keys of a merge sort
+        if (Double.isNaN(key))
+          return null;
+
+        keys[i] = key;
+      }
+
+      return new DoubleSort(keys, order);
+    }
+
+    protected int compare(int a, int b)
+    {
+      double aKey = _keys[a];
+      double bKey = _keys[b];
+
+      if (aKey == bKey)
+        return 0;
+      else if (aKey < bKey)
+        return -_order;
+      else
+        return _order;
+    }
+  }
+
+  /**
+   * String comparison, in the char order of String.compareTo.
+   */
+  static final class StringSort extends ArraySort
+  {
+    private final StringValue []_keys;
+
+    StringSort(Value []values, int size, int order)
+    {
+      super(order);
+
+      _keys = new StringValue[size];
+
+      for (int i = 0; i < size; i++)
+        _keys[i] = (StringValue) values[i].toValue();
+    }
+
+    protected int compare(int a, int b)
+    {
+      StringValue aKey = _keys[a];
+      StringValue bKey = _keys[b];
+
+      int aLength = aKey.length();
+      int bLength = bKey.length();
+      int length = Math.min(aLength, bLength);
+
+      for (int i = 0; i < length; i++) {
+        char aCh = aKey.charAt(i);
+        char bCh = bKey.charAt(i);
+
+        if (aCh != bCh)
+          return aCh < bCh ? -_order : _order;
+      }
+
+      if (aLength == bLength)
+        return 0;
+      else if (aLength < bLength)
+        return -_order;
+      else
+        return _order;
+    }
+  }
+}
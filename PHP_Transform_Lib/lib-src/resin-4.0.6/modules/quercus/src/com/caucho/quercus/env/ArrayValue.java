@@ -2084,6 +2084,29 @@ abstract public class ArrayValue extends Value {
     }
   }
 
+  /**
+   * A sort comparator of the keys or the values under a PHP sort flag,
+   * which lets the array sort on precomputed primitive keys.
+   */
+  public interface SortComparator
+    extends Comparator<Map.Entry<Value,Value>>
+  {
+    /**
+     * True if the keys are compared, false for the values.
+     */
+    public boolean isKeySort();
+
+    /**
+     * Returns SORT_REGULAR (0), SORT_NUMERIC (1) or SORT_STRING (2).
+     */
+    public int getSortType();
+
+    /**
+     * Returns 1 for ascending, -1 for descending.
+     */
+    public int getOrder();
+  }
+
   public static class ValueComparator
     implements Comparator<Map.Entry<Value,Value>>
   {
@@ -34,7 +34,10 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.PrintWriter;
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.logging.Logger;
 
@@ -42,6 +45,11 @@ import com.caucho.util.RandomUtil;
 
 /**
  * Represents a PHP array value.
+ *
+ * An array whose keys are exactly 0 .. size - 1 in insertion order, as
+ * built by $a[] = x, is kept packed as a plain Value[] without entries.
+ * The first other key, or any operation needing the entry list (getHead),
+ * switches it to the hashed form.
  */
 public class ArrayValueImpl extends ArrayValue
   implements Serializable
@@ -61,6 +69,9 @@ public class ArrayValueImpl extends ArrayValue
 
   // save memory on short arrays
   private static final int MIN_HASH = 4;
+  private static final int MIN_PACKED = 4;
+
+  private static final Value []EMPTY_PACKED = new Value[0];
 
   private Entry []_entries;
   private int _hashMask;
@@ -72,6 +83,13 @@ public class ArrayValueImpl extends ArrayValue
   private Entry _head;
   private Entry _tail;
 
+  // packed values, or null for the hashed form
+  private Value []_packed = EMPTY_PACKED;
+  // packed current() position, -1 for none
+  private int _packedCurrent = -1;
+  // keys of the packed values, or null for 0 .. size - 1
+  private ArrayShape _packedShape;
+
   private ConstArrayValue _constSource;
 
   public ArrayValueImpl()
@@ -84,6 +102,9 @@ public class ArrayValueImpl extends ArrayValue
 
   public ArrayValueImpl(int size)
   {
+    if (size > 0)
+      _packed = new Value[size];
+
     /*
     int capacity = DEFAULT_SIZE;
 
@@ -95,10 +116,27 @@ public class ArrayValueImpl extends ArrayValue
     */
   }
 
+  /**
+   * Creates a packed array with a shared key shape, e.g. a result row.
+   * The array owns the values, one per shape key.
+   */
+  public ArrayValueImpl(ArrayShape shape, Value []values)
+  {
+    _packed = values;
+    _packedShape = shape;
+    _size = values.length;
+    _nextAvailableIndex = shape.getNextAvailableIndex();
+
+    if (_size > 0)
+      _packedCurrent = 0;
+  }
+
   public ArrayValueImpl(ArrayValue source)
   {
     // this(copy.getSize());
 
+    _packed = null;
+
     for (Entry ptr = source.getHead(); ptr != null; ptr = ptr.getNext()) {
       // php/0662 for copy
       Entry entry = createNewEntry(ptr.getKey());
@@ -129,6 +167,10 @@ public class ArrayValueImpl extends ArrayValue
     _entries = source._entries;
     _hashMask = source._hashMask;
 
+    _packed = source._packed;
+    _packedCurrent = source._packedCurrent;
+    _packedShape = source._packedShape;
+
     _head = source._head;
     setCurrent(source.getCurrent());
 
@@ -138,6 +180,8 @@ public class ArrayValueImpl extends ArrayValue
 
   public ArrayValueImpl(ConstArrayValue source)
   {
+    ArrayValueImpl impl = source;
+
     _constSource = source;
 
     _isDirty = true;
@@ -146,9 +190,14 @@ public class ArrayValueImpl extends ArrayValue
     _entries = source.getEntries();
     _hashMask = source.getHashMask();
 
-    _head = source.getHead();
+    // fields, since getHead() would unpack the source
+    _packed = impl._packed;
+    _packedCurrent = impl._packedCurrent;
+    _packedShape = impl._packedShape;
+
+    _head = impl._head;
     setCurrent(source.getCurrent());
-    _tail = source.getTail();
+    _tail = impl._tail;
     _nextAvailableIndex = source.getNextAvailableIndex();
   }
 
@@ -249,6 +298,17 @@ public class ArrayValueImpl extends ArrayValue
 
     _isDirty = false;
 
+    if (_packed != null) {
+      Value []packed = new Value[_packed.length];
+
+      for (int i = 0; i < _size; i++)
+        packed[i] = _packed[i].copyArrayItem();
+
+      _packed = packed;
+
+      return;
+    }
+
     Entry []entries = _entries;
 
     if (entries != null)
@@ -294,6 +354,128 @@ public class ArrayValueImpl extends ArrayValue
     _entries = entries;
   }
 
+  /**
+   * Returns the key of a packed slot.
+   */
+  private static Value getPackedKey(ArrayShape shape, int index)
+  {
+    if (shape != null)
+      return shape.getKey(index);
+    else
+      return LongValue.create(index);
+  }
+
+  /**
+   * Returns the packed slot for a key, or -1 if the key is not in
+   * 0 .. size - 1 or in the shape.
+   */
+  private int getPackedIndex(Value key)
+  {
+    if (_packedShape != null)
+      return _packedShape.getIndex(key);
+    else if (! (key instanceof LongValue))
+      return -1;
+
+    long index = key.toLong();
+
+    if (0 <= index && index < _size)
+      return (int) index;
+    else
+      return -1;
+  }
+
+  /**
+   * Returns the packed slot for a key, appending it if it's the next
+   * index, or -1 if the key needs the hashed form.
+   */
+  private int createPackedEntry(Value key)
+  {
+    if (_packedShape != null)
+      return _packedShape.getIndex(key);
+    else if (! (key instanceof LongValue))
+      return -1;
+
+    long index = key.toLong();
+
+    if (0 <= index && index < _size)
+      return (int) index;
+    else if (index == _size)
+      return appendPacked(NullValue.NULL);
+    else
+      return -1;
+  }
+
+  private int appendPacked(Value value)
+  {
+    Value []packed = _packed;
+
+    if (packed.length == _size) {
+      packed = new Value[Math.max(MIN_PACKED, 2 * _size)];
+      System.arraycopy(_packed, 0, packed, 0, _size);
+
+      _packed = packed;
+    }
+
+    // like the hashed form, the first entry becomes current
+    if (_size == 0)
+      _packedCurrent = 0;
+
+    packed[_size] = value;
+    _nextAvailableIndex = _size + 1;
+
+    return _size++;
+  }
+
+  /**
+   * Sets a packed slot, like Entry.set().
+   */
+  private void setPacked(int index, Value value)
+  {
+    if (value instanceof Var)
+      _packed[index] = value;
+    else
+      _packed[index] = _packed[index].set(value);
+  }
+
+  /**
+   * Switches from the packed to the hashed form.
+   */
+  private void unpack()
+  {
+    Value []packed = _packed;
+    ArrayShape shape = _packedShape;
+    int size = _size;
+    int current = _packedCurrent;
+    boolean isCopy = _isDirty;
+
+    _packed = null;
+    _packedCurrent = -1;
+    _packedShape = null;
+
+    // a shared packed array is copied here instead of in copyOnWrite
+    _isDirty = false;
+    _constSource = null;
+
+    _size = 0;
+    _nextAvailableIndex = 0;
+
+    Entry currentEntry = null;
+
+    for (int i = 0; i < size; i++) {
+      Entry entry = createNewEntry(getPackedKey(shape, i));
+
+      if (isCopy)
+        entry.setValue(packed[i].copyArrayItem());
+      else
+        entry.setValue(packed[i]);
+
+      if (i == current)
+        currentEntry = entry;
+    }
+
+    setCurrent(currentEntry);
+  }
+
   /**
    * Returns the type.
    */
@@ -455,6 +637,10 @@ public class ArrayValueImpl extends ArrayValue
     _head = _tail = null;
     setCurrent(null);
 
+    _packed = EMPTY_PACKED;
+    _packedCurrent = -1;
+    _packedShape = null;
+
     _nextAvailableIndex = 0;
   }
 
@@ -478,6 +664,18 @@ public class ArrayValueImpl extends ArrayValue
     if (key instanceof UnsetValue) // php/4a4h
       key = createTailKey();
 
+    if (_packed != null) {
+      int index = createPackedEntry(key.toKey());
+
+      if (index >= 0) {
+        setPacked(index, value);
+
+        return this;
+      }
+
+      unpack();
+    }
+
     Entry entry = createEntry(key);
 
     // php/0434
@@ -496,6 +694,9 @@ public class ArrayValueImpl extends ArrayValue
     if (_isDirty)
       copyOnWrite();
 
+    if (_packed != null)
+      unpack();
+
     _size++;
 
     Entry []entries = _entries;
@@ -530,6 +731,9 @@ public class ArrayValueImpl extends ArrayValue
     if (_isDirty)
       copyOnWrite();
 
+    if (_packed != null)
+      unpack();
+
     int index = 0;
 
     ArrayValueImpl result = new ArrayValueImpl();
@@ -621,6 +825,20 @@ public class ArrayValueImpl extends ArrayValue
   {
     ArrayValueImpl array = new ArrayValueImpl();
 
+    if (_packed != null) {
+      for (int i = Math.max(start, 0); i < end && i < _size; i++) {
+        Value key = getPackedKey(_packedShape, i);
+        Value value = _packed[i].toValue();
+
+        if (isPreserveKeys || key.isString())
+          array.put(key, value);
+        else
+          array.put(value);
+      }
+
+      return array;
+    }
+
     int i = 0;
     for (Entry ptr = _head; i < end && ptr != null; ptr = ptr.getNext()) {
       if (start > i++)
@@ -651,6 +869,23 @@ public class ArrayValueImpl extends ArrayValue
     //if (isTop)
       //return new ArgGetValue(this, index);
 
+    if (_packed != null) {
+      int i = getPackedIndex(index.toKey());
+
+      if (i < 0)
+        return new ArgGetValue(this, index);
+
+      Value value = _packed[i].toValue();
+
+      if (! isTop && value.isset())
+        return value;
+
+      Var var = _packed[i].toVar();
+      _packed[i] = var;
+
+      return var;
+    }
+
     Entry entry = getEntry(index);
 
     if (entry != null) {
@@ -696,6 +931,22 @@ public class ArrayValueImpl extends ArrayValue
     if (_isDirty)
       copyOnWrite();
 
+    if (_packed != null) {
+      int i = createPackedEntry(index.toKey());
+
+      if (i >= 0) {
+        Value value = _packed[i].toValue();
+        Value array = value.toAutoArray();
+
+        if (value != array)
+          setPacked(i, array);
+
+        return array;
+      }
+
+      unpack();
+    }
+
     Entry entry = createEntry(index);
 
     Value value = entry.toValue();
@@ -729,6 +980,14 @@ public class ArrayValueImpl extends ArrayValue
     if (_isDirty)
       copyOnWrite();
 
+    if (_packedShape != null)
+      unpack();
+    else if (_packed != null) {
+      setPacked(appendPacked(NullValue.NULL), value);
+
+      return value;
+    }
+
     Value key = createTailKey();
     
     append(key, value);
@@ -768,6 +1027,25 @@ public class ArrayValueImpl extends ArrayValue
   {
     key = key.toKey();
 
+    Value []packed = _packed;
+
+    if (packed != null) {
+      if (_packedShape != null) {
+        int i = _packedShape.getIndex(key);
+
+        if (i >= 0)
+          return packed[i].toValue();
+      }
+      else if (key instanceof LongValue) {
+        long index = key.toLong();
+
+        if (0 <= index && index < _size)
+          return packed[(int) index].toValue();
+      }
+
+      return UnsetValue.UNSET;
+    }
+
     Entry []entries = _entries;
     Entry entry;
 
@@ -807,6 +1085,12 @@ public class ArrayValueImpl extends ArrayValue
   {
     key = key.toKey();
 
+    if (_packed != null) {
+      int i = getPackedIndex(key);
+
+      return i >= 0 ? _packed[i] : UnsetValue.UNSET;
+    }
+
     Entry []entries = _entries;
     Entry entry;
 
@@ -845,6 +1129,15 @@ public class ArrayValueImpl extends ArrayValue
   @Override
   public Value contains(Value value)
   {
+    if (_packed != null) {
+      for (int i = 0; i < _size; i++) {
+        if (_packed[i].toValue().eq(value))
+          return getPackedKey(_packedShape, i);
+      }
+
+      return NullValue.NULL;
+    }
+
     for (Entry entry = getHead(); entry != null; entry = entry.getNext()) {
       if (entry.getValue().eq(value))
         return entry.getKey();
@@ -863,6 +1156,15 @@ public class ArrayValueImpl extends ArrayValue
   @Override
   public Value containsStrict(Value value)
   {
+    if (_packed != null) {
+      for (int i = 0; i < _size; i++) {
+        if (_packed[i].toValue().eql(value))
+          return getPackedKey(_packedShape, i);
+      }
+
+      return NullValue.NULL;
+    }
+
     for (Entry entry = getHead(); entry != null; entry = entry.getNext()) {
       if (entry.getValue().eql(value))
         return entry.getKey();
@@ -881,6 +1183,12 @@ public class ArrayValueImpl extends ArrayValue
   @Override
   public Value containsKey(Value key)
   {
+    if (_packed != null) {
+      int i = getPackedIndex(key.toKey());
+
+      return i >= 0 ? _packed[i].toValue() : null;
+    }
+
     Entry entry = getEntry(key);
 
     if (entry != null)
@@ -928,6 +1236,27 @@ public class ArrayValueImpl extends ArrayValue
 
     key = key.toKey();
 
+    if (_packed != null) {
+      int i = getPackedIndex(key);
+
+      if (i < 0)
+        return UnsetValue.UNSET;
+      else if (i == _size - 1 && _packedShape == null) {
+        Value value = _packed[i].toValue();
+
+        _packed[i] = null;
+        _size--;
+        _nextAvailableIndex = _size;
+
+        // like removeEntry, which resets current to the head
+        _packedCurrent = _size > 0 ? 0 : -1;
+
+        return value;
+      }
+
+      unpack();
+    }
+
     Entry []entries = _entries;
     Entry entry;
 
@@ -1001,6 +1330,19 @@ public class ArrayValueImpl extends ArrayValue
     if (_isDirty)
       copyOnWrite();
 
+    if (_packed != null) {
+      int i = createPackedEntry(index.toKey());
+
+      if (i >= 0) {
+        Var var = _packed[i].toVar();
+        _packed[i] = var;
+
+        return var;
+      }
+
+      unpack();
+    }
+
     Entry entry = createEntry(index);
     // quercus/0431
 
@@ -1016,6 +1358,19 @@ public class ArrayValueImpl extends ArrayValue
     if (_isDirty)
       copyOnWrite();
 
+    if (_packed != null) {
+      int i = createPackedEntry(index.toKey());
+
+      if (i >= 0) {
+        Var var = _packed[i].toVar();
+        _packed[i] = var;
+
+        return var;
+      }
+
+      unpack();
+    }
+
     Entry entry = createEntry(index);
     // quercus/0431
 
@@ -1208,6 +1563,13 @@ public class ArrayValueImpl extends ArrayValue
     if (_isDirty)
       copyOnWrite();
 
+    if (_packed != null) {
+      if (_size > 0)
+        return remove(getPackedKey(_packedShape, _size - 1));
+      else
+        return NullValue.NULL;
+    }
+
     if (_tail != null)
       return remove(_tail.getKey());
     else
@@ -1216,14 +1578,216 @@ public class ArrayValueImpl extends ArrayValue
 
   public final Entry getHead()
   {
+    if (_packed != null)
+      unpack();
+
     return _head;
   }
 
   protected final Entry getTail()
   {
+    if (_packed != null)
+      unpack();
+
     return _tail;
   }
 
+  /**
+   * Returns the current value.
+   */
+  @Override
+  public Value current()
+  {
+    if (_packed == null)
+      return super.current();
+    else if (_packedCurrent >= 0)
+      return _packed[_packedCurrent].toValue();
+    else
+      return BooleanValue.FALSE;
+  }
+
+  /**
+   * Returns the current key
+   */
+  @Override
+  public Value key()
+  {
+    if (_packed == null)
+      return super.key();
+    else if (_packedCurrent >= 0)
+      return getPackedKey(_packedShape, _packedCurrent);
+    else
+      return NullValue.NULL;
+  }
+
+  /**
+   * Returns true if there are more elements.
+   */
+  @Override
+  public boolean hasCurrent()
+  {
+    if (_packed == null)
+      return super.hasCurrent();
+    else
+      return _packedCurrent >= 0;
+  }
+
+  /**
+   * Returns the next value.
+   */
+  @Override
+  public Value next()
+  {
+    if (_packed == null)
+      return super.next();
+
+    if (_packedCurrent >= 0 && ++_packedCurrent == _size)
+      _packedCurrent = -1;
+
+    return current();
+  }
+
+  /**
+   * Returns the previous value.
+   */
+  @Override
+  public Value prev()
+  {
+    if (_packed == null)
+      return super.prev();
+
+    if (_packedCurrent >= 0)
+      _packedCurrent--;
+
+    return current();
+  }
+
+  /**
+   * The each iterator
+   */
+  @Override
+  public Value each()
+  {
+    if (_packed != null)
+      unpack();
+
+    return super.each();
+  }
+
+  /**
+   * Returns the first value.
+   */
+  @Override
+  public Value reset()
+  {
+    if (_packed == null)
+      return super.reset();
+
+    _packedCurrent = _size > 0 ? 0 : -1;
+
+    return current();
+  }
+
+  /**
+   * Returns the last value.
+   */
+  @Override
+  public Value end()
+  {
+    if (_packed == null)
+      return super.end();
+
+    _packedCurrent = _size - 1;
+
+    return current();
+  }
+
+  @Override
+  public Iterator<Map.Entry<Value, Value>> getIterator(Env env)
+  {
+    return getIterator();
+  }
+
+  @Override
+  public Iterator<Map.Entry<Value, Value>> getIterator()
+  {
+    if (_packed == null)
+      return super.getIterator();
+
+    final ArrayShape shape = _packedShape;
+
+    return new PackedIterator<Map.Entry<Value,Value>>(_packed, _size) {
+      Map.Entry<Value,Value> get(Value []values, int i)
+      {
+        return new Entry(getPackedKey(shape, i), values[i]);
+      }
+    };
+  }
+
+  @Override
+  public Iterator<Value> getKeyIterator(Env env)
+  {
+    if (_packed == null)
+      return super.getKeyIterator(env);
+
+    final ArrayShape shape = _packedShape;
+
+    return new PackedIterator<Value>(_packed, _size) {
+      Value get(Value []values, int i)
+      {
+        return getPackedKey(shape, i);
+      }
+    };
+  }
+
+  @Override
+  public Iterator<Value> getValueIterator(Env env)
+  {
+    if (_packed == null)
+      return super.getValueIterator(env);
+
+    return new PackedIterator<Value>(_packed, _size) {
+      Value get(Value []values, int i)
+      {
+        return values[i].toValue();
+      }
+    };
+  }
+
+  /**
+   * Takes the values of this array and puts them in a java array
+   */
+  @Override
+  public Value[] keysToArray()
+  {
+    if (_packed == null)
+      return super.keysToArray();
+
+    Value []keys = new Value[_size];
+
+    for (int i = 0; i < _size; i++)
+      keys[i] = getPackedKey(_packedShape, i);
+
+    return keys;
+  }
+
+  /**
+   * Takes the values of this array and puts them in a java array
+   */
+  @Override
+  public Value[] valuesToArray()
+  {
+    if (_packed == null)
+      return super.valuesToArray();
+
+    Value []values = new Value[_size];
+
+    for (int i = 0; i < _size; i++)
+      values[i] = _packed[i].toValue();
+
+    return values;
+  }
+
   /**
    * Shuffles the array
    */
@@ -1232,6 +1796,9 @@ public class ArrayValueImpl extends ArrayValue
     if (_isDirty)
       copyOnWrite();
 
+    if (_packed != null)
+      unpack();
+
     Entry []values = new Entry[size()];
 
     int length = values.length;
@@ -1269,6 +1836,172 @@ public class ArrayValueImpl extends ArrayValue
     return BooleanValue.TRUE;
   }
 
+  /**
+   * Sorts the array in place.  The entries are relinked in their new
+   * order without rehashing, and an array whose keys are reset becomes
+   * packed.  Builtin comparators on all-integer or all-string keys sort
+   * on primitive keys instead of calling the comparator.
+   */
+  @Override
+  public void sort(Comparator<Map.Entry<Value, Value>> comparator,
+                   boolean resetKeys, boolean strict)
+  {
+    // non-strict resets keep the string keys
+    if (resetKeys && ! strict || _size < 2) {
+      super.sort(comparator, resetKeys, strict);
+      return;
+    }
+
+    if (_isDirty)
+      copyOnWrite();
+
+    // the packed sorts assume list keys
+    if (_packedShape != null)
+      unpack();
+
+    int size = _size;
+
+    ArraySort sort = null;
+
+    if (comparator instanceof SortComparator) {
+      SortComparator sortComparator = (SortComparator) comparator;
+
+      if (_packed != null && sortComparator.isKeySort()) {
+        // the keys of a packed array are already in numeric order, but
+        // a sort still resets the internal pointer
+        if (sortComparator.getOrder() > 0
+            && sortComparator.getSortType() != ArraySort.SORT_STRING) {
+          _packedCurrent = 0;
+          return;
+        }
+      }
+      else if (_packed != null)
+        sort = ArraySort.create(sortComparator, _packed, size);
+      else
+        sort = ArraySort.create(sortComparator,
+                                getSortValues(sortComparator.isKeySort()),
+                                size);
+    }
+
+    if (sort != null && _packed != null) {
+      int []index = sort.sort(size);
+
+      if (resetKeys) {
+        Value []packed = new Value[_packed.length];
+
+        for (int i = 0; i < size; i++)
+          packed[i] = _packed[index[i]];
+
+        _packed = packed;
+        _packedCurrent = 0;
+
+        return;
+      }
+
+      unpack();
+
+      relink(getSortedEntries(index));
+    }
+    else if (sort != null) {
+      relink(getSortedEntries(sort.sort(size)));
+    }
+    else {
+      if (_packed != null)
+        unpack();
+
+      Entry []entries = getEntryArray();
+
+      Arrays.sort(entries, comparator);
+
+      relink(entries);
+    }
+
+    if (resetKeys)
+      pack();
+  }
+
+  /**
+   * Returns the keys or values to sort, in the array order.
+   */
+  private Value []getSortValues(boolean isKey)
+  {
+    Value []values = new Value[_size];
+
+    int i = 0;
+    for (Entry ptr = _head; ptr != null; ptr = ptr.getNext())
+      values[i++] = isKey ? ptr.getKey() : ptr.getRawValue();
+
+    return values;
+  }
+
+  private Entry []getEntryArray()
+  {
+    Entry []entries = new Entry[_size];
+
+    int i = 0;
+    for (Entry ptr = _head; ptr != null; ptr = ptr.getNext())
+      entries[i++] = ptr;
+
+    return entries;
+  }
+
+  private Entry []getSortedEntries(int []index)
+  {
+    Entry []entries = getEntryArray();
+    Entry []sorted = new Entry[entries.length];
+
+    for (int i = 0; i < sorted.length; i++)
+      sorted[i] = entries[index[i]];
+
+    return sorted;
+  }
+
+  /**
+   * Relinks the entries in the given order.  Hashed chains only depend
+   * on the keys, but a small array's chain starts at _head and follows
+   * the list order, so it is rebuilt.
+   */
+  private void relink(Entry []entries)
+  {
+    int length = entries.length;
+    boolean isSmall = _entries == null;
+
+    for (int i = 0; i < length; i++) {
+      Entry next = i + 1 < length ? entries[i + 1] : null;
+
+      entries[i]._prev = i > 0 ? entries[i - 1] : null;
+      entries[i].setNext(next);
+
+      if (isSmall)
+        entries[i].setNextHash(next);
+    }
+
+    _head = entries[0];
+    _tail = entries[length - 1];
+
+    setCurrent(_head);
+  }
+
+  /**
+   * Switches from the hashed to the packed form, renumbering the keys.
+   */
+  private void pack()
+  {
+    Value []packed = new Value[Math.max(MIN_PACKED, _size)];
+
+    int i = 0;
+    for (Entry ptr = _head; ptr != null; ptr = ptr.getNext())
+      packed[i++] = ptr.getRawValue();
+
+    _entries = null;
+    _head = _tail = null;
+    setCurrent(null);
+
+    _packed = packed;
+    _packedCurrent = 0;
+    _nextAvailableIndex = _size;
+  }
+
   /**
    * Returns the array keys.
    */
@@ -1293,6 +2026,43 @@ public class ArrayValueImpl extends ArrayValue
       return super.getValues();
   }
 
+  /**
+   * Iterates over the packed values present when it was created, like a
+   * foreach over a copy.
+   */
+  abstract static class PackedIterator<T> implements Iterator<T> {
+    private final Value []_values;
+    private final int _size;
+    private int _index;
+
+    PackedIterator(Value []values, int size)
+    {
+      _values = values;
+      _size = size;
+    }
+
+    abstract T get(Value []values, int i);
+
+    public boolean hasNext()
+    {
+      // a slot is cleared when the tail is removed
+      return _index < _size && _values[_index] != null;
+    }
+
+    public T next()
+    {
+      if (hasNext())
+        return get(_values, _index++);
+      else
+        return null;
+    }
+
+    public void remove()
+    {
+      throw new UnsupportedOperationException();
+    }
+  }
+
   //
   // Java serialization code
   //
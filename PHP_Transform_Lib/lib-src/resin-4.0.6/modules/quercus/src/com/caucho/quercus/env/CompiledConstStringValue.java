@@ -180,7 +180,13 @@ public final class CompiledConstStringValue
   @Override
   public ValueType getValueType()
   {
-    return _valueType;
+    ValueType valueType = _valueType;
+
+    // transient, so recomputed after a parse-cache load
+    if (valueType == null)
+      valueType = super.getValueType();
+
+    return valueType;
   }
 
   /**
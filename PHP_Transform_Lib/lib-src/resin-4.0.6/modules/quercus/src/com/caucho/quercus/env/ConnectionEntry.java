@@ -48,6 +48,8 @@ public class ConnectionEntry implements EnvCleanup
   private Connection _conn;
   private boolean _isReuse;
 
+  private PreparedStatementCache _statementCache;
+
   public ConnectionEntry(Env env)
   {
     _env = env;
@@ -86,11 +88,25 @@ public class ConnectionEntry implements EnvCleanup
     return _conn;
   }
 
+  /**
+   * Returns the cache of the connection's prepared statements.
+   */
+  public PreparedStatementCache getStatementCache()
+  {
+    if (_statementCache == null && _conn != null)
+      _statementCache = new PreparedStatementCache(_env.getQuercus(), _conn);
+
+    return _statementCache;
+  }
+
   public void setCatalog(String catalog)
     throws SQLException
   {
     _isReuse = false;
 
+    if (_statementCache != null)
+      _statementCache.clear();
+
     _conn.setCatalog(catalog);
   }
 
@@ -152,6 +168,12 @@ public class ConnectionEntry implements EnvCleanup
     Connection conn = _conn;
     _conn = null;
 
+    PreparedStatementCache statementCache = _statementCache;
+    _statementCache = null;
+
+    if (statementCache != null)
+      statementCache.clear();
+
     if (conn != null)
       conn.close();
   }
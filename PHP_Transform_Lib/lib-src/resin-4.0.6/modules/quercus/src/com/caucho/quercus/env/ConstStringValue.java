@@ -46,7 +46,7 @@ public class ConstStringValue
   protected String _string;
 
   protected Value _key;
-  protected ValueType _valueType;
+  protected transient ValueType _valueType;
   protected char []_serializeValue;
 
   public ConstStringValue()
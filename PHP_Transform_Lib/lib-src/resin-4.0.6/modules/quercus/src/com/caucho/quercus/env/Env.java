@@ -45,6 +45,8 @@ import com.caucho.quercus.module.ModuleContext;
 import com.caucho.quercus.module.ModuleStartupListener;
 import com.caucho.quercus.module.IniDefinition;
 import com.caucho.quercus.page.QuercusPage;
+import com.caucho.quercus.profile.ProfileSampler;
+import com.caucho.quercus.profile.Profiler;
 import com.caucho.quercus.program.*;
 import com.caucho.quercus.function.AbstractFunction;
 import com.caucho.quercus.resources.StreamContextResource;
@@ -219,6 +221,8 @@ public class Env {
 
   // Current env
   private Map<StringValue, EnvVar> _map = _globalMap;
+  // Current env when it is a slot-indexed frame
+  private LocalVarFrame _frame;
 
   private HashMap<String, Value> _iniMap;
 
@@ -275,6 +279,11 @@ public class Env {
   private Value [][] _callArgStack;
   private int _callStackTop;
 
+  // profile of this request, see QuercusContext.setProfileProbability
+  private Profiler _profiler;
+  // set when the profile times each call instead of being sampled
+  private Profiler _callProfiler;
+
   private QuercusClass _callingClass;
 
   private Value [] _functionArgs;
@@ -945,6 +954,10 @@ public class Env {
       listener.startup(this);
     
     _quercus.startEnv(this);
+
+    if (_quercus.isProfile()
+        && RandomUtil.nextDouble() < _quercus.getProfileProbability())
+      startProfile();
   }
 
   /**
@@ -1304,6 +1317,22 @@ public class Env {
     }
   }
 
+  /**
+   * Prints the bytes of a string value.  The bytes must not change
+   * afterwards, since an output buffer may keep them by reference.
+   */
+  public final void writeRef(byte []buffer, int offset, int length)
+  {
+    try {
+      if (_outputBuffer != null)
+        _outputBuffer.writeRef(buffer, offset, length);
+      else
+        getOut().write(buffer, offset, length);
+    } catch (IOException e) {
+      throw new QuercusModuleException(e);
+    }
+  }
+
   /**
    * Returns the current output buffer.
    */
@@ -2075,7 +2104,7 @@ public class Env {
   {
     Map<StringValue,EnvVar> oldEnv = _map;
 
-    _map = map;
+    setEnv(map);
 
     return oldEnv;
   }
@@ -2085,7 +2114,25 @@ public class Env {
    */
   public void popEnv(Map<StringValue,EnvVar> oldEnv)
   {
-    _map = oldEnv;
+    setEnv(oldEnv);
+  }
+
+  private void setEnv(Map<StringValue,EnvVar> map)
+  {
+    _map = map;
+
+    if (map instanceof LocalVarFrame)
+      _frame = (LocalVarFrame) map;
+    else
+      _frame = null;
+  }
+
+  /**
+   * Returns the current environment if it is a slot-indexed frame.
+   */
+  public final LocalVarFrame getLocalFrame()
+  {
+    return _frame;
   }
 
   /**
@@ -2914,6 +2961,9 @@ public class Env {
     _callArgStack[_callStackTop] = args;
 
     _callStackTop++;
+
+    if (_callProfiler != null)
+      _callProfiler.enter(call, obj);
   }
 
   /**
@@ -2924,6 +2974,9 @@ public class Env {
     if (_callStack == null)
       throw new IllegalStateException();
 
+    if (_callProfiler != null)
+      _callProfiler.exit();
+
     return _callStack[--_callStackTop];
   }
 
@@ -3003,6 +3056,62 @@ public class Env {
   {
   }
 
+  /**
+   * Starts profiling the request, either timing each call or
+   * registering with the context's sampler.
+   */
+  private void startProfile()
+  {
+    ProfileSampler sampler = _quercus.getProfileSampler();
+
+    _profiler = new Profiler(sampler != null);
+
+    if (sampler != null)
+      sampler.add(this, _profiler);
+    else
+      _callProfiler = _profiler;
+  }
+
+  /**
+   * Called by the ProfileSampler thread to record the current call stack.
+   */
+  public void sampleProfile(Profiler profiler, long nanos)
+  {
+    int top = _callStackTop;
+
+    profiler.addSample(_callStack, _callThisStack, top, nanos);
+  }
+
+  /**
+   * Hands the request's profile to the context.
+   */
+  private void finishProfile()
+  {
+    Profiler profiler = _profiler;
+
+    if (profiler == null)
+      return;
+
+    _profiler = null;
+    _callProfiler = null;
+
+    ProfileSampler sampler = _quercus.getProfileSampler();
+
+    if (sampler != null)
+      sampler.remove(this);
+
+    String url;
+
+    if (_request != null)
+      url = _request.getRequestURI();
+    else if (_selfPath != null)
+      url = _selfPath.getNativePath();
+    else
+      url = String.valueOf(_page);
+
+    _quercus.addProfileReport(profiler.createReport(url, _startTime));
+  }
+
   /*
    * Returns true if <code>name</code> doesn't already exist on the
    * field __get() stack.
@@ -4216,7 +4325,7 @@ public class Env {
     Map<StringValue,EnvVar> oldGlobal = _globalMap;
 
     _globalMap = new LazySymbolMap(globalNameMap, globalList);
-    _map = _globalMap;
+    setEnv(_globalMap);
 
     // php/4045 - set the vars for any active EnvVar entries
     for (Map.Entry<StringValue,EnvVar> oldEntry : oldGlobal.entrySet()) {
@@ -6867,6 +6976,8 @@ public class Env {
     //}
     finally {
       cleanup();
+
+      finishProfile();
     }
   }
 
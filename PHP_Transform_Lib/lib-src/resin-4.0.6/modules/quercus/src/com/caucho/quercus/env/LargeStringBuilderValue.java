@@ -38,17 +38,25 @@ import com.caucho.util.*;
 
 /**
  * Represents a 8-bit PHP 5 style binary builder (unicode.semantics = off),
- * used for large data like file reads.
+ * used for large data like file reads and for strings grown by repeated
+ * appends.  The data is kept in TempBuffer-sized chunks, so appends never
+ * copy what's already written and printing writes the chunks directly.
+ *
+ * Like StringBuilderValue, toStringBuilder shares the chunks with the new
+ * builder and marks this value as a copy.  Chunks before the length are
+ * never written again, so copying a shared value only copies the chunk
+ * index and its partial last chunk.
  */
 public class LargeStringBuilderValue
   extends StringValue
 {
   public static final StringValue EMPTY = StringBuilderValue.EMPTY;
   
-  public static final int SIZE = 4 * 1024;
+  public static final int SIZE = TempBuffer.LARGE_SIZE;
   
   protected byte [][]_bufferList;
   protected int _length;
+  private boolean _isCopy;
 
   private int _hashCode;
   private String _value;
@@ -71,6 +79,34 @@ public class LargeStringBuilderValue
     
     s.appendTo(this);
   }
+
+  /**
+   * Creates a builder sharing the chunks of v, copy-on-write.
+   */
+  public LargeStringBuilderValue(LargeStringBuilderValue v)
+  {
+    int length = v._length;
+
+    if (v._isCopy) {
+      int fullChunks = length / SIZE;
+      int tail = length % SIZE;
+
+      _bufferList = new byte[fullChunks + 32][];
+      System.arraycopy(v._bufferList, 0, _bufferList, 0, fullChunks);
+
+      if (tail > 0) {
+        byte []chunk = new byte[SIZE];
+        System.arraycopy(v._bufferList[fullChunks], 0, chunk, 0, tail);
+        _bufferList[fullChunks] = chunk;
+      }
+    }
+    else {
+      _bufferList = v._bufferList;
+      v._isCopy = true;
+    }
+
+    _length = length;
+  }
   
   /**
    * Creates an empty string builder of the same type.
@@ -213,9 +249,7 @@ public class LargeStringBuilderValue
   @Override
   public StringValue toStringBuilder()
   {
-    // XXX: can this just return this, or does it need to return a copy?
-    
-    return new LargeStringBuilderValue(_bufferList, _length);
+    return new LargeStringBuilderValue(this);
   }
 
   /**
@@ -249,7 +283,8 @@ public class LargeStringBuilderValue
       bb.append(_bufferList[i], 0, SIZE);
     }
 
-    bb.append(_bufferList[i], 0, tail);
+    if (tail > 0)
+      bb.append(_bufferList[i], 0, tail);
   }
 
   /**
@@ -451,7 +486,7 @@ public class LargeStringBuilderValue
   @Override
   public StringValue toStringBuilder(Env env)
   {
-    return new LargeStringBuilderValue(_bufferList, _length);
+    return new LargeStringBuilderValue(this);
   }
 
   /**
@@ -717,7 +752,7 @@ public class LargeStringBuilderValue
       if (SIZE < sublen)
 	sublen = SIZE;
 	
-      env.write(_bufferList[chunk], 0, sublen);
+      env.writeRef(_bufferList[chunk], 0, sublen);
     }
   }
 
@@ -764,11 +799,6 @@ public class LargeStringBuilderValue
 
   private void ensureCapacity(int newCapacity)
   {
-    if (newCapacity > 10000000) {
-      Thread.dumpStack();
-      throw new IllegalStateException();
-    }
-    
     int chunk = _length / SIZE;
     int endChunk = newCapacity / SIZE;
 
@@ -932,7 +962,7 @@ public class LargeStringBuilderValue
     @Override
     public void write(int ch)
     {
-      append(ch);
+      append((byte) ch);
     }
 
     /**
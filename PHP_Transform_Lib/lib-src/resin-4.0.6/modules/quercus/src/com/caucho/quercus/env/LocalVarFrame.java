@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 1998-2010 Caucho Technology -- all rights reserved
+ *
+ * This file is part of Resin(R) Open Source
+ *
+ * Each copy or derived work must preserve the copyright notice and this
+ * notice unmodified.
+ *
+ * Resin Open Source is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Resin Open Source is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE, or any warranty
+ * of NON-INFRINGEMENT.  See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Resin Open Source; if not, write to the
+ *
+ *   Free Software Foundation, Inc.
+ *   59 Temple Place, Suite 330
+ *   Boston, MA 02111-1307  USA
+ *
+ */
+
+package com.caucho.quercus.env;
+
+import com.caucho.quercus.program.FunctionInfo;
+
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Slot-indexed local variables for an interpreted function call.  Each
+ * VarInfo of the function owns a slot, so VarExpr reads and writes the
+ * array directly.  Lookups by name (global, static, include) resolve the
+ * slot through the FunctionInfo; unknown names go to an overflow map.
+ */
+public final class LocalVarFrame extends AbstractMap<StringValue,EnvVar> {
+  private final FunctionInfo _info;
+  private final EnvVar []_slots;
+
+  private HashMap<StringValue,EnvVar> _extMap;
+
+  public LocalVarFrame(FunctionInfo info, int size)
+  {
+    _info = info;
+    _slots = new EnvVar[size];
+  }
+
+  /**
+   * Returns the function owning the slots.
+   */
+  public FunctionInfo getInfo()
+  {
+    return _info;
+  }
+
+  /**
+   * Returns the slot array.
+   */
+  public EnvVar []getSlots()
+  {
+    return _slots;
+  }
+
+  /**
+   * Sets a variable by slot, or by name if the slot is -1.
+   */
+  public void put(int slot, StringValue key, EnvVar envVar)
+  {
+    if (slot >= 0)
+      _slots[slot] = envVar;
+    else
+      put(key, envVar);
+  }
+
+  /**
+   * Returns the matching value, or null.
+   */
+  @Override
+  public EnvVar get(Object key)
+  {
+    return get((StringValue) key);
+  }
+
+  /**
+   * Returns the matching value, or null.
+   */
+  public EnvVar get(StringValue key)
+  {
+    int slot = _info.getVarSlot(key);
+
+    if (slot >= 0 && slot < _slots.length)
+      return _slots[slot];
+    else if (_extMap != null)
+      return _extMap.get(key);
+    else
+      return null;
+  }
+
+  /**
+   * Sets the matching value, returning the old one.
+   */
+  @Override
+  public EnvVar put(StringValue key, EnvVar envVar)
+  {
+    int slot = _info.getVarSlot(key);
+
+    if (slot >= 0 && slot < _slots.length) {
+      EnvVar oldVar = _slots[slot];
+
+      _slots[slot] = envVar;
+
+      return oldVar;
+    }
+
+    if (_extMap == null)
+      _extMap = new HashMap<StringValue,EnvVar>();
+
+    return _extMap.put(key, envVar);
+  }
+
+  @Override
+  public boolean containsKey(Object key)
+  {
+    return get(key) != null;
+  }
+
+  /**
+   * Returns a snapshot of the defined variables.
+   */
+  @Override
+  public Set<Map.Entry<StringValue,EnvVar>> entrySet()
+  {
+    LinkedHashMap<StringValue,EnvVar> map
+      = new LinkedHashMap<StringValue,EnvVar>();
+
+    StringValue []names = _info.getSlotNames();
+
+    for (int i = 0; i < _slots.length; i++) {
+      if (_slots[i] != null)
+        map.put(names[i], _slots[i]);
+    }
+
+    if (_extMap != null)
+      map.putAll(_extMap);
+
+    return map.entrySet();
+  }
+}
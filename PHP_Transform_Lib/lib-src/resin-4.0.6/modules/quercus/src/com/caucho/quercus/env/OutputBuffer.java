@@ -44,6 +44,9 @@ public class OutputBuffer {
   private static final Logger log
     = Logger.getLogger(OutputBuffer.class.getName());
 
+  // shorter strings are cheaper to copy than to reference
+  private static final int REF_LENGTH = 1024;
+
   private int _state;
   private boolean _haveFlushed;
   private Callable _callback;
@@ -54,7 +57,7 @@ public class OutputBuffer {
 
   private final OutputBuffer _next;
 
-  private TempStream _tempStream;
+  private OutputBufferStream _tempStream;
   private WriteStream _out;
 
   private final Env _env;
@@ -75,7 +78,7 @@ public class OutputBuffer {
     _env = env;
     _callback = callback;
 
-    _tempStream = new TempStream();
+    _tempStream = new OutputBufferStream();
     _out = new WriteStream(_tempStream);
     
     _out.setNewlineString("\n");
@@ -119,6 +122,22 @@ public class OutputBuffer {
     return _out;
   }
 
+  /**
+   * Writes the bytes of a string value.  Long strings are added by
+   * reference instead of being copied through the WriteStream.
+   */
+  public void writeRef(byte []buffer, int offset, int length)
+    throws IOException
+  {
+    if (length < REF_LENGTH)
+      _out.write(buffer, offset, length);
+    else {
+      _out.flush();
+
+      _tempStream.writeRef(buffer, offset, length);
+    }
+  }
+
   /**
    * Returns the buffer contents.
    */
@@ -129,11 +148,7 @@ public class OutputBuffer {
 
       StringValue bb = _env.createBinaryBuilder(_tempStream.getLength());
 
-      for (TempBuffer ptr = _tempStream.getHead();
-	   ptr != null;
-	   ptr = ptr.getNext()) {
-	bb.append(ptr.getBuffer(), 0, ptr.getLength());
-      }
+      _tempStream.appendTo(bb);
 
       return bb;
     } catch (IOException e) {
@@ -252,7 +267,7 @@ public class OutputBuffer {
     WriteStream out = _out;
     _out = null;
 
-    TempStream tempStream = _tempStream;
+    OutputBufferStream tempStream = _tempStream;
     _tempStream = null;
 
     try {
@@ -263,7 +278,7 @@ public class OutputBuffer {
     }
 
     if (tempStream != null)
-      tempStream.destroy();
+      tempStream.clearWrite();
   }
 
   /**
@@ -300,7 +315,7 @@ public class OutputBuffer {
 
       WriteStream out = getNextOut();
 
-      _tempStream.writeToStream(out);
+      _tempStream.writeToStream(out, _next);
 
       _tempStream.clearWrite();
     } catch (IOException e) {
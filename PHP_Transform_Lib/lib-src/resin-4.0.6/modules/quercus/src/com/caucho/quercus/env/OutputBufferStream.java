@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 1998-2010 Caucho Technology -- all rights reserved
+ *
+ * This file is part of Resin(R) Open Source
+ *
+ * Each copy or derived work must preserve the copyright notice and this
+ * notice unmodified.
+ *
+ * Resin Open Source is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Resin Open Source is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE, or any warranty
+ * of NON-INFRINGEMENT.  See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Resin Open Source; if not, write to the
+ *
+ *   Free Software Foundation, Inc.
+ *   59 Temple Place, Suite 330
+ *   Boston, MA 02111-1307  USA
+ *
+ */
+
+package com.caucho.quercus.env;
+
+import com.caucho.vfs.StreamImpl;
+import com.caucho.vfs.TempBuffer;
+import com.caucho.vfs.WriteStream;
+
+import java.io.IOException;
+
+/**
+ * The contents of an output buffer.  Writes through the WriteStream are
+ * copied into TempBuffers, while the bytes of string values are kept by
+ * reference, since a string's bytes before its length never change.
+ */
+class OutputBufferStream extends StreamImpl
+{
+  private Segment _head;
+  private Segment _tail;
+
+  private int _length;
+
+  @Override
+  public boolean canWrite()
+  {
+    return true;
+  }
+
+  /**
+   * Copies written data into the tail buffer.
+   */
+  @Override
+  public void write(byte []buf, int offset, int length, boolean isEnd)
+    throws IOException
+  {
+    _length += length;
+
+    while (length > 0) {
+      Segment tail = _tail;
+
+      if (tail == null || tail._tempBuffer == null
+          || tail._buffer.length <= tail._end) {
+        TempBuffer tempBuffer = TempBuffer.allocate();
+
+        tail = addSegment(new Segment(tempBuffer, tempBuffer.getBuffer(), 0));
+      }
+
+      int sublen = tail._buffer.length - tail._end;
+
+      if (length < sublen)
+        sublen = length;
+
+      System.arraycopy(buf, offset, tail._buffer, tail._end, sublen);
+
+      tail._end += sublen;
+      offset += sublen;
+      length -= sublen;
+    }
+  }
+
+  /**
+   * Adds the bytes of a string value without copying.
+   */
+  public void writeRef(byte []buf, int offset, int length)
+  {
+    Segment segment = new Segment(null, buf, offset);
+    segment._end = offset + length;
+
+    addSegment(segment);
+
+    _length += length;
+  }
+
+  private Segment addSegment(Segment segment)
+  {
+    if (_tail != null)
+      _tail._next = segment;
+    else
+      _head = segment;
+
+    _tail = segment;
+
+    return segment;
+  }
+
+  /**
+   * Returns the total length.
+   */
+  public int getLength()
+  {
+    return _length;
+  }
+
+  /**
+   * Appends the contents to a string builder.
+   */
+  public void appendTo(StringValue sb)
+  {
+    for (Segment ptr = _head; ptr != null; ptr = ptr._next) {
+      sb.append(ptr._buffer, ptr._offset, ptr._end - ptr._offset);
+    }
+  }
+
+  /**
+   * Writes the contents to an output stream.  References stay references
+   * when the stream is another output buffer.
+   */
+  public void writeToStream(WriteStream out, OutputBuffer next)
+    throws IOException
+  {
+    for (Segment ptr = _head; ptr != null; ptr = ptr._next) {
+      int sublen = ptr._end - ptr._offset;
+
+      if (ptr._tempBuffer == null && next != null)
+        next.writeRef(ptr._buffer, ptr._offset, sublen);
+      else
+        out.write(ptr._buffer, ptr._offset, sublen);
+    }
+  }
+
+  /**
+   * Clears the contents, freeing the copied buffers.
+   */
+  @Override
+  public void clearWrite()
+  {
+    Segment ptr = _head;
+
+    _head = null;
+    _tail = null;
+    _length = 0;
+
+    for (; ptr != null; ptr = ptr._next) {
+      if (ptr._tempBuffer != null)
+        TempBuffer.free(ptr._tempBuffer);
+    }
+  }
+
+  static final class Segment {
+    final TempBuffer _tempBuffer;
+    final byte []_buffer;
+    final int _offset;
+    int _end;
+
+    Segment _next;
+
+    Segment(TempBuffer tempBuffer, byte []buffer, int offset)
+    {
+      _tempBuffer = tempBuffer;
+      _buffer = buffer;
+      _offset = offset;
+      _end = offset;
+    }
+  }
+}
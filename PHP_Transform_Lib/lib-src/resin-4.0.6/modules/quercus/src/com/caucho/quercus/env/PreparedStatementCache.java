@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 1998-2010 Caucho Technology -- all rights reserved
+ *
+ * This file is part of Resin(R) Open Source
+ *
+ * Each copy or derived work must preserve the copyright notice and this
+ * notice unmodified.
+ *
+ * Resin Open Source is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Resin Open Source is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE, or any warranty
+ * of NON-INFRINGEMENT.  See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Resin Open Source; if not, write to the
+ *
+ *   Free Software Foundation, Inc.
+ *   59 Temple Place, Suite 330
+ *   Boston, MA 02111-1307  USA
+ *
+ */
+
+package com.caucho.quercus.env;
+
+import com.caucho.quercus.QuercusContext;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An LRU of a connection's prepared statements by SQL, so a script that
+ * prepares the same query again reuses the driver's statement.
+ *
+ * A statement belongs to one owner at a time.  A later prepare of the
+ * same SQL takes the cached statement once its owner is idle, and the old
+ * owner prepares again if it executes later.
+ *
+ * The size and the hit and miss counts belong to the QuercusContext.  A
+ * cache lives for one Env's checkout of the connection and is cleared when
+ * the Env releases it, so statements aren't reused across requests here.
+ * That is left to the DataSource's pool, e.g. Resin's
+ * prepared-statement-cache-size; other DataSources may not pool them.
+ */
+public class PreparedStatementCache
+{
+  private static final Logger log
+    = Logger.getLogger(PreparedStatementCache.class.getName());
+
+  private final QuercusContext _quercus;
+  private final Connection _conn;
+  private final int _capacity;
+
+  private final LinkedHashMap<Key,Item> _itemMap
+    = new LinkedHashMap<Key,Item>(16, 0.75f, true);
+
+  private final IdentityHashMap<PreparedStatement,Item> _statementMap
+    = new IdentityHashMap<PreparedStatement,Item>();
+
+  public PreparedStatementCache(QuercusContext quercus, Connection conn)
+  {
+    _quercus = quercus;
+    _conn = conn;
+    _capacity = quercus.getPreparedStatementCacheSize();
+  }
+
+  /**
+   * Prepares a statement with the driver's default result set type.
+   */
+  public PreparedStatement prepareStatement(Owner owner, String sql)
+    throws SQLException
+  {
+    return prepareStatement(owner, sql, 0, 0);
+  }
+
+  /**
+   * Prepares a statement, reusing the cached one when its owner is idle.
+   */
+  public PreparedStatement prepareStatement(Owner owner, String sql,
+                                            int resultSetType,
+                                            int resultSetConcurrency)
+    throws SQLException
+  {
+    Key key = new Key(sql, resultSetType, resultSetConcurrency);
+
+    Item item = _itemMap.get(key);
+
+    if (item != null
+        && (item._owner == null || ! item._owner.isStatementInUse())) {
+      _quercus.addPreparedStatementCacheHit();
+
+      item._owner = owner;
+
+      item._stmt.clearParameters();
+
+      return item._stmt;
+    }
+
+    _quercus.addPreparedStatementCacheMiss();
+
+    PreparedStatement stmt;
+
+    if (resultSetType == 0)
+      stmt = _conn.prepareStatement(sql);
+    else
+      stmt = _conn.prepareStatement(sql, resultSetType, resultSetConcurrency);
+
+    // a busy cached statement keeps its place, and the new one is private
+    if (item == null && _capacity > 0) {
+      item = new Item(stmt, owner);
+
+      _itemMap.put(key, item);
+      _statementMap.put(stmt, item);
+
+      if (_capacity < _itemMap.size())
+        removeEldest();
+    }
+
+    return stmt;
+  }
+
+  /**
+   * Returns true if the owner still holds the statement, i.e. it hasn't
+   * been taken by a later prepare of the same SQL.
+   */
+  public boolean isOwner(Owner owner, PreparedStatement stmt)
+  {
+    Item item = _statementMap.get(stmt);
+
+    return item == null || item._owner == owner;
+  }
+
+  /**
+   * Returns the owner's statement to the cache, or closes it if it isn't
+   * cached.
+   */
+  public void release(Owner owner, PreparedStatement stmt)
+    throws SQLException
+  {
+    Item item = _statementMap.get(stmt);
+
+    if (item == null)
+      stmt.close();
+    else if (item._owner == owner)
+      item._owner = null;
+  }
+
+  /**
+   * Closes the idle statements and forgets the rest, e.g. when the
+   * catalog changes or before the connection closes.
+   */
+  public void clear()
+  {
+    for (Item item : _itemMap.values()) {
+      if (item._owner == null)
+        close(item._stmt);
+    }
+
+    _itemMap.clear();
+    _statementMap.clear();
+  }
+
+  private void removeEldest()
+  {
+    Iterator<Item> iter = _itemMap.values().iterator();
+
+    Item item = iter.next();
+    iter.remove();
+
+    _statementMap.remove(item._stmt);
+
+    // an owned statement is closed by its owner's release
+    if (item._owner == null)
+      close(item._stmt);
+  }
+
+  private static void close(PreparedStatement stmt)
+  {
+    try {
+      stmt.close();
+    } catch (SQLException e) {
+      log.log(Level.FINER, e.toString(), e);
+    }
+  }
+
+  /**
+   * The user of a statement, e.g. a PHP statement object.
+   */
+  public interface Owner {
+    /**
+     * Returns true while the owner is reading a result of the statement.
+     */
+    public boolean isStatementInUse();
+  }
+
+  static final class Key {
+    private final String _sql;
+    private final int _resultSetType;
+    private final int _resultSetConcurrency;
+
+    Key(String sql, int resultSetType, int resultSetConcurrency)
+    {
+      _sql = sql;
+      _resultSetType = resultSetType;
+      _resultSetConcurrency = resultSetConcurrency;
+    }
+
+    @Override
+    public int hashCode()
+    {
+      return 65521 * _sql.hashCode() + 31 * _resultSetType
+        + _resultSetConcurrency;
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+      if (! (o instanceof Key))
+        return false;
+
+      Key key = (Key) o;
+
+      return (_sql.equals(key._sql)
+              && _resultSetType == key._resultSetType
+              && _resultSetConcurrency == key._resultSetConcurrency);
+    }
+  }
+
+  static final class Item {
+    private final PreparedStatement _stmt;
+    private Owner _owner;
+
+    Item(PreparedStatement stmt, Owner owner)
+    {
+      _stmt = stmt;
+      _owner = owner;
+    }
+  }
+}
@@ -1614,7 +1614,7 @@ public class StringBuilderValue
    */
   public void print(Env env)
   {
-    env.write(_buffer, 0, _length);
+    env.writeRef(_buffer, 0, _length);
   }
 
   /**
@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 1998-2010 Caucho Technology -- all rights reserved
+ *
+ * This file is part of Resin(R) Open Source
+ *
+ * Each copy or derived work must preserve the copyright notice and this
+ * notice unmodified.
+ *
+ * Resin Open Source is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Resin Open Source is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE, or any warranty
+ * of NON-INFRINGEMENT.  See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Resin Open Source; if not, write to the
+ *
+ *   Free Software Foundation, Inc.
+ *   59 Temple Place, Suite 330
+ *   Boston, MA 02111-1307  USA
+ *
+ */
+
+package com.caucho.quercus.env;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.caucho.util.CacheListener;
+import com.caucho.util.ConcurrentLruCache;
+
+/**
+ * Cache of unserialized values, keyed by the serialized string's contents
+ * and shared by all Envs.
+ *
+ * Trees of arrays and scalars are frozen into ConstArrayValues, so a hit is a lazy
+ * copy-on-write ArrayValueImpl and the tree is only copied if the script
+ * modifies it.  Values containing objects are deep-copied on each hit.
+ */
+public class UnserializeCache
+{
+  private final ConcurrentLruCache<Key,Item> _cache;
+
+  private final AtomicLong _bytes = new AtomicLong();
+
+  public UnserializeCache(int capacity)
+  {
+    _cache = new ConcurrentLruCache<Key,Item>(capacity, true);
+  }
+
+  /**
+   * Returns a copy of the cached value, or null on a miss.
+   */
+  public Value get(Env env, StringValue s)
+  {
+    Item item = _cache.get(new Key(s, s));
+
+    if (item != null)
+      return item.getValue(env);
+    else
+      return null;
+  }
+
+  /**
+   * Caches a newly unserialized value, returning the value for the caller.
+   */
+  public Value put(Env env, StringValue s, Value value)
+  {
+    Value frozen = freeze(value);
+
+    Item item;
+
+    if (frozen != null) {
+      // the frozen tree is a copy, so the original is the caller's
+      item = new Item(s.length(), frozen, null);
+    }
+    else {
+      item = new Item(s.length(), null, new UnserializeCacheEntry(value));
+
+      value = item.getValue(env);
+    }
+
+    _bytes.addAndGet(item._length);
+
+    _cache.put(new Key(s.toString(), s), item);
+
+    return value;
+  }
+
+  public int getCapacity()
+  {
+    return _cache.getCapacity();
+  }
+
+  public int getSize()
+  {
+    return _cache.size();
+  }
+
+  public long getHitCount()
+  {
+    return _cache.getHitCount();
+  }
+
+  public long getMissCount()
+  {
+    return _cache.getMissCount();
+  }
+
+  /**
+   * Returns the total length of the cached serialized strings.
+   */
+  public long getBytes()
+  {
+    return _bytes.get();
+  }
+
+  /**
+   * Returns an immutable copy of the value, or null if it contains
+   * objects or references.
+   */
+  private static Value freeze(Value value)
+  {
+    if (value instanceof ArrayValue) {
+      ArrayValue array = (ArrayValue) value;
+      ArrayValueImpl copy = new ArrayValueImpl();
+
+      for (ArrayValue.Entry ptr = array.getHead();
+           ptr != null;
+           ptr = ptr.getNext()) {
+        Value child = freeze(ptr.getRawValue());
+
+        if (child == null)
+          return null;
+
+        copy.append(ptr.getKey(), child);
+      }
+
+      // shared arrays must be hashed, since getHead() unpacks in place
+      copy.getHead();
+
+      return new ConstArrayValue(copy);
+    }
+    else if (value instanceof StringValue
+             || value instanceof LongValue
+             || value instanceof DoubleValue
+             || value instanceof BooleanValue
+             || value instanceof NullValue)
+      return value;
+    else
+      return null;
+  }
+
+  /**
+   * The serialized string.  Lookups wrap the caller's string, while
+   * cached keys hold an immutable copy.
+   */
+  static final class Key {
+    private final CharSequence _string;
+    private final int _hash;
+
+    Key(CharSequence string, StringValue source)
+    {
+      _string = string;
+
+      // every character, since serialized blobs often share long prefixes
+      int hash = 0;
+      int length = source.length();
+
+      for (int i = 0; i < length; i++)
+        hash = 31 * hash + source.charAt(i);
+
+      _hash = hash;
+    }
+
+    @Override
+    public int hashCode()
+    {
+      return _hash;
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+      if (this == o)
+        return true;
+      else if (! (o instanceof Key))
+        return false;
+
+      Key key = (Key) o;
+
+      if (_hash != key._hash)
+        return false;
+
+      CharSequence a = _string;
+      CharSequence b = key._string;
+
+      int length = a.length();
+
+      if (length != b.length())
+        return false;
+
+      for (int i = 0; i < length; i++) {
+        if (a.charAt(i) != b.charAt(i))
+          return false;
+      }
+
+      return true;
+    }
+  }
+
+  final class Item implements CacheListener {
+    private final int _length;
+    private final Value _frozen;
+    private final UnserializeCacheEntry _entry;
+
+    Item(int length, Value frozen, UnserializeCacheEntry entry)
+    {
+      _length = length;
+      _frozen = frozen;
+      _entry = entry;
+    }
+
+    Value getValue(Env env)
+    {
+      if (_frozen != null)
+        return _frozen.copy();
+      else
+        return _entry.getValue(env);
+    }
+
+    public void removeEvent()
+    {
+      _bytes.addAndGet(- _length);
+    }
+  }
+}
@@ -30,6 +30,7 @@
 package com.caucho.quercus.expr;
 
 import com.caucho.quercus.Location;
+import com.caucho.quercus.gen.PhpWriter;
 
 /**
  * Common analysis for a PHP binary expression.
@@ -66,5 +67,20 @@ abstract public class AbstractBinaryExpr extends Expr {
   {
     return _right;
   }
+
+  //
+  // Java code generation
+  //
+
+  /**
+   * Generates left.op(right), evaluating left first.
+   */
+  protected void generateBinary(PhpWriter out, String op)
+  {
+    _left.generate(out);
+    out.print("." + op + "(");
+    _right.generate(out);
+    out.print(")");
+  }
 }
 
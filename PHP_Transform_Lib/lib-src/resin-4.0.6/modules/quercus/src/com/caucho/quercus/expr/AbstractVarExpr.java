@@ -33,6 +33,7 @@ import com.caucho.quercus.Location;
 import com.caucho.quercus.env.Env;
 import com.caucho.quercus.env.Value;
 import com.caucho.quercus.env.Var;
+import com.caucho.quercus.gen.PhpWriter;
 import com.caucho.quercus.parser.QuercusParser;
 import com.caucho.quercus.statement.Statement;
 
@@ -230,5 +231,19 @@ abstract public class AbstractVarExpr extends Expr {
    * @return the expression value.
    */
   abstract public Value evalAssignRef(Env env, Value value);
+
+  //
+  // Java code generation
+  //
+
+  /**
+   * Generates code assigning the value to the variable.
+   */
+  public void generateAssign(PhpWriter out, Expr value)
+  {
+    out.print(out.addExpr(this) + ".evalAssignValue(env, ");
+    value.generateCopy(out);
+    out.print(")");
+  }
 }
 
@@ -55,6 +55,22 @@ public class ArrayIsSetExpr extends Expr {
     _index = index;
   }
 
+  /**
+   * Returns the array expression.
+   */
+  public Expr getExpr()
+  {
+    return _expr;
+  }
+
+  /**
+   * Returns the index.
+   */
+  public Expr getIndex()
+  {
+    return _index;
+  }
+
   public boolean isBoolean()
   {
     return true;
@@ -53,6 +53,22 @@ public class ArrayUnsetExpr extends Expr {
     _index = index;
   }
 
+  /**
+   * Returns the array expression.
+   */
+  public Expr getExpr()
+  {
+    return _expr;
+  }
+
+  /**
+   * Returns the index.
+   */
+  public Expr getIndex()
+  {
+    return _index;
+  }
+
   /**
    * Evaluates the expression.
    *
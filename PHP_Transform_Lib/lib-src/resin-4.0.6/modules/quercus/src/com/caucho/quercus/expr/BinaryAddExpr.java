@@ -32,6 +32,7 @@ package com.caucho.quercus.expr;
 import com.caucho.quercus.Location;
 import com.caucho.quercus.env.Env;
 import com.caucho.quercus.env.Value;
+import com.caucho.quercus.gen.PhpWriter;
 
 /**
  * Represents a PHP add expression.
@@ -79,6 +80,16 @@ public class BinaryAddExpr extends AbstractBinaryExpr {
     return true;
   }
 
+  //
+  // Java code generation
+  //
+
+  @Override
+  public void generate(PhpWriter out)
+  {
+    generateBinary(out, "add");
+  }
+
   public String toString()
   {
     return "(" + _left + " + " + _right + ")";
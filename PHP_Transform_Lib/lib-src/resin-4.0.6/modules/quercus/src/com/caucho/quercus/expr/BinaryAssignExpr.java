@@ -33,6 +33,7 @@ import com.caucho.quercus.Location;
 import com.caucho.quercus.env.Env;
 import com.caucho.quercus.env.Value;
 import com.caucho.quercus.env.Var;
+import com.caucho.quercus.gen.PhpWriter;
 
 /**
  * Represents a PHP assignment expression.
@@ -55,6 +56,22 @@ public class BinaryAssignExpr extends Expr {
     _value = value;
   }
 
+  /**
+   * Returns the assigned variable.
+   */
+  public AbstractVarExpr getVar()
+  {
+    return _var;
+  }
+
+  /**
+   * Returns the assigned value.
+   */
+  public Expr getValue()
+  {
+    return _value;
+  }
+
   /**
    * Creates a assignment
    * @param location
@@ -122,6 +139,16 @@ public class BinaryAssignExpr extends Expr {
     return _var.eval(env);
   }
 
+  //
+  // Java code generation
+  //
+
+  @Override
+  public void generate(PhpWriter out)
+  {
+    _var.generateAssign(out, _value);
+  }
+
   public String toString()
   {
     return _var + "=" + _value;
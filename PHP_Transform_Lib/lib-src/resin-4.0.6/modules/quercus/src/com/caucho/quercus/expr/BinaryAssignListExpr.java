@@ -46,6 +46,22 @@ public class BinaryAssignListExpr extends Expr {
     _value = value;
   }
 
+  /**
+   * Returns the list() variables.
+   */
+  public ListHeadExpr getListHead()
+  {
+    return _listHead;
+  }
+
+  /**
+   * Returns the assigned value.
+   */
+  public Expr getValue()
+  {
+    return _value;
+  }
+
   /**
    * Evaluates the expression.
    *
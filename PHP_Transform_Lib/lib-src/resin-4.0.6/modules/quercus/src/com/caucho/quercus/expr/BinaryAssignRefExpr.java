@@ -53,6 +53,22 @@ public class BinaryAssignRefExpr extends Expr {
     _value = value;
   }
 
+  /**
+   * Returns the assigned variable.
+   */
+  public AbstractVarExpr getVar()
+  {
+    return _var;
+  }
+
+  /**
+   * Returns the referenced value.
+   */
+  public Expr getValue()
+  {
+    return _value;
+  }
+
   /**
    * Returns true if a static false value.
    */
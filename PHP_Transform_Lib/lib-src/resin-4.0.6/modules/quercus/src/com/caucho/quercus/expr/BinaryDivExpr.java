@@ -33,6 +33,7 @@ import com.caucho.quercus.Location;
 import com.caucho.quercus.env.DoubleValue;
 import com.caucho.quercus.env.Env;
 import com.caucho.quercus.env.Value;
+import com.caucho.quercus.gen.PhpWriter;
 
 /**
  * Represents a PHP division expression.
@@ -71,6 +72,16 @@ public class BinaryDivExpr extends AbstractBinaryExpr {
     return lValue.div(rValue);
   }
 
+  //
+  // Java code generation
+  //
+
+  @Override
+  public void generate(PhpWriter out)
+  {
+    generateBinary(out, "div");
+  }
+
   public String toString()
   {
     return "(" + _left + " / " + _right + ")";
@@ -33,6 +33,7 @@ import com.caucho.quercus.Location;
 import com.caucho.quercus.env.BooleanValue;
 import com.caucho.quercus.env.Env;
 import com.caucho.quercus.env.Value;
+import com.caucho.quercus.gen.PhpWriter;
 
 /**
  * Represents a PHP equality testing expression.
@@ -72,6 +73,22 @@ public class BinaryEqualsExpr extends AbstractBinaryExpr {
     return lValue.eql(rValue);
   }
 
+  //
+  // Java code generation
+  //
+
+  @Override
+  public void generate(PhpWriter out)
+  {
+    generateBooleanValue(out);
+  }
+
+  @Override
+  public void generateBoolean(PhpWriter out)
+  {
+    generateBinary(out, "eql");
+  }
+
   public String toString()
   {
     return "(" + _left + " === " + _right + ")";
@@ -33,6 +33,7 @@ import com.caucho.quercus.Location;
 import com.caucho.quercus.env.BooleanValue;
 import com.caucho.quercus.env.Env;
 import com.caucho.quercus.env.Value;
+import com.caucho.quercus.gen.PhpWriter;
 
 /**
  * Represents a PHP comparison expression.
@@ -75,6 +76,22 @@ public class BinaryGeqExpr extends AbstractBinaryExpr {
     return lValue.geq(rValue);
   }
 
+  //
+  // Java code generation
+  //
+
+  @Override
+  public void generate(PhpWriter out)
+  {
+    generateBooleanValue(out);
+  }
+
+  @Override
+  public void generateBoolean(PhpWriter out)
+  {
+    generateBinary(out, "geq");
+  }
+
   public String toString()
   {
     return "(" + _left + " >= " + _right + ")";
@@ -54,6 +54,14 @@ public class BinaryInstanceOfExpr extends AbstractUnaryExpr {
     _right = right;
   }
 
+  /**
+   * Returns the class name.
+   */
+  public String getRight()
+  {
+    return _right;
+  }
+
   /**
    * Returns true for a boolean.
    */
@@ -32,6 +32,7 @@ package com.caucho.quercus.expr;
 import com.caucho.quercus.Location;
 import com.caucho.quercus.env.Env;
 import com.caucho.quercus.env.Value;
+import com.caucho.quercus.gen.PhpWriter;
 
 /**
  * Represents a PHP mod expression.
@@ -78,6 +79,16 @@ public class BinaryModExpr extends AbstractBinaryExpr {
     return lValue.mod(rValue);
   }
 
+  //
+  // Java code generation
+  //
+
+  @Override
+  public void generate(PhpWriter out)
+  {
+    generateBinary(out, "mod");
+  }
+
   public String toString()
   {
     return "(" + _left + " % " + _right + ")";
@@ -32,6 +32,7 @@ package com.caucho.quercus.expr;
 import com.caucho.quercus.Location;
 import com.caucho.quercus.env.Env;
 import com.caucho.quercus.env.Value;
+import com.caucho.quercus.gen.PhpWriter;
 
 /**
  * Represents a PHP multiplication expression.
@@ -86,6 +87,16 @@ public class BinaryMulExpr extends AbstractBinaryExpr {
     return lValue.mul(rValue);
   }
 
+  //
+  // Java code generation
+  //
+
+  @Override
+  public void generate(PhpWriter out)
+  {
+    generateBinary(out, "mul");
+  }
+
   public String toString()
   {
     return "(" + _left + " * " + _right + ")";
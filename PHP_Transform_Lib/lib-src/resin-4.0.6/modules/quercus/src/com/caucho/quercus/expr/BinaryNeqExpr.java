@@ -33,6 +33,7 @@ import com.caucho.quercus.Location;
 import com.caucho.quercus.env.BooleanValue;
 import com.caucho.quercus.env.Env;
 import com.caucho.quercus.env.Value;
+import com.caucho.quercus.gen.PhpWriter;
 
 /**
  * Represents a PHP equality testing expression.
@@ -67,6 +68,23 @@ public class BinaryNeqExpr extends AbstractBinaryExpr {
     return ! lValue.eq(rValue);
   }
 
+  //
+  // Java code generation
+  //
+
+  @Override
+  public void generate(PhpWriter out)
+  {
+    generateBooleanValue(out);
+  }
+
+  @Override
+  public void generateBoolean(PhpWriter out)
+  {
+    out.print("! ");
+    generateBinary(out, "eq");
+  }
+
   public String toString()
   {
     return "(" + _left + " != " + _right + ")";
@@ -33,6 +33,7 @@ import com.caucho.quercus.Location;
 import com.caucho.quercus.env.BooleanValue;
 import com.caucho.quercus.env.Env;
 import com.caucho.quercus.env.Value;
+import com.caucho.quercus.gen.PhpWriter;
 
 /**
  * Represents a logical or expression.
@@ -83,6 +84,26 @@ public class BinaryOrExpr extends AbstractBinaryExpr {
     return _left.evalBoolean(env) || _right.evalBoolean(env);
   }
 
+  //
+  // Java code generation
+  //
+
+  @Override
+  public void generate(PhpWriter out)
+  {
+    generateBooleanValue(out);
+  }
+
+  @Override
+  public void generateBoolean(PhpWriter out)
+  {
+    out.print("(");
+    _left.generateBoolean(out);
+    out.print(" || ");
+    _right.generateBoolean(out);
+    out.print(")");
+  }
+
   public String toString()
   {
     return "(" + _left + " || " + _right + ")";
@@ -32,6 +32,7 @@ package com.caucho.quercus.expr;
 import com.caucho.quercus.Location;
 import com.caucho.quercus.env.Env;
 import com.caucho.quercus.env.Value;
+import com.caucho.quercus.gen.PhpWriter;
 
 /**
  * A "$b - $a" subtract expression.
@@ -61,6 +62,16 @@ public class BinarySubExpr extends AbstractBinaryExpr {
     return lValue.sub(rValue);
   }
 
+  //
+  // Java code generation
+  //
+
+  @Override
+  public void generate(PhpWriter out)
+  {
+    generateBinary(out, "sub");
+  }
+
   public String toString()
   {
     return "(" + _left + " + " + _right + ")";
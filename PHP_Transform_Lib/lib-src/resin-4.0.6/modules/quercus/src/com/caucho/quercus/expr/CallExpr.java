@@ -100,6 +100,14 @@ public class CallExpr extends Expr {
     this(Location.UNKNOWN, name, args);
   }
 
+  /**
+   * Returns the arguments.
+   */
+  public Expr [] getArgs()
+  {
+    return _args;
+  }
+
   /**
    * Returns the name.
    */
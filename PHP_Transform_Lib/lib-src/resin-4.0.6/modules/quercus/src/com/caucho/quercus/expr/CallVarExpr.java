@@ -76,6 +76,22 @@ public class CallVarExpr extends Expr {
     this(Location.UNKNOWN, name, args);
   }
 
+  /**
+   * Returns the expression naming the function.
+   */
+  public Expr getName()
+  {
+    return _name;
+  }
+
+  /**
+   * Returns the arguments.
+   */
+  public Expr [] getArgs()
+  {
+    return _args;
+  }
+
   /**
    * Returns the reference of the value.
    * @param location
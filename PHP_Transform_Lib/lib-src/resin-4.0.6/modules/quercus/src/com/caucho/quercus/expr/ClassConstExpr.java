@@ -61,6 +61,22 @@ public class ClassConstExpr extends Expr {
     _className = className.intern();
     _name = name.intern();
   }
+
+  /**
+   * Returns the class name.
+   */
+  public String getClassName()
+  {
+    return _className;
+  }
+
+  /**
+   * Returns the constant name.
+   */
+  public String getName()
+  {
+    return _name;
+  }
   
   //
   // function call creation
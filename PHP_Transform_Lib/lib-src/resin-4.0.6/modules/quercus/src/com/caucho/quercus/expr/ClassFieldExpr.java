@@ -60,6 +60,22 @@ public class ClassFieldExpr extends AbstractVarExpr {
     
     _var = new ConstStringValue(className + "::" + varName);
   }
+
+  /**
+   * Returns the class name.
+   */
+  public String getClassName()
+  {
+    return _className;
+  }
+
+  /**
+   * Returns the field name.
+   */
+  public StringValue getVarName()
+  {
+    return _varName;
+  }
   
   //
   // function call creation
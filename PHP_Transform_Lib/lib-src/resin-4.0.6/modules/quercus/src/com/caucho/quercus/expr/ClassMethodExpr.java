@@ -78,6 +78,30 @@ public class ClassMethodExpr extends AbstractMethodExpr {
 
     _args = args;
   }
+
+  /**
+   * Returns the class name.
+   */
+  public String getClassName()
+  {
+    return _className;
+  }
+
+  /**
+   * Returns the method name.
+   */
+  public String getName()
+  {
+    return _methodName.toString();
+  }
+
+  /**
+   * Returns the arguments.
+   */
+  public Expr [] getArgs()
+  {
+    return _args;
+  }
   
   /**
    * Evaluates the expression.
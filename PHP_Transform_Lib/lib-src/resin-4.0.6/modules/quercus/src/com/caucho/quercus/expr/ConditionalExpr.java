@@ -32,6 +32,7 @@ package com.caucho.quercus.expr;
 import com.caucho.quercus.Location;
 import com.caucho.quercus.env.Env;
 import com.caucho.quercus.env.Value;
+import com.caucho.quercus.gen.PhpWriter;
 
 /**
  * Represents a conditional expression.
@@ -58,6 +59,30 @@ public class ConditionalExpr extends Expr {
     _falseExpr = falseExpr;
   }
 
+  /**
+   * Returns the test.
+   */
+  public Expr getTest()
+  {
+    return _test;
+  }
+
+  /**
+   * Returns the value when the test is true.
+   */
+  public Expr getTrueExpr()
+  {
+    return _trueExpr;
+  }
+
+  /**
+   * Returns the value when the test is false.
+   */
+  public Expr getFalseExpr()
+  {
+    return _falseExpr;
+  }
+
   /**
    * Evaluates the expression.
    *
@@ -103,6 +128,34 @@ public class ConditionalExpr extends Expr {
       return _falseExpr.evalCopy(env);
   }
 
+  //
+  // Java code generation
+  //
+
+  @Override
+  public void generate(PhpWriter out)
+  {
+    out.print("(");
+    _test.generateBoolean(out);
+    out.print(" ? ");
+    _trueExpr.generate(out);
+    out.print(" : ");
+    _falseExpr.generate(out);
+    out.print(")");
+  }
+
+  @Override
+  public void generateBoolean(PhpWriter out)
+  {
+    out.print("(");
+    _test.generateBoolean(out);
+    out.print(" ? ");
+    _trueExpr.generateBoolean(out);
+    out.print(" : ");
+    _falseExpr.generateBoolean(out);
+    out.print(")");
+  }
+
   public String toString()
   {
     return "(" + _test + " ? " + _trueExpr + " : " + _falseExpr + ")";
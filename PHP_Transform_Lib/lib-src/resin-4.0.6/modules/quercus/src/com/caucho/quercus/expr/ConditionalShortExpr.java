@@ -47,6 +47,22 @@ public class ConditionalShortExpr extends Expr {
     _falseExpr = falseExpr;
   }
 
+  /**
+   * Returns the test, which is also the value when true.
+   */
+  public Expr getTest()
+  {
+    return _test;
+  }
+
+  /**
+   * Returns the value when the test is false.
+   */
+  public Expr getFalseExpr()
+  {
+    return _falseExpr;
+  }
+
   /**
    * Evaluates the expression.
    *
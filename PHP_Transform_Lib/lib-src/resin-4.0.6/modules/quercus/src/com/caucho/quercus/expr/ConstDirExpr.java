@@ -52,6 +52,14 @@ public class ConstDirExpr extends Expr {
     this(Location.UNKNOWN, dirName);
   }
 
+  /**
+   * Returns the directory name.
+   */
+  public String getValue()
+  {
+    return _dirName;
+  }
+
   /**
    * Evaluates the expression.
    *
@@ -51,6 +51,14 @@ public class ConstFileExpr extends Expr {
     this(Location.UNKNOWN, fileName);
   }
 
+  /**
+   * Returns the file name.
+   */
+  public String getValue()
+  {
+    return _fileName;
+  }
+
   /**
    * Evaluates the expression.
    *
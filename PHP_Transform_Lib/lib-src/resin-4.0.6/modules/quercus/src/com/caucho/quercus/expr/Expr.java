@@ -31,6 +31,7 @@ package com.caucho.quercus.expr;
 
 import com.caucho.quercus.Location;
 import com.caucho.quercus.env.*;
+import com.caucho.quercus.gen.PhpWriter;
 import com.caucho.quercus.parser.QuercusParser;
 import com.caucho.quercus.statement.Statement;
 import com.caucho.util.L10N;
@@ -42,7 +43,7 @@ import java.util.logging.Logger;
 /**
  * Represents a PHP expression.
  */
-abstract public class Expr {
+abstract public class Expr implements java.io.Serializable {
   private static final L10N L = new L10N(Expr.class);
   private static final Logger log = Logger.getLogger(Expr.class.getName());
 
@@ -728,6 +729,105 @@ abstract public class Expr {
     eval(env).print(env);
   }
 
+  //
+  // Java code generation
+  //
+
+  /**
+   * Generates code evaluating the expression.  The default calls the
+   * interpreted node.
+   */
+  public void generate(PhpWriter out)
+  {
+    out.print(out.addExpr(this) + ".eval(env)");
+  }
+
+  /**
+   * Generates code evaluating the expression as a boolean.
+   */
+  public void generateBoolean(PhpWriter out)
+  {
+    if (isEvalOverridden("evalBoolean"))
+      out.print(out.addExpr(this) + ".evalBoolean(env)");
+    else {
+      generate(out);
+      out.print(".toBoolean()");
+    }
+  }
+
+  /**
+   * Generates eval() of a boolean expression from its generateBoolean.
+   */
+  protected void generateBooleanValue(PhpWriter out)
+  {
+    out.print("(");
+    generateBoolean(out);
+    out.print(" ? BooleanValue.TRUE : BooleanValue.FALSE)");
+  }
+
+  /**
+   * Generates code evaluating the expression as a top-level statement.
+   */
+  public void generateTop(PhpWriter out)
+  {
+    if (isEvalOverridden("evalTop"))
+      out.print(out.addExpr(this) + ".evalTop(env)");
+    else
+      generate(out);
+  }
+
+  /**
+   * Generates code evaluating the expression as a return value.
+   */
+  public void generateValue(PhpWriter out)
+  {
+    if (isEvalOverridden("evalValue"))
+      out.print(out.addExpr(this) + ".evalValue(env)");
+    else
+      generate(out);
+  }
+
+  /**
+   * Generates code evaluating the expression for an assignment.
+   */
+  public void generateCopy(PhpWriter out)
+  {
+    if (isEvalOverridden("evalCopy"))
+      out.print(out.addExpr(this) + ".evalCopy(env)");
+    else
+      generate(out);
+  }
+
+  /**
+   * Generates code for a post increment of the expression.
+   */
+  public void generatePostIncrement(PhpWriter out, int incr)
+  {
+    out.print(out.addExpr(this) + ".evalPostIncrement(env, " + incr + ")");
+  }
+
+  /**
+   * Generates code for a pre increment of the expression.
+   */
+  public void generatePreIncrement(PhpWriter out, int incr)
+  {
+    out.print(out.addExpr(this) + ".evalPreIncrement(env, " + incr + ")");
+  }
+
+  /**
+   * True if the class replaces Expr's default of the named eval variant,
+   * which otherwise reduces to eval().
+   */
+  private boolean isEvalOverridden(String name)
+  {
+    try {
+      return getClass().getMethod(name, Env.class).getDeclaringClass()
+             != Expr.class;
+    } catch (NoSuchMethodException e) {
+      return true;
+    }
+  }
+
   public String toString()
   {
     return "Expr[]";
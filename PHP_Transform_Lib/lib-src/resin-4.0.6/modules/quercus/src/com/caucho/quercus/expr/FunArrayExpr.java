@@ -74,6 +74,22 @@ public class FunArrayExpr extends Expr {
     this(Location.UNKNOWN, keys, values);
   }
 
+  /**
+   * Returns the keys, null for an element without one.
+   */
+  public Expr [] getKeys()
+  {
+    return _keys;
+  }
+
+  /**
+   * Returns the values.
+   */
+  public Expr [] getValues()
+  {
+    return _values;
+  }
+
   /**
    * Returns true if the expression evaluates to an array.
    */
@@ -64,6 +64,14 @@ public class FunDieExpr extends Expr {
     _value = null;
   }
 
+  /**
+   * Returns the status or message, or null.
+   */
+  public Expr getValue()
+  {
+    return _value;
+  }
+
   /**
    * Evaluates the expression.
    *
@@ -90,6 +90,11 @@ public class FunIncludeExpr extends AbstractUnaryExpr {
     }
   }
   
+  public boolean isRequire()
+  {
+    return _isRequire;
+  }
+  
   public String toString()
   {
     return _expr.toString();
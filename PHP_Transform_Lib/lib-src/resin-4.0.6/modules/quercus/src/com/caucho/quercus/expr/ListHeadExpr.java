@@ -60,6 +60,14 @@ public class ListHeadExpr extends Expr {
       _keyList[i] = LongValue.create(i);
   }
 
+  /**
+   * Returns the keys, null for positional elements.
+   */
+  public Value [] getKeyList()
+  {
+    return _keyList;
+  }
+
   public Expr []getVarList()
   {
     return _varList;
@@ -34,6 +34,7 @@ import com.caucho.quercus.env.BooleanValue;
 import com.caucho.quercus.env.Env;
 import com.caucho.quercus.env.LongValue;
 import com.caucho.quercus.env.Value;
+import com.caucho.quercus.gen.PhpWriter;
 
 /**
  * Represents a literal expression.
@@ -134,6 +135,16 @@ public class LiteralExpr extends Expr {
     return _value;
   }
 
+  //
+  // Java code generation
+  //
+
+  @Override
+  public void generate(PhpWriter out)
+  {
+    out.print(out.addValue(_value));
+  }
+
   public String toString()
   {
     return _value.toString();
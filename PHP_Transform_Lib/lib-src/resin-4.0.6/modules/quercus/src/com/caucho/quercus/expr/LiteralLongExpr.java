@@ -33,6 +33,7 @@ import com.caucho.quercus.Location;
 import com.caucho.quercus.env.Env;
 import com.caucho.quercus.env.LongValue;
 import com.caucho.quercus.env.Value;
+import com.caucho.quercus.gen.PhpWriter;
 
 /**
  * Represents a PHP long literal expression.
@@ -53,6 +54,14 @@ public class LiteralLongExpr extends Expr {
     this(Location.UNKNOWN, value);
   }
 
+  /**
+   * Returns the value.
+   */
+  public long getValue()
+  {
+    return _value;
+  }
+
   /**
    * Returns true for a literal expression.
    */
@@ -81,6 +90,16 @@ public class LiteralLongExpr extends Expr {
     return _objValue;
   }
 
+  //
+  // Java code generation
+  //
+
+  @Override
+  public void generate(PhpWriter out)
+  {
+    out.print(out.addValue(_objValue));
+  }
+
   public String toString()
   {
     return String.valueOf(_value);
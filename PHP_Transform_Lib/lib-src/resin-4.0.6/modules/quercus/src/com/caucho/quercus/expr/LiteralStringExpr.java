@@ -36,6 +36,7 @@ import com.caucho.quercus.env.StringValue;
 import com.caucho.quercus.env.StringBuilderValue;
 import com.caucho.quercus.env.Value;
 import com.caucho.quercus.parser.QuercusParser;
+import com.caucho.quercus.gen.PhpWriter;
 
 /**
  * Represents a PHP string literal expression.
@@ -149,6 +150,16 @@ public class LiteralStringExpr extends Expr {
     return _value;
   }
 
+  //
+  // Java code generation
+  //
+
+  @Override
+  public void generate(PhpWriter out)
+  {
+    out.print(out.addValue(_value));
+  }
+
   public String toString()
   {
     return "\"" + _value + "\"";
@@ -34,6 +34,7 @@ import com.caucho.quercus.env.Env;
 import com.caucho.quercus.env.UnicodeBuilderValue;
 import com.caucho.quercus.env.StringValue;
 import com.caucho.quercus.env.Value;
+import com.caucho.quercus.gen.PhpWriter;
 
 /**
  * Represents a PHP string literal expression.
@@ -94,6 +95,16 @@ public class LiteralUnicodeExpr extends Expr {
     return _value;
   }
 
+  //
+  // Java code generation
+  //
+
+  @Override
+  public void generate(PhpWriter out)
+  {
+    out.print(out.addValue(_value));
+  }
+
   public String toString()
   {
     return "\"" + _value + "\"";
@@ -63,6 +63,22 @@ public class ObjectFieldExpr extends AbstractVarExpr {
 
     _name = name;
   }
+
+  /**
+   * Returns the object expression.
+   */
+  public Expr getObjExpr()
+  {
+    return _objExpr;
+  }
+
+  /**
+   * Returns the field name.
+   */
+  public StringValue getName()
+  {
+    return _name;
+  }
   
   //
   // function call creation
@@ -72,6 +72,22 @@ public class ObjectMethodExpr extends AbstractMethodExpr {
     this(Location.UNKNOWN, objExpr, name, args);
   }
 
+  /**
+   * Returns the object expression.
+   */
+  public Expr getObjExpr()
+  {
+    return _objExpr;
+  }
+
+  /**
+   * Returns the arguments.
+   */
+  public Expr [] getArgs()
+  {
+    return _args;
+  }
+
   public String getName()
   {
     return _methodName.toString();
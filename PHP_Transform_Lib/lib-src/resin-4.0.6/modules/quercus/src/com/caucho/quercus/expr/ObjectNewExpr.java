@@ -71,6 +71,22 @@ public class ObjectNewExpr extends Expr {
   {
     this(Location.UNKNOWN, name, args);
   }
+
+  /**
+   * Returns the class name.
+   */
+  public String getName()
+  {
+    return _name;
+  }
+
+  /**
+   * Returns the constructor arguments.
+   */
+  public Expr [] getArgs()
+  {
+    return _args;
+  }
   
   /**
    * Evaluates the expression.
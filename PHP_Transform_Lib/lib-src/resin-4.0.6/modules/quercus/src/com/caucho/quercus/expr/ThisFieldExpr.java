@@ -57,6 +57,14 @@ public class ThisFieldExpr extends AbstractVarExpr {
     _name = name;
   }
 
+  /**
+   * Returns the field name.
+   */
+  public StringValue getName()
+  {
+    return _name;
+  }
+
   private Value cannotUseThisError(Env env)
   {
     return env.error(getLocation(),
@@ -32,6 +32,7 @@ package com.caucho.quercus.expr;
 import com.caucho.quercus.Location;
 import com.caucho.quercus.env.Env;
 import com.caucho.quercus.env.Value;
+import com.caucho.quercus.gen.PhpWriter;
 
 /**
  * A "- $a" unary minus.
@@ -59,6 +60,17 @@ public class UnaryMinusExpr extends AbstractUnaryExpr {
     return _expr.eval(env).neg();
   }
 
+  //
+  // Java code generation
+  //
+
+  @Override
+  public void generate(PhpWriter out)
+  {
+    _expr.generate(out);
+    out.print(".neg()");
+  }
+
   public String toString()
   {
     return "-" + _expr;
@@ -33,6 +33,7 @@ import com.caucho.quercus.Location;
 import com.caucho.quercus.env.BooleanValue;
 import com.caucho.quercus.env.Env;
 import com.caucho.quercus.env.Value;
+import com.caucho.quercus.gen.PhpWriter;
 
 /**
  * Represents a PHP boolean negation
@@ -72,6 +73,24 @@ public class UnaryNotExpr extends AbstractUnaryExpr {
     return ! _expr.evalBoolean(env);
   }
 
+  //
+  // Java code generation
+  //
+
+  @Override
+  public void generate(PhpWriter out)
+  {
+    generateBooleanValue(out);
+  }
+
+  @Override
+  public void generateBoolean(PhpWriter out)
+  {
+    out.print("(! ");
+    _expr.generateBoolean(out);
+    out.print(")");
+  }
+
   public String toString()
   {
     return "! " + _expr;
@@ -32,6 +32,7 @@ package com.caucho.quercus.expr;
 import com.caucho.quercus.Location;
 import com.caucho.quercus.env.Env;
 import com.caucho.quercus.env.Value;
+import com.caucho.quercus.gen.PhpWriter;
 
 /**
  * Represents a PHP post increment expression.
@@ -54,6 +55,14 @@ public class UnaryPostIncrementExpr extends AbstractUnaryExpr {
     _incr = incr;
   }
 
+  /**
+   * Returns the increment, 1 or -1.
+   */
+  public int getIncr()
+  {
+    return _incr;
+  }
+
   public Value eval(Env env)
   {
     return _expr.evalPostIncrement(env, _incr);
@@ -83,6 +92,16 @@ public class UnaryPostIncrementExpr extends AbstractUnaryExpr {
     return true;
   }
 
+  //
+  // Java code generation
+  //
+
+  @Override
+  public void generate(PhpWriter out)
+  {
+    _expr.generatePostIncrement(out, _incr);
+  }
+
   public String toString()
   {
     if (_incr > 0)
@@ -32,6 +32,7 @@ package com.caucho.quercus.expr;
 import com.caucho.quercus.Location;
 import com.caucho.quercus.env.Env;
 import com.caucho.quercus.env.Value;
+import com.caucho.quercus.gen.PhpWriter;
 
 /**
  * Represents a PHP pre increment expression.
@@ -55,6 +56,14 @@ public class UnaryPreIncrementExpr extends AbstractUnaryExpr {
     _incr = incr;
   }
 
+  /**
+   * Returns the increment, 1 or -1.
+   */
+  public int getIncr()
+  {
+    return _incr;
+  }
+
   public Value eval(Env env)
   {
     return _expr.evalPreIncrement(env, _incr);
@@ -84,6 +93,16 @@ public class UnaryPreIncrementExpr extends AbstractUnaryExpr {
     return true;
   }
 
+  //
+  // Java code generation
+  //
+
+  @Override
+  public void generate(PhpWriter out)
+  {
+    _expr.generatePreIncrement(out, _incr);
+  }
+
   public String toString()
   {
     if (_incr > 0)
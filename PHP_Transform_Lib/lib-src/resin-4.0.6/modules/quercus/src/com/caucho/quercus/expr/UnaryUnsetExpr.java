@@ -51,6 +51,14 @@ public class UnaryUnsetExpr extends Expr {
     _var = var;
   }
 
+  /**
+   * Returns the unset variable.
+   */
+  public AbstractVarExpr getVar()
+  {
+    return _var;
+  }
+
   /**
    * Evaluates the expression.
    *
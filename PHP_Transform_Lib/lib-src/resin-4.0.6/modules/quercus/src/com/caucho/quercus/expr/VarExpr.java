@@ -32,13 +32,17 @@ package com.caucho.quercus.expr;
 import com.caucho.quercus.Location;
 import com.caucho.quercus.env.ArrayValueImpl;
 import com.caucho.quercus.env.Env;
+import com.caucho.quercus.env.EnvVar;
+import com.caucho.quercus.env.LocalVarFrame;
 import com.caucho.quercus.env.MethodIntern;
 import com.caucho.quercus.env.NullValue;
 import com.caucho.quercus.env.Value;
 import com.caucho.quercus.env.StringValue;
 import com.caucho.quercus.env.ConstStringValue;
 import com.caucho.quercus.env.Var;
+import com.caucho.quercus.gen.PhpWriter;
 import com.caucho.quercus.parser.QuercusParser;
+import com.caucho.quercus.program.FunctionInfo;
 
 /**
  * Represents a PHP variable expression.
@@ -49,6 +53,9 @@ public class VarExpr
   private final VarInfo _var;
   protected final StringValue _name;
 
+  private final FunctionInfo _function;
+  private final int _slot;
+
   private VarState _varState = VarState.INIT;
 
   protected VarExpr(Location location, VarInfo var)
@@ -57,12 +64,16 @@ public class VarExpr
     
     _var = var;
     _name = var.getName();
+    _function = var.getFunction();
+    _slot = var.getSlot();
   }
 
   protected VarExpr(VarInfo var)
   {
     _var = var;
     _name = var.getName();
+    _function = var.getFunction();
+    _slot = var.getSlot();
   }
 
   /**
@@ -81,6 +92,34 @@ public class VarExpr
     return _name;
   }
 
+  /**
+   * Returns the variable's entry in the current slot-indexed frame, or
+   * null if the frame belongs to another function or the slot is unset.
+   */
+  private EnvVar getSlotVar(Env env)
+  {
+    LocalVarFrame frame = env.getLocalFrame();
+
+    if (frame != null && frame.getInfo() == _function)
+      return frame.getSlots()[_slot];
+    else
+      return null;
+  }
+
+  /**
+   * Returns the slot array of the current frame if it belongs to this
+   * variable's function, or null.  Compiled bodies look it up once.
+   */
+  public EnvVar []getFrameSlots(Env env)
+  {
+    LocalVarFrame frame = env.getLocalFrame();
+
+    if (frame != null && frame.getInfo() == _function)
+      return frame.getSlots();
+    else
+      return null;
+  }
+
   /**
    * Returns the java variable name.
    */
@@ -139,6 +178,11 @@ public class VarExpr
   @Override
   public Value eval(Env env)
   {
+    EnvVar envVar = getSlotVar(env);
+
+    if (envVar != null)
+      return envVar.get();
+
     return env.getValue(_name, false, true);
   }
   
@@ -151,6 +195,11 @@ public class VarExpr
   @Override
   public Value evalTop(Env env)
   {
+    EnvVar envVar = getSlotVar(env);
+
+    if (envVar != null)
+      return envVar.get();
+
     return env.getValue(_name, false, false);
   }
 
@@ -197,7 +246,12 @@ public class VarExpr
       }
     */
     //} else {
-      value = env.getVar(_name);
+      EnvVar envVar = getSlotVar(env);
+
+      if (envVar != null)
+        value = envVar.getVar();
+      else
+        value = env.getVar(_name);
 
       if (value == null) {
         value = new ArrayValueImpl();
@@ -234,12 +288,20 @@ public class VarExpr
       }
     } else {
     */
-      value = env.getValue(_name);
+      EnvVar envVar = getSlotVar(env);
+
+      if (envVar != null)
+        value = envVar.get();
+      else
+        value = env.getValue(_name);
 
       if (value == null || value.isString() || value.isNull()) {
         value = env.createObject();
 
-        env.setValue(_name, value);
+        if (envVar != null)
+          envVar.set(value);
+        else
+          env.setValue(_name, value);
       }
     //}
 
@@ -254,6 +316,11 @@ public class VarExpr
    */
   public Var evalVar(Env env)
   {
+    EnvVar envVar = getSlotVar(env);
+
+    if (envVar != null)
+      return envVar.getVar();
+
     return env.getVar(_name);
   }
 
@@ -269,6 +336,11 @@ public class VarExpr
     // php/043k
     // php/0443
 
+    EnvVar envVar = getSlotVar(env);
+
+    if (envVar != null)
+      return envVar.getVar();
+
     return env.getVar(_name);
   }
 
@@ -281,7 +353,12 @@ public class VarExpr
   public Value evalAssignValue(Env env, Value value)
   {
     // php/0232
-    env.setValue(_name, value);
+    EnvVar envVar = getSlotVar(env);
+
+    if (envVar != null)
+      envVar.set(value);
+    else
+      env.setValue(_name, value);
     
     return value;
   }
@@ -294,7 +371,12 @@ public class VarExpr
   @Override
   public Value evalAssignRef(Env env, Value value)
   {
-    env.setRef(_name, value);
+    EnvVar envVar = getSlotVar(env);
+
+    if (envVar != null)
+      envVar.setRef(value);
+    else
+      env.setRef(_name, value);
     
     return value;
   }
@@ -313,7 +395,102 @@ public class VarExpr
       env.unsetGlobalVar(_name);
     else
     */
-    env.unsetLocalVar(_name);
+    EnvVar envVar = getSlotVar(env);
+
+    if (envVar != null)
+      envVar.setVar(new Var());
+    else
+      env.unsetLocalVar(_name);
+  }
+
+  //
+  // Java code generation
+  //
+
+  /**
+   * Returns the Java reference to the compiled body's frame slots, or
+   * null if the variable is not read through a slot.
+   */
+  private String getSlots(PhpWriter out)
+  {
+    if (_slot < 0)
+      return null;
+
+    return out.getSlots(_function, this);
+  }
+
+  /**
+   * Generates code reading the variable from its frame slot.
+   */
+  @Override
+  public void generate(PhpWriter out)
+  {
+    String slots = getSlots(out);
+
+    if (slots != null)
+      out.print("getLocal(env, " + slots + ", " + _slot + ", "
+                + out.addExpr(this) + ")");
+    else
+      super.generate(out);
+  }
+
+  /**
+   * Generates code reading a copy of the variable's value.
+   */
+  @Override
+  public void generateCopy(PhpWriter out)
+  {
+    generate(out);
+    out.print(".copy()");
+  }
+
+  /**
+   * Generates code assigning the variable's frame slot.
+   */
+  @Override
+  public void generateAssign(PhpWriter out, Expr value)
+  {
+    String slots = getSlots(out);
+
+    if (slots == null) {
+      super.generateAssign(out, value);
+      return;
+    }
+
+    out.print("setLocal(env, " + slots + ", " + _slot + ", "
+              + out.addExpr(this) + ", ");
+    value.generateCopy(out);
+    out.print(")");
+  }
+
+  /**
+   * Generates a post increment of the variable's frame slot.
+   */
+  @Override
+  public void generatePostIncrement(PhpWriter out, int incr)
+  {
+    String slots = getSlots(out);
+
+    if (slots != null)
+      out.print("getLocalVar(env, " + slots + ", " + _slot + ", "
+                + out.addExpr(this) + ").postincr(" + incr + ")");
+    else
+      super.generatePostIncrement(out, incr);
+  }
+
+  /**
+   * Generates a pre increment of the variable's frame slot.
+   */
+  @Override
+  public void generatePreIncrement(PhpWriter out, int incr)
+  {
+    String slots = getSlots(out);
+
+    if (slots != null)
+      out.print("getLocalVar(env, " + slots + ", " + _slot + ", "
+                + out.addExpr(this) + ").preincr(" + incr + ")");
+    else
+      super.generatePreIncrement(out, incr);
   }
 
   public int hashCode()
@@ -36,10 +36,12 @@ import com.caucho.quercus.program.FunctionInfo;
 /**
  * Information about a variable's use in a function.
  */
-public class VarInfo {
+public class VarInfo implements java.io.Serializable {
   private final FunctionInfo _function;
 
   private final StringValue _name;
+
+  private int _slot = -1;
   
   public VarInfo(StringValue name, FunctionInfo function)
   {
@@ -62,6 +64,22 @@ public class VarInfo {
   {
     return _function;
   }
+
+  /**
+   * Returns the variable's index in a slot-indexed frame, or -1.
+   */
+  public int getSlot()
+  {
+    return _slot;
+  }
+
+  /**
+   * Sets the variable's index in a slot-indexed frame.
+   */
+  public void setSlot(int slot)
+  {
+    _slot = slot;
+  }
  
   @Override
   public String toString()
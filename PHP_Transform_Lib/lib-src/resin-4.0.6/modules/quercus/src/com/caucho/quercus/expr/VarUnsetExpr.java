@@ -51,6 +51,14 @@ public class VarUnsetExpr extends Expr {
     _var = var;
   }
 
+  /**
+   * Returns the unset variable.
+   */
+  public AbstractVarExpr getVar()
+  {
+    return _var;
+  }
+
   /**
    * Evaluates the expression.
    *
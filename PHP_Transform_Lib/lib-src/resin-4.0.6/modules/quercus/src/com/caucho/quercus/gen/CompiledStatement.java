@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 1998-2010 Caucho Technology -- all rights reserved
+ *
+ * This file is part of Resin(R) Open Source
+ *
+ * Each copy or derived work must preserve the copyright notice and this
+ * notice unmodified.
+ *
+ * Resin Open Source is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Resin Open Source is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE, or any warranty
+ * of NON-INFRINGEMENT.  See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Resin Open Source; if not, write to the
+ *
+ *   Free Software Foundation, Inc.
+ *   59 Temple Place, Suite 330
+ *   Boston, MA 02111-1307  USA
+ *
+ */
+
+package com.caucho.quercus.gen;
+
+import com.caucho.quercus.Location;
+import com.caucho.quercus.env.Env;
+import com.caucho.quercus.env.EnvVar;
+import com.caucho.quercus.env.Value;
+import com.caucho.quercus.env.Var;
+import com.caucho.quercus.expr.Expr;
+import com.caucho.quercus.statement.Statement;
+
+/**
+ * Base class of the generated Java for a function body or page.  The
+ * tables hold the interpreted nodes and constants the generated code
+ * refers to.
+ */
+abstract public class CompiledStatement extends Statement {
+  protected final Expr []_e;
+  protected final Statement []_s;
+  protected final Value []_v;
+  protected final Location []_l;
+
+  protected CompiledStatement(Location location,
+                              Expr []e,
+                              Statement []s,
+                              Value []v,
+                              Location []l)
+  {
+    super(location);
+
+    _e = e;
+    _s = s;
+    _v = v;
+    _l = l;
+  }
+
+  /**
+   * Returns a local's value from its frame slot, falling back to the
+   * interpreted variable if the frame or the slot is unset.
+   */
+  protected static Value getLocal(Env env, EnvVar []slots, int slot,
+                                  Expr var)
+  {
+    EnvVar envVar;
+
+    if (slots != null && (envVar = slots[slot]) != null)
+      return envVar.get();
+    else
+      return var.eval(env);
+  }
+
+  /**
+   * Returns a local's Var from its frame slot, falling back to the
+   * interpreted variable if the frame or the slot is unset.
+   */
+  protected static Var getLocalVar(Env env, EnvVar []slots, int slot,
+                                   Expr var)
+  {
+    EnvVar envVar;
+
+    if (slots != null && (envVar = slots[slot]) != null)
+      return envVar.getVar();
+    else
+      return var.evalVar(env);
+  }
+
+  /**
+   * Assigns a local through its frame slot, falling back to the
+   * interpreted variable if the frame or the slot is unset.
+   */
+  protected static Value setLocal(Env env, EnvVar []slots, int slot,
+                                  Expr var, Value value)
+  {
+    EnvVar envVar;
+
+    if (slots != null && (envVar = slots[slot]) != null) {
+      envVar.set(value);
+
+      return value;
+    }
+    else
+      return var.evalAssignValue(env, value);
+  }
+
+  /**
+   * Evaluates a PHP expression statement whose value is unused.
+   */
+  protected static void discard(Value value)
+  {
+  }
+}
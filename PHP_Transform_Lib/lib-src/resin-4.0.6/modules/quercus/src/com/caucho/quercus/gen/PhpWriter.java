@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 1998-2010 Caucho Technology -- all rights reserved
+ *
+ * This file is part of Resin(R) Open Source
+ *
+ * Each copy or derived work must preserve the copyright notice and this
+ * notice unmodified.
+ *
+ * Resin Open Source is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Resin Open Source is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE, or any warranty
+ * of NON-INFRINGEMENT.  See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Resin Open Source; if not, write to the
+ *
+ *   Free Software Foundation, Inc.
+ *   59 Temple Place, Suite 330
+ *   Boston, MA 02111-1307  USA
+ *
+ */
+
+package com.caucho.quercus.gen;
+
+import com.caucho.quercus.Location;
+import com.caucho.quercus.env.Value;
+import com.caucho.quercus.expr.Expr;
+import com.caucho.quercus.program.FunctionInfo;
+import com.caucho.quercus.statement.Statement;
+
+import java.util.ArrayList;
+
+/**
+ * Writes the Java source of a compiled statement body.  Locals are
+ * read and written through the frame slots directly.  Nodes the
+ * generator does not compile stay interpreted: they are collected into
+ * the _e, _s, _v and _l tables of the CompiledStatement and the
+ * generated code calls them from its own call site.
+ */
+public class PhpWriter {
+  private final StringBuilder _sb = new StringBuilder();
+
+  private final ArrayList<Expr> _exprList = new ArrayList<Expr>();
+  private final ArrayList<Statement> _statementList
+    = new ArrayList<Statement>();
+  private final ArrayList<Value> _valueList = new ArrayList<Value>();
+  private final ArrayList<Location> _locationList
+    = new ArrayList<Location>();
+
+  private int _depth;
+  private boolean _isLineStart = true;
+
+  // labels of the enclosing compiled loops, innermost last
+  private final ArrayList<String> _loopList = new ArrayList<String>();
+
+  private int _tempCount;
+
+  // the function whose frame slots hold the compiled locals, and the
+  // variable the generated code asks for the slot array
+  private FunctionInfo _frameInfo;
+  private String _frameVar;
+
+  /**
+   * Prints Java source.
+   */
+  public PhpWriter print(String s)
+  {
+    if (_isLineStart) {
+      for (int i = 0; i < _depth; i++)
+        _sb.append("  ");
+
+      _isLineStart = false;
+    }
+
+    _sb.append(s);
+
+    return this;
+  }
+
+  /**
+   * Prints Java source and a newline.
+   */
+  public PhpWriter println(String s)
+  {
+    print(s);
+
+    return println();
+  }
+
+  /**
+   * Prints a newline.
+   */
+  public PhpWriter println()
+  {
+    _sb.append('\n');
+    _isLineStart = true;
+
+    return this;
+  }
+
+  public void pushDepth()
+  {
+    _depth++;
+  }
+
+  public void popDepth()
+  {
+    _depth--;
+  }
+
+  /**
+   * Adds an interpreted expression, returning its Java reference.
+   */
+  public String addExpr(Expr expr)
+  {
+    _exprList.add(expr);
+
+    return "_e[" + (_exprList.size() - 1) + "]";
+  }
+
+  /**
+   * Adds an interpreted statement, returning its Java reference.
+   */
+  public String addStatement(Statement statement)
+  {
+    _statementList.add(statement);
+
+    return "_s[" + (_statementList.size() - 1) + "]";
+  }
+
+  /**
+   * Adds a constant value, returning its Java reference.
+   */
+  public String addValue(Value value)
+  {
+    _valueList.add(value);
+
+    return "_v[" + (_valueList.size() - 1) + "]";
+  }
+
+  /**
+   * Adds a source location, returning its Java reference.
+   */
+  public String addLocation(Location location)
+  {
+    _locationList.add(location);
+
+    return "_l[" + (_locationList.size() - 1) + "]";
+  }
+
+  /**
+   * Returns the Java reference to the frame slots of the function's
+   * locals, or null if the body already reads another function's slots,
+   * e.g. for the variables of an included page.
+   */
+  public String getSlots(FunctionInfo info, Expr var)
+  {
+    if (_frameInfo == null) {
+      _frameInfo = info;
+      _frameVar = addExpr(var);
+    }
+    else if (_frameInfo != info)
+      return null;
+
+    return "q_slots";
+  }
+
+  /**
+   * Returns the Java statement looking up the frame slots on entry, or
+   * null if no local is read through a slot.
+   */
+  public String getFrameInit()
+  {
+    if (_frameVar == null)
+      return null;
+
+    return ("EnvVar []q_slots = ((VarExpr) " + _frameVar
+            + ").getFrameSlots(env);");
+  }
+
+  /**
+   * Returns a fresh Java local variable name.
+   */
+  public String createTempVar()
+  {
+    return "q_v" + _tempCount++;
+  }
+
+  /**
+   * Enters a compiled loop, returning its Java label.
+   */
+  public String pushLoop()
+  {
+    String label = "q_loop" + _tempCount++;
+
+    _loopList.add(label);
+
+    return label;
+  }
+
+  public void popLoop()
+  {
+    _loopList.remove(_loopList.size() - 1);
+  }
+
+  /**
+   * Returns the number of enclosing compiled loops.
+   */
+  public int getLoopDepth()
+  {
+    return _loopList.size();
+  }
+
+  /**
+   * Returns the label of the loop a PHP break/continue with the given
+   * target refers to, where 1 is the innermost loop.
+   */
+  public String getLoopLabel(int target)
+  {
+    return _loopList.get(_loopList.size() - target);
+  }
+
+  /**
+   * Prints the handling of a break, continue or return value coming
+   * out of an interpreted statement.
+   */
+  public void printResult(String value)
+  {
+    int depth = getLoopDepth();
+
+    if (depth == 0) {
+      println("return " + value + ";");
+      return;
+    }
+
+    String target = createTempVar();
+
+    println("if (" + value + " instanceof BreakValue) {");
+    pushDepth();
+    println("int " + target + " = ((BreakValue) " + value + ").getTarget();");
+    printJump(target, "break", "BreakValue");
+    popDepth();
+    println("}");
+    println("else if (" + value + " instanceof ContinueValue) {");
+    pushDepth();
+    println("int " + target + " = ((ContinueValue) " + value + ").getTarget();");
+    printJump(target, "continue", "ContinueValue");
+    popDepth();
+    println("}");
+    println("else");
+    println("  return " + value + ";");
+  }
+
+  private void printJump(String target, String op, String valueClass)
+  {
+    int depth = getLoopDepth();
+
+    println("if (" + target + " <= 1)");
+    println("  " + op + " " + getLoopLabel(1) + ";");
+
+    for (int i = 2; i <= depth; i++) {
+      println("else if (" + target + " == " + i + ")");
+      println("  " + op + " " + getLoopLabel(i) + ";");
+    }
+
+    println("else");
+    println("  return new " + valueClass + "(" + target + " - " + depth + ");");
+  }
+
+  public Expr []getExprs()
+  {
+    return _exprList.toArray(new Expr[_exprList.size()]);
+  }
+
+  public Statement []getStatements()
+  {
+    return _statementList.toArray(new Statement[_statementList.size()]);
+  }
+
+  public Value []getValues()
+  {
+    return _valueList.toArray(new Value[_valueList.size()]);
+  }
+
+  public Location []getLocations()
+  {
+    return _locationList.toArray(new Location[_locationList.size()]);
+  }
+
+  /**
+   * Returns the generated source.
+   */
+  public String toString()
+  {
+    return _sb.toString();
+  }
+}
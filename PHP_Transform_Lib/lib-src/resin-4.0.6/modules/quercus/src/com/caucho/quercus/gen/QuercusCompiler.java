@@ -0,0 +1,338 @@
+/*
+ * Copyright (c) 1998-2010 Caucho Technology -- all rights reserved
+ *
+ * This file is part of Resin(R) Open Source
+ *
+ * Each copy or derived work must preserve the copyright notice and this
+ * notice unmodified.
+ *
+ * Resin Open Source is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Resin Open Source is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE, or any warranty
+ * of NON-INFRINGEMENT.  See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Resin Open Source; if not, write to the
+ *
+ *   Free Software Foundation, Inc.
+ *   59 Temple Place, Suite 330
+ *   Boston, MA 02111-1307  USA
+ *
+ */
+
+package com.caucho.quercus.gen;
+
+import com.caucho.java.JavaCompiler;
+import com.caucho.loader.SimpleLoader;
+import com.caucho.quercus.Location;
+import com.caucho.quercus.QuercusContext;
+import com.caucho.quercus.env.Value;
+import com.caucho.quercus.expr.Expr;
+import com.caucho.quercus.function.AbstractFunction;
+import com.caucho.quercus.page.CompiledPage;
+import com.caucho.quercus.program.Function;
+import com.caucho.quercus.program.InterpretedClassDef;
+import com.caucho.quercus.program.QuercusProgram;
+import com.caucho.quercus.statement.Statement;
+import com.caucho.util.L10N;
+import com.caucho.vfs.Path;
+import com.caucho.vfs.WriteStream;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Compiles interpreted pages and functions to JVM classes.  Each body is
+ * written as a CompiledStatement subclass by the generate() methods of
+ * its statements and expressions, built with the Resin JavaCompiler in
+ * a scratch directory under the work directory, and installed in place
+ * of the interpreted body.  The scratch directory is removed once the
+ * classes are loaded.
+ */
+public class QuercusCompiler
+{
+  private static final Logger log
+    = Logger.getLogger(QuercusCompiler.class.getName());
+  private static final L10N L = new L10N(QuercusCompiler.class);
+
+  private static final String PACKAGE = "_quercus";
+
+  private static final AtomicInteger _classCount = new AtomicInteger();
+  private static final AtomicInteger _dirCount = new AtomicInteger();
+
+  private final QuercusContext _quercus;
+
+  public QuercusCompiler(QuercusContext quercus)
+  {
+    _quercus = quercus;
+  }
+
+  /**
+   * Compiles the page's main statement, functions and methods, returning
+   * the compiled page.  The functions are switched over immediately.
+   */
+  public CompiledPage compile(QuercusProgram program)
+    throws Exception
+  {
+    String fileName = program.getSourcePath().getTail();
+
+    ArrayList<Unit> unitList = new ArrayList<Unit>();
+
+    Unit main = new Unit(fileName, "main",
+                         program.getStatement(), null);
+    unitList.add(main);
+
+    for (Function fun : program.getFunctionList()) {
+      addFunction(unitList, fileName, fun);
+    }
+
+    for (InterpretedClassDef cl : program.getClassList()) {
+      for (Map.Entry<String,AbstractFunction> entry : cl.functionSet()) {
+        if (entry.getValue() instanceof Function)
+          addFunction(unitList, fileName, (Function) entry.getValue());
+      }
+    }
+
+    compile(unitList);
+
+    return new CompiledPage(program, main._compiled);
+  }
+
+  /**
+   * Compiles a single function body.
+   */
+  public void compile(Function fun)
+    throws Exception
+  {
+    ArrayList<Unit> unitList = new ArrayList<Unit>();
+
+    String fileName = fun.getLocation().getFileName();
+
+    if (fileName != null)
+      fileName = fileName.substring(fileName.lastIndexOf('/') + 1);
+
+    addFunction(unitList, fileName, fun);
+
+    if (unitList.size() > 0)
+      compile(unitList);
+  }
+
+  private void addFunction(ArrayList<Unit> unitList,
+                           String fileName,
+                           Function fun)
+  {
+    if (fun.isAbstract() || fun.getCompiledStatement() != null)
+      return;
+
+    String name = fun.getName();
+
+    if (fun.getDeclaringClassName() != null)
+      name = fun.getDeclaringClassName() + "_" + name;
+
+    unitList.add(new Unit(fileName, name, fun.getStatement(), fun));
+  }
+
+  private void compile(ArrayList<Unit> unitList)
+    throws Exception
+  {
+    long start = System.currentTimeMillis();
+
+    Path classDir = createClassDir();
+
+    try {
+      classDir.lookup(PACKAGE).mkdirs();
+
+      String []files = new String[unitList.size()];
+
+      for (int i = 0; i < files.length; i++) {
+        files[i] = generate(classDir, unitList.get(i));
+      }
+
+      ClassLoader parentLoader = _quercus.getCompileClassLoader();
+
+      if (parentLoader == null)
+        parentLoader = QuercusContext.class.getClassLoader();
+
+      JavaCompiler compiler = JavaCompiler.create(parentLoader);
+      compiler.setClassLoader(parentLoader);
+      compiler.setClassDir(classDir);
+      compiler.compileBatch(files);
+
+      ClassLoader loader = SimpleLoader.create(parentLoader,
+                                               classDir, PACKAGE);
+
+      for (Unit unit : unitList) {
+        Class<?> cl = Class.forName(PACKAGE + "." + unit._className,
+                                    false, loader);
+
+        Constructor<?> ctor = cl.getConstructor(Location.class,
+                                                Expr[].class,
+                                                Statement[].class,
+                                                Value[].class,
+                                                Location[].class);
+
+        PhpWriter out = unit._out;
+
+        unit._compiled
+          = (CompiledStatement) ctor.newInstance(unit._statement.getLocation(),
+                                                 out.getExprs(),
+                                                 out.getStatements(),
+                                                 out.getValues(),
+                                                 out.getLocations());
+      }
+    } finally {
+      // the classes are defined once loaded, so the files are not needed
+      try {
+        classDir.removeAll();
+      } catch (IOException e) {
+        log.log(Level.FINE, e.toString(), e);
+      }
+    }
+
+    for (Unit unit : unitList) {
+      if (unit._function != null)
+        unit._function.setCompiledStatement(unit._compiled);
+    }
+
+    if (log.isLoggable(Level.FINE)) {
+      log.fine(L.l("Quercus compiled {0} bodies in {1}ms",
+                   unitList.size(), System.currentTimeMillis() - start));
+    }
+  }
+
+  /**
+   * Creates a fresh scratch directory in the work directory, so runs
+   * and JVMs sharing the work directory never load each other's classes.
+   */
+  private Path createClassDir()
+    throws IOException
+  {
+    Path workDir = _quercus.getWorkDir();
+    workDir.mkdirs();
+
+    while (true) {
+      Path dir = workDir.lookup("_quercus_compile"
+                                + _dirCount.incrementAndGet());
+
+      if (dir.mkdir())
+        return dir;
+      else if (! dir.exists())
+        throw new IOException(L.l("can't create compile directory {0}",
+                                  dir.getNativePath()));
+    }
+  }
+
+  /**
+   * Writes the Java source for a body, returning its path in the class
+   * directory.
+   */
+  private String generate(Path classDir, Unit unit)
+    throws IOException
+  {
+    PhpWriter out = new PhpWriter();
+    unit._out = out;
+
+    out.pushDepth();
+    out.pushDepth();
+    unit._statement.generate(out);
+    out.println("return null;");
+
+    String javaName = PACKAGE + "/" + unit._className + ".java";
+
+    WriteStream os = classDir.lookup(javaName).openWrite();
+
+    try {
+      os.println("package " + PACKAGE + ";");
+      os.println();
+      os.println("import com.caucho.quercus.Location;");
+      os.println("import com.caucho.quercus.env.*;");
+      os.println("import com.caucho.quercus.expr.Expr;");
+      os.println("import com.caucho.quercus.gen.CompiledStatement;");
+      os.println("import com.caucho.quercus.expr.VarExpr;");
+      os.println("import com.caucho.quercus.statement.Statement;");
+      os.println();
+      os.println("/* " + unit._fileName + " " + unit._name + " */");
+      os.println("public final class " + unit._className
+                 + " extends CompiledStatement {");
+      os.println("  public " + unit._className + "(Location location, "
+                 + "Expr []e, Statement []s, Value []v, Location []l)");
+      os.println("  {");
+      os.println("    super(location, e, s, v, l);");
+      os.println("  }");
+      os.println();
+      os.println("  public Value execute(Env env)");
+      os.println("  {");
+
+      if (out.getFrameInit() != null)
+        os.println("    " + out.getFrameInit());
+
+      os.print(out.toString());
+      os.println("  }");
+      os.println("}");
+    } finally {
+      os.close();
+    }
+
+    return javaName;
+  }
+
+  /**
+   * Returns a Java identifier for the generated class.
+   */
+  private static String createClassName(String fileName, String name)
+  {
+    StringBuilder sb = new StringBuilder();
+
+    sb.append('_');
+    appendIdentifier(sb, fileName != null ? fileName : "eval");
+    sb.append("__");
+    appendIdentifier(sb, name);
+    sb.append('_');
+    sb.append(_classCount.incrementAndGet());
+
+    return sb.toString();
+  }
+
+  private static void appendIdentifier(StringBuilder sb, String name)
+  {
+    for (int i = 0; i < name.length(); i++) {
+      char ch = name.charAt(i);
+
+      if (ch < 0x80 && Character.isJavaIdentifierPart(ch))
+        sb.append(ch);
+      else
+        sb.append('_');
+    }
+  }
+
+  static class Unit {
+    final String _fileName;
+    final String _name;
+    final String _className;
+    final Statement _statement;
+    final Function _function;
+
+    PhpWriter _out;
+    CompiledStatement _compiled;
+
+    Unit(String fileName, String name, Statement statement, Function fun)
+    {
+      _fileName = fileName;
+      _name = name;
+      _className = createClassName(fileName, name);
+      _statement = statement;
+      _function = fun;
+    }
+  }
+}
@@ -0,0 +1,1094 @@
+/*
+ * Copyright (c) 1998-2010 Caucho Technology -- all rights reserved
+ *
+ * This file is part of Resin(R) Open Source
+ *
+ * Each copy or derived work must preserve the copyright notice and this
+ * notice unmodified.
+ *
+ * Resin Open Source is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Resin Open Source is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE, or any warranty
+ * of NON-INFRINGEMENT.  See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Resin Open Source; if not, write to the
+ *
+ *   Free Software Foundation, Inc.
+ *   59 Temple Place, Suite 330
+ *   Boston, MA 02111-1307  USA
+ *
+ */
+
+package com.caucho.quercus.lib;
+
+import com.caucho.quercus.env.*;
+import com.caucho.util.Alarm;
+import com.caucho.util.L10N;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * APC user cache in a memory-mapped file, shared by every Quercus JVM on
+ * the host that opens the same file.
+ *
+ * The file is split into stripes, each with its own hash buckets and
+ * entry log, and locked with a FileLock on its region, so stores to
+ * different stripes don't contend.  Values are written in a compact
+ * binary form and decoded directly from the mapped region on a fetch.
+ * When a stripe's log is full, it's compacted, dropping expired entries
+ * and then the oldest entries until the new one fits.
+ */
+public class ApcMmapCache
+{
+  private static final Logger log
+    = Logger.getLogger(ApcMmapCache.class.getName());
+  private static final L10N L = new L10N(ApcMmapCache.class);
+
+  private static final int MAGIC = 0x51415043; // "QAPC"
+  private static final int VERSION = 1;
+
+  private static final int STRIPE_COUNT = 16;
+
+  // file header
+  private static final int H_MAGIC = 0;
+  private static final int H_VERSION = 4;
+  private static final int H_STRIPES = 8;
+  private static final int H_BUCKETS = 12;
+  private static final int H_SEGMENT_SIZE = 16;
+  private static final int H_START_TIME = 24;
+  private static final int HEADER_SIZE = 64;
+
+  // stripe header, followed by the buckets and the entry log
+  private static final int S_TOP = 0;
+  private static final int S_COUNT = 4;
+  private static final int S_HITS = 8;
+  private static final int S_MISSES = 16;
+  private static final int S_BUCKETS = 32;
+
+  // entry header, followed by the key and the value
+  private static final int E_NEXT = 0;
+  private static final int E_HASH = 4;
+  private static final int E_SIZE = 8;
+  private static final int E_KEY_LENGTH = 12;
+  private static final int E_VALUE_LENGTH = 16;
+  private static final int E_HITS = 20;
+  private static final int E_EXPIRE = 24;
+  private static final int E_CREATE = 32;
+  private static final int E_FLAGS = 40;
+  private static final int E_KEY = 48;
+
+  private static final int FLAG_LIVE = 1;
+
+  // value tags
+  private static final int T_NULL = 'N';
+  private static final int T_TRUE = 'T';
+  private static final int T_FALSE = 'F';
+  private static final int T_LONG = 'L';
+  private static final int T_DOUBLE = 'D';
+  private static final int T_STRING = 'S';
+  private static final int T_UNICODE = 'U';
+  private static final int T_ARRAY = 'A';
+  private static final int T_SERIALIZED = 'P';
+
+  private static final HashMap<String,ApcMmapCache> _cacheMap
+    = new HashMap<String,ApcMmapCache>();
+
+  private final File _file;
+  private final RandomAccessFile _raf;
+  private final FileChannel _channel;
+
+  private final Stripe []_stripes;
+  private final int _bucketCount;
+  private final long _startTime;
+  private final long _fileSize;
+
+  private ApcMmapCache(File file, long size, int bucketCount)
+    throws IOException
+  {
+    _file = file;
+
+    RandomAccessFile raf;
+    FileLock lock;
+    ByteBuffer header;
+
+    while (true) {
+      raf = new RandomAccessFile(file, "rw");
+      lock = raf.getChannel().lock();
+
+      header = readHeader(raf);
+
+      if (isValid(header))
+        break;
+      else if (raf.length() == 0) {
+        // a new file, which no other JVM can have mapped yet
+        format(raf, size, bucketCount);
+
+        header = readHeader(raf);
+        break;
+      }
+
+      // another version's file may still be mapped by other JVMs, so it
+      // is replaced rather than truncated under them.  The JVMs waiting
+      // on the old file's lock find the replacement on the next pass.
+      try {
+        if (! isValid(readHeader(file)))
+          replace(file, size, bucketCount);
+      } finally {
+        lock.release();
+        raf.close();
+      }
+    }
+
+    _raf = raf;
+    _channel = raf.getChannel();
+
+    try {
+      int bucketsPerStripe = header.getInt(H_BUCKETS);
+      int segmentSize = header.getInt(H_SEGMENT_SIZE);
+
+      _startTime = header.getLong(H_START_TIME);
+      _fileSize = HEADER_SIZE + (long) STRIPE_COUNT * segmentSize;
+
+      if (_channel.size() < _fileSize)
+        throw new IOException(L.l("{0} is truncated", file));
+
+      MappedByteBuffer buffer
+        = _channel.map(FileChannel.MapMode.READ_WRITE, 0, _fileSize);
+
+      _bucketCount = bucketsPerStripe * STRIPE_COUNT;
+
+      _stripes = new Stripe[STRIPE_COUNT];
+
+      for (int i = 0; i < STRIPE_COUNT; i++) {
+        long offset = HEADER_SIZE + (long) i * segmentSize;
+
+        buffer.position((int) offset);
+        buffer.limit((int) offset + segmentSize);
+
+        _stripes[i] = new Stripe(offset, buffer.slice(), bucketsPerStripe);
+
+        buffer.clear();
+      }
+    } finally {
+      lock.release();
+    }
+  }
+
+  private static ByteBuffer readHeader(RandomAccessFile raf)
+    throws IOException
+  {
+    ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+
+    if (raf.length() >= HEADER_SIZE)
+      raf.getChannel().read(header, 0);
+
+    return header;
+  }
+
+  private static ByteBuffer readHeader(File file)
+    throws IOException
+  {
+    RandomAccessFile raf = new RandomAccessFile(file, "r");
+
+    try {
+      return readHeader(raf);
+    } finally {
+      raf.close();
+    }
+  }
+
+  private static boolean isValid(ByteBuffer header)
+  {
+    return (header.getInt(H_MAGIC) == MAGIC
+            && header.getInt(H_VERSION) == VERSION
+            && header.getInt(H_STRIPES) == STRIPE_COUNT);
+  }
+
+  /**
+   * Writes an empty cache to a new, zero-length file.
+   */
+  private static void format(RandomAccessFile raf, long size, int bucketCount)
+    throws IOException
+  {
+    int bucketsPerStripe = Math.max(16, (bucketCount + STRIPE_COUNT - 1)
+                                        / STRIPE_COUNT);
+    int segmentSize = (int) ((size - HEADER_SIZE) / STRIPE_COUNT) & ~7;
+
+    if (segmentSize < getDataStart(bucketsPerStripe) + 1024)
+      throw new IOException(L.l("{0} bytes is too small for an APC cache",
+                                size));
+
+    long fileSize = HEADER_SIZE + (long) STRIPE_COUNT * segmentSize;
+
+    raf.setLength(fileSize);
+
+    MappedByteBuffer buffer
+      = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+
+    // the rest of a new file is already zero
+    for (int i = 0; i < STRIPE_COUNT; i++) {
+      buffer.putInt(HEADER_SIZE + i * segmentSize + S_TOP,
+                    getDataStart(bucketsPerStripe));
+    }
+
+    buffer.putInt(H_VERSION, VERSION);
+    buffer.putInt(H_STRIPES, STRIPE_COUNT);
+    buffer.putInt(H_BUCKETS, bucketsPerStripe);
+    buffer.putInt(H_SEGMENT_SIZE, segmentSize);
+    buffer.putLong(H_START_TIME, Alarm.getCurrentTime() / 1000);
+
+    // written last, so a crash during creation leaves an invalid file
+    buffer.putInt(H_MAGIC, MAGIC);
+
+    buffer.force();
+  }
+
+  /**
+   * Formats a new cache beside the file and renames it over the file.
+   */
+  private static void replace(File file, long size, int bucketCount)
+    throws IOException
+  {
+    File dir = file.getAbsoluteFile().getParentFile();
+    File tmp = File.createTempFile(file.getName(), ".tmp", dir);
+
+    try {
+      RandomAccessFile raf = new RandomAccessFile(tmp, "rw");
+
+      try {
+        format(raf, size, bucketCount);
+      } finally {
+        raf.close();
+      }
+
+      if (! tmp.renameTo(file))
+        throw new IOException(L.l("can't replace {0}", file));
+    } finally {
+      tmp.delete();
+    }
+  }
+
+  /**
+   * Opens the cache file, creating or reformatting it if it isn't a
+   * valid cache.  The size and bucket count only apply to a new file.
+   */
+  public static ApcMmapCache open(File file, long size, int bucketCount)
+    throws IOException
+  {
+    // a JVM can only hold one lock on a region, so the cache is
+    // shared by every module instance that opens the file
+    String name = file.getCanonicalPath();
+
+    synchronized (_cacheMap) {
+      ApcMmapCache cache = _cacheMap.get(name);
+
+      if (cache == null) {
+        cache = new ApcMmapCache(file, size, bucketCount);
+
+        _cacheMap.put(name, cache);
+      }
+
+      return cache;
+    }
+  }
+
+  private static int getDataStart(int bucketsPerStripe)
+  {
+    return (S_BUCKETS + 4 * bucketsPerStripe + 7) & ~7;
+  }
+
+  private Stripe getStripe(int hash)
+  {
+    return _stripes[(hash & 0x7fffffff) % STRIPE_COUNT];
+  }
+
+  //
+  // cache API
+  //
+
+  /**
+   * Returns the value, or null if it's missing or expired.
+   */
+  public Value get(Env env, String key)
+  {
+    byte []keyBytes = getKeyBytes(key);
+    int hash = key.hashCode();
+
+    Stripe stripe = getStripe(hash);
+
+    Decoder decoder = new Decoder(env);
+    Value value;
+
+    synchronized (stripe) {
+      FileLock lock = stripe.lock();
+
+      if (lock == null)
+        return null;
+
+      try {
+        value = stripe.get(decoder, hash, keyBytes);
+      } finally {
+        stripe.unlock(lock);
+      }
+    }
+
+    if (value != null)
+      value = decoder.complete(value);
+
+    return value;
+  }
+
+  /**
+   * Stores the value, returning false if it's too large for a stripe.
+   */
+  public boolean put(Env env, String key, Value value, int ttl)
+  {
+    byte []keyBytes = getKeyBytes(key);
+    int hash = key.hashCode();
+
+    byte []data;
+
+    try {
+      Encoder encoder = new Encoder();
+
+      encoder.write(env, value);
+
+      data = encoder.toByteArray();
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+
+    long now = Alarm.getCurrentTime();
+    long expire = ttl > 0 ? now + ttl * 1000L : 0;
+
+    Stripe stripe = getStripe(hash);
+
+    synchronized (stripe) {
+      FileLock lock = stripe.lock();
+
+      if (lock == null)
+        return false;
+
+      try {
+        return stripe.put(hash, keyBytes, data, expire, now);
+      } finally {
+        stripe.unlock(lock);
+      }
+    }
+  }
+
+  /**
+   * Removes the value, returning true if it existed.
+   */
+  public boolean remove(String key)
+  {
+    byte []keyBytes = getKeyBytes(key);
+    int hash = key.hashCode();
+
+    Stripe stripe = getStripe(hash);
+
+    synchronized (stripe) {
+      FileLock lock = stripe.lock();
+
+      if (lock == null)
+        return false;
+
+      try {
+        return stripe.remove(hash, keyBytes);
+      } finally {
+        stripe.unlock(lock);
+      }
+    }
+  }
+
+  /**
+   * Removes all values.
+   */
+  public void clear()
+  {
+    for (Stripe stripe : _stripes) {
+      synchronized (stripe) {
+        FileLock lock = stripe.lock();
+
+        if (lock == null)
+          continue;
+
+        try {
+          stripe.clear();
+        } finally {
+          stripe.unlock(lock);
+        }
+      }
+    }
+  }
+
+  /**
+   * Fills in the apc_cache_info() fields, and the user entries unless
+   * the list is null.
+   */
+  public void fillInfo(Env env, ArrayValue info, ArrayValue cacheList)
+  {
+    long hits = 0;
+    long misses = 0;
+    long count = 0;
+    long memSize = 0;
+
+    for (Stripe stripe : _stripes) {
+      synchronized (stripe) {
+        FileLock lock = stripe.lock();
+
+        if (lock == null)
+          continue;
+
+        try {
+          hits += stripe._buffer.getLong(S_HITS);
+          misses += stripe._buffer.getLong(S_MISSES);
+          count += stripe._buffer.getInt(S_COUNT);
+          memSize += stripe._buffer.getInt(S_TOP) - stripe._dataStart;
+
+          if (cacheList != null)
+            stripe.fillList(env, cacheList);
+        } finally {
+          stripe.unlock(lock);
+        }
+      }
+    }
+
+    info.put("num_slots", _bucketCount);
+    info.put("ttl", 0);
+    info.put("num_hits", hits);
+    info.put("num_misses", misses);
+    info.put("num_entries", count);
+    info.put("mem_size", memSize);
+    info.put("start_time", _startTime);
+    info.put(env.createString("file_name"), env.createString(_file.getPath()));
+  }
+
+  /**
+   * Returns the mapped size.
+   */
+  public long getSize()
+  {
+    return _fileSize;
+  }
+
+  /**
+   * Returns the unused space in the entry logs, not counting removed
+   * entries that a compaction would reclaim.
+   */
+  public long getFreeSize()
+  {
+    long free = 0;
+
+    for (Stripe stripe : _stripes) {
+      synchronized (stripe) {
+        FileLock lock = stripe.lock();
+
+        if (lock == null)
+          continue;
+
+        try {
+          free += stripe._size - stripe._buffer.getInt(S_TOP);
+        } finally {
+          stripe.unlock(lock);
+        }
+      }
+    }
+
+    return free;
+  }
+
+  private static byte []getKeyBytes(String key)
+  {
+    try {
+      return key.getBytes("UTF-8");
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static String getKeyString(byte []bytes)
+  {
+    try {
+      return new String(bytes, "UTF-8");
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * One lock region of the file: a hash table whose entries are appended
+   * to a log.  Every method is called with the stripe and its file
+   * region locked.
+   */
+  final class Stripe {
+    private final long _offset;
+    private final ByteBuffer _buffer;
+    private final int _size;
+    private final int _buckets;
+    private final int _dataStart;
+
+    Stripe(long offset, ByteBuffer buffer, int buckets)
+    {
+      _offset = offset;
+      _buffer = buffer;
+      _size = buffer.capacity();
+      _buckets = buckets;
+      _dataStart = getDataStart(buckets);
+    }
+
+    FileLock lock()
+    {
+      try {
+        return _channel.lock(_offset, _size, false);
+      } catch (IOException e) {
+        log.log(Level.WARNING, e.toString(), e);
+
+        return null;
+      }
+    }
+
+    void unlock(FileLock lock)
+    {
+      try {
+        lock.release();
+      } catch (IOException e) {
+        log.log(Level.FINE, e.toString(), e);
+      }
+    }
+
+    void clear()
+    {
+      ByteBuffer buffer = _buffer;
+
+      buffer.putInt(S_TOP, _dataStart);
+      buffer.putInt(S_COUNT, 0);
+      buffer.putLong(S_HITS, 0);
+      buffer.putLong(S_MISSES, 0);
+
+      for (int i = 0; i < _buckets; i++)
+        buffer.putInt(S_BUCKETS + 4 * i, 0);
+    }
+
+    private int getBucket(int hash)
+    {
+      return S_BUCKETS + 4 * (((hash >>> 4) & 0x0fffffff) % _buckets);
+    }
+
+    private boolean isExpired(int entry, long now)
+    {
+      long expire = _buffer.getLong(entry + E_EXPIRE);
+
+      return expire != 0 && expire < now;
+    }
+
+    private int find(int hash, byte []key)
+    {
+      ByteBuffer buffer = _buffer;
+
+      int entry = buffer.getInt(getBucket(hash));
+
+      for (; entry != 0; entry = buffer.getInt(entry + E_NEXT)) {
+        if (buffer.getInt(entry + E_HASH) != hash
+            || buffer.getInt(entry + E_KEY_LENGTH) != key.length)
+          continue;
+
+        int i = key.length - 1;
+
+        for (; i >= 0 && buffer.get(entry + E_KEY + i) == key[i]; i--) {
+        }
+
+        if (i < 0)
+          return entry;
+      }
+
+      return 0;
+    }
+
+    /**
+     * Unlinks a found entry from its bucket and marks it removed.
+     */
+    private void unlink(int hash, int entry)
+    {
+      ByteBuffer buffer = _buffer;
+
+      int bucket = getBucket(hash);
+      int next = buffer.getInt(entry + E_NEXT);
+
+      int ptr = buffer.getInt(bucket);
+
+      if (ptr == entry)
+        buffer.putInt(bucket, next);
+      else {
+        for (; ptr != 0; ptr = buffer.getInt(ptr + E_NEXT)) {
+          if (buffer.getInt(ptr + E_NEXT) == entry) {
+            buffer.putInt(ptr + E_NEXT, next);
+            break;
+          }
+        }
+      }
+
+      buffer.putInt(entry + E_FLAGS, 0);
+      buffer.putInt(S_COUNT, buffer.getInt(S_COUNT) - 1);
+    }
+
+    Value get(Decoder decoder, int hash, byte []key)
+    {
+      ByteBuffer buffer = _buffer;
+
+      int entry = find(hash, key);
+
+      if (entry != 0 && isExpired(entry, Alarm.getCurrentTime())) {
+        unlink(hash, entry);
+
+        entry = 0;
+      }
+
+      if (entry == 0) {
+        buffer.putLong(S_MISSES, buffer.getLong(S_MISSES) + 1);
+
+        return null;
+      }
+
+      buffer.putLong(S_HITS, buffer.getLong(S_HITS) + 1);
+      buffer.putInt(entry + E_HITS, buffer.getInt(entry + E_HITS) + 1);
+
+      buffer.position(entry + E_KEY + key.length);
+
+      try {
+        return decoder.read(buffer, null, null);
+      } finally {
+        buffer.clear();
+      }
+    }
+
+    boolean put(int hash, byte []key, byte []data, long expire, long now)
+    {
+      ByteBuffer buffer = _buffer;
+
+      int size = (E_KEY + key.length + data.length + 7) & ~7;
+
+      if (_size - _dataStart < size)
+        return false;
+
+      int oldEntry = find(hash, key);
+
+      if (oldEntry != 0)
+        unlink(hash, oldEntry);
+
+      if (_size < buffer.getInt(S_TOP) + size)
+        compact(size, now);
+
+      int entry = buffer.getInt(S_TOP);
+      int bucket = getBucket(hash);
+
+      buffer.putInt(entry + E_NEXT, buffer.getInt(bucket));
+      buffer.putInt(entry + E_HASH, hash);
+      buffer.putInt(entry + E_SIZE, size);
+      buffer.putInt(entry + E_KEY_LENGTH, key.length);
+      buffer.putInt(entry + E_VALUE_LENGTH, data.length);
+      buffer.putInt(entry + E_HITS, 0);
+      buffer.putLong(entry + E_EXPIRE, expire);
+      buffer.putLong(entry + E_CREATE, now);
+      buffer.putInt(entry + E_FLAGS, FLAG_LIVE);
+
+      buffer.position(entry + E_KEY);
+      buffer.put(key);
+      buffer.put(data);
+      buffer.clear();
+
+      buffer.putInt(bucket, entry);
+      buffer.putInt(S_TOP, entry + size);
+      buffer.putInt(S_COUNT, buffer.getInt(S_COUNT) + 1);
+
+      return true;
+    }
+
+    boolean remove(int hash, byte []key)
+    {
+      int entry = find(hash, key);
+
+      if (entry == 0)
+        return false;
+
+      unlink(hash, entry);
+
+      return true;
+    }
+
+    /**
+     * Rewrites the log with only the live entries, evicting the oldest
+     * ones until there's room for size more bytes.
+     */
+    private void compact(int size, long now)
+    {
+      ByteBuffer buffer = _buffer;
+
+      int top = buffer.getInt(S_TOP);
+      int live = 0;
+
+      for (int entry = _dataStart; entry < top;
+           entry += buffer.getInt(entry + E_SIZE)) {
+        if (buffer.getInt(entry + E_FLAGS) == FLAG_LIVE
+            && ! isExpired(entry, now))
+          live += buffer.getInt(entry + E_SIZE);
+      }
+
+      int evict = _dataStart + live + size - _size;
+
+      byte []data = new byte[live];
+      int length = 0;
+
+      for (int entry = _dataStart; entry < top;
+           entry += buffer.getInt(entry + E_SIZE)) {
+        int entrySize = buffer.getInt(entry + E_SIZE);
+
+        if (buffer.getInt(entry + E_FLAGS) != FLAG_LIVE
+            || isExpired(entry, now))
+          continue;
+
+        if (evict > 0) {
+          evict -= entrySize;
+          continue;
+        }
+
+        buffer.position(entry);
+        buffer.get(data, length, entrySize);
+        buffer.clear();
+
+        length += entrySize;
+      }
+
+      buffer.position(_dataStart);
+      buffer.put(data, 0, length);
+      buffer.clear();
+
+      for (int i = 0; i < _buckets; i++)
+        buffer.putInt(S_BUCKETS + 4 * i, 0);
+
+      int count = 0;
+      top = _dataStart + length;
+
+      for (int entry = _dataStart; entry < top;
+           entry += buffer.getInt(entry + E_SIZE)) {
+        int bucket = getBucket(buffer.getInt(entry + E_HASH));
+
+        buffer.putInt(entry + E_NEXT, buffer.getInt(bucket));
+        buffer.putInt(bucket, entry);
+
+        count++;
+      }
+
+      buffer.putInt(S_TOP, top);
+      buffer.putInt(S_COUNT, count);
+    }
+
+    void fillList(Env env, ArrayValue cacheList)
+    {
+      ByteBuffer buffer = _buffer;
+
+      long now = Alarm.getCurrentTime();
+      int top = buffer.getInt(S_TOP);
+
+      for (int entry = _dataStart; entry < top;
+           entry += buffer.getInt(entry + E_SIZE)) {
+        if (buffer.getInt(entry + E_FLAGS) != FLAG_LIVE
+            || isExpired(entry, now))
+          continue;
+
+        byte []key = new byte[buffer.getInt(entry + E_KEY_LENGTH)];
+
+        buffer.position(entry + E_KEY);
+        buffer.get(key);
+        buffer.clear();
+
+        long expire = buffer.getLong(entry + E_EXPIRE);
+        long ttl = expire == 0 ? 0 : (expire - now) / 1000L;
+
+        ArrayValueImpl array = new ArrayValueImpl();
+        cacheList.put(array);
+
+        array.put(env.createString("info"),
+                  env.createString(getKeyString(key)));
+        array.put(env.createString("ttl"), LongValue.create(ttl));
+        array.put(env.createString("type"), env.createString("user"));
+        array.put(env.createString("num_hits"),
+                  LongValue.create(buffer.getInt(entry + E_HITS)));
+        array.put(env.createString("creation_time"),
+                  LongValue.create(buffer.getLong(entry + E_CREATE) / 1000));
+      }
+    }
+  }
+
+  //
+  // value format
+  //
+
+  /**
+   * Writes a value.  A value holding an object or a recursive array is
+   * written whole in the serialize() format instead, which keeps shared
+   * objects and references, and restores objects with the Env's classes.
+   */
+  static final class Encoder {
+    private final ByteArrayOutputStream _bytes = new ByteArrayOutputStream();
+    private final DataOutputStream _out = new DataOutputStream(_bytes);
+
+    // the arrays being written, to find recursion
+    private final IdentityHashMap<ArrayValue,Boolean> _path
+      = new IdentityHashMap<ArrayValue,Boolean>();
+
+    void write(Env env, Value value)
+      throws IOException
+    {
+      if (writePlain(value))
+        return;
+
+      _bytes.reset();
+      _path.clear();
+
+      String s = VariableModule.serialize(env, value);
+
+      _out.write(T_SERIALIZED);
+      _out.writeInt(s.length());
+      _out.writeChars(s);
+    }
+
+    /**
+     * Writes a value without objects or recursion, returning false when
+     * it has either.
+     */
+    private boolean writePlain(Value value)
+      throws IOException
+    {
+      DataOutputStream out = _out;
+
+      value = value.toValue();
+
+      if (value.isNull())
+        out.write(T_NULL);
+      else if (value instanceof BooleanValue)
+        out.write(value.toBoolean() ? T_TRUE : T_FALSE);
+      else if (value instanceof LongValue) {
+        out.write(T_LONG);
+        out.writeLong(value.toLong());
+      }
+      else if (value instanceof DoubleValue) {
+        out.write(T_DOUBLE);
+        out.writeDouble(value.toDouble());
+      }
+      else if (value instanceof StringValue) {
+        StringValue s = (StringValue) value;
+        int length = s.length();
+
+        if (s.isUnicode()) {
+          out.write(T_UNICODE);
+          out.writeInt(length);
+
+          for (int i = 0; i < length; i++)
+            out.writeChar(s.charAt(i));
+        }
+        else if (s instanceof StringBuilderValue) {
+          out.write(T_STRING);
+          out.writeInt(length);
+          out.write(((StringBuilderValue) s).getBuffer(), 0, length);
+        }
+        else {
+          out.write(T_STRING);
+          out.writeInt(length);
+
+          for (int i = 0; i < length; i++)
+            out.write(s.charAt(i));
+        }
+      }
+      else if (value instanceof ArrayValue) {
+        ArrayValue array = (ArrayValue) value;
+
+        if (_path.put(array, Boolean.TRUE) != null)
+          return false;
+
+        out.write(T_ARRAY);
+        out.writeInt(array.getSize());
+
+        for (ArrayValue.Entry ptr = array.getHead();
+             ptr != null;
+             ptr = ptr.getNext()) {
+          if (! writePlain(ptr.getKey()) || ! writePlain(ptr.getValue()))
+            return false;
+        }
+
+        _path.remove(array);
+      }
+      else
+        return false;
+
+      return true;
+    }
+
+    byte []toByteArray()
+      throws IOException
+    {
+      _out.flush();
+
+      return _bytes.toByteArray();
+    }
+  }
+
+  /**
+   * Reads a value from the mapped buffer.  A serialized value is only
+   * read as a string while the stripe is locked, since unserializing
+   * objects may call back into PHP, and is restored by complete().
+   */
+  static final class Decoder {
+    private final Env _env;
+
+    private byte []_scratch = new byte[256];
+
+    private ArrayList<ArrayValue> _parents;
+    private ArrayList<Value> _keys;
+    private ArrayList<String> _serialized;
+
+    Decoder(Env env)
+    {
+      _env = env;
+    }
+
+    Value read(ByteBuffer buffer, ArrayValue parent, Value key)
+    {
+      int tag = buffer.get();
+
+      switch (tag) {
+      case T_NULL:
+        return NullValue.NULL;
+
+      case T_TRUE:
+        return BooleanValue.TRUE;
+
+      case T_FALSE:
+        return BooleanValue.FALSE;
+
+      case T_LONG:
+        return LongValue.create(buffer.getLong());
+
+      case T_DOUBLE:
+        return DoubleValue.create(buffer.getDouble());
+
+      case T_STRING:
+        {
+          int length = buffer.getInt();
+
+          if (_scratch.length < length)
+            _scratch = new byte[length];
+
+          buffer.get(_scratch, 0, length);
+
+          return new StringBuilderValue(_scratch, 0, length);
+        }
+
+      case T_UNICODE:
+        {
+          int length = buffer.getInt();
+          char []chars = new char[length];
+
+          for (int i = 0; i < length; i++)
+            chars[i] = buffer.getChar();
+
+          return new UnicodeBuilderValue(chars);
+        }
+
+      case T_ARRAY:
+        {
+          int size = buffer.getInt();
+
+          ArrayValueImpl array = new ArrayValueImpl();
+
+          for (int i = 0; i < size; i++) {
+            Value childKey = read(buffer, null, null);
+            Value child = read(buffer, array, childKey);
+
+            array.append(childKey, child);
+          }
+
+          return array;
+        }
+
+      case T_SERIALIZED:
+        {
+          int length = buffer.getInt();
+          char []chars = new char[length];
+
+          for (int i = 0; i < length; i++)
+            chars[i] = buffer.getChar();
+
+          if (_parents == null) {
+            _parents = new ArrayList<ArrayValue>();
+            _keys = new ArrayList<Value>();
+            _serialized = new ArrayList<String>();
+          }
+
+          _parents.add(parent);
+          _keys.add(key);
+          _serialized.add(new String(chars));
+
+          return NullValue.NULL;
+        }
+
+      default:
+        throw new IllegalStateException(L.l("corrupt APC cache entry tag '{0}'",
+                                            tag));
+      }
+    }
+
+    /**
+     * Unserializes the objects read by read().
+     */
+    Value complete(Value value)
+    {
+      if (_parents == null)
+        return value;
+
+      for (int i = 0; i < _parents.size(); i++) {
+        Value obj = unserialize(_serialized.get(i));
+
+        ArrayValue parent = _parents.get(i);
+
+        if (parent != null)
+          parent.put(_keys.get(i), obj);
+        else
+          value = obj;
+      }
+
+      return value;
+    }
+
+    private Value unserialize(String s)
+    {
+      try {
+        return new UnserializeReader(s).unserialize(_env);
+      } catch (IOException e) {
+        log.log(Level.FINE, e.toString(), e);
+
+        return BooleanValue.FALSE;
+      }
+    }
+  }
+}
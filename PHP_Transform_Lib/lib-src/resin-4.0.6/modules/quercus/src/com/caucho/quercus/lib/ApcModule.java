@@ -37,9 +37,11 @@ import com.caucho.quercus.module.IniDefinitions;
 import com.caucho.quercus.module.IniDefinition;
 import com.caucho.util.Alarm;
 import com.caucho.util.L10N;
+import com.caucho.util.ConcurrentLruCache;
 import com.caucho.util.LruCache;
 import com.caucho.vfs.Path;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.*;
 import java.util.logging.Level;
@@ -58,7 +60,10 @@ public class ApcModule extends AbstractQuercusModule
 
   private static final int _defaultSize = 4096;
   
-  private LruCache<String,Entry> _cache;
+  private ConcurrentLruCache<String,Entry> _cache;
+
+  private volatile ApcMmapCache _mmapCache;
+  private volatile boolean _isMmapInit;
 
   private HashMap<String,Value> _constMap = new HashMap<String,Value>();
 
@@ -78,6 +83,60 @@ public class ApcModule extends AbstractQuercusModule
     return _iniDefinitions;
   }
 
+  /**
+   * Returns the shared cache when apc.mmap_file_mask names a file, or null
+   * for the in-memory cache.
+   */
+  private ApcMmapCache getMmapCache(Env env)
+  {
+    if (! _isMmapInit)
+      initMmapCache(env);
+
+    return _mmapCache;
+  }
+
+  private synchronized void initMmapCache(Env env)
+  {
+    if (_isMmapInit)
+      return;
+
+    try {
+      _mmapCache = openMmapCache(env);
+    } finally {
+      _isMmapInit = true;
+    }
+  }
+
+  private ApcMmapCache openMmapCache(Env env)
+  {
+    String fileName = env.getIniString("apc.mmap_file_mask");
+
+    if (fileName == null || "".equals(fileName))
+      return null;
+
+    long size = env.getIniLong("apc.shm_size");
+
+    if (size <= 0)
+      size = 30;
+
+    // a single mapping is limited to 2G
+    size = Math.min(size, 1024) * 1024L * 1024L;
+
+    long entries = env.getIniLong("apc.user_entries_hint");
+
+    if (entries <= 0)
+      entries = _defaultSize;
+
+    try {
+      return ApcMmapCache.open(new File(fileName), size, (int) entries);
+    } catch (IOException e) {
+      log.log(Level.WARNING, L.l("can't open APC cache file {0}: {1}",
+                                 fileName, e.toString()), e);
+
+      return null;
+    }
+  }
+
   /**
    * Returns cache information.
    */
@@ -87,6 +146,19 @@ public class ApcModule extends AbstractQuercusModule
   {
     ArrayValue value = new ArrayValueImpl();
 
+    ApcMmapCache mmapCache = getMmapCache(env);
+
+    if (mmapCache != null) {
+      ArrayValueImpl cacheList = new ArrayValueImpl();
+
+      mmapCache.fillInfo(env, value,
+                         "user".equals(type) && ! limited ? cacheList : null);
+
+      value.put(env.createString("cache_list"), cacheList);
+
+      return value;
+    }
+
     if (_cache != null) {
       value.put("num_slots", _cache.getCapacity());
       value.put("ttl", 0);
@@ -109,15 +181,13 @@ public class ApcModule extends AbstractQuercusModule
       ArrayList<String> keys = new ArrayList<String>();
       ArrayList<Entry> values = new ArrayList<Entry>();
 
-      synchronized (_cache) {
-	Iterator<LruCache.Entry<String,Entry>> iter = _cache.iterator();
+      Iterator<LruCache.Entry<String,Entry>> iter = _cache.iterator();
 
-	while (iter.hasNext()) {
-	  LruCache.Entry<String,Entry> lruEntry = iter.next();
-	  
-	  keys.add(lruEntry.getKey());
-	  values.add(lruEntry.getValue());
-	}
+      while (iter.hasNext()) {
+	LruCache.Entry<String,Entry> lruEntry = iter.next();
+
+	keys.add(lruEntry.getKey());
+	values.add(lruEntry.getValue());
       }
 
       for (int i = 0; i < keys.size(); i++) {
@@ -146,6 +216,11 @@ public class ApcModule extends AbstractQuercusModule
    */
   public boolean apc_clear_cache(Env env, @Optional String type)
   {
+    ApcMmapCache mmapCache = getMmapCache(env);
+
+    if (mmapCache != null)
+      mmapCache.clear();
+
     if (_cache != null)
       _cache.clear();
 
@@ -190,6 +265,11 @@ public class ApcModule extends AbstractQuercusModule
    */
   public boolean apc_delete(Env env, String key)
   {
+    ApcMmapCache mmapCache = getMmapCache(env);
+
+    if (mmapCache != null)
+      return mmapCache.remove(key);
+
     if (_cache == null)
       return false;
     
@@ -204,16 +284,24 @@ public class ApcModule extends AbstractQuercusModule
                          @Optional @Reference Value isSuccessful)
   {
     isSuccessful.set(BooleanValue.FALSE);
-    
-    if (_cache == null)
-      return BooleanValue.FALSE;
-    
-    Entry entry = _cache.get(key);
 
-    if (entry == null)
-      return BooleanValue.FALSE;
+    ApcMmapCache mmapCache = getMmapCache(env);
+
+    Value value;
+
+    if (mmapCache != null)
+      value = mmapCache.get(env, key);
+    else {
+      if (_cache == null)
+        return BooleanValue.FALSE;
 
-    Value value = entry.getValue(env);
+      Entry entry = _cache.get(key);
+
+      if (entry == null)
+        return BooleanValue.FALSE;
+
+      value = entry.getValue(env);
+    }
     
     if (value != null)
       initObject(env, new IdentityHashMap<Value,Value>(), value);
@@ -296,9 +384,19 @@ public class ApcModule extends AbstractQuercusModule
   {
     ArrayValue value = new ArrayValueImpl();
 
+    ApcMmapCache mmapCache = getMmapCache(env);
+
     value.put("num_seg", 1);
-    value.put("seg_size", 1024 * 1024);
-    value.put("avail_mem", 1024 * 1024);
+
+    if (mmapCache != null) {
+      value.put("seg_size", mmapCache.getSize());
+      value.put("avail_mem", mmapCache.getFreeSize());
+    }
+    else {
+      value.put("seg_size", 1024 * 1024);
+      value.put("avail_mem", 1024 * 1024);
+    }
+
     value.put(env.createString("block_lists"), new ArrayValueImpl());
 
     return value;
@@ -310,13 +408,18 @@ public class ApcModule extends AbstractQuercusModule
   public Value apc_store(Env env, String key, Value value,
                          @Optional("0") int ttl)
   {
+    ApcMmapCache mmapCache = getMmapCache(env);
+
+    if (mmapCache != null)
+      return BooleanValue.create(mmapCache.put(env, key, value, ttl));
+
     if (_cache == null) {
       long size = env.getIniLong("apc.user_entries_hint");
 
       if (size <= 0)
         size = _defaultSize;
 
-      _cache = new LruCache<String,Entry>((int) size);
+      _cache = new ConcurrentLruCache<String,Entry>((int) size, true);
     }
     
     _cache.put(key, new Entry(env, value, ttl));
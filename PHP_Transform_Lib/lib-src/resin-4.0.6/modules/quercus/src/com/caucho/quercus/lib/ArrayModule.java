@@ -3365,8 +3365,7 @@ public class ArrayModule
   }
 
   private static class CompareString
-    implements
-    Comparator<Map.Entry<Value, Value>>
+    implements ArrayValue.SortComparator
   {
     private AbstractGet _getter;
 
@@ -3386,11 +3385,25 @@ public class ArrayModule
 
       return aElement.compareTo(bElement) * _order;
     }
+
+    public boolean isKeySort()
+    {
+      return _getter instanceof GetKey;
+    }
+
+    public int getSortType()
+    {
+      return SORT_STRING;
+    }
+
+    public int getOrder()
+    {
+      return _order;
+    }
   }
 
   private static class CompareNumeric
-    implements
-    Comparator<Map.Entry<Value, Value>>
+    implements ArrayValue.SortComparator
   {
     private AbstractGet _getter;
 
@@ -3421,6 +3434,21 @@ public class ArrayModule
         throw new RuntimeException(e);
       }
     }
+
+    public boolean isKeySort()
+    {
+      return _getter instanceof GetKey;
+    }
+
+    public int getSortType()
+    {
+      return SORT_NUMERIC;
+    }
+
+    public int getOrder()
+    {
+      return _order;
+    }
   }
 
   private static class CompareLocale
@@ -3451,7 +3479,7 @@ public class ArrayModule
   }
 
   private static class CompareNormal
-    implements Comparator<Map.Entry<Value, Value>>
+    implements ArrayValue.SortComparator
   {
     private AbstractGet _getter;
 
@@ -3476,6 +3504,21 @@ public class ArrayModule
 
       return c.compare(aEntry, bEntry) * _order;
     }
+
+    public boolean isKeySort()
+    {
+      return _getter instanceof GetKey;
+    }
+
+    public int getSortType()
+    {
+      return SORT_REGULAR;
+    }
+
+    public int getOrder()
+    {
+      return _order;
+    }
   }
 
   private static class CompareNatural
@@ -30,6 +30,7 @@
 package com.caucho.quercus.lib;
 
 import com.caucho.quercus.QuercusModuleException;
+import com.caucho.quercus.annotation.Hide;
 import com.caucho.quercus.annotation.Optional;
 import com.caucho.quercus.annotation.PassThru;
 import com.caucho.quercus.annotation.ReadOnly;
@@ -40,12 +41,10 @@ import com.caucho.quercus.env.*;
 import com.caucho.quercus.function.AbstractFunction;
 import com.caucho.quercus.module.AbstractQuercusModule;
 import com.caucho.util.L10N;
-import com.caucho.util.LruCache;
 import com.caucho.vfs.StringWriter;
 import com.caucho.vfs.WriteStream;
 
 import java.io.IOException;
-import java.lang.ref.*;
 import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
@@ -61,9 +60,8 @@ public class VariableModule extends AbstractQuercusModule {
     = Logger.getLogger(VariableModule.class.getName());
   private static final L10N L = new L10N(VariableModule.class);
 
-  private static final
-    LruCache<UnserializeKey,UnserializeCacheEntry> _unserializeCache
-    = new LruCache<UnserializeKey,UnserializeCacheEntry>(256);
+  private static UnserializeCache _unserializeCache
+    = new UnserializeCache(256);
 
   /**
    * Returns a constant
@@ -703,18 +701,12 @@ public class VariableModule extends AbstractQuercusModule {
    */
   public static Value unserialize(Env env, StringValue s)
   {
-    Value v = null;
+    UnserializeCache cache = _unserializeCache;
 
-    UnserializeKey key = new UnserializeKey(s);
-    
-    UnserializeCacheEntry entry = _unserializeCache.get(key);
-
-    if (entry != null) {
-      v = entry.getValue(env);
+    Value v = cache.get(env, s);
 
-      if (v != null)
-	return v;
-    }
+    if (v != null)
+      return v;
 
     UnserializeReader is = null;
 
@@ -727,20 +719,48 @@ public class VariableModule extends AbstractQuercusModule {
 
       env.notice(e.toString());
 
-      v = BooleanValue.FALSE;
+      return BooleanValue.FALSE;
     }
 
-    if (is != null && ! is.useReference()) {
-      entry = new UnserializeCacheEntry(v);
-      
-      _unserializeCache.put(key, entry);
-
-      return entry.getValue(env);
-    }
+    if (! is.useReference())
+      return cache.put(env, s, v);
 
     return v;
   }
 
+  @Hide
+  public static int getUnserializeCacheSize()
+  {
+    return _unserializeCache.getCapacity();
+  }
+
+  @Hide
+  public static long getUnserializeCacheHitCount()
+  {
+    return _unserializeCache.getHitCount();
+  }
+
+  @Hide
+  public static long getUnserializeCacheMissCount()
+  {
+    return _unserializeCache.getMissCount();
+  }
+
+  @Hide
+  public static long getUnserializeCacheBytes()
+  {
+    return _unserializeCache.getBytes();
+  }
+
+  @Hide
+  public static void setUnserializeCacheSize(int size)
+  {
+    if (size < 0 || size == _unserializeCache.getCapacity())
+      return;
+
+    _unserializeCache = new UnserializeCache(size);
+  }
+
   // XXX: unset
 
   /**
@@ -851,40 +871,4 @@ public class VariableModule extends AbstractQuercusModule {
       v.print(env);
     }
   }
-
-  static class UnserializeKey {
-    private final SoftReference<StringValue> _stringRef;
-    private int _hash;
-
-    UnserializeKey(StringValue string)
-    {
-      _hash = string.hashCode();
-
-      _stringRef = new SoftReference<StringValue>(string);
-    }
-
-    public int hashCode()
-    {
-      return _hash;
-    }
-
-    public boolean equals(Object o)
-    {
-      if (this == o)
-	return true;
-      else if (! (o instanceof UnserializeKey))
-	return false;
-
-      UnserializeKey key = (UnserializeKey) o;
-
-      StringValue a = _stringRef.get();
-      StringValue b = key._stringRef.get();
-
-      if (a == null || b == null)
-	return false;
-
-      return a.equals(b);
-    }
-  }
 }
-
@@ -32,6 +32,7 @@ package com.caucho.quercus.lib.db;
 import com.caucho.quercus.QuercusModuleException;
 import com.caucho.quercus.env.BooleanValue;
 import com.caucho.quercus.env.ConnectionEntry;
+import com.caucho.quercus.env.PreparedStatementCache;
 import com.caucho.quercus.env.Env;
 import com.caucho.quercus.env.EnvCleanup;
 import com.caucho.quercus.env.StringValue;
@@ -409,6 +410,19 @@ public abstract class JdbcConnectionResource
     }
   }
 
+  /**
+   * Returns the prepared statement cache of the connection.
+   */
+  protected PreparedStatementCache getStatementCache()
+  {
+    ConnectionEntry conn = _conn;
+
+    if (conn != null)
+      return conn.getStatementCache();
+    else
+      return null;
+  }
+
   /**
    * Returns the unwrapped SQL connection
    * associated to this statement.
@@ -604,6 +618,16 @@ public abstract class JdbcConnectionResource
    * Execute a single query.
    */
   protected Value realQuery(Env env, String sql)
+  {
+    return realQuery(env, sql, false);
+  }
+
+  /**
+   * Execute a single query.
+   *
+   * @param isUnbuffered true to stream the rows from a forward-only cursor
+   */
+  protected Value realQuery(Env env, String sql, boolean isUnbuffered)
   {
     clearErrors();
 
@@ -627,7 +651,9 @@ public abstract class JdbcConnectionResource
         // XXX: test for performance
         
         boolean isSeekable = isSeekable();
-        if (isSeekable)
+        if (isUnbuffered)
+          stmt = createUnbufferedStatement(conn);
+        else if (isSeekable)
           stmt = conn.createStatement(ResultSet.TYPE_SCROLL_INSENSITIVE,
                           ResultSet.CONCUR_READ_ONLY);
         else
@@ -641,7 +667,7 @@ public abstract class JdbcConnectionResource
         // SELECT statement that returns a result set.
 
         ResultSet rs = stmt.getResultSet();
-        _rs = createResult(_env, stmt, rs);
+        _rs = createResult(_env, stmt, rs, isUnbuffered);
         _affectedRows = 0;
 
         // XXX: if these are needed, get them lazily for performance
@@ -850,6 +876,22 @@ public abstract class JdbcConnectionResource
     return new JdbcResultResource(env, stmt, rs, this);
   }
 
+  /**
+   * Creates a database-specific result for a query.
+   *
+   * @param isUnbuffered true if the rows stream from a forward-only cursor
+   */
+  protected JdbcResultResource createResult(Env env,
+                                            Statement stmt,
+                                            ResultSet rs,
+                                            boolean isUnbuffered)
+  {
+    JdbcResultResource result = createResult(env, stmt, rs);
+    result.setUnbuffered(isUnbuffered);
+
+    return result;
+  }
+
 
   /**
    * sets auto-commmit to true or false
@@ -1049,6 +1091,67 @@ public abstract class JdbcConnectionResource
     _errorCode = e.getErrorCode();
   }
   
+  /**
+   * Creates a forward-only statement for an unbuffered query.
+   */
+  protected Statement createUnbufferedStatement(Connection conn)
+    throws SQLException
+  {
+    Statement stmt = conn.createStatement(ResultSet.TYPE_FORWARD_ONLY,
+                                          ResultSet.CONCUR_READ_ONLY);
+
+    setFetchSize(stmt, getStreamingFetchSize(conn, getUnbufferedFetchSize()));
+
+    return stmt;
+  }
+
+  /**
+   * Returns the configured fetch size for unbuffered queries, 0 for the
+   * driver's default.
+   */
+  protected int getUnbufferedFetchSize()
+  {
+    return 0;
+  }
+
+  /**
+   * Returns the fetch size for a streaming result: the configured size,
+   * or Integer.MIN_VALUE for Connector/J, which otherwise reads the whole
+   * result before returning the first row.
+   */
+  static int getStreamingFetchSize(Connection conn, int fetchSize)
+  {
+    if (fetchSize != 0)
+      return fetchSize;
+
+    try {
+      String driverName = conn.getMetaData().getDriverName();
+
+      if (driverName != null && driverName.startsWith("MySQL"))
+        return Integer.MIN_VALUE;
+    } catch (SQLException e) {
+      log.log(Level.FINER, e.toString(), e);
+    }
+
+    return 0;
+  }
+
+  /**
+   * Sets a statement's fetch size, where 0 keeps the driver default.
+   */
+  static void setFetchSize(Statement stmt, int fetchSize)
+  {
+    if (fetchSize == 0)
+      return;
+
+    try {
+      stmt.setFetchSize(fetchSize);
+    } catch (Exception e) {
+      // the fetch size is only a hint, and some drivers reject it
+      log.log(Level.FINER, e.toString(), e);
+    }
+  }
+
   /**
    * Returns true if this connection supports TYPE_SCROLL_INSENSITIVE.
    * http://bugs.caucho.com/view.php?id=3746
@@ -46,6 +46,7 @@ import java.sql.Types;
 import java.sql.Date;
 import java.sql.Timestamp;
 import java.sql.Time;
+import java.util.ArrayList;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -82,8 +83,15 @@ public class JdbcResultResource {
   protected ResultSetMetaData _metaData;
   private Value[] _columnNames;
 
+  // keys shared by the fetched rows, for _rowShapeType
+  private ArrayShape _rowShape;
+  private int _rowShapeType;
+
   private int _affectedRows;
 
+  // rows stream from a forward-only cursor
+  private boolean _isUnbuffered;
+
   /**
    * Constructor for JdbcResultResource
    *
@@ -169,22 +177,32 @@ public class JdbcResultResource {
       if (_rs.next()) {
         _isValid = true;
 
-        ArrayValue array = new ArrayValueImpl();
-
         ResultSetMetaData md = getMetaData();
 
         int count = md.getColumnCount();
 
-        if ((type & FETCH_ASSOC) != 0) {
-          _columnNames = new Value[count];
+        ArrayShape shape = getRowShape(env, md, type);
+
+        if (shape != null) {
+          Value []values = new Value[shape.getSize()];
+          int i = 0;
+
+          for (int column = 0; column < count; column++) {
+            Value value = getColumnValue(env, _rs, md, column + 1);
 
-          for (int i = 0; i < count; i++) {
-            String columnName = md.getColumnLabel(i + 1);
+            if ((type & FETCH_NUM) != 0)
+              values[i++] = value;
 
-            _columnNames[i] = env.createString(columnName);
+            if ((type & FETCH_ASSOC) != 0)
+              values[i++] = value;
           }
+
+          return new ArrayValueImpl(shape, values);
         }
 
+        // repeated column names need the hashed form
+        ArrayValue array = new ArrayValueImpl();
+
         for (int i = 0; i < count; i++) {
           Value value = getColumnValue(env, _rs, md, i + 1);
 
@@ -205,6 +223,44 @@ public class JdbcResultResource {
     }
   }
 
+  /**
+   * Returns the keys of a fetched row, built once for the result, or null
+   * if the keys repeat.
+   */
+  private ArrayShape getRowShape(Env env, ResultSetMetaData md, int type)
+    throws SQLException
+  {
+    if (_columnNames != null && _rowShapeType == type)
+      return _rowShape;
+
+    int count = md.getColumnCount();
+
+    if (_columnNames == null) {
+      _columnNames = new Value[count];
+
+      for (int i = 0; i < count; i++) {
+        String columnName = md.getColumnLabel(i + 1);
+
+        _columnNames[i] = env.createString(columnName);
+      }
+    }
+
+    ArrayList<Value> keys = new ArrayList<Value>();
+
+    for (int i = 0; i < count; i++) {
+      if ((type & FETCH_NUM) != 0)
+        keys.add(LongValue.create(i));
+
+      if ((type & FETCH_ASSOC) != 0)
+        keys.add(_columnNames[i]);
+    }
+
+    _rowShape = ArrayShape.create(keys.toArray(new Value[keys.size()]));
+    _rowShapeType = type;
+
+    return _rowShape;
+  }
+
   /**
    * Returns an associative array representing the row.
    *
@@ -1158,6 +1214,16 @@ public class JdbcResultResource {
    */
   public int getNumRows()
   {
+    if (_isUnbuffered) {
+      // like PHP, an unbuffered result counts the rows fetched so far
+      try {
+        return _rs != null ? _rs.getRow() : -1;
+      } catch (SQLException e) {
+        log.log(Level.FINE, e.toString(), e);
+        return -1;
+      }
+    }
+
     return getNumRows(_rs);
   }
 
@@ -1177,6 +1243,8 @@ public class JdbcResultResource {
 
     try {
       int currentRow = rs.getRow();
+      // getRow() is also 0 past the last row, where fetching has ended
+      boolean isAfterLast = currentRow == 0 && rs.isAfterLast();
 
       try {
         rs.last();
@@ -1185,7 +1253,9 @@ public class JdbcResultResource {
         log.log(Level.FINE, e.toString(), e);
         return -1;
       } finally {
-        if (currentRow == 0)
+        if (isAfterLast)
+          rs.afterLast();
+        else if (currentRow == 0)
           rs.beforeFirst();
         else
           rs.absolute(currentRow);
@@ -1272,12 +1342,35 @@ public class JdbcResultResource {
    */
   public boolean seek(Env env, int rowNumber)
   {
+    if (_isUnbuffered) {
+      env.warning(L.l("can't seek to row {0} of an unbuffered result; use a buffered query to seek",
+                      rowNumber));
+
+      return false;
+    }
+
     if (setRowNumber(rowNumber))
       return true;
 
     return false;
   }
 
+  /**
+   * Returns true if the rows stream from a forward-only cursor.
+   */
+  public boolean isUnbuffered()
+  {
+    return _isUnbuffered;
+  }
+
+  /**
+   * Marks the result as streaming from a forward-only cursor.
+   */
+  public void setUnbuffered(boolean isUnbuffered)
+  {
+    _isUnbuffered = isUnbuffered;
+  }
+
   /**
    * Set the number of affected rows to the specified value.
    *
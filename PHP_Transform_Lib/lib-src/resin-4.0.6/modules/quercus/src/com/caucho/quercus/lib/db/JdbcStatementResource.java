@@ -32,6 +32,7 @@ package com.caucho.quercus.lib.db;
 import com.caucho.quercus.env.BooleanValue;
 import com.caucho.quercus.env.Env;
 import com.caucho.quercus.env.NullValue;
+import com.caucho.quercus.env.PreparedStatementCache;
 import com.caucho.quercus.env.StringValue;
 import com.caucho.quercus.env.UnsetValue;
 import com.caucho.quercus.env.Value;
@@ -55,7 +56,8 @@ import java.util.logging.Logger;
 /**
  * Represents a JDBC Statement value.
  */
-public class JdbcStatementResource {
+public class JdbcStatementResource
+  implements PreparedStatementCache.Owner {
   private static final Logger log = Log.open(JdbcStatementResource.class);
   private static final L10N L = new L10N(JdbcStatementResource.class);
 
@@ -63,6 +65,8 @@ public class JdbcStatementResource {
   private ResultSet _rs;
   private String _query;
   private PreparedStatement _stmt;
+  private PreparedStatementCache _statementCache;
+  private boolean _isSeekable;
   private ResultSetMetaData _metaData;
   private JdbcResultResource _resultResource = null;
 
@@ -194,8 +198,7 @@ public class JdbcStatementResource {
       if (rs != null)
         rs.close();
 
-      if (_stmt != null)
-        _stmt.close();
+      releaseStatement();
 
     } catch (SQLException e) {
       _errorMessage = e.getMessage();
@@ -244,6 +247,8 @@ public class JdbcStatementResource {
   public boolean execute(Env env)
   {
     try {
+      validateStatement(env);
+
       if (_types != null) {
         int size = _types.length;
         for (int i = 0; i < size; i++) {
@@ -517,8 +522,7 @@ public class JdbcStatementResource {
   public boolean prepare(Env env, StringValue query)
   {
     try {
-      if (_stmt != null)
-        _stmt.close();
+      releaseStatement();
 
       _query = query.toString();
 
@@ -529,18 +533,10 @@ public class JdbcStatementResource {
       
       if (conn == null)
         return false;
-      
-      if (this instanceof OracleStatement) {
-        _stmt = conn.prepareCall(_query,
-                                 ResultSet.TYPE_SCROLL_INSENSITIVE,
-                                 ResultSet.CONCUR_READ_ONLY);
-      } else if (_conn.isSeekable()) {
-        _stmt = conn.prepareStatement(_query,
-                                      ResultSet.TYPE_SCROLL_INSENSITIVE,
-                                      ResultSet.CONCUR_READ_ONLY);
-      } else {
-        _stmt = conn.prepareStatement(_query);
-      }
+
+      _isSeekable = _conn.isSeekable();
+
+      _stmt = createStatement(conn);
 
       return true;
 
@@ -561,8 +557,7 @@ public class JdbcStatementResource {
   public boolean prepareStatement(Env env, String query)
   {
     try {
-      if (_stmt != null)
-        _stmt.close();
+      releaseStatement();
 
       _query = query;
 
@@ -570,16 +565,10 @@ public class JdbcStatementResource {
       
       if (conn == null)
         return false;
-      
-      if (this instanceof OracleStatement) {
-        _stmt = conn.prepareCall(query,
-                                 ResultSet.TYPE_SCROLL_INSENSITIVE,
-                                 ResultSet.CONCUR_READ_ONLY);
-      } else {
-        _stmt = conn.prepareStatement(query,
-                                      ResultSet.TYPE_SCROLL_INSENSITIVE,
-                                      ResultSet.CONCUR_READ_ONLY);
-      }
+
+      _isSeekable = true;
+
+      _stmt = createStatement(conn);
 
       return true;
 
@@ -591,6 +580,83 @@ public class JdbcStatementResource {
     }
   }
 
+  /**
+   * Creates the statement for the query, taking it from the connection's
+   * statement cache when possible.
+   */
+  private PreparedStatement createStatement(Connection conn)
+    throws SQLException
+  {
+    if (this instanceof OracleStatement) {
+      return conn.prepareCall(_query,
+                              ResultSet.TYPE_SCROLL_INSENSITIVE,
+                              ResultSet.CONCUR_READ_ONLY);
+    }
+
+    PreparedStatementCache cache = _conn.getStatementCache();
+    _statementCache = cache;
+
+    if (cache == null && _isSeekable) {
+      return conn.prepareStatement(_query,
+                                   ResultSet.TYPE_SCROLL_INSENSITIVE,
+                                   ResultSet.CONCUR_READ_ONLY);
+    }
+    else if (cache == null)
+      return conn.prepareStatement(_query);
+    else if (_isSeekable) {
+      return cache.prepareStatement(this, _query,
+                                    ResultSet.TYPE_SCROLL_INSENSITIVE,
+                                    ResultSet.CONCUR_READ_ONLY);
+    }
+    else
+      return cache.prepareStatement(this, _query);
+  }
+
+  /**
+   * Prepares the query again if a later prepare of the same query has
+   * taken the cached statement.
+   */
+  protected void validateStatement(Env env)
+    throws SQLException
+  {
+    PreparedStatementCache cache = _statementCache;
+
+    if (cache == null || _stmt == null || cache.isOwner(this, _stmt))
+      return;
+
+    Connection conn = _conn.getConnection(env);
+
+    if (conn != null)
+      _stmt = createStatement(conn);
+  }
+
+  /**
+   * Returns the statement to the connection's statement cache.
+   */
+  private void releaseStatement()
+    throws SQLException
+  {
+    PreparedStatement stmt = _stmt;
+
+    if (stmt == null)
+      return;
+
+    PreparedStatementCache cache = _statementCache;
+
+    if (cache != null)
+      cache.release(this, stmt);
+    else
+      stmt.close();
+  }
+
+  /**
+   * Returns true while a result of the statement is open.
+   */
+  public boolean isStatementInUse()
+  {
+    return _rs != null;
+  }
+
   /**
    * Returns a parameter value
    * Known subclasses: see PostgresStatement.execute
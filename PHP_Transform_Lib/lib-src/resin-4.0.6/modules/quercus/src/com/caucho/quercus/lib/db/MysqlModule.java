@@ -34,6 +34,8 @@ import com.caucho.quercus.annotation.Optional;
 import com.caucho.quercus.annotation.ReturnNullAsFalse;
 import com.caucho.quercus.env.*;
 import com.caucho.quercus.module.AbstractQuercusModule;
+import com.caucho.quercus.module.IniDefinition;
+import com.caucho.quercus.module.IniDefinitions;
 import com.caucho.util.L10N;
 import com.caucho.util.Log;
 
@@ -54,12 +56,14 @@ public class MysqlModule extends AbstractQuercusModule {
   private static final Logger log = Log.open(MysqlModule.class);
   private static final L10N L = new L10N(MysqlModule.class);
 
+  private static final IniDefinitions _iniDefinitions = new IniDefinitions();
+
   public static final int MYSQL_ASSOC = JdbcResultResource.FETCH_ASSOC;
   public static final int MYSQL_NUM = JdbcResultResource.FETCH_NUM;
   public static final int MYSQL_BOTH = JdbcResultResource.FETCH_BOTH;
 
-  public static final int MYSQL_USE_RESULT = 0x0;
-  public static final int MYSQL_STORE_RESULT = 0x1;
+  public static final int MYSQL_USE_RESULT = MysqliModule.MYSQLI_USE_RESULT;
+  public static final int MYSQL_STORE_RESULT = MysqliModule.MYSQLI_STORE_RESULT;
 
   private static final StringValue SV_NAME
     = new ConstStringValue("name");
@@ -100,6 +104,14 @@ public class MysqlModule extends AbstractQuercusModule {
     return new String[] { "mysql" };
   }
 
+  /**
+   * Returns the default php.ini values.
+   */
+  public IniDefinitions getIniDefinitions()
+  {
+    return _iniDefinitions;
+  }
+
   /**
    * Returns the number of affected rows.
    */
@@ -234,8 +246,10 @@ public class MysqlModule extends AbstractQuercusModule {
     if (result.seek(env, rowNumber)) {
       return true;
     } else {
-      env.warning(L.l("Offset {0} is invalid for MySQL (or the query data is unbuffered)",
-                      rowNumber));
+      // seek() has already warned for an unbuffered result
+      if (! result.isUnbuffered())
+        env.warning(L.l("Offset {0} is invalid for MySQL (or the query data is unbuffered)",
+                        rowNumber));
       return false;
     }
   }
@@ -1205,19 +1219,20 @@ public class MysqlModule extends AbstractQuercusModule {
   }
 
   /**
-   * Queries the database.
+   * Queries the database, streaming the rows from a forward-only cursor
+   * instead of reading the whole result first.
    */
-  public static Object mysql_unbuffered_query(Env env,
-                                       @NotNull StringValue name,
-                                       @Optional Mysqli conn)
+  public static Value mysql_unbuffered_query(Env env,
+                                             @NotNull StringValue name,
+                                             @Optional Mysqli conn)
   {
-    // An "unbuffered" query is a performance optimization
-    // for large data sets. Mysql will lock the table in
-    // question until all rows are read by the client.
-    // It is unclear how this would be implemented on top
-    // of Connector/J.
+    // Mysql will lock the table in question until all rows are
+    // read by the client, and the result can't be seeked.
 
-    return mysql_query(env, name, conn);
+    if (conn == null)
+      conn = getConnection(env);
+
+    return conn.query(env, name, MYSQL_USE_RESULT);
   }
 
   /**
@@ -1260,5 +1275,7 @@ public class MysqlModule extends AbstractQuercusModule {
 
     return conn;
   }
-}
 
+  static final IniDefinition INI_MYSQL_UNBUFFERED_FETCH_SIZE
+    = _iniDefinitions.add("mysql.unbuffered_fetch_size", 0, PHP_INI_ALL);
+}
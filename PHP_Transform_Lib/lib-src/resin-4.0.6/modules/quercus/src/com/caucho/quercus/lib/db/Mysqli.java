@@ -776,7 +776,7 @@ public class Mysqli extends JdbcConnectionResource {
    *
    * @param env the PHP executing environment
    * @param sql the escaped query string (can contain escape sequences like `\n' and `\Z')
-   * @param resultMode ignored
+   * @param resultMode MYSQLI_USE_RESULT to stream the rows unbuffered
    *
    * @return a {@link JdbcResultResource}, or null for failure
    */
@@ -786,7 +786,7 @@ public class Mysqli extends JdbcConnectionResource {
   {
     String sql = sqlV.toString();
 
-    return realQuery(env, sql);
+    return realQuery(env, sql, resultMode == MysqliModule.MYSQLI_USE_RESULT);
   }
 
   /**
@@ -795,7 +795,7 @@ public class Mysqli extends JdbcConnectionResource {
    */
 
   @Override
-  protected Value realQuery(Env env, String sql)
+  protected Value realQuery(Env env, String sql, boolean isUnbuffered)
   {
     clearErrors();
 
@@ -870,7 +870,7 @@ public class Mysqli extends JdbcConnectionResource {
         }
       }
 
-      return super.realQuery(env, sql);
+      return super.realQuery(env, sql, isUnbuffered);
     } catch (SQLException e) {
       saveErrors(e);
 
@@ -1263,6 +1263,28 @@ public class Mysqli extends JdbcConnectionResource {
     return new MysqliResult(env, stmt, rs, this);
   }
 
+  /**
+   * Creates a database-specific result for a query.
+   */
+  @Override
+  protected JdbcResultResource createResult(Env env,
+                                            Statement stmt,
+                                            ResultSet rs,
+                                            boolean isUnbuffered)
+  {
+    return new MysqliResult(env, stmt, rs, this, isUnbuffered);
+  }
+
+  /**
+   * Returns the fetch size for unbuffered queries, 0 for the driver's
+   * streaming default.
+   */
+  @Override
+  protected int getUnbufferedFetchSize()
+  {
+    return (int) getEnv().getIniLong("mysql.unbuffered_fetch_size");
+  }
+
   /**
    * This functions queries the connection with "SHOW WARNING"
    *
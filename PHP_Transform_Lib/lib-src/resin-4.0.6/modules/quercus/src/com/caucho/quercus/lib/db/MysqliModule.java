@@ -53,8 +53,10 @@ public class MysqliModule extends AbstractQuercusModule {
   public static final int MYSQLI_NUM = JdbcResultResource.FETCH_NUM;
   public static final int MYSQLI_BOTH = JdbcResultResource.FETCH_BOTH;
 
-  public static final int MYSQLI_USE_RESULT = 0x0;
-  public static final int MYSQLI_STORE_RESULT = 0x1;
+  // PHP's values: a MYSQLI_STORE_RESULT default that can't be resolved,
+  // as in a context whose modules are not loaded, reads as 0 and buffers
+  public static final int MYSQLI_STORE_RESULT = 0x0;
+  public static final int MYSQLI_USE_RESULT = 0x1;
 
   // Used by mysqli_fetch_field.
   public static final int NOT_NULL_FLAG = 0x1;
@@ -302,8 +304,10 @@ public class MysqliModule extends AbstractQuercusModule {
     if (result.seek(env, rowNumber)) {
       return BooleanValue.TRUE;
     } else {
-      env.warning(L.l("Offset {0} is invalid for MySQL (or the query data is unbuffered)",
-                      rowNumber));
+      // seek() has already warned for an unbuffered result
+      if (! result.isUnbuffered())
+        env.warning(L.l("Offset {0} is invalid for MySQL (or the query data is unbuffered)",
+                        rowNumber));
       return BooleanValue.FALSE;
     }
   }
@@ -921,10 +925,8 @@ public class MysqliModule extends AbstractQuercusModule {
                                    StringValue sql,
                                    @Optional("MYSQLI_STORE_RESULT") int resultMode)
   {
-    // ERRATUM: <i>resultMode</i> is ignored, MYSQLI_USE_RESULT would represent
-    //  an unbuffered query, but that is not supported.
-
-    Value value = query(env, conn, sql);
+    // MYSQLI_USE_RESULT streams the rows as an unbuffered query
+    Value value = query(env, conn, sql, resultMode);
 
     if (value == null) {
       return BooleanValue.FALSE;
@@ -936,11 +938,19 @@ public class MysqliModule extends AbstractQuercusModule {
   private static Value query(Env env,
                              Mysqli conn,
                              StringValue sql)
+  {
+    return query(env, conn, sql, MYSQLI_STORE_RESULT);
+  }
+
+  private static Value query(Env env,
+                             Mysqli conn,
+                             StringValue sql,
+                             int resultMode)
   {
     Value value = null;
 
     try {
-      value = conn.query(env, sql, MYSQLI_STORE_RESULT);
+      value = conn.query(env, sql, resultMode);
     } catch (Exception e) {
       log.log(Level.FINE, e.toString(), e);
     }
@@ -68,11 +68,36 @@ public class MysqliResult extends JdbcResultResource {
                       Statement stmt,
                       ResultSet rs,
                       Mysqli conn)
+  {
+    this(env, stmt, rs, conn, false);
+  }
+
+  /**
+   * Constructor for MysqliResult
+   *
+   * @param stmt the corresponding statement
+   * @param rs the corresponding result set
+   * @param conn the corresponding connection
+   * @param isUnbuffered true if the rows stream from a forward-only cursor
+   */
+  public MysqliResult(Env env,
+                      Statement stmt,
+                      ResultSet rs,
+                      Mysqli conn,
+                      boolean isUnbuffered)
   {
     super(env, stmt, rs, conn);
 
-    // getNumRows() is efficient for MySQL
-    _resultSetSize = getNumRows();
+    setUnbuffered(isUnbuffered);
+
+    // an unbuffered result can't move to its last row, and
+    // num_rows() counts the rows fetched so far instead
+    if (isUnbuffered)
+      _resultSetSize = -1;
+    else {
+      // getNumRows() is efficient for MySQL
+      _resultSetSize = getNumRows();
+    }
   }
 
   /**
@@ -925,6 +950,10 @@ public class MysqliResult extends JdbcResultResource {
    */
   public int num_rows()
   {
+    // an unbuffered result only knows the rows fetched so far
+    if (isUnbuffered())
+      return getNumRows();
+
     return _resultSetSize;
   }
 
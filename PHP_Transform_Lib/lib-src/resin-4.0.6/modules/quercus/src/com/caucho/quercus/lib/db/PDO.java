@@ -38,6 +38,7 @@ import com.caucho.quercus.env.BooleanValue;
 import com.caucho.quercus.env.Env;
 import com.caucho.quercus.env.EnvCleanup;
 import com.caucho.quercus.env.LongValue;
+import com.caucho.quercus.env.PreparedStatementCache;
 import com.caucho.quercus.env.StringValue;
 import com.caucho.quercus.env.Value;
 import com.caucho.util.L10N;
@@ -83,6 +84,8 @@ public class PDO implements EnvCleanup {
   public static final int ATTR_STRINGIFY_FETCHES = 17;
   public static final int ATTR_MAX_COLUMN_LEN = 18;
 
+  public static final int MYSQL_ATTR_USE_BUFFERED_QUERY = 1000;
+
   public static final int CASE_NATURAL = 0;
   public static final int CASE_UPPER = 1;
   public static final int CASE_LOWER = 2;
@@ -141,12 +144,18 @@ public class PDO implements EnvCleanup {
   private final PDOError _error;
 
   private Connection _conn;
+  private PreparedStatementCache _statementCache;
 
   private Statement _lastStatement;
   private PDOStatement _lastPDOStatement;
   private String _lastInsertId;
 
   private boolean _inTransaction;
+
+  // false streams query rows from a forward-only cursor
+  private boolean _isBufferedQuery = true;
+  // fetch size for unbuffered queries, 0 for the driver default
+  private int _prefetch;
   
   private static String ENCODING = "ISO8859_1";
 
@@ -268,6 +277,12 @@ public class PDO implements EnvCleanup {
 
     closeStatements();
 
+    PreparedStatementCache statementCache = _statementCache;
+    _statementCache = null;
+
+    if (statementCache != null)
+      statementCache.clear();
+
     if (conn != null) {
       try {
         conn.close();
@@ -381,6 +396,8 @@ public class PDO implements EnvCleanup {
         return StringValue.create(getServerVersion());
       case ATTR_TIMEOUT:
         return LongValue.create(getTimeout());
+      case MYSQL_ATTR_USE_BUFFERED_QUERY:
+        return BooleanValue.create(_isBufferedQuery);
 
       default:
         _error.unsupportedAttribute(attribute);
@@ -436,7 +453,29 @@ public class PDO implements EnvCleanup {
 
   private int getPrefetch()
   {
-    throw new UnimplementedException();
+    return _prefetch;
+  }
+
+  /**
+   * Returns the cache of the connection's prepared statements.
+   */
+  private PreparedStatementCache getStatementCache()
+  {
+    if (_statementCache == null)
+      _statementCache = new PreparedStatementCache(_env.getQuercus(), _conn);
+
+    return _statementCache;
+  }
+
+  /**
+   * Returns the statement fetch size, which only unbuffered queries set.
+   */
+  private int getFetchSize()
+  {
+    if (_isBufferedQuery)
+      return 0;
+    else
+      return JdbcConnectionResource.getStreamingFetchSize(_conn, _prefetch);
   }
 
   private String getServerInfo()
@@ -509,7 +548,9 @@ public class PDO implements EnvCleanup {
       closeStatements();
 
       PDOStatement pdoStatement
-        = new PDOStatement(_env, _conn, statement, true, driverOptions);
+        = new PDOStatement(_env, _conn, getStatementCache(),
+                           statement, true, driverOptions,
+                           getFetchSize());
       
       _lastPDOStatement = pdoStatement;
 
@@ -532,7 +573,9 @@ public class PDO implements EnvCleanup {
     try {
       closeStatements();
 
-      PDOStatement pdoStatement = new PDOStatement(_env, _conn, query, false, null);
+      PDOStatement pdoStatement = new PDOStatement(_env, _conn, null,
+                                                   query, false, null,
+                                                   getFetchSize());
       _lastPDOStatement = pdoStatement;
       return _env.wrapJava(pdoStatement);
     } catch (SQLException e) {
@@ -649,6 +692,13 @@ public class PDO implements EnvCleanup {
 
       case ATTR_STATEMENT_CLASS:
         return setStatementClass(value);
+
+      case ATTR_PREFETCH:
+        return setPrefetch(value.toInt());
+
+      case MYSQL_ATTR_USE_BUFFERED_QUERY:
+        _isBufferedQuery = value.toBoolean();
+        return true;
     }
 
     if (isInit) {
@@ -744,9 +794,17 @@ public class PDO implements EnvCleanup {
     return true;
   }
 
+  /**
+   * Sets the fetch size for unbuffered queries.
+   */
   private boolean setPrefetch(int prefetch)
   {
-    throw new UnimplementedException();
+    if (prefetch < 0)
+      return false;
+
+    _prefetch = prefetch;
+
+    return true;
   }
 
   /**
@@ -56,7 +56,7 @@ import java.util.logging.Logger;
  * PDO object oriented API facade.
  */
 public class PDOStatement
-  implements Iterable<Value>, EnvCleanup
+  implements Iterable<Value>, EnvCleanup, PreparedStatementCache.Owner
 {
   private static final Logger log = Logger.getLogger(PDOStatement.class.getName());
   private static final L10N L = new L10N(PDOStatement.class);
@@ -82,12 +82,19 @@ public class PDOStatement
 
   private Statement _statement;
   private PreparedStatement _preparedStatement;
+  private PreparedStatementCache _statementCache;
+  private String _preparedQuery;
+  private int _fetchSize;
 
   private ResultSet _resultSet;
   private ResultSetMetaData _resultSetMetaData;
   private boolean _resultSetExhausted = true;
   private String _lastInsertId;
 
+  // keys shared by the fetched rows, for _rowShapeMode
+  private ArrayShape _rowShape;
+  private int _rowShapeMode;
+
   private int _fetchMode = PDO.FETCH_BOTH;
   private Value[] _fetchModeArgs = NULL_VALUES;
   private ArrayList<BindColumn> _bindColumns;
@@ -95,14 +102,16 @@ public class PDOStatement
   private IntMap _parameterNameMap;
 
   PDOStatement(Env env, Connection conn,
+               PreparedStatementCache statementCache,
                String query, boolean isPrepared,
-               ArrayValue options)
+               ArrayValue options, int fetchSize)
     throws SQLException
   {
     _env = env;
     _error = new PDOError(_env);
 
     _query = query;
+    _fetchSize = fetchSize;
 
     env.addCleanup(this);
 
@@ -123,9 +132,16 @@ public class PDOStatement
 	  && ((ch = query.charAt(3)) == 'l' || ch == 'L')) {
 	_preparedStatement = conn.prepareCall(query);
       }
+      else if (statementCache != null) {
+        _statementCache = statementCache;
+        _preparedQuery = query;
+        _preparedStatement = statementCache.prepareStatement(this, query);
+      }
       else
 	_preparedStatement = conn.prepareStatement(query);
 
+      JdbcConnectionResource.setFetchSize(_preparedStatement, fetchSize);
+
       // php/1s41 - oracle can't handle this
       //_preparedStatement.setEscapeProcessing(false);
     }
@@ -138,6 +154,8 @@ public class PDOStatement
         statement = conn.createStatement();
         statement.setEscapeProcessing(false);
 
+        JdbcConnectionResource.setFetchSize(statement, fetchSize);
+
         if (statement.execute(query)) {
           _resultSet = statement.getResultSet();
           _resultSetExhausted = false;
@@ -323,6 +341,8 @@ public class PDOStatement
     _resultSetMetaData = null;
     _resultSetExhausted = true;
     _lastInsertId = null;
+    _rowShape = null;
+    _rowShapeMode = 0;
 
     try {
       resultSet.close();
@@ -336,6 +356,15 @@ public class PDOStatement
     return true;
   }
 
+  /**
+   * Returns true while a result of the statement is open, even one read
+   * to the end, until closeCursor(), the next execute() or cleanup().
+   */
+  public boolean isStatementInUse()
+  {
+    return _resultSet != null;
+  }
+
   /**
    * Returns the number of columns.
    */
@@ -372,13 +401,17 @@ public class PDOStatement
     ResultSet resultSet = _resultSet;
     Statement statement = _statement;
     PreparedStatement preparedStatement = _preparedStatement;
+    PreparedStatementCache statementCache = _statementCache;
 
     _resultSet = null;
     _resultSetMetaData = null;
     _resultSetExhausted = true;
     _lastInsertId = null;
+    _rowShape = null;
+    _rowShapeMode = 0;
     _statement = null;
     _preparedStatement = null;
+    _statementCache = null;
 
     if (resultSet != null)  {
       try {
@@ -400,7 +433,10 @@ public class PDOStatement
 
     if (preparedStatement != null)  {
       try {
-        preparedStatement.close();
+        if (statementCache != null)
+          statementCache.release(this, preparedStatement);
+        else
+          preparedStatement.close();
       }
       catch (SQLException e) {
         log.log(Level.WARNING, e.toString(), e);
@@ -444,6 +480,17 @@ public class PDOStatement
     closeCursor();
 
     try {
+      PreparedStatementCache statementCache = _statementCache;
+
+      // a later prepare of the same query took the cached statement
+      if (statementCache != null
+          && ! statementCache.isOwner(this, _preparedStatement)) {
+        _preparedStatement
+          = statementCache.prepareStatement(this, _preparedQuery);
+
+        JdbcConnectionResource.setFetchSize(_preparedStatement, _fetchSize);
+      }
+
       _preparedStatement.clearParameters();
       _preparedStatement.clearWarnings();
 
@@ -588,10 +635,22 @@ public class PDOStatement
         return BooleanValue.FALSE;
       }
 
-      ArrayValueImpl array = new ArrayValueImpl();
-
       int columnCount = getResultSetMetaData().getColumnCount();
 
+      ArrayShape shape = getRowShape(PDO.FETCH_ASSOC);
+
+      if (shape != null) {
+        Value []values = new Value[columnCount];
+
+        for (int i = 0; i < columnCount; i++)
+          values[i] = getColumnValue(i + 1);
+
+        return new ArrayValueImpl(shape, values);
+      }
+
+      // repeated column names need the hashed form
+      ArrayValueImpl array = new ArrayValueImpl();
+
       for (int i = 1; i <= columnCount; i++) {
         String name = getResultSetMetaData().getColumnName(i);
         Value value = getColumnValue(i);
@@ -627,10 +686,26 @@ public class PDOStatement
         return BooleanValue.FALSE;
       }
 
-      ArrayValueImpl array = new ArrayValueImpl();
-
       int columnCount = getResultSetMetaData().getColumnCount();
 
+      ArrayShape shape = getRowShape(PDO.FETCH_BOTH);
+
+      if (shape != null) {
+        Value []values = new Value[2 * columnCount];
+
+        for (int i = 0; i < columnCount; i++) {
+          Value value = getColumnValue(i + 1);
+
+          values[2 * i] = value;
+          values[2 * i + 1] = value;
+        }
+
+        return new ArrayValueImpl(shape, values);
+      }
+
+      // repeated column names need the hashed form
+      ArrayValueImpl array = new ArrayValueImpl();
+
       for (int i = 1; i <= columnCount; i++) {
         String name = getResultSetMetaData().getColumnName(i);
         Value value = getColumnValue(i);
@@ -904,17 +979,14 @@ public class PDOStatement
         return BooleanValue.FALSE;
       }
 
-      ArrayValueImpl array = new ArrayValueImpl();
-
       int columnCount = getResultSetMetaData().getColumnCount();
 
-      for (int i = 1; i <= columnCount; i++) {
-        Value value = getColumnValue(i);
+      Value []values = new Value[columnCount];
 
-        array.put(value);
-      }
+      for (int i = 0; i < columnCount; i++)
+        values[i] = getColumnValue(i + 1);
 
-      return array;
+      return new ArrayValueImpl(getRowShape(PDO.FETCH_NUM), values);
     }
     catch (SQLException ex) {
       _error.error(ex);
@@ -1075,6 +1147,36 @@ public class PDOStatement
     return _resultSetMetaData;
   }
 
+  /**
+   * Returns the keys of a FETCH_ASSOC, FETCH_BOTH or FETCH_NUM row, built
+   * once for the result, or null if the column names repeat.
+   */
+  private ArrayShape getRowShape(int fetchMode)
+    throws SQLException
+  {
+    if (_rowShapeMode == fetchMode)
+      return _rowShape;
+
+    ResultSetMetaData md = getResultSetMetaData();
+
+    int columnCount = md.getColumnCount();
+
+    ArrayList<Value> keys = new ArrayList<Value>();
+
+    for (int i = 0; i < columnCount; i++) {
+      if (fetchMode != PDO.FETCH_NUM)
+        keys.add(_env.createString(md.getColumnName(i + 1)));
+
+      if (fetchMode != PDO.FETCH_ASSOC)
+        keys.add(LongValue.create(i));
+    }
+
+    _rowShape = ArrayShape.create(keys.toArray(new Value[keys.size()]));
+    _rowShapeMode = fetchMode;
+
+    return _rowShape;
+  }
+
   /**
    * Returns an iterator of the values.
    */
@@ -75,6 +75,7 @@ public class PostgresStatement extends JdbcStatementResource {
   public boolean execute(Env env)
   {
     try {
+      validateStatement(env);
 
       int size = _preparedMapping.size();
 
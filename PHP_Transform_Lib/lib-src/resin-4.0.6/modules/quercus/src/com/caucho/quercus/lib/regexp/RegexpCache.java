@@ -29,51 +29,205 @@
 
 package com.caucho.quercus.lib.regexp;
 
-import com.caucho.quercus.env.Env;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.caucho.quercus.env.ConstStringValue;
 import com.caucho.quercus.env.StringValue;
+import com.caucho.quercus.env.UnicodeValueImpl;
 
 /**
- * FIFO cache of line-item regular expressions.
+ * Bounded cache of compiled regular expressions, shared by all Envs.
+ * A compiled Regexp is immutable; the match state lives in RegexpState.
+ *
+ * Lookups are lock-free.  Eviction is CLOCK: a hit marks the item as
+ * referenced, and on insert the hand clears marks until it finds an
+ * unreferenced item to replace.
  */
 public class RegexpCache
 {
-  private final Regexp []_cache;
-  private int _head;
-  
-  private static final int MAX_SIZE = 4;
-  
-  public RegexpCache()
+  private final ConcurrentHashMap<Key,Item> _map;
+
+  private final Item []_clock;
+  private int _hand;
+
+  private final AtomicLong _hitCount = new AtomicLong();
+  private final AtomicLong _missCount = new AtomicLong();
+
+  public RegexpCache(int capacity)
   {
-    _cache = new Regexp[MAX_SIZE];
+    _clock = new Item[Math.max(capacity, 1)];
+    _map = new ConcurrentHashMap<Key,Item>(2 * _clock.length);
   }
-  
-  public Regexp get(Env env, StringValue str)
+
+  /**
+   * Returns the compiled regexp, compiling it on a miss.
+   */
+  public Regexp get(StringValue rawRegexp)
+    throws IllegalRegexpException
   {
-    int head = _head;
+    Key key = new Key(rawRegexp);
+
+    Item item = _map.get(key);
+
+    if (item != null) {
+      _hitCount.incrementAndGet();
+
+      item._isReferenced = true;
+
+      return item.get();
+    }
+
+    _missCount.incrementAndGet();
+
+    item = new Item(key);
+
+    Item oldItem = _map.putIfAbsent(key, item);
+
+    if (oldItem != null) {
+      oldItem._isReferenced = true;
+
+      return oldItem.get();
+    }
 
-    for (int i = 0; i < MAX_SIZE; i++) {
-      Regexp regexp = _cache[(head + i) % MAX_SIZE];
-      
-      if (regexp == null)
-        break;
+    insert(item);
+
+    return item.get();
+  }
+
+  /**
+   * Puts a new item on the clock, evicting an unreferenced one.
+   */
+  private synchronized void insert(Item item)
+  {
+    Item []clock = _clock;
+
+    while (true) {
+      Item oldItem = clock[_hand];
+
+      if (oldItem != null && oldItem._isReferenced) {
+        oldItem._isReferenced = false;
+      }
       else {
-        StringValue rawRegexp = regexp.getRawRegexp();
-        
-        if (rawRegexp == str || rawRegexp.equals(str))
-          return regexp;
+        if (oldItem != null)
+          _map.remove(oldItem._key, oldItem);
+
+        clock[_hand] = item;
+        _hand = (_hand + 1) % clock.length;
+
+        return;
+      }
+
+      _hand = (_hand + 1) % clock.length;
+    }
+  }
+
+  public int getCapacity()
+  {
+    return _clock.length;
+  }
+
+  public int getSize()
+  {
+    return _map.size();
+  }
+
+  public long getHitCount()
+  {
+    return _hitCount.get();
+  }
+
+  public long getMissCount()
+  {
+    return _missCount.get();
+  }
+
+  /**
+   * Immutable copy of the raw pattern; a StringValue may be a builder.
+   */
+  static final class Key {
+    private final String _pattern;
+    private final boolean _isUnicode;
+
+    Key(StringValue rawRegexp)
+    {
+      _pattern = rawRegexp.toString();
+      _isUnicode = rawRegexp.isUnicode();
+    }
+
+    @Override
+    public int hashCode()
+    {
+      return _pattern.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+      if (! (o instanceof Key))
+        return false;
+
+      Key key = (Key) o;
+
+      return _isUnicode == key._isUnicode && _pattern.equals(key._pattern);
+    }
+
+    /**
+     * Returns the pattern as a new immutable string, to compile from.
+     */
+    StringValue toStringValue()
+    {
+      if (_isUnicode)
+        return new UnicodeValueImpl(_pattern);
+      else
+        return new ConstStringValue(_pattern);
+    }
+  }
+
+  /**
+   * Compiles once, remembering a failure as well as a success.  The shared
+   * Regexp keeps its raw regexp, so it compiles from the key's copy rather
+   * than from the caller's string.
+   */
+  static final class Item {
+    private final Key _key;
+
+    private volatile Regexp _regexp;
+    private volatile IllegalRegexpException _exn;
+
+    volatile boolean _isReferenced;
+
+    Item(Key key)
+    {
+      _key = key;
+    }
+
+    Regexp get()
+      throws IllegalRegexpException
+    {
+      Regexp regexp = _regexp;
+
+      if (regexp != null)
+        return regexp;
+      else if (_exn != null)
+        throw _exn;
+
+      synchronized (this) {
+        if (_regexp != null)
+          return _regexp;
+        else if (_exn != null)
+          throw _exn;
+
+        try {
+          _regexp = new Regexp(_key.toStringValue());
+
+          return _regexp;
+        } catch (IllegalRegexpException e) {
+          _exn = e;
+
+          throw e;
+        }
       }
     }
-    
-    Regexp regexp = RegexpModule.createRegexp(env, str);
-
-    head = head - 1;
-    
-    if (head < 0)
-      head = MAX_SIZE - 1;
-    
-    _cache[head] = regexp;
-    _head = head;
-    
-    return regexp;
   }
 }
@@ -84,8 +84,7 @@ public class RegexpModule
 
   public static final boolean [] PREG_QUOTE = new boolean[256];
 
-  private static LruCache<StringValue, RegexpCacheItem> _regexpCache
-    = new LruCache<StringValue, RegexpCacheItem>(1024);
+  private static RegexpCache _regexpCache = new RegexpCache(1024);
 
   private static LruCache<StringValue, Ereg> _eregCache
     = new LruCache<StringValue, Ereg>(1024);
@@ -114,13 +113,25 @@ public class RegexpModule
     return _regexpCache.getCapacity();
   }
 
+  @Hide
+  public static long getRegexpCacheHitCount()
+  {
+    return _regexpCache.getHitCount();
+  }
+
+  @Hide
+  public static long getRegexpCacheMissCount()
+  {
+    return _regexpCache.getMissCount();
+  }
+
   @Hide
   public static void setRegexpCacheSize(int size)
   {
     if (size < 0 || size == _regexpCache.getCapacity())
       return;
 
-    _regexpCache = new LruCache<StringValue, RegexpCacheItem>(size);
+    _regexpCache = new RegexpCache(size);
 
     _eregCache = new LruCache<StringValue, Ereg>(size);
 
@@ -281,17 +292,7 @@ public class RegexpModule
       throw new QuercusException(L.l("Regexp pattern must have opening and closing delimiters"));
     }
 
-    RegexpCacheItem cacheItem = _regexpCache.get(regexpValue);
-
-    if (cacheItem == null) {
-      cacheItem = new RegexpCacheItem(regexpValue);
-        
-      _regexpCache.putIfNew(regexpValue, cacheItem);
-        
-      cacheItem = _regexpCache.get(regexpValue);
-    }
-      
-    return cacheItem.get();
+    return _regexpCache.get(regexpValue);
   }
 
   public static Regexp []createRegexpArray(Value pattern)
@@ -2470,39 +2471,6 @@ public class RegexpModule
     }
   }
   
-  static final class RegexpCacheItem {
-    private final StringValue _pattern;
-    
-    private Regexp _regexp;
-    private IllegalRegexpException _exn;
-    
-    RegexpCacheItem(StringValue pattern)
-    {
-      _pattern = pattern;
-    }
-    
-    public Regexp get()
-      throws IllegalRegexpException
-    {
-      if (_regexp != null)
-        return _regexp;
-      else if (_exn != null)
-        throw _exn;
-      
-      synchronized (this) {
-        try {
-          _regexp = new Regexp(_pattern);
-          
-          return _regexp;
-        } catch (IllegalRegexpException e) {
-          _exn = e;
-          
-          throw e;
-        }
-      }
-    }
-  }
-
   static {
     PREG_QUOTE['\\'] = true;
     PREG_QUOTE['+'] = true;
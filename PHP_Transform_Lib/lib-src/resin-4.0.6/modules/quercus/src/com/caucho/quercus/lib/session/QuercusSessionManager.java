@@ -65,7 +65,7 @@ public class QuercusSessionManager implements AlarmListener {
   private static int SET_FALSE = 2;
   
   // active sessions
-  protected LruCache<String,SessionArrayValue> _sessions;
+  protected ConcurrentLruCache<String,SessionArrayValue> _sessions;
   // total sessions
   private int _totalSessions;
 
@@ -106,7 +106,7 @@ public class QuercusSessionManager implements AlarmListener {
    */
   public QuercusSessionManager(QuercusContext quercus)
   {
-    _sessions = new LruCache<String,SessionArrayValue>(_sessionMax);
+    _sessions = new ConcurrentLruCache<String,SessionArrayValue>(_sessionMax);
     _sessionIter = _sessions.values();
 
     _persistentStore = quercus.getSessionCache();
@@ -0,0 +1,520 @@
+/*
+ * Copyright (c) 1998-2010 Caucho Technology -- all rights reserved
+ *
+ * This file is part of Resin(R) Open Source
+ *
+ * Each copy or derived work must preserve the copyright notice and this
+ * notice unmodified.
+ *
+ * Resin Open Source is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Resin Open Source is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE, or any warranty
+ * of NON-INFRINGEMENT.  See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Resin Open Source; if not, write to the
+ *
+ *   Free Software Foundation, Inc.
+ *   59 Temple Place, Suite 330
+ *   Boston, MA 02111-1307  USA
+ *
+ */
+
+package com.caucho.quercus.lib.string;
+
+import com.caucho.quercus.env.LongValue;
+import com.caucho.quercus.env.StringBuilderValue;
+import com.caucho.quercus.env.StringValue;
+import com.caucho.quercus.env.Value;
+import com.caucho.util.LruCache;
+
+/**
+ * Search strings compiled into a trie, so strtr() and str_replace() with
+ * many search strings replace them all in one pass over the subject.
+ *
+ * At each position the longest matching search string is replaced, which
+ * is strtr()'s rule.  str_replace() applies its search strings one after
+ * another, so its matcher is only single-pass when no search string can
+ * overlap another or be created by an earlier replacement.
+ *
+ * Matchers are immutable and cached by their strings for all Envs.
+ */
+final class ReplaceMatcher
+{
+  private static final LruCache<Key,ReplaceMatcher> _cache
+    = new LruCache<Key,ReplaceMatcher>(256);
+
+  // the str_replace() analysis compares every pair of strings, so
+  // longer lists are replaced one search string at a time
+  private static final int MAX_SEQUENTIAL_SIZE = 64;
+
+  // longer lists are usually built for one call, and aren't worth
+  // copying into the shared cache
+  private static final int MAX_CACHE_LENGTH = 16 * 1024;
+
+  private static final ReplaceMatcher SEQUENTIAL = new ReplaceMatcher();
+
+  private final boolean _isInsensitive;
+  private final boolean _isSinglePass;
+
+  // children of the root below 256, the root holds the rest
+  private final Node []_rootTable = new Node[256];
+  private final Node _root = new Node(0);
+
+  private ReplaceMatcher()
+  {
+    _isInsensitive = false;
+    _isSinglePass = false;
+  }
+
+  private ReplaceMatcher(Key key)
+  {
+    _isInsensitive = key._isInsensitive;
+
+    StringValue []search = key._search;
+    StringValue []replace = key._replace;
+
+    _isSinglePass = ! key._isSequential
+      || isIndependent(search, replace, _isInsensitive);
+
+    if (! _isSinglePass)
+      return;
+
+    // the first of equal search strings wins
+    for (int i = search.length - 1; i >= 0; i--) {
+      add(search[i], replace[i]);
+    }
+  }
+
+  /**
+   * Returns the matcher for strtr(), where the longest match wins.
+   */
+  static ReplaceMatcher create(StringValue []search, StringValue []replace)
+  {
+    return create(search, replace, false, false);
+  }
+
+  /**
+   * Returns the matcher for str_replace(), which must check isSinglePass().
+   */
+  static ReplaceMatcher createSequential(StringValue []search,
+                                         StringValue []replace,
+                                         boolean isInsensitive)
+  {
+    if (MAX_SEQUENTIAL_SIZE < search.length)
+      return SEQUENTIAL;
+
+    return create(search, replace, isInsensitive, true);
+  }
+
+  private static ReplaceMatcher create(StringValue []search,
+                                       StringValue []replace,
+                                       boolean isInsensitive,
+                                       boolean isSequential)
+  {
+    Key key = new Key(search, replace, isInsensitive, isSequential);
+
+    // used right away, so the strings don't need copies
+    if (MAX_CACHE_LENGTH < key._length)
+      return new ReplaceMatcher(key);
+
+    ReplaceMatcher matcher = _cache.get(key);
+
+    if (matcher == null) {
+      // the strings may be builders, so the cache keeps copies
+      key = key.copy();
+
+      matcher = new ReplaceMatcher(key);
+
+      _cache.put(key, matcher);
+    }
+
+    return matcher;
+  }
+
+  /**
+   * Returns true if one pass gives the same result as replacing the
+   * search strings one after another.
+   */
+  boolean isSinglePass()
+  {
+    return _isSinglePass;
+  }
+
+  /**
+   * Replaces the search strings, adding the number of replacements to
+   * countV if it's not null.  Returns the subject itself if nothing
+   * matches.
+   */
+  StringValue replace(StringValue subject, Value countV)
+  {
+    int length = subject.length();
+
+    byte []buffer = null;
+
+    if (subject instanceof StringBuilderValue)
+      buffer = ((StringBuilderValue) subject).getBuffer();
+
+    StringValue result = null;
+
+    int head = 0;
+    int i = 0;
+    long count = 0;
+
+    while (i < length) {
+      Node match = match(subject, buffer, i, length);
+
+      if (match == null) {
+        i++;
+        continue;
+      }
+
+      if (result == null)
+        result = subject.createStringBuilder(length);
+
+      append(result, subject, head, i);
+      result = result.append(match._replace);
+
+      i += match._length;
+      head = i;
+
+      count++;
+    }
+
+    if (result == null)
+      return subject;
+
+    append(result, subject, head, length);
+
+    if (countV != null)
+      countV.set(LongValue.create(countV.toLong() + count));
+
+    return result;
+  }
+
+  /**
+   * Returns the node of the longest search string at the offset.
+   */
+  private Node match(StringValue subject, byte []buffer, int offset, int length)
+  {
+    char ch = charAt(subject, buffer, offset);
+
+    Node node;
+
+    if (ch < 256)
+      node = _rootTable[ch];
+    else
+      node = _root.get(ch);
+
+    Node match = null;
+
+    int i = offset + 1;
+
+    while (node != null) {
+      if (node._replace != null)
+        match = node;
+
+      if (length <= i)
+        break;
+
+      node = node.get(charAt(subject, buffer, i));
+      i++;
+    }
+
+    return match;
+  }
+
+  private char charAt(StringValue subject, byte []buffer, int i)
+  {
+    char ch;
+
+    if (buffer != null)
+      ch = (char) (buffer[i] & 0xff);
+    else
+      ch = subject.charAt(i);
+
+    if (_isInsensitive)
+      return Character.toLowerCase(ch);
+    else
+      return ch;
+  }
+
+  private static void append(StringValue result, StringValue subject,
+                             int head, int tail)
+  {
+    if (tail <= head)
+      return;
+    else if (subject instanceof StringBuilderValue)
+      result.append((StringBuilderValue) subject, head, tail);
+    else
+      result.append(subject, head, tail);
+  }
+
+  private void add(StringValue search, StringValue replace)
+  {
+    int length = search.length();
+
+    char ch = fold(search.charAt(0));
+
+    Node node;
+
+    if (ch < 256) {
+      node = _rootTable[ch];
+
+      if (node == null) {
+        node = new Node(1);
+        _rootTable[ch] = node;
+      }
+    }
+    else
+      node = _root.add(ch);
+
+    for (int i = 1; i < length; i++) {
+      node = node.add(fold(search.charAt(i)));
+    }
+
+    node._replace = replace;
+  }
+
+  private char fold(char ch)
+  {
+    if (_isInsensitive)
+      return Character.toLowerCase(ch);
+    else
+      return ch;
+  }
+
+  /**
+   * Returns true if replacing the search strings in order is the same as
+   * one pass: no search string is empty, contains another or overlaps
+   * another, and no later search string can overlap an earlier
+   * replacement or span an earlier deletion.
+   */
+  private static boolean isIndependent(StringValue []search,
+                                       StringValue []replace,
+                                       boolean isInsensitive)
+  {
+    int size = search.length;
+
+    String []folded = new String[size];
+
+    for (int i = 0; i < size; i++) {
+      if (search[i].length() == 0)
+        return false;
+
+      folded[i] = fold(search[i], isInsensitive);
+    }
+
+    for (int i = 0; i < size; i++) {
+      String a = folded[i];
+
+      for (int j = 0; j < size; j++) {
+        if (i == j)
+          continue;
+
+        String b = folded[j];
+
+        if (b.indexOf(a) >= 0 || isOverlap(a, b))
+          return false;
+      }
+    }
+
+    for (int i = 0; i < size; i++) {
+      String replaceString = fold(replace[i], isInsensitive);
+
+      for (int j = i + 1; j < size; j++) {
+        String b = folded[j];
+
+        // a deletion can join text into a longer search string
+        if (replaceString.length() == 0) {
+          if (b.length() > 1)
+            return false;
+        }
+        else if (replaceString.indexOf(b) >= 0
+                 || b.indexOf(replaceString) >= 0
+                 || isOverlap(replaceString, b)
+                 || isOverlap(b, replaceString))
+          return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Returns true if a proper suffix of a is a prefix of b.
+   */
+  private static boolean isOverlap(String a, String b)
+  {
+    int aLength = a.length();
+
+    for (int len = Math.min(aLength - 1, b.length() - 1); len > 0; len--) {
+      if (a.regionMatches(aLength - len, b, 0, len))
+        return true;
+    }
+
+    return false;
+  }
+
+  private static String fold(StringValue s, boolean isInsensitive)
+  {
+    String string = s.toString();
+
+    if (! isInsensitive)
+      return string;
+
+    int length = string.length();
+    StringBuilder sb = new StringBuilder(length);
+
+    for (int i = 0; i < length; i++) {
+      sb.append(Character.toLowerCase(string.charAt(i)));
+    }
+
+    return sb.toString();
+  }
+
+  static final class Node {
+    private static final char []NULL_CHARS = new char[0];
+    private static final Node []NULL_CHILDREN = new Node[0];
+
+    private final int _length;
+
+    // a leaf has empty arrays, not null ones, for the JIT's sake
+    private char []_chars = NULL_CHARS;
+    private Node []_children = NULL_CHILDREN;
+    private int _size;
+
+    private StringValue _replace;
+
+    Node(int length)
+    {
+      _length = length;
+    }
+
+    Node get(char ch)
+    {
+      char []chars = _chars;
+      int size = _size;
+
+      for (int i = 0; i < size; i++) {
+        if (chars[i] == ch)
+          return _children[i];
+      }
+
+      return null;
+    }
+
+    Node add(char ch)
+    {
+      Node child = get(ch);
+
+      if (child != null)
+        return child;
+
+      if (_size == _chars.length) {
+        int capacity = Math.max(2, 2 * _size);
+
+        char []chars = new char[capacity];
+        Node []children = new Node[capacity];
+
+        System.arraycopy(_chars, 0, chars, 0, _size);
+        System.arraycopy(_children, 0, children, 0, _size);
+
+        _chars = chars;
+        _children = children;
+      }
+
+      child = new Node(_length + 1);
+
+      _chars[_size] = ch;
+      _children[_size] = child;
+      _size++;
+
+      return child;
+    }
+  }
+
+  static final class Key {
+    private final StringValue []_search;
+    private final StringValue []_replace;
+    private final boolean _isInsensitive;
+    private final boolean _isSequential;
+    private final int _hash;
+    private final int _length;
+
+    Key(StringValue []search, StringValue []replace,
+        boolean isInsensitive, boolean isSequential)
+    {
+      _search = search;
+      _replace = replace;
+      _isInsensitive = isInsensitive;
+      _isSequential = isSequential;
+
+      int hash = isInsensitive ? 17 : 37;
+      int length = 0;
+
+      if (isSequential)
+        hash++;
+
+      for (int i = 0; i < search.length; i++) {
+        hash = 65521 * hash + search[i].hashCode();
+        hash = 65521 * hash + replace[i].hashCode();
+
+        length += search[i].length() + replace[i].length();
+      }
+
+      _hash = hash;
+      _length = length;
+    }
+
+    Key copy()
+    {
+      int size = _search.length;
+
+      StringValue []search = new StringValue[size];
+      StringValue []replace = new StringValue[size];
+
+      for (int i = 0; i < size; i++) {
+        search[i] = _search[i].createStringBuilder().append(_search[i]);
+        replace[i] = _replace[i].createStringBuilder().append(_replace[i]);
+      }
+
+      return new Key(search, replace, _isInsensitive, _isSequential);
+    }
+
+    @Override
+    public int hashCode()
+    {
+      return _hash;
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+      if (! (o instanceof Key))
+        return false;
+
+      Key key = (Key) o;
+
+      if (_hash != key._hash
+          || _isInsensitive != key._isInsensitive
+          || _isSequential != key._isSequential
+          || _search.length != key._search.length)
+        return false;
+
+      for (int i = 0; i < _search.length; i++) {
+        if (! _search[i].equals(key._search[i])
+            || ! _replace[i].equals(key._replace[i]))
+          return false;
+      }
+
+      return true;
+    }
+  }
+}
@@ -31,7 +31,9 @@ package com.caucho.quercus.lib.string;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.RoundingMode;
 import java.security.MessageDigest;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
@@ -50,6 +52,7 @@ import java.util.logging.Logger;
 import com.caucho.quercus.QuercusException;
 import com.caucho.quercus.QuercusModuleException;
 import com.caucho.quercus.annotation.Expect;
+import com.caucho.quercus.annotation.Hide;
 import com.caucho.quercus.annotation.NotNull;
 import com.caucho.quercus.annotation.Optional;
 import com.caucho.quercus.annotation.Reference;
@@ -75,6 +78,7 @@ import com.caucho.util.CharBuffer;
 import com.caucho.util.FreeList;
 import com.caucho.util.IntSet;
 import com.caucho.util.L10N;
+import com.caucho.util.LruCache;
 import com.caucho.util.RandomUtil;
 import com.caucho.vfs.ByteToChar;
 import com.caucho.vfs.Path;
@@ -117,6 +121,42 @@ public class StringModule extends AbstractQuercusModule {
   private static final FreeList<MessageDigest> _md5FreeList
     = new FreeList<MessageDigest>(16);
 
+  // longer formats are usually built at runtime and are parsed each call
+  private static final int PRINTF_CACHE_MAX_LENGTH = 1024;
+
+  private static LruCache<StringValue,PrintfSegment[]> _printfCache
+    = new LruCache<StringValue,PrintfSegment[]>(1024);
+
+  private static volatile DecimalPoint _decimalPoint
+    = new DecimalPoint(Locale.US);
+
+  @Hide
+  public static int getPrintfCacheSize()
+  {
+    return _printfCache.getCapacity();
+  }
+
+  @Hide
+  public static long getPrintfCacheHitCount()
+  {
+    return _printfCache.getHitCount();
+  }
+
+  @Hide
+  public static long getPrintfCacheMissCount()
+  {
+    return _printfCache.getMissCount();
+  }
+
+  @Hide
+  public static void setPrintfCacheSize(int size)
+  {
+    if (size < 0 || size == _printfCache.getCapacity())
+      return;
+
+    _printfCache = new LruCache<StringValue,PrintfSegment[]>(size);
+  }
+
   /**
    * Escapes a string using C syntax.
    *
@@ -1885,7 +1925,7 @@ public class StringModule extends AbstractQuercusModule {
    */
   public static Value sprintf(Env env, StringValue format, Value []args)
   {
-    ArrayList<PrintfSegment> segments = parsePrintfFormat(env, format);
+    PrintfSegment []segments = getPrintfSegments(format);
 
     StringValue sb = format.createStringBuilder();
 
@@ -1897,8 +1937,28 @@ public class StringModule extends AbstractQuercusModule {
     return sb;
   }
 
-  private static ArrayList<PrintfSegment> parsePrintfFormat(Env env,
-                                                            StringValue format)
+  /**
+   * Returns the parsed format from the printf cache.  The segments
+   * don't depend on the Env, so the cache is shared.
+   */
+  private static PrintfSegment []getPrintfSegments(StringValue format)
+  {
+    LruCache<StringValue,PrintfSegment[]> cache = _printfCache;
+
+    PrintfSegment []segments = cache.get(format);
+
+    if (segments == null) {
+      segments = parsePrintfFormat(format);
+
+      // the key is copied because the format may be a builder
+      if (format.length() <= PRINTF_CACHE_MAX_LENGTH)
+        cache.put(format.createStringBuilder().append(format), segments);
+    }
+
+    return segments;
+  }
+
+  private static PrintfSegment []parsePrintfFormat(StringValue format)
   {
     ArrayList<PrintfSegment> segments = new ArrayList<PrintfSegment>();
 
@@ -2143,19 +2203,19 @@ public class StringModule extends AbstractQuercusModule {
             
             index++;
             
-            segments.add(LongPrintfSegment.create(env, sb.toString(), argIndex));
+            segments.add(LongPrintfSegment.create(sb.toString(), argIndex));
             sb.setLength(0);
             i = j;
             break loop;
 
           case 'e': case 'E': case 'f': case 'g': case 'G':
           case 'F':
-            QuercusLocale locale = null;
+            boolean isLocale = true;
 
-            if (ch == 'F')
+            if (ch == 'F') {
               ch = 'f';
-            else
-              locale = env.getLocaleInfo().getNumeric();
+              isLocale = false;
+            }
 
             sb.setLength(sb.length() - 1);
             if (sb.length() > 0)
@@ -2191,7 +2251,7 @@ public class StringModule extends AbstractQuercusModule {
             segments.add(new DoublePrintfSegment(sb.toString(),
                                                  isLeft && padChar == '0',
                                                  argIndex,
-                                                 locale));
+                                                 isLocale));
             sb.setLength(0);
             i = j;
             break loop;
@@ -2215,7 +2275,7 @@ public class StringModule extends AbstractQuercusModule {
     if (sb.length() > 0)
       segments.add(new TextPrintfSegment(sb));
 
-    return segments;
+    return segments.toArray(new PrintfSegment[segments.size()]);
   }
 
   /**
@@ -3110,39 +3170,46 @@ public class StringModule extends AbstractQuercusModule {
                                count,
                                isInsensitive);
     }
-    else if (replace instanceof ArrayValue) {
+    else {
       ArrayValue searchArray = (ArrayValue) search;
-      ArrayValue replaceArray = (ArrayValue) replace;
+
+      int size = searchArray.getSize();
+
+      StringValue []searchList = new StringValue[size];
+      StringValue []replaceList = new StringValue[size];
 
       Iterator<Value> searchIter = searchArray.values().iterator();
-      Iterator<Value> replaceIter = replaceArray.values().iterator();
+      Iterator<Value> replaceIter = null;
 
-      while (searchIter.hasNext()) {
-        Value searchItem = searchIter.next();
-        Value replaceItem = replaceIter.next();
+      if (replace instanceof ArrayValue)
+        replaceIter = ((ArrayValue) replace).values().iterator();
 
-        if (replaceItem == null)
-          replaceItem = NullValue.NULL;
+      for (int i = 0; i < size; i++) {
+        searchList[i] = searchIter.next().toStringValue();
 
-        subject = strReplaceImpl(env,
-                                 searchItem.toStringValue(),
-                                 replaceItem.toStringValue(),
-                                 subject,
-                                 count,
-                                 isInsensitive);
+        if (replaceIter != null) {
+          Value replaceItem = replaceIter.next();
+
+          if (replaceItem == null)
+            replaceItem = NullValue.NULL;
+
+          replaceList[i] = replaceItem.toStringValue();
+        }
+        else
+          replaceList[i] = replace.toStringValue();
       }
-    }
-    else {
-      ArrayValue searchArray = (ArrayValue) search;
 
-      Iterator<Value> searchIter = searchArray.values().iterator();
+      ReplaceMatcher matcher
+        = ReplaceMatcher.createSequential(searchList, replaceList,
+                                          isInsensitive);
 
-      while (searchIter.hasNext()) {
-        Value searchItem = searchIter.next();
+      if (matcher.isSinglePass())
+        return matcher.replace(subject, count);
 
+      for (int i = 0; i < size; i++) {
         subject = strReplaceImpl(env,
-                                 searchItem.toStringValue(),
-                                 replace.toStringValue(),
+                                 searchList[i],
+                                 replaceList[i],
                                  subject,
                                  count,
                                  isInsensitive);
@@ -4516,11 +4583,25 @@ public class StringModule extends AbstractQuercusModule {
 
     Map.Entry<Value,Value> [] entryArray = new Map.Entry[size];
 
+    boolean isEmptyFrom = false;
+
     int i = 0;
     for (Map.Entry<Value,Value> entry : map.entrySet()) {
+      fromList[i] = entry.getKey().toStringValue();
+      toList[i] = entry.getValue().toStringValue();
+
+      if (fromList[i].length() == 0)
+        isEmptyFrom = true;
+
       entryArray[i++] = entry;
     }
 
+    if (! isEmptyFrom && size > 0) {
+      ReplaceMatcher matcher = ReplaceMatcher.create(fromList, toList);
+
+      return matcher.replace(string, null);
+    }
+
     // sort entries in descending fashion
     Arrays.sort(entryArray, new StrtrComparator<Map.Entry<Value,Value>>());
 
@@ -5193,16 +5274,14 @@ public class StringModule extends AbstractQuercusModule {
   static class LongPrintfSegment extends PrintfSegment {
     private final String _format;
     private final int _index;
-    private final QuercusLocale _locale;
 
-    private LongPrintfSegment(String format, int index, QuercusLocale locale)
+    private LongPrintfSegment(String format, int index)
     {
       _format = format;
       _index = index;
-      _locale = locale;
     }
 
-    static PrintfSegment create(Env env, String format, int index)
+    static PrintfSegment create(String format, int index)
     {
       if (hasIndex(format)) {
         index = getIndex(format);
@@ -5252,8 +5331,14 @@ public class StringModule extends AbstractQuercusModule {
           return unsign;
       }
 
-      return new LongPrintfSegment(format, index,
-                                   env.getLocaleInfo().getNumeric());
+      if (format.charAt(format.length() - 1) == 'd') {
+        DecimalPrintfSegment dec = DecimalPrintfSegment.create(format, index);
+
+        if (dec != null)
+          return dec;
+      }
+
+      return new LongPrintfSegment(format, index);
     }
 
     @Override
@@ -5269,7 +5354,112 @@ public class StringModule extends AbstractQuercusModule {
         return false;
       }
 
-      sb.append(String.format(_locale.getLocale(), _format, value));
+      QuercusLocale locale = env.getLocaleInfo().getNumeric();
+
+      sb.append(String.format(locale.getLocale(), _format, value));
+
+      return true;
+    }
+  }
+
+  /**
+   * %d with an optional width, written without java.util.Formatter.
+   */
+  static class DecimalPrintfSegment extends PrintfSegment {
+    private final int _index;
+    private final int _min;
+    private final boolean _isLeft;
+    private final boolean _isZero;
+
+    DecimalPrintfSegment(int index, int min, boolean isLeft, boolean isZero)
+    {
+      _index = index;
+      _min = min;
+      _isLeft = isLeft;
+      _isZero = isZero;
+    }
+
+    static DecimalPrintfSegment create(String format, int index)
+    {
+      int length = format.length();
+      int offset = 1;
+
+      boolean isLeft = false;
+      boolean isZero = false;
+
+      if (format.charAt(offset) == '-') {
+        isLeft = true;
+        offset++;
+      }
+      else if (format.charAt(offset) == '0') {
+        isZero = true;
+        offset++;
+      }
+
+      int min = 0;
+      for (; offset < length - 1; offset++) {
+        char ch = format.charAt(offset);
+
+        if ('0' <= ch && ch <= '9')
+          min = 10 * min + ch - '0';
+        else
+          return null;
+      }
+
+      return new DecimalPrintfSegment(index, min, isLeft, isZero);
+    }
+
+    @Override
+    public boolean apply(Env env, StringValue sb, Value []args)
+    {
+      long value;
+
+      if (_index < args.length)
+        value = args[_index].toLong();
+      else {
+        env.warning(L.l("printf(): not enough arguments to match format."));
+
+        return false;
+      }
+
+      char []buf = new char[20];
+      int digits = buf.length;
+
+      boolean isNegative = value < 0;
+
+      // negative digits, so Long.MIN_VALUE doesn't overflow
+      do {
+        int digit = (int) (value % 10);
+
+        buf[--digits] = (char) ('0' + (isNegative ? - digit : digit));
+
+        value = value / 10;
+      } while (value != 0);
+
+      int len = buf.length - digits;
+
+      if (isNegative)
+        len++;
+
+      if (! _isLeft && ! _isZero) {
+        for (int i = len; i < _min; i++)
+          sb.append(' ');
+      }
+
+      if (isNegative)
+        sb.append('-');
+
+      if (_isZero) {
+        for (int i = len; i < _min; i++)
+          sb.append('0');
+      }
+
+      sb.append(buf, digits, buf.length - digits);
+
+      if (_isLeft) {
+        for (int i = len; i < _min; i++)
+          sb.append(' ');
+      }
 
       return true;
     }
@@ -5551,12 +5741,15 @@ public class StringModule extends AbstractQuercusModule {
     private final String _format;
     private final boolean _isLeftZero;
     private final int _index;
-    private final QuercusLocale _locale;
+    private final boolean _isLocale;
+
+    // precision of a plain %f or %.Nf, which skips the Formatter
+    private final int _precision;
 
     DoublePrintfSegment(String format,
                         boolean isLeftZero,
                         int index,
-                        QuercusLocale locale)
+                        boolean isLocale)
     {
       if (hasIndex(format)) {
         _index = getIndex(format);
@@ -5569,7 +5762,37 @@ public class StringModule extends AbstractQuercusModule {
 
       _isLeftZero = isLeftZero;
 
-      _locale = locale;
+      _isLocale = isLocale;
+
+      _precision = getPrecision(_format);
+    }
+
+    private static int getPrecision(String format)
+    {
+      int length = format.length();
+
+      if (format.charAt(length - 1) != 'f')
+        return -1;
+      else if (length == 2)
+        return 6;
+      else if (length == 3 || format.charAt(1) != '.')
+        return -1;
+
+      int precision = 0;
+
+      for (int i = 2; i < length - 1; i++) {
+        char ch = format.charAt(i);
+
+        if ('0' <= ch && ch <= '9')
+          precision = 10 * precision + ch - '0';
+        else
+          return -1;
+      }
+
+      if (precision <= 20)
+        return precision;
+      else
+        return -1;
     }
 
     @Override
@@ -5585,11 +5808,21 @@ public class StringModule extends AbstractQuercusModule {
         return false;
       }
 
+      Locale locale = null;
+
+      if (_isLocale)
+        locale = env.getLocaleInfo().getNumeric().getLocale();
+
+      if (_precision >= 0
+          && ! Double.isNaN(value) && ! Double.isInfinite(value)
+          && appendFixed(sb, value, locale))
+        return true;
+
       String s;
-      if (_locale == null)
+      if (locale == null)
         s = String.format(_format, value);
       else
-        s = String.format(_locale.getLocale(), _format, value);
+        s = String.format(locale, _format, value);
 
       if (_isLeftZero) {
         int len = s.length();
@@ -5610,6 +5843,89 @@ public class StringModule extends AbstractQuercusModule {
 
       return true;
     }
+
+    /**
+     * Appends the value rounded like the Formatter's %.Nf, which rounds
+     * the shortest decimal form of the double half-up.
+     */
+    private boolean appendFixed(StringValue sb, double value, Locale locale)
+    {
+      char point = '.';
+
+      if (locale != null) {
+        DecimalPoint decimalPoint = DecimalPoint.create(locale);
+
+        if (! decimalPoint.isAsciiDigits())
+          return false;
+
+        point = decimalPoint.getPoint();
+      }
+
+      // the Formatter keeps the sign of -0.0 and of values rounding to 0
+      if (value < 0 || value == 0 && 1 / value < 0) {
+        sb.append('-');
+        value = - value;
+      }
+
+      BigDecimal decimal = new BigDecimal(Double.toString(value));
+
+      String digits
+        = decimal.setScale(_precision, RoundingMode.HALF_UP).toPlainString();
+
+      int len = digits.length();
+
+      for (int i = 0; i < len; i++) {
+        char ch = digits.charAt(i);
+
+        if (ch == '.')
+          sb.append(point);
+        else
+          sb.append(ch);
+      }
+
+      return true;
+    }
+  }
+
+  /**
+   * The decimal point of the last numeric locale used by printf.
+   */
+  static final class DecimalPoint {
+    private final Locale _locale;
+    private final char _point;
+    private final boolean _isAsciiDigits;
+
+    DecimalPoint(Locale locale)
+    {
+      DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+
+      _locale = locale;
+      _point = symbols.getDecimalSeparator();
+      _isAsciiDigits = symbols.getZeroDigit() == '0';
+    }
+
+    static DecimalPoint create(Locale locale)
+    {
+      DecimalPoint decimalPoint = _decimalPoint;
+
+      if (! locale.equals(decimalPoint._locale)) {
+        decimalPoint = new DecimalPoint(locale);
+
+        _decimalPoint = decimalPoint;
+      }
+
+      return decimalPoint;
+    }
+
+    char getPoint()
+    {
+      return _point;
+    }
+
+    boolean isAsciiDigits()
+    {
+      return _isAsciiDigits;
+    }
   }
 
   static class StringPrintfSegment extends PrintfSegment {
@@ -5675,6 +5991,15 @@ public class StringModule extends AbstractQuercusModule {
       return args[_index].toString();
     }
 
+    /**
+     * Returns true if the argument can be appended without a String copy.
+     */
+    protected boolean isDirect(StringValue sb, Value arg)
+    {
+      return (_max == Integer.MAX_VALUE && ! _isUpper
+              && arg.isString() && arg.isUnicode() == sb.isUnicode());
+    }
+
     @Override
     public boolean apply(Env env, StringValue sb, Value []args)
     {
@@ -5682,14 +6007,36 @@ public class StringModule extends AbstractQuercusModule {
 
       String value;
 
-      if (_index < args.length)
-        value = toValue(args);
-      else {
+      if (_index >= args.length) {
         env.warning(L.l("printf(): not enough arguments to match format."));
 
         return false;
       }
 
+      Value arg = args[_index];
+
+      if (isDirect(sb, arg)) {
+        int len = arg.length();
+
+        if (! _isLeft) {
+          for (int i = len; i < _min; i++) {
+            sb.append(_pad);
+          }
+        }
+
+        sb.append(arg);
+
+        if (_isLeft) {
+          for (int i = len; i < _min; i++) {
+            sb.append(_pad);
+          }
+        }
+
+        return true;
+      }
+
+      value = toValue(args);
+
       int len = value.length();
 
       if (_max < len) {
@@ -5727,6 +6074,12 @@ public class StringModule extends AbstractQuercusModule {
       super(prefix, isLeft, pad, isUpper, width, format, index);
     }
 
+    @Override
+    protected boolean isDirect(StringValue sb, Value arg)
+    {
+      return false;
+    }
+
     @Override
     protected String toValue(Value []args)
     {
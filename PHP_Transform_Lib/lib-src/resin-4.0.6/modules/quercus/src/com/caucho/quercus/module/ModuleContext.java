@@ -49,9 +49,11 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -74,6 +76,15 @@ public class ModuleContext
   private HashMap<String, ModuleInfo> _moduleInfoMap
     = new HashMap<String, ModuleInfo>();
 
+  // lazy mode: module classes named by the services files, not yet loaded
+  private boolean _isLazy;
+  private LinkedHashSet<String> _pendingModules
+    = new LinkedHashSet<String>();
+  // lazy mode: class service lines, by Java and by PHP class name,
+  // guarded by _javaClassWrappers
+  private HashMap<String, String[]> _pendingClasses
+    = new HashMap<String, String[]>();
+
   private HashSet<String> _extensionSet
     = new HashSet<String>();
 
@@ -122,6 +133,8 @@ public class ModuleContext
       _serviceModuleUrls.addAll(parent._serviceModuleUrls);
 
       _moduleInfoMap.putAll(parent._moduleInfoMap);
+      _pendingModules.addAll(parent._pendingModules);
+      _pendingClasses.putAll(parent._pendingClasses);
       _extensionSet.addAll(parent._extensionSet);
       _staticClasses.putAll(parent._staticClasses);
       _javaClassWrappers.putAll(parent._javaClassWrappers);
@@ -144,6 +157,23 @@ public class ModuleContext
     */
   }
 
+  /**
+   * Sets lazy mode, where modules and Java class services are only
+   * introspected on first use.  Must be called before init().
+   */
+  public void setLazy(boolean isLazy)
+  {
+    _isLazy = isLazy;
+  }
+
+  /**
+   * Returns true for lazy mode.
+   */
+  public boolean isLazy()
+  {
+    return _isLazy;
+  }
+
   /**
    * Tests if the URL has already been loaded for the context classes
    */
@@ -251,6 +281,9 @@ public class ModuleContext
   public JavaClassDef getJavaClassDefinition(Class type, String className)
   {
     JavaClassDef def;
+
+    loadPendingClass(type.getName());
+    loadPendingClass(className);
     
     synchronized (_javaClassWrappers) {
       def = _javaClassWrappers.get(className);
@@ -279,6 +312,8 @@ public class ModuleContext
     // any race conditions.  It is only responsible for creating the
     // wrapper around the class, i.e. it's a leaf node, not a recursive not
 
+    loadPendingClass(className);
+
     synchronized (_javaClassWrappers) {
       JavaClassDef def = _javaClassWrappers.get(className);
 
@@ -319,6 +354,8 @@ public class ModuleContext
    */
   public JavaClassDef getJavaClassDefinition(Class javaClass)
   {
+    loadPendingClass(javaClass.getName());
+
     synchronized (_javaClassWrappers) {
       return _javaClassWrappers.get(javaClass.getName());
     }
@@ -426,6 +463,8 @@ public class ModuleContext
    */
   public HashMap<String, ClassDef> getClassMap()
   {
+    loadPendingClasses();
+
     synchronized (_staticClasses) {
       return new HashMap<String,ClassDef>(_staticClasses);
     }
@@ -436,6 +475,8 @@ public class ModuleContext
    */
   public HashMap<String, JavaClassDef> getWrapperMap()
   {
+    loadPendingClasses();
+
     synchronized (_javaClassWrappers) {
       return new HashMap<String,JavaClassDef>(_javaClassWrappers);
     }
@@ -446,7 +487,14 @@ public class ModuleContext
    */
   public QuercusModule findModule(String name)
   {
-    ModuleInfo info = _moduleInfoMap.get(name);
+    ModuleInfo info;
+
+    synchronized (_moduleInfoMap) {
+      info = _moduleInfoMap.get(name);
+
+      if (info == null && _pendingModules.remove(name))
+        info = loadModule(name);
+    }
 
     if (info != null)
       return info.getModule();
@@ -459,6 +507,8 @@ public class ModuleContext
    */
   public boolean isExtensionLoaded(String name)
   {
+    loadPendingClasses();
+
     return _extensionSet.contains(name);
   }
 
@@ -467,6 +517,8 @@ public class ModuleContext
    */
   public HashSet<String> getLoadedExtensions()
   {
+    loadPendingClasses();
+
     return _extensionSet;
   }
   
@@ -490,6 +542,8 @@ public class ModuleContext
    */
   public HashSet<String> getExtensionClasses(String ext)
   {
+    loadPendingClasses();
+
     return _extensionClasses.get(ext);
   }
 
@@ -585,6 +639,15 @@ public class ModuleContext
       if (line.length() > 0) {
         String className = line;
 
+        if (_isLazy) {
+          synchronized (_moduleInfoMap) {
+            if (_moduleInfoMap.get(className) == null)
+              _pendingModules.add(className);
+          }
+
+          continue;
+        }
+
         try {
           Class cl;
           try {
@@ -624,10 +687,40 @@ public class ModuleContext
   public ArrayList<ModuleInfo> getModules()
   {
     synchronized (_moduleInfoMap) {
+      while (! _pendingModules.isEmpty()) {
+        String className = _pendingModules.iterator().next();
+
+        _pendingModules.remove(className);
+
+        loadModule(className);
+      }
+
       return new ArrayList<ModuleInfo>(_moduleInfoMap.values());
     }
   }
 
+  /**
+   * Loads a module deferred by lazy mode, returning null on failure.
+   */
+  private ModuleInfo loadModule(String className)
+  {
+    Thread thread = Thread.currentThread();
+    ClassLoader oldLoader = thread.getContextClassLoader();
+
+    try {
+      setContextClassLoader(_loader);
+
+      introspectPhpModuleClass(Class.forName(className, false, _loader));
+    } catch (Throwable e) {
+      log.fine("Failed loading " + className + "\n" + e.toString());
+      log.log(Level.FINE, e.toString(), e);
+    } finally {
+      setContextClassLoader(oldLoader);
+    }
+
+    return _moduleInfoMap.get(className);
+  }
+
   /**
    * Introspects the module class for functions.
    *
@@ -736,9 +829,7 @@ public class ModuleContext
    * Parses the services file, looking for PHP services.
    */
   private void parseClassServicesModule(ReadStream in)
-    throws IOException, ClassNotFoundException,
-           IllegalAccessException, InstantiationException,
-           ConfigException, NoSuchMethodException, InvocationTargetException
+    throws IOException
   {
     ClassLoader loader = Thread.currentThread().getContextClassLoader();
     String line;
@@ -756,60 +847,133 @@ public class ModuleContext
 
       String[] args = line.split(" ");
 
-      String className = args[0];
+      if (_isLazy) {
+        String className = args[0];
+        String phpClassName
+          = className.substring(className.lastIndexOf('.') + 1);
 
-      Class cl;
+        for (int i = 1; i + 1 < args.length; i++) {
+          if ("as".equals(args[i]))
+            phpClassName = args[i + 1];
+        }
 
-      try {
-        cl = Class.forName(className, false, loader);
+        synchronized (_javaClassWrappers) {
+          _pendingClasses.put(className, args);
+          _pendingClasses.put(phpClassName, args);
+        }
 
-        String phpClassName = null;
-        String extension = null;
-        String definedBy = null;
+        continue;
+      }
 
-        for (int i = 1; i < args.length; i++) {
-          if ("as".equals(args[i])) {
-            i++;
-            if (i >= args.length)
-              throw new IOException(L.l("expecting Quercus class name after '{0}' in definition for class {1}", "as", className));
+      introspectClassService(args, loader);
+    }
+  }
 
-            phpClassName = args[i];
-          }
-          else if ("provides".equals(args[i])) {
-            i++;
-            if (i >= args.length)
-              throw new IOException(L.l("expecting name of extension after '{0}' in definition for class {1}", "extension", className));
+  /**
+   * Loads the pending class service for a Java or PHP class name.
+   */
+  private void loadPendingClass(String name)
+  {
+    if (! _isLazy)
+      return;
 
-            extension = args[i];
-          }
-          else if ("definedBy".equals(args[i])) {
-            i++;
-            if (i >= args.length)
-              throw new IOException(L.l("expecting name of class implementing JavaClassDef after '{0}' in definition for class {1}", "definedBy", className));
+    synchronized (_javaClassWrappers) {
+      String[] args = _pendingClasses.get(name);
 
-            definedBy = args[i];
-          }
-          else {
-            throw new IOException(L.l("unknown token '{0}' in definition for class {1} ", args[i], className));
-          }
-        }
+      if (args != null)
+        loadPendingClass(args);
+    }
+  }
 
-        if (phpClassName == null)
-          phpClassName = className.substring(className.lastIndexOf('.') + 1);
+  /**
+   * Loads all pending class services.
+   */
+  private void loadPendingClasses()
+  {
+    if (! _isLazy)
+      return;
 
-        Class javaClassDefClass;
+    synchronized (_javaClassWrappers) {
+      while (! _pendingClasses.isEmpty())
+        loadPendingClass(_pendingClasses.values().iterator().next());
+    }
+  }
 
-        if (definedBy != null) {
-          javaClassDefClass = Class.forName(definedBy, false, loader);
+  private void loadPendingClass(String[] args)
+  {
+    // removed first, since the class definition may look up other wrappers
+    _pendingClasses.values().removeAll(Collections.singleton(args));
+
+    Thread thread = Thread.currentThread();
+    ClassLoader oldLoader = thread.getContextClassLoader();
+
+    try {
+      setContextClassLoader(_loader);
+
+      introspectClassService(args, _loader);
+    } finally {
+      setContextClassLoader(oldLoader);
+    }
+  }
+
+  /**
+   * Introspects a class from a parsed services line.
+   */
+  private void introspectClassService(String[] args, ClassLoader loader)
+  {
+    String className = args[0];
+
+    Class cl;
+
+    try {
+      cl = Class.forName(className, false, loader);
+
+      String phpClassName = null;
+      String extension = null;
+      String definedBy = null;
+
+      for (int i = 1; i < args.length; i++) {
+        if ("as".equals(args[i])) {
+          i++;
+          if (i >= args.length)
+            throw new IOException(L.l("expecting Quercus class name after '{0}' in definition for class {1}", "as", className));
+
+          phpClassName = args[i];
         }
-        else
-          javaClassDefClass = null;
+        else if ("provides".equals(args[i])) {
+          i++;
+          if (i >= args.length)
+            throw new IOException(L.l("expecting name of extension after '{0}' in definition for class {1}", "extension", className));
 
-        introspectJavaClass(phpClassName, cl, extension, javaClassDefClass);
-      } catch (Exception e) {
-        log.fine("Failed loading " + className + "\n" + e.toString());
-        log.log(Level.FINE, e.toString(), e);
+          extension = args[i];
+        }
+        else if ("definedBy".equals(args[i])) {
+          i++;
+          if (i >= args.length)
+            throw new IOException(L.l("expecting name of class implementing JavaClassDef after '{0}' in definition for class {1}", "definedBy", className));
+
+          definedBy = args[i];
+        }
+        else {
+          throw new IOException(L.l("unknown token '{0}' in definition for class {1} ", args[i], className));
+        }
       }
+
+      if (phpClassName == null)
+        phpClassName = className.substring(className.lastIndexOf('.') + 1);
+
+      Class javaClassDefClass;
+
+      if (definedBy != null) {
+        javaClassDefClass = Class.forName(definedBy, false, loader);
+      }
+      else
+        javaClassDefClass = null;
+
+      introspectJavaClass(phpClassName, cl, extension, javaClassDefClass);
+    } catch (Exception e) {
+      log.fine("Failed loading " + className + "\n" + e.toString());
+      log.log(Level.FINE, e.toString(), e);
     }
   }
 
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 1998-2010 Caucho Technology -- all rights reserved
+ *
+ * This file is part of Resin(R) Open Source
+ *
+ * Each copy or derived work must preserve the copyright notice and this
+ * notice unmodified.
+ *
+ * Resin Open Source is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Resin Open Source is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE, or any warranty
+ * of NON-INFRINGEMENT.  See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Resin Open Source; if not, write to the
+ *
+ *   Free Software Foundation, Inc.
+ *   59 Temple Place, Suite 330
+ *   Boston, MA 02111-1307  USA
+ *
+ */
+
+package com.caucho.quercus.page;
+
+import com.caucho.quercus.env.Env;
+import com.caucho.quercus.env.LongValue;
+import com.caucho.quercus.env.Value;
+import com.caucho.quercus.program.QuercusProgram;
+import com.caucho.quercus.statement.Statement;
+
+/**
+ * Represents a Quercus program whose top-level statement has been
+ * compiled to a Java class.
+ */
+public class CompiledPage extends InterpretedPage
+{
+  private final Statement _statement;
+
+  public CompiledPage(QuercusProgram program, Statement statement)
+  {
+    super(program);
+
+    _statement = statement;
+  }
+
+  /**
+   * Execute the program
+   *
+   * @param env the calling environment
+   */
+  @Override
+  public Value execute(Env env)
+  {
+    Value result = _statement.execute(env);
+
+    if (result == null)
+      result = LongValue.ONE;
+
+    return result;
+  }
+}
@@ -30,15 +30,21 @@
 package com.caucho.quercus.page;
 
 import com.caucho.quercus.QuercusContext;
+import com.caucho.quercus.QuercusException;
+import com.caucho.quercus.gen.QuercusCompiler;
 import com.caucho.quercus.parser.QuercusParser;
+import com.caucho.quercus.program.Function;
 import com.caucho.quercus.program.QuercusProgram;
 import com.caucho.util.Alarm;
 import com.caucho.util.L10N;
-import com.caucho.util.LruCache;
+import com.caucho.util.ConcurrentLruCache;
 import com.caucho.vfs.IOExceptionWrapper;
 import com.caucho.vfs.Path;
 
 import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 import java.util.logging.*;
 
 /**
@@ -58,10 +64,21 @@ public class PageManager
   private boolean _isCompile;
   private boolean _isCompileFailover = ! Alarm.isTest();
 
+  // requests of a page before a lazy compile
+  private int _compileThreshold = 10;
+
+  // calls of a function before it is compiled on its own
+  private int _functionCompileThreshold = 1000;
+
+  private ExecutorService _compileExecutor;
+
   private boolean _isRequireSource = true;
 
-  protected LruCache<Path,QuercusProgram> _programCache
-    = new LruCache<Path,QuercusProgram>(1024);
+  private boolean _isParseCache;
+  private ParseCache _parseCache;
+
+  protected ConcurrentLruCache<Path,QuercusProgram> _programCache
+    = new ConcurrentLruCache<Path,QuercusProgram>(1024);
 
   private boolean _isClosed;
   
@@ -134,6 +151,38 @@ public class PageManager
     _isCompileFailover = isCompileFailover;
   }
   
+  /**
+   * Returns the number of requests before a page is compiled lazily.
+   */
+  public int getCompileThreshold()
+  {
+    return _compileThreshold;
+  }
+
+  /**
+   * Sets the number of requests before a page is compiled lazily.
+   */
+  public void setCompileThreshold(int threshold)
+  {
+    _compileThreshold = threshold;
+  }
+
+  /**
+   * Returns the number of calls before a function is compiled.
+   */
+  public int getFunctionCompileThreshold()
+  {
+    return _functionCompileThreshold;
+  }
+
+  /**
+   * Sets the number of calls before a function is compiled.
+   */
+  public void setFunctionCompileThreshold(int threshold)
+  {
+    _functionCompileThreshold = threshold;
+  }
+
   /**
    * true if compiled pages require their source
    */
@@ -150,6 +199,22 @@ public class PageManager
     return _isRequireSource;
   }
   
+  /**
+   * true if parsed programs are saved in the work directory.
+   */
+  public boolean isParseCache()
+  {
+    return _isParseCache;
+  }
+
+  /**
+   * true if parsed programs are saved in the work directory.
+   */
+  public void setParseCache(boolean isParseCache)
+  {
+    _isParseCache = isParseCache;
+  }
+
   /**
    * Gets the max size of the page cache.
    */
@@ -164,7 +229,7 @@ public class PageManager
   public void setPageCacheSize(int size)
   {
     if (size >= 0 && size != _programCache.getCapacity())
-      _programCache = new LruCache<Path,QuercusProgram>(size);
+      _programCache = new ConcurrentLruCache<Path,QuercusProgram>(size);
   }
 
   /**
@@ -250,6 +315,8 @@ public class PageManager
       if (program == null || isModified) {
         clearProgram(path, program);
 
+        long start = Alarm.getExactTimeNanoseconds();
+
         program = preloadProgram(path, fileName);
 
         if (program == null) {
@@ -258,7 +325,19 @@ public class PageManager
                                         _quercus.getScriptEncoding(),
                                         fileName,
                                         line);
+
+          if (log.isLoggable(Level.FINE))
+            log.fine(L.l("Quercus[{0}] parsed in {1}ms", path,
+                         (Alarm.getExactTimeNanoseconds() - start) / 1000000));
+
+          ParseCache parseCache = getParseCache(path, fileName);
+
+          if (parseCache != null)
+            parseCache.store(path, program);
         }
+        else if (log.isLoggable(Level.FINE))
+          log.fine(L.l("Quercus[{0}] loaded from the parse cache in {1}ms", path,
+                       (Alarm.getExactTimeNanoseconds() - start) / 1000000));
 
         _programCache.put(path, program);
       }
@@ -283,7 +362,30 @@ public class PageManager
 
   protected QuercusProgram preloadProgram(Path path, String fileName)
   {
-    return null;
+    ParseCache parseCache = getParseCache(path, fileName);
+
+    if (parseCache != null)
+      return parseCache.load(path);
+    else
+      return null;
+  }
+
+  /**
+   * Returns the parse cache if the file can be cached, i.e. a real
+   * file parsed under its own name.
+   */
+  private ParseCache getParseCache(Path path, String fileName)
+  {
+    if (! _isParseCache || fileName != null || path.getLastModified() <= 0)
+      return null;
+
+    synchronized (this) {
+      if (_parseCache == null)
+        _parseCache = new ParseCache(_quercus,
+                                     _quercus.getWorkDir().lookup("parse-cache"));
+    }
+
+    return _parseCache;
   }
 
   protected void clearProgram(Path path, QuercusProgram program)
@@ -295,17 +397,128 @@ public class PageManager
       _quercus.clearDefinitionCache();
   }
 
-  protected QuercusPage compilePage(QuercusProgram program, Path path)
+  protected QuercusPage compilePage(final QuercusProgram program, Path path)
   {
+    if (_isCompile
+        && program.isCompilable()
+        && (! _isLazyCompile
+            || program.incrementExecuteCount() >= _compileThreshold)
+        && program.startCompiling()) {
+      if (_isLazyCompile && _isCompileFailover) {
+        getCompileExecutor().execute(new Runnable() {
+            public void run()
+            {
+              compileProgram(program);
+            }
+          });
+      }
+      else {
+        QuercusPage page = compileProgram(program);
+
+        if (page != null)
+          return page;
+      }
+    }
+
     if (log.isLoggable(Level.FINE))
       log.fine(L.l("Quercus[{0}] loading interpreted page", path));
     
     return new InterpretedPage(program);
   }
 
+  /**
+   * Compiles the program to Java, returning null when the interpreted
+   * page should be used instead.
+   */
+  private QuercusPage compileProgram(QuercusProgram program)
+  {
+    try {
+      QuercusPage page = new QuercusCompiler(_quercus).compile(program);
+
+      program.setCompiledPage(page);
+
+      if (log.isLoggable(Level.FINE))
+        log.fine(L.l("Quercus[{0}] loading compiled page",
+                     program.getSourcePath()));
+
+      return page;
+    } catch (Exception e) {
+      program.setCompilable(false);
+      program.setCompileException(e);
+
+      if (! _isCompileFailover)
+        throw new QuercusException(e);
+
+      log.log(Level.FINE, e.toString(), e);
+      log.warning(L.l("Quercus[{0}] compile failed, using interpreter: {1}",
+                      program.getSourcePath(), e));
+
+      return null;
+    } finally {
+      program.finishCompiling();
+    }
+  }
+
+  /**
+   * Compiles a hot function on its own, e.g. one defined by a page that
+   * is still interpreted.
+   */
+  public void compileFunction(final Function fun)
+  {
+    if (! _isCompile || _isClosed)
+      return;
+
+    if (_isLazyCompile && _isCompileFailover) {
+      getCompileExecutor().execute(new Runnable() {
+          public void run()
+          {
+            compileFunctionImpl(fun);
+          }
+        });
+    }
+    else
+      compileFunctionImpl(fun);
+  }
+
+  private void compileFunctionImpl(Function fun)
+  {
+    try {
+      new QuercusCompiler(_quercus).compile(fun);
+    } catch (Exception e) {
+      if (! _isCompileFailover)
+        throw new QuercusException(e);
+
+      log.log(Level.FINE, e.toString(), e);
+      log.warning(L.l("Quercus[{0}] compile failed, using interpreter: {1}",
+                      fun.getName(), e));
+    }
+  }
+
+  private synchronized ExecutorService getCompileExecutor()
+  {
+    if (_compileExecutor == null) {
+      _compileExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+          public Thread newThread(Runnable task)
+          {
+            Thread thread = new Thread(task, "quercus-compiler");
+            thread.setDaemon(true);
+
+            return thread;
+          }
+        });
+    }
+
+    return _compileExecutor;
+  }
+
   public void close()
   {
     _isClosed = true;
+
+    synchronized (this) {
+      if (_compileExecutor != null)
+        _compileExecutor.shutdownNow();
+    }
   }
 }
 
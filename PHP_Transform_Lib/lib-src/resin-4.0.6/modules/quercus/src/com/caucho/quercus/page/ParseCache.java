@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 1998-2010 Caucho Technology -- all rights reserved
+ *
+ * This file is part of Resin(R) Open Source
+ *
+ * Each copy or derived work must preserve the copyright notice and this
+ * notice unmodified.
+ *
+ * Resin Open Source is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Resin Open Source is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE, or any warranty
+ * of NON-INFRINGEMENT.  See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Resin Open Source; if not, write to the
+ *
+ *   Free Software Foundation, Inc.
+ *   59 Temple Place, Suite 330
+ *   Boston, MA 02111-1307  USA
+ *
+ */
+
+package com.caucho.quercus.page;
+
+import com.caucho.quercus.Location;
+import com.caucho.quercus.QuercusContext;
+import com.caucho.quercus.env.Value;
+import com.caucho.quercus.program.Function;
+import com.caucho.quercus.program.FunctionInfo;
+import com.caucho.quercus.program.InterpretedClassDef;
+import com.caucho.quercus.program.QuercusProgram;
+import com.caucho.quercus.statement.Statement;
+import com.caucho.util.Crc64;
+import com.caucho.vfs.Depend;
+import com.caucho.vfs.Path;
+import com.caucho.vfs.ReadStream;
+import com.caucho.vfs.WriteStream;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Serialized parse trees in the work directory, so a restarted JVM can
+ * skip parsing unchanged files.
+ *
+ * Each entry records the source's modified time, length and CRC64.  An
+ * entry is used only if a Depend on the saved CRC64 finds the source
+ * unchanged.  Entries from a different Quercus version, or whose classes
+ * no longer match, are misses.
+ *
+ * The trees are written by TreeOutput rather than JDK serialization,
+ * whose per-class setup made a cold load slower than parsing, see
+ * tests/bench_parse_cache.sh.  A load only instantiates the classes of
+ * a parse tree: AST nodes, Values and their collections.
+ */
+public class ParseCache
+{
+  private static final Logger log
+    = Logger.getLogger(ParseCache.class.getName());
+
+  private static final int VERSION = 2;
+
+  private final QuercusContext _quercus;
+  private final Path _dir;
+
+  public ParseCache(QuercusContext quercus, Path dir)
+  {
+    _quercus = quercus;
+    _dir = dir;
+  }
+
+  /**
+   * Returns the cached program, or null if it's missing or stale.
+   */
+  public QuercusProgram load(Path path)
+  {
+    Path cachePath = getCachePath(path);
+
+    if (! cachePath.canRead())
+      return null;
+
+    ReadStream is = null;
+
+    try {
+      is = cachePath.openRead();
+
+      byte []buffer = new byte[(int) cachePath.getLength()];
+
+      if (is.readAll(buffer, 0, buffer.length) != buffer.length)
+        return null;
+
+      TreeInput in = new TreeInput(buffer, _quercus);
+
+      if (in.readInt() != VERSION
+          || ! _quercus.getVersion().equals(in.readString())
+          || ! path.getURL().equals(in.readString())
+          || path.getLastModified() != in.readLong()
+          || path.getLength() != in.readLong())
+        return null;
+
+      Depend depend = new Depend(path, in.readLong(),
+                                 _quercus.isRequireSource());
+
+      if (depend.isModified())
+        return null;
+
+      Tree tree = (Tree) in.readObject();
+
+      if (log.isLoggable(Level.FINE))
+        log.fine("Quercus[" + path + "] loading parsed program from " + cachePath);
+
+      return new QuercusProgram(_quercus, path,
+                                tree._functionMap,
+                                tree._functionList,
+                                tree._classMap,
+                                tree._classList,
+                                tree._functionInfo,
+                                tree._statement);
+    } catch (Exception e) {
+      // includes a changed class, which fails to deserialize
+      log.log(Level.FINE, e.toString(), e);
+
+      return null;
+    } finally {
+      if (is != null)
+        is.close();
+    }
+  }
+
+  /**
+   * Saves a newly parsed program.
+   */
+  public void store(Path path, QuercusProgram program)
+  {
+    Path cachePath = getCachePath(path);
+    Path tempPath = _dir.lookup(cachePath.getTail()
+                                + ".tmp" + Thread.currentThread().getId());
+
+    try {
+      _dir.mkdirs();
+
+      WriteStream os = tempPath.openWrite();
+
+      try {
+        TreeOutput out = new TreeOutput(os);
+
+        out.writeInt(VERSION);
+        out.writeString(_quercus.getVersion());
+        out.writeString(path.getURL());
+        out.writeLong(path.getLastModified());
+        out.writeLong(path.getLength());
+        out.writeLong(path.getCrc64());
+
+        out.writeObject(new Tree(program));
+
+        out.flush();
+      } finally {
+        os.close();
+      }
+
+      tempPath.renameTo(cachePath);
+    } catch (Exception e) {
+      log.log(Level.FINE, e.toString(), e);
+
+      try {
+        tempPath.remove();
+      } catch (IOException e1) {
+      }
+    }
+  }
+
+  private Path getCachePath(Path path)
+  {
+    String url = path.getURL();
+
+    return _dir.lookup(path.getTail() + "-"
+                       + Long.toHexString(Crc64.generate(url)) + ".tree");
+  }
+
+  /**
+   * True for the classes a parse tree may contain.
+   */
+  static boolean isTreeClass(Class<?> cl)
+  {
+    while (cl.isArray())
+      cl = cl.getComponentType();
+
+    // never instantiated, the concrete class is checked instead
+    if (cl.isPrimitive() || cl.isInterface()
+        || Modifier.isAbstract(cl.getModifiers()))
+      return true;
+
+    String name = cl.getName();
+
+    return (Value.class.isAssignableFrom(cl)
+            || name.startsWith("com.caucho.quercus.expr.")
+            || name.startsWith("com.caucho.quercus.statement.")
+            || name.startsWith("com.caucho.quercus.program.")
+            || (cl.isEnum() && name.startsWith("com.caucho.quercus."))
+            || cl == Location.class
+            || cl == Tree.class
+            || cl == Object.class
+            || cl == String.class);
+  }
+
+  /**
+   * The parts of a program.
+   */
+  static class Tree {
+    private HashMap<String,Function> _functionMap;
+    private ArrayList<Function> _functionList;
+    private HashMap<String,InterpretedClassDef> _classMap;
+    private ArrayList<InterpretedClassDef> _classList;
+    private FunctionInfo _functionInfo;
+    private Statement _statement;
+
+    Tree(QuercusProgram program)
+    {
+      _functionMap = program.getFunctionMap();
+      _functionList = program.getFunctionList();
+      _classMap = program.getClassMap();
+      _classList = program.getClassList();
+      _functionInfo = program.getFunctionInfo();
+      _statement = program.getStatement();
+    }
+  }
+}
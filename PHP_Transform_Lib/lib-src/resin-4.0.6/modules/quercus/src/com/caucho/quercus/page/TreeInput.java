@@ -0,0 +1,446 @@
+/*
+ * Copyright (c) 1998-2010 Caucho Technology -- all rights reserved
+ *
+ * This file is part of Resin(R) Open Source
+ *
+ * Each copy or derived work must preserve the copyright notice and this
+ * notice unmodified.
+ *
+ * Resin Open Source is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Resin Open Source is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE, or any warranty
+ * of NON-INFRINGEMENT.  See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Resin Open Source; if not, write to the
+ *
+ *   Free Software Foundation, Inc.
+ *   59 Temple Place, Suite 330
+ *   Boston, MA 02111-1307  USA
+ *
+ */
+
+
+package com.caucho.quercus.page;
+
+import com.caucho.quercus.Location;
+import com.caucho.quercus.QuercusContext;
+import com.caucho.quercus.env.BooleanValue;
+import com.caucho.quercus.env.ConstStringValue;
+import com.caucho.quercus.env.DefaultValue;
+import com.caucho.quercus.env.DoubleValue;
+import com.caucho.quercus.env.LongValue;
+import com.caucho.quercus.env.MethodIntern;
+import com.caucho.quercus.env.NullValue;
+import com.caucho.quercus.env.UnsetValue;
+import com.caucho.util.L10N;
+import com.caucho.vfs.Vfs;
+
+import sun.misc.Unsafe;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Reads a parse tree written by TreeOutput.  Only the classes of a parse
+ * tree are loaded.  As in Java serialization, objects are allocated
+ * without their constructors, and fields are set directly after a type
+ * check.
+ */
+class TreeInput
+{
+  private static final Logger log
+    = Logger.getLogger(TreeInput.class.getName());
+  private static final L10N L = new L10N(TreeInput.class);
+
+  private static final Unsafe _unsafe;
+
+  private final byte []_buffer;
+  private int _offset;
+  private final QuercusContext _quercus;
+
+  private final ArrayList<Object> _refs = new ArrayList<Object>();
+  private final ArrayList<TreeClass> _classes = new ArrayList<TreeClass>();
+
+  TreeInput(byte []buffer, QuercusContext quercus)
+  {
+    _buffer = buffer;
+    _quercus = quercus;
+  }
+
+  int readInt()
+  {
+    return (int) readLong();
+  }
+
+  long readLong()
+  {
+    long v = 0;
+
+    for (int shift = 0; ; shift += 7) {
+      int b = _buffer[_offset++];
+
+      v |= (long) (b & 0x7f) << shift;
+
+      if ((b & 0x80) == 0)
+        break;
+    }
+
+    return (v >>> 1) ^ -(v & 1);
+  }
+
+  String readString()
+    throws IOException
+  {
+    int length = readLength();
+
+    String s = new String(_buffer, _offset, length, TreeOutput.UTF_8);
+    _offset += length;
+
+    return s;
+  }
+
+  /**
+   * Reads an array or string length, which can't be more than the bytes
+   * that are left.
+   */
+  private int readLength()
+    throws IOException
+  {
+    int length = readInt();
+
+    if (length < 0 || _buffer.length - _offset < length)
+      throw new IOException(L.l("bad length {0}", length));
+
+    return length;
+  }
+
+  Object readObject()
+    throws IOException
+  {
+    int tag = _buffer[_offset++];
+
+    switch (tag) {
+    case TreeOutput.NULL:
+      return null;
+    case TreeOutput.REF:
+      return _refs.get(readInt());
+
+    case TreeOutput.INT:
+      return readInt();
+    case TreeOutput.LONG:
+      return readLong();
+    case TreeOutput.DOUBLE:
+      return Double.longBitsToDouble(readLong());
+    case TreeOutput.FLOAT:
+      return Float.intBitsToFloat(readInt());
+    case TreeOutput.BOOLEAN:
+      return _buffer[_offset++] != 0;
+    case TreeOutput.CHAR:
+      return (char) readInt();
+    case TreeOutput.BYTE:
+      return _buffer[_offset++];
+    case TreeOutput.SHORT:
+      return (short) readInt();
+
+    case TreeOutput.TRUE:
+      return BooleanValue.TRUE;
+    case TreeOutput.FALSE:
+      return BooleanValue.FALSE;
+    case TreeOutput.NULL_VALUE:
+      return NullValue.NULL;
+    case TreeOutput.DEFAULT_VALUE:
+      return DefaultValue.DEFAULT;
+    case TreeOutput.UNSET_VALUE:
+      return UnsetValue.UNSET;
+    case TreeOutput.UNKNOWN_LOCATION:
+      return Location.UNKNOWN;
+    case TreeOutput.QUERCUS:
+      return _quercus;
+
+    case TreeOutput.STRING:
+      return addRef(readString());
+    case TreeOutput.CONST_STRING:
+      return addRef(new ConstStringValue(readString()));
+    case TreeOutput.INTERN_STRING:
+      return addRef(MethodIntern.intern(readString()));
+    case TreeOutput.LONG_VALUE:
+      return addRef(LongValue.create(readLong()));
+    case TreeOutput.DOUBLE_VALUE:
+      return addRef(DoubleValue.create(Double.longBitsToDouble(readLong())));
+    case TreeOutput.PATH:
+      return addRef(Vfs.lookup(readString()));
+
+    case TreeOutput.ENUM:
+      {
+        Class<?> cl = readClass()._type;
+        String name = readString();
+
+        for (Object value : cl.getEnumConstants()) {
+          if (((Enum<?>) value).name().equals(name))
+            return addRef(value);
+        }
+
+        throw new IOException(L.l("{0} has no {1}", cl.getName(), name));
+      }
+
+    case TreeOutput.INT_ARRAY:
+      {
+        int []array = new int[readLength()];
+        addRef(array);
+
+        for (int i = 0; i < array.length; i++)
+          array[i] = readInt();
+
+        return array;
+      }
+
+    case TreeOutput.BYTE_ARRAY:
+      {
+        byte []array = new byte[readLength()];
+        addRef(array);
+
+        System.arraycopy(_buffer, _offset, array, 0, array.length);
+        _offset += array.length;
+
+        return array;
+      }
+
+    case TreeOutput.CHAR_ARRAY:
+      {
+        char []array = new char[readLength()];
+        addRef(array);
+
+        for (int i = 0; i < array.length; i++)
+          array[i] = (char) readInt();
+
+        return array;
+      }
+
+    case TreeOutput.ARRAY:
+      {
+        Class<?> cl = readClass()._type;
+        Object []array = (Object []) Array.newInstance(cl, readLength());
+        addRef(array);
+
+        for (int i = 0; i < array.length; i++)
+          array[i] = readObject();
+
+        return array;
+      }
+
+    case TreeOutput.ARRAY_LIST:
+      {
+        int size = readLength();
+        ArrayList<Object> list = new ArrayList<Object>(size);
+        addRef(list);
+
+        for (int i = 0; i < size; i++)
+          list.add(readObject());
+
+        return list;
+      }
+
+    case TreeOutput.HASH_MAP:
+    case TreeOutput.LINKED_HASH_MAP:
+      {
+        int size = readLength();
+        HashMap<Object,Object> map;
+
+        if (tag == TreeOutput.HASH_MAP)
+          map = new HashMap<Object,Object>();
+        else
+          map = new LinkedHashMap<Object,Object>();
+
+        addRef(map);
+
+        for (int i = 0; i < size; i++) {
+          Object key = readObject();
+
+          map.put(key, readObject());
+        }
+
+        return map;
+      }
+
+    case TreeOutput.ATOMIC_BOOLEAN:
+      return addRef(new AtomicBoolean(_buffer[_offset++] != 0));
+
+    case TreeOutput.OBJECT:
+      return readFields(readClass());
+
+    default:
+      throw new IOException(L.l("unknown tag {0}", tag));
+    }
+  }
+
+  private Object readFields(TreeClass treeClass)
+    throws IOException
+  {
+    Class<?> cl = treeClass._type;
+    TreeField []fields = treeClass._fields;
+
+    if (fields == null) {
+      fields = readFieldNames(cl);
+      treeClass._fields = fields;
+    }
+
+    Object obj;
+
+    try {
+      obj = _unsafe.allocateInstance(cl);
+    } catch (InstantiationException e) {
+      throw new IOException(e.toString(), e);
+    }
+
+    addRef(obj);
+
+    for (TreeField field : fields) {
+      Object value = readObject();
+      Class<?> type = field._type;
+      long offset = field._offset;
+
+      // a mismatch is a field whose type changed
+      if (! type.isPrimitive()) {
+        if (value != null && ! type.isInstance(value))
+          throw new IOException(L.l("{0} has changed", cl.getName()));
+
+        _unsafe.putObject(obj, offset, value);
+      }
+      else if (value == null)
+        throw new IOException(L.l("{0} has changed", cl.getName()));
+      else if (type == int.class)
+        _unsafe.putInt(obj, offset, (Integer) value);
+      else if (type == boolean.class)
+        _unsafe.putBoolean(obj, offset, (Boolean) value);
+      else if (type == long.class)
+        _unsafe.putLong(obj, offset, (Long) value);
+      else if (type == double.class)
+        _unsafe.putDouble(obj, offset, (Double) value);
+      else if (type == char.class)
+        _unsafe.putChar(obj, offset, (Character) value);
+      else if (type == byte.class)
+        _unsafe.putByte(obj, offset, (Byte) value);
+      else if (type == short.class)
+        _unsafe.putShort(obj, offset, (Short) value);
+      else
+        _unsafe.putFloat(obj, offset, (Float) value);
+    }
+
+    return obj;
+  }
+
+  /**
+   * Matches the saved field names with the current class.
+   */
+  private TreeField []readFieldNames(Class<?> cl)
+    throws IOException
+  {
+    HashMap<String,Field> fieldMap = new HashMap<String,Field>();
+
+    for (Field field : TreeOutput.getFields(cl))
+      fieldMap.put(field.getName(), field);
+
+    int length = readInt();
+
+    if (length != fieldMap.size())
+      throw new IOException(L.l("{0} has changed", cl.getName()));
+
+    TreeField []fields = new TreeField[length];
+
+    for (int i = 0; i < length; i++) {
+      Field field = fieldMap.get(readString());
+
+      if (field == null)
+        throw new IOException(L.l("{0} has changed", cl.getName()));
+
+      fields[i] = new TreeField(field);
+    }
+
+    return fields;
+  }
+
+  private TreeClass readClass()
+    throws IOException
+  {
+    int index = readInt();
+
+    if (index >= 0)
+      return _classes.get(index);
+
+    String name = readString();
+    Class<?> cl;
+
+    try {
+      cl = Class.forName(name, false, TreeInput.class.getClassLoader());
+    } catch (ClassNotFoundException e) {
+      throw new IOException(e.toString(), e);
+    }
+
+    if (! ParseCache.isTreeClass(cl))
+      throw new IOException(L.l("{0} is not part of a parse tree", name));
+
+    TreeClass treeClass = new TreeClass(cl);
+
+    _classes.add(treeClass);
+
+    return treeClass;
+  }
+
+  private Object addRef(Object obj)
+  {
+    _refs.add(obj);
+
+    return obj;
+  }
+
+  static class TreeClass {
+    final Class<?> _type;
+    TreeField []_fields;
+
+    TreeClass(Class<?> type)
+    {
+      _type = type;
+    }
+  }
+
+  static class TreeField {
+    final Class<?> _type;
+    final long _offset;
+
+    TreeField(Field field)
+    {
+      _type = field.getType();
+      _offset = _unsafe.objectFieldOffset(field);
+    }
+  }
+
+  static {
+    Unsafe unsafe = null;
+
+    try {
+      Field theUnsafe = Unsafe.class.getDeclaredField("theUnsafe");
+      theUnsafe.setAccessible(true);
+
+      unsafe = (Unsafe) theUnsafe.get(null);
+    } catch (Throwable e) {
+      // every load is then a miss
+      log.log(Level.FINER, e.toString(), e);
+    }
+
+    _unsafe = unsafe;
+  }
+}
@@ -0,0 +1,402 @@
+/*
+ * Copyright (c) 1998-2010 Caucho Technology -- all rights reserved
+ *
+ * This file is part of Resin(R) Open Source
+ *
+ * Each copy or derived work must preserve the copyright notice and this
+ * notice unmodified.
+ *
+ * Resin Open Source is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Resin Open Source is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE, or any warranty
+ * of NON-INFRINGEMENT.  See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Resin Open Source; if not, write to the
+ *
+ *   Free Software Foundation, Inc.
+ *   59 Temple Place, Suite 330
+ *   Boston, MA 02111-1307  USA
+ *
+ */
+
+
+package com.caucho.quercus.page;
+
+import com.caucho.quercus.Location;
+import com.caucho.quercus.QuercusContext;
+import com.caucho.quercus.env.BooleanValue;
+import com.caucho.quercus.env.CompiledConstStringValue;
+import com.caucho.quercus.env.ConstStringValue;
+import com.caucho.quercus.env.DefaultValue;
+import com.caucho.quercus.env.DoubleValue;
+import com.caucho.quercus.env.LongValue;
+import com.caucho.quercus.env.NullValue;
+import com.caucho.quercus.env.UnsetValue;
+import com.caucho.util.L10N;
+import com.caucho.vfs.Path;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.nio.charset.Charset;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Writes a parse tree for the ParseCache.  Each value starts with a tag.
+ * A class name is written once and then referred to by index, and an
+ * object's field names are written before its first instance.  An
+ * object seen before is written as a reference.
+ */
+class TreeOutput
+{
+  private static final L10N L = new L10N(TreeOutput.class);
+
+  static final Charset UTF_8 = Charset.forName("UTF-8");
+
+  static final int NULL = 0;
+  static final int REF = 1;
+
+  static final int INT = 2;
+  static final int LONG = 3;
+  static final int DOUBLE = 4;
+  static final int FLOAT = 5;
+  static final int BOOLEAN = 6;
+  static final int CHAR = 7;
+  static final int BYTE = 8;
+  static final int SHORT = 9;
+
+  static final int STRING = 10;
+  static final int OBJECT = 11;
+  static final int ENUM = 12;
+  static final int ARRAY = 13;
+  static final int INT_ARRAY = 14;
+  static final int BYTE_ARRAY = 15;
+  static final int CHAR_ARRAY = 16;
+  static final int ARRAY_LIST = 17;
+  static final int HASH_MAP = 18;
+  static final int LINKED_HASH_MAP = 19;
+  static final int ATOMIC_BOOLEAN = 20;
+
+  static final int CONST_STRING = 21;
+  static final int INTERN_STRING = 22;
+  static final int LONG_VALUE = 23;
+  static final int DOUBLE_VALUE = 24;
+  static final int TRUE = 25;
+  static final int FALSE = 26;
+  static final int NULL_VALUE = 27;
+  static final int DEFAULT_VALUE = 28;
+  static final int UNSET_VALUE = 29;
+  static final int UNKNOWN_LOCATION = 30;
+  static final int QUERCUS = 31;
+  static final int PATH = 32;
+
+  private final OutputStream _out;
+
+  private final IdentityHashMap<Object,Integer> _refs
+    = new IdentityHashMap<Object,Integer>();
+  private final HashMap<Class<?>,Integer> _classes
+    = new HashMap<Class<?>,Integer>();
+  private final HashMap<Class<?>,Field[]> _fields
+    = new HashMap<Class<?>,Field[]>();
+
+  TreeOutput(OutputStream os)
+  {
+    _out = os;
+  }
+
+  void writeInt(int v)
+    throws IOException
+  {
+    writeLong(v);
+  }
+
+  /**
+   * Writes a zig-zag encoded variable length number, so small values of
+   * either sign take a byte.
+   */
+  void writeLong(long v)
+    throws IOException
+  {
+    v = (v << 1) ^ (v >> 63);
+
+    while ((v & ~0x7fL) != 0) {
+      _out.write((int) ((v & 0x7f) | 0x80));
+      v >>>= 7;
+    }
+
+    _out.write((int) v);
+  }
+
+  void writeString(String s)
+    throws IOException
+  {
+    byte []bytes = s.getBytes(UTF_8);
+
+    writeInt(bytes.length);
+    _out.write(bytes);
+  }
+
+  void flush()
+    throws IOException
+  {
+    _out.flush();
+  }
+
+  void writeObject(Object obj)
+    throws IOException
+  {
+    if (obj == null) {
+      _out.write(NULL);
+      return;
+    }
+    else if (writePrimitive(obj))
+      return;
+    else if (obj == BooleanValue.TRUE) {
+      _out.write(TRUE);
+      return;
+    }
+    else if (obj == BooleanValue.FALSE) {
+      _out.write(FALSE);
+      return;
+    }
+    else if (obj == NullValue.NULL) {
+      _out.write(NULL_VALUE);
+      return;
+    }
+    else if (obj == DefaultValue.DEFAULT) {
+      _out.write(DEFAULT_VALUE);
+      return;
+    }
+    else if (obj == UnsetValue.UNSET) {
+      _out.write(UNSET_VALUE);
+      return;
+    }
+    else if (obj == Location.UNKNOWN) {
+      _out.write(UNKNOWN_LOCATION);
+      return;
+    }
+    else if (obj instanceof QuercusContext) {
+      _out.write(QUERCUS);
+      return;
+    }
+
+    Integer ref = _refs.get(obj);
+
+    if (ref != null) {
+      _out.write(REF);
+      writeInt(ref);
+      return;
+    }
+
+    _refs.put(obj, _refs.size());
+
+    Class<?> cl = obj.getClass();
+
+    if (cl == String.class) {
+      _out.write(STRING);
+      writeString((String) obj);
+    }
+    else if (cl == ConstStringValue.class) {
+      _out.write(CONST_STRING);
+      writeString(obj.toString());
+    }
+    else if (cl == CompiledConstStringValue.class) {
+      // created only by MethodIntern
+      _out.write(INTERN_STRING);
+      writeString(obj.toString());
+    }
+    else if (obj instanceof LongValue) {
+      _out.write(LONG_VALUE);
+      writeLong(((LongValue) obj).toLong());
+    }
+    else if (cl == DoubleValue.class) {
+      _out.write(DOUBLE_VALUE);
+      writeLong(Double.doubleToLongBits(((DoubleValue) obj).toDouble()));
+    }
+    else if (obj instanceof Path) {
+      _out.write(PATH);
+      writeString(((Path) obj).getURL());
+    }
+    else if (obj instanceof Enum<?>) {
+      _out.write(ENUM);
+      writeClass(((Enum<?>) obj).getDeclaringClass());
+      writeString(((Enum<?>) obj).name());
+    }
+    else if (cl == int[].class) {
+      int []array = (int []) obj;
+
+      _out.write(INT_ARRAY);
+      writeInt(array.length);
+
+      for (int i = 0; i < array.length; i++)
+        writeInt(array[i]);
+    }
+    else if (cl == byte[].class) {
+      byte []array = (byte []) obj;
+
+      _out.write(BYTE_ARRAY);
+      writeInt(array.length);
+      _out.write(array);
+    }
+    else if (cl == char[].class) {
+      char []array = (char []) obj;
+
+      _out.write(CHAR_ARRAY);
+      writeInt(array.length);
+
+      for (int i = 0; i < array.length; i++)
+        writeInt(array[i]);
+    }
+    else if (cl.isArray() && ! cl.getComponentType().isPrimitive()) {
+      Object []array = (Object []) obj;
+
+      _out.write(ARRAY);
+      writeClass(cl.getComponentType());
+      writeInt(array.length);
+
+      for (int i = 0; i < array.length; i++)
+        writeObject(array[i]);
+    }
+    else if (cl == ArrayList.class) {
+      ArrayList<?> list = (ArrayList<?>) obj;
+
+      _out.write(ARRAY_LIST);
+      writeInt(list.size());
+
+      for (int i = 0; i < list.size(); i++)
+        writeObject(list.get(i));
+    }
+    else if (cl == HashMap.class || cl == LinkedHashMap.class) {
+      Map<?,?> map = (Map<?,?>) obj;
+
+      _out.write(cl == HashMap.class ? HASH_MAP : LINKED_HASH_MAP);
+      writeInt(map.size());
+
+      for (Map.Entry<?,?> entry : map.entrySet()) {
+        writeObject(entry.getKey());
+        writeObject(entry.getValue());
+      }
+    }
+    else if (cl == AtomicBoolean.class) {
+      _out.write(ATOMIC_BOOLEAN);
+      _out.write(((AtomicBoolean) obj).get() ? 1 : 0);
+    }
+    else if (ParseCache.isTreeClass(cl) && ! cl.isArray()) {
+      _out.write(OBJECT);
+      writeClass(cl);
+
+      Field []fields = _fields.get(cl);
+
+      if (fields == null) {
+        fields = getFields(cl);
+        _fields.put(cl, fields);
+
+        writeInt(fields.length);
+
+        for (Field field : fields)
+          writeString(field.getName());
+      }
+
+      try {
+        for (Field field : fields)
+          writeObject(field.get(obj));
+      } catch (IllegalAccessException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+    else
+      throw new IOException(L.l("{0} is not part of a parse tree",
+                                cl.getName()));
+  }
+
+  private boolean writePrimitive(Object obj)
+    throws IOException
+  {
+    if (obj instanceof Integer) {
+      _out.write(INT);
+      writeInt((Integer) obj);
+    }
+    else if (obj instanceof Long) {
+      _out.write(LONG);
+      writeLong((Long) obj);
+    }
+    else if (obj instanceof Double) {
+      _out.write(DOUBLE);
+      writeLong(Double.doubleToLongBits((Double) obj));
+    }
+    else if (obj instanceof Float) {
+      _out.write(FLOAT);
+      writeInt(Float.floatToIntBits((Float) obj));
+    }
+    else if (obj instanceof Boolean) {
+      _out.write(BOOLEAN);
+      _out.write((Boolean) obj ? 1 : 0);
+    }
+    else if (obj instanceof Character) {
+      _out.write(CHAR);
+      writeInt((Character) obj);
+    }
+    else if (obj instanceof Byte) {
+      _out.write(BYTE);
+      _out.write((Byte) obj);
+    }
+    else if (obj instanceof Short) {
+      _out.write(SHORT);
+      writeInt((Short) obj);
+    }
+    else
+      return false;
+
+    return true;
+  }
+
+  private void writeClass(Class<?> cl)
+    throws IOException
+  {
+    Integer index = _classes.get(cl);
+
+    if (index != null)
+      writeInt(index);
+    else {
+      _classes.put(cl, _classes.size());
+
+      writeInt(-1);
+      writeString(cl.getName());
+    }
+  }
+
+  /**
+   * Returns the serialized fields of a class and its parents.
+   */
+  static Field []getFields(Class<?> cl)
+  {
+    ArrayList<Field> fields = new ArrayList<Field>();
+
+    for (; cl != null && cl != Object.class; cl = cl.getSuperclass()) {
+      for (Field field : cl.getDeclaredFields()) {
+        int modifiers = field.getModifiers();
+
+        if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers))
+          continue;
+
+        field.setAccessible(true);
+        fields.add(field);
+      }
+    }
+
+    return fields.toArray(new Field[fields.size()]);
+  }
+}
@@ -3652,10 +3652,14 @@ public class QuercusParser {
     else if (token == '$') {
       _peekToken = token;
 
+      _function.setVariableVar(true);
+
       // php/0d6c, php/0d6f
       return _factory.createVarVar(parseTermArray());
     }
     else if (token == '{') {
+      _function.setVariableVar(true);
+
       AbstractVarExpr expr = _factory.createVarVar(parseExpr());
 
       expect('}');
@@ -3677,6 +3681,19 @@ public class QuercusParser {
     return _factory.createVar(_function.createVar(name));    
   }
   
+  /**
+   * True for builtins that read or write the caller's locals by name.
+   */
+  private static boolean isSymbolTableFunction(String name)
+  {
+    name = name.toLowerCase();
+    
+    return (name.equals("extract")
+            || name.equals("compact")
+            || name.equals("get_defined_vars")
+            || name.equals("parse_str"));
+  }
+
   /**
    * Parses the next function
    */
@@ -3690,6 +3707,9 @@ public class QuercusParser {
     
     name = resolveIdentifier(name);
 
+    if (isSymbolTableFunction(name))
+      _function.setUsesSymbolTable(true);
+
     return _factory.createCall(this, name, args);
 
     /*
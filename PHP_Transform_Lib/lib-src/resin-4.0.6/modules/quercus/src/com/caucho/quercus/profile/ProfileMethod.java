@@ -79,6 +79,14 @@ public class ProfileMethod
     return _count;
   }
 
+  /**
+   * Sets the function's count
+   */
+  public void setCount(long count)
+  {
+    _count = count;
+  }
+
   /**
    * Returns the function's total time in micros
    */
@@ -87,6 +95,14 @@ public class ProfileMethod
     return _totalMicros;
   }
 
+  /**
+   * Sets the function's total time in micros
+   */
+  public void setTotalMicros(long micros)
+  {
+    _totalMicros = micros;
+  }
+
   /**
    * Returns the function's self time in micros
    */
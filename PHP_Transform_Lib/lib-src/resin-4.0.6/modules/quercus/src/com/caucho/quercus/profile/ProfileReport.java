@@ -57,6 +57,8 @@ public class ProfileReport
 
   private long _totalMicros;
 
+  private boolean _isSampled;
+
   public ProfileReport(long id, String url, long timestamp)
   {
     _id = id;
@@ -96,6 +98,22 @@ public class ProfileReport
     return _totalMicros;
   }
 
+  /**
+   * Set when the counts are samples rather than calls.
+   */
+  public void setSampled(boolean isSampled)
+  {
+    _isSampled = isSampled;
+  }
+
+  /**
+   * Returns true when the counts are samples rather than calls.
+   */
+  public boolean isSampled()
+  {
+    return _isSampled;
+  }
+
   /**
    * Returns the list of profile items.
    */
@@ -148,6 +166,23 @@ public class ProfileReport
     }
   }
 
+  /**
+   * Sets a method's total time, when recursive calls would otherwise
+   * count their time more than once.
+   */
+  public void setTotalMicros(String name, long micros)
+  {
+    getMethod(name).setTotalMicros(micros);
+  }
+
+  /**
+   * Sets a method's count, when it shouldn't be the sum of its callers'.
+   */
+  public void setCount(String name, long count)
+  {
+    getMethod(name).setCount(count);
+  }
+
   /**
    * Returns the method by its id.
    */
@@ -212,8 +247,9 @@ public class ProfileReport
     out.println();
     out.println("Hot Spot Profile: " + _url + " at " + new Date(_timestamp));
     out.println();
-    out.println(" self(us)  total(us)  count   %time     %sum   name");
-    out.println("----------------------------------------------------");
+    out.println(" self(us)  total(us) " + getCountHeader()
+                + "   %time     %sum   name");
+    out.println("-----------------------------------------------------");
 
     double sumMicros = 0;
 
@@ -224,7 +260,7 @@ public class ProfileReport
 
       out.print(String.format("%7dus", selfMicros));
       out.print(String.format(" %8dus", method.getTotalMicros()));
-      out.print(String.format(" %6d", method.getCount()));
+      out.print(String.format(" %7d", method.getCount()));
       out.print(String.format(" %6.2f%%", 100.0 * selfMicros / totalMicros));
       out.print(String.format("  %6.2f%%", 100.0 * sumMicros / totalMicros));
       out.print("   " + name);
@@ -255,8 +291,9 @@ public class ProfileReport
     out.println();
     out.println("Hierarchy: " + _url + " at " + new Date(_timestamp));
     out.println();
-    out.println(" total(us)  self(us)  count   %time     %sum   name");
-    out.println("----------------------------------------------------");
+    out.println(" total(us)  self(us) " + getCountHeader()
+                + "   %time     %sum   name");
+    out.println("-----------------------------------------------------");
 
     double sumMicros = 0;
 
@@ -315,6 +352,11 @@ public class ProfileReport
     out.close();
   }
 
+  private String getCountHeader()
+  {
+    return _isSampled ? "samples" : "  count";
+  }
+
   @Override
   public String toString()
   {
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 1998-2010 Caucho Technology -- all rights reserved
+ *
+ * This file is part of Resin(R) Open Source
+ *
+ * Each copy or derived work must preserve the copyright notice and this
+ * notice unmodified.
+ *
+ * Resin Open Source is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Resin Open Source is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE, or any warranty
+ * of NON-INFRINGEMENT.  See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Resin Open Source; if not, write to the
+ *
+ *   Free Software Foundation, Inc.
+ *   59 Temple Place, Suite 330
+ *   Boston, MA 02111-1307  USA
+ *
+ */
+
+package com.caucho.quercus.profile;
+
+import com.caucho.quercus.env.Env;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Timer thread sampling the call stacks of the profiled requests, so
+ * the requests themselves do no profiling work.
+ */
+public class ProfileSampler implements Runnable
+{
+  private static final Logger log
+    = Logger.getLogger(ProfileSampler.class.getName());
+
+  private final ConcurrentHashMap<Env,Profiler> _envMap
+    = new ConcurrentHashMap<Env,Profiler>();
+
+  private final long _intervalMillis;
+
+  private volatile boolean _isClosed;
+
+  public ProfileSampler(long intervalMillis)
+  {
+    _intervalMillis = Math.max(1, intervalMillis);
+
+    Thread thread = new Thread(this, "quercus-profile-sampler");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /**
+   * Returns the sampling interval.
+   */
+  public long getIntervalMillis()
+  {
+    return _intervalMillis;
+  }
+
+  /**
+   * Starts sampling a request.
+   */
+  public void add(Env env, Profiler profiler)
+  {
+    _envMap.put(env, profiler);
+  }
+
+  /**
+   * Stops sampling a request.
+   */
+  public void remove(Env env)
+  {
+    _envMap.remove(env);
+  }
+
+  public void close()
+  {
+    _isClosed = true;
+  }
+
+  public void run()
+  {
+    long lastNanos = System.nanoTime();
+
+    while (! _isClosed) {
+      try {
+        Thread.sleep(_intervalMillis);
+      } catch (InterruptedException e) {
+        return;
+      }
+
+      long now = System.nanoTime();
+      long nanos = now - lastNanos;
+      lastNanos = now;
+
+      for (Map.Entry<Env,Profiler> entry : _envMap.entrySet()) {
+        try {
+          entry.getKey().sampleProfile(entry.getValue(), nanos);
+        } catch (Exception e) {
+          // the stack may change under the sample
+          log.log(Level.FINEST, e.toString(), e);
+        }
+      }
+    }
+  }
+}
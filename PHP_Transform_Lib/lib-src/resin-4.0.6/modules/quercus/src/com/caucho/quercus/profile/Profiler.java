@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 1998-2010 Caucho Technology -- all rights reserved
+ *
+ * This file is part of Resin(R) Open Source
+ *
+ * Each copy or derived work must preserve the copyright notice and this
+ * notice unmodified.
+ *
+ * Resin Open Source is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Resin Open Source is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE, or any warranty
+ * of NON-INFRINGEMENT.  See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Resin Open Source; if not, write to the
+ *
+ *   Free Software Foundation, Inc.
+ *   59 Temple Place, Suite 330
+ *   Boston, MA 02111-1307  USA
+ *
+ */
+
+package com.caucho.quercus.profile;
+
+import com.caucho.quercus.env.Value;
+import com.caucho.quercus.expr.Expr;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Collects the profile of a single request as caller/callee edges, either
+ * by timing each call (enter/exit from Env.pushCall/popCall) or from
+ * samples of the Env's call stack taken by a ProfileSampler.
+ */
+public class Profiler
+{
+  public static final String TOP = "__top__";
+
+  // callee name -> caller name -> { count, nanos }
+  private final HashMap<String,HashMap<String,long[]>> _edgeMap
+    = new HashMap<String,HashMap<String,long[]>>();
+
+  // name -> { active calls, total nanos, samples }, where the total only
+  // counts the outermost call of a recursion
+  private final HashMap<String,long[]> _totalMap
+    = new HashMap<String,long[]>();
+
+  private final IdentityHashMap<Expr,String> _nameMap
+    = new IdentityHashMap<Expr,String>();
+
+  private final long _startNanos = System.nanoTime();
+
+  private final boolean _isSampled;
+  private long _sampleCount;
+
+  // instrumenting call stack
+  private String []_nameStack = new String[64];
+  private long [][]_totalStack = new long[64][];
+  private long []_timeStack = new long[64];
+  private int _top;
+
+  // sampling scratch stack
+  private String []_sampleStack = new String[64];
+
+  /**
+   * @param isSampled true when the profile is built from a ProfileSampler's
+   * samples instead of timing each call
+   */
+  public Profiler(boolean isSampled)
+  {
+    _isSampled = isSampled;
+  }
+
+  /**
+   * Starts timing a call.
+   */
+  public void enter(Expr call, Value obj)
+  {
+    if (_nameStack.length <= _top) {
+      String []nameStack = new String[2 * _nameStack.length];
+      System.arraycopy(_nameStack, 0, nameStack, 0, _top);
+      _nameStack = nameStack;
+
+      long [][]totalStack = new long[2 * _totalStack.length][];
+      System.arraycopy(_totalStack, 0, totalStack, 0, _top);
+      _totalStack = totalStack;
+
+      long []timeStack = new long[2 * _timeStack.length];
+      System.arraycopy(_timeStack, 0, timeStack, 0, _top);
+      _timeStack = timeStack;
+    }
+
+    String name = getName(call, obj);
+    long []total = getTotal(name);
+
+    total[0]++;
+
+    _nameStack[_top] = name;
+    _totalStack[_top] = total;
+    _timeStack[_top] = System.nanoTime();
+    _top++;
+  }
+
+  /**
+   * Finishes timing the innermost call.
+   */
+  public void exit()
+  {
+    if (_top <= 0)
+      return;
+
+    long nanos = System.nanoTime() - _timeStack[--_top];
+
+    String name = _nameStack[_top];
+    String parent = _top > 0 ? _nameStack[_top - 1] : TOP;
+
+    long []total = _totalStack[_top];
+
+    if (--total[0] == 0)
+      total[1] += nanos;
+
+    _nameStack[_top] = null;
+    _totalStack[_top] = null;
+
+    addEdge(name, parent, 1, nanos);
+  }
+
+  /**
+   * Adds a sample of a call stack, charging the sample's nanos to every
+   * caller/callee edge on the stack.
+   */
+  public synchronized void addSample(Expr []callStack,
+                                     Value []thisStack,
+                                     int top,
+                                     long nanos)
+  {
+    _sampleCount++;
+
+    if (callStack == null)
+      return;
+
+    top = Math.min(top, Math.min(callStack.length, thisStack.length));
+
+    if (_sampleStack.length < top)
+      _sampleStack = new String[2 * top];
+
+    int depth = 0;
+
+    for (int i = 0; i < top; i++) {
+      Expr call = callStack[i];
+
+      if (call != null)
+        _sampleStack[depth++] = getName(call, thisStack[i]);
+    }
+
+    String parent = TOP;
+
+    for (int i = 0; i < depth; i++) {
+      String name = _sampleStack[i];
+
+      addEdge(name, parent, 1, nanos);
+
+      if (! isActive(name, i)) {
+        long []total = getTotal(name);
+
+        total[1] += nanos;
+        total[2]++;
+      }
+
+      parent = name;
+    }
+  }
+
+  private boolean isActive(String name, int depth)
+  {
+    for (int i = 0; i < depth; i++) {
+      if (name.equals(_sampleStack[i]))
+        return true;
+    }
+
+    return false;
+  }
+
+  /**
+   * Builds the report of the request.
+   */
+  public synchronized ProfileReport createReport(String url, long timestamp)
+  {
+    ProfileReport report
+      = new ProfileReport(ProfileStore.generateId(), url, timestamp);
+
+    long totalNanos = System.nanoTime() - _startNanos;
+
+    report.addItem(TOP, null, _isSampled ? _sampleCount : 1,
+                   totalNanos / 1000);
+
+    for (Map.Entry<String,HashMap<String,long[]>> entry
+           : _edgeMap.entrySet()) {
+      String name = entry.getKey();
+
+      for (Map.Entry<String,long[]> parentEntry
+             : entry.getValue().entrySet()) {
+        long []data = parentEntry.getValue();
+
+        report.addItem(name, parentEntry.getKey(), data[0], data[1] / 1000);
+      }
+
+      long []total = _totalMap.get(name);
+
+      if (total == null)
+        continue;
+
+      report.setTotalMicros(name, total[1] / 1000);
+
+      // a recursive method is counted once per sample
+      if (_isSampled)
+        report.setCount(name, total[2]);
+    }
+
+    report.setSampled(_isSampled);
+
+    return report;
+  }
+
+  private long []getTotal(String name)
+  {
+    long []total = _totalMap.get(name);
+
+    if (total == null) {
+      total = new long[3];
+      _totalMap.put(name, total);
+    }
+
+    return total;
+  }
+
+  private void addEdge(String name, String parent, long count, long nanos)
+  {
+    HashMap<String,long[]> parentMap = _edgeMap.get(name);
+
+    if (parentMap == null) {
+      parentMap = new HashMap<String,long[]>();
+      _edgeMap.put(name, parentMap);
+    }
+
+    long []data = parentMap.get(parent);
+
+    if (data == null) {
+      data = new long[2];
+      parentMap.put(parent, data);
+    }
+
+    data[0] += count;
+    data[1] += nanos;
+  }
+
+  /**
+   * Returns the report name of a call, using the receiver's class for
+   * method calls.
+   */
+  private String getName(Expr call, Value obj)
+  {
+    String name = _nameMap.get(call);
+
+    if (name == null) {
+      name = call.toString();
+      _nameMap.put(call, name);
+    }
+
+    if (obj != null && obj.isObject()) {
+      int p = name.lastIndexOf("->");
+
+      if (p > 0)
+        return obj.getClassName() + name.substring(p);
+    }
+
+    return name;
+  }
+}
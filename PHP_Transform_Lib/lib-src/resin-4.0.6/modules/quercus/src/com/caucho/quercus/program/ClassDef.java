@@ -42,7 +42,7 @@ import java.util.Set;
 /**
  * Represents a Quercus class definition
  */
-abstract public class ClassDef {
+abstract public class ClassDef implements java.io.Serializable {
   private final static L10N L = new L10N(ClassDef.class);
 
   private final Location _location;
@@ -315,7 +315,7 @@ abstract public class ClassDef {
   }
 
 
-  public static class FieldEntry {
+  public static class FieldEntry implements java.io.Serializable {
     private final Expr _value;
     private final FieldVisibility _visibility;
     private final String _comment;
@@ -350,7 +350,7 @@ abstract public class ClassDef {
     }
   }
   
-  public static class StaticFieldEntry {
+  public static class StaticFieldEntry implements java.io.Serializable {
     private final Expr _value;
     private final String _comment;
 
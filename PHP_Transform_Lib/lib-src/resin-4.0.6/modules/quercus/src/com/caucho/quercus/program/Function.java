@@ -33,6 +33,7 @@ import com.caucho.quercus.Location;
 import com.caucho.quercus.env.Env;
 import com.caucho.quercus.env.EnvVar;
 import com.caucho.quercus.env.EnvVarImpl;
+import com.caucho.quercus.env.LocalVarFrame;
 import com.caucho.quercus.env.NullThisValue;
 import com.caucho.quercus.env.NullValue;
 import com.caucho.quercus.env.StringValue;
@@ -44,12 +45,14 @@ import com.caucho.quercus.expr.Expr;
 import com.caucho.quercus.expr.ExprFactory;
 import com.caucho.quercus.expr.ParamRequiredExpr;
 import com.caucho.quercus.function.AbstractFunction;
+import com.caucho.quercus.page.PageManager;
 import com.caucho.quercus.statement.*;
 import com.caucho.util.L10N;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Logger;
 
 /**
@@ -66,6 +69,15 @@ public class Function extends AbstractFunction {
   protected final Arg []_args;
   protected final Statement _statement;
 
+  // calls before a hot function is handed to the compiler
+  // the compiled body, replacing _statement once set
+  private volatile Statement _compiledStatement;
+  private int _callCount;
+  private final AtomicBoolean _isCompileRequested = new AtomicBoolean();
+
+  // frame slot of each argument, see FunctionInfo.isSlotFrame()
+  private final int []_argSlots;
+
   protected boolean _hasReturn;
   
   protected String _comment;
@@ -85,6 +97,7 @@ public class Function extends AbstractFunction {
     _info.setFunction(this);
     _isReturnsReference = info.isReturnsReference();
     _args = args;
+    _argSlots = createArgSlots(info, args);
     _statement = new BlockStatement(location, statements);
 
     setGlobal(info.isPageStatic());
@@ -111,6 +124,8 @@ public class Function extends AbstractFunction {
     
     System.arraycopy(args, 0, _args, 0, args.length);
 
+    _argSlots = createArgSlots(info, args);
+
     _statement = exprFactory.createBlock(location, statements);
 
     setGlobal(info.isPageStatic());
@@ -126,6 +141,30 @@ public class Function extends AbstractFunction {
   {
     return _name;
   }
+
+  /**
+   * Returns the interpreted body.
+   */
+  public Statement getStatement()
+  {
+    return _statement;
+  }
+
+  /**
+   * Returns the compiled body, or null if the function is interpreted.
+   */
+  public Statement getCompiledStatement()
+  {
+    return _compiledStatement;
+  }
+
+  /**
+   * Replaces the interpreted body with a compiled one.
+   */
+  public void setCompiledStatement(Statement statement)
+  {
+    _compiledStatement = statement;
+  }
   
   /*
    * Returns the declaring class
@@ -263,7 +302,7 @@ public class Function extends AbstractFunction {
 
   private Value callImpl(Env env, Expr []args, boolean isRef)
   {
-    HashMap<StringValue,EnvVar> map = new HashMap<StringValue,EnvVar>();
+    Map<StringValue,EnvVar> map = createEnv(16);
 
     Value []values = new Value[args.length];
 
@@ -280,7 +319,7 @@ public class Function extends AbstractFunction {
       else if (arg.isReference()) {
         values[i] = args[i].evalVar(env);
 
-        map.put(arg.getName(), new EnvVarImpl(values[i].toLocalVarDeclAsRef()));
+        putArg(map, i, new EnvVarImpl(values[i].toLocalVarDeclAsRef()));
       }
       else {
         // php/0d04
@@ -288,7 +327,7 @@ public class Function extends AbstractFunction {
 
         Var var = values[i].toVar();
 
-        map.put(arg.getName(), new EnvVarImpl(var));
+        putArg(map, i, new EnvVarImpl(var));
 
         values[i] = var.toValue();
       }
@@ -302,11 +341,9 @@ public class Function extends AbstractFunction {
       if (defaultExpr == null)
         return env.error("expected default expression");
       else if (arg.isReference())
-        map.put(arg.getName(),
-                new EnvVarImpl(defaultExpr.evalVar(env).toVar()));
+        putArg(map, i, new EnvVarImpl(defaultExpr.evalVar(env).toVar()));
       else {
-        map.put(arg.getName(),
-                new EnvVarImpl(defaultExpr.eval(env).copy().toVar()));
+        putArg(map, i, new EnvVarImpl(defaultExpr.eval(env).copy().toVar()));
       }
     }
 
@@ -322,7 +359,7 @@ public class Function extends AbstractFunction {
       oldThis = env.getThis();
 
     try {
-      Value value = _statement.execute(env);
+      Value value = getBody(env).execute(env);
 
       if (value != null)
         return value;
@@ -364,7 +401,7 @@ public class Function extends AbstractFunction {
   public Value callImpl(Env env, Value []args, boolean isRef,
                         Arg []useParams, Value []useArgs)
   {
-    HashMap<StringValue,EnvVar> map = new HashMap<StringValue,EnvVar>(8);
+    Map<StringValue,EnvVar> map = createEnv(8);
 
     if (useParams != null) {
       for (int i = 0; i < useParams.length; i++) {
@@ -382,7 +419,7 @@ public class Function extends AbstractFunction {
       if (arg == null) {
       }
       else if (arg.isReference()) {
-        map.put(arg.getName(), new EnvVarImpl(args[i].toLocalVarDeclAsRef()));
+        putArg(map, i, new EnvVarImpl(args[i].toLocalVarDeclAsRef()));
       }
       else {
         // XXX: php/1708, toVar() may be doing another copy()
@@ -397,7 +434,7 @@ public class Function extends AbstractFunction {
         }
 	  
         // quercus/0d04
-        map.put(arg.getName(), new EnvVarImpl(var));
+        putArg(map, i, new EnvVarImpl(var));
       }
     }
 
@@ -409,9 +446,9 @@ public class Function extends AbstractFunction {
       if (defaultExpr == null)
         return env.error("expected default expression");
       else if (arg.isReference())
-        map.put(arg.getName(), new EnvVarImpl(defaultExpr.evalVar(env).toVar()));
+        putArg(map, i, new EnvVarImpl(defaultExpr.evalVar(env).toVar()));
       else {
-        map.put(arg.getName(), new EnvVarImpl(defaultExpr.eval(env).toLocalVar()));
+        putArg(map, i, new EnvVarImpl(defaultExpr.eval(env).toLocalVar()));
       }
     }
 
@@ -428,7 +465,7 @@ public class Function extends AbstractFunction {
     }
 
     try {
-      Value value = _statement.execute(env);
+      Value value = getBody(env).execute(env);
 
       if (value == null) {
         if (_isReturnsReference)
@@ -483,6 +520,65 @@ public class Function extends AbstractFunction {
   }
 
 
+  /**
+   * Returns the body to execute, asking the page manager to compile the
+   * function once it becomes hot.
+   */
+  private Statement getBody(Env env)
+  {
+    Statement statement = _compiledStatement;
+
+    if (statement != null)
+      return statement;
+
+    if (_isCompileRequested.get())
+      return _statement;
+
+    PageManager pageManager = env.getQuercus().getPageManager();
+
+    // the count may lose racing increments, the flag makes the request once
+    if (_callCount < pageManager.getFunctionCompileThreshold())
+      _callCount++;
+    else if (_isCompileRequested.compareAndSet(false, true))
+      pageManager.compileFunction(this);
+
+    return _statement;
+  }
+
+  /**
+   * Creates the local variables for a call: a slot-indexed frame unless
+   * the function looks up its locals by a runtime name.
+   */
+  private Map<StringValue,EnvVar> createEnv(int capacity)
+  {
+    if (_info.isSlotFrame())
+      return new LocalVarFrame(_info, _info.getSlotNames().length);
+    else
+      return new HashMap<StringValue,EnvVar>(capacity);
+  }
+
+  /**
+   * Binds the i-th argument in the call's locals.
+   */
+  private void putArg(Map<StringValue,EnvVar> map, int i, EnvVar var)
+  {
+    if (map instanceof LocalVarFrame)
+      ((LocalVarFrame) map).put(_argSlots[i], _args[i].getName(), var);
+    else
+      map.put(_args[i].getName(), var);
+  }
+
+  private static int []createArgSlots(FunctionInfo info, Arg []args)
+  {
+    int []slots = new int[args.length];
+
+    for (int i = 0; i < args.length; i++) {
+      slots[i] = info.getVarSlot(args[i].getName());
+    }
+
+    return slots;
+  }
+
   private boolean isVariableArgs()
   {
     return _info.isVariableArgs() || _args.length > 5;
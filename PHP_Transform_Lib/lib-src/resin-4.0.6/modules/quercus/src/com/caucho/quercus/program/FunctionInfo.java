@@ -41,7 +41,7 @@ import java.util.HashMap;
 /**
  * Information about a function.
  */
-public class FunctionInfo
+public class FunctionInfo implements java.io.Serializable
 {
   private final QuercusContext _quercus;
 
@@ -54,6 +54,8 @@ public class FunctionInfo
   private final ArrayList<String> _tempVarList
     = new ArrayList<String>();
 
+  private StringValue []_slotNames;
+
   private Function _fun;
 
   private boolean _hasThis; // if true, override default
@@ -383,12 +385,56 @@ public class FunctionInfo
 
     if (var == null) {
       var = createVarInfo(name);
+      var.setSlot(_varMap.size());
 
       _varMap.put(name, var);
     }
 
     return var;
   }
+
+  /**
+   * True if the locals can live in a slot-indexed frame, i.e. the
+   * function never looks up its own variables by a runtime name
+   * ($$var, extract, compact, get_defined_vars).
+   */
+  public boolean isSlotFrame()
+  {
+    return ! _isVariableVar && ! _isUsesSymbolTable && ! _isPageMain;
+  }
+
+  /**
+   * Returns the frame slot for the named variable, or -1.
+   */
+  public int getVarSlot(StringValue name)
+  {
+    VarInfo var = _varMap.get(name);
+
+    if (var != null)
+      return var.getSlot();
+    else
+      return -1;
+  }
+
+  /**
+   * Returns the variable names indexed by frame slot.
+   */
+  public StringValue []getSlotNames()
+  {
+    StringValue []names = _slotNames;
+
+    if (names == null || names.length != _varMap.size()) {
+      names = new StringValue[_varMap.size()];
+
+      for (VarInfo var : _varMap.values()) {
+        names[var.getSlot()] = var.getName();
+      }
+
+      _slotNames = names;
+    }
+
+    return names;
+  }
   
   protected VarInfo createVarInfo(StringValue name)
   {
@@ -447,6 +447,11 @@ public class InterpretedClassDef extends ClassDef
     return _staticFieldMap.entrySet();
   }
   
+  public Set<Map.Entry<String, Expr>> constantSet()
+  {
+    return _constMap.entrySet();
+  }
+  
   public Set<Map.Entry<String, AbstractFunction>> functionSet()
   {
     return _functionMap.entrySet();
@@ -47,6 +47,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
@@ -59,7 +60,7 @@ public class QuercusProgram {
 
   private QuercusContext _quercus;
 
-  private QuercusPage _compiledPage;
+  private volatile QuercusPage _compiledPage;
   private QuercusPage _profilePage;
 
   private Path _sourceFile;
@@ -67,6 +68,9 @@ public class QuercusProgram {
   private final AtomicBoolean _isCompiling
     = new AtomicBoolean();
 
+  private final AtomicInteger _executeCount
+    = new AtomicInteger();
+
   private boolean _isCompilable = true;
 
   private Exception _compileException;
@@ -224,6 +228,14 @@ public class QuercusProgram {
     return _isCompiling.get();
   }
 
+  /**
+   * Counts a request for the page, returning the new count.
+   */
+  public int incrementExecuteCount()
+  {
+    return _executeCount.incrementAndGet();
+  }
+
   /*
    * Set to false if page cannot be compiled.
    */
@@ -344,6 +356,14 @@ public class QuercusProgram {
     return _functionMap.values();
   }
 
+  /**
+   * Returns the function map, for the parse cache.
+   */
+  public HashMap<String,Function> getFunctionMap()
+  {
+    return _functionMap;
+  }
+
   /**
    * Returns the functions.
    */
@@ -360,6 +380,14 @@ public class QuercusProgram {
     return _classMap.values();
   }
 
+  /**
+   * Returns the class map, for the parse cache.
+   */
+  public HashMap<String,InterpretedClassDef> getClassMap()
+  {
+    return _classMap;
+  }
+
   /**
    * Returns the functions.
    */
@@ -71,13 +71,20 @@ public class QuercusServlet
   private boolean _isCompile;
   private boolean _isLazyCompile = true;
   private boolean _isCompileFailover = true;
+  private int _compileThreshold = -1;
+  private int _functionCompileThreshold = -1;
   private double _profileProbability;
+  private long _profileSampleInterval;
   private boolean _isRequireSource = true;
+  private boolean _isParseCache;
   private DataSource _database;
   private boolean _isStrict;
   private boolean _isLooseParse = true;
   private int _pageCacheSize = -1;
   private int _regexpCacheSize = -1;
+  private int _printfCacheSize = -1;
+  private int _unserializeCacheSize = -1;
+  private int _preparedStatementCacheSize = -1;
   private boolean _isConnectionPool = true;
   private String _iniPath;
   private String _scriptEncoding;
@@ -215,6 +222,7 @@ public class QuercusServlet
       _isCompile = false;
       _isLazyCompile = false;
     } else if ("lazy".equals(isCompile)) {
+      _isCompile = true;
       _isLazyCompile = true;
     } else
       throw new ConfigException(L.l(
@@ -238,6 +246,22 @@ public class QuercusServlet
         isCompileFailover));
   }
 
+  /**
+   * Sets the number of requests before a page is compiled lazily.
+   */
+  public void setCompileThreshold(int threshold)
+  {
+    _compileThreshold = threshold;
+  }
+
+  /**
+   * Sets the number of calls before a function is compiled.
+   */
+  public void setFunctionCompileThreshold(int threshold)
+  {
+    _functionCompileThreshold = threshold;
+  }
+
   /**
    * Sets the frequency of profiling, expressed as a probability.
    */
@@ -247,6 +271,15 @@ public class QuercusServlet
     _profileProbability = probability;
   }
 
+  /**
+   * Sets the profile sampling interval in milliseconds, 0 to time
+   * every call.
+   */
+  public void setProfileSampleInterval(long interval)
+  {
+    _profileSampleInterval = interval;
+  }
+
   /**
    * Set true if the source php is required
    */
@@ -255,6 +288,14 @@ public class QuercusServlet
     _isRequireSource = isRequireSource;
   }
 
+  /**
+   * Set true if parsed pages should be saved in the work directory.
+   */
+  public void setParseCache(boolean isParseCache)
+  {
+    _isParseCache = isParseCache;
+  }
+
   /**
    * Set the default data source.
    */
@@ -307,6 +348,33 @@ public class QuercusServlet
     _regexpCacheSize = size;
   }
 
+  /*
+   * Sets the max size of the printf format cache.
+   */
+  public void setPrintfCacheSize(int size)
+  {
+    _printfCacheSize = size;
+  }
+
+  /*
+   * Sets the max size of the unserialize cache.
+   */
+  public void setUnserializeCacheSize(int size)
+  {
+    _unserializeCacheSize = size;
+  }
+
+  /*
+   * Sets the max number of prepared statements cached per connection,
+   * where 0 disables the cache.  Statements are only reused within one
+   * request; across requests, configure the DataSource's own statement
+   * pooling, e.g. prepared-statement-cache-size on a Resin database.
+   */
+  public void setPreparedStatementCacheSize(int size)
+  {
+    _preparedStatementCacheSize = size;
+  }
+
   /*
    * Turns connection pooling on or off.
    */
@@ -470,6 +538,12 @@ public class QuercusServlet
     if ("compile".equals(paramName)) {
       setCompile(paramValue);
     }
+    else if ("compile-threshold".equals(paramName)) {
+      setCompileThreshold(Integer.parseInt(paramValue));
+    }
+    else if ("function-compile-threshold".equals(paramName)) {
+      setFunctionCompileThreshold(Integer.parseInt(paramValue));
+    }
     else if ("database".equals(paramName)) {
       try {
         Context ic = new InitialContext();
@@ -521,12 +595,24 @@ public class QuercusServlet
     else if ("regexp-cache-size".equals(paramName)) {
       setRegexpCacheSize(Integer.parseInt(paramValue));
     }
+    else if ("printf-cache-size".equals(paramName)) {
+      setPrintfCacheSize(Integer.parseInt(paramValue));
+    }
+    else if ("unserialize-cache-size".equals(paramName)) {
+      setUnserializeCacheSize(Integer.parseInt(paramValue));
+    }
+    else if ("prepared-statement-cache-size".equals(paramName)) {
+      setPreparedStatementCacheSize(Integer.parseInt(paramValue));
+    }
     else if ("connection-pool".equals(paramName)) {
       setConnectionPool("true".equals(paramValue));
     }
     else if ("require-source".equals(paramName)) {
       setRequireSource("true".equals(paramValue));
     }
+    else if ("parse-cache".equals(paramName)) {
+      setParseCache("true".equals(paramValue));
+    }
     else if ("license-directory".equals(paramName)) {
       setLicenseDirectory(paramValue);
     }
@@ -551,13 +637,25 @@ public class QuercusServlet
     quercus.setCompile(_isCompile);
     quercus.setLazyCompile(_isLazyCompile);
     quercus.setCompileFailover(_isCompileFailover);
+
+    if (_compileThreshold >= 0)
+      quercus.setCompileThreshold(_compileThreshold);
+
+    if (_functionCompileThreshold >= 0)
+      quercus.setFunctionCompileThreshold(_functionCompileThreshold);
+
     quercus.setProfileProbability(_profileProbability);
+    quercus.setProfileSampleInterval(_profileSampleInterval);
     quercus.setRequireSource(_isRequireSource);
+    quercus.setParseCache(_isParseCache);
     quercus.setDatabase(_database);
     quercus.setStrict(_isStrict);
     quercus.setLooseParse(_isLooseParse);
     quercus.setPageCacheSize(_pageCacheSize);
     quercus.setRegexpCacheSize(_regexpCacheSize);
+    quercus.setPrintfCacheSize(_printfCacheSize);
+    quercus.setUnserializeCacheSize(_unserializeCacheSize);
+    quercus.setPreparedStatementCacheSize(_preparedStatementCacheSize);
     quercus.setConnectionPool(_isConnectionPool);
 
     if (_iniPath != null) {
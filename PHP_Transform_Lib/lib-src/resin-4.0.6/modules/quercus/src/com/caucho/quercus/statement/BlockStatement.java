@@ -32,6 +32,7 @@ package com.caucho.quercus.statement;
 import com.caucho.quercus.Location;
 import com.caucho.quercus.env.Env;
 import com.caucho.quercus.env.Value;
+import com.caucho.quercus.gen.PhpWriter;
 
 import java.util.ArrayList;
 
@@ -111,5 +112,17 @@ public class BlockStatement extends Statement {
 
     return null;
   }
+
+  //
+  // Java code generation
+  //
+
+  @Override
+  public void generate(PhpWriter out)
+  {
+    for (Statement statement : _statements) {
+      statement.generate(out);
+    }
+  }
 }
 
@@ -37,6 +37,7 @@ import com.caucho.quercus.env.ContinueValue;
 import com.caucho.quercus.env.Env;
 import com.caucho.quercus.env.Value;
 import com.caucho.quercus.expr.Expr;
+import com.caucho.quercus.gen.PhpWriter;
 
 /**
  * Represents a break expression statement in a PHP program.
@@ -57,6 +58,14 @@ public class BreakStatement extends Statement {
     _loopLabelList = loopLabelList;
   }
 
+  /**
+   * Returns the break level, or null.
+   */
+  public Expr getTarget()
+  {
+    return _target;
+  }
+
   /**
    * Executes the statement, returning the expression value.
    */
@@ -67,5 +76,18 @@ public class BreakStatement extends Statement {
     else
       return new BreakValue(_target.eval(env).toInt());
   }
+
+  //
+  // Java code generation
+  //
+
+  @Override
+  public void generate(PhpWriter out)
+  {
+    if (_target == null && out.getLoopDepth() > 0)
+      out.println("if (true) break " + out.getLoopLabel(1) + ";");
+    else
+      super.generate(out);
+  }
 }
 
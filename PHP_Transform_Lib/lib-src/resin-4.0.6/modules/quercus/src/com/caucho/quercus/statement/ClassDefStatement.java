@@ -51,6 +51,14 @@ public class ClassDefStatement extends Statement {
     _cl = cl;
   }
 
+  /**
+   * Returns the defined class.
+   */
+  public InterpretedClassDef getClassDef()
+  {
+    return _cl;
+  }
+
   @Override
   public Value execute(Env env)
   {
@@ -36,6 +36,7 @@ import com.caucho.quercus.env.ContinueValue;
 import com.caucho.quercus.env.Env;
 import com.caucho.quercus.env.Value;
 import com.caucho.quercus.expr.Expr;
+import com.caucho.quercus.gen.PhpWriter;
 
 /**
  * Represents a continue expression statement in a PHP program.
@@ -55,6 +56,14 @@ public class ContinueStatement extends Statement {
     _loopLabelList = loopLabelList;
   }
 
+  /**
+   * Returns the continue level, or null.
+   */
+  public Expr getTarget()
+  {
+    return _target;
+  }
+
   /**
    * Executes the statement, returning the expression value.
    */
@@ -65,5 +74,18 @@ public class ContinueStatement extends Statement {
     else
       return new ContinueValue(_target.eval(env).toInt());
   }
+
+  //
+  // Java code generation
+  //
+
+  @Override
+  public void generate(PhpWriter out)
+  {
+    if (_target == null && out.getLoopDepth() > 0)
+      out.println("if (true) continue " + out.getLoopLabel(1) + ";");
+    else
+      super.generate(out);
+  }
 }
 
@@ -33,6 +33,7 @@ import com.caucho.quercus.Location;
 import com.caucho.quercus.env.Env;
 import com.caucho.quercus.env.Value;
 import com.caucho.quercus.expr.Expr;
+import com.caucho.quercus.gen.PhpWriter;
 
 /**
  * Represents an echo statement in a PHP program.
@@ -51,6 +52,14 @@ public class EchoStatement extends Statement {
 
     _expr = expr;
   }
+
+  /**
+   * Returns the echoed expression.
+   */
+  public Expr getExpr()
+  {
+    return _expr;
+  }
   
   public Value execute(Env env)
   {
@@ -60,5 +69,16 @@ public class EchoStatement extends Statement {
 
     return null;
   }
+
+  //
+  // Java code generation
+  //
+
+  @Override
+  public void generate(PhpWriter out)
+  {
+    _expr.generate(out);
+    out.println(".print(env);");
+  }
 }
 
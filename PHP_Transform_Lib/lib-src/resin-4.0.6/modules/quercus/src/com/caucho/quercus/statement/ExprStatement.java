@@ -33,6 +33,7 @@ import com.caucho.quercus.Location;
 import com.caucho.quercus.env.Env;
 import com.caucho.quercus.env.Value;
 import com.caucho.quercus.expr.Expr;
+import com.caucho.quercus.gen.PhpWriter;
 
 /**
  * Represents an expression statement in a PHP program.
@@ -70,5 +71,22 @@ public class ExprStatement extends Statement {
 
     return null;
   }
+
+  //
+  // Java code generation
+  //
+
+  @Override
+  public void generate(PhpWriter out)
+  {
+    String oldLocation = out.createTempVar();
+
+    out.println("Location " + oldLocation + " = env.setLocation("
+                + out.addLocation(getLocation()) + ");");
+    out.print("discard(");
+    _expr.generateTop(out);
+    out.println(");");
+    out.println("env.setLocation(" + oldLocation + ");");
+  }
 }
 
@@ -35,6 +35,7 @@ import com.caucho.quercus.env.ContinueValue;
 import com.caucho.quercus.env.Env;
 import com.caucho.quercus.env.Value;
 import com.caucho.quercus.expr.Expr;
+import com.caucho.quercus.gen.PhpWriter;
 
 /**
  * Represents a for statement.
@@ -61,6 +62,38 @@ public class ForStatement extends Statement {
     block.setParent(this);
   }
 
+  /**
+   * Returns the init expression, or null.
+   */
+  public Expr getInit()
+  {
+    return _init;
+  }
+
+  /**
+   * Returns the test, or null.
+   */
+  public Expr getTest()
+  {
+    return _test;
+  }
+
+  /**
+   * Returns the increment expression, or null.
+   */
+  public Expr getIncr()
+  {
+    return _incr;
+  }
+
+  /**
+   * Returns the loop body.
+   */
+  public Statement getBlock()
+  {
+    return _block;
+  }
+
   @Override
   public boolean isLoop()
   {
@@ -112,5 +145,52 @@ public class ForStatement extends Statement {
 
     return null;
   }
+
+  //
+  // Java code generation
+  //
+
+  @Override
+  public void generate(PhpWriter out)
+  {
+    if (_init != null) {
+      out.print("discard(");
+      _init.generate(out);
+      out.println(");");
+    }
+
+    String label = out.pushLoop();
+
+    out.println(label + ":");
+    out.print("for (;;");
+
+    if (_incr != null) {
+      out.print(" discard(");
+      _incr.generate(out);
+      out.print(")");
+    }
+
+    out.println(") {");
+    out.pushDepth();
+
+    if (_test != null) {
+      out.print("if (! ");
+      _test.generateBoolean(out);
+      out.println(")");
+      out.println("  break;");
+    }
+    else {
+      // keeps the code after the loop reachable for javac
+      out.println("if (false)");
+      out.println("  break;");
+    }
+
+    out.println("env.checkTimeout();");
+    _block.generate(out);
+    out.popDepth();
+    out.println("}");
+
+    out.popLoop();
+  }
 }
 
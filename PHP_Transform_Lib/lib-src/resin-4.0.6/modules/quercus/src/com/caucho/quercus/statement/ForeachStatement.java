@@ -79,6 +79,38 @@ public class ForeachStatement
     block.setParent(this);
   }
 
+  /**
+   * Returns the iterated expression.
+   */
+  public Expr getObjExpr()
+  {
+    return _objExpr;
+  }
+
+  /**
+   * Returns the key variable, or null.
+   */
+  public AbstractVarExpr getKey()
+  {
+    return _key;
+  }
+
+  /**
+   * Returns the value variable.
+   */
+  public AbstractVarExpr getValue()
+  {
+    return _value;
+  }
+
+  /**
+   * Returns the loop body.
+   */
+  public Statement getBlock()
+  {
+    return _block;
+  }
+
   @Override
   public boolean isLoop()
   {
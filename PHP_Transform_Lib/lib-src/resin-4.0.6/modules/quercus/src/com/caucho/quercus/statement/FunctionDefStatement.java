@@ -49,6 +49,14 @@ public class FunctionDefStatement extends Statement {
     
     _fun = fun;
   }
+
+  /**
+   * Returns the defined function.
+   */
+  public Function getFunction()
+  {
+    return _fun;
+  }
   
   public Value execute(Env env)
   {
@@ -49,6 +49,14 @@ public class GlobalStatement extends Statement {
     
     _var = var;
   }
+
+  /**
+   * Returns the imported variable.
+   */
+  public VarExpr getVar()
+  {
+    return _var;
+  }
   
   public Value execute(Env env)
   {
@@ -33,6 +33,7 @@ import com.caucho.quercus.Location;
 import com.caucho.quercus.env.Env;
 import com.caucho.quercus.env.Value;
 import com.caucho.quercus.expr.Expr;
+import com.caucho.quercus.gen.PhpWriter;
 
 /**
  * Represents an if statement.
@@ -57,17 +58,17 @@ public class IfStatement extends Statement {
       _falseBlock.setParent(this);
   }
 
-  protected Expr getTest()
+  public Expr getTest()
   {
     return _test;
   }
 
-  protected Statement getTrueBlock()
+  public Statement getTrueBlock()
   {
     return _trueBlock;
   }
 
-  protected Statement getFalseBlock()
+  public Statement getFalseBlock()
   {
     return _falseBlock;
   }
@@ -86,5 +87,29 @@ public class IfStatement extends Statement {
     else
       return null;
   }
+
+  //
+  // Java code generation
+  //
+
+  @Override
+  public void generate(PhpWriter out)
+  {
+    out.print("if (");
+    _test.generateBoolean(out);
+    out.println(") {");
+    out.pushDepth();
+    _trueBlock.generate(out);
+    out.popDepth();
+    out.println("}");
+
+    if (_falseBlock != null) {
+      out.println("else {");
+      out.pushDepth();
+      _falseBlock.generate(out);
+      out.popDepth();
+      out.println("}");
+    }
+  }
 }
 
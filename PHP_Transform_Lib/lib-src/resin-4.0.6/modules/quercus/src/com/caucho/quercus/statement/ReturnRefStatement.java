@@ -52,6 +52,14 @@ public class ReturnRefStatement extends Statement {
     _expr = expr;
   }
 
+  /**
+   * Returns the returned expression, or null.
+   */
+  public Expr getExpr()
+  {
+    return _expr;
+  }
+
   /**
    * Executes the statement, returning the expression value.
    */
@@ -34,6 +34,7 @@ import com.caucho.quercus.env.Env;
 import com.caucho.quercus.env.NullValue;
 import com.caucho.quercus.env.Value;
 import com.caucho.quercus.expr.Expr;
+import com.caucho.quercus.gen.PhpWriter;
 
 /**
  * Represents a return expression statement in a PHP program.
@@ -59,6 +60,14 @@ public class ReturnStatement extends Statement {
     _expr = expr;
   }
 
+  /**
+   * Returns the returned expression, or null.
+   */
+  public Expr getExpr()
+  {
+    return _expr;
+  }
+
   /**
    * Executes the statement, returning the expression value.
    */
@@ -79,5 +88,22 @@ public class ReturnStatement extends Statement {
   {
     return RETURN;
   }
+
+  //
+  // Java code generation
+  //
+
+  @Override
+  public void generate(PhpWriter out)
+  {
+    // "if (true)" keeps any following PHP statements reachable for javac
+    if (_expr != null) {
+      out.print("if (true) return ");
+      _expr.generateValue(out);
+      out.println(";");
+    }
+    else
+      out.println("if (true) return NullValue.NULL;");
+  }
 }
 
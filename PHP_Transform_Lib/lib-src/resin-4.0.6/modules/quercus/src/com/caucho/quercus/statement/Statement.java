@@ -33,6 +33,7 @@ import com.caucho.quercus.Location;
 import com.caucho.quercus.QuercusExecutionException;
 import com.caucho.quercus.env.Env;
 import com.caucho.quercus.env.Value;
+import com.caucho.quercus.gen.PhpWriter;
 
 import java.util.IdentityHashMap;
 import java.util.logging.Level;
@@ -41,7 +42,7 @@ import java.util.logging.Logger;
 /**
  * Represents a PHP statement
  */
-abstract public class Statement {
+abstract public class Statement implements java.io.Serializable {
   private static final Logger log = Logger.getLogger(Statement.class.getName());
 
   public static final int FALL_THROUGH = 0;
@@ -234,5 +235,26 @@ abstract public class Statement {
   {
     return getClass().getSimpleName() + "[]";
   }
+
+  //
+  // Java code generation
+  //
+
+  /**
+   * Generates Java code executing the statement.  The default calls the
+   * interpreted node and passes on its break, continue or return value.
+   */
+  public void generate(PhpWriter out)
+  {
+    String value = out.createTempVar();
+
+    out.println("Value " + value + " = "
+                + out.addStatement(this) + ".execute(env);");
+    out.println("if (" + value + " != null) {");
+    out.pushDepth();
+    out.printResult(value);
+    out.popDepth();
+    out.println("}");
+  }
 }
 
@@ -32,7 +32,7 @@ package com.caucho.quercus.statement;
 /**
  * A handle to a statement
  */
-public class StatementHandle {
+public class StatementHandle implements java.io.Serializable {
   public static final StatementHandle NULL
     = new StatementHandle(NullStatement.NULL);
 
@@ -56,6 +56,22 @@ public class StaticStatement extends Statement {
     _var = var;
     _initValue = initValue;
   }
+
+  /**
+   * Returns the static variable.
+   */
+  public VarExpr getVar()
+  {
+    return _var;
+  }
+
+  /**
+   * Returns the initial value, or null.
+   */
+  public Expr getInitValue()
+  {
+    return _initValue;
+  }
   
   public Value execute(Env env)
   {
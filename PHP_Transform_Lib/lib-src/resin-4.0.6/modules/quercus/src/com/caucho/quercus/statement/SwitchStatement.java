@@ -79,6 +79,38 @@ public class SwitchStatement extends Statement {
     _label = label;
   }
 
+  /**
+   * Returns the switch value.
+   */
+  public Expr getValue()
+  {
+    return _value;
+  }
+
+  /**
+   * Returns the case values of each block.
+   */
+  public Expr[][] getCases()
+  {
+    return _cases;
+  }
+
+  /**
+   * Returns the case blocks.
+   */
+  public BlockStatement[] getBlocks()
+  {
+    return _blocks;
+  }
+
+  /**
+   * Returns the default block, or null.
+   */
+  public Statement getDefaultBlock()
+  {
+    return _defaultBlock;
+  }
+
   /**
    * Executes the 'switch' statement, returning any value.
    */
@@ -52,7 +52,7 @@ public class TextStatement extends Statement {
     _value = value;
   }
 
-  protected String getValue()
+  public String getValue()
   {
     return _value;
   }
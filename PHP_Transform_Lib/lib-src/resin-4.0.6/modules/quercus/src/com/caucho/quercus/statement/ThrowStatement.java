@@ -51,6 +51,14 @@ public class ThrowStatement extends Statement {
     _expr = expr;
   }
 
+  /**
+   * Returns the thrown expression.
+   */
+  public Expr getExpr()
+  {
+    return _expr;
+  }
+
   /**
    * Executes the statement, returning the expression value.
    */
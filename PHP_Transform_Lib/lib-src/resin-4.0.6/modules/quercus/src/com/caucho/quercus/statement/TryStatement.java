@@ -58,6 +58,22 @@ public class TryStatement extends Statement {
     block.setParent(this);
   }
 
+  /**
+   * Returns the try block.
+   */
+  public Statement getBlock()
+  {
+    return _block;
+  }
+
+  /**
+   * Returns the catch clauses, in source order.
+   */
+  public ArrayList<Catch> getCatchList()
+  {
+    return _catchList;
+  }
+
   public void addCatch(String id, AbstractVarExpr lhs, Statement block)
   {
     _catchList.add(new Catch(id, lhs, block));
@@ -135,7 +151,7 @@ public class TryStatement extends Statement {
     }
   }
 
-  public static class Catch {
+  public static class Catch implements java.io.Serializable {
     private final String _id;
     private final AbstractVarExpr _lhs;
     private final Statement _block;
@@ -35,6 +35,7 @@ import com.caucho.quercus.env.ContinueValue;
 import com.caucho.quercus.env.Env;
 import com.caucho.quercus.env.Value;
 import com.caucho.quercus.expr.Expr;
+import com.caucho.quercus.gen.PhpWriter;
 
 /**
  * Represents a while statement.
@@ -58,6 +59,22 @@ public class WhileStatement extends Statement {
     block.setParent(this);
   }
 
+  /**
+   * Returns the test.
+   */
+  public Expr getTest()
+  {
+    return _test;
+  }
+
+  /**
+   * Returns the loop body.
+   */
+  public Statement getBlock()
+  {
+    return _block;
+  }
+
   @Override
   public boolean isLoop()
   {
@@ -107,5 +124,31 @@ public class WhileStatement extends Statement {
 
     return null;
   }
+
+  //
+  // Java code generation
+  //
+
+  @Override
+  public void generate(PhpWriter out)
+  {
+    String location = out.addLocation(getLocation());
+    String label = out.pushLoop();
+
+    out.println(label + ":");
+    out.println("for (;;) {");
+    out.pushDepth();
+    out.println("env.setLocation(" + location + ");");
+    out.print("if (! ");
+    _test.generateBoolean(out);
+    out.println(")");
+    out.println("  break;");
+    out.println("env.checkTimeout();");
+    _block.generate(out);
+    out.popDepth();
+    out.println("}");
+
+    out.popLoop();
+  }
 }
 
@@ -315,6 +315,18 @@ public class PreparedStatementImpl extends StatementImpl
       throw new SQLException("missing result set");
   }
 
+  /**
+   * Returns the result set of the last execute().
+   */
+  @Override
+  public java.sql.ResultSet getResultSet()
+  {
+    if (_wasResultSet)
+      return _resultSet;
+    else
+      return null;
+  }
+
   public int executeUpdate()
     throws SQLException
   {
@@ -49,6 +49,7 @@ public class StatementImpl implements java.sql.Statement {
 
   protected ResultSetImpl _rs;
   private QueryContext _queryContext;
+  private int _fetchSize;
 
   StatementImpl(ConnectionImpl conn)
   {
@@ -259,7 +260,7 @@ public class StatementImpl implements java.sql.Statement {
 
   public int getFetchSize()
   {
-    return _queryContext.getLimit();
+    return _fetchSize;
   }
 
   public int getMaxFieldSize()
@@ -269,11 +270,12 @@ public class StatementImpl implements java.sql.Statement {
 
   public int getMaxRows()
   {
-    return 0;
+    return Math.max(_queryContext.getLimit(), 0);
   }
 
   public void setMaxRows(int max)
   {
+    _queryContext.setLimit(max);
   }
 
   public boolean getMoreResults()
@@ -313,9 +315,13 @@ public class StatementImpl implements java.sql.Statement {
   {
   }
 
+  /**
+   * The fetch size is only a hint, since a query builds all its rows
+   * before returning; setMaxRows() limits the rows.
+   */
   public void setFetchSize(int rows)
   {
-    _queryContext.setLimit(rows);
+    _fetchSize = rows;
   }
 
   public void setMaxFieldSize(int max)